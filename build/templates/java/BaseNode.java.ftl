@@ -0,0 +1,446 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2019 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky, Sun Microsystems, Inc.
+ *       nor the names of any contributors may be used to endorse 
+ *       or promote products derived from this software without specific prior written 
+ *       permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+/* Generated by: ${generated_by}. Do not edit. ${filename} */
+[#if explicitPackageName?has_content]
+package ${explicitPackageName};
+[#elseif grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+[#if grammar.options.freemarkerNodes]
+import freemarker.template.*;
+[/#if]
+
+import java.util.*;
+[#var lazyChildren = grammar.parserData.lazyProductions?has_content]
+  
+ @SuppressWarnings("rawtypes")  
+public class ${grammar.baseNodeClassName} implements Node {
+
+[#if !grammar.options.hugeFileSupport && !grammar.options.userDefinedLexer]
+       private FileLineMap fileLineMap;
+       
+       public FileLineMap getFileLineMap() {
+           return fileLineMap; 
+       }
+       
+       public void setInputSource(FileLineMap fileLineMap) {
+          this.fileLineMap = fileLineMap;
+       }
+[#else]
+       private String inputSource;
+       
+       public String getInputSource() {
+           return inputSource;
+       }
+       
+       public void setInputSource(String inputSource) {
+          this.inputSource = inputSource;
+       }
+       
+ [/#if]       
+
+    
+    static private Class listClass = ArrayList.class;
+
+	static public void setListClass(Class<? extends List> listClass) {
+        ${grammar.baseNodeClassName}.listClass = listClass;
+    }
+
+    @SuppressWarnings("unchecked")    
+    private List<Node> newList() {
+        try {
+           return (List<Node>) listClass.getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+           throw new RuntimeException(e);
+        }
+    }
+    
+    protected Node parent;
+    private List<Node> children = newList();
+[#if lazyChildren]
+
+    // Set if the children of this node are still to be built
+    private volatile ${grammar.parserClassName}.LazyChildren lazyChildren;
+
+    void setLazyChildren(${grammar.parserClassName}.LazyChildren lazyChildren) {
+        this.lazyChildren = lazyChildren;
+    }
+
+    /**
+     * @return whether the children of this node (built by one of the LAZY_PRODUCTIONS)
+     * have not been built yet. They are built as soon as anything asks for them.
+     */
+    public boolean hasLazyChildren() {
+        return lazyChildren != null;
+    }
+[/#if]
+
+    /**
+     * @return the children of this node, in a list that can be changed. Code injected
+     * into the node classes gets at the children through this, or the methods of Node.
+[#if lazyChildren]
+     * If the children are still to be built (see #hasLazyChildren()) they are built
+     * first. That puts new tokens in the FileLineMap, so it is done with the
+     * FileLineMap locked, and different threads can ask for the children of nodes
+     * in the same tree at once. (Anything else that reads the FileLineMap while
+     * that goes on has to lock it too.)
+     * @throws IllegalStateException if the production that builds the children
+     * does not parse the node's text again, for instance if the content has changed
+     * since. The children are then left unbuilt.
+[/#if]
+     */
+    protected List<Node> childList() {
+[#if lazyChildren]
+        ${grammar.parserClassName}.LazyChildren lazy = lazyChildren;
+        if (lazy != null) {
+            synchronized (getFileLineMap()) {
+                // Unless another thread has built them in the meantime
+                if (lazyChildren == lazy) {
+                    for (Node child : lazy.build(this)) {
+                        children.add(child);
+                        child.setParent(this);
+                    }
+                    lazyChildren = null;
+                }
+            }
+        }
+[/#if]
+        return children;
+    }
+    
+[#if grammar.options.offsetBasedPositions]
+    private int beginOffset = -1, endOffset = -1;
+[#else]
+    private int beginLine, beginColumn, endLine, endColumn;
+[/#if]
+    private Map<String,Object> attributes;
+    private boolean unparsed;
+    
+    public boolean isUnparsed() {
+       return this.unparsed;
+    }
+    
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed = unparsed;
+    } 
+
+[#if grammar.options.nodeUsesParser]    
+    protected ${grammar.parserClassName} parser;
+    public ${grammar.baseNodeClassName}(${grammar.parserClassName} parser) {
+        this.parser = parser;
+    }
+
+    public ${grammar.baseNodeClassName}() {
+    }
+
+[/#if]
+
+[#if grammar.options.faultTolerant]
+
+    private ParseException parseException;
+    
+    public ParseException getParseException() {return parseException;}
+    
+    public void setParseException(ParseException parseException) {this.parseException = parseException;}
+    
+
+[/#if]
+
+    
+[#if grammar.options.visitor]
+    [#var VISITOR_THROWS = ""]
+    [#if grammar.options.visitorException?has_content]
+       [#set VISITOR_THROWS = "throws " + grammar.options.visitorException + " "]
+    [/#if]
+    [#var VISITOR_CLASS = grammar.parserClassName + "Visitor"]
+    [#var VISITOR_DATA_TYPE = grammar.options.visitorDataType]
+    [#var VISITOR_RETURN_TYPE = grammar.options.visitorReturnType]
+    [#if !VISITOR_DATA_TYPE?has_content][#set VISITOR_DATA_TYPE="Object"][/#if]
+    [#if !VISITOR_RETURN_TYPE?has_content][#set VISITOR_RETURN_TYPE="Object"][/#if]
+    /** Accept the visitor. **/
+    public ${VISITOR_RETURN_TYPE} jjtAccept(${VISITOR_CLASS} visitor, ${VISITOR_DATA_TYPE} data) ${VISITOR_THROWS}{
+      [#if VISITOR_RETURN_TYPE != "void"]
+        return visitor.visit(this, data);
+      [/#if]
+    }
+           
+    /** Accept the visitor. **/
+    public Object childrenAccept(${VISITOR_CLASS} visitor, ${VISITOR_DATA_TYPE} data) ${VISITOR_THROWS}{
+       for (Node child : childList()) {
+           child.jjtAccept(visitor, data);
+       }
+       return data;
+    }
+[/#if]
+ 
+    public void open() {
+    }
+
+    public void close() {}
+
+    public void setParent(Node n) {
+        parent = n;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void addChild(Node n) {
+        childList().add(n);
+        n.setParent(this);
+    }
+    
+    public void addChild(int i, Node n) {
+        childList().add(i, n);
+        n.setParent(this);
+    }
+
+    public Node getChild(int i) {
+        return childList().get(i);
+    }
+
+    public void setChild(int i, Node n) {
+        childList().set(i, n);
+        n.setParent(this);
+    }
+    
+    public Node removeChild(int i) {
+        return childList().remove(i);
+    }
+    
+    public boolean  removeChild(Node n) {
+        return childList().remove(n);
+    }
+    
+    public void clearChildren() {
+[#if lazyChildren]
+        lazyChildren = null;
+[/#if]
+        children.clear();
+    }
+
+    public int getChildCount() {
+        return childList().size();
+    }
+    
+    public List<Node> children() {
+        return Collections.unmodifiableList(childList());
+    }
+    
+    public Object getAttribute(String name) {
+        return attributes == null ? null : attributes.get(name); 
+    }
+     
+    public void setAttribute(String name, Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<String, Object>();
+        }
+        attributes.put(name, value);
+    }
+     
+    public boolean hasAttribute(String name) {
+        return attributes == null ? false : attributes.containsKey(name);
+    }
+     
+    public Set<String> getAttributeNames() {
+        if (attributes == null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+    
+[#if grammar.options.offsetBasedPositions]
+    public int getBeginOffset() {
+        if (beginOffset < 0 && !childList().isEmpty()) {
+            beginOffset = childList().get(0).getBeginOffset();
+        }
+        return beginOffset;
+    }
+
+    public int getEndOffset() {
+        if (endOffset < 0 && !childList().isEmpty()) {
+            endOffset = childList().get(childList().size()-1).getEndOffset();
+        }
+        return endOffset;
+    }
+
+    public void setBeginOffset(int beginOffset) {
+        this.beginOffset = beginOffset;
+    }
+
+    public void setEndOffset(int endOffset) {
+        this.endOffset = endOffset;
+    }
+
+    public int getBeginLine() {
+        int offset = getBeginOffset();
+        return offset < 0 || fileLineMap == null ? 0 : fileLineMap.getLineFromOffset(offset);
+    }
+
+    public int getBeginColumn() {
+        int offset = getBeginOffset();
+        return offset < 0 || fileLineMap == null ? 0 : fileLineMap.getColumnFromOffset(offset);
+    }
+
+    public int getEndLine() {
+        int offset = Math.max(getBeginOffset(), getEndOffset() - 1);
+        return offset < 0 || fileLineMap == null ? 0 : fileLineMap.getLineFromOffset(offset);
+    }
+
+    public int getEndColumn() {
+        int offset = Math.max(getBeginOffset(), getEndOffset() - 1);
+        return offset < 0 || fileLineMap == null ? 0 : fileLineMap.getColumnFromOffset(offset);
+    }
+
+    // Setting a line moves the position to the start of that line,
+    // so the line has to be set before the column.
+
+    public void setBeginLine(int beginLine) {
+        this.beginOffset = fileLineMap.getOffset(beginLine, 1);
+    }
+
+    public void setEndLine(int endLine) {
+        this.endOffset = fileLineMap.getOffset(endLine, 1) + 1;
+    }
+
+    public void setBeginColumn(int beginColumn) {
+        this.beginOffset = fileLineMap.getOffset(getBeginLine(), beginColumn);
+    }
+
+    public void setEndColumn(int endColumn) {
+        this.endOffset = fileLineMap.getOffset(getEndLine(), endColumn) + 1;
+    }
+[#else]
+    public int getBeginLine() {
+        if (beginLine <= 0) {
+            if (!childList().isEmpty()) {
+                beginLine = childList().get(0).getBeginLine();
+                beginColumn = childList().get(0).getBeginColumn();
+            }
+        }
+        return beginLine;
+    }
+     
+    public int getEndLine() {
+        if (endLine <=0) {
+            if (!childList().isEmpty()) {
+                Node last = childList().get(childList().size()-1);
+                endLine = last.getEndLine();
+                endColumn = last.getEndColumn();
+            }
+        }
+        return endLine;
+    }
+    
+    public int getBeginColumn() {
+        if (beginColumn <= 0) {
+            if (!childList().isEmpty()) {
+                beginLine = childList().get(0).getBeginLine();
+                beginColumn = childList().get(0).getBeginColumn();
+            }
+        }
+        return beginColumn;
+    }
+    
+    public int getEndColumn() {
+        if (endColumn <=0) {
+            if (!childList().isEmpty()) {
+                Node last = childList().get(childList().size()-1);
+                endLine = last.getEndLine();
+                endColumn = last.getEndColumn();
+            }
+        }
+        return endColumn;
+    }
+     
+    public void setBeginLine(int beginLine) {
+        this.beginLine = beginLine;
+    }
+     
+    public void setEndLine(int endLine) {
+        this.endLine = endLine;
+    }
+     
+    public void setBeginColumn(int beginColumn) {
+        this.beginColumn = beginColumn;
+    }
+     
+    public void setEndColumn(int endColumn) {
+        this.endColumn = endColumn;
+    }
+[/#if]
+     
+[#if grammar.options.freemarkerNodes]    
+    public TemplateSequenceModel getChildNodes() {
+        SimpleSequence seq = new SimpleSequence();
+        for (Node child : childList()) {
+            seq.add(child);
+        }
+        return seq;
+    }
+    
+    public TemplateNodeModel getParentNode() {
+        return this.parent;
+    }
+    
+    public String getNodeName() {
+         return this.getClass().getSimpleName();
+    }
+    
+    public String getNodeType() {
+        return "";
+    }
+    
+    public String getNodeNamespace() {
+        return null;
+    }
+    
+    public String getAsString() throws TemplateModelException {
+        StringBuilder buf = new StringBuilder();
+        if (children != null) {
+	        for (Node child : childList()) {
+	            buf.append(child.getAsString());
+	            buf.append(" ");
+	        }
+	    }
+        return buf.toString();
+    }
+[/#if]    
+    
+    public String toString() {
+        StringBuilder buf=new StringBuilder();
+        for(Token t : Nodes.getRealTokens(this)) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+    
+}
@@ -0,0 +1,164 @@
+[#ftl strict_vars=true]
+[#--  This is included in the lexer if INCREMENTAL_LEXING is set.
+      It lexes the part of the content that an edit touches again, rather
+      than the whole content.
+--]
+[#var lexerData = grammar.lexerData]
+[#var numLexicalStates = lexerData.lexicalStates?size]
+
+    // Every so many tokens, the lexer notes where it is and which lexical state
+    // it is in, so that it can start from there again after an edit.
+    private static final int CHECKPOINT_INTERVAL = 64;
+    private int[] checkpointOffsets = new int[16], checkpointReadLimits = new int[16], checkpointTokenCounts = new int[16];
+    private LexicalState[] checkpointStates = new LexicalState[16];
+    private int checkpointCount, tokensSinceCheckpoint;
+
+    private void addCheckpoint() {
+        addCheckpoint(input_stream.getTokenEndOffset(), input_stream.getReadLimit(), input_stream.getTokenCount(), lexicalState);
+        tokensSinceCheckpoint = 0;
+    }
+
+    private void addCheckpoint(int offset, int readLimit, int tokenCount, LexicalState lexState) {
+        if (checkpointCount == checkpointOffsets.length) {
+            int newLength = checkpointCount * 2;
+            checkpointOffsets = Arrays.copyOf(checkpointOffsets, newLength);
+            checkpointReadLimits = Arrays.copyOf(checkpointReadLimits, newLength);
+            checkpointTokenCounts = Arrays.copyOf(checkpointTokenCounts, newLength);
+            checkpointStates = Arrays.copyOf(checkpointStates, newLength);
+        }
+        checkpointOffsets[checkpointCount] = offset;
+        checkpointReadLimits[checkpointCount] = readLimit;
+        checkpointTokenCounts[checkpointCount] = tokenCount;
+        checkpointStates[checkpointCount] = lexState;
+        ++checkpointCount;
+    }
+
+    /**
+     * Brings the tokens up to date after the content has been edited. The edit is
+     * found by comparing the new content with the old. Lexing starts again from the
+     * last checkpoint before the edit (rather than from the beginning) and stops at
+     * the first token after the edit that ends where an old token did, leaving the
+     * lexer in the same lexical state. From there on, the old tokens are what the
+     * lexer would come up with anyway, so they are kept, and moved to where they now
+     * are in the new content. The lexer then carries on from where it had got to,
+     * in the new content, and getFileLineMap() has all the tokens.
+     * This assumes that what the lexer does only depends on the text and the lexical
+     * state, which does not hold if code in the grammar switches lexical states or
+     * keeps track of anything else.
+     * @param newContent the complete content after the edit
+     * @return the tokens that were lexed again, including unparsed ones, in order
+     */
+    public List<Token> relex(CharSequence newContent) {
+        FileLineMap oldMap = input_stream;
+        int[] start = oldMap.getLineAndColumn(0);
+        FileLineMap newMap = new FileLineMap(oldMap.getInputSource(), newContent, start[0], start[1]);
+        FileLineMap.TextEdit edit = new FileLineMap.TextEdit(oldMap, newMap);
+        if (edit.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int oldPosition = oldMap.getTokenEndOffset(), oldReadLimit = oldMap.getReadLimit();
+        if (oldReadLimit <= edit.changeBegin) {
+            // The lexer has not got as far as the edit, so it just carries on in the new content.
+            moveTokens(edit, 0, oldMap.getTokenCount(), false);
+            input_stream = newMap;
+            newMap.goTo(oldPosition);
+            newMap.setReadLimit(oldReadLimit);
+            return Collections.emptyList();
+        }
+        LexicalState oldState = lexicalState;
+        Token oldPendingToken = pendingToken;
+        int oldTokensSinceCheckpoint = tokensSinceCheckpoint;
+        // The last checkpoint the lexer got to without looking at the edited text.
+        // The read limits only ever go up, so it can be found by binary search.
+        int low = 0, high = checkpointCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (checkpointReadLimits[mid] <= edit.changeBegin) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int keep = low;
+        int startOffset = keep == 0 ? 0 : checkpointOffsets[keep - 1];
+        int prefixCount = keep == 0 ? 0 : checkpointTokenCounts[keep - 1];
+        LexicalState startState = keep == 0 ? LexicalState.${lexerData.lexicalStates[0].name} : checkpointStates[keep - 1];
+        // The later checkpoints, which may come in useful again once the lexer is back in step
+        int[] oldOffsets = Arrays.copyOfRange(checkpointOffsets, keep, checkpointCount);
+        int[] oldReadLimits = Arrays.copyOfRange(checkpointReadLimits, keep, checkpointCount);
+        int[] oldTokenCounts = Arrays.copyOfRange(checkpointTokenCounts, keep, checkpointCount);
+        LexicalState[] oldStates = Arrays.copyOfRange(checkpointStates, keep, checkpointCount);
+        moveTokens(edit, 0, prefixCount, false);
+        input_stream = newMap;
+        resetState(oldMap.getInputSource(), startState);
+        checkpointCount = keep;
+        newMap.goTo(startOffset);
+        while (true) {
+            Token tok = getNextToken();
+            int index = newMap.getTokenCount() - 1;
+            int oldIndex = -1;
+            if (!tok.isUnparsed() && !(tok instanceof InvalidToken) && newMap.getToken(index) == tok
+                && newMap.getBeginOffset(index) >= edit.newChangeEnd) {
+                oldIndex = findOldToken(edit, tok, newMap.getBeginOffset(index), newMap.getEndOffset(index));
+            }
+            if (oldIndex >= 0) {
+                // Back in step, so the rest of the old tokens and checkpoints are moved over.
+                List<Token> result = new ArrayList<>();
+                for (int i = prefixCount; i <= index; i++) {
+                    result.add(newMap.getToken(i));
+                }
+                int oldEnd = oldMap.getEndOffset(oldIndex);
+                moveTokens(edit, oldIndex + 1, oldMap.getTokenCount(), true);
+                for (int i = 0; i < oldOffsets.length; i++) {
+                    if (oldOffsets[i] > oldEnd) {
+                        addCheckpoint(edit.shift(oldOffsets[i]), edit.shift(oldReadLimits[i]), oldTokenCounts[i] + index - oldIndex, oldStates[i]);
+                    }
+                }
+                newMap.goTo(edit.shift(oldPosition));
+                newMap.setReadLimit(edit.shift(oldReadLimit));
+                switchTo(oldState);
+                pendingToken = oldPendingToken == oldMap.getToken(oldIndex) ? tok : oldPendingToken;
+                tokensSinceCheckpoint = oldTokensSinceCheckpoint;
+                return result;
+            }
+            if (tok.getType() == TokenType.EOF) {
+                List<Token> result = new ArrayList<>();
+                for (int i = prefixCount; i < newMap.getTokenCount(); i++) {
+                    result.add(newMap.getToken(i));
+                }
+                return result;
+            }
+        }
+    }
+
+    // The index of the old token that, once moved to the new content, is just
+    // where the new token (which is after the edit) is and leaves the lexer in the
+    // same lexical state, or -1 if there is none
+    private static int findOldToken(FileLineMap.TextEdit edit, Token tok, int begin, int end) {
+        FileLineMap oldMap = edit.oldMap;
+        int delta = edit.newChangeEnd - edit.oldChangeEnd;
+        for (int i = oldMap.getTokenIndex(begin - delta); i < oldMap.getTokenCount() && oldMap.getBeginOffset(i) == begin - delta; i++) {
+            Token oldToken = oldMap.getToken(i);
+            if (!oldToken.isUnparsed() && oldToken.getType() == tok.getType() && oldMap.getEndOffset(i) + delta == end
+[#if numLexicalStates > 1]
+                && lexicalStateAfter(oldToken) == lexicalStateAfter(tok)
+[/#if]
+               ) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Moves the old tokens from index from to index to (exclusive) over to the new content.
+    // The ones before the edit stay where they were, even if they end just where it begins.
+    private static void moveTokens(FileLineMap.TextEdit edit, int from, int to, boolean afterEdit) {
+        for (int i = from; i < to; i++) {
+            Token t = edit.oldMap.getToken(i);
+            if (afterEdit) {
+                edit.shiftPositions(t);
+            }
+            t.setInputSource(edit.newMap);
+            edit.newMap.addToken(t);
+        }
+    }
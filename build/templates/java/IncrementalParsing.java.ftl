@@ -0,0 +1,207 @@
+[#ftl strict_vars=true]
+[#--  This is included in the parser if INCREMENTAL_PARSING is set.
+      It parses the part of a tree that an edit touches again, rather
+      than the whole file.
+--]
+[#var parserData = grammar.parserData, lexerData = grammar.lexerData]
+[#var NODE_PREFIX = grammar.options.nodePrefix]
+[#var offsetBased = grammar.options.offsetBasedPositions]
+
+    /**
+     * Brings a tree that this parser (or another one) built up to date after the text
+     * it was parsed from has been edited. The edit is found by comparing the new
+     * content with the old. Only the tokens from just before the innermost node that
+     * contains the whole edit are lexed again, and only that node's production is run
+     * again, as long as the result ends just where the old node did and is followed
+     * by the same token. The new node is spliced into the tree in place of the old one,
+     * and the rest of the tree (and its tokens) are moved to where they now are in the
+     * new content.
+     * If that does not work out for any of the nodes around the edit, the
+     * tree is left as it was, and the whole content has to be parsed again.
+     * @param root the root of the tree, as returned by rootNode()
+     * @param newContent the complete content after the edit
+     * @return the node that was parsed again, the root if the content has
+     * not changed, or null if the content has to be parsed from scratch
+     */
+    public Node reparse(Node root, CharSequence newContent) {
+        FileLineMap oldMap = root.getFileLineMap();
+        reset(oldMap.getInputSource(), newContent);
+        FileLineMap.TextEdit edit = new FileLineMap.TextEdit(oldMap, token_source.input_stream);
+        if (edit.isEmpty()) {
+            return root;
+        }
+        // The nodes that contain the edit, from the outermost (apart from the root) in
+        List<Node> candidates = new ArrayList<>();
+        Node node = root;
+        while (node != null) {
+            Node enclosing = null;
+            for (Node child : node.children()) {
+                if (!(child instanceof Token)
+                    && beginOffset(child, oldMap) < edit.changeBegin
+                    && edit.oldChangeEnd < endOffset(child, oldMap)) {
+                    enclosing = child;
+                    break;
+                }
+            }
+            if (enclosing != null && REPARSEABLE_NODE_CLASSES.contains(enclosing.getClass())) {
+                candidates.add(enclosing);
+            }
+            node = enclosing;
+        }
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            Node newNode = reparse(candidates.get(i), edit);
+            if (newNode != null) {
+                return newNode;
+            }
+        }
+        return null;
+    }
+
+    // Parses the node again on its own (see above) and splices the result
+    // into the tree, unless the new node does not fit where the old one was.
+    private Node reparse(Node node, FileLineMap.TextEdit edit) {
+        FileLineMap oldMap = edit.oldMap, newMap = edit.newMap;
+        int begin = beginOffset(node, oldMap), end = endOffset(node, oldMap);
+        // The regular tokens on either side of the node in the old content
+        int firstIndex = oldMap.getTokenIndex(begin);
+        int prevIndex = firstIndex - 1;
+        while (prevIndex >= 0 && oldMap.getToken(prevIndex).isUnparsed()) {
+            --prevIndex;
+        }
+        int suffixIndex = oldMap.getTokenIndex(end), lastIndex = suffixIndex - 1, nextIndex = suffixIndex;
+        while (lastIndex >= 0 && oldMap.getToken(lastIndex).isUnparsed()) {
+            --lastIndex;
+        }
+        while (nextIndex < oldMap.getTokenCount() && oldMap.getToken(nextIndex).isUnparsed()) {
+            ++nextIndex;
+        }
+        if (lastIndex < firstIndex || nextIndex >= oldMap.getTokenCount()) {
+            return null;
+        }
+        Token prevToken = prevIndex < 0 ? null : oldMap.getToken(prevIndex);
+        Token firstToken = oldMap.getToken(firstIndex), nextToken = oldMap.getToken(nextIndex);
+        int startOffset = prevToken == null ? 0 : endOffset(prevToken, oldMap);
+        resetState();
+        newMap.clearTokens();
+[#if lexerData.lexicalStates?size > 1]
+        token_source.goTo(startOffset, prevToken == null ? LexicalState.${lexerData.lexicalStates[0].name} : ${grammar.lexerClassName}.lexicalStateAfter(prevToken));
+[#else]
+        token_source.goTo(startOffset, LexicalState.${lexerData.lexicalStates[0].name});
+[/#if]
+        Token start = current_token;
+        Node newNode;
+        try {
+            reparseProduction(node);
+            newNode = popNode();
+        } catch (ParseException e) {
+            return null;
+        }
+        Token last = current_token, next = getToken(1);
+        int newFirstIndex = newMap.getTokenIndex(begin);
+        if (last == start || newFirstIndex >= newMap.getTokenCount()
+            || newNode.getClass() != node.getClass()
+            || beginOffset(newNode, newMap) != begin
+            || endOffset(newNode, newMap) != edit.shift(end)
+            || next.getType() != nextToken.getType()
+            || beginOffset(next, newMap) != edit.shift(beginOffset(nextToken, oldMap))
+            || endOffset(next, newMap) != edit.shift(endOffset(nextToken, oldMap))
+[#if lexerData.lexicalStates?size > 1]
+            || newMap.getToken(newFirstIndex).getLexicalState() != firstToken.getLexicalState()
+            || next.getLexicalState() != nextToken.getLexicalState()
+            || ${grammar.lexerClassName}.lexicalStateAfter(last) != ${grammar.lexerClassName}.lexicalStateAfter(oldMap.getToken(lastIndex))
+[/#if]
+[#if grammar.options.faultTolerant]
+            || hasParsingProblems()
+[/#if]
+            ) {
+            return null;
+        }
+        // It fits, so the new node and its tokens go into the tree and the token chain.
+        List<Token> newTokens = newMap.getTokensInRange(startOffset, edit.shift(end));
+        if (prevToken != null) {
+            prevToken.setNext(newMap.getToken(newFirstIndex));
+        }
+        for (Token t : newTokens) {
+            // Usually just the last token consumed, but code in
+            // the grammar can merge tokens.
+            if (t.getNext() == next) {
+                t.setNext(nextToken);
+            }
+        }
+        moveNodes(root(node), node, edit);
+        Node parent = node.getParent();
+        parent.setChild(parent.indexOf(node), newNode);
+        newMap.clearTokens();
+        for (int i = 0; i <= prevIndex; i++) {
+            Token t = oldMap.getToken(i);
+            t.setInputSource(newMap);
+            newMap.addToken(t);
+        }
+        for (Token t : newTokens) {
+            newMap.addToken(t);
+        }
+        for (int i = suffixIndex; i < oldMap.getTokenCount(); i++) {
+            Token t = oldMap.getToken(i);
+            edit.shiftPositions(t);
+            t.setInputSource(newMap);
+            newMap.addToken(t);
+        }
+        return newNode;
+    }
+
+    private static final Set<Class<? extends Node>> REPARSEABLE_NODE_CLASSES = new HashSet<>(Arrays.asList(
+[#list parserData.reparseableProductions as production]
+        ${NODE_PREFIX}${parserData.getNodeName(production)}.class[#if production_has_next],[/#if]
+[/#list]
+    ));
+
+    // Runs the production that builds this type of node
+    private void reparseProduction(Node node) throws ParseException {
+        Class<? extends Node> nodeClass = node.getClass();
+[#list parserData.reparseableProductions as production]
+        [#if production_index > 0]else [/#if]if (nodeClass == ${NODE_PREFIX}${parserData.getNodeName(production)}.class) {
+            ${production.name}();
+        }
+[/#list]
+    }
+
+    private static Node root(Node node) {
+        while (node.getParent() != null) {
+            node = node.getParent();
+        }
+        return node;
+    }
+
+    // Moves the positions of the nodes (but not the tokens) after the edit
+    // along, and points the whole tree at the new content, apart from the
+    // node that is about to be replaced.
+    private static void moveNodes(Node node, Node oldNode, FileLineMap.TextEdit edit) {
+        if (node == oldNode) {
+            return;
+        }
+        if (!(node instanceof Token)) {
+            edit.shiftPositions(node);
+        }
+        node.setInputSource(edit.newMap);
+        for (Node child : node.children()) {
+            moveNodes(child, oldNode, edit);
+        }
+    }
+
+    private static int beginOffset(Node node, FileLineMap map) {
+[#if offsetBased]
+        return node.getBeginOffset();
+[#else]
+        return map.getOffset(node.getBeginLine(), node.getBeginColumn());
+[/#if]
+    }
+
+    // The end offset is exclusive, as for the tokens in a FileLineMap
+    private static int endOffset(Node node, FileLineMap map) {
+[#if offsetBased]
+        return node.getEndOffset();
+[#else]
+        int begin = beginOffset(node, map);
+        return Math.max(begin, Math.min(map.getOffset(node.getEndLine(), node.getEndColumn()) + 1, map.getContent().length()));
+[/#if]
+    }
@@ -0,0 +1,108 @@
+[#ftl strict_vars=true]
+[#--  This is included in the parser if there are LAZY_PRODUCTIONS.
+      The nodes they build only get their children when something
+      asks for them.
+--]
+[#var parserData = grammar.parserData, lexerData = grammar.lexerData]
+[#var numLexicalStates = lexerData.lexicalStates?size]
+
+    // Set while LazyChildren runs a production, until its node is created
+    private boolean buildingLazyChildren;
+
+    /**
+     * What it takes to build the children of a node that one of the LAZY_PRODUCTIONS
+     * built without them. When something first asks for them, the production is run
+     * again on its own, from where the node begins, and the children of the node that
+     * comes out of it are moved over to this one. The tokens lexed on the way take the
+     * place of the ones in the FileLineMap, and go into the chain of tokens.
+     * This assumes that the production does the same thing (given the same text and
+     * lexical state) whether or not it is building the tree, so code in it that depends
+     * on the nodes built so far, or on anything but the text, does not fit.
+     */
+    static final class LazyChildren {
+        // Where the node begins, including any unparsed tokens before it,
+        // and the lexical state there
+        private final int offset;
+        private final LexicalState lexicalState;
+        private final int production;
+
+        LazyChildren(FileLineMap map, Token first, int production) {
+            Token start = first;
+            while (start.getSpecialToken() != null) {
+                start = start.getSpecialToken();
+            }
+            this.offset = map.getBeginOffset(start);
+[#if numLexicalStates > 1]
+            this.lexicalState = start.getLexicalState();
+[#else]
+            this.lexicalState = LexicalState.${lexerData.lexicalStates[0].name};
+[/#if]
+            this.production = production;
+        }
+
+        /**
+         * Runs the production again, and links the tokens it lexes into the chain.
+         * This is called by ${grammar.baseNodeClassName}.childList(), with the FileLineMap locked.
+         * @return the children for the node
+         * @throws IllegalStateException if the production does not parse
+         */
+        List<Node> build(Node node) {
+            FileLineMap map = node.getFileLineMap();
+            int end = endOffset(node, map);
+            // The lexer that built the tree may not be done with the content yet.
+            int position = map.getTokenEndOffset();
+            ${grammar.parserClassName} parser = new ${grammar.parserClassName}(new ${grammar.lexerClassName}(map, offset, lexicalState, end));
+            Token start = parser.current_token;
+            parser.buildingLazyChildren = true;
+            Node built;
+            Token next;
+            try {
+                runProduction(parser);
+                built = parser.popNode();
+                next = parser.getToken(1);
+            } catch (ParseException e) {
+                throw new IllegalStateException("Could not build the children of the node at offset " + offset, e);
+            } finally {
+                map.goTo(position);
+            }
+            // The new tokens are linked in where the old ones were.
+            int prevIndex = map.getTokenIndex(offset) - 1;
+            while (prevIndex >= 0 && map.getToken(prevIndex).isUnparsed()) {
+                --prevIndex;
+            }
+            if (prevIndex >= 0 && start.getNext() != null) {
+                map.getToken(prevIndex).setNext(start.getNext());
+            }
+            int nextIndex = map.getTokenIndex(end);
+            while (nextIndex < map.getTokenCount() && map.getToken(nextIndex).isUnparsed()) {
+                ++nextIndex;
+            }
+            if (nextIndex < map.getTokenCount()) {
+                for (Token t : map.getTokensInRange(offset, end)) {
+                    if (t.getNext() == next) {
+                        t.setNext(map.getToken(nextIndex));
+                    }
+                }
+            }
+            return built.children();
+        }
+
+        private void runProduction(${grammar.parserClassName} parser) throws ParseException {
+            switch (production) {
+[#list parserData.lazyProductions as lazyProduction]
+                case ${lazyProduction_index} :
+                    parser.${lazyProduction.name}();
+                    break;
+[/#list]
+            }
+        }
+
+        // The end offset is exclusive, as for the tokens in a FileLineMap
+        private static int endOffset(Node node, FileLineMap map) {
+[#if grammar.options.offsetBasedPositions]
+            return node.getEndOffset();
+[#else]
+            return Math.min(map.getOffset(node.getEndLine(), node.getEndColumn()) + 1, map.getContent().length());
+[/#if]
+        }
+    }
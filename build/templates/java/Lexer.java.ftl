@@ -0,0 +1,309 @@
+[#--
+/* Copyright (c) 2008-2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary formnt must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky, Sun Microsystems, Inc.
+ *       nor the names of any contributors may be used to endorse
+ *       or promote products derived from this software without specific prior written
+ *       permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+ /* Generated by: ${generated_by}. ${filename} */
+ [#var options=grammar.options, lexerData=grammar.lexerData]
+ [#var tokenBuilderClass = options.hugeFileSupport?string("TokenBuilder", "FileLineMap")]
+ [#var numLexicalStates=lexerData.lexicalStates?size]
+ [#var lazyChildren = grammar.parserData.lazyProductions?has_content]
+
+  [#if grammar.parserPackage?has_content]
+    package ${grammar.parserPackage};
+  [/#if]
+[#if grammar.options.userDefinedLexer]
+  [#embed "LexerInterface.java.ftl"]
+[#else]
+[#list grammar.parserCodeImports as import]
+   ${import}
+[/#list]
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+
+@SuppressWarnings("unused")
+public class ${grammar.lexerClassName} implements ${grammar.constantsClassName} {
+private static final Logger LOGGER = Logger.getLogger("${grammar.parserClassName}");
+    [#if grammar.options.debugLexer]  
+  // The tracing code can be switched off when the class is loaded, with
+  // -D[#if grammar.parserPackage?has_content]${grammar.parserPackage}.[/#if]${grammar.lexerClassName}.trace=false, and the JIT then drops it.
+  private static final boolean trace_enabled = Boolean.parseBoolean(System.getProperty(${grammar.lexerClassName}.class.getName() + ".trace", "true"));
+    [#else]  
+  // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+  private static final boolean trace_enabled = false;
+    [/#if]
+  
+  public String getInputSource() {
+      return inputSource;
+  }
+  
+  public void setInputSource(String inputSource) {
+      this.inputSource = inputSource;
+[#if !grammar.options.hugeFileSupport]
+      input_stream.setInputSource(inputSource);
+[/#if]            
+  }
+   
+[#if !options.hugeFileSupport]
+     public ${grammar.lexerClassName}(String inputSource, CharSequence chars) {
+        this(inputSource, chars, LexicalState.${lexerData.lexicalStates[0].name}, 1, 1);
+     }
+     public ${grammar.lexerClassName}(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream = new ${tokenBuilderClass}(inputSource, chars, line, column);
+        switchTo(lexState);
+     }
+
+     /**
+      * Lexes the file by mapping it into memory, see {@link FileLineMap#mapFile(java.nio.file.Path, java.nio.charset.Charset)}
+      */
+     public ${grammar.lexerClassName}(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(path.toString(), FileLineMap.mapFile(path, charset));
+     }
+[/#if]
+    public ${grammar.lexerClassName}(String inputSource, Reader reader) {
+       this(inputSource, reader, LexicalState.${lexerData.lexicalStates[0].name}, 1, 1);
+    }
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated
+    public ${grammar.lexerClassName}(Reader reader) {
+        this("input" , reader);
+    }
+    public ${grammar.lexerClassName}(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream = new ${tokenBuilderClass}(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+[#if !options.hugeFileSupport]
+    // Tokens from the previous input refer to its FileLineMap, so that one is not recycled.
+    public void reset(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream = new ${tokenBuilderClass}(inputSource, chars, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, CharSequence chars) {
+        reset(inputSource, chars, LexicalState.${lexerData.lexicalStates[0].name}, 1, 1);
+    }
+
+    public void reset(CharSequence chars) {
+        reset("input", chars);
+    }
+[/#if]
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+[#if options.hugeFileSupport]
+        input_stream.reset(reader, line, column);
+[#else]
+        input_stream = new ${tokenBuilderClass}(inputSource, reader, line, column);
+[/#if]
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.${lexerData.lexicalStates[0].name}, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+${tokenBuilderClass} input_stream;
+
+public final void backup(int amount) {
+    input_stream.backup(amount);
+}
+
+  LexicalState lexicalState = LexicalState.${lexerData.lexicalStates[0].name};
+ 
+[#if numLexicalStates>1]
+   boolean doLexicalStateSwitch(int tokenType) {
+       LexicalState newLexState = newLexicalStates[tokenType];
+       if (newLexState != null) {
+           return switchTo(newLexState);
+       }
+       return false;
+   }
+   
+   boolean doLexicalStateSwitch(TokenType tokenType) {
+       return doLexicalStateSwitch(tokenType.ordinal());
+   }
+  
+  private static final LexicalState[] newLexicalStates = {
+         [#list lexerData.regularExpressions as regexp]
+             [#if regexp.newLexicalState?is_null]
+                null,
+             [#else]
+                LexicalState.${regexp.newLexicalState.name},
+             [/#if]
+          [/#list]
+  };
+[/#if]
+  
+
+void addToken(Token token) {
+    [#if lazyChildren]
+       if (tokenLimit >= 0 && input_stream.getBeginOffset(token) >= tokenLimit) {
+           return;
+       }
+    [/#if]
+    [#if !options.hugeFileSupport]
+       input_stream.addToken(token);
+    [/#if]  
+}  
+    int tabSize = 8;
+ [#if options.lexerUsesParser]
+
+  public ${grammar.parserClassName} parser;
+[/#if]
+
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState != lexState) {
+           if (trace_enabled) LOGGER.info("Switching from lexical state " + this.lexicalState + " to " + lexState);
+           this.lexicalState = lexState;
+           return true;
+        }
+        return false;
+    }
+[#if grammar.options.legacyAPI]
+    /**
+      * @deprecated Use the switchTo method that takes an Enum
+      */
+    @Deprecated
+    public boolean SwitchTo(int lexState) {
+       return switchTo(LexicalState.values()[lexState]);
+    }
+    
+    @Deprecated
+    public void setTabSize(int  size) {this.tabSize=tabSize;}
+[/#if]
+
+  private InvalidToken invalidToken; 
+  private Token pendingToken;
+  
+  public Token getNextToken() {
+      if (pendingToken != null) {
+          Token result = pendingToken;
+          pendingToken = null;
+          return result;
+      }
+      Token tok = null;
+      do {
+         tok = nextToken();
+      }  while (tok instanceof InvalidToken);
+      if (invalidToken != null) {
+          addToken(invalidToken);
+          invalidToken.setNext(tok);
+          Token it = invalidToken;
+          pendingToken = tok;
+          this.invalidToken = null;
+          return it;
+      }
+      addToken(tok);
+[#if options.incrementalLexing]
+      if (++tokensSinceCheckpoint == CHECKPOINT_INTERVAL) {
+          addCheckpoint();
+      }
+[/#if]
+      return tok;
+ }
+
+
+ [#if options.hugeFileSupport]
+    [#embed "LegacyTokenBuilder.java.ftl"]
+ [#else]
+        // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t) {
+    [#if options.offsetBasedPositions]
+        input_stream.goTo(t.getEndOffset());
+    [#else]
+        input_stream.goTo(t.getEndLine(), t.getEndColumn());
+        input_stream.forward(1);
+    [/#if]
+    [#if options.incrementalLexing]
+        // The checkpoints from here on may not hold any more.
+        while (checkpointCount > 0 && checkpointOffsets[checkpointCount - 1] >= input_stream.getTokenEndOffset()) {
+            --checkpointCount;
+        }
+    [/#if]
+    }
+    
+    FileLineMap getFileLineMap() {
+        return input_stream;
+    }
+  [#if grammar.options.incrementalParsing]
+
+    // Carries on from the offset in the lexical state given, which
+    // is how a node is lexed again when its text has been edited.
+    void goTo(int offset, LexicalState lexState) {
+        input_stream.goTo(offset);
+        resetState(inputSource, lexState);
+    }
+  [/#if]
+  [#if (grammar.options.incrementalParsing || grammar.options.incrementalLexing) && numLexicalStates > 1]
+
+    // The lexical state that the lexer was in after the token, unless
+    // a lexical action switched to another one
+    static LexicalState lexicalStateAfter(Token t) {
+        LexicalState newLexState = newLexicalStates[t.getType().ordinal()];
+        return newLexState != null ? newLexState : t.getLexicalState();
+    }
+  [/#if]
+  [#if options.incrementalLexing]
+    [#embed "IncrementalLexing.java.ftl"]
+  [/#if]
+  [#if lazyChildren]
+
+    // The offset from which the tokens do not go into the FileLineMap, or -1
+    private int tokenLimit = -1;
+
+    // Lexes (again) the text from the offset, which has already been lexed,
+    // for the children of a node that were not built at the time. Only the
+    // tokens that begin before tokenLimit replace the ones in the FileLineMap,
+    // so the ones the parser looks ahead at after the node are left alone.
+    ${grammar.lexerClassName}(FileLineMap input_stream, int offset, LexicalState lexState, int tokenLimit) {
+        this.input_stream = input_stream;
+        this.tokenLimit = tokenLimit;
+        input_stream.goTo(offset);
+        resetState(input_stream.getInputSource(), lexState);
+    }
+  [/#if]
+
+ [/#if]
+    [#embed "LexerCode.java.ftl"] 
+}
+[/#if]
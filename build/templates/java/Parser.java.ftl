@@ -0,0 +1,463 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary format must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky, Sun Microsystems, Inc.
+ *       nor the names of any contributors may be used to endorse 
+ *       or promote products derived from this software without specific prior written 
+ *       permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+/* Generated by: ${generated_by}. ${filename} */
+
+
+[#var parserData=grammar.parserData]
+[#var tokenCount=grammar.lexerData.tokenCount]
+
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+
+[#if grammar.nodePackage?has_content && grammar.parserPackage! != grammar.nodePackage]
+import ${grammar.nodePackage}.*;  
+[/#if]
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.logging.*;
+import java.io.*;
+[#if grammar.parserPackage?has_content]
+import static ${grammar.parserPackage}.${grammar.constantsClassName}.TokenType.*;
+[/#if]
+
+@SuppressWarnings("unused")
+public class ${grammar.parserClassName} implements ${grammar.constantsClassName} {
+
+    private static final java.util.logging.Logger LOGGER = Logger.getLogger(${grammar.parserClassName}.class.getName());
+    
+[#if grammar.options.debugParser]
+     static {
+         LOGGER.setLevel(Level.FINEST);
+     }
+[/#if]    
+
+    public static void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+    
+// The last token successfully "consumed"     
+Token current_token;
+private TokenType nextTokenType;
+// The number of tokens after current_token that the current scanahead has looked at
+private int currentLookaheadIndex;
+private int remainingLookahead;
+private TokenType upToTokenType;
+private EnumSet<TokenType> upToFirstSet;
+
+private Token lastParsedToken;
+//private Token nextToken; //REVISIT
+
+//private EnumSet<Token> currentFollowSet;
+
+private boolean cancelled;
+public void cancel() {cancelled = true;}
+public boolean isCancelled() {return cancelled;}
+[#if grammar.options.userDefinedLexer]
+  /** User defined Lexer. */
+  public Lexer token_source;
+  String inputSource = "input";
+[#else]
+  /** Generated Lexer. */
+  public ${grammar.lexerClassName} token_source;
+  
+  public void setInputSource(String inputSource) {
+      token_source.setInputSource(inputSource);
+  }
+  
+[/#if]
+
+  String getInputSource() {
+      return token_source.getInputSource();
+  }
+  
+ //=================================
+ // Generated constructors
+ //=================================
+
+[#if !grammar.options.userDefinedLexer]
+ [#if !grammar.options.hugeFileSupport]
+   public ${grammar.parserClassName}(String inputSource, CharSequence content) {
+       this(new ${grammar.lexerClassName}(inputSource, content));
+      [#if grammar.options.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+  }
+
+  public ${grammar.parserClassName}(CharSequence content) {
+    this("input", content);
+  }
+
+  /**
+   * Parses the file by mapping it into memory, rather than reading it into a String.
+   */
+  public ${grammar.parserClassName}(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+      this(new ${grammar.lexerClassName}(path, charset));
+      [#if grammar.options.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+  }
+ [/#if]
+  public ${grammar.parserClassName}(java.io.InputStream stream) {
+      this(new InputStreamReader(stream));
+  }
+  
+  public ${grammar.parserClassName}(Reader reader) {
+    this(new ${grammar.lexerClassName}(reader));
+      [#if grammar.options.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+  }
+[/#if]
+
+[#if grammar.options.userDefinedLexer]
+  /** Constructor with user supplied Lexer. */
+  public ${grammar.parserClassName}(Lexer lexer) {
+[#else]
+  /** Constructor with user supplied Lexer. */
+  public ${grammar.parserClassName}(${grammar.lexerClassName} lexer) {
+[/#if]
+    token_source = lexer;
+      [#if grammar.options.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+     current_token = new Token();
+  }
+
+[#if !grammar.options.userDefinedLexer]
+  /*
+   * The reset methods set up this parser, along with its lexer, to parse new input.
+   * That saves creating a new parser for each input, and the buffers and stacks
+   * that have been allocated so far are reused.
+   */
+ [#if !grammar.options.hugeFileSupport]
+  public void reset(String inputSource, CharSequence content) {
+      token_source.reset(inputSource, content);
+      resetState();
+  }
+
+  public void reset(CharSequence content) {
+      reset("input", content);
+  }
+
+  /**
+   * Maps the file into memory, like the corresponding constructor.
+   */
+  public void reset(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+      reset(path.toString(), FileLineMap.mapFile(path, charset));
+  }
+ [/#if]
+  public void reset(String inputSource, Reader reader) {
+      token_source.reset(inputSource, reader);
+      resetState();
+  }
+
+  public void reset(Reader reader) {
+      reset("input", reader);
+  }
+
+  // Puts everything back the way the constructor left it, apart
+  // from any settings that were changed.
+  private void resetState() {
+      current_token = new Token();
+      nextTokenType = null;
+      currentLookaheadIndex = remainingLookahead = 0;
+      upToTokenType = null;
+      upToFirstSet = null;
+      lastParsedToken = null;
+      cancelled = false;
+  [#if grammar.options.memoizeScanAhead]
+      Arrays.fill(scanMemoKeys, -1L);
+      scanMemoSize = 0;
+  [/#if]
+      clearLookaheadTokens();
+      parsingStackSize = lookaheadStackSize = 0;
+      currentFollowSet = null;
+  [#if grammar.options.faultTolerant]
+      currentNTForced = false;
+      parsingProblems = null;
+  [/#if]
+  [#if !grammar.options.hugeFileSupport]
+      parseStateStack.clear();
+  [/#if]
+  [#if grammar.options.treeBuildingEnabled]
+      while (!currentNodeScope.isRootScope()) {
+          currentNodeScope = currentNodeScope.parentScope;
+      }
+      currentNodeScope.clear();
+  [/#if]
+  }
+[/#if]
+
+ final public Token getNextToken() {
+    if (current_token.getNext() != null) current_token = current_token.getNext();
+    else {
+       Token nextToken = token_source.getNextToken();
+       current_token.setNext(nextToken);
+       current_token = nextToken;
+    }
+    return current_token;
+  }
+
+/** Get the specific Token index ahead in the stream. */
+  final public Token getToken(int index) {
+    return index <= 0 ? current_token : lookaheadToken(index);
+  }
+
+  // A circular buffer of the tokens following current_token, so that
+  // lookahead does not have to keep following the tokens' next links.
+  // The links are still there (and are the real thing), so if current_token
+  // has moved on since the buffer was filled, it is brought into line.
+  private Token[] lookaheadTokens = new Token[${parserData.lookaheadBufferSize}];
+  private int lookaheadStart, lookaheadCount;
+  private Token lookaheadAnchor;
+
+  // The index-th token after current_token, index being at least 1
+  private Token lookaheadToken(int index) {
+    if (lookaheadAnchor != current_token) {
+        syncLookaheadTokens();
+    }
+    int mask = lookaheadTokens.length - 1;
+    while (lookaheadCount < index) {
+        Token last = lookaheadCount == 0 ? current_token : lookaheadTokens[(lookaheadStart + lookaheadCount - 1) & mask];
+        Token nextToken = last.getNext();
+        if (nextToken == null) {
+            nextToken = token_source.getNextToken();
+            last.setNext(nextToken);
+        }
+        if (lookaheadCount == lookaheadTokens.length) {
+            growLookaheadTokens();
+            mask = lookaheadTokens.length - 1;
+        }
+        lookaheadTokens[(lookaheadStart + lookaheadCount++) & mask] = nextToken;
+    }
+    return lookaheadTokens[(lookaheadStart + index - 1) & mask];
+  }
+
+  private void syncLookaheadTokens() {
+    int mask = lookaheadTokens.length - 1;
+[#if grammar.options.memoizeScanAhead]
+    Token t = lookaheadAnchor;
+    int distance = 0;
+    // Typically, current_token has moved forward to one of the buffered tokens.
+    while (lookaheadCount > 0 && t != current_token) {
+        t = lookaheadTokens[lookaheadStart];
+        lookaheadTokens[lookaheadStart] = null;
+        lookaheadStart = (lookaheadStart + 1) & mask;
+        --lookaheadCount;
+        ++distance;
+    }
+    // ... or possibly beyond them.
+    while (t != null && t != current_token) {
+        t = t.getNext();
+        ++distance;
+    }
+    if (t == null) {
+        // current_token is not where we thought, so the memo table
+        // is no use any more.
+        clearScanMemo();
+    } else {
+        currentTokenIndex += distance;
+    }
+[#else]
+    // Typically, current_token has moved forward to one of the buffered tokens.
+    while (lookaheadCount > 0) {
+        Token t = lookaheadTokens[lookaheadStart];
+        lookaheadTokens[lookaheadStart] = null;
+        lookaheadStart = (lookaheadStart + 1) & mask;
+        --lookaheadCount;
+        if (t == current_token) break;
+    }
+[/#if]
+    lookaheadAnchor = current_token;
+  }
+
+  private void growLookaheadTokens() {
+    Token[] newTokens = new Token[lookaheadTokens.length * 2];
+    for (int i = 0; i < lookaheadCount; i++) {
+        newTokens[i] = lookaheadTokens[(lookaheadStart + i) & (lookaheadTokens.length - 1)];
+    }
+    lookaheadTokens = newTokens;
+    lookaheadStart = 0;
+  }
+
+  // To be called if the tokens' next links are changed behind our back.
+  private void clearLookaheadTokens() {
+    Arrays.fill(lookaheadTokens, null);
+    lookaheadStart = lookaheadCount = 0;
+    lookaheadAnchor = null;
+[#if grammar.options.memoizeScanAhead]
+    clearScanMemo();
+[/#if]
+  }
+[#if grammar.options.memoizeScanAhead]
+
+  // The results of the scan routines that only depend on the tokens
+  // they look at, so that each one is only run once at a given position.
+  // It is an open addressing hash table keyed by the routine's index and
+  // the position of the token it starts at. The value is the number of
+  // tokens the routine matched, plus 1, or SCAN_FAILED.
+  private static final int SCAN_MEMO_INITIAL_SIZE = 1024;
+  private static final int SCAN_FAILED = -1;
+  private long[] scanMemoKeys = newScanMemoKeys(SCAN_MEMO_INITIAL_SIZE);
+  private int[] scanMemoValues = new int[SCAN_MEMO_INITIAL_SIZE];
+  private int scanMemoSize;
+  // The position of current_token, counting from wherever we
+  // last lost track of it, i.e. the last time the memo table was cleared.
+  private int currentTokenIndex;
+
+  private static long[] newScanMemoKeys(int size) {
+    long[] keys = new long[size];
+    Arrays.fill(keys, -1L);
+    return keys;
+  }
+
+  private static int scanMemoHash(long key) {
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+  }
+
+  // The key for the given scan routine at the current scanahead position
+  private long scanMemoKey(int routineIndex) {
+    if (lookaheadAnchor != current_token) {
+        syncLookaheadTokens();
+    }
+    return (long) (currentTokenIndex + currentLookaheadIndex) * ${parserData.scanMemoCount} + routineIndex;
+  }
+
+  // Returns 0 if there is no entry for the key
+  private int scanMemoLookup(long key) {
+    int mask = scanMemoKeys.length - 1;
+    for (int i = scanMemoHash(key) & mask; scanMemoKeys[i] != -1L; i = (i + 1) & mask) {
+        if (scanMemoKeys[i] == key) return scanMemoValues[i];
+    }
+    return 0;
+  }
+
+  private void scanMemoStore(long key, int value) {
+    if (2 * (scanMemoSize + 1) > scanMemoKeys.length) {
+        rebuildScanMemo();
+    }
+    int mask = scanMemoKeys.length - 1;
+    int i = scanMemoHash(key) & mask;
+    while (scanMemoKeys[i] != -1L && scanMemoKeys[i] != key) {
+        i = (i + 1) & mask;
+    }
+    if (scanMemoKeys[i] == -1L) ++scanMemoSize;
+    scanMemoKeys[i] = key;
+    scanMemoValues[i] = value;
+  }
+
+  // Moves the entries that are still of any use, those from current_token on,
+  // into a table with enough room to spare.
+  private void rebuildScanMemo() {
+    long[] oldKeys = scanMemoKeys;
+    int[] oldValues = scanMemoValues;
+    long firstUsefulKey = (long) currentTokenIndex * ${parserData.scanMemoCount};
+    int useful = 0;
+    for (long key : oldKeys) {
+        if (key >= firstUsefulKey) ++useful;
+    }
+    int size = SCAN_MEMO_INITIAL_SIZE;
+    while (4 * useful > size) size *= 2;
+    scanMemoKeys = newScanMemoKeys(size);
+    scanMemoValues = new int[size];
+    scanMemoSize = 0;
+    for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] >= firstUsefulKey) scanMemoStore(oldKeys[i], oldValues[i]);
+    }
+  }
+
+  private void clearScanMemo() {
+    if (scanMemoSize > 0) {
+        scanMemoKeys = newScanMemoKeys(SCAN_MEMO_INITIAL_SIZE);
+        scanMemoValues = new int[SCAN_MEMO_INITIAL_SIZE];
+        scanMemoSize = 0;
+    }
+  }
+[/#if]
+  
+  private final boolean setNextTokenType() {
+    nextTokenType = lookaheadToken(1).getType();
+    return true;
+  }
+
+  private final TokenType nextTokenType() {
+    setNextTokenType();
+    return nextTokenType;
+  }
+
+  private final boolean resetScanAhead(int amount, EnumSet<TokenType> upToFirstSet) {
+    resetScanAhead(amount);
+    this.upToFirstSet = upToFirstSet;
+    return true;
+  }
+
+
+  private final boolean resetScanAhead(int amount, TokenType upToTokenType) {
+    resetScanAhead(amount);
+    this.upToTokenType = upToTokenType;
+    return true;
+  }
+
+  private final boolean resetScanAhead(int amount) {
+    currentLookaheadIndex = 0;
+    remainingLookahead = amount;
+    this.upToTokenType = null;
+    this.upToFirstSet = null;
+    setNextTokenType();
+    return true;
+  }
+
+[#import "ParserProductions.java.ftl" as ParserCode ]
+[@ParserCode.Generate/]
+ 
+[#embed "ErrorHandling.java.ftl"]
+
+[#if grammar.options.treeBuildingEnabled]
+   [#embed "TreeBuildingCode.java.ftl"]
+[/#if]
+[#if grammar.options.incrementalParsing]
+   [#embed "IncrementalParsing.java.ftl"]
+[/#if]
+[#if grammar.parserData.lazyProductions?has_content]
+   [#embed "LazyChildren.java.ftl"]
+[/#if]
+}
+
+  
+}
+[#list grammar.otherParserCodeDeclarations as decl]
+//Generated from code on line ${decl.beginLine}, column ${decl.beginColumn} of ${decl.inputSource}
+   ${decl}
+[/#list]
+
@@ -0,0 +1,225 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky, Sun Microsystems, Inc.
+ *       nor the names of any contributors may be used to endorse 
+ *       or promote products derived from this software without specific prior written 
+ *       permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+ /* Generated by: ${generated_by}. ${filename} */
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+[#if grammar.nodePackage?has_content && grammar.parserPackage! != grammar.nodePackage]
+import ${grammar.nodePackage}.*;  
+[/#if]
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+[#var parserClassName = grammar.parserClassName]
+/**
+ * Parses a number of files (or strings) at once on the threads of an ExecutorService,
+ * with a ${parserClassName} for each thread, which is reset for each input.
+ * The results are handed back in the order that the parsing of each one finishes.
+ * The parsers are kept in a ThreadLocal, so they are only reused on an executor
+ * whose threads each run many tasks, such as a ForkJoinPool. With virtual threads,
+ * there is a new thread, and so a new parser, for every input.
+ */
+public class ${parserClassName}Driver {
+
+    /**
+     * What to parse each input with, and what to keep of it,
+     * for example {@code parser -> parser.SomeProduction()}.
+     * The parser is used again for the next input, so it should
+     * not be held on to.
+     */
+    public interface Production<T> {
+        T parse(${parserClassName} parser) throws ParseException;
+    }
+
+    /**
+     * The outcome of parsing one input: the value that the Production
+     * returned, or else the exception that was thrown.
+     */
+    public static class Result<T> {
+        private final String inputSource;
+        private final T value;
+        private final Exception error;
+
+        Result(String inputSource, T value, Exception error) {
+            this.inputSource = inputSource;
+            this.value = value;
+            this.error = error;
+        }
+
+        public String getInputSource() {
+            return inputSource;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * @return the ParseException (or IOException, or whatever else)
+         * that parsing the input ended with, or null if it went through.
+         */
+        public Exception getError() {
+            return error;
+        }
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+    }
+
+    /**
+     * The results of a call to one of the parse methods. Each call to next()
+     * waits for another input to be parsed, so this can only be iterated over once.
+     */
+    public static class Results<T> implements Iterator<Result<T>>, Iterable<Result<T>> {
+        private final CompletionService<Result<T>> completionService;
+        private final List<Future<Result<T>>> futures;
+        private int remaining;
+
+        Results(CompletionService<Result<T>> completionService, List<Future<Result<T>>> futures) {
+            this.completionService = completionService;
+            this.futures = futures;
+            this.remaining = futures.size();
+        }
+
+        public Iterator<Result<T>> iterator() {
+            return this;
+        }
+
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        public Result<T> next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            try {
+                Result<T> result = completionService.take().get();
+                remaining--;
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for a parse to finish");
+            } catch (ExecutionException e) {
+                // Anything but an Error is caught in the task itself.
+                throw (Error) e.getCause();
+            }
+        }
+
+        /**
+         * Gives up on the inputs that have not been parsed yet.
+         */
+        public void cancel() {
+            for (Future<Result<T>> future : futures) {
+                future.cancel(false);
+            }
+            remaining = 0;
+        }
+    }
+
+    // Sets up a thread's parser for one input, in the thread that parses it.
+    private interface ParserSetup {
+        void reset(${parserClassName} parser) throws IOException;
+    }
+
+    private final ExecutorService executor;
+    private final ThreadLocal<${parserClassName}> parsers = ThreadLocal.withInitial(() -> new ${parserClassName}(""));
+
+    /**
+     * A driver that parses on the common ForkJoinPool
+     */
+    public ${parserClassName}Driver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor where the inputs are parsed, for example a ForkJoinPool
+     * with a given parallelism or, on Java 21 or later, the executor returned by
+     * Executors.newVirtualThreadPerTaskExecutor() (though then no parser is used
+     * for more than one input). The driver does not shut it down.
+     */
+    public ${parserClassName}Driver(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Parses UTF-8 encoded files
+     */
+    public <T> Results<T> parseFiles(Collection<Path> files, Production<T> production) {
+        return parseFiles(files, StandardCharsets.UTF_8, production);
+    }
+
+    public <T> Results<T> parseFiles(Collection<Path> files, Charset charset, Production<T> production) {
+        CompletionService<Result<T>> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<Result<T>>> futures = new ArrayList<>(files.size());
+        for (Path file : files) {
+            futures.add(completionService.submit(() -> parse(file.toString(), parser -> parser.reset(file, charset), production)));
+        }
+        return new Results<>(completionService, futures);
+    }
+
+    /**
+     * @param contents the text to parse, keyed by the name to use as its input source
+     */
+    public <T> Results<T> parse(Map<String, ? extends CharSequence> contents, Production<T> production) {
+        CompletionService<Result<T>> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<Result<T>>> futures = new ArrayList<>(contents.size());
+        for (Map.Entry<String, ? extends CharSequence> entry : contents.entrySet()) {
+            String inputSource = entry.getKey();
+            CharSequence content = entry.getValue();
+            futures.add(completionService.submit(() -> parse(inputSource, parser -> parser.reset(inputSource, content), production)));
+        }
+        return new Results<>(completionService, futures);
+    }
+
+    private <T> Result<T> parse(String inputSource, ParserSetup parserSetup, Production<T> production) {
+        try {
+            ${parserClassName} parser = parsers.get();
+            try {
+                parserSetup.reset(parser);
+                return new Result<>(inputSource, production.parse(parser), null);
+            } finally {
+                // The thread (and so its parser) stays around after the task, so the parser
+                // should not hold on to the input, which may be a mapped file. The trees it
+                // built are not affected.
+                parser.reset("");
+            }
+        } catch (Exception e) {
+            return new Result<>(inputSource, null, e);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.javacc.benchmark.jmh_generated;
+public class CSharpBenchmark_jmhType extends CSharpBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.javacc.benchmark.jmh_generated;
+public class Counters_Lexing_jmhType extends Counters_Lexing_jmhType_B3 {
+}
+
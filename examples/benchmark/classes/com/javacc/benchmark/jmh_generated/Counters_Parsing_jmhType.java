@@ -0,0 +1,4 @@
+package com.javacc.benchmark.jmh_generated;
+public class Counters_Parsing_jmhType extends Counters_Parsing_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.javacc.benchmark.jmh_generated;
+public class JSONBenchmark_jmhType extends JSONBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.javacc.benchmark.jmh_generated;
+public class JavaBenchmark_jmhType extends JavaBenchmark_jmhType_B3 {
+}
+
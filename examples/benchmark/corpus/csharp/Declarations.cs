@@ -0,0 +1,79 @@
+// Only uses the constructs that examples/csharp/CSharp.javacc
+// can currently parse: directives, attributes and type declarations
+// with empty bodies.
+extern alias Legacy;
+using System;
+using System.Collections.Generic;
+using static System.Math;
+using Map = System.Collections.Generic.Dictionary<string, int>;
+using Legacy::Compat;
+
+[assembly: CLSCompliant]
+[module: Obsolete]
+
+namespace Benchmark.Model
+{
+    public partial class Customer : Entity, IComparable<Customer>
+    {
+    }
+}
+
+namespace Benchmark.Model.Orders
+{
+    [type: Serializable]
+    internal sealed class Order<TItem> : Entity where TItem : class
+    {
+    }
+}
+
+namespace Benchmark.Model.Values
+{
+    public struct Money : IEquatable<Money>, IComparable<Money>
+    {
+    }
+}
+
+namespace Benchmark.Services
+{
+    public interface IRepository<in TKey>
+    {
+    }
+}
+
+public enum Status : byte
+{
+}
+
+public enum Priority
+{
+}
+
+public abstract class Entity
+{
+}
+
+public static class Extensions
+{
+}
+
+internal class Wrapper : Legacy::Compat
+{
+}
+
+public class Document : object
+{
+}
+
+public class Cache<TKey, TValue> : Dictionary<TKey, TValue>
+    where TKey : class
+    where TValue : IComparable<TValue>
+{
+}
+
+internal unsafe struct Buffer
+{
+}
+
+public interface IVisitor<out TResult>
+{
+}
@@ -0,0 +1,170 @@
+using System;
+using System.Collections.Generic;
+using System.Linq;
+using System.Text;
+
+namespace Benchmark.Inventory
+{
+    /// <summary>
+    /// A simple inventory of items, grouped by category.
+    /// </summary>
+    public enum Category
+    {
+        Hardware,
+        Software,
+        Service = 10
+    }
+
+    public interface IPriced
+    {
+        decimal Price { get; }
+        string Describe(int width);
+    }
+
+    public struct Quantity
+    {
+        public readonly int Amount;
+
+        public Quantity(int amount)
+        {
+            Amount = amount;
+        }
+
+        public override string ToString()
+        {
+            return Amount.ToString();
+        }
+    }
+
+    public class Item : IPriced
+    {
+        private static int nextId = 1;
+
+        public int Id { get; private set; }
+        public string Name { get; set; }
+        public Category Category { get; set; }
+        public decimal Price { get; set; }
+        public Quantity Stock;
+
+        public Item(string name, Category category, decimal price, int stock)
+        {
+            Id = nextId++;
+            Name = name;
+            Category = category;
+            Price = price;
+            Stock = new Quantity(stock);
+        }
+
+        public string Describe(int width)
+        {
+            var builder = new StringBuilder();
+            builder.Append(Name);
+            while (builder.Length < width)
+            {
+                builder.Append(' ');
+            }
+            builder.Append(Price.ToString("F2"));
+            return builder.ToString();
+        }
+    }
+
+    public class Inventory
+    {
+        private readonly List<Item> items = new List<Item>();
+        private readonly Dictionary<Category, int> counts = new Dictionary<Category, int>();
+
+        public void Add(Item item)
+        {
+            if (item == null)
+            {
+                throw new ArgumentNullException("item");
+            }
+            items.Add(item);
+            int count;
+            if (counts.TryGetValue(item.Category, out count))
+            {
+                counts[item.Category] = count + 1;
+            }
+            else
+            {
+                counts[item.Category] = 1;
+            }
+        }
+
+        public IEnumerable<Item> InCategory(Category category)
+        {
+            foreach (var item in items)
+            {
+                if (item.Category == category)
+                {
+                    yield return item;
+                }
+            }
+        }
+
+        public decimal TotalValue()
+        {
+            decimal total = 0;
+            for (int i = 0; i < items.Count; i++)
+            {
+                total += items[i].Price * items[i].Stock.Amount;
+            }
+            return total;
+        }
+
+        public List<Item> Cheapest(int n)
+        {
+            return items.OrderBy(item => item.Price).Take(n).ToList();
+        }
+
+        public string Report()
+        {
+            var sb = new StringBuilder();
+            foreach (Category category in Enum.GetValues(typeof(Category)))
+            {
+                int count = counts.ContainsKey(category) ? counts[category] : 0;
+                sb.AppendLine(category + ": " + count);
+                switch (category)
+                {
+                    case Category.Hardware:
+                        sb.AppendLine("  (shipped)");
+                        break;
+                    case Category.Service:
+                        sb.AppendLine("  (on site)");
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return sb.ToString();
+        }
+    }
+
+    public static class Program
+    {
+        public static void Main(string[] args)
+        {
+            var inventory = new Inventory();
+            inventory.Add(new Item("Keyboard", Category.Hardware, 49.99m, 10));
+            inventory.Add(new Item("Compiler", Category.Software, 199.00m, 3));
+            inventory.Add(new Item("Support", Category.Service, 75.50m, 1));
+            try
+            {
+                Console.WriteLine(inventory.Report());
+                Console.WriteLine("Total: " + inventory.TotalValue());
+                foreach (var item in inventory.Cheapest(2))
+                {
+                    Console.WriteLine(item.Describe(20));
+                }
+            }
+            catch (Exception e)
+            {
+                Console.Error.WriteLine(e.Message);
+            }
+            finally
+            {
+                Console.WriteLine("Done.");
+            }
+        }
+    }
+}
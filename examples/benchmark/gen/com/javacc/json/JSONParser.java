@@ -0,0 +1,873 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONParser.java */
+package com.javacc.json;
+
+import com.javacc.json.ast.*;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.logging.*;
+import java.io.*;
+import static com.javacc.json.JSONConstants.TokenType.*;
+@SuppressWarnings("unused")
+public class JSONParser implements JSONConstants {
+    private static final java.util.logging.Logger LOGGER= Logger.getLogger(JSONParser.class.getName());
+    public static void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    // The last token successfully "consumed"     
+    Token current_token;
+    private TokenType nextTokenType;
+    // The number of tokens after current_token that the current scanahead has looked at
+    private int currentLookaheadIndex;
+    private int remainingLookahead;
+    private TokenType upToTokenType;
+    private EnumSet<TokenType> upToFirstSet;
+    private Token lastParsedToken;
+    //private Token nextToken; //REVISIT
+    //private EnumSet<Token> currentFollowSet;
+    private boolean cancelled;
+    public void cancel() {
+        cancelled= true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public JSONLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public JSONParser(String inputSource, CharSequence content) {
+        this(new JSONLexer(inputSource, content));
+    }
+
+    public JSONParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+   * Parses the file by mapping it into memory, rather than reading it into a String.
+   */
+    public JSONParser(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(new JSONLexer(path, charset));
+    }
+
+    public JSONParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public JSONParser(Reader reader) {
+        this(new JSONLexer(reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public JSONParser(JSONLexer lexer) {
+        token_source= lexer;
+        current_token= new Token();
+    }
+
+    /*
+   * The reset methods set up this parser, along with its lexer, to parse new input.
+   * That saves creating a new parser for each input, and the buffers and stacks
+   * that have been allocated so far are reused.
+   */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        resetState();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+   * Maps the file into memory, like the corresponding constructor.
+   */
+    public void reset(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        reset(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        token_source.reset(inputSource, reader);
+        resetState();
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    // Puts everything back the way the constructor left it, apart
+    // from any settings that were changed.
+    private void resetState() {
+        current_token= new Token();
+        nextTokenType= null;
+        currentLookaheadIndex= remainingLookahead= 0;
+        upToTokenType= null;
+        upToFirstSet= null;
+        lastParsedToken= null;
+        cancelled= false;
+        clearLookaheadTokens();
+        parsingStackSize= lookaheadStackSize= 0;
+        currentFollowSet= null;
+        parseStateStack.clear();
+        while (!currentNodeScope.isRootScope()) {
+            currentNodeScope= currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.getNext()!=null) current_token= current_token.getNext();
+        else {
+            Token nextToken= token_source.getNextToken();
+            current_token.setNext(nextToken);
+            current_token= nextToken;
+        }
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        return index<=0?current_token:
+        lookaheadToken(index);
+    }
+
+    // A circular buffer of the tokens following current_token, so that
+    // lookahead does not have to keep following the tokens' next links.
+    // The links are still there (and are the real thing), so if current_token
+    // has moved on since the buffer was filled, it is brought into line.
+    private Token[] lookaheadTokens= new Token[16];
+    private int lookaheadStart, lookaheadCount;
+    private Token lookaheadAnchor;
+    // The index-th token after current_token, index being at least 1
+    private Token lookaheadToken(int index) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        int mask= lookaheadTokens.length-1;
+        while (lookaheadCount<index) {
+            Token last= lookaheadCount== 0?current_token:
+            lookaheadTokens[(lookaheadStart+lookaheadCount-1)&mask];
+            Token nextToken= last.getNext();
+            if (nextToken== null) {
+                nextToken= token_source.getNextToken();
+                last.setNext(nextToken);
+            }
+            if (lookaheadCount== lookaheadTokens.length) {
+                growLookaheadTokens();
+                mask= lookaheadTokens.length-1;
+            }
+            lookaheadTokens[(lookaheadStart+lookaheadCount++)&mask]= nextToken;
+        }
+        return lookaheadTokens[(lookaheadStart+index-1)&mask];
+    }
+
+    private void syncLookaheadTokens() {
+        int mask= lookaheadTokens.length-1;
+        // Typically, current_token has moved forward to one of the buffered tokens.
+        while (lookaheadCount> 0) {
+            Token t= lookaheadTokens[lookaheadStart];
+            lookaheadTokens[lookaheadStart]= null;
+            lookaheadStart= (lookaheadStart+1)&mask;
+            --lookaheadCount;
+            if (t== current_token) break;
+        }
+        lookaheadAnchor= current_token;
+    }
+
+    private void growLookaheadTokens() {
+        Token[] newTokens= new Token[lookaheadTokens.length*2];
+        for (int i= 0; i<lookaheadCount; i++) {
+            newTokens[i]= lookaheadTokens[(lookaheadStart+i)&(lookaheadTokens.length-1)];
+        }
+        lookaheadTokens= newTokens;
+        lookaheadStart= 0;
+    }
+
+    // To be called if the tokens' next links are changed behind our back.
+    private void clearLookaheadTokens() {
+        Arrays.fill(lookaheadTokens, null);
+        lookaheadStart= lookaheadCount= 0;
+        lookaheadAnchor= null;
+    }
+
+    private final boolean setNextTokenType() {
+        nextTokenType= lookaheadToken(1).getType();
+        return true;
+    }
+
+    private final TokenType nextTokenType() {
+        setNextTokenType();
+        return nextTokenType;
+    }
+
+    private final boolean resetScanAhead(int amount, EnumSet<TokenType> upToFirstSet) {
+        resetScanAhead(amount);
+        this.upToFirstSet= upToFirstSet;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount, TokenType upToTokenType) {
+        resetScanAhead(amount);
+        this.upToTokenType= upToTokenType;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount) {
+        currentLookaheadIndex= 0;
+        remainingLookahead= amount;
+        this.upToTokenType= null;
+        this.upToFirstSet= null;
+        setNextTokenType();
+        return true;
+    }
+
+    // JSON.javacc, line 61
+    final public void Array() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 61 of JSON.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Array1forced= false;
+        Array Array1= null;
+        if (buildTree) {
+            Array1= new Array();
+            openNodeScope(Array1);
+        }
+        ParseException parseException1= null;
+        int callStackSize1= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 62 of JSON.javacc
+            consumeToken(TokenType.OPEN_BRACKET);
+            // Code for ZeroOrOne specified on line 63 of JSON.javacc
+            if (resetScanAhead(1)&&first_set$JSON_javacc$line_63$column_5.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 64 of JSON.javacc
+                pushOntoCallStack(0);
+                try {
+                    Value();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 64 of JSON.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 64 of JSON.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 64 of JSON.javacc
+                    pushOntoCallStack(1);
+                    try {
+                        Value();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified on line 66 of JSON.javacc
+            consumeToken(TokenType.CLOSE_BRACKET);
+            if (trace_enabled) LOGGER.info("Exiting normally from Array");
+        }
+        catch(ParseException e) {
+            parseException1= e;
+            throw e;
+        }
+        finally {
+            if (parseException1== null) {
+                restoreCallStack(callStackSize1);
+            }
+            if (buildTree) {
+                if (parseException1== null) {
+                    closeNodeScope(Array1, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException1.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> Value_FIRST_SET= EnumSet.of(TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.TRUE, TokenType.FALSE, TokenType.NULL, TokenType.STRING_LITERAL, TokenType.NUMBER);
+    // JSON.javacc, line 69
+    final public void Value() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 69 of JSON.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 70 of JSON.javacc
+        boolean Value2forced= false;
+        Value Value2= null;
+        if (buildTree) {
+            Value2= new Value();
+            openNodeScope(Value2);
+        }
+        ParseException parseException2= null;
+        int callStackSize2= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE) {
+                // Code for RegexpRef specified on line 70 of JSON.javacc
+                consumeToken(TokenType.TRUE);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.FALSE) {
+                // Code for RegexpRef specified on line 72 of JSON.javacc
+                consumeToken(TokenType.FALSE);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.NULL) {
+                // Code for RegexpRef specified on line 74 of JSON.javacc
+                consumeToken(TokenType.NULL);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.STRING_LITERAL) {
+                // Code for RegexpRef specified on line 76 of JSON.javacc
+                consumeToken(TokenType.STRING_LITERAL);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.NUMBER) {
+                // Code for RegexpRef specified on line 78 of JSON.javacc
+                consumeToken(TokenType.NUMBER);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_BRACKET) {
+                // Code for NonTerminal specified on line 80 of JSON.javacc
+                pushOntoCallStack(2);
+                try {
+                    Array();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_BRACE) {
+                // Code for NonTerminal specified on line 82 of JSON.javacc
+                pushOntoCallStack(3);
+                try {
+                    JSONObject();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(4);
+                throw new ParseException(current_token.getNext(), Value_FIRST_SET, getCallStack());
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from Value");
+        }
+        catch(ParseException e) {
+            parseException2= e;
+            throw e;
+        }
+        finally {
+            if (parseException2== null) {
+                restoreCallStack(callStackSize2);
+            }
+            if (buildTree) {
+                if (parseException2== null) {
+                    closeNodeScope(Value2, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException2.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // JSON.javacc, line 85
+    final public void JSONObject() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 85 of JSON.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean JSONObject3forced= false;
+        JSONObject JSONObject3= null;
+        if (buildTree) {
+            JSONObject3= new JSONObject();
+            openNodeScope(JSONObject3);
+        }
+        ParseException parseException3= null;
+        int callStackSize3= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 86 of JSON.javacc
+            consumeToken(TokenType.OPEN_BRACE);
+            // Code for ZeroOrOne specified on line 87 of JSON.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.STRING_LITERAL) {
+                // Code for RegexpRef specified on line 88 of JSON.javacc
+                consumeToken(TokenType.STRING_LITERAL);
+                // Code for RegexpRef specified on line 89 of JSON.javacc
+                consumeToken(TokenType.COLON);
+                // Code for NonTerminal specified on line 90 of JSON.javacc
+                pushOntoCallStack(5);
+                try {
+                    Value();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 95 of JSON.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 92 of JSON.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for RegexpRef specified on line 93 of JSON.javacc
+                    consumeToken(TokenType.STRING_LITERAL);
+                    // Code for RegexpRef specified on line 93 of JSON.javacc
+                    consumeToken(TokenType.COLON);
+                    // Code for NonTerminal specified on line 94 of JSON.javacc
+                    pushOntoCallStack(6);
+                    try {
+                        Value();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified on line 97 of JSON.javacc
+            consumeToken(TokenType.CLOSE_BRACE);
+            if (trace_enabled) LOGGER.info("Exiting normally from JSONObject");
+        }
+        catch(ParseException e) {
+            parseException3= e;
+            throw e;
+        }
+        finally {
+            if (parseException3== null) {
+                restoreCallStack(callStackSize3);
+            }
+            if (buildTree) {
+                if (parseException3== null) {
+                    closeNodeScope(JSONObject3, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException3.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$JSON_javacc$line_63$column_5= EnumSet.of(TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.TRUE, TokenType.FALSE, TokenType.NULL, TokenType.STRING_LITERAL, TokenType.NUMBER);
+    // Without DEBUG_PARSER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    // So that the warning about setTracingEnabled(true) only comes up once
+    private static volatile boolean tracingWarningGiven;
+    /**
+  * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER)
+  * and when the class is loaded, so this does nothing, apart from logging a warning
+  * (once) if tracing is asked for and is not on. Use #setLogLevel to
+  * quieten the tracing output.
+  */
+    @Deprecated public void setTracingEnabled(boolean tracingEnabled) {
+        if (tracingEnabled&&!trace_enabled&&!tracingWarningGiven) {
+            tracingWarningGiven= true;
+            LOGGER.warning("setTracingEnabled(true) does nothing, since the parser was generated without DEBUG_PARSER");
+        }
+    }
+
+    /**
+ * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER)
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER)
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+    // The parsing and lookahead stacks just hold indexes into the tables of call sites below.
+    // The NonTerminalCall objects are only created if there is an error to report.
+    private int[] parsingStack= new int[64];
+    private int parsingStackSize;
+    private int[] lookaheadStack= new int[64];
+    private int lookaheadStackSize;
+    private static final String[] CALL_SITE_PRODUCTIONS= {"Array", "Array", "Value", "Value", "Value", "JSONObject", "JSONObject"};
+    private static final String[] CALL_SITE_FILES= {"JSON.javacc", "JSON.javacc", "JSON.javacc", "JSON.javacc", "JSON.javacc", "JSON.javacc", "JSON.javacc"};
+    private static final int[] CALL_SITE_LINES= {64, 64, 80, 82, 70, 90, 94};
+    private static final int[] CALL_SITE_COLUMNS= {7, 22, 5, 5, 5, 8, 9};
+    private EnumSet<TokenType> currentFollowSet;
+    /**
+ * Inner class that represents entering a grammar production
+ */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile= sourceFile;
+            this.productionName= productionName;
+            this.line= line;
+            this.column= column;
+        }
+
+        NonTerminalCall(int callSite) {
+            this(CALL_SITE_FILES[callSite], CALL_SITE_PRODUCTIONS[callSite], CALL_SITE_LINES[callSite], CALL_SITE_COLUMNS[callSite]);
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("JSONParser", productionName, sourceFile, line);
+        }
+
+    }
+    private final void pushOntoCallStack(int callSite) {
+        if (parsingStackSize== parsingStack.length) {
+            parsingStack= Arrays.copyOf(parsingStack, parsingStackSize*2);
+        }
+        parsingStack[parsingStackSize++]= callSite;
+    }
+
+    private final void popCallStack() {
+        parsingStackSize--;
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        if (parsingStackSize> prevSize) {
+            parsingStackSize= prevSize;
+        }
+    }
+
+    /**
+ * @return the parsing stack as a list of NonTerminalCall objects
+ */
+    List<NonTerminalCall> getCallStack() {
+        List<NonTerminalCall> result= new ArrayList<> (parsingStackSize);
+        for (int i= 0; i<parsingStackSize; i++) {
+            result.add(new NonTerminalCall(parsingStack[i]));
+        }
+        return result;
+    }
+
+    // The number of entries in the parsing stack and the lookahead stack together
+    private final int callStackDepth() {
+        return parsingStackSize+lookaheadStackSize;
+    }
+
+    // The call site of an entry in the parsing stack followed by the lookahead stack
+    private final int callStackEntry(int index) {
+        return index<parsingStackSize?parsingStack[index]:
+        lookaheadStack[index-parsingStackSize];
+    }
+
+    private final void pushOntoLookaheadStack(int callSite) {
+        if (lookaheadStackSize== lookaheadStack.length) {
+            lookaheadStack= Arrays.copyOf(lookaheadStack, lookaheadStackSize*2);
+        }
+        lookaheadStack[lookaheadStackSize++]= callSite;
+    }
+
+    private final void popLookaheadStack() {
+        lookaheadStackSize--;
+    }
+
+    private final boolean tolerantParsing= false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) throws ParseException {
+        boolean forced= false;
+        InvalidToken invalidToken= null;
+        Token oldToken= current_token;
+        current_token= current_token.getNext();
+        if (current_token== null) {
+            current_token= token_source.getNextToken();
+        }
+        if (current_token.getType()!=expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken);
+        }
+        else {
+            this.lastParsedToken= current_token;
+        }
+        if (buildTree&&tokensAreNodes) {
+            if (invalidToken!=null) {
+                pushNode(invalidToken);
+            }
+            pushNode(current_token);
+        }
+        if (trace_enabled) LOGGER.info("Consumed token of type "+current_token.getType()+" from "+current_token.getLocation());
+        return current_token;
+    }
+
+    private void handleUnexpectedTokenType(TokenType expectedType, boolean forced, Token oldToken) throws ParseException {
+        throw new ParseException(current_token, EnumSet.of(expectedType), getCallStack());
+    }
+
+    private class ParseState {
+        Token lastParsed;
+        NodeScope nodeScope;
+        ParseState() {
+            this.lastParsed= JSONParser.this.lastParsedToken;
+            this.nodeScope= (NodeScope) currentNodeScope.clone();
+        }
+
+    }
+    private ArrayList<ParseState> parseStateStack= new ArrayList<> ();
+    void stashParseState() {
+        parseStateStack.add(new ParseState());
+    }
+
+    ParseState popParseState() {
+        return parseStateStack.remove(parseStateStack.size()-1);
+    }
+
+    void restoreStashedParseState() {
+        ParseState state= popParseState();
+        currentNodeScope= state.nodeScope;
+        if (state.lastParsed!=null) {
+            //REVISIT
+            current_token= lastParsedToken= state.lastParsed;
+        }
+    }
+
+    private boolean buildTree= true;
+    private boolean tokensAreNodes= true;
+    private boolean unparsedTokensAreNodes= false;
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes= unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes= tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope= new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        Node root= currentNodeScope.rootNode();
+        recursivelySetInputSource(root, this.token_source.input_stream);
+        return root;
+    }
+
+    static private void recursivelySetInputSource(Node n, FileLineMap fileLineMap) {
+        n.setInputSource(fileLineMap);
+        for (Node child : n.children()) {
+            //            if (child instanceof Token) {
+            //                 ((Token) child).setImage(null);
+            //            } 
+            recursivelySetInputSource(child, fileLineMap);
+        }
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    public void openNodeScope(Node n) {
+        Token start= getToken(1);
+        n.setBeginLine(start.getBeginLine());
+        n.setBeginColumn(start.getBeginColumn());
+        n.setInputSource(token_source.input_stream);
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes= new ArrayList<Node> ();
+        for (int i= 0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                Token token= (Token) child;
+                Token specialToken= token;
+                while (specialToken!=null) {
+                    specialToken= specialToken.getSpecialToken();
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken= specialToken.getNext();
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n, boolean condition) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a= nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes= new ArrayList<Node> ();
+            while (a--> 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                    Token token= (Token) child;
+                    Token specialToken= token;
+                    while (specialToken.getSpecialToken()!=null) {
+                        specialToken= specialToken.getSpecialToken();
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken= specialToken.getNext();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree= buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    JSONParser jjtree= this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node>  {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope= JSONParser.this.currentNodeScope;
+            JSONParser.this.currentNodeScope= this;
+        }
+
+        boolean isRootScope() {
+            return parentScope== null;
+        }
+
+        Node rootNode() {
+            NodeScope ns= this;
+            while (ns.parentScope!=null) {
+                ns= ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        Node pop() {
+            return isEmpty()?parentScope.pop():
+            remove(size()-1);
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            JSONParser.this.currentNodeScope= parentScope;
+        }
+
+        int nestingLevel() {
+            int result= 0;
+            NodeScope parent= this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent= parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Array AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.json.ast;
+
+import com.javacc.json.*;
+@SuppressWarnings("unused")
+public class Array extends BaseNode {
+}
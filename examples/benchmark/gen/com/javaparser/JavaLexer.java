@@ -0,0 +1,2309 @@
+/* Generated by: JavaCC 21 Parser Generator. JavaLexer.java */
+package com.javaparser;
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+@SuppressWarnings("unused")
+public class JavaLexer implements JavaConstants {
+    private static final Logger LOGGER= Logger.getLogger("JavaParser");
+    // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+        input_stream.setInputSource(inputSource);
+    }
+
+    public JavaLexer(String inputSource, CharSequence chars) {
+        this(inputSource, chars, LexicalState.JAVA, 1, 1);
+    }
+
+    public JavaLexer(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+      * Lexes the file by mapping it into memory, see {@link FileLineMap#mapFile(java.nio.file.Path, java.nio.charset.Charset)}
+      */
+    public JavaLexer(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public JavaLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.JAVA, 1, 1);
+    }
+
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated public JavaLexer(Reader reader) {
+        this("input", reader);
+    }
+
+    public JavaLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+    // Tokens from the previous input refer to its FileLineMap, so that one is not recycled.
+    public void reset(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, CharSequence chars) {
+        reset(inputSource, chars, LexicalState.JAVA, 1, 1);
+    }
+
+    public void reset(CharSequence chars) {
+        reset("input", chars);
+    }
+
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.JAVA, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    FileLineMap input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    LexicalState lexicalState= LexicalState.JAVA;
+    boolean doLexicalStateSwitch(int tokenType) {
+        LexicalState newLexState= newLexicalStates[tokenType];
+        if (newLexState!=null) {
+            return switchTo(newLexState);
+        }
+        return false;
+    }
+
+    boolean doLexicalStateSwitch(TokenType tokenType) {
+        return doLexicalStateSwitch(tokenType.ordinal());
+    }
+
+    private static final LexicalState[] newLexicalStates= {null, null, LexicalState.JAVA, LexicalState.IN_SINGLE_LINE_COMMENT, LexicalState.IN_FORMAL_COMMENT, LexicalState.IN_MULTI_LINE_COMMENT, LexicalState.JAVA, LexicalState.JAVA, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, };
+    void addToken(Token token) {
+        input_stream.addToken(token);
+    }
+
+    int tabSize= 8;
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+            this.lexicalState= lexState;
+            return true;
+        }
+        return false;
+    }
+
+    private InvalidToken invalidToken;
+    private Token pendingToken;
+    public Token getNextToken() {
+        if (pendingToken!=null) {
+            Token result= pendingToken;
+            pendingToken= null;
+            return result;
+        }
+        Token tok= null;
+        do {
+            tok= nextToken();
+        }
+        while (tok instanceof InvalidToken);
+        if (invalidToken!=null) {
+            addToken(invalidToken);
+            invalidToken.setNext(tok);
+            Token it= invalidToken;
+            pendingToken= tok;
+            this.invalidToken= null;
+            return it;
+        }
+        addToken(tok);
+        return tok;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t) {
+        input_stream.goTo(t.getEndLine(), t.getEndColumn());
+        input_stream.forward(1);
+    }
+
+    FileLineMap getFileLineMap() {
+        return input_stream;
+    }
+
+    private boolean[] jjbeenHere= new boolean[5];
+    private int jjnewStateCnt;
+    private int jjround;
+    private int jjmatchedPos;
+    //FIXME,should be an enum.
+    private int jjmatchedKind;
+    private String inputSource= "input";
+    // BitSet for TOKEN
+    static private BitSet tokenSet= BitSet.valueOf(new long[]{-511L, 9223372036854774800L, 0L, });
+    // BitSet for SKIP
+    static private BitSet skipSet= BitSet.valueOf(new long[]{198L, 0L, 0L, });
+    // BitSet for SPECIAL
+    static private BitSet specialSet= BitSet.valueOf(new long[]{198L, 0L, 0L, });
+    private final int[] jjrounds= new int[116];
+    private final int[] jjstateSet= new int[232];
+    private final StringBuilder image= new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+        int i;
+        jjround= 0x80000001;
+        for (i= 116; i--> 0; ) jjrounds[i]= 0x80000000;
+    }
+
+    // Clears what is left over from the previous input, when the lexer is reset.
+    // The jjrounds array does not need clearing, since jjround only ever moves on.
+    private void resetState(String inputSource, LexicalState lexState) {
+        this.inputSource= inputSource;
+        invalidToken= null;
+        pendingToken= null;
+        Arrays.fill(jjbeenHere, false);
+        jjmatchedKind= jjmatchedPos= jjnewStateCnt= 0;
+        curChar= 0;
+        image.setLength(0);
+        matchedCharsLength= 0;
+        switchTo(lexState);
+    }
+
+    private Token nextToken() {
+        Token specialToken= null;
+        Token matchedToken;
+        int curPos= 0;
+        EOFLoop:
+        while (true) {
+            int retval1= input_stream.beginToken();
+            curChar= (char)(retval1);
+            if (retval1== -1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind= 0;
+                Token eof= jjFillToken();
+                tokenLexicalActions();
+                eof.setSpecialToken(specialToken);
+                addToken(eof);
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength= 0;
+            while (true) {
+                switch(lexicalState) {
+                    case JAVA:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveStringLiteralDfa0_JAVA();
+                    break;
+                    case IN_MULTI_LINE_COMMENT:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveStringLiteralDfa0_IN_MULTI_LINE_COMMENT();
+                    break;
+                    case IN_SINGLE_LINE_COMMENT:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveStringLiteralDfa0_IN_SINGLE_LINE_COMMENT();
+                    break;
+                    case IN_FORMAL_COMMENT:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveStringLiteralDfa0_IN_FORMAL_COMMENT();
+                    break;
+                    case PHONY:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveStringLiteralDfa0_PHONY();
+                    break;
+                }
+                if (jjmatchedKind!=0x7FFFFFFF) {
+                    if (jjmatchedPos+1<curPos) {
+                        if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                        input_stream.backup(curPos-jjmatchedPos-1);
+                    }
+                    if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                    if (tokenSet.get(jjmatchedKind)) {
+                        matchedToken= jjFillToken();
+                        matchedToken.setSpecialToken(specialToken);
+                        tokenLexicalActions();
+                        jjmatchedKind= matchedToken.getType().ordinal();
+                        if (newLexicalStates[jjmatchedKind]!=null) {
+                            switchTo(newLexicalStates[jjmatchedKind]);
+                        }
+                        addToken(matchedToken);
+                        return matchedToken;
+                    }
+                    else if (skipSet.get(jjmatchedKind)) {
+                        if (specialSet.get(jjmatchedKind)) {
+                            matchedToken= jjFillToken();
+                            matchedToken.setUnparsed(true);
+                            if (specialToken== null) {
+                                specialToken= matchedToken;
+                            }
+                            else {
+                                matchedToken.setSpecialToken(specialToken);
+                                specialToken.setNext(matchedToken);
+                                specialToken= matchedToken;
+                            }
+                            addToken(matchedToken);
+                            tokenLexicalActions();
+                        }
+                        else tokenLexicalActions();
+                        if (newLexicalStates[jjmatchedKind]!=null) {
+                            this.lexicalState= newLexicalStates[jjmatchedKind];
+                        }
+                        continue EOFLoop;
+                    }
+                    tokenLexicalActions();
+                    doLexicalStateSwitch(jjmatchedKind);
+                    curPos= 0;
+                    jjmatchedKind= 0x7FFFFFFF;
+                    int retval= input_stream.readChar();
+                    if (retval>=0) {
+                        curChar= (char) retval;
+                        if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                        continue;
+                    }
+                }
+                int error_line= input_stream.getEndLine();
+                int error_column= input_stream.getEndColumn();
+                String error_after= null;
+                error_after= curPos<=1?"":
+                input_stream.getImage();
+                if (invalidToken== null) {
+                    invalidToken= new InvalidToken(""+curChar, input_stream);
+                    invalidToken.setBeginLine(error_line);
+                    invalidToken.setBeginColumn(error_column);
+                }
+                else {
+                    invalidToken.setImage(invalidToken.getImage()+curChar);
+                }
+                invalidToken.setEndLine(error_line);
+                invalidToken.setEndColumn(error_column);
+                return invalidToken;
+            }
+        }
+    }
+
+    private void tokenLexicalActions() {
+        switch(jjmatchedKind) {
+            case 4:
+            image.append(input_stream.getSuffix(matchedCharsLength+jjmatchedPos+1));
+            input_stream.backup(1);
+            break;
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage= input_stream.getImage();
+        beginLine= input_stream.getBeginLine();
+        beginColumn= input_stream.getBeginColumn();
+        endLine= input_stream.getEndLine();
+        endColumn= input_stream.getEndColumn();
+        t= Token.newToken(TokenType.values()[jjmatchedKind], curTokenImage, this);
+        t.setBeginLine(beginLine);
+        t.setEndLine(endLine);
+        t.setBeginColumn(beginColumn);
+        t.setEndColumn(endColumn);
+        //        t.setInputSource(this.inputSource);
+        t.setLexicalState(lexicalState);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state]!=jjround) {
+            jjstateSet[jjnewStateCnt++]= state;
+            jjrounds[state]= jjround;
+        }
+    }
+
+    private void jjAddStates(int start, int end) {
+        do {
+            jjstateSet[jjnewStateCnt++]= jjnextStates[start];
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start+1]);
+    }
+
+    private int jjStopAtPos(int pos, int kind) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    private int jjStartNfa_JAVA(int pos, long active0, long active1) {
+        return jjMoveNfa_JAVA(jjStopStringLiteralDfa_JAVA(pos, active0, active1), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_JAVA(int pos, long active0, long active1) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0x28L)!=0L||(active1&0x8040000000000L)!=0L) return 3;
+            if ((active0&0x3ffffffffffffe00L)!=0L) {
+                jjmatchedKind= 126;
+                return 35;
+            }
+            if ((active1&0x900000L)!=0L) return 6;
+            return-1;
+            case 1:
+            if ((active0&0x20L)!=0L) return 1;
+            if ((active0&0x3ffffffeff9ffe00L)!=0L) {
+                if (jjmatchedPos!=1) {
+                    jjmatchedKind= 126;
+                    jjmatchedPos= 1;
+                }
+                return 35;
+            }
+            if ((active0&0x100600000L)!=0L) return 35;
+            return-1;
+            case 2:
+            if ((active0&0x3bfffecebfdffe00L)!=0L) {
+                if (jjmatchedPos!=2) {
+                    jjmatchedKind= 126;
+                    jjmatchedPos= 2;
+                }
+                return 35;
+            }
+            if ((active0&0x400013040000000L)!=0L) return 35;
+            return-1;
+            case 3:
+            if ((active0&0x31dffcae3e5e9e00L)!=0L) {
+                jjmatchedKind= 126;
+                jjmatchedPos= 3;
+                return 35;
+            }
+            if ((active0&0xa20024081816000L)!=0L) return 35;
+            return-1;
+            case 4:
+            if ((active0&0x111b7cae02580e00L)!=0L) {
+                if (jjmatchedPos!=4) {
+                    jjmatchedKind= 126;
+                    jjmatchedPos= 4;
+                }
+                return 35;
+            }
+            if ((active0&0x20c480003c069000L)!=0L) return 35;
+            return-1;
+            case 5:
+            if ((active0&0x11121c2a12180a00L)!=0L) {
+                jjmatchedKind= 126;
+                jjmatchedPos= 5;
+                return 35;
+            }
+            if ((active0&0x89608400400400L)!=0L) return 35;
+            return-1;
+            case 6:
+            if ((active0&0x1112102a00080200L)!=0L) {
+                jjmatchedKind= 126;
+                jjmatchedPos= 6;
+                return 35;
+            }
+            if ((active0&0xc0012100800L)!=0L) return 35;
+            return-1;
+            case 7:
+            if ((active0&0x1002000000080200L)!=0L) return 35;
+            if ((active0&0x110102a00000000L)!=0L) {
+                jjmatchedKind= 126;
+                jjmatchedPos= 7;
+                return 35;
+            }
+            return-1;
+            case 8:
+            if ((active0&0x10000a00000000L)!=0L) {
+                jjmatchedKind= 126;
+                jjmatchedPos= 8;
+                return 35;
+            }
+            if ((active0&0x100102000000000L)!=0L) return 35;
+            return-1;
+            case 9:
+            if ((active0&0xa00000000L)!=0L) return 35;
+            if ((active0&0x10000000000000L)!=0L) {
+                jjmatchedKind= 126;
+                jjmatchedPos= 9;
+                return 35;
+            }
+            return-1;
+            case 10:
+            if ((active0&0x10000000000000L)!=0L) {
+                jjmatchedKind= 126;
+                jjmatchedPos= 10;
+                return 35;
+            }
+            return-1;
+            case 11:
+            if ((active0&0x10000000000000L)!=0L) return 35;
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_JAVA(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_JAVA(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_JAVA() {
+        switch(curChar) {
+            case 33:
+            jjmatchedKind= 91;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x400000000L);
+            case 37:
+            jjmatchedKind= 110;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x80000000000000L);
+            case 38:
+            jjmatchedKind= 107;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x10001000000000L);
+            case 40:
+            return jjStopAtPos(0, 76);
+            case 41:
+            return jjStopAtPos(0, 77);
+            case 42:
+            jjmatchedKind= 105;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x4000000000000L);
+            case 43:
+            jjmatchedKind= 103;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x1002000000000L);
+            case 44:
+            return jjStopAtPos(0, 83);
+            case 45:
+            jjmatchedKind= 104;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x802004000000000L);
+            case 46:
+            jjmatchedKind= 84;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x800000L);
+            case 47:
+            jjmatchedKind= 106;
+            return jjMoveStringLiteralDfa1_JAVA(0x28L, 0x8000000000000L);
+            case 58:
+            jjmatchedKind= 94;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x400000L);
+            case 59:
+            return jjStopAtPos(0, 82);
+            case 60:
+            jjmatchedKind= 90;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x100800100000000L);
+            case 61:
+            jjmatchedKind= 85;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x80000000L);
+            case 62:
+            jjmatchedKind= 89;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x600000200000000L);
+            case 63:
+            return jjStopAtPos(0, 93);
+            case 64:
+            return jjStopAtPos(0, 88);
+            case 91:
+            return jjStopAtPos(0, 80);
+            case 93:
+            return jjStopAtPos(0, 81);
+            case 94:
+            jjmatchedKind= 109;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x40000000000000L);
+            case 97:
+            return jjMoveStringLiteralDfa1_JAVA(0x600L, 0x0L);
+            case 98:
+            return jjMoveStringLiteralDfa1_JAVA(0x3800L, 0x0L);
+            case 99:
+            return jjMoveStringLiteralDfa1_JAVA(0xfc000L, 0x0L);
+            case 100:
+            return jjMoveStringLiteralDfa1_JAVA(0x700000L, 0x0L);
+            case 101:
+            return jjMoveStringLiteralDfa1_JAVA(0x3800000L, 0x0L);
+            case 102:
+            return jjMoveStringLiteralDfa1_JAVA(0x7c000000L, 0x0L);
+            case 103:
+            return jjMoveStringLiteralDfa1_JAVA(0x80000000L, 0x0L);
+            case 105:
+            return jjMoveStringLiteralDfa1_JAVA(0x3f00000000L, 0x0L);
+            case 108:
+            return jjMoveStringLiteralDfa1_JAVA(0x4000000000L, 0x0L);
+            case 110:
+            return jjMoveStringLiteralDfa1_JAVA(0x38000000000L, 0x0L);
+            case 112:
+            return jjMoveStringLiteralDfa1_JAVA(0x3c0000000000L, 0x0L);
+            case 114:
+            return jjMoveStringLiteralDfa1_JAVA(0x400000000000L, 0x0L);
+            case 115:
+            return jjMoveStringLiteralDfa1_JAVA(0x1f800000000000L, 0x0L);
+            case 116:
+            return jjMoveStringLiteralDfa1_JAVA(0x7e0000000000000L, 0x0L);
+            case 118:
+            return jjMoveStringLiteralDfa1_JAVA(0x1800000000000000L, 0x0L);
+            case 119:
+            return jjMoveStringLiteralDfa1_JAVA(0x2000000000000000L, 0x0L);
+            case 123:
+            return jjStopAtPos(0, 78);
+            case 124:
+            jjmatchedKind= 108;
+            return jjMoveStringLiteralDfa1_JAVA(0x0L, 0x20000800000000L);
+            case 125:
+            return jjStopAtPos(0, 79);
+            case 126:
+            return jjStopAtPos(0, 92);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_JAVA(4, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_JAVA(long active0, long active1) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(0, active0, active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 38:
+            if ((active1&0x1000000000L)!=0L) return jjStopAtPos(1, 100);
+            break;
+            case 42:
+            if ((active0&0x20L)!=0L) return jjStartNfaWithStates_JAVA(1, 5, 1);
+            break;
+            case 43:
+            if ((active1&0x2000000000L)!=0L) return jjStopAtPos(1, 101);
+            break;
+            case 45:
+            if ((active1&0x4000000000L)!=0L) return jjStopAtPos(1, 102);
+            break;
+            case 46:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x0L, active1, 0x800000L);
+            case 47:
+            if ((active0&0x8L)!=0L) return jjStopAtPos(1, 3);
+            break;
+            case 58:
+            if ((active1&0x400000L)!=0L) return jjStopAtPos(1, 86);
+            break;
+            case 60:
+            if ((active1&0x800000000000L)!=0L) {
+                jjmatchedKind= 111;
+                jjmatchedPos= 1;
+            }
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x0L, active1, 0x100000000000000L);
+            case 61:
+            if ((active1&0x80000000L)!=0L) return jjStopAtPos(1, 95);
+            else if ((active1&0x100000000L)!=0L) return jjStopAtPos(1, 96);
+            else if ((active1&0x200000000L)!=0L) return jjStopAtPos(1, 97);
+            else if ((active1&0x400000000L)!=0L) return jjStopAtPos(1, 98);
+            else if ((active1&0x1000000000000L)!=0L) return jjStopAtPos(1, 112);
+            else if ((active1&0x2000000000000L)!=0L) return jjStopAtPos(1, 113);
+            else if ((active1&0x4000000000000L)!=0L) return jjStopAtPos(1, 114);
+            else if ((active1&0x8000000000000L)!=0L) return jjStopAtPos(1, 115);
+            else if ((active1&0x10000000000000L)!=0L) return jjStopAtPos(1, 116);
+            else if ((active1&0x20000000000000L)!=0L) return jjStopAtPos(1, 117);
+            else if ((active1&0x40000000000000L)!=0L) return jjStopAtPos(1, 118);
+            else if ((active1&0x80000000000000L)!=0L) return jjStopAtPos(1, 119);
+            break;
+            case 62:
+            if ((active1&0x800000000000000L)!=0L) return jjStopAtPos(1, 123);
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x0L, active1, 0x600000000000000L);
+            case 97:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x4800400c000L, active1, 0x0L);
+            case 98:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x200L, active1, 0x0L);
+            case 101:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x410000100000L, active1, 0x0L);
+            case 102:
+            if ((active0&0x100000000L)!=0L) return jjStartNfaWithStates_JAVA(1, 32, 35);
+            break;
+            case 104:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x20e0800000010000L, active1, 0x0L);
+            case 105:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x18000000L, active1, 0x0L);
+            case 108:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x20820000L, active1, 0x0L);
+            case 109:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x600000000L, active1, 0x0L);
+            case 110:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x3801000000L, active1, 0x0L);
+            case 111:
+            if ((active0&0x200000L)!=0L) {
+                jjmatchedKind= 21;
+                jjmatchedPos= 1;
+            }
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x18000040c04c0800L, active1, 0x0L);
+            case 114:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x700180000001000L, active1, 0x0L);
+            case 115:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x400L, active1, 0x0L);
+            case 116:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x3000000000000L, active1, 0x0L);
+            case 117:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x4220000000000L, active1, 0x0L);
+            case 119:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x8000000000000L, active1, 0x0L);
+            case 120:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x2000000L, active1, 0x0L);
+            case 121:
+            return jjMoveStringLiteralDfa2_JAVA(active0, 0x10000000002000L, active1, 0x0L);
+            case 124:
+            if ((active1&0x800000000L)!=0L) return jjStopAtPos(1, 99);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(0, active0, active1);
+    }
+
+    private int jjMoveStringLiteralDfa2_JAVA(long old0, long active0, long old1, long active1) {
+        active0= active0&old0;
+        active1= active1&old1;
+        if ((active0|active1)== 0L) return jjStartNfa_JAVA(0, old0, old1);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(1, active0, active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 46:
+            if ((active1&0x800000L)!=0L) return jjStopAtPos(2, 87);
+            break;
+            case 61:
+            if ((active1&0x100000000000000L)!=0L) return jjStopAtPos(2, 120);
+            else if ((active1&0x200000000000000L)!=0L) return jjStopAtPos(2, 121);
+            break;
+            case 62:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x0L, active1, 0x400000000000000L);
+            case 97:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x101000000030000L, active1, 0x0L);
+            case 98:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x200000000000L, active1, 0x0L);
+            case 99:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x40000000000L, active1, 0x0L);
+            case 101:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x1000L, active1, 0x0L);
+            case 102:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x100000L, active1, 0x0L);
+            case 105:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x2828080000000000L, active1, 0x0L);
+            case 108:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x1000020004000000L, active1, 0x0L);
+            case 110:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x100040180c0000L, active1, 0x0L);
+            case 111:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x900020000800L, active1, 0x0L);
+            case 112:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x4000600000000L, active1, 0x0L);
+            case 114:
+            if ((active0&0x40000000L)!=0L) return jjStartNfaWithStates_JAVA(2, 30, 35);
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0xc2000000000000L, active1, 0x0L);
+            case 115:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x800804600L, active1, 0x0L);
+            case 116:
+            if ((active0&0x1000000000L)!=0L) {
+                jjmatchedKind= 36;
+                jjmatchedPos= 2;
+            }
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x40a08200a000L, active1, 0x0L);
+            case 117:
+            return jjMoveStringLiteralDfa3_JAVA(active0, 0x200000001400000L, active1, 0x0L);
+            case 119:
+            if ((active0&0x10000000000L)!=0L) return jjStartNfaWithStates_JAVA(2, 40, 35);
+            break;
+            case 121:
+            if ((active0&0x400000000000000L)!=0L) return jjStartNfaWithStates_JAVA(2, 58, 35);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(1, active0, active1);
+    }
+
+    private int jjMoveStringLiteralDfa3_JAVA(long old0, long active0, long old1, long active1) {
+        active0= active0&old0;
+        active1= active1&old1;
+        if ((active0|active1)== 0L) return jjStartNfa_JAVA(1, old0, old1);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(2, active0, active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 3;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 61:
+            if ((active1&0x400000000000000L)!=0L) return jjStopAtPos(3, 122);
+            break;
+            case 97:
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x1000000038101000L, active1, 0x0L);
+            case 98:
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x400000L, active1, 0x0L);
+            case 99:
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x10000000008000L, active1, 0x0L);
+            case 100:
+            if ((active0&0x800000000000000L)!=0L) return jjStartNfaWithStates_JAVA(3, 59, 35);
+            break;
+            case 101:
+            if ((active0&0x2000L)!=0L) return jjStartNfaWithStates_JAVA(3, 13, 35);
+            else if ((active0&0x4000L)!=0L) return jjStartNfaWithStates_JAVA(3, 14, 35);
+            else if ((active0&0x800000L)!=0L) return jjStartNfaWithStates_JAVA(3, 23, 35);
+            else if ((active0&0x200000000000000L)!=0L) return jjStartNfaWithStates_JAVA(3, 57, 35);
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x4002002000400L, active1, 0x0L);
+            case 103:
+            if ((active0&0x4000000000L)!=0L) return jjStartNfaWithStates_JAVA(3, 38, 35);
+            break;
+            case 105:
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x2008000000000L, active1, 0x0L);
+            case 107:
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x40000000000L, active1, 0x0L);
+            case 108:
+            if ((active0&0x20000000000L)!=0L) return jjStartNfaWithStates_JAVA(3, 41, 35);
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x2000200200000800L, active1, 0x0L);
+            case 109:
+            if ((active0&0x1000000L)!=0L) return jjStartNfaWithStates_JAVA(3, 24, 35);
+            break;
+            case 110:
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x100000000000000L, active1, 0x0L);
+            case 111:
+            if ((active0&0x80000000L)!=0L) return jjStartNfaWithStates_JAVA(3, 31, 35);
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0xc0000400000000L, active1, 0x0L);
+            case 114:
+            if ((active0&0x10000L)!=0L) return jjStartNfaWithStates_JAVA(3, 16, 35);
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x800000000000L, active1, 0x0L);
+            case 115:
+            if ((active0&0x20000000000000L)!=0L) return jjStartNfaWithStates_JAVA(3, 53, 35);
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x4060000L, active1, 0x0L);
+            case 116:
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x9100800080200L, active1, 0x0L);
+            case 117:
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x400000000000L, active1, 0x0L);
+            case 118:
+            return jjMoveStringLiteralDfa4_JAVA(active0, 0x80000000000L, active1, 0x0L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(2, active0, active1);
+    }
+
+    private int jjMoveStringLiteralDfa4_JAVA(long old0, long active0, long old1, long active1) {
+        active0= active0&old0;
+        active1= active1&old1;
+        if ((active0|active1)== 0L) return jjStartNfa_JAVA(2, old0, old1);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(3, active0, 0L);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 4;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0xc0800000000L);
+            case 99:
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0xa000000000000L);
+            case 101:
+            if ((active0&0x4000000L)!=0L) return jjStartNfaWithStates_JAVA(4, 26, 35);
+            else if ((active0&0x2000000000000000L)!=0L) return jjStartNfaWithStates_JAVA(4, 61, 35);
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x100200000800L);
+            case 104:
+            if ((active0&0x8000L)!=0L) return jjStartNfaWithStates_JAVA(4, 15, 35);
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x10000000000000L);
+            case 105:
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x1200000080000L);
+            case 107:
+            if ((active0&0x1000L)!=0L) return jjStartNfaWithStates_JAVA(4, 12, 35);
+            break;
+            case 108:
+            if ((active0&0x8000000L)!=0L) {
+                jjmatchedKind= 27;
+                jjmatchedPos= 4;
+            }
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x10400000L);
+            case 110:
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x2000000L);
+            case 114:
+            if ((active0&0x4000000000000L)!=0L) return jjStartNfaWithStates_JAVA(4, 50, 35);
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x402400000600L);
+            case 115:
+            if ((active0&0x20000L)!=0L) return jjStartNfaWithStates_JAVA(4, 17, 35);
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x100000000000000L);
+            case 116:
+            if ((active0&0x40000L)!=0L) return jjStartNfaWithStates_JAVA(4, 18, 35);
+            else if ((active0&0x20000000L)!=0L) return jjStartNfaWithStates_JAVA(4, 29, 35);
+            else if ((active0&0x800000000000L)!=0L) return jjStartNfaWithStates_JAVA(4, 47, 35);
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x1000000000000000L);
+            case 117:
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x100000L);
+            case 118:
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x8000000000L);
+            case 119:
+            if ((active0&0x40000000000000L)!=0L) {
+                jjmatchedKind= 54;
+                jjmatchedPos= 4;
+            }
+            return jjMoveStringLiteralDfa5_JAVA(active0, 0x80000000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(3, active0, 0L);
+    }
+
+    private int jjMoveStringLiteralDfa5_JAVA(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JAVA(3, old0, 0L);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(4, active0, 0L);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 5;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0xa00L);
+            case 99:
+            if ((active0&0x200000000000L)!=0L) return jjStartNfaWithStates_JAVA(5, 45, 35);
+            else if ((active0&0x1000000000000L)!=0L) return jjStartNfaWithStates_JAVA(5, 48, 35);
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0x100000000000L);
+            case 100:
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0x2000000L);
+            case 101:
+            if ((active0&0x400000L)!=0L) return jjStartNfaWithStates_JAVA(5, 22, 35);
+            else if ((active0&0x8000000000L)!=0L) return jjStartNfaWithStates_JAVA(5, 39, 35);
+            break;
+            case 102:
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0x2000000000L);
+            case 103:
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0x40000000000L);
+            case 104:
+            if ((active0&0x8000000000000L)!=0L) return jjStartNfaWithStates_JAVA(5, 51, 35);
+            break;
+            case 105:
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0x1100000000000000L);
+            case 108:
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0x10100000L);
+            case 109:
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0x200000000L);
+            case 110:
+            if ((active0&0x400000000000L)!=0L) return jjStartNfaWithStates_JAVA(5, 46, 35);
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0x800080000L);
+            case 114:
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0x10000000000000L);
+            case 115:
+            if ((active0&0x80000000000000L)!=0L) return jjStartNfaWithStates_JAVA(5, 55, 35);
+            break;
+            case 116:
+            if ((active0&0x400L)!=0L) return jjStartNfaWithStates_JAVA(5, 10, 35);
+            else if ((active0&0x400000000L)!=0L) return jjStartNfaWithStates_JAVA(5, 34, 35);
+            return jjMoveStringLiteralDfa6_JAVA(active0, 0x2080000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(4, active0, 0L);
+    }
+
+    private int jjMoveStringLiteralDfa6_JAVA(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JAVA(4, old0, 0L);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(5, active0, 0L);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 6;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa7_JAVA(active0, 0x2000000000L);
+            case 99:
+            return jjMoveStringLiteralDfa7_JAVA(active0, 0x800000200L);
+            case 101:
+            if ((active0&0x40000000000L)!=0L) return jjStartNfaWithStates_JAVA(6, 42, 35);
+            else if ((active0&0x80000000000L)!=0L) return jjStartNfaWithStates_JAVA(6, 43, 35);
+            return jjMoveStringLiteralDfa7_JAVA(active0, 0x100000200000000L);
+            case 102:
+            return jjMoveStringLiteralDfa7_JAVA(active0, 0x2000000000000L);
+            case 108:
+            return jjMoveStringLiteralDfa7_JAVA(active0, 0x1000000000000000L);
+            case 110:
+            if ((active0&0x800L)!=0L) return jjStartNfaWithStates_JAVA(6, 11, 35);
+            break;
+            case 111:
+            return jjMoveStringLiteralDfa7_JAVA(active0, 0x10000000000000L);
+            case 115:
+            if ((active0&0x2000000L)!=0L) return jjStartNfaWithStates_JAVA(6, 25, 35);
+            break;
+            case 116:
+            if ((active0&0x100000L)!=0L) return jjStartNfaWithStates_JAVA(6, 20, 35);
+            return jjMoveStringLiteralDfa7_JAVA(active0, 0x100000000000L);
+            case 117:
+            return jjMoveStringLiteralDfa7_JAVA(active0, 0x80000L);
+            case 121:
+            if ((active0&0x10000000L)!=0L) return jjStartNfaWithStates_JAVA(6, 28, 35);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(5, active0, 0L);
+    }
+
+    private int jjMoveStringLiteralDfa7_JAVA(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JAVA(5, old0, 0L);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(6, active0, 0L);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 7;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 99:
+            return jjMoveStringLiteralDfa8_JAVA(active0, 0x2000000000L);
+            case 101:
+            if ((active0&0x80000L)!=0L) return jjStartNfaWithStates_JAVA(7, 19, 35);
+            else if ((active0&0x1000000000000000L)!=0L) return jjStartNfaWithStates_JAVA(7, 60, 35);
+            return jjMoveStringLiteralDfa8_JAVA(active0, 0x100800000000L);
+            case 110:
+            return jjMoveStringLiteralDfa8_JAVA(active0, 0x110000200000000L);
+            case 112:
+            if ((active0&0x2000000000000L)!=0L) return jjStartNfaWithStates_JAVA(7, 49, 35);
+            break;
+            case 116:
+            if ((active0&0x200L)!=0L) return jjStartNfaWithStates_JAVA(7, 9, 35);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(6, active0, 0L);
+    }
+
+    private int jjMoveStringLiteralDfa8_JAVA(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JAVA(6, old0, 0L);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(7, active0, 0L);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 8;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 100:
+            if ((active0&0x100000000000L)!=0L) return jjStartNfaWithStates_JAVA(8, 44, 35);
+            break;
+            case 101:
+            if ((active0&0x2000000000L)!=0L) return jjStartNfaWithStates_JAVA(8, 37, 35);
+            break;
+            case 105:
+            return jjMoveStringLiteralDfa9_JAVA(active0, 0x10000000000000L);
+            case 111:
+            return jjMoveStringLiteralDfa9_JAVA(active0, 0x800000000L);
+            case 116:
+            if ((active0&0x100000000000000L)!=0L) return jjStartNfaWithStates_JAVA(8, 56, 35);
+            return jjMoveStringLiteralDfa9_JAVA(active0, 0x200000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(7, active0, 0L);
+    }
+
+    private int jjMoveStringLiteralDfa9_JAVA(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JAVA(7, old0, 0L);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(8, active0, 0L);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 9;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 102:
+            if ((active0&0x800000000L)!=0L) return jjStartNfaWithStates_JAVA(9, 35, 35);
+            break;
+            case 115:
+            if ((active0&0x200000000L)!=0L) return jjStartNfaWithStates_JAVA(9, 33, 35);
+            break;
+            case 122:
+            return jjMoveStringLiteralDfa10_JAVA(active0, 0x10000000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(8, active0, 0L);
+    }
+
+    private int jjMoveStringLiteralDfa10_JAVA(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JAVA(8, old0, 0L);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(9, active0, 0L);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 10;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            return jjMoveStringLiteralDfa11_JAVA(active0, 0x10000000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(9, active0, 0L);
+    }
+
+    private int jjMoveStringLiteralDfa11_JAVA(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JAVA(9, old0, 0L);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JAVA(10, active0, 0L);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 11;
+        }
+        if (trace_enabled) LOGGER.info(""+"<JAVA>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 100:
+            if ((active0&0x10000000000000L)!=0L) return jjStartNfaWithStates_JAVA(11, 52, 35);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JAVA(10, active0, 0L);
+    }
+
+    private int jjMoveNfa_JAVA(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 116;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 4:
+                        if ((0x3ff000000000000L&l)!=0L) {
+                            if (kind> 63) kind= 63;
+                            jjAddStates(0, 14);
+                        }
+                        else if ((0x100003600L&l)!=0L) {
+                            if (kind> 1) kind= 1;
+                            jjCheckNAdd(0);
+                        }
+                        else if (curChar== 36) {
+                            if (kind> 126) kind= 126;
+                            jjCheckNAdd(35);
+                        }
+                        else if (curChar== 34) jjCheckNAddStates(15, 17);
+                        else if (curChar== 39) jjAddStates(18, 19);
+                        else if (curChar== 46) jjstateSet[jjnewStateCnt++]= 6;
+                        else if (curChar== 47) jjstateSet[jjnewStateCnt++]= 3;
+                        if (curChar== 48) jjAddStates(20, 27);
+                        break;
+                        case 0:
+                        if ((0x100003600L&l)== 0L) break;
+                        if (kind> 1) kind= 1;
+                        jjCheckNAdd(0);
+                        break;
+                        case 1:
+                        if (curChar== 42) jjstateSet[jjnewStateCnt++]= 2;
+                        break;
+                        case 2:
+                        if ((0xffff7fffffffffffL&l)!=0L&&kind> 4) kind= 4;
+                        break;
+                        case 3:
+                        if (curChar== 42) jjstateSet[jjnewStateCnt++]= 1;
+                        break;
+                        case 5:
+                        if (curChar== 46) jjCheckNAdd(6);
+                        break;
+                        case 6:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(28, 31);
+                        break;
+                        case 7:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(7, 8);
+                        break;
+                        case 8:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(32, 33);
+                        break;
+                        case 10:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 11;
+                        break;
+                        case 11:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(34, 36);
+                        break;
+                        case 12:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(12, 13);
+                        break;
+                        case 13:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(37, 38);
+                        break;
+                        case 15:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjCheckNAddStates(39, 42);
+                        break;
+                        case 16:
+                        if (curChar== 39) jjCheckNAddTwoStates(17, 24);
+                        break;
+                        case 18:
+                        if ((0xff000000000000L&l)!=0L) jjCheckNAddTwoStates(19, 20);
+                        break;
+                        case 19:
+                        if ((0xff000000000000L&l)!=0L) jjCheckNAdd(20);
+                        break;
+                        case 20:
+                        if (curChar== 39&&kind> 74) kind= 74;
+                        break;
+                        case 21:
+                        if ((0xf000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 22;
+                        break;
+                        case 22:
+                        if ((0xff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 19;
+                        break;
+                        case 23:
+                        if ((0x8400000000L&l)!=0L) jjCheckNAdd(20);
+                        break;
+                        case 24:
+                        if ((0xffffff7fffffdbffL&l)!=0L) jjstateSet[jjnewStateCnt++]= 20;
+                        break;
+                        case 25:
+                        if (curChar== 34) jjCheckNAddStates(15, 17);
+                        break;
+                        case 27:
+                        if ((0xff000000000000L&l)!=0L) jjCheckNAddStates(43, 46);
+                        break;
+                        case 28:
+                        if ((0xff000000000000L&l)!=0L) jjCheckNAddStates(15, 17);
+                        break;
+                        case 29:
+                        if ((0xfffffffbffffdbffL&l)!=0L) jjCheckNAddStates(15, 17);
+                        break;
+                        case 30:
+                        if (curChar== 34&&kind> 75) kind= 75;
+                        break;
+                        case 31:
+                        if ((0xf000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 32;
+                        break;
+                        case 32:
+                        if ((0xff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 28;
+                        break;
+                        case 33:
+                        if ((0x8400000000L&l)!=0L) jjCheckNAddStates(15, 17);
+                        break;
+                        case 34:
+                        if (curChar!=36) break;
+                        if (kind> 126) kind= 126;
+                        jjCheckNAdd(35);
+                        break;
+                        case 35:
+                        if ((0x3ff00100fffc1ffL&l)== 0L) break;
+                        if (kind> 126) kind= 126;
+                        jjCheckNAdd(35);
+                        break;
+                        case 36:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 63) kind= 63;
+                        jjCheckNAddStates(0, 14);
+                        break;
+                        case 37:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(37, 38);
+                        break;
+                        case 38:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 39;
+                        break;
+                        case 40:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(40, 41);
+                        break;
+                        case 41:
+                        if ((0x3ff000000000000L&l)!=0L&&kind> 63) kind= 63;
+                        break;
+                        case 42:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(42, 43);
+                        break;
+                        case 43:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 44;
+                        break;
+                        case 44:
+                        if (curChar!=46) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(47, 49);
+                        break;
+                        case 45:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(50, 53);
+                        break;
+                        case 46:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(46, 47);
+                        break;
+                        case 47:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(54, 55);
+                        break;
+                        case 49:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 50;
+                        break;
+                        case 50:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(56, 58);
+                        break;
+                        case 51:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(51, 52);
+                        break;
+                        case 52:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(59, 60);
+                        break;
+                        case 53:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjCheckNAddStates(61, 64);
+                        break;
+                        case 54:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(54, 55);
+                        break;
+                        case 55:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 56;
+                        break;
+                        case 57:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 58;
+                        break;
+                        case 58:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(65, 67);
+                        break;
+                        case 59:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(59, 60);
+                        break;
+                        case 60:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(68, 69);
+                        break;
+                        case 61:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjCheckNAddStates(70, 73);
+                        break;
+                        case 62:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(62, 63);
+                        break;
+                        case 63:
+                        if ((0x3ff000000000000L&l)!=0L) jjAddStates(74, 75);
+                        break;
+                        case 65:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 66;
+                        break;
+                        case 66:
+                        if ((0x3ff000000000000L&l)!=0L) jjAddStates(76, 78);
+                        break;
+                        case 67:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(67, 68);
+                        break;
+                        case 68:
+                        if ((0x3ff000000000000L&l)!=0L) jjAddStates(79, 80);
+                        break;
+                        case 69:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddStates(81, 84);
+                        break;
+                        case 70:
+                        if (curChar== 48) jjCheckNAddStates(20, 27);
+                        break;
+                        case 72:
+                        if ((0x3ff000000000000L&l)!=0L) jjAddStates(85, 87);
+                        break;
+                        case 73:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(73, 74);
+                        break;
+                        case 74:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 39;
+                        break;
+                        case 75:
+                        if ((0xff000000000000L&l)!=0L) jjAddStates(88, 90);
+                        break;
+                        case 76:
+                        if ((0xff000000000000L&l)!=0L) jjCheckNAddTwoStates(76, 77);
+                        break;
+                        case 77:
+                        if ((0xff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 39;
+                        break;
+                        case 79:
+                        if ((0x3000000000000L&l)!=0L) jjAddStates(91, 93);
+                        break;
+                        case 80:
+                        if ((0x3000000000000L&l)!=0L) jjCheckNAddTwoStates(80, 81);
+                        break;
+                        case 81:
+                        if ((0x3000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 39;
+                        break;
+                        case 83:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 63) kind= 63;
+                        jjAddStates(94, 95);
+                        break;
+                        case 84:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(84, 85);
+                        break;
+                        case 85:
+                        if ((0x3ff000000000000L&l)!=0L&&kind> 63) kind= 63;
+                        break;
+                        case 86:
+                        if ((0xff000000000000L&l)== 0L) break;
+                        if (kind> 63) kind= 63;
+                        jjAddStates(96, 97);
+                        break;
+                        case 87:
+                        if ((0xff000000000000L&l)!=0L) jjCheckNAddTwoStates(87, 88);
+                        break;
+                        case 88:
+                        if ((0xff000000000000L&l)!=0L&&kind> 63) kind= 63;
+                        break;
+                        case 90:
+                        if ((0x3000000000000L&l)== 0L) break;
+                        if (kind> 63) kind= 63;
+                        jjAddStates(98, 99);
+                        break;
+                        case 91:
+                        if ((0x3000000000000L&l)!=0L) jjCheckNAddTwoStates(91, 92);
+                        break;
+                        case 92:
+                        if ((0x3000000000000L&l)!=0L&&kind> 63) kind= 63;
+                        break;
+                        case 94:
+                        if ((0x3ff000000000000L&l)!=0L) jjAddStates(100, 103);
+                        break;
+                        case 95:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(95, 96);
+                        break;
+                        case 96:
+                        if ((0x3ff000000000000L&l)!=0L) jjAddStates(104, 105);
+                        break;
+                        case 97:
+                        if (curChar== 46) jjstateSet[jjnewStateCnt++]= 98;
+                        break;
+                        case 99:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 100;
+                        break;
+                        case 100:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(106, 108);
+                        break;
+                        case 101:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(101, 102);
+                        break;
+                        case 102:
+                        case 115:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjstateSet[jjnewStateCnt++]= 14;
+                        break;
+                        case 104:
+                        if ((0x3ff000000000000L&l)!=0L) jjAddStates(109, 111);
+                        break;
+                        case 105:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(105, 106);
+                        break;
+                        case 106:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 107;
+                        break;
+                        case 107:
+                        if (curChar== 46) jjstateSet[jjnewStateCnt++]= 108;
+                        break;
+                        case 108:
+                        if ((0x3ff000000000000L&l)!=0L) jjAddStates(112, 114);
+                        break;
+                        case 109:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(109, 110);
+                        break;
+                        case 110:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 111;
+                        break;
+                        case 112:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 113;
+                        break;
+                        case 113:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjAddStates(115, 117);
+                        break;
+                        case 114:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(114, 115);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 4:
+                        if ((0x7fffffe87fffffeL&l)== 0L) break;
+                        if (kind> 126) kind= 126;
+                        jjCheckNAdd(35);
+                        break;
+                        case 2:
+                        if (kind> 4) kind= 4;
+                        break;
+                        case 7:
+                        if (curChar== 95) jjCheckNAddTwoStates(7, 8);
+                        break;
+                        case 9:
+                        if ((0x2000000020L&l)!=0L) jjAddStates(118, 119);
+                        break;
+                        case 12:
+                        if (curChar== 95) jjCheckNAddTwoStates(12, 13);
+                        break;
+                        case 14:
+                        if ((0x5000000050L&l)!=0L&&kind> 68) kind= 68;
+                        break;
+                        case 17:
+                        if (curChar== 92) jjAddStates(120, 122);
+                        break;
+                        case 23:
+                        if ((0x14404410000000L&l)!=0L) jjCheckNAdd(20);
+                        break;
+                        case 24:
+                        if ((0xffffffffefffffffL&l)!=0L) jjstateSet[jjnewStateCnt++]= 20;
+                        break;
+                        case 26:
+                        if (curChar== 92) jjAddStates(123, 125);
+                        break;
+                        case 29:
+                        if ((0xffffffffefffffffL&l)!=0L) jjCheckNAddStates(15, 17);
+                        break;
+                        case 33:
+                        if ((0x14404410000000L&l)!=0L) jjCheckNAddStates(15, 17);
+                        break;
+                        case 35:
+                        if ((0x87fffffe87fffffeL&l)== 0L) break;
+                        if (kind> 126) kind= 126;
+                        jjCheckNAdd(35);
+                        break;
+                        case 37:
+                        if (curChar== 95) jjCheckNAddTwoStates(37, 38);
+                        break;
+                        case 39:
+                        if ((0x100000001000L&l)!=0L&&kind> 62) kind= 62;
+                        break;
+                        case 40:
+                        if (curChar== 95) jjCheckNAddTwoStates(40, 41);
+                        break;
+                        case 42:
+                        if (curChar== 95) jjCheckNAddTwoStates(42, 43);
+                        break;
+                        case 46:
+                        if (curChar== 95) jjCheckNAddTwoStates(46, 47);
+                        break;
+                        case 48:
+                        if ((0x2000000020L&l)!=0L) jjAddStates(126, 127);
+                        break;
+                        case 51:
+                        if (curChar== 95) jjCheckNAddTwoStates(51, 52);
+                        break;
+                        case 54:
+                        if (curChar== 95) jjCheckNAddTwoStates(54, 55);
+                        break;
+                        case 56:
+                        if ((0x2000000020L&l)!=0L) jjAddStates(128, 129);
+                        break;
+                        case 59:
+                        if (curChar== 95) jjCheckNAddTwoStates(59, 60);
+                        break;
+                        case 62:
+                        if (curChar== 95) jjCheckNAddTwoStates(62, 63);
+                        break;
+                        case 64:
+                        if ((0x2000000020L&l)!=0L) jjAddStates(130, 131);
+                        break;
+                        case 67:
+                        if (curChar== 95) jjCheckNAddTwoStates(67, 68);
+                        break;
+                        case 71:
+                        if ((0x100000001000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 72;
+                        break;
+                        case 72:
+                        if ((0x7e0000007eL&l)!=0L) jjAddStates(85, 87);
+                        break;
+                        case 73:
+                        if ((0x7e8000007eL&l)!=0L) jjCheckNAddTwoStates(73, 74);
+                        break;
+                        case 74:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 39;
+                        break;
+                        case 76:
+                        if (curChar== 95) jjCheckNAddTwoStates(76, 77);
+                        break;
+                        case 78:
+                        if ((0x400000004L&l)!=0L) jjstateSet[jjnewStateCnt++]= 79;
+                        break;
+                        case 80:
+                        if (curChar== 95) jjCheckNAddTwoStates(80, 81);
+                        break;
+                        case 82:
+                        if ((0x100000001000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 83;
+                        break;
+                        case 83:
+                        if ((0x7e0000007eL&l)== 0L) break;
+                        if (kind> 63) kind= 63;
+                        jjAddStates(94, 95);
+                        break;
+                        case 84:
+                        if ((0x7e8000007eL&l)!=0L) jjCheckNAddTwoStates(84, 85);
+                        break;
+                        case 85:
+                        if ((0x7e0000007eL&l)!=0L&&kind> 63) kind= 63;
+                        break;
+                        case 87:
+                        if (curChar== 95) jjCheckNAddTwoStates(87, 88);
+                        break;
+                        case 89:
+                        if ((0x400000004L&l)!=0L) jjstateSet[jjnewStateCnt++]= 90;
+                        break;
+                        case 91:
+                        if (curChar== 95) jjCheckNAddTwoStates(91, 92);
+                        break;
+                        case 93:
+                        if ((0x100000001000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 94;
+                        break;
+                        case 94:
+                        if ((0x7e0000007eL&l)!=0L) jjAddStates(100, 103);
+                        break;
+                        case 95:
+                        if ((0x7e8000007eL&l)!=0L) jjCheckNAddTwoStates(95, 96);
+                        break;
+                        case 96:
+                        if ((0x7e0000007eL&l)!=0L) jjAddStates(104, 105);
+                        break;
+                        case 98:
+                        if ((0x1000000010000L&l)!=0L) jjAddStates(132, 133);
+                        break;
+                        case 101:
+                        if (curChar== 95) jjCheckNAddTwoStates(101, 102);
+                        break;
+                        case 103:
+                        if ((0x100000001000000L&l)!=0L) jjAddStates(134, 135);
+                        break;
+                        case 104:
+                        if ((0x7e0000007eL&l)!=0L) jjAddStates(109, 111);
+                        break;
+                        case 105:
+                        if ((0x7e8000007eL&l)!=0L) jjCheckNAddTwoStates(105, 106);
+                        break;
+                        case 106:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 107;
+                        break;
+                        case 108:
+                        if ((0x7e0000007eL&l)!=0L) jjAddStates(112, 114);
+                        break;
+                        case 109:
+                        if ((0x7e8000007eL&l)!=0L) jjCheckNAddTwoStates(109, 110);
+                        break;
+                        case 110:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 111;
+                        break;
+                        case 111:
+                        if ((0x1000000010000L&l)!=0L) jjAddStates(136, 137);
+                        break;
+                        case 114:
+                        if (curChar== 95) jjCheckNAddTwoStates(114, 115);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_JAVA[jjCharClassOffsets_JAVA[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 4:
+                        if ((0x8L&l)== 0L) break;
+                        if (kind> 126) kind= 126;
+                        jjCheckNAdd(35);
+                        break;
+                        case 2:
+                        if ((0xeL&l)!=0L&&kind> 4) kind= 4;
+                        break;
+                        case 24:
+                        if ((0xeL&l)!=0L) jjstateSet[jjnewStateCnt++]= 20;
+                        break;
+                        case 29:
+                        if ((0xeL&l)!=0L) jjCheckNAddStates(15, 17);
+                        break;
+                        case 35:
+                        if ((0xaL&l)== 0L) break;
+                        if (kind> 126) kind= 126;
+                        jjCheckNAdd(35);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 116-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_JAVA= jjUnpack(256, "\001\001\001A\004\001A\010\001A\014\001A\020\001A\024\001A\030\001A\034\001A \001A$\001A(\001A,\001A0\001A4\001A8\001A<\001A@\001\001AD\001\001AH\001\001AL\001\001AP\001\001A\004\001AT\001\001AX\001\001A\134\001\005A \001A`\001\001Ad\001\001Ah\001\001Al\001\016A \001Ap\001\001At\001\002A \031A\004\001Ax\001Q\001A\004\001A|\001\004A\004\001A@\002\007A +A\004\001AD\002!A \001A\004\001AH\002\001AL\002\001A\004\001AP\002\001AT\002\001AX\002");
+    private static final int[] jjCharClasses_JAVA= jjUnpack(9984, "@\002\001 \002\002\003\004\004\004\003\001\004\012\003\001\004\004\003\001\004\005\003\027\004\001\003\037\004\001\003h\004\004\002\003\022\004\034\003^\001\004\002\003\011\004\002\003\007\004\016\003\002\004\016\003\005\004\011\003\001\004\021\003O\001\002\021\003\003\002\027\003\001\004\013\003\001\004\001\003\003\004\001\003\001\004\001\003\024\004\001\003,\004\001\003\010\004\002\003\032\004\014\003B\002\004\001\003\004\002\005\0039\004\002\003\002\004\002\003\002\004\003\003&\004\002\003\002\0047\003&\004\002\003\001\004\007\003'\004\011\003\021\002\001\003\027\002\001\003\003\002\001\003\001\002\001\003\002\002\001\003\001\002\013\003\033\004\005\003\003\004.\003\032\004\005\003\013\004\013\002\012\003\012\002\006\003\001\002c\001\004\001\003\001\004\007\002\002\003\006\002\002\004\002\002\001\003\004\002\002\003\012\002\003\004\022\003\001\002\001\004\001\002\033\004\003\003\033\0025\003&\004\013\002P\005\003\003\002\001\0035\004\002\003\001\002\001\004\020\002\002\003\001\004\004\002\003\003\012\004\002\002\002\003\012\002\021\003\003\002\001\003\010\004\002\003\002\004\002\003\026\004\001\003\007\004\001\003\001\004\003\003\004\004\002\003\001\002\001\003\007\002\002\003\002\002\002\003\003\002\011\003\001\002\004\003\002\004\001\003\003\004\002\002\002\003\012\002\004\004\016\003\001\002\002\003\006\004\004\003\002\004\002\003\026\004\001\003\007\004\001\003\002\004\001\003\002\004\001\003\002\004\002\003\001\002\001\003\005\002\004\003\002\002\002\003\003\002\013\003\004\004\001\003\001\004\007\003\014\002\003\004\014\003\003\002\001\003\007\004\001\003\001\004\001\003\003\004\001\003\026\004\001\003\007\004\001\003\002\004\001\003\005\004\002\003\001\002\001\004\010\002\001\003\003\002\001\003\003\002\002\003\001\004\017\003\001\004\005\003\012\002\021\003\003\002\001\003\010\004\002\003\002\004\002\003\026\004\001\003\007\004\001\003\002\004\002\003\004\004\002\003\001\002\001\004\006\002\003\003\002\002\002\003\003\002\010\003\002\002\004\003\002\004\001\003\003\004\004\003\012\002\022\003\002\002\001\003\006\004\003\003\003\004\001\003\004\004\003\003\002\004\001\003\001\004\001\003\002\004\003\003\002\004\003\003\003\004\003\003\010\004\001\003\003\004\004\003\005\002\003\003\003\002\001\003\004\002\011\003\001\002\017\003\011\002\021\003\003\002\001\003\010\004\001\003\003\004\001\003\027\004\001\003\012\004\001\003\005\004\004\003\007\002\001\003\003\002\001\003\004\002\007\003\002\002\011\003\002\004\004\003\012\002\022\003\002\002\001\003\010\004\001\003\003\004\001\003\027\004\001\003\012\004\001\003\005\004\004\003\007\002\001\003\003\002\001\003\004\002\007\003\002\002\007\003\001\004\001\003\002\004\004\003\012\002\022\003\002\002\001\003\010\004\001\003\003\004\001\003\027\004\001\003\020\004\004\003\006\002\002\003\003\002\001\003\004\002\011\003\001\002\010\003\002\004\004\003\012\002\022\003\002\002\001\003\022\004\003\003\030\004\001\003\011\004\001\003\001\004\002\003\007\004\003\003\001\002\004\003\006\002\001\003\001\002\001\003\010\002\022\003\002\002\015\0030\004\001\002\002\004\007\002\004\003\010\004\010\002\001\003\012\002'\003\002\004\001\003\001\004\002\003\002\004\001\003\001\004\002\003\001\004\006\003\004\004\001\003\007\004\001\003\003\004\001\003\001\004\001\003\001\004\002\003\002\004\001\003\004\004\001\002\002\004\006\002\001\003\002\002\001\004\002\003\005\004\001\003\001\004\001\003\006\002\002\003\012\002\002\003\002\004\042\003\001\004\027\003\002\002\006\003\012\002\013\003\001\002\001\003\001\002\001\003\001\002\004\003\002\002\010\004\001\003\042\004\006\003\024\002\001\003\002\002\004\004\004\003\010\002\001\003$\002\011\003\001\0029\003\042\004\001\003\005\004\001\003\002\004\001\003\007\002\003\003\004\002\006\003\012\002\006\003\006\004\004\002F\001\003&\004\012\003'\004\011\003Z\001\004\005\003D\001\004\005\003R\001\004\006\003\007\004\001\003?\004\001\003\001\004\001\003\004\004\002\003\007\004\001\003\001\004\001\003\004\004\002\003'\004\001\003\001\004\001\003\004\004\002\003\037\004\001\003\001\004\001\003\004\004\002\003\007\004\001\003\001\004\001\003\004\004\002\003\007\004\001\003\007\004\001\003\027\004\001\003\037\004\001\003\001\004\001\003\004\004\002\003\007\004\001\003'\004\001\003\023\004\016\003\011\002.\003U\001\004\014\003l\005\004\002\003\010\004\012\003\032\004\005\003K\001\004U\002\0034\004 \002\007\003\001\004\004\003\012\002!\003\004\002\001\003\012\002\006\003X\001\004\010\003)\004\001\002V\001\003\134\002\004\004\003Z\001\004\006\003\026\004\002\003\006\004\002\003&\004\002\003\006\004\002\003\010\004\001\003\001\004\001\003\001\004\001\003\001\004\001\003\037\004\002\0035\004\001\003\007\004\001\003\001\004\003\003\003\004\001\003\007\004\003\003\004\004\002\003\006\004\004\003\015\004\005\003\003\004\001\003\007\004\017\003\004\002\032\003\005\002\020\003\002\004)\003\006\002\017\003\001\004 \003\020\004 \003\015\002\004\003\001\002 \003\001\004\004\003\001\004\002\003\012\004\001\003\001\004\003\003\005\004\006\003\001\004\001\003\001\004\001\003\001\004\001\003\004\004\001\003\003\004\001\003\007\004&\003$\004A\002\003\003\004\031\003\011\004\006\002\001\003\005\004\002\003\003\004\006\003T\001\004\004\003\002\002\002\003\002\004\002\003^\001\004\006\003(\004\004\003^\001\004\021\003\030\004H\001\003v\002\004J\001\003f\002\004Z\001\003M\002\004s\001\003d\002\004\134\001\003.\004R\003\003\007\004\014\003\005\004\005\003\001\004\001\002\012\004\001\003\015\004\001\003\005\004\001\003\001\004\001\003\002\004\001\003\002\004\001\003l\001\004!\003k\001\004\022\003@\001\004\002\0036\004(\003\014\004$\003\004\002\017\003\002\004\030\003\003\004\031\003\001\004\006\003\003\004\001\003\001\004\001\003G\002\004\002\003\001\002\004\003\001\004\013\003\012\002\007\003\032\004\004\003\001\004\001\003\032\004\012\003Z\001\004\003\003\006\004\002\003\006\004\002\003\006\004\002\003\003\004\003\003\002\004\003\003\002\004\022\003\003\002\004\003");
+    private int jjStartNfa_IN_MULTI_LINE_COMMENT(int pos, long active0) {
+        return jjMoveNfa_IN_MULTI_LINE_COMMENT(jjStopStringLiteralDfa_IN_MULTI_LINE_COMMENT(pos, active0), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_IN_MULTI_LINE_COMMENT(int pos, long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0x4L)!=0L) {
+                jjmatchedKind= 8;
+                return-1;
+            }
+            return-1;
+            case 1:
+            if ((active0&0x4L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 8;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_IN_MULTI_LINE_COMMENT(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<IN_MULTI_LINE_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_IN_MULTI_LINE_COMMENT(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_IN_MULTI_LINE_COMMENT() {
+        switch(curChar) {
+            case 42:
+            return jjMoveStringLiteralDfa1_IN_MULTI_LINE_COMMENT(0x4L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_IN_MULTI_LINE_COMMENT(0, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_IN_MULTI_LINE_COMMENT(long active0) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_IN_MULTI_LINE_COMMENT(0, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<IN_MULTI_LINE_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 47:
+            if ((active0&0x4L)!=0L) return jjStopAtPos(1, 2);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_IN_MULTI_LINE_COMMENT(0, active0);
+    }
+
+    private int jjMoveNfa_IN_MULTI_LINE_COMMENT(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 1;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        kind= 8;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        kind= 8;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_IN_MULTI_LINE_COMMENT[jjCharClassOffsets_IN_MULTI_LINE_COMMENT[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if ((0x2L&l)!=0L&&kind> 8) kind= 8;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 1-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_IN_MULTI_LINE_COMMENT= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_IN_MULTI_LINE_COMMENT= jjUnpack(512, "@\002\001@\006\002");
+    private int jjStartNfaWithStates_IN_SINGLE_LINE_COMMENT(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<IN_SINGLE_LINE_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_IN_SINGLE_LINE_COMMENT(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_IN_SINGLE_LINE_COMMENT() {
+        return jjMoveNfa_IN_SINGLE_LINE_COMMENT(1, 0);
+    }
+
+    private int jjMoveNfa_IN_SINGLE_LINE_COMMENT(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 4;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                         {
+                            if (kind> 8) kind= 8;
+                        }
+                        if ((0x2400L&l)!=0L) {
+                            if (kind> 6) kind= 6;
+                        }
+                        if (curChar== 13) jjstateSet[jjnewStateCnt++]= 0;
+                        break;
+                        case 0:
+                        if (curChar== 10&&kind> 6) kind= 6;
+                        break;
+                        case 2:
+                        if ((0x2400L&l)!=0L&&kind> 6) kind= 6;
+                        break;
+                        case 3:
+                        if (kind> 8) kind= 8;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        kind= 8;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_IN_SINGLE_LINE_COMMENT[jjCharClassOffsets_IN_SINGLE_LINE_COMMENT[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        if ((0x2L&l)!=0L&&kind> 8) kind= 8;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 4-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_IN_SINGLE_LINE_COMMENT= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_IN_SINGLE_LINE_COMMENT= jjUnpack(512, "@\002\001@\006\002");
+    private int jjStartNfa_IN_FORMAL_COMMENT(int pos, long active0) {
+        return jjMoveNfa_IN_FORMAL_COMMENT(jjStopStringLiteralDfa_IN_FORMAL_COMMENT(pos, active0), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_IN_FORMAL_COMMENT(int pos, long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0x80L)!=0L) {
+                jjmatchedKind= 8;
+                return-1;
+            }
+            return-1;
+            case 1:
+            if ((active0&0x80L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 8;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_IN_FORMAL_COMMENT(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<IN_FORMAL_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_IN_FORMAL_COMMENT(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_IN_FORMAL_COMMENT() {
+        switch(curChar) {
+            case 42:
+            return jjMoveStringLiteralDfa1_IN_FORMAL_COMMENT(0x80L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_IN_FORMAL_COMMENT(0, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_IN_FORMAL_COMMENT(long active0) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_IN_FORMAL_COMMENT(0, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<IN_FORMAL_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 47:
+            if ((active0&0x80L)!=0L) return jjStopAtPos(1, 7);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_IN_FORMAL_COMMENT(0, active0);
+    }
+
+    private int jjMoveNfa_IN_FORMAL_COMMENT(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 1;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        kind= 8;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        kind= 8;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_IN_FORMAL_COMMENT[jjCharClassOffsets_IN_FORMAL_COMMENT[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if ((0x2L&l)!=0L&&kind> 8) kind= 8;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 1-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_IN_FORMAL_COMMENT= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_IN_FORMAL_COMMENT= jjUnpack(512, "@\002\001@\006\002");
+    private int jjMoveStringLiteralDfa0_PHONY() {
+        switch(curChar) {
+            case 62:
+            return jjMoveStringLiteralDfa1_PHONY(0x3000000000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return 1;
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_PHONY(long active1) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<PHONY>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 62:
+            if ((active1&0x1000000000000000L)!=0L) {
+                jjmatchedKind= 124;
+                jjmatchedPos= 1;
+            }
+            return jjMoveStringLiteralDfa2_PHONY(active1, 0x2000000000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return 2;
+        }
+    }
+
+    private int jjMoveStringLiteralDfa2_PHONY(long old1, long active1) {
+        active1= active1&old1;
+        if ((active1)== 0L) return 2;
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"<PHONY>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 62:
+            if ((active1&0x2000000000000000L)!=0L) return jjStopAtPos(2, 125);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return 3;
+        }
+        return 3;
+    }
+
+    private int jjMoveNfa_PHONY(int startState, int curPos) {
+        return curPos;
+    }
+
+    private static int[] jjUnpack(int size, String...packed) {
+        int[] result= new int[size];
+        int index= 0;
+        for (String s : packed) {
+            int i= 0;
+            while (i<s.length()) {
+                int count= 0, value= 0, shift= 0, c;
+                do {
+                    c= s.charAt(i++);
+                    count|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                shift= 0;
+                do {
+                    c= s.charAt(i++);
+                    value|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                Arrays.fill(result, index, index+count, value-1);
+                index+=count;
+            }
+        }
+        return result;
+    }
+
+    private static final int[] jjnextStates= {37, 38, 39, 40, 41, 42, 43, 44, 54, 55, 56, 62, 63, 64, 14, 26, 29, 30, 17, 24, 71, 75, 78, 82, 86, 89, 93, 103, 7, 8, 9, 14, 9, 14, 12, 14, 15, 11, 14, 11, 12, 14, 15, 26, 28, 29, 30, 45, 48, 14, 46, 47, 48, 14, 48, 14, 51, 14, 53, 50, 14, 50, 51, 14, 53, 59, 14, 61, 58, 14, 58, 59, 14, 61, 64, 14, 67, 14, 69, 66, 14, 66, 67, 14, 69, 73, 74, 39, 76, 77, 39, 80, 81, 39, 84, 85, 87, 88, 91, 92, 95, 96, 97, 98, 97, 98, 101, 102, 14, 105, 106, 107, 109, 110, 111, 114, 115, 14, 10, 11, 18, 21, 23, 27, 31, 33, 49, 50, 57, 58, 65, 66, 99, 100, 104, 107, 112, 113};
+}
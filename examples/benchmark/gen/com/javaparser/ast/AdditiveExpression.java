@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for AdditiveExpression AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+@SuppressWarnings("unused")
+public class AdditiveExpression extends Expression {
+}
@@ -0,0 +1,35 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ExtendsList AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+import java.util.*;
+@SuppressWarnings("unused")
+public class ExtendsList extends BaseNode {
+    public List<ObjectType> getTypes() {
+        return childrenOfType(ObjectType.class);
+    }
+
+    public void addType(ObjectType type, boolean isInterface) {
+        if (!isInterface) {
+            children= new java.util.ArrayList<Node> ();
+        }
+        ListIterator<Node> iterator= iterator();
+        if (!iterator.hasNext()) {
+            iterator.add(Token.newToken(TokenType.EXTENDS, "extends", this));
+            iterator.next();
+            iterator.add(type);
+        }
+        else {
+            while (iterator.hasNext()) {
+                if (type.equals(iterator.next())) return;
+            }
+            iterator.add(Token.newToken(TokenType.COMMA, ",", this));
+            iterator.next();
+            iterator.add(type);
+        }
+    }
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for FormalParameters AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+@SuppressWarnings("unused")
+public class FormalParameters extends BaseNode {
+}
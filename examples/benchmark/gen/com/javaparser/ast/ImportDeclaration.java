@@ -0,0 +1,41 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ImportDeclaration AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+@SuppressWarnings("unused")
+public class ImportDeclaration extends BaseNode {
+    public String getAsString() {
+        return super.getAsString().trim();
+    }
+
+    public boolean isStaticImport() {
+        for (Node n : children) {
+            if ((n instanceof KeyWord)&&n.toString().equals("static")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getName() {
+        StringBuilder buf= new StringBuilder();
+        for (Token tok : descendantsOfType(Token.class)) {
+            if (tok.getType()!=TokenType.IMPORT&&tok.getType()!=TokenType.SEMICOLON) {
+                buf.append(tok);
+            }
+        }
+        return buf.toString();
+    }
+
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ImportDeclaration)) {
+            return false;
+        }
+        ImportDeclaration other= (ImportDeclaration) obj;
+        return other.isStaticImport()== this.isStaticImport()&&other.getName().equals(this.getName());
+    }
+
+}
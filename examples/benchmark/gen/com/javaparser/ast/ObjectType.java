@@ -0,0 +1,25 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ObjectType AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+@SuppressWarnings("unused")
+public class ObjectType extends BaseNode {
+    public boolean equals(Object obj) {
+        if (obj instanceof ObjectType) {
+            return((ObjectType) obj).toString().equals(this.toString());
+        }
+        return false;
+    }
+
+    public String toString() {
+        StringBuilder buf= new StringBuilder();
+        for (Token t : Nodes.getRealTokens(this)) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+
+}
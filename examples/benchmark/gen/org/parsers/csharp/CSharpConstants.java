@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CSharpConstants.java */
+package org.parsers.csharp;
+
+/**
+ * Token literal values and constants.
+ */
+public interface CSharpConstants {
+    public enum TokenType {
+        EOF, WHITESPACE, MULTI_LINE_COMMENT, _TOKEN_3, _TOKEN_4, _TOKEN_5, SINGLE_LINE_COMMENT, FORMAL_COMMENT, _TOKEN_8, LONG_LITERAL, INTEGER_LITERAL, DECIMAL_LITERAL, HEX_LITERAL, OCTAL_LITERAL, BINARY_LITERAL, FLOATING_POINT_LITERAL, DECIMAL_FLOATING_POINT_LITERAL, DECIMAL_EXPONENT, HEXADECIMAL_FLOATING_POINT_LITERAL, HEXADECIMAL_EXPONENT, HEX_DIGITS, CHARACTER_LITERAL, STRING_LITERAL, LPAREN, RPAREN, LBRACE, RBRACE, LBRACKET, RBRACKET, SEMICOLON, COMMA, DOT, ASSIGN, DOUBLE_COLON, VAR_ARGS, AT, GT, LT, BANG, TILDE, HOOK, COLON, EQ, LE, GE, NE, SC_OR, SC_AND, INCR, DECR, PLUS, MINUS, STAR, SLASH, BIT_AND, BIT_OR, XOR, REM, LSHIFT, PLUSASSIGN, MINUSASSIGN, STARASSIGN, SLASHASSIGN, ANDASSIGN, ORASSIGN, XORASSIGN, REMASSIGN, LEFT_SHIFT_ASSIGN, RIGHT_SHIFT, RIGHT_SHIFT_ASSIGN, LAMBDA, ABSTRACT, ADD, AS, ASCENDING, ASYNC, AWAIT, BASE, BOOL, BREAK, BY, BYTE, CASE, CATCH, CHAR, CHECKED, CLASS, CONST, CONTINUE, DECIMAL, DEFAULT, DELEGATE, DESCENDING, DO, DOUBLE, DYNAMIC, ELSE, ENUM, EQUALS, EXPLICIT, EXTERN, FALSE, FINALLY, FIXED, FLOAT, FOR, FOREACH, FROM, GET, GLOBAL, GOTO, GROUP, IF, IMPLICIT, IN, INT, INTERFACE, INTERNAL, INTO, IS, JOIN, LET, LOCK, LONG, NAMESPACE, NEW, NULL, OBJECT, ON, OPERATOR, ORDERBY, PRIVATE, PROTECTED, PUBLIC, READONLY, REF, REMOVE, RETURN, SBYTE, SEALED, SELECT, SET, SHORT, SIZEOF, STACKALLOC, STATIC, STRING, STRUCT, SWITCH, THIS, THROW, ULONG, UNCHECKED, UNSAFE, USHORT, USING, VALUE, VAR, VIRTUAL, VOID, VOLATILE, WHERE, WHILE, YIELD, ALIAS, ASSEMBLY, MODULE, FIELD, EVENT, METHOD, PARAM, PROPERTY, TYPE, PARTIAL, UINT, OUT, IDENTIFIER, LETTER, PART_LETTER, INVALID
+    }
+    /**
+   * Lexical States
+   */
+    public enum LexicalState {
+        CSHARP, IN_MULTI_LINE_COMMENT, IN_SINGLE_LINE_COMMENT, IN_FORMAL_COMMENT, 
+    }
+    String[] tokenImage= {"<EOF>", "<WHITESPACE>", "\"*/\"", "\"//\"", "<_TOKEN_4>", "\"/*\"", "<SINGLE_LINE_COMMENT>", "\"*/\"", "<_TOKEN_8>", "<LONG_LITERAL>", "<INTEGER_LITERAL>", "<DECIMAL_LITERAL>", "<HEX_LITERAL>", "<OCTAL_LITERAL>", "<BINARY_LITERAL>", "<FLOATING_POINT_LITERAL>", "<DECIMAL_FLOATING_POINT_LITERAL>", "<DECIMAL_EXPONENT>", "<HEXADECIMAL_FLOATING_POINT_LITERAL>", "<HEXADECIMAL_EXPONENT>", "<HEX_DIGITS>", "<CHARACTER_LITERAL>", "<STRING_LITERAL>", "\"(\"", "\")\"", "\"{\"", "\"}\"", "\"[\"", "\"]\"", "\";\"", "\",\"", "\".\"", "\"=\"", "\"::\"", "\"...\"", "\"@\"", "\">\"", "\"<\"", "\"!\"", "\"~\"", "\"?\"", "\":\"", "\"==\"", "\"<=\"", "\">=\"", "\"!=\"", "\"||\"", "\"&&\"", "\"++\"", "\"--\"", "\"+\"", "\"-\"", "\"*\"", "\"/\"", "\"&\"", "\"|\"", "\"^\"", "\"%\"", "\"<<\"", "\"+=\"", "\"-=\"", "\"*=\"", "\"/=\"", "\"&=\"", "\"|=\"", "\"^=\"", "\"%=\"", "\"<<=\"", "\">>\"", "\">>=\"", "\"=>\"", "\"abstract\"", "\"add\"", "\"as\"", "\"ascending\"", "\"async\"", "\"await\"", "\"base\"", "\"bool\"", "\"break\"", "\"by\"", "\"byte\"", "\"case\"", "\"catch\"", "\"char\"", "\"checked\"", "\"class\"", "\"const\"", "\"continue\"", "\"decimal\"", "\"default\"", "\"delegate\"", "\"descending\"", "\"do\"", "\"double\"", "\"dynamic\"", "\"else\"", "\"enum\"", "\"equals\"", "\"explicit\"", "\"extern\"", "\"false\"", "\"finally\"", "\"fixed\"", "\"float\"", "\"for\"", "\"foreach\"", "\"from\"", "\"get\"", "\"global\"", "\"goto\"", "\"group\"", "\"if\"", "\"implicit\"", "\"in\"", "\"int\"", "\"interface\"", "\"internal\"", "\"into\"", "\"is\"", "\"join\"", "\"let\"", "\"lock\"", "\"long\"", "\"namespace\"", "\"new\"", "\"null\"", "\"object\"", "\"on\"", "\"operator\"", "\"orderby\"", "\"private\"", "\"protected\"", "\"public\"", "\"readonly\"", "\"ref\"", "\"remove\"", "\"return\"", "\"sbyte\"", "\"sealed\"", "\"select\"", "\"set\"", "\"short\"", "\"sizeof\"", "\"stackalloc\"", "\"static\"", "\"string\"", "\"struct\"", "\"switch\"", "\"this\"", "\"throw\"", "\"ulong\"", "\"unchecked\"", "\"unsafe\"", "\"ushort\"", "\"using\"", "\"value\"", "\"var\"", "\"virtual\"", "\"void\"", "\"volatile\"", "\"where\"", "\"while\"", "\"yield\"", "\"alias\"", "\"assembly\"", "\"module\"", "\"field\"", "\"event\"", "\"method\"", "\"param\"", "\"property\"", "\"type\"", "\"partial\"", "\"uint\"", "\"out\"", "<IDENTIFIER>", "<LETTER>", "<PART_LETTER>"};
+}
@@ -0,0 +1,3098 @@
+/* Generated by: JavaCC 21 Parser Generator. CSharpParser.java */
+package org.parsers.csharp;
+
+import org.parsers.csharp.tree.*;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.logging.*;
+import java.io.*;
+import static org.parsers.csharp.CSharpConstants.TokenType.*;
+@SuppressWarnings("unused")
+public class CSharpParser implements CSharpConstants {
+    private static final java.util.logging.Logger LOGGER= Logger.getLogger(CSharpParser.class.getName());
+    public static void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    // The last token successfully "consumed"     
+    Token current_token;
+    private TokenType nextTokenType;
+    // The number of tokens after current_token that the current scanahead has looked at
+    private int currentLookaheadIndex;
+    private int remainingLookahead;
+    private TokenType upToTokenType;
+    private EnumSet<TokenType> upToFirstSet;
+    private Token lastParsedToken;
+    //private Token nextToken; //REVISIT
+    //private EnumSet<Token> currentFollowSet;
+    private boolean cancelled;
+    public void cancel() {
+        cancelled= true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public CSharpLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public CSharpParser(String inputSource, CharSequence content) {
+        this(new CSharpLexer(inputSource, content));
+    }
+
+    public CSharpParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+   * Parses the file by mapping it into memory, rather than reading it into a String.
+   */
+    public CSharpParser(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(new CSharpLexer(path, charset));
+    }
+
+    public CSharpParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public CSharpParser(Reader reader) {
+        this(new CSharpLexer(reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public CSharpParser(CSharpLexer lexer) {
+        token_source= lexer;
+        current_token= new Token();
+    }
+
+    /*
+   * The reset methods set up this parser, along with its lexer, to parse new input.
+   * That saves creating a new parser for each input, and the buffers and stacks
+   * that have been allocated so far are reused.
+   */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        resetState();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+   * Maps the file into memory, like the corresponding constructor.
+   */
+    public void reset(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        reset(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        token_source.reset(inputSource, reader);
+        resetState();
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    // Puts everything back the way the constructor left it, apart
+    // from any settings that were changed.
+    private void resetState() {
+        current_token= new Token();
+        nextTokenType= null;
+        currentLookaheadIndex= remainingLookahead= 0;
+        upToTokenType= null;
+        upToFirstSet= null;
+        lastParsedToken= null;
+        cancelled= false;
+        clearLookaheadTokens();
+        parsingStackSize= lookaheadStackSize= 0;
+        currentFollowSet= null;
+        parseStateStack.clear();
+        while (!currentNodeScope.isRootScope()) {
+            currentNodeScope= currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.getNext()!=null) current_token= current_token.getNext();
+        else {
+            Token nextToken= token_source.getNextToken();
+            current_token.setNext(nextToken);
+            current_token= nextToken;
+        }
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        return index<=0?current_token:
+        lookaheadToken(index);
+    }
+
+    // A circular buffer of the tokens following current_token, so that
+    // lookahead does not have to keep following the tokens' next links.
+    // The links are still there (and are the real thing), so if current_token
+    // has moved on since the buffer was filled, it is brought into line.
+    private Token[] lookaheadTokens= new Token[16];
+    private int lookaheadStart, lookaheadCount;
+    private Token lookaheadAnchor;
+    // The index-th token after current_token, index being at least 1
+    private Token lookaheadToken(int index) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        int mask= lookaheadTokens.length-1;
+        while (lookaheadCount<index) {
+            Token last= lookaheadCount== 0?current_token:
+            lookaheadTokens[(lookaheadStart+lookaheadCount-1)&mask];
+            Token nextToken= last.getNext();
+            if (nextToken== null) {
+                nextToken= token_source.getNextToken();
+                last.setNext(nextToken);
+            }
+            if (lookaheadCount== lookaheadTokens.length) {
+                growLookaheadTokens();
+                mask= lookaheadTokens.length-1;
+            }
+            lookaheadTokens[(lookaheadStart+lookaheadCount++)&mask]= nextToken;
+        }
+        return lookaheadTokens[(lookaheadStart+index-1)&mask];
+    }
+
+    private void syncLookaheadTokens() {
+        int mask= lookaheadTokens.length-1;
+        // Typically, current_token has moved forward to one of the buffered tokens.
+        while (lookaheadCount> 0) {
+            Token t= lookaheadTokens[lookaheadStart];
+            lookaheadTokens[lookaheadStart]= null;
+            lookaheadStart= (lookaheadStart+1)&mask;
+            --lookaheadCount;
+            if (t== current_token) break;
+        }
+        lookaheadAnchor= current_token;
+    }
+
+    private void growLookaheadTokens() {
+        Token[] newTokens= new Token[lookaheadTokens.length*2];
+        for (int i= 0; i<lookaheadCount; i++) {
+            newTokens[i]= lookaheadTokens[(lookaheadStart+i)&(lookaheadTokens.length-1)];
+        }
+        lookaheadTokens= newTokens;
+        lookaheadStart= 0;
+    }
+
+    // To be called if the tokens' next links are changed behind our back.
+    private void clearLookaheadTokens() {
+        Arrays.fill(lookaheadTokens, null);
+        lookaheadStart= lookaheadCount= 0;
+        lookaheadAnchor= null;
+    }
+
+    private final boolean setNextTokenType() {
+        nextTokenType= lookaheadToken(1).getType();
+        return true;
+    }
+
+    private final TokenType nextTokenType() {
+        setNextTokenType();
+        return nextTokenType;
+    }
+
+    private final boolean resetScanAhead(int amount, EnumSet<TokenType> upToFirstSet) {
+        resetScanAhead(amount);
+        this.upToFirstSet= upToFirstSet;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount, TokenType upToTokenType) {
+        resetScanAhead(amount);
+        this.upToTokenType= upToTokenType;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount) {
+        currentLookaheadIndex= 0;
+        remainingLookahead= amount;
+        this.upToTokenType= null;
+        this.upToFirstSet= null;
+        setNextTokenType();
+        return true;
+    }
+
+    // CSharp.javacc, line 197
+    final public void CompilationUnit() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 197 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean CompilationUnit1forced= false;
+        CompilationUnit CompilationUnit1= null;
+        if (buildTree) {
+            CompilationUnit1= new CompilationUnit();
+            openNodeScope(CompilationUnit1);
+        }
+        ParseException parseException1= null;
+        int callStackSize1= parsingStackSize;
+        try {
+            // Code for ZeroOrMore specified on line 198 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.EXTERN) {
+                // Code for NonTerminal specified on line 198 of CSharp.javacc
+                pushOntoCallStack(0);
+                try {
+                    ExternAliasDirective();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified on line 199 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.USING) {
+                // Code for NonTerminal specified on line 199 of CSharp.javacc
+                pushOntoCallStack(1);
+                try {
+                    UsingDirective();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified on line 200 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET) {
+                // Code for NonTerminal specified on line 200 of CSharp.javacc
+                pushOntoCallStack(2);
+                try {
+                    GlobalAttributeSection();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified on line 205 of CSharp.javacc
+            while (true) {
+                // Code for ExpansionChoice specified on line 202 of CSharp.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.NAMESPACE) {
+                    // Code for NonTerminal specified on line 202 of CSharp.javacc
+                    pushOntoCallStack(3);
+                    try {
+                        NamespaceDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&first_set$CSharp_javacc$line_204$column_7.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 204 of CSharp.javacc
+                    pushOntoCallStack(4);
+                    try {
+                        TypeDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    break;
+                }
+            }
+            // Code for EndOfFile specified on line 206 of CSharp.javacc
+            consumeToken(TokenType.EOF);
+            if (trace_enabled) LOGGER.info("Exiting normally from CompilationUnit");
+        }
+        catch(ParseException e) {
+            parseException1= e;
+            throw e;
+        }
+        finally {
+            if (parseException1== null) {
+                restoreCallStack(callStackSize1);
+            }
+            if (buildTree) {
+                if (parseException1== null) {
+                    closeNodeScope(CompilationUnit1, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException1.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 209
+    final public void ExternAliasDirective() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 209 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ExternAliasDirective2forced= false;
+        ExternAliasDirective ExternAliasDirective2= null;
+        if (buildTree) {
+            ExternAliasDirective2= new ExternAliasDirective();
+            openNodeScope(ExternAliasDirective2);
+        }
+        ParseException parseException2= null;
+        int callStackSize2= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 210 of CSharp.javacc
+            consumeToken(TokenType.EXTERN);
+            // Code for RegexpStringLiteral specified on line 210 of CSharp.javacc
+            consumeToken(TokenType.ALIAS);
+            // Code for RegexpRef specified on line 210 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpStringLiteral specified on line 210 of CSharp.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (trace_enabled) LOGGER.info("Exiting normally from ExternAliasDirective");
+        }
+        catch(ParseException e) {
+            parseException2= e;
+            throw e;
+        }
+        finally {
+            if (parseException2== null) {
+                restoreCallStack(callStackSize2);
+            }
+            if (buildTree) {
+                if (parseException2== null) {
+                    closeNodeScope(ExternAliasDirective2, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException2.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> UsingDirective_FIRST_SET= EnumSet.of(TokenType.USING);
+    // CSharp.javacc, line 213
+    final public void UsingDirective() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 213 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 214 of CSharp.javacc
+        boolean UsingDirective3forced= false;
+        UsingDirective UsingDirective3= null;
+        if (buildTree) {
+            UsingDirective3= new UsingDirective();
+            openNodeScope(UsingDirective3);
+        }
+        ParseException parseException3= null;
+        int callStackSize3= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$CSharp_javacc$line_214$column_10()) {
+                // Code for NonTerminal specified on line 215 of CSharp.javacc
+                pushOntoCallStack(5);
+                try {
+                    UsingStaticDirective();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(2147483647)&&check$CSharp_javacc$line_217$column_10()) {
+                // Code for NonTerminal specified on line 218 of CSharp.javacc
+                pushOntoCallStack(6);
+                try {
+                    UsingAliasDirective();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.USING) {
+                // Code for NonTerminal specified on line 220 of CSharp.javacc
+                pushOntoCallStack(7);
+                try {
+                    UsingNamespaceDirective();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(8);
+                throw new ParseException(current_token.getNext(), UsingDirective_FIRST_SET, getCallStack());
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from UsingDirective");
+        }
+        catch(ParseException e) {
+            parseException3= e;
+            throw e;
+        }
+        finally {
+            if (parseException3== null) {
+                restoreCallStack(callStackSize3);
+            }
+            if (buildTree) {
+                if (parseException3== null) {
+                    closeNodeScope(UsingDirective3, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException3.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 223
+    final public void UsingStaticDirective() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 223 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean UsingStaticDirective4forced= false;
+        UsingStaticDirective UsingStaticDirective4= null;
+        if (buildTree) {
+            UsingStaticDirective4= new UsingStaticDirective();
+            openNodeScope(UsingStaticDirective4);
+        }
+        ParseException parseException4= null;
+        int callStackSize4= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 224 of CSharp.javacc
+            consumeToken(TokenType.USING);
+            // Code for RegexpStringLiteral specified on line 224 of CSharp.javacc
+            consumeToken(TokenType.STATIC);
+            // Code for NonTerminal specified on line 224 of CSharp.javacc
+            pushOntoCallStack(9);
+            try {
+                Name();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 224 of CSharp.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (trace_enabled) LOGGER.info("Exiting normally from UsingStaticDirective");
+        }
+        catch(ParseException e) {
+            parseException4= e;
+            throw e;
+        }
+        finally {
+            if (parseException4== null) {
+                restoreCallStack(callStackSize4);
+            }
+            if (buildTree) {
+                if (parseException4== null) {
+                    closeNodeScope(UsingStaticDirective4, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException4.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 227
+    final public void UsingAliasDirective() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 227 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean UsingAliasDirective5forced= false;
+        UsingAliasDirective UsingAliasDirective5= null;
+        if (buildTree) {
+            UsingAliasDirective5= new UsingAliasDirective();
+            openNodeScope(UsingAliasDirective5);
+        }
+        ParseException parseException5= null;
+        int callStackSize5= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 228 of CSharp.javacc
+            consumeToken(TokenType.USING);
+            // Code for RegexpRef specified on line 228 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpStringLiteral specified on line 228 of CSharp.javacc
+            consumeToken(TokenType.ASSIGN);
+            // Code for NonTerminal specified on line 228 of CSharp.javacc
+            pushOntoCallStack(10);
+            try {
+                Name();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 228 of CSharp.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (trace_enabled) LOGGER.info("Exiting normally from UsingAliasDirective");
+        }
+        catch(ParseException e) {
+            parseException5= e;
+            throw e;
+        }
+        finally {
+            if (parseException5== null) {
+                restoreCallStack(callStackSize5);
+            }
+            if (buildTree) {
+                if (parseException5== null) {
+                    closeNodeScope(UsingAliasDirective5, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException5.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 231
+    final public void UsingNamespaceDirective() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 231 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean UsingNamespaceDirective6forced= false;
+        UsingNamespaceDirective UsingNamespaceDirective6= null;
+        if (buildTree) {
+            UsingNamespaceDirective6= new UsingNamespaceDirective();
+            openNodeScope(UsingNamespaceDirective6);
+        }
+        ParseException parseException6= null;
+        int callStackSize6= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 232 of CSharp.javacc
+            consumeToken(TokenType.USING);
+            // Code for NonTerminal specified on line 232 of CSharp.javacc
+            pushOntoCallStack(11);
+            try {
+                Name();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 232 of CSharp.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (trace_enabled) LOGGER.info("Exiting normally from UsingNamespaceDirective");
+        }
+        catch(ParseException e) {
+            parseException6= e;
+            throw e;
+        }
+        finally {
+            if (parseException6== null) {
+                restoreCallStack(callStackSize6);
+            }
+            if (buildTree) {
+                if (parseException6== null) {
+                    closeNodeScope(UsingNamespaceDirective6, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException6.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 235
+    final public void GlobalAttributeSection() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 235 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean GlobalAttributeSection7forced= false;
+        GlobalAttributeSection GlobalAttributeSection7= null;
+        if (buildTree) {
+            GlobalAttributeSection7= new GlobalAttributeSection();
+            openNodeScope(GlobalAttributeSection7);
+        }
+        ParseException parseException7= null;
+        int callStackSize7= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 236 of CSharp.javacc
+            consumeToken(TokenType.LBRACKET);
+            // Code for ExpansionChoice specified on line 236 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.ASSEMBLY) {
+                // Code for RegexpStringLiteral specified on line 236 of CSharp.javacc
+                consumeToken(TokenType.ASSEMBLY);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.MODULE) {
+                // Code for RegexpStringLiteral specified on line 236 of CSharp.javacc
+                consumeToken(TokenType.MODULE);
+            }
+            else {
+                pushOntoCallStack(12);
+                throw new ParseException(current_token.getNext(), first_set$CSharp_javacc$line_236$column_10, getCallStack());
+            }
+            // Code for RegexpStringLiteral specified on line 236 of CSharp.javacc
+            consumeToken(TokenType.COLON);
+            // Code for NonTerminal specified on line 236 of CSharp.javacc
+            pushOntoCallStack(13);
+            try {
+                AttributeList();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 236 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 236 of CSharp.javacc
+                consumeToken(TokenType.COMMA);
+            }
+            // Code for RegexpStringLiteral specified on line 236 of CSharp.javacc
+            consumeToken(TokenType.RBRACKET);
+            if (trace_enabled) LOGGER.info("Exiting normally from GlobalAttributeSection");
+        }
+        catch(ParseException e) {
+            parseException7= e;
+            throw e;
+        }
+        finally {
+            if (parseException7== null) {
+                restoreCallStack(callStackSize7);
+            }
+            if (buildTree) {
+                if (parseException7== null) {
+                    closeNodeScope(GlobalAttributeSection7, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException7.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 239
+    final public void AttributeSection() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 239 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AttributeSection8forced= false;
+        AttributeSection AttributeSection8= null;
+        if (buildTree) {
+            AttributeSection8= new AttributeSection();
+            openNodeScope(AttributeSection8);
+        }
+        ParseException parseException8= null;
+        int callStackSize8= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 240 of CSharp.javacc
+            consumeToken(TokenType.LBRACKET);
+            // Code for ExpansionChoice specified on line 241 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.FIELD) {
+                // Code for RegexpStringLiteral specified on line 241 of CSharp.javacc
+                consumeToken(TokenType.FIELD);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.EVENT) {
+                // Code for RegexpStringLiteral specified on line 241 of CSharp.javacc
+                consumeToken(TokenType.EVENT);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.METHOD) {
+                // Code for RegexpStringLiteral specified on line 241 of CSharp.javacc
+                consumeToken(TokenType.METHOD);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.PARAM) {
+                // Code for RegexpStringLiteral specified on line 241 of CSharp.javacc
+                consumeToken(TokenType.PARAM);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.PROPERTY) {
+                // Code for RegexpStringLiteral specified on line 241 of CSharp.javacc
+                consumeToken(TokenType.PROPERTY);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.RETURN) {
+                // Code for RegexpStringLiteral specified on line 241 of CSharp.javacc
+                consumeToken(TokenType.RETURN);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.TYPE) {
+                // Code for RegexpStringLiteral specified on line 241 of CSharp.javacc
+                consumeToken(TokenType.TYPE);
+            }
+            else {
+                pushOntoCallStack(14);
+                throw new ParseException(current_token.getNext(), first_set$CSharp_javacc$line_241$column_5, getCallStack());
+            }
+            // Code for RegexpStringLiteral specified on line 242 of CSharp.javacc
+            consumeToken(TokenType.COLON);
+            // Code for NonTerminal specified on line 243 of CSharp.javacc
+            pushOntoCallStack(15);
+            try {
+                AttributeList();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 244 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 244 of CSharp.javacc
+                consumeToken(TokenType.COMMA);
+            }
+            // Code for RegexpStringLiteral specified on line 245 of CSharp.javacc
+            consumeToken(TokenType.RBRACKET);
+            if (trace_enabled) LOGGER.info("Exiting normally from AttributeSection");
+        }
+        catch(ParseException e) {
+            parseException8= e;
+            throw e;
+        }
+        finally {
+            if (parseException8== null) {
+                restoreCallStack(callStackSize8);
+            }
+            if (buildTree) {
+                if (parseException8== null) {
+                    closeNodeScope(AttributeSection8, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException8.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 248
+    final public void AttributeList() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 248 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AttributeList9forced= false;
+        AttributeList AttributeList9= null;
+        if (buildTree) {
+            AttributeList9= new AttributeList();
+            openNodeScope(AttributeList9);
+        }
+        ParseException parseException9= null;
+        int callStackSize9= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 249 of CSharp.javacc
+            pushOntoCallStack(16);
+            try {
+                Attribute();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 249 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 249 of CSharp.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 249 of CSharp.javacc
+                pushOntoCallStack(17);
+                try {
+                    Attribute();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from AttributeList");
+        }
+        catch(ParseException e) {
+            parseException9= e;
+            throw e;
+        }
+        finally {
+            if (parseException9== null) {
+                restoreCallStack(callStackSize9);
+            }
+            if (buildTree) {
+                if (parseException9== null) {
+                    closeNodeScope(AttributeList9, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException9.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 252
+    final public void Attribute() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 252 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Attribute10forced= false;
+        Attribute Attribute10= null;
+        if (buildTree) {
+            Attribute10= new Attribute();
+            openNodeScope(Attribute10);
+        }
+        ParseException parseException10= null;
+        int callStackSize10= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 253 of CSharp.javacc
+            pushOntoCallStack(18);
+            try {
+                Name();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 254 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LPAREN) {
+                // Code for NonTerminal specified on line 254 of CSharp.javacc
+                pushOntoCallStack(19);
+                try {
+                    AttributeArguments();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from Attribute");
+        }
+        catch(ParseException e) {
+            parseException10= e;
+            throw e;
+        }
+        finally {
+            if (parseException10== null) {
+                restoreCallStack(callStackSize10);
+            }
+            if (buildTree) {
+                if (parseException10== null) {
+                    closeNodeScope(Attribute10, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException10.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 257
+    final public void AttributeArguments() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 257 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AttributeArguments11forced= false;
+        AttributeArguments AttributeArguments11= null;
+        if (buildTree) {
+            AttributeArguments11= new AttributeArguments();
+            openNodeScope(AttributeArguments11);
+        }
+        ParseException parseException11= null;
+        int callStackSize11= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 258 of CSharp.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for ZeroOrOne specified on line 259 of CSharp.javacc
+            if (resetScanAhead(2147483647)&&!check$CSharp_javacc$line_260$column_14()) {
+                // Code for NonTerminal specified on line 261 of CSharp.javacc
+                pushOntoCallStack(20);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 265 of CSharp.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpStringLiteral specified on line 263 of CSharp.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 264 of CSharp.javacc
+                    pushOntoCallStack(21);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for ZeroOrOne specified on line 267 of CSharp.javacc
+            if (resetScanAhead(2147483647)&&check$CSharp_javacc$line_268$column_13()) {
+                // Code for NonTerminal specified on line 269 of CSharp.javacc
+                pushOntoCallStack(22);
+                try {
+                    NamedArgument();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 272 of CSharp.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpStringLiteral specified on line 271 of CSharp.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 271 of CSharp.javacc
+                    pushOntoCallStack(23);
+                    try {
+                        NamedArgument();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 274 of CSharp.javacc
+            consumeToken(TokenType.RPAREN);
+            if (trace_enabled) LOGGER.info("Exiting normally from AttributeArguments");
+        }
+        catch(ParseException e) {
+            parseException11= e;
+            throw e;
+        }
+        finally {
+            if (parseException11== null) {
+                restoreCallStack(callStackSize11);
+            }
+            if (buildTree) {
+                if (parseException11== null) {
+                    closeNodeScope(AttributeArguments11, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException11.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 277
+    final public void NamedArgument() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 277 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NamedArgument12forced= false;
+        NamedArgument NamedArgument12= null;
+        if (buildTree) {
+            NamedArgument12= new NamedArgument();
+            openNodeScope(NamedArgument12);
+        }
+        ParseException parseException12= null;
+        int callStackSize12= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 278 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpStringLiteral specified on line 278 of CSharp.javacc
+            consumeToken(TokenType.ASSIGN);
+            // Code for NonTerminal specified on line 278 of CSharp.javacc
+            pushOntoCallStack(24);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from NamedArgument");
+        }
+        catch(ParseException e) {
+            parseException12= e;
+            throw e;
+        }
+        finally {
+            if (parseException12== null) {
+                restoreCallStack(callStackSize12);
+            }
+            if (buildTree) {
+                if (parseException12== null) {
+                    closeNodeScope(NamedArgument12, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException12.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> Name_FIRST_SET= EnumSet.of(TokenType.IDENTIFIER);
+    /** Name of a Type or a Namespace */
+    // CSharp.javacc, line 283
+    final public void Name() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 283 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 284 of CSharp.javacc
+        boolean Name13forced= false;
+        Name Name13= null;
+        if (buildTree) {
+            Name13= new Name();
+            openNodeScope(Name13);
+        }
+        ParseException parseException13= null;
+        int callStackSize13= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$CSharp_javacc$line_284$column_9()) {
+                // Code for NonTerminal specified on line 285 of CSharp.javacc
+                pushOntoCallStack(25);
+                try {
+                    QualifiedAliasMember();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for RegexpRef specified on line 287 of CSharp.javacc
+                consumeToken(TokenType.IDENTIFIER);
+                // Code for ZeroOrOne specified on line 287 of CSharp.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                    // Code for NonTerminal specified on line 287 of CSharp.javacc
+                    pushOntoCallStack(26);
+                    try {
+                        TypeArgumentList();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for ZeroOrMore specified on line 288 of CSharp.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.DOT) {
+                    // Code for RegexpStringLiteral specified on line 288 of CSharp.javacc
+                    consumeToken(TokenType.DOT);
+                    // Code for RegexpRef specified on line 288 of CSharp.javacc
+                    consumeToken(TokenType.IDENTIFIER);
+                    // Code for ZeroOrOne specified on line 288 of CSharp.javacc
+                    if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                        // Code for NonTerminal specified on line 288 of CSharp.javacc
+                        pushOntoCallStack(27);
+                        try {
+                            TypeArgumentList();
+                        }
+                        finally {
+                            popCallStack();
+                        }
+                    }
+                }
+            }
+            else {
+                pushOntoCallStack(28);
+                throw new ParseException(current_token.getNext(), Name_FIRST_SET, getCallStack());
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from Name");
+        }
+        catch(ParseException e) {
+            parseException13= e;
+            throw e;
+        }
+        finally {
+            if (parseException13== null) {
+                restoreCallStack(callStackSize13);
+            }
+            if (buildTree) {
+                if (parseException13== null) {
+                    closeNodeScope(Name13, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException13.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 291
+    final public void QualifiedAliasMember() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 291 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean QualifiedAliasMember14forced= false;
+        QualifiedAliasMember QualifiedAliasMember14= null;
+        if (buildTree) {
+            QualifiedAliasMember14= new QualifiedAliasMember();
+            openNodeScope(QualifiedAliasMember14);
+        }
+        ParseException parseException14= null;
+        int callStackSize14= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 292 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpStringLiteral specified on line 292 of CSharp.javacc
+            consumeToken(TokenType.DOUBLE_COLON);
+            // Code for RegexpRef specified on line 292 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 293 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                // Code for NonTerminal specified on line 293 of CSharp.javacc
+                pushOntoCallStack(29);
+                try {
+                    TypeArgumentList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from QualifiedAliasMember");
+        }
+        catch(ParseException e) {
+            parseException14= e;
+            throw e;
+        }
+        finally {
+            if (parseException14== null) {
+                restoreCallStack(callStackSize14);
+            }
+            if (buildTree) {
+                if (parseException14== null) {
+                    closeNodeScope(QualifiedAliasMember14, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException14.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 296
+    final public void TypeArgumentList() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 296 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TypeArgumentList15forced= false;
+        TypeArgumentList TypeArgumentList15= null;
+        if (buildTree) {
+            TypeArgumentList15= new TypeArgumentList();
+            openNodeScope(TypeArgumentList15);
+        }
+        ParseException parseException15= null;
+        int callStackSize15= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 297 of CSharp.javacc
+            consumeToken(TokenType.LT);
+            // Code for ZeroOrOne specified on line 298 of CSharp.javacc
+            if (resetScanAhead(1)&&first_set$CSharp_javacc$line_298$column_4.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 299 of CSharp.javacc
+                pushOntoCallStack(30);
+                try {
+                    Type();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 300 of CSharp.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpStringLiteral specified on line 300 of CSharp.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 300 of CSharp.javacc
+                    pushOntoCallStack(31);
+                    try {
+                        Type();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 302 of CSharp.javacc
+            consumeToken(TokenType.GT);
+            if (trace_enabled) LOGGER.info("Exiting normally from TypeArgumentList");
+        }
+        catch(ParseException e) {
+            parseException15= e;
+            throw e;
+        }
+        finally {
+            if (parseException15== null) {
+                restoreCallStack(callStackSize15);
+            }
+            if (buildTree) {
+                if (parseException15== null) {
+                    closeNodeScope(TypeArgumentList15, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException15.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 305
+    final public void Expression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 305 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Expression16forced= false;
+        Expression Expression16= null;
+        if (buildTree) {
+            Expression16= new Expression();
+            openNodeScope(Expression16);
+        }
+        ParseException parseException16= null;
+        int callStackSize16= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 305 of CSharp.javacc
+            pushOntoCallStack(32);
+            try {
+                Name();
+            }
+            finally {
+                popCallStack();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from Expression");
+        }
+        catch(ParseException e) {
+            parseException16= e;
+            throw e;
+        }
+        finally {
+            if (parseException16== null) {
+                restoreCallStack(callStackSize16);
+            }
+            if (buildTree) {
+                if (parseException16== null) {
+                    closeNodeScope(Expression16, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException16.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // TODO!
+    // CSharp.javacc, line 307
+    final public void NamespaceDeclaration() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 307 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NamespaceDeclaration17forced= false;
+        NamespaceDeclaration NamespaceDeclaration17= null;
+        if (buildTree) {
+            NamespaceDeclaration17= new NamespaceDeclaration();
+            openNodeScope(NamespaceDeclaration17);
+        }
+        ParseException parseException17= null;
+        int callStackSize17= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 308 of CSharp.javacc
+            consumeToken(TokenType.NAMESPACE);
+            // Code for NonTerminal specified on line 308 of CSharp.javacc
+            pushOntoCallStack(33);
+            try {
+                QualifiedIdentifier();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 308 of CSharp.javacc
+            pushOntoCallStack(34);
+            try {
+                NamespaceBody();
+            }
+            finally {
+                popCallStack();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from NamespaceDeclaration");
+        }
+        catch(ParseException e) {
+            parseException17= e;
+            throw e;
+        }
+        finally {
+            if (parseException17== null) {
+                restoreCallStack(callStackSize17);
+            }
+            if (buildTree) {
+                if (parseException17== null) {
+                    closeNodeScope(NamespaceDeclaration17, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException17.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 311
+    final public void QualifiedIdentifier() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 311 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean QualifiedIdentifier18forced= false;
+        QualifiedIdentifier QualifiedIdentifier18= null;
+        if (buildTree) {
+            QualifiedIdentifier18= new QualifiedIdentifier();
+            openNodeScope(QualifiedIdentifier18);
+        }
+        ParseException parseException18= null;
+        int callStackSize18= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 312 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrMore specified on line 312 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.DOT) {
+                // Code for RegexpStringLiteral specified on line 312 of CSharp.javacc
+                consumeToken(TokenType.DOT);
+                // Code for RegexpRef specified on line 312 of CSharp.javacc
+                consumeToken(TokenType.IDENTIFIER);
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from QualifiedIdentifier");
+        }
+        catch(ParseException e) {
+            parseException18= e;
+            throw e;
+        }
+        finally {
+            if (parseException18== null) {
+                restoreCallStack(callStackSize18);
+            }
+            if (buildTree) {
+                if (parseException18== null) {
+                    closeNodeScope(QualifiedIdentifier18, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException18.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 315
+    final public void NamespaceBody() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 315 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NamespaceBody19forced= false;
+        NamespaceBody NamespaceBody19= null;
+        if (buildTree) {
+            NamespaceBody19= new NamespaceBody();
+            openNodeScope(NamespaceBody19);
+        }
+        ParseException parseException19= null;
+        int callStackSize19= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 316 of CSharp.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for ZeroOrMore specified on line 317 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.EXTERN) {
+                // Code for NonTerminal specified on line 317 of CSharp.javacc
+                pushOntoCallStack(35);
+                try {
+                    ExternAliasDirective();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified on line 317 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.USING) {
+                // Code for NonTerminal specified on line 317 of CSharp.javacc
+                pushOntoCallStack(36);
+                try {
+                    UsingDirective();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ExpansionChoice specified on line 319 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.NAMESPACE) {
+                // Code for NonTerminal specified on line 319 of CSharp.javacc
+                pushOntoCallStack(37);
+                try {
+                    NamespaceDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$CSharp_javacc$line_321$column_11.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 321 of CSharp.javacc
+                pushOntoCallStack(38);
+                try {
+                    TypeDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(39);
+                throw new ParseException(current_token.getNext(), first_set$CSharp_javacc$line_319$column_11, getCallStack());
+            }
+            // Code for RegexpStringLiteral specified on line 323 of CSharp.javacc
+            consumeToken(TokenType.RBRACE);
+            if (trace_enabled) LOGGER.info("Exiting normally from NamespaceBody");
+        }
+        catch(ParseException e) {
+            parseException19= e;
+            throw e;
+        }
+        finally {
+            if (parseException19== null) {
+                restoreCallStack(callStackSize19);
+            }
+            if (buildTree) {
+                if (parseException19== null) {
+                    closeNodeScope(NamespaceBody19, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException19.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 326
+    final public void TypeDeclaration() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 326 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TypeDeclaration20forced= false;
+        TypeDeclaration TypeDeclaration20= null;
+        if (buildTree) {
+            TypeDeclaration20= new TypeDeclaration();
+            openNodeScope(TypeDeclaration20);
+        }
+        ParseException parseException20= null;
+        int callStackSize20= parsingStackSize;
+        try {
+            // Code for ZeroOrMore specified on line 327 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET) {
+                // Code for NonTerminal specified on line 327 of CSharp.javacc
+                pushOntoCallStack(40);
+                try {
+                    AttributeSection();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified on line 328 of CSharp.javacc
+            while (true) {
+                // Code for ExpansionChoice specified on line 328 of CSharp.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.NEW) {
+                    // Code for RegexpStringLiteral specified on line 328 of CSharp.javacc
+                    consumeToken(TokenType.NEW);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.PUBLIC) {
+                    // Code for RegexpStringLiteral specified on line 328 of CSharp.javacc
+                    consumeToken(TokenType.PUBLIC);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.PROTECTED) {
+                    // Code for RegexpStringLiteral specified on line 328 of CSharp.javacc
+                    consumeToken(TokenType.PROTECTED);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.INTERNAL) {
+                    // Code for RegexpStringLiteral specified on line 328 of CSharp.javacc
+                    consumeToken(TokenType.INTERNAL);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.PRIVATE) {
+                    // Code for RegexpStringLiteral specified on line 328 of CSharp.javacc
+                    consumeToken(TokenType.PRIVATE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ABSTRACT) {
+                    // Code for RegexpStringLiteral specified on line 328 of CSharp.javacc
+                    consumeToken(TokenType.ABSTRACT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.SEALED) {
+                    // Code for RegexpStringLiteral specified on line 328 of CSharp.javacc
+                    consumeToken(TokenType.SEALED);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.STATIC) {
+                    // Code for RegexpStringLiteral specified on line 328 of CSharp.javacc
+                    consumeToken(TokenType.STATIC);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.UNSAFE) {
+                    // Code for RegexpStringLiteral specified on line 328 of CSharp.javacc
+                    consumeToken(TokenType.UNSAFE);
+                }
+                else {
+                    break;
+                }
+            }
+            // Code for ZeroOrOne specified on line 329 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.PARTIAL) {
+                // Code for RegexpStringLiteral specified on line 329 of CSharp.javacc
+                consumeToken(TokenType.PARTIAL);
+            }
+            // Code for ExpansionChoice specified on line 331 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.CLASS) {
+                // Code for NonTerminal specified on line 331 of CSharp.javacc
+                pushOntoCallStack(41);
+                try {
+                    ClassDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.STRUCT) {
+                // Code for NonTerminal specified on line 333 of CSharp.javacc
+                pushOntoCallStack(42);
+                try {
+                    StructDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.INTERFACE) {
+                // Code for NonTerminal specified on line 335 of CSharp.javacc
+                pushOntoCallStack(43);
+                try {
+                    InterfaceDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.ENUM) {
+                // Code for NonTerminal specified on line 337 of CSharp.javacc
+                pushOntoCallStack(44);
+                try {
+                    EnumDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DELEGATE) {
+                // Code for NonTerminal specified on line 339 of CSharp.javacc
+                pushOntoCallStack(45);
+                try {
+                    DelegateDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(46);
+                throw new ParseException(current_token.getNext(), first_set$CSharp_javacc$line_331$column_6, getCallStack());
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from TypeDeclaration");
+        }
+        catch(ParseException e) {
+            parseException20= e;
+            throw e;
+        }
+        finally {
+            if (parseException20== null) {
+                restoreCallStack(callStackSize20);
+            }
+            if (buildTree) {
+                if (parseException20== null) {
+                    closeNodeScope(TypeDeclaration20, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException20.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 343
+    final public void ClassDeclaration() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 343 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ClassDeclaration21forced= false;
+        ClassDeclaration ClassDeclaration21= null;
+        if (buildTree) {
+            ClassDeclaration21= new ClassDeclaration();
+            openNodeScope(ClassDeclaration21);
+        }
+        ParseException parseException21= null;
+        int callStackSize21= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 344 of CSharp.javacc
+            consumeToken(TokenType.CLASS);
+            // Code for RegexpRef specified on line 345 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 346 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                // Code for NonTerminal specified on line 346 of CSharp.javacc
+                pushOntoCallStack(47);
+                try {
+                    TypeParameterList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified on line 347 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.COLON) {
+                // Code for RegexpStringLiteral specified on line 347 of CSharp.javacc
+                consumeToken(TokenType.COLON);
+                // Code for ExpansionChoice specified on line 347 of CSharp.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                    // Code for NonTerminal specified on line 347 of CSharp.javacc
+                    pushOntoCallStack(48);
+                    try {
+                        Name();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.OBJECT) {
+                    // Code for RegexpStringLiteral specified on line 347 of CSharp.javacc
+                    consumeToken(TokenType.OBJECT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.DYNAMIC) {
+                    // Code for RegexpStringLiteral specified on line 347 of CSharp.javacc
+                    consumeToken(TokenType.DYNAMIC);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.STRING) {
+                    // Code for RegexpStringLiteral specified on line 347 of CSharp.javacc
+                    consumeToken(TokenType.STRING);
+                }
+                else {
+                    pushOntoCallStack(49);
+                    throw new ParseException(current_token.getNext(), first_set$CSharp_javacc$line_347$column_9, getCallStack());
+                }
+                // Code for ZeroOrMore specified on line 347 of CSharp.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpStringLiteral specified on line 347 of CSharp.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 347 of CSharp.javacc
+                    pushOntoCallStack(50);
+                    try {
+                        Name();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for ZeroOrMore specified on line 348 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.WHERE) {
+                // Code for NonTerminal specified on line 348 of CSharp.javacc
+                pushOntoCallStack(51);
+                try {
+                    TypeParameterConstraintsClause();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 349 of CSharp.javacc
+            pushOntoCallStack(52);
+            try {
+                ClassBody();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 350 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpStringLiteral specified on line 350 of CSharp.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from ClassDeclaration");
+        }
+        catch(ParseException e) {
+            parseException21= e;
+            throw e;
+        }
+        finally {
+            if (parseException21== null) {
+                restoreCallStack(callStackSize21);
+            }
+            if (buildTree) {
+                if (parseException21== null) {
+                    closeNodeScope(ClassDeclaration21, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException21.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 353
+    final public void StructDeclaration() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 353 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean StructDeclaration22forced= false;
+        StructDeclaration StructDeclaration22= null;
+        if (buildTree) {
+            StructDeclaration22= new StructDeclaration();
+            openNodeScope(StructDeclaration22);
+        }
+        ParseException parseException22= null;
+        int callStackSize22= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 354 of CSharp.javacc
+            consumeToken(TokenType.STRUCT);
+            // Code for RegexpRef specified on line 355 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 356 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.COLON) {
+                // Code for RegexpStringLiteral specified on line 356 of CSharp.javacc
+                consumeToken(TokenType.COLON);
+                // Code for NonTerminal specified on line 356 of CSharp.javacc
+                pushOntoCallStack(53);
+                try {
+                    Name();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 356 of CSharp.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpStringLiteral specified on line 356 of CSharp.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 356 of CSharp.javacc
+                    pushOntoCallStack(54);
+                    try {
+                        Name();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for ZeroOrMore specified on line 357 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.WHERE) {
+                // Code for NonTerminal specified on line 357 of CSharp.javacc
+                pushOntoCallStack(55);
+                try {
+                    TypeParameterConstraintsClause();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 358 of CSharp.javacc
+            pushOntoCallStack(56);
+            try {
+                StructBody();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 359 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpStringLiteral specified on line 359 of CSharp.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from StructDeclaration");
+        }
+        catch(ParseException e) {
+            parseException22= e;
+            throw e;
+        }
+        finally {
+            if (parseException22== null) {
+                restoreCallStack(callStackSize22);
+            }
+            if (buildTree) {
+                if (parseException22== null) {
+                    closeNodeScope(StructDeclaration22, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException22.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 362
+    final public void InterfaceDeclaration() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 362 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean InterfaceDeclaration23forced= false;
+        InterfaceDeclaration InterfaceDeclaration23= null;
+        if (buildTree) {
+            InterfaceDeclaration23= new InterfaceDeclaration();
+            openNodeScope(InterfaceDeclaration23);
+        }
+        ParseException parseException23= null;
+        int callStackSize23= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 363 of CSharp.javacc
+            consumeToken(TokenType.INTERFACE);
+            // Code for RegexpRef specified on line 364 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 365 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                // Code for NonTerminal specified on line 365 of CSharp.javacc
+                pushOntoCallStack(57);
+                try {
+                    TypeParameterList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified on line 366 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for NonTerminal specified on line 366 of CSharp.javacc
+                pushOntoCallStack(58);
+                try {
+                    Name();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 366 of CSharp.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpStringLiteral specified on line 366 of CSharp.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 366 of CSharp.javacc
+                    pushOntoCallStack(59);
+                    try {
+                        Name();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for ZeroOrMore specified on line 367 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.WHERE) {
+                // Code for NonTerminal specified on line 367 of CSharp.javacc
+                pushOntoCallStack(60);
+                try {
+                    TypeParameterConstraintsClause();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 368 of CSharp.javacc
+            pushOntoCallStack(61);
+            try {
+                InterfaceBody();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 369 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpStringLiteral specified on line 369 of CSharp.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from InterfaceDeclaration");
+        }
+        catch(ParseException e) {
+            parseException23= e;
+            throw e;
+        }
+        finally {
+            if (parseException23== null) {
+                restoreCallStack(callStackSize23);
+            }
+            if (buildTree) {
+                if (parseException23== null) {
+                    closeNodeScope(InterfaceDeclaration23, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException23.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 372
+    final public void EnumDeclaration() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 372 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean EnumDeclaration24forced= false;
+        EnumDeclaration EnumDeclaration24= null;
+        if (buildTree) {
+            EnumDeclaration24= new EnumDeclaration();
+            openNodeScope(EnumDeclaration24);
+        }
+        ParseException parseException24= null;
+        int callStackSize24= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 373 of CSharp.javacc
+            consumeToken(TokenType.ENUM);
+            // Code for RegexpRef specified on line 374 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 375 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.COLON) {
+                // Code for RegexpStringLiteral specified on line 375 of CSharp.javacc
+                consumeToken(TokenType.COLON);
+                // Code for ExpansionChoice specified on line 375 of CSharp.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.SBYTE) {
+                    // Code for RegexpStringLiteral specified on line 375 of CSharp.javacc
+                    consumeToken(TokenType.SBYTE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.BYTE) {
+                    // Code for RegexpStringLiteral specified on line 375 of CSharp.javacc
+                    consumeToken(TokenType.BYTE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.SHORT) {
+                    // Code for RegexpStringLiteral specified on line 375 of CSharp.javacc
+                    consumeToken(TokenType.SHORT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.USHORT) {
+                    // Code for RegexpStringLiteral specified on line 375 of CSharp.javacc
+                    consumeToken(TokenType.USHORT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.INT) {
+                    // Code for RegexpStringLiteral specified on line 375 of CSharp.javacc
+                    consumeToken(TokenType.INT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.UINT) {
+                    // Code for RegexpStringLiteral specified on line 375 of CSharp.javacc
+                    consumeToken(TokenType.UINT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.LONG) {
+                    // Code for RegexpStringLiteral specified on line 375 of CSharp.javacc
+                    consumeToken(TokenType.LONG);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ULONG) {
+                    // Code for RegexpStringLiteral specified on line 375 of CSharp.javacc
+                    consumeToken(TokenType.ULONG);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.CHAR) {
+                    // Code for RegexpStringLiteral specified on line 375 of CSharp.javacc
+                    consumeToken(TokenType.CHAR);
+                }
+                else {
+                    pushOntoCallStack(62);
+                    throw new ParseException(current_token.getNext(), first_set$CSharp_javacc$line_375$column_10, getCallStack());
+                }
+            }
+            // Code for NonTerminal specified on line 376 of CSharp.javacc
+            pushOntoCallStack(63);
+            try {
+                EnumBody();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 377 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpStringLiteral specified on line 377 of CSharp.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from EnumDeclaration");
+        }
+        catch(ParseException e) {
+            parseException24= e;
+            throw e;
+        }
+        finally {
+            if (parseException24== null) {
+                restoreCallStack(callStackSize24);
+            }
+            if (buildTree) {
+                if (parseException24== null) {
+                    closeNodeScope(EnumDeclaration24, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException24.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 380
+    final public void DelegateDeclaration() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 380 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean DelegateDeclaration25forced= false;
+        DelegateDeclaration DelegateDeclaration25= null;
+        if (buildTree) {
+            DelegateDeclaration25= new DelegateDeclaration();
+            openNodeScope(DelegateDeclaration25);
+        }
+        ParseException parseException25= null;
+        int callStackSize25= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 381 of CSharp.javacc
+            consumeToken(TokenType.DELEGATE);
+            // Code for NonTerminal specified on line 382 of CSharp.javacc
+            pushOntoCallStack(64);
+            try {
+                Type();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 383 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 384 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                // Code for NonTerminal specified on line 384 of CSharp.javacc
+                pushOntoCallStack(65);
+                try {
+                    TypeParameterList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 385 of CSharp.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for RegexpStringLiteral specified on line 387 of CSharp.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for ZeroOrMore specified on line 388 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.WHERE) {
+                // Code for NonTerminal specified on line 388 of CSharp.javacc
+                pushOntoCallStack(66);
+                try {
+                    TypeParameterConstraintsClause();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from DelegateDeclaration");
+        }
+        catch(ParseException e) {
+            parseException25= e;
+            throw e;
+        }
+        finally {
+            if (parseException25== null) {
+                restoreCallStack(callStackSize25);
+            }
+            if (buildTree) {
+                if (parseException25== null) {
+                    closeNodeScope(DelegateDeclaration25, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException25.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 391
+    final public void TypeParameterConstraintsClause() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 391 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TypeParameterConstraintsClause26forced= false;
+        TypeParameterConstraintsClause TypeParameterConstraintsClause26= null;
+        if (buildTree) {
+            TypeParameterConstraintsClause26= new TypeParameterConstraintsClause();
+            openNodeScope(TypeParameterConstraintsClause26);
+        }
+        ParseException parseException26= null;
+        int callStackSize26= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 392 of CSharp.javacc
+            consumeToken(TokenType.WHERE);
+            // Code for RegexpRef specified on line 392 of CSharp.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpStringLiteral specified on line 392 of CSharp.javacc
+            consumeToken(TokenType.COLON);
+            // Code for ExpansionChoice specified on line 392 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for NonTerminal specified on line 392 of CSharp.javacc
+                pushOntoCallStack(67);
+                try {
+                    Name();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.CLASS) {
+                // Code for RegexpStringLiteral specified on line 392 of CSharp.javacc
+                consumeToken(TokenType.CLASS);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.STRUCT) {
+                // Code for RegexpStringLiteral specified on line 392 of CSharp.javacc
+                consumeToken(TokenType.STRUCT);
+            }
+            else {
+                pushOntoCallStack(68);
+                throw new ParseException(current_token.getNext(), first_set$CSharp_javacc$line_392$column_29, getCallStack());
+            }
+            // Code for ZeroOrOne specified on line 392 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 392 of CSharp.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 392 of CSharp.javacc
+                pushOntoCallStack(69);
+                try {
+                    Name();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from TypeParameterConstraintsClause");
+        }
+        catch(ParseException e) {
+            parseException26= e;
+            throw e;
+        }
+        finally {
+            if (parseException26== null) {
+                restoreCallStack(callStackSize26);
+            }
+            if (buildTree) {
+                if (parseException26== null) {
+                    closeNodeScope(TypeParameterConstraintsClause26, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException26.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 395
+    final public void ClassBody() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 395 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ClassBody27forced= false;
+        ClassBody ClassBody27= null;
+        if (buildTree) {
+            ClassBody27= new ClassBody();
+            openNodeScope(ClassBody27);
+        }
+        ParseException parseException27= null;
+        int callStackSize27= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 396 of CSharp.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for RegexpStringLiteral specified on line 398 of CSharp.javacc
+            consumeToken(TokenType.RBRACE);
+            if (trace_enabled) LOGGER.info("Exiting normally from ClassBody");
+        }
+        catch(ParseException e) {
+            parseException27= e;
+            throw e;
+        }
+        finally {
+            if (parseException27== null) {
+                restoreCallStack(callStackSize27);
+            }
+            if (buildTree) {
+                if (parseException27== null) {
+                    closeNodeScope(ClassBody27, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException27.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 401
+    final public void InterfaceBody() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 401 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean InterfaceBody28forced= false;
+        InterfaceBody InterfaceBody28= null;
+        if (buildTree) {
+            InterfaceBody28= new InterfaceBody();
+            openNodeScope(InterfaceBody28);
+        }
+        ParseException parseException28= null;
+        int callStackSize28= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 402 of CSharp.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for RegexpStringLiteral specified on line 404 of CSharp.javacc
+            consumeToken(TokenType.RBRACE);
+            if (trace_enabled) LOGGER.info("Exiting normally from InterfaceBody");
+        }
+        catch(ParseException e) {
+            parseException28= e;
+            throw e;
+        }
+        finally {
+            if (parseException28== null) {
+                restoreCallStack(callStackSize28);
+            }
+            if (buildTree) {
+                if (parseException28== null) {
+                    closeNodeScope(InterfaceBody28, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException28.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 407
+    final public void StructBody() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 407 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean StructBody29forced= false;
+        StructBody StructBody29= null;
+        if (buildTree) {
+            StructBody29= new StructBody();
+            openNodeScope(StructBody29);
+        }
+        ParseException parseException29= null;
+        int callStackSize29= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 408 of CSharp.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for RegexpStringLiteral specified on line 410 of CSharp.javacc
+            consumeToken(TokenType.RBRACE);
+            if (trace_enabled) LOGGER.info("Exiting normally from StructBody");
+        }
+        catch(ParseException e) {
+            parseException29= e;
+            throw e;
+        }
+        finally {
+            if (parseException29== null) {
+                restoreCallStack(callStackSize29);
+            }
+            if (buildTree) {
+                if (parseException29== null) {
+                    closeNodeScope(StructBody29, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException29.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 413
+    final public void TypeParameterList() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 413 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TypeParameterList30forced= false;
+        TypeParameterList TypeParameterList30= null;
+        if (buildTree) {
+            TypeParameterList30= new TypeParameterList();
+            openNodeScope(TypeParameterList30);
+        }
+        ParseException parseException30= null;
+        int callStackSize30= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 414 of CSharp.javacc
+            consumeToken(TokenType.LT);
+            // Code for ZeroOrMore specified on line 415 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET) {
+                // Code for NonTerminal specified on line 415 of CSharp.javacc
+                pushOntoCallStack(70);
+                try {
+                    AttributeSection();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified on line 416 of CSharp.javacc
+            // Code for ExpansionChoice specified on line 416 of CSharp.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IN) {
+                // Code for RegexpStringLiteral specified on line 416 of CSharp.javacc
+                consumeToken(TokenType.IN);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.OUT) {
+                // Code for RegexpStringLiteral specified on line 416 of CSharp.javacc
+                consumeToken(TokenType.OUT);
+            }
+            // Code for NonTerminal specified on line 417 of CSharp.javacc
+            pushOntoCallStack(71);
+            try {
+                Name();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 418 of CSharp.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 418 of CSharp.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for ZeroOrMore specified on line 418 of CSharp.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET) {
+                    // Code for NonTerminal specified on line 418 of CSharp.javacc
+                    pushOntoCallStack(72);
+                    try {
+                        AttributeSection();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for NonTerminal specified on line 418 of CSharp.javacc
+                pushOntoCallStack(73);
+                try {
+                    Name();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 419 of CSharp.javacc
+            consumeToken(TokenType.GT);
+            if (trace_enabled) LOGGER.info("Exiting normally from TypeParameterList");
+        }
+        catch(ParseException e) {
+            parseException30= e;
+            throw e;
+        }
+        finally {
+            if (parseException30== null) {
+                restoreCallStack(callStackSize30);
+            }
+            if (buildTree) {
+                if (parseException30== null) {
+                    closeNodeScope(TypeParameterList30, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException30.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // CSharp.javacc, line 422
+    final public void EnumBody() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 422 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean EnumBody31forced= false;
+        EnumBody EnumBody31= null;
+        if (buildTree) {
+            EnumBody31= new EnumBody();
+            openNodeScope(EnumBody31);
+        }
+        ParseException parseException31= null;
+        int callStackSize31= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 423 of CSharp.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for RegexpStringLiteral specified on line 429 of CSharp.javacc
+            consumeToken(TokenType.RBRACE);
+            if (trace_enabled) LOGGER.info("Exiting normally from EnumBody");
+        }
+        catch(ParseException e) {
+            parseException31= e;
+            throw e;
+        }
+        finally {
+            if (parseException31== null) {
+                restoreCallStack(callStackSize31);
+            }
+            if (buildTree) {
+                if (parseException31== null) {
+                    closeNodeScope(EnumBody31, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException31.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> Type_FIRST_SET= EnumSet.of(TokenType.BOOL, TokenType.BYTE, TokenType.CHAR, TokenType.DECIMAL, TokenType.DOUBLE, TokenType.DYNAMIC, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.OBJECT, TokenType.SBYTE, TokenType.SHORT, TokenType.STRING, TokenType.ULONG, TokenType.USHORT, TokenType.VOID, TokenType.UINT, TokenType.IDENTIFIER);
+    // CSharp.javacc, line 432
+    final public void Type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 432 of CSharp.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 433 of CSharp.javacc
+        boolean Type32forced= false;
+        Type Type32= null;
+        if (buildTree) {
+            Type32= new Type();
+            openNodeScope(Type32);
+        }
+        ParseException parseException32= null;
+        int callStackSize32= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$CSharp_javacc$line_433$column_5()) {
+                // Code for RegexpStringLiteral specified on line 433 of CSharp.javacc
+                consumeToken(TokenType.VOID);
+                // Code for RegexpStringLiteral specified on line 433 of CSharp.javacc
+                consumeToken(TokenType.STAR);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.VOID) {
+                // Code for RegexpStringLiteral specified on line 435 of CSharp.javacc
+                consumeToken(TokenType.VOID);
+            }
+            else if (resetScanAhead(1)&&first_set$CSharp_javacc$line_437$column_5.contains(nextTokenType)) {
+                // Code for ExpansionChoice specified on line 439 of CSharp.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.OBJECT) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.OBJECT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.DYNAMIC) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.DYNAMIC);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.STRING) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.STRING);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.DECIMAL) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.DECIMAL);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.SBYTE) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.SBYTE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.BYTE) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.BYTE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.SHORT) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.SHORT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.USHORT) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.USHORT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.INT) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.INT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.UINT) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.UINT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.LONG) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.LONG);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ULONG) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.ULONG);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.CHAR) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.CHAR);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.FLOAT) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.FLOAT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.DOUBLE) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.DOUBLE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.BOOL) {
+                    // Code for RegexpStringLiteral specified on line 439 of CSharp.javacc
+                    consumeToken(TokenType.BOOL);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                    // Code for NonTerminal specified on line 441 of CSharp.javacc
+                    pushOntoCallStack(74);
+                    try {
+                        Name();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for ZeroOrOne specified on line 441 of CSharp.javacc
+                    if (resetScanAhead(1)&&nextTokenType== TokenType.HOOK) {
+                        // Code for RegexpStringLiteral specified on line 441 of CSharp.javacc
+                        consumeToken(TokenType.HOOK);
+                    }
+                }
+                else {
+                    pushOntoCallStack(75);
+                    throw new ParseException(current_token.getNext(), first_set$CSharp_javacc$line_439$column_9, getCallStack());
+                }
+                // Code for ZeroOrOne specified on line 443 of CSharp.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET) {
+                    // Code for RegexpStringLiteral specified on line 443 of CSharp.javacc
+                    consumeToken(TokenType.LBRACKET);
+                    // Code for ZeroOrMore specified on line 443 of CSharp.javacc
+                    while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                        // Code for RegexpStringLiteral specified on line 443 of CSharp.javacc
+                        consumeToken(TokenType.COMMA);
+                    }
+                    // Code for RegexpStringLiteral specified on line 443 of CSharp.javacc
+                    consumeToken(TokenType.RBRACKET);
+                }
+                // Code for ZeroOrOne specified on line 444 of CSharp.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.STAR) {
+                    // Code for RegexpStringLiteral specified on line 444 of CSharp.javacc
+                    consumeToken(TokenType.STAR);
+                }
+            }
+            else {
+                pushOntoCallStack(76);
+                throw new ParseException(current_token.getNext(), Type_FIRST_SET, getCallStack());
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from Type");
+        }
+        catch(ParseException e) {
+            parseException32= e;
+            throw e;
+        }
+        finally {
+            if (parseException32== null) {
+                restoreCallStack(callStackSize32);
+            }
+            if (buildTree) {
+                if (parseException32== null) {
+                    closeNodeScope(Type32, nodeArity()> 1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException32.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_204$column_7= EnumSet.of(TokenType.LBRACKET, TokenType.ABSTRACT, TokenType.CLASS, TokenType.DELEGATE, TokenType.ENUM, TokenType.INTERFACE, TokenType.INTERNAL, TokenType.NEW, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SEALED, TokenType.STATIC, TokenType.STRUCT, TokenType.UNSAFE, TokenType.PARTIAL);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_236$column_10= EnumSet.of(TokenType.ASSEMBLY, TokenType.MODULE);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_241$column_5= EnumSet.of(TokenType.RETURN, TokenType.FIELD, TokenType.EVENT, TokenType.METHOD, TokenType.PARAM, TokenType.PROPERTY, TokenType.TYPE);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_298$column_4= EnumSet.of(TokenType.BOOL, TokenType.BYTE, TokenType.CHAR, TokenType.DECIMAL, TokenType.DOUBLE, TokenType.DYNAMIC, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.OBJECT, TokenType.SBYTE, TokenType.SHORT, TokenType.STRING, TokenType.ULONG, TokenType.USHORT, TokenType.VOID, TokenType.UINT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_319$column_11= EnumSet.of(TokenType.LBRACKET, TokenType.ABSTRACT, TokenType.CLASS, TokenType.DELEGATE, TokenType.ENUM, TokenType.INTERFACE, TokenType.INTERNAL, TokenType.NAMESPACE, TokenType.NEW, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SEALED, TokenType.STATIC, TokenType.STRUCT, TokenType.UNSAFE, TokenType.PARTIAL);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_321$column_11= EnumSet.of(TokenType.LBRACKET, TokenType.ABSTRACT, TokenType.CLASS, TokenType.DELEGATE, TokenType.ENUM, TokenType.INTERFACE, TokenType.INTERNAL, TokenType.NEW, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SEALED, TokenType.STATIC, TokenType.STRUCT, TokenType.UNSAFE, TokenType.PARTIAL);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_331$column_6= EnumSet.of(TokenType.CLASS, TokenType.DELEGATE, TokenType.ENUM, TokenType.INTERFACE, TokenType.STRUCT);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_347$column_9= EnumSet.of(TokenType.DYNAMIC, TokenType.OBJECT, TokenType.STRING, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_375$column_10= EnumSet.of(TokenType.BYTE, TokenType.CHAR, TokenType.INT, TokenType.LONG, TokenType.SBYTE, TokenType.SHORT, TokenType.ULONG, TokenType.USHORT, TokenType.UINT);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_392$column_29= EnumSet.of(TokenType.CLASS, TokenType.STRUCT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_437$column_5= EnumSet.of(TokenType.BOOL, TokenType.BYTE, TokenType.CHAR, TokenType.DECIMAL, TokenType.DOUBLE, TokenType.DYNAMIC, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.OBJECT, TokenType.SBYTE, TokenType.SHORT, TokenType.STRING, TokenType.ULONG, TokenType.USHORT, TokenType.UINT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$CSharp_javacc$line_439$column_9= EnumSet.of(TokenType.BOOL, TokenType.BYTE, TokenType.CHAR, TokenType.DECIMAL, TokenType.DOUBLE, TokenType.DYNAMIC, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.OBJECT, TokenType.SBYTE, TokenType.SHORT, TokenType.STRING, TokenType.ULONG, TokenType.USHORT, TokenType.UINT, TokenType.IDENTIFIER);
+    private final boolean scanToken(TokenType expectedType) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (type!=expectedType) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    private final boolean scanToken(EnumSet<TokenType> types) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (!types.contains(type)) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    //====================================
+    // Lookahead Routines
+    //====================================
+    private final boolean check$CSharp_javacc$line_214$column_10() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.USING)) return false;
+        if (!scanToken(TokenType.STATIC)) return false;
+        return true;
+    }
+
+    private final boolean check$CSharp_javacc$line_217$column_10() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.USING)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.ASSIGN)) return false;
+        return true;
+    }
+
+    private final boolean check$CSharp_javacc$line_260$column_14() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.ASSIGN)) return false;
+        return true;
+    }
+
+    private final boolean check$CSharp_javacc$line_268$column_13() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.ASSIGN)) return false;
+        return true;
+    }
+
+    private final boolean check$CSharp_javacc$line_284$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.DOUBLE_COLON)) return false;
+        return true;
+    }
+
+    private final boolean check$CSharp_javacc$line_433$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.VOID)) return false;
+        if (!scanToken(TokenType.STAR)) return false;
+        return true;
+    }
+
+    private final boolean check$CSharp_javacc$line_214$column_5() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.USING)) return false;
+            if (!scanToken(TokenType.STATIC)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$CSharp_javacc$line_217$column_5() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.USING)) return false;
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            if (!scanToken(TokenType.ASSIGN)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$CSharp_javacc$line_260$column_8() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            if (!scanToken(TokenType.ASSIGN)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$CSharp_javacc$line_268$column_8() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            if (!scanToken(TokenType.ASSIGN)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$CSharp_javacc$line_284$column_4() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            if (!scanToken(TokenType.DOUBLE_COLON)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    // Without DEBUG_PARSER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    // So that the warning about setTracingEnabled(true) only comes up once
+    private static volatile boolean tracingWarningGiven;
+    /**
+  * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER)
+  * and when the class is loaded, so this does nothing, apart from logging a warning
+  * (once) if tracing is asked for and is not on. Use #setLogLevel to
+  * quieten the tracing output.
+  */
+    @Deprecated public void setTracingEnabled(boolean tracingEnabled) {
+        if (tracingEnabled&&!trace_enabled&&!tracingWarningGiven) {
+            tracingWarningGiven= true;
+            LOGGER.warning("setTracingEnabled(true) does nothing, since the parser was generated without DEBUG_PARSER");
+        }
+    }
+
+    /**
+ * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER)
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER)
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+    // The parsing and lookahead stacks just hold indexes into the tables of call sites below.
+    // The NonTerminalCall objects are only created if there is an error to report.
+    private int[] parsingStack= new int[64];
+    private int parsingStackSize;
+    private int[] lookaheadStack= new int[64];
+    private int lookaheadStackSize;
+    private static final String[] CALL_SITE_PRODUCTIONS= {"CompilationUnit", "CompilationUnit", "CompilationUnit", "CompilationUnit", "CompilationUnit", "UsingDirective", "UsingDirective", "UsingDirective", "UsingDirective", "UsingStaticDirective", "UsingAliasDirective", "UsingNamespaceDirective", "GlobalAttributeSection", "GlobalAttributeSection", "AttributeSection", "AttributeSection", "AttributeList", "AttributeList", "Attribute", "Attribute", "AttributeArguments", "AttributeArguments", "AttributeArguments", "AttributeArguments", "NamedArgument", "Name", "Name", "Name", "Name", "QualifiedAliasMember", "TypeArgumentList", "TypeArgumentList", "Expression", "NamespaceDeclaration", "NamespaceDeclaration", "NamespaceBody", "NamespaceBody", "NamespaceBody", "NamespaceBody", "NamespaceBody", "TypeDeclaration", "TypeDeclaration", "TypeDeclaration", "TypeDeclaration", "TypeDeclaration", "TypeDeclaration", "TypeDeclaration", "ClassDeclaration", "ClassDeclaration", "ClassDeclaration", "ClassDeclaration", "ClassDeclaration", "ClassDeclaration", "StructDeclaration", "StructDeclaration", "StructDeclaration", "StructDeclaration", "InterfaceDeclaration", "InterfaceDeclaration", "InterfaceDeclaration", "InterfaceDeclaration", "InterfaceDeclaration", "EnumDeclaration", "EnumDeclaration", "DelegateDeclaration", "DelegateDeclaration", "DelegateDeclaration", "TypeParameterConstraintsClause", "TypeParameterConstraintsClause", "TypeParameterConstraintsClause", "TypeParameterList", "TypeParameterList", "TypeParameterList", "TypeParameterList", "Type", "Type", "Type"};
+    private static final String[] CALL_SITE_FILES= {"CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc", "CSharp.javacc"};
+    private static final int[] CALL_SITE_LINES= {198, 199, 200, 202, 204, 215, 218, 220, 214, 224, 228, 232, 236, 236, 241, 243, 249, 249, 253, 254, 261, 264, 269, 271, 278, 285, 287, 288, 284, 293, 299, 300, 305, 308, 308, 317, 317, 319, 321, 319, 327, 331, 333, 335, 337, 339, 331, 346, 347, 347, 347, 348, 349, 356, 356, 357, 358, 365, 366, 366, 367, 368, 375, 376, 382, 384, 388, 392, 392, 392, 415, 417, 418, 418, 441, 439, 433};
+    private static final int[] CALL_SITE_COLUMNS= {5, 5, 5, 7, 7, 8, 8, 5, 5, 22, 29, 13, 10, 37, 5, 4, 6, 21, 4, 5, 11, 11, 11, 15, 22, 7, 17, 23, 4, 5, 7, 12, 15, 17, 37, 9, 33, 11, 11, 11, 5, 6, 6, 6, 6, 6, 6, 4, 9, 9, 54, 4, 3, 10, 20, 6, 4, 5, 5, 15, 5, 4, 10, 4, 3, 4, 4, 29, 29, 61, 5, 4, 10, 29, 9, 9, 5};
+    private EnumSet<TokenType> currentFollowSet;
+    /**
+ * Inner class that represents entering a grammar production
+ */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile= sourceFile;
+            this.productionName= productionName;
+            this.line= line;
+            this.column= column;
+        }
+
+        NonTerminalCall(int callSite) {
+            this(CALL_SITE_FILES[callSite], CALL_SITE_PRODUCTIONS[callSite], CALL_SITE_LINES[callSite], CALL_SITE_COLUMNS[callSite]);
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("CSharpParser", productionName, sourceFile, line);
+        }
+
+    }
+    private final void pushOntoCallStack(int callSite) {
+        if (parsingStackSize== parsingStack.length) {
+            parsingStack= Arrays.copyOf(parsingStack, parsingStackSize*2);
+        }
+        parsingStack[parsingStackSize++]= callSite;
+    }
+
+    private final void popCallStack() {
+        parsingStackSize--;
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        if (parsingStackSize> prevSize) {
+            parsingStackSize= prevSize;
+        }
+    }
+
+    /**
+ * @return the parsing stack as a list of NonTerminalCall objects
+ */
+    List<NonTerminalCall> getCallStack() {
+        List<NonTerminalCall> result= new ArrayList<> (parsingStackSize);
+        for (int i= 0; i<parsingStackSize; i++) {
+            result.add(new NonTerminalCall(parsingStack[i]));
+        }
+        return result;
+    }
+
+    // The number of entries in the parsing stack and the lookahead stack together
+    private final int callStackDepth() {
+        return parsingStackSize+lookaheadStackSize;
+    }
+
+    // The call site of an entry in the parsing stack followed by the lookahead stack
+    private final int callStackEntry(int index) {
+        return index<parsingStackSize?parsingStack[index]:
+        lookaheadStack[index-parsingStackSize];
+    }
+
+    private final void pushOntoLookaheadStack(int callSite) {
+        if (lookaheadStackSize== lookaheadStack.length) {
+            lookaheadStack= Arrays.copyOf(lookaheadStack, lookaheadStackSize*2);
+        }
+        lookaheadStack[lookaheadStackSize++]= callSite;
+    }
+
+    private final void popLookaheadStack() {
+        lookaheadStackSize--;
+    }
+
+    private final boolean tolerantParsing= false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) throws ParseException {
+        boolean forced= false;
+        InvalidToken invalidToken= null;
+        Token oldToken= current_token;
+        current_token= current_token.getNext();
+        if (current_token== null) {
+            current_token= token_source.getNextToken();
+        }
+        if (current_token.getType()!=expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken);
+        }
+        else {
+            this.lastParsedToken= current_token;
+        }
+        if (buildTree&&tokensAreNodes) {
+            if (invalidToken!=null) {
+                pushNode(invalidToken);
+            }
+            pushNode(current_token);
+        }
+        if (trace_enabled) LOGGER.info("Consumed token of type "+current_token.getType()+" from "+current_token.getLocation());
+        return current_token;
+    }
+
+    private void handleUnexpectedTokenType(TokenType expectedType, boolean forced, Token oldToken) throws ParseException {
+        throw new ParseException(current_token, EnumSet.of(expectedType), getCallStack());
+    }
+
+    private class ParseState {
+        Token lastParsed;
+        NodeScope nodeScope;
+        ParseState() {
+            this.lastParsed= CSharpParser.this.lastParsedToken;
+            this.nodeScope= (NodeScope) currentNodeScope.clone();
+        }
+
+    }
+    private ArrayList<ParseState> parseStateStack= new ArrayList<> ();
+    void stashParseState() {
+        parseStateStack.add(new ParseState());
+    }
+
+    ParseState popParseState() {
+        return parseStateStack.remove(parseStateStack.size()-1);
+    }
+
+    void restoreStashedParseState() {
+        ParseState state= popParseState();
+        currentNodeScope= state.nodeScope;
+        if (state.lastParsed!=null) {
+            //REVISIT
+            current_token= lastParsedToken= state.lastParsed;
+        }
+        token_source.switchTo(lastParsedToken.getLexicalState());
+        if (token_source.doLexicalStateSwitch(lastParsedToken.getType())) {
+            token_source.reset(lastParsedToken);
+            lastParsedToken.setNext(null);
+            clearLookaheadTokens();
+        }
+    }
+
+    private boolean buildTree= true;
+    private boolean tokensAreNodes= true;
+    private boolean unparsedTokensAreNodes= true;
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes= unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes= tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope= new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        Node root= currentNodeScope.rootNode();
+        recursivelySetInputSource(root, this.token_source.input_stream);
+        return root;
+    }
+
+    static private void recursivelySetInputSource(Node n, FileLineMap fileLineMap) {
+        n.setInputSource(fileLineMap);
+        for (Node child : n.children()) {
+            //            if (child instanceof Token) {
+            //                 ((Token) child).setImage(null);
+            //            } 
+            recursivelySetInputSource(child, fileLineMap);
+        }
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    public void openNodeScope(Node n) {
+        Token start= getToken(1);
+        n.setBeginLine(start.getBeginLine());
+        n.setBeginColumn(start.getBeginColumn());
+        n.setInputSource(token_source.input_stream);
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes= new ArrayList<Node> ();
+        for (int i= 0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                Token token= (Token) child;
+                Token specialToken= token;
+                while (specialToken!=null) {
+                    specialToken= specialToken.getSpecialToken();
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken= specialToken.getNext();
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n, boolean condition) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a= nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes= new ArrayList<Node> ();
+            while (a--> 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                    Token token= (Token) child;
+                    Token specialToken= token;
+                    while (specialToken.getSpecialToken()!=null) {
+                        specialToken= specialToken.getSpecialToken();
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken= specialToken.getNext();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree= buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    CSharpParser jjtree= this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node>  {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope= CSharpParser.this.currentNodeScope;
+            CSharpParser.this.currentNodeScope= this;
+        }
+
+        boolean isRootScope() {
+            return parentScope== null;
+        }
+
+        Node rootNode() {
+            NodeScope ns= this;
+            while (ns.parentScope!=null) {
+                ns= ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        Node pop() {
+            return isEmpty()?parentScope.pop():
+            remove(size()-1);
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            CSharpParser.this.currentNodeScope= parentScope;
+        }
+
+        int nestingLevel() {
+            int result= 0;
+            NodeScope parent= this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent= parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+}
@@ -0,0 +1,574 @@
+/* Generated by: JavaCC 21 Parser Generator. Token.java */
+package org.parsers.csharp;
+
+import java.util.*;
+import org.parsers.csharp.tree.*;
+public class Token implements CSharpConstants, Node {
+    private FileLineMap fileLineMap;
+    public FileLineMap getFileLineMap() {
+        if (fileLineMap== null) {
+            Node n= getParent();
+            while (n!=null) {
+                fileLineMap= n.getFileLineMap();
+                if (fileLineMap!=null) break;
+                n= n.getParent();
+            }
+        }
+        return fileLineMap;
+    }
+
+    public Token(TokenType type, String image, FileLineMap fileLineMap) {
+        this.type= type;
+        this.image= image;
+        this.fileLineMap= fileLineMap;
+    }
+
+    public void setInputSource(FileLineMap fileLineMap) {
+        this.fileLineMap= fileLineMap;
+    }
+
+    private String inputSource= "";
+    private TokenType type;
+    public TokenType getType() {
+        return type;
+    }
+
+    void setType(TokenType type) {
+        this.type= type;
+    }
+
+    /**
+     * beginLine and beginColumn describe the position of the first character
+     * of this token; endLine and endColumn describe the position of the
+     * last character of this token.
+     */
+    private int beginLine, beginColumn, endLine, endColumn;
+    /**
+     * The string image of the token.
+     */
+    private String image;
+    public String getImage() {
+        if (image== null) {
+            return getSource();
+        }
+        return image;
+    }
+
+    public void setImage(String image) {
+        this.image= image;
+    }
+
+    private LexicalState lexicalState;
+    void setLexicalState(LexicalState state) {
+        this.lexicalState= state;
+    }
+
+    LexicalState getLexicalState() {
+        return lexicalState;
+    }
+
+    private Token next;
+    Token getNext() {
+        return next;
+    }
+
+    void setNext(Token next) {
+        this.next= next;
+    }
+
+    /**
+     * This field is used to access special tokens that occur prior to this
+     * token, but after the immediately preceding regular (non-special) token.
+     * If there are no such special tokens, this field is set to null.
+     * When there are more than one such special token, this field refers
+     * to the last of these special tokens, which in turn refers to the next
+     * previous special token through its specialToken field, and so on
+     * until the first special token (whose specialToken field is null).
+     * The next fields of special tokens refer to other special tokens that
+     * immediately follow it (without an intervening regular token).  If there
+     * is no such token, this field is null.
+     */
+    private Token specialToken;
+    public Token getSpecialToken() {
+        return specialToken;
+    }
+
+    public void setSpecialToken(Token specialToken) {
+        this.specialToken= specialToken;
+    }
+
+    private boolean unparsed;
+    //Should find a way to get rid of this.
+    Token() {
+    }
+
+    public Token(int kind) {
+        this(kind, null);
+        this.type= TokenType.values()[kind];
+    }
+
+    /**
+     * Constructs a new token for the specified Image and Kind.
+     */
+    public Token(int kind, String image) {
+        this.type= TokenType.values()[kind];
+        this.image= image;
+        ;
+    }
+
+    public Token(TokenType type, String image, String inputSource) {
+        this.type= type;
+        this.image= image;
+        this.inputSource= inputSource;
+    }
+
+    public boolean isUnparsed() {
+        return unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void clearChildren() {
+    }
+
+    public String getNormalizedText() {
+        if (getType()== TokenType.EOF) {
+            return"EOF";
+        }
+        return getImage();
+    }
+
+    public String toString() {
+        return getNormalizedText();
+    }
+
+    public static Token newToken(TokenType type, String image, FileLineMap fileLineMap) {
+        switch(type) {
+            case WHITESPACE:
+            return new Whitespace(TokenType.WHITESPACE, image, fileLineMap);
+            case MULTI_LINE_COMMENT:
+            return new Comment(TokenType.MULTI_LINE_COMMENT, image, fileLineMap);
+            case SINGLE_LINE_COMMENT:
+            return new Comment(TokenType.SINGLE_LINE_COMMENT, image, fileLineMap);
+            case FORMAL_COMMENT:
+            return new DocComment(TokenType.FORMAL_COMMENT, image, fileLineMap);
+            case LONG_LITERAL:
+            return new Literal(TokenType.LONG_LITERAL, image, fileLineMap);
+            case INTEGER_LITERAL:
+            return new Literal(TokenType.INTEGER_LITERAL, image, fileLineMap);
+            case FLOATING_POINT_LITERAL:
+            return new Literal(TokenType.FLOATING_POINT_LITERAL, image, fileLineMap);
+            case CHARACTER_LITERAL:
+            return new Literal(TokenType.CHARACTER_LITERAL, image, fileLineMap);
+            case STRING_LITERAL:
+            return new Literal(TokenType.STRING_LITERAL, image, fileLineMap);
+            case LPAREN:
+            return new Delimiter(TokenType.LPAREN, image, fileLineMap);
+            case RPAREN:
+            return new Delimiter(TokenType.RPAREN, image, fileLineMap);
+            case LBRACE:
+            return new Delimiter(TokenType.LBRACE, image, fileLineMap);
+            case RBRACE:
+            return new Delimiter(TokenType.RBRACE, image, fileLineMap);
+            case LBRACKET:
+            return new Delimiter(TokenType.LBRACKET, image, fileLineMap);
+            case RBRACKET:
+            return new Delimiter(TokenType.RBRACKET, image, fileLineMap);
+            case SEMICOLON:
+            return new Delimiter(TokenType.SEMICOLON, image, fileLineMap);
+            case COMMA:
+            return new Delimiter(TokenType.COMMA, image, fileLineMap);
+            case DOT:
+            return new Delimiter(TokenType.DOT, image, fileLineMap);
+            case ASSIGN:
+            return new Delimiter(TokenType.ASSIGN, image, fileLineMap);
+            case DOUBLE_COLON:
+            return new Delimiter(TokenType.DOUBLE_COLON, image, fileLineMap);
+            case VAR_ARGS:
+            return new Delimiter(TokenType.VAR_ARGS, image, fileLineMap);
+            case AT:
+            return new Delimiter(TokenType.AT, image, fileLineMap);
+            case GT:
+            return new Operator(TokenType.GT, image, fileLineMap);
+            case LT:
+            return new Operator(TokenType.LT, image, fileLineMap);
+            case BANG:
+            return new Operator(TokenType.BANG, image, fileLineMap);
+            case TILDE:
+            return new Operator(TokenType.TILDE, image, fileLineMap);
+            case HOOK:
+            return new Operator(TokenType.HOOK, image, fileLineMap);
+            case COLON:
+            return new Operator(TokenType.COLON, image, fileLineMap);
+            case EQ:
+            return new Operator(TokenType.EQ, image, fileLineMap);
+            case LE:
+            return new Operator(TokenType.LE, image, fileLineMap);
+            case GE:
+            return new Operator(TokenType.GE, image, fileLineMap);
+            case NE:
+            return new Operator(TokenType.NE, image, fileLineMap);
+            case SC_OR:
+            return new Operator(TokenType.SC_OR, image, fileLineMap);
+            case SC_AND:
+            return new Operator(TokenType.SC_AND, image, fileLineMap);
+            case INCR:
+            return new Operator(TokenType.INCR, image, fileLineMap);
+            case DECR:
+            return new Operator(TokenType.DECR, image, fileLineMap);
+            case PLUS:
+            return new Operator(TokenType.PLUS, image, fileLineMap);
+            case MINUS:
+            return new Operator(TokenType.MINUS, image, fileLineMap);
+            case STAR:
+            return new Operator(TokenType.STAR, image, fileLineMap);
+            case SLASH:
+            return new Operator(TokenType.SLASH, image, fileLineMap);
+            case BIT_AND:
+            return new Operator(TokenType.BIT_AND, image, fileLineMap);
+            case BIT_OR:
+            return new Operator(TokenType.BIT_OR, image, fileLineMap);
+            case XOR:
+            return new Operator(TokenType.XOR, image, fileLineMap);
+            case REM:
+            return new Operator(TokenType.REM, image, fileLineMap);
+            case LSHIFT:
+            return new Operator(TokenType.LSHIFT, image, fileLineMap);
+            case PLUSASSIGN:
+            return new Operator(TokenType.PLUSASSIGN, image, fileLineMap);
+            case MINUSASSIGN:
+            return new Operator(TokenType.MINUSASSIGN, image, fileLineMap);
+            case STARASSIGN:
+            return new Operator(TokenType.STARASSIGN, image, fileLineMap);
+            case SLASHASSIGN:
+            return new Operator(TokenType.SLASHASSIGN, image, fileLineMap);
+            case ANDASSIGN:
+            return new Operator(TokenType.ANDASSIGN, image, fileLineMap);
+            case ORASSIGN:
+            return new Operator(TokenType.ORASSIGN, image, fileLineMap);
+            case XORASSIGN:
+            return new Operator(TokenType.XORASSIGN, image, fileLineMap);
+            case REMASSIGN:
+            return new Operator(TokenType.REMASSIGN, image, fileLineMap);
+            case LEFT_SHIFT_ASSIGN:
+            return new Operator(TokenType.LEFT_SHIFT_ASSIGN, image, fileLineMap);
+            case RIGHT_SHIFT:
+            return new Operator(TokenType.RIGHT_SHIFT, image, fileLineMap);
+            case RIGHT_SHIFT_ASSIGN:
+            return new Operator(TokenType.RIGHT_SHIFT_ASSIGN, image, fileLineMap);
+            case LAMBDA:
+            return new Operator(TokenType.LAMBDA, image, fileLineMap);
+            case ABSTRACT:
+            return new KeyWord(TokenType.ABSTRACT, image, fileLineMap);
+            case ADD:
+            return new KeyWord(TokenType.ADD, image, fileLineMap);
+            case AS:
+            return new KeyWord(TokenType.AS, image, fileLineMap);
+            case ASCENDING:
+            return new KeyWord(TokenType.ASCENDING, image, fileLineMap);
+            case ASYNC:
+            return new KeyWord(TokenType.ASYNC, image, fileLineMap);
+            case AWAIT:
+            return new KeyWord(TokenType.AWAIT, image, fileLineMap);
+            case BASE:
+            return new KeyWord(TokenType.BASE, image, fileLineMap);
+            case BOOL:
+            return new KeyWord(TokenType.BOOL, image, fileLineMap);
+            case BREAK:
+            return new KeyWord(TokenType.BREAK, image, fileLineMap);
+            case BY:
+            return new KeyWord(TokenType.BY, image, fileLineMap);
+            case BYTE:
+            return new KeyWord(TokenType.BYTE, image, fileLineMap);
+            case CASE:
+            return new KeyWord(TokenType.CASE, image, fileLineMap);
+            case CATCH:
+            return new KeyWord(TokenType.CATCH, image, fileLineMap);
+            case CHAR:
+            return new KeyWord(TokenType.CHAR, image, fileLineMap);
+            case CHECKED:
+            return new KeyWord(TokenType.CHECKED, image, fileLineMap);
+            case CLASS:
+            return new KeyWord(TokenType.CLASS, image, fileLineMap);
+            case CONST:
+            return new KeyWord(TokenType.CONST, image, fileLineMap);
+            case CONTINUE:
+            return new KeyWord(TokenType.CONTINUE, image, fileLineMap);
+            case DECIMAL:
+            return new KeyWord(TokenType.DECIMAL, image, fileLineMap);
+            case DEFAULT:
+            return new KeyWord(TokenType.DEFAULT, image, fileLineMap);
+            case DELEGATE:
+            return new KeyWord(TokenType.DELEGATE, image, fileLineMap);
+            case DESCENDING:
+            return new KeyWord(TokenType.DESCENDING, image, fileLineMap);
+            case DO:
+            return new KeyWord(TokenType.DO, image, fileLineMap);
+            case DOUBLE:
+            return new KeyWord(TokenType.DOUBLE, image, fileLineMap);
+            case DYNAMIC:
+            return new KeyWord(TokenType.DYNAMIC, image, fileLineMap);
+            case ELSE:
+            return new KeyWord(TokenType.ELSE, image, fileLineMap);
+            case ENUM:
+            return new KeyWord(TokenType.ENUM, image, fileLineMap);
+            case EQUALS:
+            return new KeyWord(TokenType.EQUALS, image, fileLineMap);
+            case EXPLICIT:
+            return new KeyWord(TokenType.EXPLICIT, image, fileLineMap);
+            case EXTERN:
+            return new KeyWord(TokenType.EXTERN, image, fileLineMap);
+            case FALSE:
+            return new KeyWord(TokenType.FALSE, image, fileLineMap);
+            case FINALLY:
+            return new KeyWord(TokenType.FINALLY, image, fileLineMap);
+            case FIXED:
+            return new KeyWord(TokenType.FIXED, image, fileLineMap);
+            case FLOAT:
+            return new KeyWord(TokenType.FLOAT, image, fileLineMap);
+            case FOR:
+            return new KeyWord(TokenType.FOR, image, fileLineMap);
+            case FOREACH:
+            return new KeyWord(TokenType.FOREACH, image, fileLineMap);
+            case FROM:
+            return new KeyWord(TokenType.FROM, image, fileLineMap);
+            case GET:
+            return new KeyWord(TokenType.GET, image, fileLineMap);
+            case GLOBAL:
+            return new KeyWord(TokenType.GLOBAL, image, fileLineMap);
+            case GOTO:
+            return new KeyWord(TokenType.GOTO, image, fileLineMap);
+            case GROUP:
+            return new KeyWord(TokenType.GROUP, image, fileLineMap);
+            case IF:
+            return new KeyWord(TokenType.IF, image, fileLineMap);
+            case IMPLICIT:
+            return new KeyWord(TokenType.IMPLICIT, image, fileLineMap);
+            case IN:
+            return new KeyWord(TokenType.IN, image, fileLineMap);
+            case INT:
+            return new KeyWord(TokenType.INT, image, fileLineMap);
+            case INTERFACE:
+            return new KeyWord(TokenType.INTERFACE, image, fileLineMap);
+            case INTERNAL:
+            return new KeyWord(TokenType.INTERNAL, image, fileLineMap);
+            case INTO:
+            return new KeyWord(TokenType.INTO, image, fileLineMap);
+            case IS:
+            return new KeyWord(TokenType.IS, image, fileLineMap);
+            case JOIN:
+            return new KeyWord(TokenType.JOIN, image, fileLineMap);
+            case LET:
+            return new KeyWord(TokenType.LET, image, fileLineMap);
+            case LOCK:
+            return new KeyWord(TokenType.LOCK, image, fileLineMap);
+            case LONG:
+            return new KeyWord(TokenType.LONG, image, fileLineMap);
+            case NAMESPACE:
+            return new KeyWord(TokenType.NAMESPACE, image, fileLineMap);
+            case NEW:
+            return new KeyWord(TokenType.NEW, image, fileLineMap);
+            case NULL:
+            return new KeyWord(TokenType.NULL, image, fileLineMap);
+            case OBJECT:
+            return new KeyWord(TokenType.OBJECT, image, fileLineMap);
+            case ON:
+            return new KeyWord(TokenType.ON, image, fileLineMap);
+            case OPERATOR:
+            return new KeyWord(TokenType.OPERATOR, image, fileLineMap);
+            case ORDERBY:
+            return new KeyWord(TokenType.ORDERBY, image, fileLineMap);
+            case PRIVATE:
+            return new KeyWord(TokenType.PRIVATE, image, fileLineMap);
+            case PROTECTED:
+            return new KeyWord(TokenType.PROTECTED, image, fileLineMap);
+            case PUBLIC:
+            return new KeyWord(TokenType.PUBLIC, image, fileLineMap);
+            case READONLY:
+            return new KeyWord(TokenType.READONLY, image, fileLineMap);
+            case REF:
+            return new KeyWord(TokenType.REF, image, fileLineMap);
+            case REMOVE:
+            return new KeyWord(TokenType.REMOVE, image, fileLineMap);
+            case RETURN:
+            return new KeyWord(TokenType.RETURN, image, fileLineMap);
+            case SBYTE:
+            return new KeyWord(TokenType.SBYTE, image, fileLineMap);
+            case SEALED:
+            return new KeyWord(TokenType.SEALED, image, fileLineMap);
+            case SELECT:
+            return new KeyWord(TokenType.SELECT, image, fileLineMap);
+            case SET:
+            return new KeyWord(TokenType.SET, image, fileLineMap);
+            case SHORT:
+            return new KeyWord(TokenType.SHORT, image, fileLineMap);
+            case SIZEOF:
+            return new KeyWord(TokenType.SIZEOF, image, fileLineMap);
+            case STACKALLOC:
+            return new KeyWord(TokenType.STACKALLOC, image, fileLineMap);
+            case STATIC:
+            return new KeyWord(TokenType.STATIC, image, fileLineMap);
+            case STRING:
+            return new KeyWord(TokenType.STRING, image, fileLineMap);
+            case STRUCT:
+            return new KeyWord(TokenType.STRUCT, image, fileLineMap);
+            case SWITCH:
+            return new KeyWord(TokenType.SWITCH, image, fileLineMap);
+            case THIS:
+            return new KeyWord(TokenType.THIS, image, fileLineMap);
+            case THROW:
+            return new KeyWord(TokenType.THROW, image, fileLineMap);
+            case ULONG:
+            return new KeyWord(TokenType.ULONG, image, fileLineMap);
+            case UNCHECKED:
+            return new KeyWord(TokenType.UNCHECKED, image, fileLineMap);
+            case UNSAFE:
+            return new KeyWord(TokenType.UNSAFE, image, fileLineMap);
+            case USHORT:
+            return new KeyWord(TokenType.USHORT, image, fileLineMap);
+            case USING:
+            return new KeyWord(TokenType.USING, image, fileLineMap);
+            case VALUE:
+            return new KeyWord(TokenType.VALUE, image, fileLineMap);
+            case VAR:
+            return new KeyWord(TokenType.VAR, image, fileLineMap);
+            case VIRTUAL:
+            return new KeyWord(TokenType.VIRTUAL, image, fileLineMap);
+            case VOID:
+            return new KeyWord(TokenType.VOID, image, fileLineMap);
+            case VOLATILE:
+            return new KeyWord(TokenType.VOLATILE, image, fileLineMap);
+            case WHERE:
+            return new KeyWord(TokenType.WHERE, image, fileLineMap);
+            case WHILE:
+            return new KeyWord(TokenType.WHILE, image, fileLineMap);
+            case YIELD:
+            return new KeyWord(TokenType.YIELD, image, fileLineMap);
+            case IDENTIFIER:
+            return new Identifier(TokenType.IDENTIFIER, image, fileLineMap);
+            default:
+            return new Token(type, image, fileLineMap);
+        }
+    }
+
+    public static Token newToken(TokenType type, String image, CSharpParser parser) {
+        return newToken(type, image, parser.token_source);
+    }
+
+    public static Token newToken(TokenType type, String image, CSharpLexer lexer) {
+        return newToken(type, image, lexer.input_stream);
+    }
+
+    public static Token newToken(TokenType type, String image, Node node) {
+        return newToken(type, image, node.getFileLineMap());
+    }
+
+    public void setBeginColumn(int beginColumn) {
+        this.beginColumn= beginColumn;
+    }
+
+    public void setEndColumn(int endColumn) {
+        this.endColumn= endColumn;
+    }
+
+    public void setBeginLine(int beginLine) {
+        this.beginLine= beginLine;
+    }
+
+    public void setEndLine(int endLine) {
+        this.endLine= endLine;
+    }
+
+    public int getBeginLine() {
+        return beginLine;
+    }
+
+    public int getBeginColumn() {
+        return beginColumn;
+    }
+
+    public int getEndLine() {
+        return endLine;
+    }
+
+    public int getEndColumn() {
+        return endColumn;
+    }
+
+    private Node parent;
+    private Map<String, Object> attributes;
+    public void setChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Node removeChild(int i) {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean removeChild(Node n) {
+        return false;
+    }
+
+    public int indexOf(Node n) {
+        return-1;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void setParent(Node parent) {
+        this.parent= parent;
+    }
+
+    public int getChildCount() {
+        return 0;
+    }
+
+    public Node getChild(int i) {
+        return null;
+    }
+
+    public List<Node> children() {
+        return Collections.emptyList();
+    }
+
+    public void open() {
+    }
+
+    public void close() {
+    }
+
+    public Object getAttribute(String name) {
+        return attributes== null?null:
+        attributes.get(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes== null) {
+            attributes= new HashMap<String, Object> ();
+        }
+        attributes.put(name, value);
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes== null?false:
+        attributes.containsKey(name);
+    }
+
+    public Set<String> getAttributeNames() {
+        if (attributes== null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Attribute AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package org.parsers.csharp.tree;
+
+import org.parsers.csharp.*;
+@SuppressWarnings("unused")
+public class Attribute extends BaseNode {
+}
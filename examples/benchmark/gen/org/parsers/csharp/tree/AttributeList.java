@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for AttributeList AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package org.parsers.csharp.tree;
+
+import org.parsers.csharp.*;
+@SuppressWarnings("unused")
+public class AttributeList extends BaseNode {
+}
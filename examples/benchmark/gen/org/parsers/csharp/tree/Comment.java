@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Comment Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package org.parsers.csharp.tree;
+
+import org.parsers.csharp.*;
+import org.parsers.csharp.CSharpConstants.TokenType;
+@SuppressWarnings("unused")
+public class Comment extends Token {
+    public Comment(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public Comment(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
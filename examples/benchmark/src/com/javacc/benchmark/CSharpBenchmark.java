@@ -0,0 +1,42 @@
+package com.javacc.benchmark;
+
+import org.parsers.csharp.*;
+import org.parsers.csharp.CSharpConstants.TokenType;
+
+/**
+ * Benchmarks for the (still incomplete) C# grammar in examples/csharp.
+ */
+public class CSharpBenchmark extends GrammarBenchmark {
+
+    protected String getName() {
+        return "csharp";
+    }
+
+    protected String getExtension() {
+        return ".cs";
+    }
+
+    protected int countTokens(String inputSource, String content) {
+        CSharpLexer lexer = new CSharpLexer(inputSource, content);
+        int count = 1;
+        while (lexer.getNextToken().getType() != TokenType.EOF) {
+            count++;
+        }
+        return count;
+    }
+
+    protected Object parse(String inputSource, String content) throws ParseException {
+        CSharpParser parser = new CSharpParser(inputSource, content);
+        parser.CompilationUnit();
+        return parser.rootNode();
+    }
+
+    protected int countNodes(Object root) {
+        Node node = (Node) root;
+        int count = 1;
+        for (int i = 0; i < node.getChildCount(); i++) {
+            count += countNodes(node.getChild(i));
+        }
+        return count;
+    }
+}
@@ -0,0 +1,110 @@
+package com.javacc.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Compares two result files written by the bench target (JMH's CSV format),
+ * typically from two different commits, and prints the relative change
+ * of each score, including the secondary ones (tokens/s, nodes/s, allocation rate...)
+ * It refuses to compare two runs over different corpora, since their scores
+ * do not measure the same thing.
+ */
+public class CompareResults {
+
+    private static final String CORPORA_COLUMN = "Param: corpora";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: java com.javacc.benchmark.CompareResults <old results> <new results>");
+            System.exit(1);
+        }
+        Map<String, String> oldCorpora = new HashMap<>(), newCorpora = new HashMap<>();
+        Map<String, String[]> oldResults = read(Paths.get(args[0]), oldCorpora);
+        Map<String, String[]> newResults = read(Paths.get(args[1]), newCorpora);
+        if (!checkCorpora(args[0], oldCorpora, args[1], newCorpora)) {
+            System.exit(1);
+        }
+        System.out.println(String.format("%-50s %16s %16s %9s  %s", "Benchmark", "Old", "New", "Change", "Unit"));
+        for (Map.Entry<String, String[]> entry : newResults.entrySet()) {
+            String[] newRow = entry.getValue();
+            String[] oldRow = oldResults.get(entry.getKey());
+            double newScore = Double.parseDouble(newRow[4]);
+            String name = entry.getKey().replaceFirst("^com\\.javacc\\.benchmark\\.", "");
+            if (oldRow == null) {
+                System.out.println(String.format("%-50s %16s %16.3f %9s  %s", name, "-", newScore, "", newRow[6]));
+                continue;
+            }
+            double oldScore = Double.parseDouble(oldRow[4]);
+            String change = oldScore == 0 ? "" : String.format("%+8.1f%%", 100 * (newScore - oldScore) / oldScore);
+            System.out.println(String.format("%-50s %16.3f %16.3f %9s  %s", name, oldScore, newScore, change, newRow[6]));
+        }
+    }
+
+    // The key is the benchmark name followed by the values of any parameters
+    // other than the corpora, which go into the corpora map under the same key.
+    private static Map<String, String[]> read(Path path, Map<String, String> corpora) throws IOException {
+        Map<String, String[]> results = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        int corporaColumn = Arrays.asList(split(lines.get(0))).indexOf(CORPORA_COLUMN);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] row = split(line);
+            if (row.length < 7) continue;
+            StringBuilder key = new StringBuilder(row[0]);
+            for (int i = 7; i < row.length; i++) {
+                if (i != corporaColumn) {
+                    key.append(' ').append(row[i]);
+                }
+            }
+            results.put(key.toString(), row);
+            corpora.put(key.toString(), corporaColumn < 0 ? null : row[corporaColumn]);
+        }
+        return results;
+    }
+
+    // Whether each benchmark that is in both files was run over the same corpora.
+    private static boolean checkCorpora(String oldFile, Map<String, String> oldCorpora, String newFile, Map<String, String> newCorpora) {
+        for (Map.Entry<String, String> entry : newCorpora.entrySet()) {
+            if (!oldCorpora.containsKey(entry.getKey())) continue;
+            String oldHashes = oldCorpora.get(entry.getKey()), newHashes = entry.getValue();
+            if (oldHashes == null || newHashes == null) {
+                System.out.println("The results in " + (oldHashes == null ? oldFile : newFile)
+                                   + " do not say what corpora they were measured on, so they cannot be compared.");
+                return false;
+            }
+            if (!oldHashes.equals(newHashes)) {
+                System.out.println("The two runs were over different corpora, so their scores cannot be compared:");
+                System.out.println("  " + oldFile + ": " + oldHashes);
+                System.out.println("  " + newFile + ": " + newHashes);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append(c);
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,107 @@
+package com.javacc.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The input files for a benchmark, read into memory up front
+ * so that the measurements do not include any I/O.
+ * Run on its own, it prints the hashes of the corpora that the
+ * bench target passes to the benchmarks, so that they end up in the results.
+ */
+public final class Corpus {
+
+    private final List<String> names = new ArrayList<>();
+    private final List<String> contents = new ArrayList<>();
+    private String hash;
+
+    /**
+     * Prints name-hash for each corpus, separated by underscores (since JMH takes a comma
+     * to separate the values of a parameter), for example java-3f2a9c01d4e7_json-...
+     * @param args the name, directory and file extension of each corpus
+     */
+    public static void main(String[] args) throws IOException {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i + 2 < args.length; i += 3) {
+            if (result.length() > 0) {
+                result.append('_');
+            }
+            result.append(args[i]).append('-').append(load(args[i + 1], args[i + 2]).getHash());
+        }
+        System.out.println(result);
+    }
+
+    /**
+     * @param dir the directory to scan recursively
+     * @param extension only files ending with this are part of the corpus
+     */
+    static Corpus load(String dir, String extension) throws IOException {
+        Corpus corpus = new Corpus();
+        List<Path> paths;
+        try (Stream<Path> stream = Files.walk(Paths.get(dir))) {
+            paths = stream.filter(path -> path.toString().endsWith(extension))
+                          .sorted()
+                          .collect(Collectors.toList());
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (Path path : paths) {
+            byte[] bytes = Files.readAllBytes(path);
+            corpus.names.add(path.toString());
+            corpus.contents.add(new String(bytes, StandardCharsets.UTF_8));
+            // The hash goes by where each file is in the corpus directory, so it
+            // does not change if the whole directory is copied somewhere else.
+            String relativePath = Paths.get(dir).relativize(path).toString().replace('\\', '/');
+            digest.update(relativePath.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(bytes);
+            digest.update((byte) 0);
+        }
+        if (paths.isEmpty()) {
+            throw new IOException("No " + extension + " files in " + dir);
+        }
+        StringBuilder hash = new StringBuilder();
+        for (byte b : Arrays.copyOf(digest.digest(), 6)) {
+            hash.append(String.format("%02x", b));
+        }
+        corpus.hash = hash.toString();
+        return corpus;
+    }
+
+    /**
+     * @return the first 12 hex digits of the SHA-256 of the file names and contents
+     */
+    String getHash() {
+        return hash;
+    }
+
+    int size() {
+        return names.size();
+    }
+
+    String getName(int i) {
+        return names.get(i);
+    }
+
+    String getContent(int i) {
+        return contents.get(i);
+    }
+
+    long getLength() {
+        long length = 0;
+        for (String content : contents) {
+            length += content.length();
+        }
+        return length;
+    }
+}
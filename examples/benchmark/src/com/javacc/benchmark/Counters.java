@@ -0,0 +1,35 @@
+package com.javacc.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * The per-benchmark counters. JMH reports each of these as a rate next to
+ * the primary score, i.e. files/s, tokens/s and nodes/s.
+ */
+public class Counters {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Lexing {
+        public long files;
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            files = tokens = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Parsing {
+        public long files;
+        public long tokens;
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            files = tokens = nodes = 0;
+        }
+    }
+}
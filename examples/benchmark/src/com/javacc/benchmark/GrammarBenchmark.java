@@ -0,0 +1,123 @@
+package com.javacc.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Base class of the benchmarks for a generated lexer and parser.
+ * Each operation is one pass over the whole corpus. The lex benchmark
+ * just pulls tokens from the lexer until EOF, the parse benchmark
+ * builds the tree for each file the grammar accepts.
+ * The corpus is read from the directory given by the
+ * benchmark.corpus.&lt;name&gt; system property. The corpora
+ * parameter has its hash, so that the results say what they were measured on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public abstract class GrammarBenchmark {
+
+    /**
+     * The hashes of the corpora, as Corpus.main prints them. The bench target works them
+     * out and passes them in, and they are written out with the results, so that
+     * CompareResults can tell whether two runs were over the same files.
+     */
+    @Param("unknown")
+    public String corpora;
+
+    private Corpus corpus;
+    private final List<Integer> parseable = new ArrayList<>();
+    private final List<Integer> tokenCounts = new ArrayList<>();
+    private final List<Integer> treeSizes = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void loadCorpus() throws IOException {
+        String dir = System.getProperty("benchmark.corpus." + getName());
+        if (dir == null) {
+            throw new IllegalStateException("The benchmark.corpus." + getName() + " property is not set.");
+        }
+        corpus = Corpus.load(dir, getExtension());
+        String nameAndHash = getName() + "-" + corpus.getHash();
+        if (!Arrays.asList(corpora.split("_")).contains(nameAndHash)) {
+            throw new IllegalStateException("The " + getName() + " corpus in " + dir + " is " + nameAndHash
+                                            + ", but the corpora parameter is " + corpora
+                                            + ". Run the benchmarks with ant bench, which works it out.");
+        }
+        long tokens = 0, nodes = 0;
+        for (int i = 0; i < corpus.size(); i++) {
+            int tokenCount = countTokens(corpus.getName(i), corpus.getContent(i));
+            tokenCounts.add(tokenCount);
+            tokens += tokenCount;
+            try {
+                int treeSize = countNodes(parse(corpus.getName(i), corpus.getContent(i)));
+                parseable.add(i);
+                treeSizes.add(treeSize);
+                nodes += treeSize;
+            } catch (Exception e) {
+                // Not accepted by the grammar, so this file is only used for lexing
+            }
+        }
+        if (parseable.isEmpty()) {
+            throw new IllegalStateException("The grammar does not accept any of the files in " + dir);
+        }
+        System.out.println();
+        System.out.println(getName() + " corpus (" + nameAndHash + "): " + corpus.size() + " files, " + corpus.getLength()
+                           + " characters, " + tokens + " tokens, " + parseable.size()
+                           + " files parsed into " + nodes + " nodes");
+    }
+
+    @Benchmark
+    public void lex(Counters.Lexing counters) {
+        for (int i = 0; i < corpus.size(); i++) {
+            counters.tokens += countTokens(corpus.getName(i), corpus.getContent(i));
+        }
+        counters.files += corpus.size();
+    }
+
+    @Benchmark
+    public void parse(Counters.Parsing counters, Blackhole blackhole) throws Exception {
+        for (int j = 0; j < parseable.size(); j++) {
+            int i = parseable.get(j);
+            blackhole.consume(parse(corpus.getName(i), corpus.getContent(i)));
+            counters.tokens += tokenCounts.get(i);
+            counters.nodes += treeSizes.get(j);
+        }
+        counters.files += parseable.size();
+    }
+
+    /**
+     * @return the name used in the corpus property and the setup output
+     */
+    protected abstract String getName();
+
+    /**
+     * @return the file extension of the corpus files
+     */
+    protected abstract String getExtension();
+
+    /**
+     * Runs the lexer alone over the input.
+     * @return the number of tokens, including EOF
+     */
+    protected abstract int countTokens(String inputSource, String content);
+
+    /**
+     * Parses the input, building the tree.
+     * @return the root node
+     */
+    protected abstract Object parse(String inputSource, String content) throws Exception;
+
+    /**
+     * @return the number of nodes in the tree below (and including) root
+     */
+    protected abstract int countNodes(Object root);
+}
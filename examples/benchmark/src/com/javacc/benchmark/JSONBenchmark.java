@@ -0,0 +1,42 @@
+package com.javacc.benchmark;
+
+import com.javacc.json.*;
+import com.javacc.json.JSONConstants.TokenType;
+
+/**
+ * Benchmarks for the JSON grammar in examples/json.
+ */
+public class JSONBenchmark extends GrammarBenchmark {
+
+    protected String getName() {
+        return "json";
+    }
+
+    protected String getExtension() {
+        return ".json";
+    }
+
+    protected int countTokens(String inputSource, String content) {
+        JSONLexer lexer = new JSONLexer(inputSource, content);
+        int count = 1;
+        while (lexer.getNextToken().getType() != TokenType.EOF) {
+            count++;
+        }
+        return count;
+    }
+
+    protected Object parse(String inputSource, String content) throws ParseException {
+        JSONParser parser = new JSONParser(inputSource, content);
+        parser.Value();
+        return parser.rootNode();
+    }
+
+    protected int countNodes(Object root) {
+        Node node = (Node) root;
+        int count = 1;
+        for (int i = 0; i < node.getChildCount(); i++) {
+            count += countNodes(node.getChild(i));
+        }
+        return count;
+    }
+}
@@ -0,0 +1,42 @@
+package com.javacc.benchmark;
+
+import com.javaparser.*;
+import com.javaparser.JavaConstants.TokenType;
+
+/**
+ * Benchmarks for the Java grammar used by JavaCC itself.
+ */
+public class JavaBenchmark extends GrammarBenchmark {
+
+    protected String getName() {
+        return "java";
+    }
+
+    protected String getExtension() {
+        return ".java";
+    }
+
+    protected int countTokens(String inputSource, String content) {
+        JavaLexer lexer = new JavaLexer(inputSource, content);
+        int count = 1;
+        while (lexer.getNextToken().getType() != TokenType.EOF) {
+            count++;
+        }
+        return count;
+    }
+
+    protected Object parse(String inputSource, String content) throws ParseException {
+        JavaParser parser = new JavaParser(inputSource, content);
+        parser.CompilationUnit();
+        return parser.rootNode();
+    }
+
+    protected int countNodes(Object root) {
+        Node node = (Node) root;
+        int count = 1;
+        for (int i = 0; i < node.getChildCount(); i++) {
+            count += countNodes(node.getChild(i));
+        }
+        return count;
+    }
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ALT_LTE Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class ALT_LTE extends Token {
+    public ALT_LTE(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public ALT_LTE(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
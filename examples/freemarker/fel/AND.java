@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for AND Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class AND extends Token {
+    public AND(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public AND(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for BUILT_IN Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class BUILT_IN extends Token {
+    public BUILT_IN(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public BUILT_IN(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for BaseExpression AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class BaseExpression extends BaseNode {
+}
@@ -0,0 +1,202 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BaseNode.java */
+package fel;
+
+import java.util.*;
+@SuppressWarnings("rawtypes")
+public class BaseNode implements Node {
+    private FileLineMap fileLineMap;
+    public FileLineMap getFileLineMap() {
+        return fileLineMap;
+    }
+
+    public void setInputSource(FileLineMap fileLineMap) {
+        this.fileLineMap= fileLineMap;
+    }
+
+    static private Class listClass= ArrayList.class;
+    static public void setListClass(Class<?extends List> listClass) {
+        BaseNode.listClass= listClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Node> newList() {
+        try {
+            return(List<Node> ) listClass.getDeclaredConstructor().newInstance();
+        }
+        catch(Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected Node parent;
+    private List<Node> children= newList();
+    /**
+     * @return the children of this node, in a list that can be changed. Code injected
+     * into the node classes gets at the children through this, or the methods of Node.
+     */
+    protected List<Node> childList() {
+        return children;
+    }
+
+    private int beginLine, beginColumn, endLine, endColumn;
+    private Map<String, Object> attributes;
+    private boolean unparsed;
+    public boolean isUnparsed() {
+        return this.unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    private ParseException parseException;
+    public ParseException getParseException() {
+        return parseException;
+    }
+
+    public void setParseException(ParseException parseException) {
+        this.parseException= parseException;
+    }
+
+    public void open() {
+    }
+
+    public void close() {
+    }
+
+    public void setParent(Node n) {
+        parent= n;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void addChild(Node n) {
+        childList().add(n);
+        n.setParent(this);
+    }
+
+    public void addChild(int i, Node n) {
+        childList().add(i, n);
+        n.setParent(this);
+    }
+
+    public Node getChild(int i) {
+        return childList().get(i);
+    }
+
+    public void setChild(int i, Node n) {
+        childList().set(i, n);
+        n.setParent(this);
+    }
+
+    public Node removeChild(int i) {
+        return childList().remove(i);
+    }
+
+    public boolean removeChild(Node n) {
+        return childList().remove(n);
+    }
+
+    public void clearChildren() {
+        children.clear();
+    }
+
+    public int getChildCount() {
+        return childList().size();
+    }
+
+    public List<Node> children() {
+        return Collections.unmodifiableList(childList());
+    }
+
+    public Object getAttribute(String name) {
+        return attributes== null?null:
+        attributes.get(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes== null) {
+            attributes= new HashMap<String, Object> ();
+        }
+        attributes.put(name, value);
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes== null?false:
+        attributes.containsKey(name);
+    }
+
+    public Set<String> getAttributeNames() {
+        if (attributes== null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+
+    public int getBeginLine() {
+        if (beginLine<=0) {
+            if (!childList().isEmpty()) {
+                beginLine= childList().get(0).getBeginLine();
+                beginColumn= childList().get(0).getBeginColumn();
+            }
+        }
+        return beginLine;
+    }
+
+    public int getEndLine() {
+        if (endLine<=0) {
+            if (!childList().isEmpty()) {
+                Node last= childList().get(childList().size()-1);
+                endLine= last.getEndLine();
+                endColumn= last.getEndColumn();
+            }
+        }
+        return endLine;
+    }
+
+    public int getBeginColumn() {
+        if (beginColumn<=0) {
+            if (!childList().isEmpty()) {
+                beginLine= childList().get(0).getBeginLine();
+                beginColumn= childList().get(0).getBeginColumn();
+            }
+        }
+        return beginColumn;
+    }
+
+    public int getEndColumn() {
+        if (endColumn<=0) {
+            if (!childList().isEmpty()) {
+                Node last= childList().get(childList().size()-1);
+                endLine= last.getEndLine();
+                endColumn= last.getEndColumn();
+            }
+        }
+        return endColumn;
+    }
+
+    public void setBeginLine(int beginLine) {
+        this.beginLine= beginLine;
+    }
+
+    public void setEndLine(int endLine) {
+        this.endLine= endLine;
+    }
+
+    public void setBeginColumn(int beginColumn) {
+        this.beginColumn= beginColumn;
+    }
+
+    public void setEndColumn(int endColumn) {
+        this.endColumn= endColumn;
+    }
+
+    public String toString() {
+        StringBuilder buf= new StringBuilder();
+        for (Token t : Nodes.getRealTokens(this)) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for BooleanLiteral AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class BooleanLiteral extends BaseNode {
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for CLOSE_PAREN Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class CLOSE_PAREN extends Token {
+    public CLOSE_PAREN(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public CLOSE_PAREN(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for DOT_DOT Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class DOT_DOT extends Token {
+    public DOT_DOT(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public DOT_DOT(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for DOUBLE_EQUALS Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class DOUBLE_EQUALS extends Token {
+    public DOUBLE_EQUALS(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public DOUBLE_EQUALS(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
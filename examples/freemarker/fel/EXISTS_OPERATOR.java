@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for EXISTS_OPERATOR Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class EXISTS_OPERATOR extends Token {
+    public EXISTS_OPERATOR(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public EXISTS_OPERATOR(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
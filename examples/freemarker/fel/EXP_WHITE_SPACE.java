@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for EXP_WHITE_SPACE Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class EXP_WHITE_SPACE extends Token {
+    public EXP_WHITE_SPACE(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public EXP_WHITE_SPACE(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,1109 @@
+/* Generated by: JavaCC 21 Parser Generator. FELLexer.java */
+package fel;
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+@SuppressWarnings("unused")
+public class FELLexer implements FELConstants {
+    private static final Logger LOGGER= Logger.getLogger("FELParser");
+    // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+        input_stream.setInputSource(inputSource);
+    }
+
+    public FELLexer(String inputSource, CharSequence chars) {
+        this(inputSource, chars, LexicalState.FTL_EXPRESSION, 1, 1);
+    }
+
+    public FELLexer(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+      * Lexes the file by mapping it into memory, see {@link FileLineMap#mapFile(java.nio.file.Path, java.nio.charset.Charset)}
+      */
+    public FELLexer(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public FELLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.FTL_EXPRESSION, 1, 1);
+    }
+
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated public FELLexer(Reader reader) {
+        this("input", reader);
+    }
+
+    public FELLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+    // Tokens from the previous input refer to its FileLineMap, so that one is not recycled.
+    public void reset(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, CharSequence chars) {
+        reset(inputSource, chars, LexicalState.FTL_EXPRESSION, 1, 1);
+    }
+
+    public void reset(CharSequence chars) {
+        reset("input", chars);
+    }
+
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.FTL_EXPRESSION, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    FileLineMap input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    LexicalState lexicalState= LexicalState.FTL_EXPRESSION;
+    boolean doLexicalStateSwitch(int tokenType) {
+        LexicalState newLexState= newLexicalStates[tokenType];
+        if (newLexState!=null) {
+            return switchTo(newLexState);
+        }
+        return false;
+    }
+
+    boolean doLexicalStateSwitch(TokenType tokenType) {
+        return doLexicalStateSwitch(tokenType.ordinal());
+    }
+
+    private static final LexicalState[] newLexicalStates= {null, null, LexicalState.EXPRESSION_COMMENT, LexicalState.EXPRESSION_COMMENT, LexicalState.EXPRESSION_COMMENT, null, LexicalState.FTL_EXPRESSION, LexicalState.FTL_EXPRESSION, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, };
+    void addToken(Token token) {
+        input_stream.addToken(token);
+    }
+
+    int tabSize= 8;
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+            this.lexicalState= lexState;
+            return true;
+        }
+        return false;
+    }
+
+    private InvalidToken invalidToken;
+    private Token pendingToken;
+    public Token getNextToken() {
+        if (pendingToken!=null) {
+            Token result= pendingToken;
+            pendingToken= null;
+            return result;
+        }
+        Token tok= null;
+        do {
+            tok= nextToken();
+        }
+        while (tok instanceof InvalidToken);
+        if (invalidToken!=null) {
+            addToken(invalidToken);
+            invalidToken.setNext(tok);
+            Token it= invalidToken;
+            pendingToken= tok;
+            this.invalidToken= null;
+            return it;
+        }
+        addToken(tok);
+        return tok;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t) {
+        input_stream.goTo(t.getEndLine(), t.getEndColumn());
+        input_stream.forward(1);
+    }
+
+    FileLineMap getFileLineMap() {
+        return input_stream;
+    }
+
+    private boolean[] jjbeenHere= new boolean[2];
+    private int jjnewStateCnt;
+    private int jjround;
+    private int jjmatchedPos;
+    //FIXME,should be an enum.
+    private int jjmatchedKind;
+    private String inputSource= "input";
+    // BitSet for TOKEN
+    static private BitSet tokenSet= BitSet.valueOf(new long[]{58546795155816193L, });
+    // BitSet for SKIP
+    static private BitSet skipSet= BitSet.valueOf(new long[]{194L, });
+    // BitSet for SPECIAL
+    static private BitSet specialSet= BitSet.valueOf(new long[]{192L, });
+    private final int[] jjrounds= new int[25];
+    private final int[] jjstateSet= new int[50];
+    private final StringBuilder image= new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+        int i;
+        jjround= 0x80000001;
+        for (i= 25; i--> 0; ) jjrounds[i]= 0x80000000;
+    }
+
+    // Clears what is left over from the previous input, when the lexer is reset.
+    // The jjrounds array does not need clearing, since jjround only ever moves on.
+    private void resetState(String inputSource, LexicalState lexState) {
+        this.inputSource= inputSource;
+        invalidToken= null;
+        pendingToken= null;
+        Arrays.fill(jjbeenHere, false);
+        jjmatchedKind= jjmatchedPos= jjnewStateCnt= 0;
+        curChar= 0;
+        image.setLength(0);
+        matchedCharsLength= 0;
+        switchTo(lexState);
+    }
+
+    private Token nextToken() {
+        Token specialToken= null;
+        Token matchedToken;
+        int curPos= 0;
+        EOFLoop:
+        while (true) {
+            int retval1= input_stream.beginToken();
+            curChar= (char)(retval1);
+            if (retval1== -1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind= 0;
+                Token eof= jjFillToken();
+                tokenLexicalActions();
+                eof.setSpecialToken(specialToken);
+                addToken(eof);
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength= 0;
+            while (true) {
+                switch(lexicalState) {
+                    case FTL_EXPRESSION:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveStringLiteralDfa0_FTL_EXPRESSION();
+                    break;
+                    case EXPRESSION_COMMENT:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveStringLiteralDfa0_EXPRESSION_COMMENT();
+                    break;
+                }
+                if (jjmatchedKind!=0x7FFFFFFF) {
+                    if (jjmatchedPos+1<curPos) {
+                        if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                        input_stream.backup(curPos-jjmatchedPos-1);
+                    }
+                    if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                    if (tokenSet.get(jjmatchedKind)) {
+                        matchedToken= jjFillToken();
+                        matchedToken.setSpecialToken(specialToken);
+                        tokenLexicalActions();
+                        jjmatchedKind= matchedToken.getType().ordinal();
+                        if (newLexicalStates[jjmatchedKind]!=null) {
+                            switchTo(newLexicalStates[jjmatchedKind]);
+                        }
+                        addToken(matchedToken);
+                        return matchedToken;
+                    }
+                    else if (skipSet.get(jjmatchedKind)) {
+                        if (specialSet.get(jjmatchedKind)) {
+                            matchedToken= jjFillToken();
+                            matchedToken.setUnparsed(true);
+                            if (specialToken== null) {
+                                specialToken= matchedToken;
+                            }
+                            else {
+                                matchedToken.setSpecialToken(specialToken);
+                                specialToken.setNext(matchedToken);
+                                specialToken= matchedToken;
+                            }
+                            addToken(matchedToken);
+                            tokenLexicalActions();
+                        }
+                        else tokenLexicalActions();
+                        if (newLexicalStates[jjmatchedKind]!=null) {
+                            this.lexicalState= newLexicalStates[jjmatchedKind];
+                        }
+                        continue EOFLoop;
+                    }
+                    tokenLexicalActions();
+                    doLexicalStateSwitch(jjmatchedKind);
+                    curPos= 0;
+                    jjmatchedKind= 0x7FFFFFFF;
+                    int retval= input_stream.readChar();
+                    if (retval>=0) {
+                        curChar= (char) retval;
+                        if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                        continue;
+                    }
+                }
+                int error_line= input_stream.getEndLine();
+                int error_column= input_stream.getEndColumn();
+                String error_after= null;
+                error_after= curPos<=1?"":
+                input_stream.getImage();
+                if (invalidToken== null) {
+                    invalidToken= new InvalidToken(""+curChar, input_stream);
+                    invalidToken.setBeginLine(error_line);
+                    invalidToken.setBeginColumn(error_column);
+                }
+                else {
+                    invalidToken.setImage(invalidToken.getImage()+curChar);
+                }
+                invalidToken.setEndLine(error_line);
+                invalidToken.setEndColumn(error_column);
+                return invalidToken;
+            }
+        }
+    }
+
+    private void tokenLexicalActions() {
+        switch(jjmatchedKind) {
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage= input_stream.getImage();
+        beginLine= input_stream.getBeginLine();
+        beginColumn= input_stream.getBeginColumn();
+        endLine= input_stream.getEndLine();
+        endColumn= input_stream.getEndColumn();
+        t= Token.newToken(TokenType.values()[jjmatchedKind], curTokenImage, this);
+        t.setBeginLine(beginLine);
+        t.setEndLine(endLine);
+        t.setBeginColumn(beginColumn);
+        t.setEndColumn(endColumn);
+        //        t.setInputSource(this.inputSource);
+        t.setLexicalState(lexicalState);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state]!=jjround) {
+            jjstateSet[jjnewStateCnt++]= state;
+            jjrounds[state]= jjround;
+        }
+    }
+
+    private void jjAddStates(int start, int end) {
+        do {
+            jjstateSet[jjnewStateCnt++]= jjnextStates[start];
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start+1]);
+    }
+
+    private int jjStopAtPos(int pos, int kind) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    private int jjStartNfa_FTL_EXPRESSION(int pos, long active0) {
+        return jjMoveNfa_FTL_EXPRESSION(jjStopStringLiteralDfa_FTL_EXPRESSION(pos, active0), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_FTL_EXPRESSION(int pos, long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0x1efc000000000L)!=0L) {
+                jjmatchedKind= 51;
+                return 2;
+            }
+            return-1;
+            case 1:
+            if ((active0&0xfc000000000L)!=0L) return 2;
+            if ((active0&0x1e00000000000L)!=0L) {
+                if (jjmatchedPos!=1) {
+                    jjmatchedKind= 51;
+                    jjmatchedPos= 1;
+                }
+                return 2;
+            }
+            return-1;
+            case 2:
+            if ((active0&0xc0000000000L)!=0L) return 2;
+            if ((active0&0x1e00000000000L)!=0L) {
+                jjmatchedKind= 51;
+                jjmatchedPos= 2;
+                return 2;
+            }
+            return-1;
+            case 3:
+            if ((active0&0x600000000000L)!=0L) return 2;
+            if ((active0&0x1800000000000L)!=0L) {
+                jjmatchedKind= 51;
+                jjmatchedPos= 3;
+                return 2;
+            }
+            return-1;
+            case 4:
+            if ((active0&0x1800000000000L)!=0L) return 2;
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_FTL_EXPRESSION(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_EXPRESSION>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_FTL_EXPRESSION(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_FTL_EXPRESSION() {
+        switch(curChar) {
+            case 33:
+            jjmatchedKind= 28;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x80000000L);
+            case 37:
+            return jjStopAtPos(0, 20);
+            case 38:
+            jjmatchedKind= 22;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x1000000000L);
+            case 40:
+            return jjStopAtPos(0, 8);
+            case 41:
+            return jjStopAtPos(0, 9);
+            case 42:
+            return jjStopAtPos(0, 18);
+            case 43:
+            return jjStopAtPos(0, 16);
+            case 44:
+            return jjStopAtPos(0, 25);
+            case 45:
+            return jjStopAtPos(0, 17);
+            case 46:
+            jjmatchedKind= 15;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x102000000000L);
+            case 47:
+            return jjStopAtPos(0, 19);
+            case 58:
+            return jjStopAtPos(0, 26);
+            case 59:
+            return jjStopAtPos(0, 27);
+            case 60:
+            jjmatchedKind= 23;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x20000000cL);
+            case 61:
+            jjmatchedKind= 14;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x40000000L);
+            case 62:
+            jjmatchedKind= 24;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x400000000L);
+            case 63:
+            jjmatchedKind= 29;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x100000000L);
+            case 91:
+            jjmatchedKind= 10;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x10L);
+            case 93:
+            return jjStopAtPos(0, 11);
+            case 97:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x10000000000L);
+            case 102:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x800000000000L);
+            case 103:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x44000000000L);
+            case 105:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x20000000000L);
+            case 108:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x88000000000L);
+            case 110:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x200000000000L);
+            case 116:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x400000000000L);
+            case 117:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x1000000000000L);
+            case 123:
+            return jjStopAtPos(0, 12);
+            case 124:
+            jjmatchedKind= 21;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x800000000L);
+            case 125:
+            return jjStopAtPos(0, 13);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_FTL_EXPRESSION(1, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_FTL_EXPRESSION(long active0) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_EXPRESSION(0, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_EXPRESSION>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 33:
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0, 0x8L);
+            case 35:
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0, 0x14L);
+            case 38:
+            if ((active0&0x1000000000L)!=0L) return jjStopAtPos(1, 36);
+            break;
+            case 46:
+            if ((active0&0x2000000000L)!=0L) {
+                jjmatchedKind= 37;
+                jjmatchedPos= 1;
+            }
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0, 0x100000000000L);
+            case 61:
+            if ((active0&0x40000000L)!=0L) return jjStopAtPos(1, 30);
+            else if ((active0&0x80000000L)!=0L) return jjStopAtPos(1, 31);
+            else if ((active0&0x200000000L)!=0L) return jjStopAtPos(1, 33);
+            else if ((active0&0x400000000L)!=0L) return jjStopAtPos(1, 34);
+            break;
+            case 63:
+            if ((active0&0x100000000L)!=0L) return jjStopAtPos(1, 32);
+            break;
+            case 97:
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0, 0x800000000000L);
+            case 110:
+            if ((active0&0x20000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(1, 41, 2);
+            break;
+            case 114:
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0, 0x400000000000L);
+            case 115:
+            if ((active0&0x10000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(1, 40, 2);
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0, 0x1000000000000L);
+            case 116:
+            if ((active0&0x4000000000L)!=0L) {
+                jjmatchedKind= 38;
+                jjmatchedPos= 1;
+            }
+            else if ((active0&0x8000000000L)!=0L) {
+                jjmatchedKind= 39;
+                jjmatchedPos= 1;
+            }
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0, 0xc0000000000L);
+            case 117:
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0, 0x200000000000L);
+            case 124:
+            if ((active0&0x800000000L)!=0L) return jjStopAtPos(1, 35);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_EXPRESSION(0, active0);
+    }
+
+    private int jjMoveStringLiteralDfa2_FTL_EXPRESSION(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_FTL_EXPRESSION(0, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_EXPRESSION(1, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_EXPRESSION>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 45:
+            return jjMoveStringLiteralDfa3_FTL_EXPRESSION(active0, 0x1cL);
+            case 46:
+            if ((active0&0x100000000000L)!=0L) return jjStopAtPos(2, 44);
+            break;
+            case 101:
+            if ((active0&0x40000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(2, 42, 2);
+            else if ((active0&0x80000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(2, 43, 2);
+            break;
+            case 105:
+            return jjMoveStringLiteralDfa3_FTL_EXPRESSION(active0, 0x1000000000000L);
+            case 108:
+            return jjMoveStringLiteralDfa3_FTL_EXPRESSION(active0, 0xa00000000000L);
+            case 117:
+            return jjMoveStringLiteralDfa3_FTL_EXPRESSION(active0, 0x400000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_EXPRESSION(1, active0);
+    }
+
+    private int jjMoveStringLiteralDfa3_FTL_EXPRESSION(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_FTL_EXPRESSION(1, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_EXPRESSION(2, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 3;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_EXPRESSION>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 45:
+            if ((active0&0x4L)!=0L) return jjStopAtPos(3, 2);
+            else if ((active0&0x8L)!=0L) return jjStopAtPos(3, 3);
+            else if ((active0&0x10L)!=0L) return jjStopAtPos(3, 4);
+            break;
+            case 101:
+            if ((active0&0x400000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(3, 46, 2);
+            break;
+            case 108:
+            if ((active0&0x200000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(3, 45, 2);
+            break;
+            case 110:
+            return jjMoveStringLiteralDfa4_FTL_EXPRESSION(active0, 0x1000000000000L);
+            case 115:
+            return jjMoveStringLiteralDfa4_FTL_EXPRESSION(active0, 0x800000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_EXPRESSION(2, active0);
+    }
+
+    private int jjMoveStringLiteralDfa4_FTL_EXPRESSION(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_FTL_EXPRESSION(2, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_EXPRESSION(3, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 4;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_EXPRESSION>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active0&0x800000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(4, 47, 2);
+            break;
+            case 103:
+            if ((active0&0x1000000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(4, 48, 2);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_EXPRESSION(3, active0);
+    }
+
+    private int jjMoveNfa_FTL_EXPRESSION(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 25;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        if ((0x3ff000000000000L&l)!=0L) {
+                            if (kind> 49) kind= 49;
+                            jjAddStates(0, 2);
+                        }
+                        else if ((0x100002600L&l)!=0L) {
+                            if (kind> 1) kind= 1;
+                            jjCheckNAdd(0);
+                        }
+                        else if (curChar== 39) jjCheckNAddStates(3, 5);
+                        else if (curChar== 34) jjCheckNAddStates(6, 8);
+                        else if (curChar== 36) {
+                            if (kind> 51) kind= 51;
+                            jjCheckNAdd(2);
+                        }
+                        break;
+                        case 0:
+                        if ((0x100002600L&l)== 0L) break;
+                        if (kind> 1) kind= 1;
+                        jjCheckNAdd(0);
+                        break;
+                        case 2:
+                        if ((0x3ff00100fffc1ffL&l)== 0L) break;
+                        if (kind> 51) kind= 51;
+                        jjCheckNAdd(2);
+                        break;
+                        case 3:
+                        if (curChar== 34) jjCheckNAddStates(6, 8);
+                        break;
+                        case 5:
+                        jjCheckNAddStates(6, 8);
+                        break;
+                        case 6:
+                        if ((0xfffffffbffffffffL&l)!=0L) jjCheckNAddStates(6, 8);
+                        break;
+                        case 7:
+                        if (curChar== 34&&kind> 54) kind= 54;
+                        break;
+                        case 8:
+                        if (curChar== 39) jjCheckNAddStates(3, 5);
+                        break;
+                        case 10:
+                        jjCheckNAddStates(3, 5);
+                        break;
+                        case 11:
+                        if ((0xffffff7fffffffffL&l)!=0L) jjCheckNAddStates(3, 5);
+                        break;
+                        case 12:
+                        if (curChar== 39&&kind> 54) kind= 54;
+                        break;
+                        case 14:
+                        if (curChar== 34) jjCheckNAddTwoStates(15, 16);
+                        break;
+                        case 15:
+                        if ((0xfffffffbffffffffL&l)!=0L) jjCheckNAddTwoStates(15, 16);
+                        break;
+                        case 16:
+                        if (curChar== 34&&kind> 55) kind= 55;
+                        break;
+                        case 17:
+                        if (curChar== 39) jjCheckNAddTwoStates(18, 19);
+                        break;
+                        case 18:
+                        if ((0xffffff7fffffffffL&l)!=0L) jjCheckNAddTwoStates(18, 19);
+                        break;
+                        case 19:
+                        if (curChar== 39&&kind> 55) kind= 55;
+                        break;
+                        case 20:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 49) kind= 49;
+                        jjCheckNAddStates(0, 2);
+                        break;
+                        case 21:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 49) kind= 49;
+                        jjCheckNAdd(21);
+                        break;
+                        case 22:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(22, 23);
+                        break;
+                        case 23:
+                        if (curChar== 46) jjstateSet[jjnewStateCnt++]= 24;
+                        break;
+                        case 24:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 50) kind= 50;
+                        jjCheckNAdd(24);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        if ((0x7fffffe87ffffffL&l)!=0L) {
+                            if (kind> 51) kind= 51;
+                            jjCheckNAdd(2);
+                        }
+                        if (curChar== 114) jjAddStates(9, 10);
+                        break;
+                        case 2:
+                        if ((0x87fffffe87ffffffL&l)== 0L) break;
+                        if (kind> 51) kind= 51;
+                        jjCheckNAdd(2);
+                        break;
+                        case 4:
+                        if (curChar== 92) jjstateSet[jjnewStateCnt++]= 5;
+                        break;
+                        case 5:
+                        jjCheckNAddStates(6, 8);
+                        break;
+                        case 6:
+                        if ((0xffffffffefffffffL&l)!=0L) jjCheckNAddStates(6, 8);
+                        break;
+                        case 9:
+                        if (curChar== 92) jjstateSet[jjnewStateCnt++]= 10;
+                        break;
+                        case 10:
+                        jjCheckNAddStates(3, 5);
+                        break;
+                        case 11:
+                        if ((0xffffffffefffffffL&l)!=0L) jjCheckNAddStates(3, 5);
+                        break;
+                        case 13:
+                        if (curChar== 114) jjCheckNAddTwoStates(14, 17);
+                        break;
+                        case 15:
+                        jjCheckNAddTwoStates(15, 16);
+                        break;
+                        case 18:
+                        jjCheckNAddTwoStates(18, 19);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_FTL_EXPRESSION[jjCharClassOffsets_FTL_EXPRESSION[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        if ((0x8L&l)== 0L) break;
+                        if (kind> 51) kind= 51;
+                        jjCheckNAdd(2);
+                        break;
+                        case 2:
+                        if ((0xaL&l)== 0L) break;
+                        if (kind> 51) kind= 51;
+                        jjCheckNAdd(2);
+                        break;
+                        case 5:
+                        case 6:
+                        if ((0xeL&l)!=0L) jjCheckNAddStates(6, 8);
+                        break;
+                        case 10:
+                        case 11:
+                        if ((0xeL&l)!=0L) jjCheckNAddStates(3, 5);
+                        break;
+                        case 15:
+                        if ((0xeL&l)!=0L) jjCheckNAddTwoStates(15, 16);
+                        break;
+                        case 18:
+                        if ((0xeL&l)!=0L) jjCheckNAddTwoStates(18, 19);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 25-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_FTL_EXPRESSION= jjUnpack(256, "\001\001\001A\004\001A\010\001A\014\001A\020\001A\024\001A\030\001A\034\001A \001A$\001A(\001A,\001A0\001A4\001A8\001A<\001A@\001\001AD\001\001AH\001\001AL\001\001AP\001\001A\004\001AT\001\001AX\001\001A\134\001\005A \001A`\001\001Ad\001\001Ah\001\001Al\001\016A \001Ap\001\001At\001\002A \031A\004\001Ax\001Q\001A\004\001A|\001\004A\004\001A@\002\007A +A\004\001AD\002!A \001A\004\001AH\002\001AL\002\001A\004\001AP\002\001AT\002\001AX\002");
+    private static final int[] jjCharClasses_FTL_EXPRESSION= jjUnpack(9984, "@\002\001 \002\002\003\004\004\004\003\001\004\012\003\001\004\004\003\001\004\005\003\027\004\001\003\037\004\001\003h\004\004\002\003\022\004\034\003^\001\004\002\003\011\004\002\003\007\004\016\003\002\004\016\003\005\004\011\003\001\004\021\003O\001\002\021\003\003\002\027\003\001\004\013\003\001\004\001\003\003\004\001\003\001\004\001\003\024\004\001\003,\004\001\003\010\004\002\003\032\004\014\003B\002\004\001\003\004\002\005\0039\004\002\003\002\004\002\003\002\004\003\003&\004\002\003\002\0047\003&\004\002\003\001\004\007\003'\004\011\003\021\002\001\003\027\002\001\003\003\002\001\003\001\002\001\003\002\002\001\003\001\002\013\003\033\004\005\003\003\004.\003\032\004\005\003\013\004\013\002\012\003\012\002\006\003\001\002c\001\004\001\003\001\004\007\002\002\003\006\002\002\004\002\002\001\003\004\002\002\003\012\002\003\004\022\003\001\002\001\004\001\002\033\004\003\003\033\0025\003&\004\013\002P\005\003\003\002\001\0035\004\002\003\001\002\001\004\020\002\002\003\001\004\004\002\003\003\012\004\002\002\002\003\012\002\021\003\003\002\001\003\010\004\002\003\002\004\002\003\026\004\001\003\007\004\001\003\001\004\003\003\004\004\002\003\001\002\001\003\007\002\002\003\002\002\002\003\003\002\011\003\001\002\004\003\002\004\001\003\003\004\002\002\002\003\012\002\004\004\016\003\001\002\002\003\006\004\004\003\002\004\002\003\026\004\001\003\007\004\001\003\002\004\001\003\002\004\001\003\002\004\002\003\001\002\001\003\005\002\004\003\002\002\002\003\003\002\013\003\004\004\001\003\001\004\007\003\014\002\003\004\014\003\003\002\001\003\007\004\001\003\001\004\001\003\003\004\001\003\026\004\001\003\007\004\001\003\002\004\001\003\005\004\002\003\001\002\001\004\010\002\001\003\003\002\001\003\003\002\002\003\001\004\017\003\001\004\005\003\012\002\021\003\003\002\001\003\010\004\002\003\002\004\002\003\026\004\001\003\007\004\001\003\002\004\002\003\004\004\002\003\001\002\001\004\006\002\003\003\002\002\002\003\003\002\010\003\002\002\004\003\002\004\001\003\003\004\004\003\012\002\022\003\002\002\001\003\006\004\003\003\003\004\001\003\004\004\003\003\002\004\001\003\001\004\001\003\002\004\003\003\002\004\003\003\003\004\003\003\010\004\001\003\003\004\004\003\005\002\003\003\003\002\001\003\004\002\011\003\001\002\017\003\011\002\021\003\003\002\001\003\010\004\001\003\003\004\001\003\027\004\001\003\012\004\001\003\005\004\004\003\007\002\001\003\003\002\001\003\004\002\007\003\002\002\011\003\002\004\004\003\012\002\022\003\002\002\001\003\010\004\001\003\003\004\001\003\027\004\001\003\012\004\001\003\005\004\004\003\007\002\001\003\003\002\001\003\004\002\007\003\002\002\007\003\001\004\001\003\002\004\004\003\012\002\022\003\002\002\001\003\010\004\001\003\003\004\001\003\027\004\001\003\020\004\004\003\006\002\002\003\003\002\001\003\004\002\011\003\001\002\010\003\002\004\004\003\012\002\022\003\002\002\001\003\022\004\003\003\030\004\001\003\011\004\001\003\001\004\002\003\007\004\003\003\001\002\004\003\006\002\001\003\001\002\001\003\010\002\022\003\002\002\015\0030\004\001\002\002\004\007\002\004\003\010\004\010\002\001\003\012\002'\003\002\004\001\003\001\004\002\003\002\004\001\003\001\004\002\003\001\004\006\003\004\004\001\003\007\004\001\003\003\004\001\003\001\004\001\003\001\004\002\003\002\004\001\003\004\004\001\002\002\004\006\002\001\003\002\002\001\004\002\003\005\004\001\003\001\004\001\003\006\002\002\003\012\002\002\003\002\004\042\003\001\004\027\003\002\002\006\003\012\002\013\003\001\002\001\003\001\002\001\003\001\002\004\003\002\002\010\004\001\003\042\004\006\003\024\002\001\003\002\002\004\004\004\003\010\002\001\003$\002\011\003\001\0029\003\042\004\001\003\005\004\001\003\002\004\001\003\007\002\003\003\004\002\006\003\012\002\006\003\006\004\004\002F\001\003&\004\012\003'\004\011\003Z\001\004\005\003D\001\004\005\003R\001\004\006\003\007\004\001\003?\004\001\003\001\004\001\003\004\004\002\003\007\004\001\003\001\004\001\003\004\004\002\003'\004\001\003\001\004\001\003\004\004\002\003\037\004\001\003\001\004\001\003\004\004\002\003\007\004\001\003\001\004\001\003\004\004\002\003\007\004\001\003\007\004\001\003\027\004\001\003\037\004\001\003\001\004\001\003\004\004\002\003\007\004\001\003'\004\001\003\023\004\016\003\011\002.\003U\001\004\014\003l\005\004\002\003\010\004\012\003\032\004\005\003K\001\004U\002\0034\004 \002\007\003\001\004\004\003\012\002!\003\004\002\001\003\012\002\006\003X\001\004\010\003)\004\001\002V\001\003\134\002\004\004\003Z\001\004\006\003\026\004\002\003\006\004\002\003&\004\002\003\006\004\002\003\010\004\001\003\001\004\001\003\001\004\001\003\001\004\001\003\037\004\002\0035\004\001\003\007\004\001\003\001\004\003\003\003\004\001\003\007\004\003\003\004\004\002\003\006\004\004\003\015\004\005\003\003\004\001\003\007\004\017\003\004\002\032\003\005\002\020\003\002\004)\003\006\002\017\003\001\004 \003\020\004 \003\015\002\004\003\001\002 \003\001\004\004\003\001\004\002\003\012\004\001\003\001\004\003\003\005\004\006\003\001\004\001\003\001\004\001\003\001\004\001\003\004\004\001\003\003\004\001\003\007\004&\003$\004A\002\003\003\004\031\003\011\004\006\002\001\003\005\004\002\003\003\004\006\003T\001\004\004\003\002\002\002\003\002\004\002\003^\001\004\006\003(\004\004\003^\001\004\021\003\030\004H\001\003v\002\004J\001\003f\002\004Z\001\003M\002\004s\001\003d\002\004\134\001\003.\004R\003\003\007\004\014\003\005\004\005\003\001\004\001\002\012\004\001\003\015\004\001\003\005\004\001\003\001\004\001\003\002\004\001\003\002\004\001\003l\001\004!\003k\001\004\022\003@\001\004\002\0036\004(\003\014\004$\003\004\002\017\003\002\004\030\003\003\004\031\003\001\004\006\003\003\004\001\003\001\004\001\003G\002\004\002\003\001\002\004\003\001\004\013\003\012\002\007\003\032\004\004\003\001\004\001\003\032\004\012\003Z\001\004\003\003\006\004\002\003\006\004\002\003\006\004\002\003\003\004\003\003\002\004\003\003\002\004\022\003\003\002\004\003");
+    private int jjStartNfa_EXPRESSION_COMMENT(int pos, long active0) {
+        return jjMoveNfa_EXPRESSION_COMMENT(jjStopStringLiteralDfa_EXPRESSION_COMMENT(pos, active0), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_EXPRESSION_COMMENT(int pos, long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0xc0L)!=0L) {
+                jjmatchedKind= 5;
+                return-1;
+            }
+            return-1;
+            case 1:
+            if ((active0&0xc0L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 5;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            case 2:
+            if ((active0&0xc0L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 5;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_EXPRESSION_COMMENT(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<EXPRESSION_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_EXPRESSION_COMMENT(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_EXPRESSION_COMMENT() {
+        switch(curChar) {
+            case 45:
+            return jjMoveStringLiteralDfa1_EXPRESSION_COMMENT(0xc0L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_EXPRESSION_COMMENT(0, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_EXPRESSION_COMMENT(long active0) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_EXPRESSION_COMMENT(0, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<EXPRESSION_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 45:
+            return jjMoveStringLiteralDfa2_EXPRESSION_COMMENT(active0, 0xc0L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_EXPRESSION_COMMENT(0, active0);
+    }
+
+    private int jjMoveStringLiteralDfa2_EXPRESSION_COMMENT(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_EXPRESSION_COMMENT(0, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_EXPRESSION_COMMENT(1, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"<EXPRESSION_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 62:
+            if ((active0&0x40L)!=0L) return jjStopAtPos(2, 6);
+            break;
+            case 93:
+            if ((active0&0x80L)!=0L) return jjStopAtPos(2, 7);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_EXPRESSION_COMMENT(1, active0);
+    }
+
+    private int jjMoveNfa_EXPRESSION_COMMENT(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 1;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        kind= 5;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        kind= 5;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_EXPRESSION_COMMENT[jjCharClassOffsets_EXPRESSION_COMMENT[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if ((0x2L&l)!=0L&&kind> 5) kind= 5;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 1-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_EXPRESSION_COMMENT= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_EXPRESSION_COMMENT= jjUnpack(512, "@\002\001@\006\002");
+    private static int[] jjUnpack(int size, String...packed) {
+        int[] result= new int[size];
+        int index= 0;
+        for (String s : packed) {
+            int i= 0;
+            while (i<s.length()) {
+                int count= 0, value= 0, shift= 0, c;
+                do {
+                    c= s.charAt(i++);
+                    count|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                shift= 0;
+                do {
+                    c= s.charAt(i++);
+                    value|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                Arrays.fill(result, index, index+count, value-1);
+                index+=count;
+            }
+        }
+        return result;
+    }
+
+    private static final int[] jjnextStates= {21, 22, 23, 9, 11, 12, 4, 6, 7, 14, 17};
+}
@@ -0,0 +1,3827 @@
+/* Generated by: JavaCC 21 Parser Generator. FELParser.java */
+package fel;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.logging.*;
+import java.io.*;
+import static fel.FELConstants.TokenType.*;
+@SuppressWarnings("unused")
+public class FELParser implements FELConstants {
+    static public void main(String[] args) throws ParseException {
+        FELParser parser= new FELParser(new java.io.InputStreamReader(System.in));
+        Node n= parser.Input();
+        Nodes.dump(n, "  ");
+    }
+
+    private static final java.util.logging.Logger LOGGER= Logger.getLogger(FELParser.class.getName());
+    public static void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    // The last token successfully "consumed"     
+    Token current_token;
+    private TokenType nextTokenType;
+    // The number of tokens after current_token that the current scanahead has looked at
+    private int currentLookaheadIndex;
+    private int remainingLookahead;
+    private TokenType upToTokenType;
+    private EnumSet<TokenType> upToFirstSet;
+    private Token lastParsedToken;
+    //private Token nextToken; //REVISIT
+    //private EnumSet<Token> currentFollowSet;
+    private boolean cancelled;
+    public void cancel() {
+        cancelled= true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public FELLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public FELParser(String inputSource, CharSequence content) {
+        this(new FELLexer(inputSource, content));
+    }
+
+    public FELParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+   * Parses the file by mapping it into memory, rather than reading it into a String.
+   */
+    public FELParser(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(new FELLexer(path, charset));
+    }
+
+    public FELParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public FELParser(Reader reader) {
+        this(new FELLexer(reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public FELParser(FELLexer lexer) {
+        token_source= lexer;
+        current_token= new Token();
+    }
+
+    /*
+   * The reset methods set up this parser, along with its lexer, to parse new input.
+   * That saves creating a new parser for each input, and the buffers and stacks
+   * that have been allocated so far are reused.
+   */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        resetState();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+   * Maps the file into memory, like the corresponding constructor.
+   */
+    public void reset(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        reset(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        token_source.reset(inputSource, reader);
+        resetState();
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    // Puts everything back the way the constructor left it, apart
+    // from any settings that were changed.
+    private void resetState() {
+        current_token= new Token();
+        nextTokenType= null;
+        currentLookaheadIndex= remainingLookahead= 0;
+        upToTokenType= null;
+        upToFirstSet= null;
+        lastParsedToken= null;
+        cancelled= false;
+        clearLookaheadTokens();
+        parsingStackSize= lookaheadStackSize= 0;
+        currentFollowSet= null;
+        currentNTForced= false;
+        parsingProblems= null;
+        parseStateStack.clear();
+        while (!currentNodeScope.isRootScope()) {
+            currentNodeScope= currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.getNext()!=null) current_token= current_token.getNext();
+        else {
+            Token nextToken= token_source.getNextToken();
+            current_token.setNext(nextToken);
+            current_token= nextToken;
+        }
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        return index<=0?current_token:
+        lookaheadToken(index);
+    }
+
+    // A circular buffer of the tokens following current_token, so that
+    // lookahead does not have to keep following the tokens' next links.
+    // The links are still there (and are the real thing), so if current_token
+    // has moved on since the buffer was filled, it is brought into line.
+    private Token[] lookaheadTokens= new Token[16];
+    private int lookaheadStart, lookaheadCount;
+    private Token lookaheadAnchor;
+    // The index-th token after current_token, index being at least 1
+    private Token lookaheadToken(int index) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        int mask= lookaheadTokens.length-1;
+        while (lookaheadCount<index) {
+            Token last= lookaheadCount== 0?current_token:
+            lookaheadTokens[(lookaheadStart+lookaheadCount-1)&mask];
+            Token nextToken= last.getNext();
+            if (nextToken== null) {
+                nextToken= token_source.getNextToken();
+                last.setNext(nextToken);
+            }
+            if (lookaheadCount== lookaheadTokens.length) {
+                growLookaheadTokens();
+                mask= lookaheadTokens.length-1;
+            }
+            lookaheadTokens[(lookaheadStart+lookaheadCount++)&mask]= nextToken;
+        }
+        return lookaheadTokens[(lookaheadStart+index-1)&mask];
+    }
+
+    private void syncLookaheadTokens() {
+        int mask= lookaheadTokens.length-1;
+        // Typically, current_token has moved forward to one of the buffered tokens.
+        while (lookaheadCount> 0) {
+            Token t= lookaheadTokens[lookaheadStart];
+            lookaheadTokens[lookaheadStart]= null;
+            lookaheadStart= (lookaheadStart+1)&mask;
+            --lookaheadCount;
+            if (t== current_token) break;
+        }
+        lookaheadAnchor= current_token;
+    }
+
+    private void growLookaheadTokens() {
+        Token[] newTokens= new Token[lookaheadTokens.length*2];
+        for (int i= 0; i<lookaheadCount; i++) {
+            newTokens[i]= lookaheadTokens[(lookaheadStart+i)&(lookaheadTokens.length-1)];
+        }
+        lookaheadTokens= newTokens;
+        lookaheadStart= 0;
+    }
+
+    // To be called if the tokens' next links are changed behind our back.
+    private void clearLookaheadTokens() {
+        Arrays.fill(lookaheadTokens, null);
+        lookaheadStart= lookaheadCount= 0;
+        lookaheadAnchor= null;
+    }
+
+    private final boolean setNextTokenType() {
+        nextTokenType= lookaheadToken(1).getType();
+        return true;
+    }
+
+    private final TokenType nextTokenType() {
+        setNextTokenType();
+        return nextTokenType;
+    }
+
+    private final boolean resetScanAhead(int amount, EnumSet<TokenType> upToFirstSet) {
+        resetScanAhead(amount);
+        this.upToFirstSet= upToFirstSet;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount, TokenType upToTokenType) {
+        resetScanAhead(amount);
+        this.upToTokenType= upToTokenType;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount) {
+        currentLookaheadIndex= 0;
+        remainingLookahead= amount;
+        this.upToTokenType= null;
+        this.upToFirstSet= null;
+        setNextTokenType();
+        return true;
+    }
+
+    // FEL.javacc, line 825
+    final public Node Input() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 825 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 828 of FEL.javacc
+        pushOntoCallStack(0);
+        boolean boolean1= currentNTForced;
+        currentNTForced= false;
+        try {
+            Expression();
+        }
+        finally {
+            popCallStack();
+            currentNTForced= boolean1;
+        }
+        // Code for EndOfFile specified on line 829 of FEL.javacc
+        consumeToken(TokenType.EOF, false);
+        // Code for CodeBlock specified on line 830 of FEL.javacc
+        return rootNode();
+    }
+
+    // FEL.javacc, line 835
+    final public void Expression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 835 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Expression1forced= this.tolerantParsing&&currentNTForced;
+        Expression Expression1= null;
+        if (buildTree) {
+            Expression1= new Expression();
+            openNodeScope(Expression1);
+        }
+        ParseException parseException1= null;
+        int callStackSize2= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 837 of FEL.javacc
+            pushOntoCallStack(1);
+            boolean boolean3= currentNTForced;
+            currentNTForced= false;
+            try {
+                OrExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean3;
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Expression");
+        }
+        catch(ParseException e) {
+            parseException1= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException1== null) {
+                restoreCallStack(callStackSize2);
+            }
+            if (buildTree) {
+                if (parseException1== null) {
+                    closeNodeScope(Expression1, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException1: "+parseException1.getMessage());
+                    Expression1.setParseException(parseException1);
+                    if (Expression1forced) {
+                        restoreCallStack(callStackSize2);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in Expression\n";
+                        message+=parseException1.getMessage();
+                        addParsingProblem(new ParsingProblem(message, Expression1));
+                        closeNodeScope(Expression1, true);
+                    }
+                    else {
+                        closeNodeScope(Expression1, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException1");
+                        throw parseException1;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 840
+    final public void OrExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 840 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean OrExpression2forced= this.tolerantParsing&&currentNTForced;
+        OrExpression OrExpression2= null;
+        if (buildTree) {
+            OrExpression2= new OrExpression();
+            openNodeScope(OrExpression2);
+        }
+        ParseException parseException2= null;
+        int callStackSize4= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 842 of FEL.javacc
+            pushOntoCallStack(2);
+            boolean boolean5= currentNTForced;
+            currentNTForced= false;
+            try {
+                AndExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean5;
+            }
+            // Code for ZeroOrMore specified on line 845 of FEL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.OR||nextTokenType== TokenType.OR2) {
+                // Code for ExpansionChoice specified on line 844 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.OR) {
+                    // Code for RegexpRef specified on line 844 of FEL.javacc
+                    consumeToken(TokenType.OR, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.OR2) {
+                    // Code for RegexpRef specified on line 844 of FEL.javacc
+                    consumeToken(TokenType.OR2, false);
+                }
+                else {
+                    pushOntoCallStack(3);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_844$column_10, getCallStack());
+                }
+                // Code for NonTerminal specified on line 844 of FEL.javacc
+                pushOntoCallStack(4);
+                boolean boolean6= currentNTForced;
+                currentNTForced= false;
+                try {
+                    AndExpression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean6;
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from OrExpression");
+        }
+        catch(ParseException e) {
+            parseException2= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException2== null) {
+                restoreCallStack(callStackSize4);
+            }
+            if (buildTree) {
+                if (parseException2== null) {
+                    closeNodeScope(OrExpression2, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException2: "+parseException2.getMessage());
+                    OrExpression2.setParseException(parseException2);
+                    if (OrExpression2forced) {
+                        restoreCallStack(callStackSize4);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in OrExpression\n";
+                        message+=parseException2.getMessage();
+                        addParsingProblem(new ParsingProblem(message, OrExpression2));
+                        closeNodeScope(OrExpression2, true);
+                    }
+                    else {
+                        closeNodeScope(OrExpression2, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException2");
+                        throw parseException2;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 848
+    final public void AndExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 848 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AndExpression3forced= this.tolerantParsing&&currentNTForced;
+        AndExpression AndExpression3= null;
+        if (buildTree) {
+            AndExpression3= new AndExpression();
+            openNodeScope(AndExpression3);
+        }
+        ParseException parseException3= null;
+        int callStackSize7= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 850 of FEL.javacc
+            pushOntoCallStack(5);
+            boolean boolean8= currentNTForced;
+            currentNTForced= false;
+            try {
+                EqualityExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean8;
+            }
+            // Code for ZeroOrMore specified on line 853 of FEL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.AND||nextTokenType== TokenType.AND2) {
+                // Code for ExpansionChoice specified on line 852 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.AND) {
+                    // Code for RegexpRef specified on line 852 of FEL.javacc
+                    consumeToken(TokenType.AND, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.AND2) {
+                    // Code for RegexpRef specified on line 852 of FEL.javacc
+                    consumeToken(TokenType.AND2, false);
+                }
+                else {
+                    pushOntoCallStack(6);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_852$column_10, getCallStack());
+                }
+                // Code for NonTerminal specified on line 852 of FEL.javacc
+                pushOntoCallStack(7);
+                boolean boolean9= currentNTForced;
+                currentNTForced= false;
+                try {
+                    EqualityExpression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean9;
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AndExpression");
+        }
+        catch(ParseException e) {
+            parseException3= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException3== null) {
+                restoreCallStack(callStackSize7);
+            }
+            if (buildTree) {
+                if (parseException3== null) {
+                    closeNodeScope(AndExpression3, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException3: "+parseException3.getMessage());
+                    AndExpression3.setParseException(parseException3);
+                    if (AndExpression3forced) {
+                        restoreCallStack(callStackSize7);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in AndExpression\n";
+                        message+=parseException3.getMessage();
+                        addParsingProblem(new ParsingProblem(message, AndExpression3));
+                        closeNodeScope(AndExpression3, true);
+                    }
+                    else {
+                        closeNodeScope(AndExpression3, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException3");
+                        throw parseException3;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 856
+    final public void EqualityExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 856 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean EqualityExpression4forced= this.tolerantParsing&&currentNTForced;
+        EqualityExpression EqualityExpression4= null;
+        if (buildTree) {
+            EqualityExpression4= new EqualityExpression();
+            openNodeScope(EqualityExpression4);
+        }
+        ParseException parseException4= null;
+        int callStackSize10= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 858 of FEL.javacc
+            pushOntoCallStack(8);
+            boolean boolean11= currentNTForced;
+            currentNTForced= false;
+            try {
+                RelationalExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean11;
+            }
+            // Code for ZeroOrOne specified on line 859 of FEL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS||nextTokenType== TokenType.DOUBLE_EQUALS||nextTokenType== TokenType.NOT_EQUALS) {
+                // Code for ExpansionChoice specified on line 860 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS) {
+                    // Code for RegexpRef specified on line 860 of FEL.javacc
+                    consumeToken(TokenType.EQUALS, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.DOUBLE_EQUALS) {
+                    // Code for RegexpRef specified on line 860 of FEL.javacc
+                    consumeToken(TokenType.DOUBLE_EQUALS, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.NOT_EQUALS) {
+                    // Code for RegexpRef specified on line 860 of FEL.javacc
+                    consumeToken(TokenType.NOT_EQUALS, false);
+                }
+                else {
+                    pushOntoCallStack(9);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_860$column_10, getCallStack());
+                }
+                // Code for NonTerminal specified on line 861 of FEL.javacc
+                pushOntoCallStack(10);
+                boolean boolean12= currentNTForced;
+                currentNTForced= false;
+                try {
+                    RelationalExpression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean12;
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from EqualityExpression");
+        }
+        catch(ParseException e) {
+            parseException4= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException4== null) {
+                restoreCallStack(callStackSize10);
+            }
+            if (buildTree) {
+                if (parseException4== null) {
+                    closeNodeScope(EqualityExpression4, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException4: "+parseException4.getMessage());
+                    EqualityExpression4.setParseException(parseException4);
+                    if (EqualityExpression4forced) {
+                        restoreCallStack(callStackSize10);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in EqualityExpression\n";
+                        message+=parseException4.getMessage();
+                        addParsingProblem(new ParsingProblem(message, EqualityExpression4));
+                        closeNodeScope(EqualityExpression4, true);
+                    }
+                    else {
+                        closeNodeScope(EqualityExpression4, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException4");
+                        throw parseException4;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 865
+    final public void RelationalExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 865 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean RelationalExpression5forced= this.tolerantParsing&&currentNTForced;
+        RelationalExpression RelationalExpression5= null;
+        if (buildTree) {
+            RelationalExpression5= new RelationalExpression();
+            openNodeScope(RelationalExpression5);
+        }
+        ParseException parseException5= null;
+        int callStackSize13= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 867 of FEL.javacc
+            pushOntoCallStack(11);
+            boolean boolean14= currentNTForced;
+            currentNTForced= false;
+            try {
+                RangeExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean14;
+            }
+            // Code for ZeroOrOne specified on line 868 of FEL.javacc
+            if (resetScanAhead(1)&&first_set$FEL_javacc$line_868$column_5.contains(nextTokenType)) {
+                // Code for ExpansionChoice specified on line 869 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.GT) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.GT, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.GTE) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.GTE, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.LT, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.LTE) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.LTE, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ALT_GT) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.ALT_GT, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ALT_GTE) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.ALT_GTE, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ALT_LTE) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.ALT_LTE, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ALT_LT) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.ALT_LT, false);
+                }
+                else {
+                    pushOntoCallStack(12);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_869$column_10, getCallStack());
+                }
+                // Code for NonTerminal specified on line 870 of FEL.javacc
+                pushOntoCallStack(13);
+                boolean boolean15= currentNTForced;
+                currentNTForced= false;
+                try {
+                    RangeExpression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean15;
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from RelationalExpression");
+        }
+        catch(ParseException e) {
+            parseException5= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException5== null) {
+                restoreCallStack(callStackSize13);
+            }
+            if (buildTree) {
+                if (parseException5== null) {
+                    closeNodeScope(RelationalExpression5, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException5: "+parseException5.getMessage());
+                    RelationalExpression5.setParseException(parseException5);
+                    if (RelationalExpression5forced) {
+                        restoreCallStack(callStackSize13);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in RelationalExpression\n";
+                        message+=parseException5.getMessage();
+                        addParsingProblem(new ParsingProblem(message, RelationalExpression5));
+                        closeNodeScope(RelationalExpression5, true);
+                    }
+                    else {
+                        closeNodeScope(RelationalExpression5, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException5");
+                        throw parseException5;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 874
+    final public void RangeExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 874 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean RangeExpression6forced= this.tolerantParsing&&currentNTForced;
+        RangeExpression RangeExpression6= null;
+        if (buildTree) {
+            RangeExpression6= new RangeExpression();
+            openNodeScope(RangeExpression6);
+        }
+        ParseException parseException6= null;
+        int callStackSize16= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 876 of FEL.javacc
+            pushOntoCallStack(14);
+            boolean boolean17= currentNTForced;
+            currentNTForced= false;
+            try {
+                AdditiveExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean17;
+            }
+            // Code for ZeroOrOne specified on line 877 of FEL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.DOT_DOT) {
+                // Code for RegexpRef specified on line 878 of FEL.javacc
+                consumeToken(TokenType.DOT_DOT, false);
+                // Code for ZeroOrOne specified on line 879 of FEL.javacc
+                if (resetScanAhead(2147483647)&&check$FEL_javacc$line_880$column_10()) {
+                    // Code for NonTerminal specified on line 881 of FEL.javacc
+                    pushOntoCallStack(15);
+                    boolean boolean18= currentNTForced;
+                    currentNTForced= false;
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                        currentNTForced= boolean18;
+                    }
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from RangeExpression");
+        }
+        catch(ParseException e) {
+            parseException6= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException6== null) {
+                restoreCallStack(callStackSize16);
+            }
+            if (buildTree) {
+                if (parseException6== null) {
+                    closeNodeScope(RangeExpression6, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException6: "+parseException6.getMessage());
+                    RangeExpression6.setParseException(parseException6);
+                    if (RangeExpression6forced) {
+                        restoreCallStack(callStackSize16);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in RangeExpression\n";
+                        message+=parseException6.getMessage();
+                        addParsingProblem(new ParsingProblem(message, RangeExpression6));
+                        closeNodeScope(RangeExpression6, true);
+                    }
+                    else {
+                        closeNodeScope(RangeExpression6, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException6");
+                        throw parseException6;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 886
+    final public void AdditiveExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 886 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AdditiveExpression7forced= this.tolerantParsing&&currentNTForced;
+        AdditiveExpression AdditiveExpression7= null;
+        if (buildTree) {
+            AdditiveExpression7= new AdditiveExpression();
+            openNodeScope(AdditiveExpression7);
+        }
+        ParseException parseException7= null;
+        int callStackSize19= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 888 of FEL.javacc
+            pushOntoCallStack(16);
+            boolean boolean20= currentNTForced;
+            currentNTForced= false;
+            try {
+                MultiplicativeExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean20;
+            }
+            // Code for ZeroOrMore specified on line 892 of FEL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.PLUS||nextTokenType== TokenType.MINUS) {
+                // Code for ExpansionChoice specified on line 890 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.PLUS) {
+                    // Code for RegexpRef specified on line 890 of FEL.javacc
+                    consumeToken(TokenType.PLUS, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.MINUS) {
+                    // Code for RegexpRef specified on line 890 of FEL.javacc
+                    consumeToken(TokenType.MINUS, false);
+                }
+                else {
+                    pushOntoCallStack(17);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_890$column_13, getCallStack());
+                }
+                // Code for NonTerminal specified on line 891 of FEL.javacc
+                pushOntoCallStack(18);
+                boolean boolean21= currentNTForced;
+                currentNTForced= false;
+                try {
+                    MultiplicativeExpression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean21;
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AdditiveExpression");
+        }
+        catch(ParseException e) {
+            parseException7= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException7== null) {
+                restoreCallStack(callStackSize19);
+            }
+            if (buildTree) {
+                if (parseException7== null) {
+                    closeNodeScope(AdditiveExpression7, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException7: "+parseException7.getMessage());
+                    AdditiveExpression7.setParseException(parseException7);
+                    if (AdditiveExpression7forced) {
+                        restoreCallStack(callStackSize19);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in AdditiveExpression\n";
+                        message+=parseException7.getMessage();
+                        addParsingProblem(new ParsingProblem(message, AdditiveExpression7));
+                        closeNodeScope(AdditiveExpression7, true);
+                    }
+                    else {
+                        closeNodeScope(AdditiveExpression7, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException7");
+                        throw parseException7;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 895
+    final public void MultiplicativeExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 895 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean MultiplicativeExpression8forced= this.tolerantParsing&&currentNTForced;
+        MultiplicativeExpression MultiplicativeExpression8= null;
+        if (buildTree) {
+            MultiplicativeExpression8= new MultiplicativeExpression();
+            openNodeScope(MultiplicativeExpression8);
+        }
+        ParseException parseException8= null;
+        int callStackSize22= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 897 of FEL.javacc
+            pushOntoCallStack(19);
+            boolean boolean23= currentNTForced;
+            currentNTForced= false;
+            try {
+                UnaryExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean23;
+            }
+            // Code for ZeroOrMore specified on line 901 of FEL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.TIMES||nextTokenType== TokenType.DIVIDE||nextTokenType== TokenType.PERCENT) {
+                // Code for ExpansionChoice specified on line 899 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.TIMES) {
+                    // Code for RegexpRef specified on line 899 of FEL.javacc
+                    consumeToken(TokenType.TIMES, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.DIVIDE) {
+                    // Code for RegexpRef specified on line 899 of FEL.javacc
+                    consumeToken(TokenType.DIVIDE, false);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.PERCENT) {
+                    // Code for RegexpRef specified on line 899 of FEL.javacc
+                    consumeToken(TokenType.PERCENT, false);
+                }
+                else {
+                    pushOntoCallStack(20);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_899$column_12, getCallStack());
+                }
+                // Code for NonTerminal specified on line 900 of FEL.javacc
+                pushOntoCallStack(21);
+                boolean boolean24= currentNTForced;
+                currentNTForced= false;
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean24;
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MultiplicativeExpression");
+        }
+        catch(ParseException e) {
+            parseException8= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException8== null) {
+                restoreCallStack(callStackSize22);
+            }
+            if (buildTree) {
+                if (parseException8== null) {
+                    closeNodeScope(MultiplicativeExpression8, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException8: "+parseException8.getMessage());
+                    MultiplicativeExpression8.setParseException(parseException8);
+                    if (MultiplicativeExpression8forced) {
+                        restoreCallStack(callStackSize22);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in MultiplicativeExpression\n";
+                        message+=parseException8.getMessage();
+                        addParsingProblem(new ParsingProblem(message, MultiplicativeExpression8));
+                        closeNodeScope(MultiplicativeExpression8, true);
+                    }
+                    else {
+                        closeNodeScope(MultiplicativeExpression8, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException8");
+                        throw parseException8;
+                    }
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    // FEL.javacc, line 905
+    final public void UnaryExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 905 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 907 of FEL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.PLUS||nextTokenType== TokenType.MINUS) {
+            // Code for NonTerminal specified on line 907 of FEL.javacc
+            pushOntoCallStack(23);
+            boolean boolean25= currentNTForced;
+            currentNTForced= false;
+            try {
+                UnaryPlusMinusExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean25;
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.EXCLAM) {
+            // Code for NonTerminal specified on line 909 of FEL.javacc
+            pushOntoCallStack(24);
+            boolean boolean26= currentNTForced;
+            currentNTForced= false;
+            try {
+                NotExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean26;
+            }
+        }
+        else if (resetScanAhead(1)&&first_set$FEL_javacc$line_911$column_5.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 911 of FEL.javacc
+            pushOntoCallStack(25);
+            boolean boolean27= currentNTForced;
+            currentNTForced= false;
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean27;
+            }
+        }
+        else {
+            pushOntoCallStack(22);
+            throw new ParseException(current_token.getNext(), UnaryExpression_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from UnaryExpression");
+    }
+
+    // FEL.javacc, line 914
+    final public void UnaryPlusMinusExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 914 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean UnaryPlusMinusExpression9forced= this.tolerantParsing&&currentNTForced;
+        UnaryPlusMinusExpression UnaryPlusMinusExpression9= null;
+        if (buildTree) {
+            UnaryPlusMinusExpression9= new UnaryPlusMinusExpression();
+            openNodeScope(UnaryPlusMinusExpression9);
+        }
+        ParseException parseException9= null;
+        int callStackSize28= parsingStackSize;
+        try {
+            // Code for ExpansionChoice specified on line 916 of FEL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.PLUS) {
+                // Code for RegexpRef specified on line 916 of FEL.javacc
+                consumeToken(TokenType.PLUS, false);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.MINUS) {
+                // Code for RegexpRef specified on line 916 of FEL.javacc
+                consumeToken(TokenType.MINUS, false);
+            }
+            else {
+                pushOntoCallStack(26);
+                throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_916$column_6, getCallStack());
+            }
+            // Code for NonTerminal specified on line 916 of FEL.javacc
+            pushOntoCallStack(27);
+            boolean boolean29= currentNTForced;
+            currentNTForced= false;
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean29;
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from UnaryPlusMinusExpression");
+        }
+        catch(ParseException e) {
+            parseException9= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException9== null) {
+                restoreCallStack(callStackSize28);
+            }
+            if (buildTree) {
+                if (parseException9== null) {
+                    closeNodeScope(UnaryPlusMinusExpression9, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException9: "+parseException9.getMessage());
+                    UnaryPlusMinusExpression9.setParseException(parseException9);
+                    if (UnaryPlusMinusExpression9forced) {
+                        restoreCallStack(callStackSize28);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in UnaryPlusMinusExpression\n";
+                        message+=parseException9.getMessage();
+                        addParsingProblem(new ParsingProblem(message, UnaryPlusMinusExpression9));
+                        closeNodeScope(UnaryPlusMinusExpression9, true);
+                    }
+                    else {
+                        closeNodeScope(UnaryPlusMinusExpression9, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException9");
+                        throw parseException9;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 919
+    final public void NotExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 919 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NotExpression10forced= this.tolerantParsing&&currentNTForced;
+        NotExpression NotExpression10= null;
+        if (buildTree) {
+            NotExpression10= new NotExpression();
+            openNodeScope(NotExpression10);
+        }
+        ParseException parseException10= null;
+        int callStackSize30= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 921 of FEL.javacc
+            consumeToken(TokenType.EXCLAM, false);
+            // Code for NonTerminal specified on line 922 of FEL.javacc
+            pushOntoCallStack(28);
+            boolean boolean31= currentNTForced;
+            currentNTForced= false;
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean31;
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NotExpression");
+        }
+        catch(ParseException e) {
+            parseException10= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException10== null) {
+                restoreCallStack(callStackSize30);
+            }
+            if (buildTree) {
+                if (parseException10== null) {
+                    closeNodeScope(NotExpression10, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException10: "+parseException10.getMessage());
+                    NotExpression10.setParseException(parseException10);
+                    if (NotExpression10forced) {
+                        restoreCallStack(callStackSize30);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in NotExpression\n";
+                        message+=parseException10.getMessage();
+                        addParsingProblem(new ParsingProblem(message, NotExpression10));
+                        closeNodeScope(NotExpression10, true);
+                    }
+                    else {
+                        closeNodeScope(NotExpression10, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException10");
+                        throw parseException10;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 925
+    final public void BuiltinVariable() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 925 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean BuiltinVariable11forced= this.tolerantParsing&&currentNTForced;
+        BuiltinVariable BuiltinVariable11= null;
+        if (buildTree) {
+            BuiltinVariable11= new BuiltinVariable();
+            openNodeScope(BuiltinVariable11);
+        }
+        ParseException parseException11= null;
+        int callStackSize32= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 927 of FEL.javacc
+            consumeToken(TokenType.DOT, false);
+            // Code for RegexpRef specified on line 927 of FEL.javacc
+            consumeToken(TokenType.IDENTIFIER, false);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BuiltinVariable");
+        }
+        catch(ParseException e) {
+            parseException11= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException11== null) {
+                restoreCallStack(callStackSize32);
+            }
+            if (buildTree) {
+                if (parseException11== null) {
+                    closeNodeScope(BuiltinVariable11, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException11: "+parseException11.getMessage());
+                    BuiltinVariable11.setParseException(parseException11);
+                    if (BuiltinVariable11forced) {
+                        restoreCallStack(callStackSize32);
+                        Token virtualToken= insertVirtualToken(TokenType.IDENTIFIER);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in BuiltinVariable\n";
+                        message+=parseException11.getMessage();
+                        addParsingProblem(new ParsingProblem(message, BuiltinVariable11));
+                        closeNodeScope(BuiltinVariable11, true);
+                    }
+                    else {
+                        closeNodeScope(BuiltinVariable11, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException11");
+                        throw parseException11;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 930
+    final public void DefaultToExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 930 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean DefaultToExpression12forced= this.tolerantParsing&&currentNTForced;
+        DefaultToExpression DefaultToExpression12= null;
+        if (buildTree) {
+            DefaultToExpression12= new DefaultToExpression();
+            openNodeScope(DefaultToExpression12);
+        }
+        ParseException parseException12= null;
+        int callStackSize33= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 932 of FEL.javacc
+            pushOntoCallStack(29);
+            boolean boolean34= currentNTForced;
+            currentNTForced= false;
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean34;
+            }
+            // Code for ZeroOrMore specified on line 936 of FEL.javacc
+            while (resetScanAhead(2147483647)&&(getToken(2).getType()!=TokenType.IDENTIFIER||getToken(3).getType()!=TokenType.EQUALS)&&check$FEL_javacc$line_934$column_19()) {
+                // Code for RegexpRef specified on line 935 of FEL.javacc
+                consumeToken(TokenType.EXCLAM, false);
+                // Code for NonTerminal specified on line 935 of FEL.javacc
+                pushOntoCallStack(31);
+                boolean boolean35= currentNTForced;
+                currentNTForced= false;
+                try {
+                    PrimaryExpression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean35;
+                }
+            }
+            // Code for ZeroOrOne specified on line 937 of FEL.javacc
+            if (resetScanAhead(1)&&(nextTokenType== TokenType.EXCLAM)) {
+                // Code for RegexpRef specified on line 939 of FEL.javacc
+                consumeToken(TokenType.EXCLAM, false);
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from DefaultToExpression");
+        }
+        catch(ParseException e) {
+            parseException12= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException12== null) {
+                restoreCallStack(callStackSize33);
+            }
+            if (buildTree) {
+                if (parseException12== null) {
+                    closeNodeScope(DefaultToExpression12, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException12: "+parseException12.getMessage());
+                    DefaultToExpression12.setParseException(parseException12);
+                    if (DefaultToExpression12forced) {
+                        restoreCallStack(callStackSize33);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in DefaultToExpression\n";
+                        message+=parseException12.getMessage();
+                        addParsingProblem(new ParsingProblem(message, DefaultToExpression12));
+                        closeNodeScope(DefaultToExpression12, true);
+                    }
+                    else {
+                        closeNodeScope(DefaultToExpression12, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException12");
+                        throw parseException12;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 943
+    final public void PrimaryExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 943 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean PrimaryExpression13forced= this.tolerantParsing&&currentNTForced;
+        PrimaryExpression PrimaryExpression13= null;
+        if (buildTree) {
+            PrimaryExpression13= new PrimaryExpression();
+            openNodeScope(PrimaryExpression13);
+        }
+        ParseException parseException13= null;
+        int callStackSize36= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 945 of FEL.javacc
+            pushOntoCallStack(32);
+            boolean boolean37= currentNTForced;
+            currentNTForced= false;
+            try {
+                BaseExpression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean37;
+            }
+            // Code for ZeroOrMore specified on line 959 of FEL.javacc
+            while (resetScanAhead(2147483647)&&(first_set$FEL_javacc$line_947$column_15.contains(nextTokenType))) {
+                // Code for ExpansionChoice specified on line 949 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.DOT) {
+                    // Code for NonTerminal specified on line 949 of FEL.javacc
+                    pushOntoCallStack(35);
+                    boolean boolean38= currentNTForced;
+                    currentNTForced= false;
+                    try {
+                        DotKey();
+                    }
+                    finally {
+                        popCallStack();
+                        currentNTForced= boolean38;
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_BRACKET) {
+                    // Code for NonTerminal specified on line 951 of FEL.javacc
+                    pushOntoCallStack(36);
+                    boolean boolean39= currentNTForced;
+                    currentNTForced= false;
+                    try {
+                        DynamicKey();
+                    }
+                    finally {
+                        popCallStack();
+                        currentNTForced= boolean39;
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_PAREN) {
+                    // Code for NonTerminal specified on line 953 of FEL.javacc
+                    pushOntoCallStack(37);
+                    boolean boolean40= currentNTForced;
+                    currentNTForced= false;
+                    try {
+                        MethodInvoke();
+                    }
+                    finally {
+                        popCallStack();
+                        currentNTForced= boolean40;
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.BUILT_IN) {
+                    // Code for NonTerminal specified on line 955 of FEL.javacc
+                    pushOntoCallStack(38);
+                    boolean boolean41= currentNTForced;
+                    currentNTForced= false;
+                    try {
+                        BuiltIn();
+                    }
+                    finally {
+                        popCallStack();
+                        currentNTForced= boolean41;
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.EXISTS_OPERATOR) {
+                    // Code for NonTerminal specified on line 957 of FEL.javacc
+                    pushOntoCallStack(39);
+                    boolean boolean42= currentNTForced;
+                    currentNTForced= false;
+                    try {
+                        Exists();
+                    }
+                    finally {
+                        popCallStack();
+                        currentNTForced= boolean42;
+                    }
+                }
+                else {
+                    pushOntoCallStack(34);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_949$column_7, getCallStack());
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PrimaryExpression");
+        }
+        catch(ParseException e) {
+            parseException13= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException13== null) {
+                restoreCallStack(callStackSize36);
+            }
+            if (buildTree) {
+                if (parseException13== null) {
+                    closeNodeScope(PrimaryExpression13, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException13: "+parseException13.getMessage());
+                    PrimaryExpression13.setParseException(parseException13);
+                    if (PrimaryExpression13forced) {
+                        restoreCallStack(callStackSize36);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in PrimaryExpression\n";
+                        message+=parseException13.getMessage();
+                        addParsingProblem(new ParsingProblem(message, PrimaryExpression13));
+                        closeNodeScope(PrimaryExpression13, true);
+                    }
+                    else {
+                        closeNodeScope(PrimaryExpression13, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException13");
+                        throw parseException13;
+                    }
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> BaseExpression_FIRST_SET= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    // FEL.javacc, line 962
+    final public void BaseExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 962 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 964 of FEL.javacc
+        boolean BaseExpression14forced= this.tolerantParsing&&currentNTForced;
+        BaseExpression BaseExpression14= null;
+        if (buildTree) {
+            BaseExpression14= new BaseExpression();
+            openNodeScope(BaseExpression14);
+        }
+        ParseException parseException14= null;
+        int callStackSize43= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for RegexpRef specified on line 964 of FEL.javacc
+                consumeToken(TokenType.IDENTIFIER, false);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.INTEGER||nextTokenType== TokenType.DECIMAL) {
+                // Code for NonTerminal specified on line 966 of FEL.javacc
+                pushOntoCallStack(41);
+                boolean boolean44= currentNTForced;
+                currentNTForced= false;
+                try {
+                    NumberLiteral();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean44;
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_BRACE) {
+                // Code for NonTerminal specified on line 968 of FEL.javacc
+                pushOntoCallStack(42);
+                boolean boolean45= currentNTForced;
+                currentNTForced= false;
+                try {
+                    HashLiteral();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean45;
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.STRING_LITERAL||nextTokenType== TokenType.RAW_STRING) {
+                // Code for NonTerminal specified on line 970 of FEL.javacc
+                pushOntoCallStack(43);
+                boolean boolean46= currentNTForced;
+                currentNTForced= false;
+                try {
+                    StringLiteral();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean46;
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE||nextTokenType== TokenType.FALSE) {
+                // Code for NonTerminal specified on line 972 of FEL.javacc
+                pushOntoCallStack(44);
+                boolean boolean47= currentNTForced;
+                currentNTForced= false;
+                try {
+                    BooleanLiteral();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean47;
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.NULL) {
+                // Code for NonTerminal specified on line 974 of FEL.javacc
+                pushOntoCallStack(45);
+                boolean boolean48= currentNTForced;
+                currentNTForced= false;
+                try {
+                    NullLiteral();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean48;
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_BRACKET) {
+                // Code for NonTerminal specified on line 976 of FEL.javacc
+                pushOntoCallStack(46);
+                boolean boolean49= currentNTForced;
+                currentNTForced= false;
+                try {
+                    ListLiteral();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean49;
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_PAREN) {
+                // Code for NonTerminal specified on line 978 of FEL.javacc
+                pushOntoCallStack(47);
+                boolean boolean50= currentNTForced;
+                currentNTForced= false;
+                try {
+                    Parenthesis();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean50;
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DOT) {
+                // Code for NonTerminal specified on line 980 of FEL.javacc
+                pushOntoCallStack(48);
+                boolean boolean51= currentNTForced;
+                currentNTForced= false;
+                try {
+                    BuiltinVariable();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean51;
+                }
+            }
+            else {
+                pushOntoCallStack(40);
+                throw new ParseException(current_token.getNext(), BaseExpression_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BaseExpression");
+        }
+        catch(ParseException e) {
+            parseException14= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException14== null) {
+                restoreCallStack(callStackSize43);
+            }
+            if (buildTree) {
+                if (parseException14== null) {
+                    closeNodeScope(BaseExpression14, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException14: "+parseException14.getMessage());
+                    BaseExpression14.setParseException(parseException14);
+                    if (BaseExpression14forced) {
+                        restoreCallStack(callStackSize43);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in BaseExpression\n";
+                        message+=parseException14.getMessage();
+                        addParsingProblem(new ParsingProblem(message, BaseExpression14));
+                        closeNodeScope(BaseExpression14, true);
+                    }
+                    else {
+                        closeNodeScope(BaseExpression14, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException14");
+                        throw parseException14;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 984
+    final public void DotKey() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 984 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 986 of FEL.javacc
+        consumeToken(TokenType.DOT, false);
+        // Code for ExpansionChoice specified on line 987 of FEL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+            // Code for RegexpRef specified on line 987 of FEL.javacc
+            consumeToken(TokenType.IDENTIFIER, false);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.TIMES) {
+            // Code for RegexpRef specified on line 987 of FEL.javacc
+            consumeToken(TokenType.TIMES, false);
+        }
+        else {
+            pushOntoCallStack(49);
+            throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_987$column_6, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from DotKey");
+    }
+
+    // FEL.javacc, line 990
+    final public void DynamicKey() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 990 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 992 of FEL.javacc
+        consumeToken(TokenType.OPEN_BRACKET, false);
+        // Code for NonTerminal specified on line 992 of FEL.javacc
+        pushOntoCallStack(50);
+        boolean boolean52= currentNTForced;
+        currentNTForced= false;
+        try {
+            Expression();
+        }
+        finally {
+            popCallStack();
+            currentNTForced= boolean52;
+        }
+        // Code for RegexpRef specified on line 992 of FEL.javacc
+        consumeToken(TokenType.CLOSE_BRACKET, false);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from DynamicKey");
+    }
+
+    // FEL.javacc, line 996
+    final public void MethodInvoke() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 996 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 998 of FEL.javacc
+        consumeToken(TokenType.OPEN_PAREN, false);
+        // Code for ZeroOrOne specified on line 998 of FEL.javacc
+        if (resetScanAhead(1)&&first_set$FEL_javacc$line_998$column_15.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 998 of FEL.javacc
+            pushOntoCallStack(51);
+            boolean boolean53= currentNTForced;
+            currentNTForced= false;
+            try {
+                ArgsList();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean53;
+            }
+        }
+        // Code for RegexpRef specified on line 998 of FEL.javacc
+        consumeToken(TokenType.CLOSE_PAREN, false);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MethodInvoke");
+    }
+
+    // FEL.javacc, line 1001
+    final public void BuiltIn() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1001 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 1003 of FEL.javacc
+        consumeToken(TokenType.BUILT_IN, false);
+        // Code for RegexpRef specified on line 1003 of FEL.javacc
+        consumeToken(TokenType.IDENTIFIER, false);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BuiltIn");
+    }
+
+    // FEL.javacc, line 1006
+    final public void Exists() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1006 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Exists15forced= this.tolerantParsing&&currentNTForced;
+        Exists Exists15= null;
+        if (buildTree) {
+            Exists15= new Exists();
+            openNodeScope(Exists15);
+        }
+        ParseException parseException15= null;
+        int callStackSize54= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1008 of FEL.javacc
+            consumeToken(TokenType.EXISTS_OPERATOR, false);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Exists");
+        }
+        catch(ParseException e) {
+            parseException15= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException15== null) {
+                restoreCallStack(callStackSize54);
+            }
+            if (buildTree) {
+                if (parseException15== null) {
+                    closeNodeScope(Exists15, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException15: "+parseException15.getMessage());
+                    Exists15.setParseException(parseException15);
+                    if (Exists15forced) {
+                        restoreCallStack(callStackSize54);
+                        Token virtualToken= insertVirtualToken(TokenType.EXISTS_OPERATOR);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in Exists\n";
+                        message+=parseException15.getMessage();
+                        addParsingProblem(new ParsingProblem(message, Exists15));
+                        closeNodeScope(Exists15, true);
+                    }
+                    else {
+                        closeNodeScope(Exists15, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException15");
+                        throw parseException15;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1011
+    final public void ListLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1011 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ListLiteral16forced= this.tolerantParsing&&currentNTForced;
+        ListLiteral ListLiteral16= null;
+        if (buildTree) {
+            ListLiteral16= new ListLiteral();
+            openNodeScope(ListLiteral16);
+        }
+        ParseException parseException16= null;
+        int callStackSize55= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1013 of FEL.javacc
+            consumeToken(TokenType.OPEN_BRACKET, false);
+            // Code for ZeroOrOne specified on line 1014 of FEL.javacc
+            if (resetScanAhead(1)&&first_set$FEL_javacc$line_1014$column_5.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1014 of FEL.javacc
+                pushOntoCallStack(52);
+                boolean boolean56= currentNTForced;
+                currentNTForced= false;
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean56;
+                }
+                // Code for ZeroOrMore specified on line 1014 of FEL.javacc
+                while (resetScanAhead(1)&&first_set$FEL_javacc$line_1014$column_42.contains(nextTokenType)) {
+                    // Code for ZeroOrOne specified on line 1014 of FEL.javacc
+                    if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                        // Code for RegexpRef specified on line 1014 of FEL.javacc
+                        consumeToken(TokenType.COMMA, false);
+                    }
+                    // Code for NonTerminal specified on line 1014 of FEL.javacc
+                    pushOntoCallStack(53);
+                    boolean boolean57= currentNTForced;
+                    currentNTForced= false;
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                        currentNTForced= boolean57;
+                    }
+                }
+            }
+            // Code for RegexpRef specified on line 1015 of FEL.javacc
+            consumeToken(TokenType.CLOSE_BRACKET, true);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ListLiteral");
+        }
+        catch(ParseException e) {
+            parseException16= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException16== null) {
+                restoreCallStack(callStackSize55);
+            }
+            if (buildTree) {
+                if (parseException16== null) {
+                    closeNodeScope(ListLiteral16, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException16: "+parseException16.getMessage());
+                    ListLiteral16.setParseException(parseException16);
+                    if (ListLiteral16forced) {
+                        restoreCallStack(callStackSize55);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_BRACKET);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in ListLiteral\n";
+                        message+=parseException16.getMessage();
+                        addParsingProblem(new ParsingProblem(message, ListLiteral16));
+                        closeNodeScope(ListLiteral16, true);
+                    }
+                    else {
+                        closeNodeScope(ListLiteral16, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException16");
+                        throw parseException16;
+                    }
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> StringLiteral_FIRST_SET= EnumSet.of(TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    // FEL.javacc, line 1018
+    final public void StringLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1018 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1020 of FEL.javacc
+        boolean StringLiteral17forced= this.tolerantParsing&&currentNTForced;
+        StringLiteral StringLiteral17= null;
+        if (buildTree) {
+            StringLiteral17= new StringLiteral();
+            openNodeScope(StringLiteral17);
+        }
+        ParseException parseException17= null;
+        int callStackSize58= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.STRING_LITERAL) {
+                // Code for RegexpRef specified on line 1020 of FEL.javacc
+                consumeToken(TokenType.STRING_LITERAL, false);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.RAW_STRING) {
+                // Code for RegexpRef specified on line 1020 of FEL.javacc
+                consumeToken(TokenType.RAW_STRING, false);
+            }
+            else {
+                pushOntoCallStack(54);
+                throw new ParseException(current_token.getNext(), StringLiteral_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from StringLiteral");
+        }
+        catch(ParseException e) {
+            parseException17= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException17== null) {
+                restoreCallStack(callStackSize58);
+            }
+            if (buildTree) {
+                if (parseException17== null) {
+                    closeNodeScope(StringLiteral17, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException17: "+parseException17.getMessage());
+                    StringLiteral17.setParseException(parseException17);
+                    if (StringLiteral17forced) {
+                        restoreCallStack(callStackSize58);
+                        Token virtualToken= insertVirtualToken(TokenType.STRING_LITERAL);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in StringLiteral\n";
+                        message+=parseException17.getMessage();
+                        addParsingProblem(new ParsingProblem(message, StringLiteral17));
+                        closeNodeScope(StringLiteral17, true);
+                    }
+                    else {
+                        closeNodeScope(StringLiteral17, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException17");
+                        throw parseException17;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1024
+    final public void HashLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1024 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean HashLiteral18forced= this.tolerantParsing&&currentNTForced;
+        HashLiteral HashLiteral18= null;
+        if (buildTree) {
+            HashLiteral18= new HashLiteral();
+            openNodeScope(HashLiteral18);
+        }
+        ParseException parseException18= null;
+        int callStackSize59= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1026 of FEL.javacc
+            consumeToken(TokenType.OPEN_BRACE, false);
+            // Code for ZeroOrOne specified on line 1027 of FEL.javacc
+            if (resetScanAhead(1)&&first_set$FEL_javacc$line_1027$column_5.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1028 of FEL.javacc
+                pushOntoCallStack(55);
+                boolean boolean60= currentNTForced;
+                currentNTForced= false;
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean60;
+                }
+                // Code for RegexpRef specified on line 1028 of FEL.javacc
+                consumeToken(TokenType.COLON, false);
+                // Code for NonTerminal specified on line 1028 of FEL.javacc
+                pushOntoCallStack(56);
+                boolean boolean61= currentNTForced;
+                currentNTForced= false;
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean61;
+                }
+                // Code for ZeroOrMore specified on line 1029 of FEL.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 1029 of FEL.javacc
+                    consumeToken(TokenType.COMMA, false);
+                    // Code for NonTerminal specified on line 1029 of FEL.javacc
+                    pushOntoCallStack(57);
+                    boolean boolean62= currentNTForced;
+                    currentNTForced= true;
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                        currentNTForced= boolean62;
+                    }
+                    // Code for RegexpRef specified on line 1029 of FEL.javacc
+                    consumeToken(TokenType.COLON, true);
+                    // Code for NonTerminal specified on line 1029 of FEL.javacc
+                    pushOntoCallStack(58);
+                    boolean boolean63= currentNTForced;
+                    currentNTForced= true;
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                        currentNTForced= boolean63;
+                    }
+                }
+            }
+            // Code for RegexpRef specified on line 1031 of FEL.javacc
+            consumeToken(TokenType.CLOSE_BRACE, true);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from HashLiteral");
+        }
+        catch(ParseException e) {
+            parseException18= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException18== null) {
+                restoreCallStack(callStackSize59);
+            }
+            if (buildTree) {
+                if (parseException18== null) {
+                    closeNodeScope(HashLiteral18, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException18: "+parseException18.getMessage());
+                    HashLiteral18.setParseException(parseException18);
+                    if (HashLiteral18forced) {
+                        restoreCallStack(callStackSize59);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_BRACE);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in HashLiteral\n";
+                        message+=parseException18.getMessage();
+                        addParsingProblem(new ParsingProblem(message, HashLiteral18));
+                        closeNodeScope(HashLiteral18, true);
+                    }
+                    else {
+                        closeNodeScope(HashLiteral18, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException18");
+                        throw parseException18;
+                    }
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> NumberLiteral_FIRST_SET= EnumSet.of(TokenType.INTEGER, TokenType.DECIMAL);
+    // FEL.javacc, line 1034
+    final public void NumberLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1034 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1036 of FEL.javacc
+        boolean NumberLiteral19forced= this.tolerantParsing&&currentNTForced;
+        NumberLiteral NumberLiteral19= null;
+        if (buildTree) {
+            NumberLiteral19= new NumberLiteral();
+            openNodeScope(NumberLiteral19);
+        }
+        ParseException parseException19= null;
+        int callStackSize64= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.INTEGER) {
+                // Code for RegexpRef specified on line 1036 of FEL.javacc
+                consumeToken(TokenType.INTEGER, false);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DECIMAL) {
+                // Code for RegexpRef specified on line 1036 of FEL.javacc
+                consumeToken(TokenType.DECIMAL, false);
+            }
+            else {
+                pushOntoCallStack(59);
+                throw new ParseException(current_token.getNext(), NumberLiteral_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NumberLiteral");
+        }
+        catch(ParseException e) {
+            parseException19= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException19== null) {
+                restoreCallStack(callStackSize64);
+            }
+            if (buildTree) {
+                if (parseException19== null) {
+                    closeNodeScope(NumberLiteral19, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException19: "+parseException19.getMessage());
+                    NumberLiteral19.setParseException(parseException19);
+                    if (NumberLiteral19forced) {
+                        restoreCallStack(callStackSize64);
+                        Token virtualToken= insertVirtualToken(TokenType.INTEGER);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in NumberLiteral\n";
+                        message+=parseException19.getMessage();
+                        addParsingProblem(new ParsingProblem(message, NumberLiteral19));
+                        closeNodeScope(NumberLiteral19, true);
+                    }
+                    else {
+                        closeNodeScope(NumberLiteral19, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException19");
+                        throw parseException19;
+                    }
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> BooleanLiteral_FIRST_SET= EnumSet.of(TokenType.TRUE, TokenType.FALSE);
+    // FEL.javacc, line 1039
+    final public void BooleanLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1039 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1041 of FEL.javacc
+        boolean BooleanLiteral20forced= this.tolerantParsing&&currentNTForced;
+        BooleanLiteral BooleanLiteral20= null;
+        if (buildTree) {
+            BooleanLiteral20= new BooleanLiteral();
+            openNodeScope(BooleanLiteral20);
+        }
+        ParseException parseException20= null;
+        int callStackSize65= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE) {
+                // Code for RegexpRef specified on line 1041 of FEL.javacc
+                consumeToken(TokenType.TRUE, false);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.FALSE) {
+                // Code for RegexpRef specified on line 1041 of FEL.javacc
+                consumeToken(TokenType.FALSE, false);
+            }
+            else {
+                pushOntoCallStack(60);
+                throw new ParseException(current_token.getNext(), BooleanLiteral_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BooleanLiteral");
+        }
+        catch(ParseException e) {
+            parseException20= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException20== null) {
+                restoreCallStack(callStackSize65);
+            }
+            if (buildTree) {
+                if (parseException20== null) {
+                    closeNodeScope(BooleanLiteral20, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException20: "+parseException20.getMessage());
+                    BooleanLiteral20.setParseException(parseException20);
+                    if (BooleanLiteral20forced) {
+                        restoreCallStack(callStackSize65);
+                        Token virtualToken= insertVirtualToken(TokenType.TRUE);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in BooleanLiteral\n";
+                        message+=parseException20.getMessage();
+                        addParsingProblem(new ParsingProblem(message, BooleanLiteral20));
+                        closeNodeScope(BooleanLiteral20, true);
+                    }
+                    else {
+                        closeNodeScope(BooleanLiteral20, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException20");
+                        throw parseException20;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1044
+    final public void NullLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1044 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NullLiteral21forced= this.tolerantParsing&&currentNTForced;
+        NullLiteral NullLiteral21= null;
+        if (buildTree) {
+            NullLiteral21= new NullLiteral();
+            openNodeScope(NullLiteral21);
+        }
+        ParseException parseException21= null;
+        int callStackSize66= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1046 of FEL.javacc
+            consumeToken(TokenType.NULL, false);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NullLiteral");
+        }
+        catch(ParseException e) {
+            parseException21= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException21== null) {
+                restoreCallStack(callStackSize66);
+            }
+            if (buildTree) {
+                if (parseException21== null) {
+                    closeNodeScope(NullLiteral21, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException21: "+parseException21.getMessage());
+                    NullLiteral21.setParseException(parseException21);
+                    if (NullLiteral21forced) {
+                        restoreCallStack(callStackSize66);
+                        Token virtualToken= insertVirtualToken(TokenType.NULL);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in NullLiteral\n";
+                        message+=parseException21.getMessage();
+                        addParsingProblem(new ParsingProblem(message, NullLiteral21));
+                        closeNodeScope(NullLiteral21, true);
+                    }
+                    else {
+                        closeNodeScope(NullLiteral21, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException21");
+                        throw parseException21;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1049
+    final public void Parenthesis() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1049 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Parenthesis22forced= this.tolerantParsing&&currentNTForced;
+        Parenthesis Parenthesis22= null;
+        if (buildTree) {
+            Parenthesis22= new Parenthesis();
+            openNodeScope(Parenthesis22);
+        }
+        ParseException parseException22= null;
+        int callStackSize67= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1051 of FEL.javacc
+            consumeToken(TokenType.OPEN_PAREN, false);
+            // Code for NonTerminal specified on line 1051 of FEL.javacc
+            pushOntoCallStack(61);
+            boolean boolean68= currentNTForced;
+            currentNTForced= false;
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean68;
+            }
+            // Code for RegexpRef specified on line 1051 of FEL.javacc
+            consumeToken(TokenType.CLOSE_PAREN, true);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Parenthesis");
+        }
+        catch(ParseException e) {
+            parseException22= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException22== null) {
+                restoreCallStack(callStackSize67);
+            }
+            if (buildTree) {
+                if (parseException22== null) {
+                    closeNodeScope(Parenthesis22, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException22: "+parseException22.getMessage());
+                    Parenthesis22.setParseException(parseException22);
+                    if (Parenthesis22forced) {
+                        restoreCallStack(callStackSize67);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in Parenthesis\n";
+                        message+=parseException22.getMessage();
+                        addParsingProblem(new ParsingProblem(message, Parenthesis22));
+                        closeNodeScope(Parenthesis22, true);
+                    }
+                    else {
+                        closeNodeScope(Parenthesis22, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException22");
+                        throw parseException22;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1054
+    final public void ArgsList() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1054 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1057 of FEL.javacc
+        if (resetScanAhead(2147483647)&&check$FEL_javacc$line_1057$column_19()) {
+            // Code for NonTerminal specified on line 1058 of FEL.javacc
+            pushOntoCallStack(63);
+            boolean boolean69= currentNTForced;
+            currentNTForced= false;
+            try {
+                NamedArgsList();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean69;
+            }
+        }
+        else if (resetScanAhead(1)&&first_set$FEL_javacc$line_1060$column_9.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 1060 of FEL.javacc
+            pushOntoCallStack(64);
+            boolean boolean70= currentNTForced;
+            currentNTForced= true;
+            try {
+                PositionalArgsList();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean70;
+            }
+        }
+        else {
+            pushOntoCallStack(62);
+            throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_1057$column_9, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ArgsList");
+    }
+
+    // FEL.javacc, line 1064
+    final public void NamedArgsList() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1064 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NamedArgsList23forced= this.tolerantParsing&&currentNTForced;
+        NamedArgsList NamedArgsList23= null;
+        if (buildTree) {
+            NamedArgsList23= new NamedArgsList();
+            openNodeScope(NamedArgsList23);
+        }
+        ParseException parseException23= null;
+        int callStackSize71= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1066 of FEL.javacc
+            consumeToken(TokenType.IDENTIFIER, false);
+            // Code for RegexpRef specified on line 1067 of FEL.javacc
+            consumeToken(TokenType.EQUALS, false);
+            // Code for NonTerminal specified on line 1068 of FEL.javacc
+            pushOntoCallStack(65);
+            boolean boolean72= currentNTForced;
+            currentNTForced= false;
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean72;
+            }
+            // Code for ZeroOrMore specified on line 1074 of FEL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA||nextTokenType== TokenType.IDENTIFIER) {
+                // Code for ZeroOrOne specified on line 1070 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 1070 of FEL.javacc
+                    consumeToken(TokenType.COMMA, false);
+                }
+                // Code for RegexpRef specified on line 1071 of FEL.javacc
+                consumeToken(TokenType.IDENTIFIER, false);
+                // Code for RegexpRef specified on line 1072 of FEL.javacc
+                consumeToken(TokenType.EQUALS, false);
+                // Code for NonTerminal specified on line 1073 of FEL.javacc
+                pushOntoCallStack(66);
+                boolean boolean73= currentNTForced;
+                currentNTForced= false;
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean73;
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NamedArgsList");
+        }
+        catch(ParseException e) {
+            parseException23= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException23== null) {
+                restoreCallStack(callStackSize71);
+            }
+            if (buildTree) {
+                if (parseException23== null) {
+                    closeNodeScope(NamedArgsList23, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException23: "+parseException23.getMessage());
+                    NamedArgsList23.setParseException(parseException23);
+                    if (NamedArgsList23forced) {
+                        restoreCallStack(callStackSize71);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in NamedArgsList\n";
+                        message+=parseException23.getMessage();
+                        addParsingProblem(new ParsingProblem(message, NamedArgsList23));
+                        closeNodeScope(NamedArgsList23, true);
+                    }
+                    else {
+                        closeNodeScope(NamedArgsList23, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException23");
+                        throw parseException23;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1077
+    final public void PositionalArgsList() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1077 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean PositionalArgsList24forced= this.tolerantParsing&&currentNTForced;
+        PositionalArgsList PositionalArgsList24= null;
+        if (buildTree) {
+            PositionalArgsList24= new PositionalArgsList();
+            openNodeScope(PositionalArgsList24);
+        }
+        ParseException parseException24= null;
+        int callStackSize74= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1079 of FEL.javacc
+            pushOntoCallStack(67);
+            boolean boolean75= currentNTForced;
+            currentNTForced= false;
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+                currentNTForced= boolean75;
+            }
+            // Code for ZeroOrMore specified on line 1083 of FEL.javacc
+            while (resetScanAhead(1)&&first_set$FEL_javacc$line_1083$column_6.contains(nextTokenType)) {
+                // Code for ZeroOrOne specified on line 1081 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 1081 of FEL.javacc
+                    consumeToken(TokenType.COMMA, false);
+                }
+                // Code for NonTerminal specified on line 1082 of FEL.javacc
+                pushOntoCallStack(68);
+                boolean boolean76= currentNTForced;
+                currentNTForced= false;
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                    currentNTForced= boolean76;
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PositionalArgsList");
+        }
+        catch(ParseException e) {
+            parseException24= e;
+            if (TRACE&&trace_enabled) LOGGER.info("We have a parse error but are in in fault-tolerant mode, so we try to handle it.");
+        }
+        finally {
+            if (parseException24== null) {
+                restoreCallStack(callStackSize74);
+            }
+            if (buildTree) {
+                if (parseException24== null) {
+                    closeNodeScope(PositionalArgsList24, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException parseException24: "+parseException24.getMessage());
+                    PositionalArgsList24.setParseException(parseException24);
+                    if (PositionalArgsList24forced) {
+                        restoreCallStack(callStackSize74);
+                        Token virtualToken= insertVirtualToken(TokenType.CLOSE_PAREN);
+                        resetNextToken();
+                        if (tokensAreNodes) {
+                            currentNodeScope.add(virtualToken);
+                        }
+                        String message= "Inserted virtual token of type "+virtualToken.getType()+"\non line "+virtualToken.getBeginLine()+", column "+virtualToken.getBeginColumn()+" of "+token_source.getInputSource()+"\n to complete expansion in PositionalArgsList\n";
+                        message+=parseException24.getMessage();
+                        addParsingProblem(new ParsingProblem(message, PositionalArgsList24));
+                        closeNodeScope(PositionalArgsList24, true);
+                    }
+                    else {
+                        closeNodeScope(PositionalArgsList24, false);
+                        if (TRACE&&trace_enabled) LOGGER.info("Rethrowing "+"parseException24");
+                        throw parseException24;
+                    }
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_844$column_10= EnumSet.of(TokenType.OR, TokenType.OR2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_852$column_10= EnumSet.of(TokenType.AND, TokenType.AND2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_860$column_10= EnumSet.of(TokenType.EQUALS, TokenType.DOUBLE_EQUALS, TokenType.NOT_EQUALS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_868$column_5= EnumSet.of(TokenType.LT, TokenType.GT, TokenType.LTE, TokenType.GTE, TokenType.ALT_GT, TokenType.ALT_LT, TokenType.ALT_GTE, TokenType.ALT_LTE);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_869$column_10= EnumSet.of(TokenType.LT, TokenType.GT, TokenType.LTE, TokenType.GTE, TokenType.ALT_GT, TokenType.ALT_LT, TokenType.ALT_GTE, TokenType.ALT_LTE);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_890$column_13= EnumSet.of(TokenType.PLUS, TokenType.MINUS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_899$column_12= EnumSet.of(TokenType.TIMES, TokenType.DIVIDE, TokenType.PERCENT);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_911$column_5= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_916$column_6= EnumSet.of(TokenType.PLUS, TokenType.MINUS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_947$column_15= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.DOT, TokenType.BUILT_IN, TokenType.EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_949$column_7= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.DOT, TokenType.BUILT_IN, TokenType.EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_966$column_5= EnumSet.of(TokenType.INTEGER, TokenType.DECIMAL);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_970$column_5= EnumSet.of(TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_972$column_5= EnumSet.of(TokenType.TRUE, TokenType.FALSE);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_987$column_6= EnumSet.of(TokenType.TIMES, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_998$column_15= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1014$column_5= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1014$column_42= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.COMMA, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1027$column_5= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1057$column_9= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1060$column_9= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1083$column_6= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.COMMA, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    private final boolean scanToken(TokenType expectedType) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (type!=expectedType) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    private final boolean scanToken(EnumSet<TokenType> types) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (!types.contains(type)) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    //====================================
+    // Lookahead Routines
+    //====================================
+    private final boolean check$FEL_javacc$line_880$column_10() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(15);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_934$column_19() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.EXCLAM)) return false;
+        pushOntoLookaheadStack(30);
+        if (!check$BaseExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1057$column_19() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.EQUALS)) return false;
+        return true;
+    }
+
+    private final boolean check$AdditiveExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(16);
+        if (!check$MultiplicativeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int77= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_890$column_12())) {
+                currentLookaheadIndex= int77;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$BaseExpression() {
+        if (remainingLookahead<=0) return true;
+        int int78= currentLookaheadIndex;
+        int remainingLookahead78= remainingLookahead;
+        if (!(scanToken(TokenType.IDENTIFIER))) {
+            currentLookaheadIndex= int78;
+            remainingLookahead= remainingLookahead78;
+            if (!(scanToken(first_set$FEL_javacc$line_966$column_5))) {
+                currentLookaheadIndex= int78;
+                remainingLookahead= remainingLookahead78;
+                if (!(check$FEL_javacc$line_968$column_5())) {
+                    currentLookaheadIndex= int78;
+                    remainingLookahead= remainingLookahead78;
+                    if (!(scanToken(first_set$FEL_javacc$line_970$column_5))) {
+                        currentLookaheadIndex= int78;
+                        remainingLookahead= remainingLookahead78;
+                        if (!(scanToken(first_set$FEL_javacc$line_972$column_5))) {
+                            currentLookaheadIndex= int78;
+                            remainingLookahead= remainingLookahead78;
+                            if (!(scanToken(TokenType.NULL))) {
+                                currentLookaheadIndex= int78;
+                                remainingLookahead= remainingLookahead78;
+                                if (!(check$FEL_javacc$line_976$column_5())) {
+                                    currentLookaheadIndex= int78;
+                                    remainingLookahead= remainingLookahead78;
+                                    if (!(check$FEL_javacc$line_978$column_5())) {
+                                        currentLookaheadIndex= int78;
+                                        remainingLookahead= remainingLookahead78;
+                                        if (!(check$FEL_javacc$line_980$column_5())) {
+                                            return false;
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$MultiplicativeExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(19);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int79= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_899$column_11())) {
+                currentLookaheadIndex= int79;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_890$column_12() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_890$column_13)) return false;
+        pushOntoLookaheadStack(18);
+        if (!check$MultiplicativeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_968$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(42);
+        if (!check$HashLiteral()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_976$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(46);
+        if (!check$ListLiteral()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_978$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(47);
+        if (!check$Parenthesis()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_980$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(48);
+        if (!check$BuiltinVariable()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$UnaryExpression() {
+        if (remainingLookahead<=0) return true;
+        int int80= currentLookaheadIndex;
+        int remainingLookahead80= remainingLookahead;
+        if (!(check$FEL_javacc$line_907$column_5())) {
+            currentLookaheadIndex= int80;
+            remainingLookahead= remainingLookahead80;
+            if (!(check$FEL_javacc$line_909$column_5())) {
+                currentLookaheadIndex= int80;
+                remainingLookahead= remainingLookahead80;
+                if (!(check$FEL_javacc$line_911$column_5())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_899$column_11() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_899$column_12)) return false;
+        pushOntoLookaheadStack(21);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$HashLiteral() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.OPEN_BRACE)) return false;
+        int int81= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_1028$column_8())) currentLookaheadIndex= int81;
+        if (!scanToken(TokenType.CLOSE_BRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$ListLiteral() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.OPEN_BRACKET)) return false;
+        int int82= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_1014$column_6())) currentLookaheadIndex= int82;
+        if (!scanToken(TokenType.CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$Parenthesis() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.OPEN_PAREN)) return false;
+        pushOntoLookaheadStack(61);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$BuiltinVariable() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_907$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(23);
+        if (!check$UnaryPlusMinusExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_909$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(24);
+        if (!check$NotExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_911$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(25);
+        if (!check$DefaultToExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1028$column_8() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(55);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.COLON)) return false;
+        pushOntoLookaheadStack(56);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int83= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_1029$column_9())) {
+                currentLookaheadIndex= int83;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1014$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(52);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int84= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_1014$column_20())) {
+                currentLookaheadIndex= int84;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Expression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(1);
+        if (!check$OrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$UnaryPlusMinusExpression() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_916$column_6)) return false;
+        pushOntoLookaheadStack(27);
+        if (!check$DefaultToExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$NotExpression() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.EXCLAM)) return false;
+        pushOntoLookaheadStack(28);
+        if (!check$DefaultToExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$DefaultToExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(29);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int85= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_934$column_9()&&check$FEL_javacc$line_934$column_9$())) {
+                currentLookaheadIndex= int85;
+                break;
+            }
+        }
+        int int86= currentLookaheadIndex;
+        if (!(scanToken(TokenType.EXCLAM))) currentLookaheadIndex= int86;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1029$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(57);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.COLON)) return false;
+        pushOntoLookaheadStack(58);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1014$column_20() {
+        if (remainingLookahead<=0) return true;
+        int int87= currentLookaheadIndex;
+        if (!(scanToken(TokenType.COMMA))) currentLookaheadIndex= int87;
+        pushOntoLookaheadStack(53);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$OrExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(2);
+        if (!check$AndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int88= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_844$column_9())) {
+                currentLookaheadIndex= int88;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$PrimaryExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(32);
+        if (!check$BaseExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int89= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_947$column_5()&&check$FEL_javacc$line_947$column_5$())) {
+                currentLookaheadIndex= int89;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_934$column_9$() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.EXCLAM)) return false;
+        pushOntoLookaheadStack(31);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$AndExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(5);
+        if (!check$EqualityExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int90= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_852$column_9())) {
+                currentLookaheadIndex= int90;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_844$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_844$column_10)) return false;
+        pushOntoLookaheadStack(4);
+        if (!check$AndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_947$column_5$() {
+        if (remainingLookahead<=0) return true;
+        int int91= currentLookaheadIndex;
+        int remainingLookahead91= remainingLookahead;
+        if (!(check$FEL_javacc$line_949$column_7())) {
+            currentLookaheadIndex= int91;
+            remainingLookahead= remainingLookahead91;
+            if (!(check$FEL_javacc$line_951$column_7())) {
+                currentLookaheadIndex= int91;
+                remainingLookahead= remainingLookahead91;
+                if (!(check$FEL_javacc$line_953$column_7())) {
+                    currentLookaheadIndex= int91;
+                    remainingLookahead= remainingLookahead91;
+                    if (!(check$FEL_javacc$line_955$column_7())) {
+                        currentLookaheadIndex= int91;
+                        remainingLookahead= remainingLookahead91;
+                        if (!(scanToken(TokenType.EXISTS_OPERATOR))) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$EqualityExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(8);
+        if (!check$RelationalExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int92= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_860$column_9())) currentLookaheadIndex= int92;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_852$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_852$column_10)) return false;
+        pushOntoLookaheadStack(7);
+        if (!check$EqualityExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_949$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(35);
+        if (!check$DotKey()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_951$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(36);
+        if (!check$DynamicKey()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_953$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(37);
+        if (!check$MethodInvoke()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_955$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(38);
+        if (!check$BuiltIn()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$RelationalExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(11);
+        if (!check$RangeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int93= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_869$column_9())) currentLookaheadIndex= int93;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_860$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_860$column_10)) return false;
+        pushOntoLookaheadStack(10);
+        if (!check$RelationalExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$DotKey() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(first_set$FEL_javacc$line_987$column_6)) return false;
+        return true;
+    }
+
+    private final boolean check$DynamicKey() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.OPEN_BRACKET)) return false;
+        pushOntoLookaheadStack(50);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$MethodInvoke() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.OPEN_PAREN)) return false;
+        int int94= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_998$column_16())) currentLookaheadIndex= int94;
+        if (!scanToken(TokenType.CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$BuiltIn() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.BUILT_IN)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$RangeExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(14);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int95= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_878$column_8())) currentLookaheadIndex= int95;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_869$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_869$column_10)) return false;
+        pushOntoLookaheadStack(13);
+        if (!check$RangeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_998$column_16() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(51);
+        if (!check$ArgsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_878$column_8() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT_DOT)) return false;
+        int int96= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_880$column_10())) currentLookaheadIndex= int96;
+        return true;
+    }
+
+    private final boolean check$ArgsList() {
+        if (remainingLookahead<=0) return true;
+        int int97= currentLookaheadIndex;
+        int remainingLookahead97= remainingLookahead;
+        if (!(check$FEL_javacc$line_1057$column_9()&&check$FEL_javacc$line_1057$column_9$())) {
+            currentLookaheadIndex= int97;
+            remainingLookahead= remainingLookahead97;
+            if (!(check$FEL_javacc$line_1060$column_9())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1057$column_9$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(63);
+        if (!check$NamedArgsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1060$column_9() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(64);
+        if (!check$PositionalArgsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$NamedArgsList() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.EQUALS)) return false;
+        pushOntoLookaheadStack(65);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int98= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_1070$column_8())) {
+                currentLookaheadIndex= int98;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$PositionalArgsList() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(67);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int99= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_1081$column_8())) {
+                currentLookaheadIndex= int99;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1070$column_8() {
+        if (remainingLookahead<=0) return true;
+        int int100= currentLookaheadIndex;
+        if (!(scanToken(TokenType.COMMA))) currentLookaheadIndex= int100;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.EQUALS)) return false;
+        pushOntoLookaheadStack(66);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1081$column_8() {
+        if (remainingLookahead<=0) return true;
+        int int101= currentLookaheadIndex;
+        if (!(scanToken(TokenType.COMMA))) currentLookaheadIndex= int101;
+        pushOntoLookaheadStack(68);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_934$column_9() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.EXCLAM)) return false;
+            pushOntoLookaheadStack(30);
+            if (!check$BaseExpression()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$FEL_javacc$line_947$column_5() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(first_set$FEL_javacc$line_947$column_15)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$FEL_javacc$line_1057$column_9() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            if (!scanToken(TokenType.EQUALS)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    // Without DEBUG_PARSER, these are compile-time constants, so no tracing code is compiled in.
+    private static final boolean TRACE= false;
+    private static final boolean trace_enabled= false;
+    // So that the warning about setTracingEnabled(true) only comes up once
+    private static volatile boolean tracingWarningGiven;
+    /**
+  * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER),
+  * so this does nothing, apart from logging a warning (once) if tracing is asked for.
+  */
+    @Deprecated public void setTracingEnabled(boolean tracingEnabled) {
+        if (tracingEnabled&&!tracingWarningGiven) {
+            tracingWarningGiven= true;
+            LOGGER.warning("setTracingEnabled(true) does nothing, since the parser was generated without DEBUG_PARSER");
+        }
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(true)
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(false)
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+    // The parsing and lookahead stacks just hold indexes into the tables of call sites below.
+    // The NonTerminalCall objects are only created if there is an error to report.
+    private int[] parsingStack= new int[64];
+    private int parsingStackSize;
+    private int[] lookaheadStack= new int[64];
+    private int lookaheadStackSize;
+    private static final String[] CALL_SITE_PRODUCTIONS= {"Input", "Expression", "OrExpression", "OrExpression", "OrExpression", "AndExpression", "AndExpression", "AndExpression", "EqualityExpression", "EqualityExpression", "EqualityExpression", "RelationalExpression", "RelationalExpression", "RelationalExpression", "RangeExpression", "RangeExpression", "AdditiveExpression", "AdditiveExpression", "AdditiveExpression", "MultiplicativeExpression", "MultiplicativeExpression", "MultiplicativeExpression", "UnaryExpression", "UnaryExpression", "UnaryExpression", "UnaryExpression", "UnaryPlusMinusExpression", "UnaryPlusMinusExpression", "NotExpression", "DefaultToExpression", "DefaultToExpression", "DefaultToExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "DotKey", "DynamicKey", "MethodInvoke", "ListLiteral", "ListLiteral", "StringLiteral", "HashLiteral", "HashLiteral", "HashLiteral", "HashLiteral", "NumberLiteral", "BooleanLiteral", "Parenthesis", "ArgsList", "ArgsList", "ArgsList", "NamedArgsList", "NamedArgsList", "PositionalArgsList", "PositionalArgsList"};
+    private static final String[] CALL_SITE_FILES= {"FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc"};
+    private static final int[] CALL_SITE_LINES= {828, 837, 842, 844, 844, 850, 852, 852, 858, 860, 861, 867, 869, 870, 876, 881, 888, 890, 891, 897, 899, 900, 907, 907, 909, 911, 916, 916, 922, 932, 934, 935, 945, 947, 949, 949, 951, 953, 955, 957, 964, 966, 968, 970, 972, 974, 976, 978, 980, 987, 992, 998, 1014, 1014, 1020, 1028, 1028, 1029, 1029, 1036, 1041, 1051, 1057, 1058, 1060, 1068, 1073, 1079, 1082};
+    private static final int[] CALL_SITE_COLUMNS= {4, 5, 5, 10, 22, 5, 10, 24, 5, 10, 9, 5, 10, 9, 5, 11, 5, 13, 12, 5, 12, 11, 5, 5, 5, 5, 6, 22, 5, 5, 27, 17, 3, 15, 7, 7, 7, 7, 7, 7, 5, 5, 5, 5, 5, 5, 5, 5, 5, 6, 19, 16, 6, 29, 5, 8, 29, 16, 37, 5, 5, 17, 9, 9, 9, 5, 8, 5, 8};
+    private EnumSet<TokenType> currentFollowSet;
+    /**
+ * Inner class that represents entering a grammar production
+ */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile= sourceFile;
+            this.productionName= productionName;
+            this.line= line;
+            this.column= column;
+        }
+
+        NonTerminalCall(int callSite) {
+            this(CALL_SITE_FILES[callSite], CALL_SITE_PRODUCTIONS[callSite], CALL_SITE_LINES[callSite], CALL_SITE_COLUMNS[callSite]);
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("FELParser", productionName, sourceFile, line);
+        }
+
+    }
+    private final void pushOntoCallStack(int callSite) {
+        if (parsingStackSize== parsingStack.length) {
+            parsingStack= Arrays.copyOf(parsingStack, parsingStackSize*2);
+        }
+        parsingStack[parsingStackSize++]= callSite;
+    }
+
+    private final void popCallStack() {
+        parsingStackSize--;
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        if (parsingStackSize> prevSize) {
+            parsingStackSize= prevSize;
+        }
+    }
+
+    /**
+ * @return the parsing stack as a list of NonTerminalCall objects
+ */
+    List<NonTerminalCall> getCallStack() {
+        List<NonTerminalCall> result= new ArrayList<> (parsingStackSize);
+        for (int i= 0; i<parsingStackSize; i++) {
+            result.add(new NonTerminalCall(parsingStack[i]));
+        }
+        return result;
+    }
+
+    // The number of entries in the parsing stack and the lookahead stack together
+    private final int callStackDepth() {
+        return parsingStackSize+lookaheadStackSize;
+    }
+
+    // The call site of an entry in the parsing stack followed by the lookahead stack
+    private final int callStackEntry(int index) {
+        return index<parsingStackSize?parsingStack[index]:
+        lookaheadStack[index-parsingStackSize];
+    }
+
+    private final void pushOntoLookaheadStack(int callSite) {
+        if (lookaheadStackSize== lookaheadStack.length) {
+            lookaheadStack= Arrays.copyOf(lookaheadStack, lookaheadStackSize*2);
+        }
+        lookaheadStack[lookaheadStackSize++]= callSite;
+    }
+
+    private final void popLookaheadStack() {
+        lookaheadStackSize--;
+    }
+
+    private boolean tolerantParsing= true;
+    private boolean currentNTForced= false;
+    private List<ParsingProblem> parsingProblems;
+    // This is the last "legit" token consumed by the parsing machinery, not
+    // a virtual or invalid Token inserted to continue parsing.
+    public void addParsingProblem(ParsingProblem problem) {
+        if (parsingProblems== null) {
+            parsingProblems= new ArrayList<> ();
+        }
+        parsingProblems.add(problem);
+    }
+
+    public List<ParsingProblem> getParsingProblems() {
+        return parsingProblems;
+    }
+
+    public boolean hasParsingProblems() {
+        return parsingProblems!=null&&!parsingProblems.isEmpty();
+    }
+
+    private void resetNextToken() {
+        current_token.setNext(null);
+        clearLookaheadTokens();
+        //       token_source.reset(current_token);
+        token_source.reset(lastParsedToken);
+    }
+
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        this.tolerantParsing= tolerantParsing;
+    }
+
+    private Token insertVirtualToken(TokenType tokenType) {
+        Token virtualToken= Token.newToken(tokenType, "VIRTUAL "+tokenType, this);
+        virtualToken.setLexicalState(token_source.lexicalState);
+        virtualToken.setUnparsed(true);
+        virtualToken.setVirtual(true);
+        int line= lastParsedToken.getEndLine();
+        int column= lastParsedToken.getEndColumn();
+        virtualToken.setBeginLine(line);
+        virtualToken.setEndLine(line);
+        virtualToken.setBeginColumn(column);
+        virtualToken.setEndColumn(column);
+        token_source.doLexicalStateSwitch(tokenType);
+        return virtualToken;
+    }
+
+    private Token consumeToken(TokenType expectedType) throws ParseException {
+        return consumeToken(expectedType, false);
+    }
+
+    private Token consumeToken(TokenType expectedType, boolean forced) throws ParseException {
+        InvalidToken invalidToken= null;
+        Token oldToken= current_token;
+        current_token= current_token.getNext();
+        if (current_token== null) {
+            current_token= token_source.getNextToken();
+        }
+        if (tolerantParsing&&current_token instanceof InvalidToken) {
+            addParsingProblem(new ParsingProblem("Lexically invalid input", current_token));
+            invalidToken= (InvalidToken) current_token;
+            current_token= token_source.getNextToken();
+        }
+        if (current_token.getType()!=expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken);
+        }
+        else {
+            this.lastParsedToken= current_token;
+        }
+        if (buildTree&&tokensAreNodes) {
+            if (invalidToken!=null) {
+                pushNode(invalidToken);
+            }
+            pushNode(current_token);
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Consumed token of type "+current_token.getType()+" from "+current_token.getLocation());
+        return current_token;
+    }
+
+    private void handleUnexpectedTokenType(TokenType expectedType, boolean forced, Token oldToken) throws ParseException {
+        if (forced&&tolerantParsing) {
+            Token nextToken= current_token;
+            current_token= oldToken;
+            Token virtualToken= insertVirtualToken(expectedType);
+            virtualToken.setNext(nextToken);
+            current_token= virtualToken;
+            String message= "Expecting token type "+expectedType+" but encountered "+nextToken.getType();
+            message+="\nInserting virtual token to continue parsing";
+            addParsingProblem(new ParsingProblem(message, virtualToken));
+        }
+        else throw new ParseException(current_token, EnumSet.of(expectedType), getCallStack());
+    }
+
+    private class ParseState {
+        Token lastParsed;
+        NodeScope nodeScope;
+        ParseState() {
+            this.lastParsed= FELParser.this.lastParsedToken;
+            this.nodeScope= (NodeScope) currentNodeScope.clone();
+        }
+
+    }
+    private ArrayList<ParseState> parseStateStack= new ArrayList<> ();
+    void stashParseState() {
+        parseStateStack.add(new ParseState());
+    }
+
+    ParseState popParseState() {
+        return parseStateStack.remove(parseStateStack.size()-1);
+    }
+
+    void restoreStashedParseState() {
+        ParseState state= popParseState();
+        currentNodeScope= state.nodeScope;
+        if (state.lastParsed!=null) {
+            //REVISIT
+            current_token= lastParsedToken= state.lastParsed;
+        }
+        token_source.switchTo(lastParsedToken.getLexicalState());
+        if (token_source.doLexicalStateSwitch(lastParsedToken.getType())) {
+            token_source.reset(lastParsedToken);
+            lastParsedToken.setNext(null);
+            clearLookaheadTokens();
+        }
+    }
+
+    private boolean buildTree= true;
+    private boolean tokensAreNodes= true;
+    private boolean unparsedTokensAreNodes= true;
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes= unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes= tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope= new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        Node root= currentNodeScope.rootNode();
+        recursivelySetInputSource(root, this.token_source.input_stream);
+        return root;
+    }
+
+    static private void recursivelySetInputSource(Node n, FileLineMap fileLineMap) {
+        n.setInputSource(fileLineMap);
+        for (Node child : n.children()) {
+            //            if (child instanceof Token) {
+            //                 ((Token) child).setImage(null);
+            //            } 
+            recursivelySetInputSource(child, fileLineMap);
+        }
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    public void openNodeScope(Node n) {
+        Token start= getToken(1);
+        n.setBeginLine(start.getBeginLine());
+        n.setBeginColumn(start.getBeginColumn());
+        n.setInputSource(token_source.input_stream);
+        new NodeScope();
+        n.open();
+        if (TRACE&&trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (TRACE&&trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (TRACE&&trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes= new ArrayList<Node> ();
+        for (int i= 0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                Token token= (Token) child;
+                Token specialToken= token;
+                while (specialToken!=null) {
+                    specialToken= specialToken.getSpecialToken();
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken= specialToken.getNext();
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n, boolean condition) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (condition) {
+            if (TRACE&&trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a= nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes= new ArrayList<Node> ();
+            while (a--> 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                    Token token= (Token) child;
+                    Token specialToken= token;
+                    while (specialToken.getSpecialToken()!=null) {
+                        specialToken= specialToken.getSpecialToken();
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken= specialToken.getNext();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree= buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    FELParser jjtree= this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node>  {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope= FELParser.this.currentNodeScope;
+            FELParser.this.currentNodeScope= this;
+        }
+
+        boolean isRootScope() {
+            return parentScope== null;
+        }
+
+        Node rootNode() {
+            NodeScope ns= this;
+            while (ns.parentScope!=null) {
+                ns= ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        Node pop() {
+            return isEmpty()?parentScope.pop():
+            remove(size()-1);
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            FELParser.this.currentNodeScope= parentScope;
+        }
+
+        int nestingLevel() {
+            int result= 0;
+            NodeScope parent= this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent= parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+}
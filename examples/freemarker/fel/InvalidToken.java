@@ -0,0 +1,25 @@
+/* Generated by: JavaCC 21 Parser Generator. InvalidToken.java */
+package fel;
+
+/**
+ * Token subclass to represent lexically invalid input
+ */
+public class InvalidToken extends Token {
+    public InvalidToken(String image, FileLineMap inputSource) {
+        super(TokenType.INVALID, image, inputSource);
+    }
+
+    /*    
+    public InvalidToken() {
+       super(TokenType.INVALID, null, "input");
+    }
+*/
+    public String getNormalizedText() {
+        return"Lexically Invalid Input:"+getImage();
+    }
+
+    public boolean isDirty() {
+        return true;
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for OPEN_PAREN Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class OPEN_PAREN extends Token {
+    public OPEN_PAREN(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public OPEN_PAREN(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for SEMICOLON Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package fel;
+
+@SuppressWarnings("unused")
+public class SEMICOLON extends Token {
+    public SEMICOLON(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public SEMICOLON(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,379 @@
+/* Generated by: JavaCC 21 Parser Generator. Token.java */
+package fel;
+
+import java.util.*;
+public class Token implements FELConstants, Node {
+    private FileLineMap fileLineMap;
+    public FileLineMap getFileLineMap() {
+        if (fileLineMap== null) {
+            Node n= getParent();
+            while (n!=null) {
+                fileLineMap= n.getFileLineMap();
+                if (fileLineMap!=null) break;
+                n= n.getParent();
+            }
+        }
+        return fileLineMap;
+    }
+
+    public Token(TokenType type, String image, FileLineMap fileLineMap) {
+        this.type= type;
+        this.image= image;
+        this.fileLineMap= fileLineMap;
+    }
+
+    public void setInputSource(FileLineMap fileLineMap) {
+        this.fileLineMap= fileLineMap;
+    }
+
+    // The token does not correspond to actual characters in the input.
+    // It was typically inserted to (tolerantly) complete some grammatical production.
+    private boolean virtual;
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public void setVirtual(boolean virtual) {
+        this.virtual= virtual;
+    }
+
+    private String inputSource= "";
+    private TokenType type;
+    public TokenType getType() {
+        return type;
+    }
+
+    void setType(TokenType type) {
+        this.type= type;
+    }
+
+    /**
+     * beginLine and beginColumn describe the position of the first character
+     * of this token; endLine and endColumn describe the position of the
+     * last character of this token.
+     */
+    private int beginLine, beginColumn, endLine, endColumn;
+    /**
+     * The string image of the token.
+     */
+    private String image;
+    public String getImage() {
+        if (image== null) {
+            return getSource();
+        }
+        return image;
+    }
+
+    public void setImage(String image) {
+        this.image= image;
+    }
+
+    private LexicalState lexicalState;
+    void setLexicalState(LexicalState state) {
+        this.lexicalState= state;
+    }
+
+    LexicalState getLexicalState() {
+        return lexicalState;
+    }
+
+    private Token next;
+    Token getNext() {
+        return next;
+    }
+
+    void setNext(Token next) {
+        this.next= next;
+    }
+
+    /**
+     * This field is used to access special tokens that occur prior to this
+     * token, but after the immediately preceding regular (non-special) token.
+     * If there are no such special tokens, this field is set to null.
+     * When there are more than one such special token, this field refers
+     * to the last of these special tokens, which in turn refers to the next
+     * previous special token through its specialToken field, and so on
+     * until the first special token (whose specialToken field is null).
+     * The next fields of special tokens refer to other special tokens that
+     * immediately follow it (without an intervening regular token).  If there
+     * is no such token, this field is null.
+     */
+    private Token specialToken;
+    public Token getSpecialToken() {
+        return specialToken;
+    }
+
+    public void setSpecialToken(Token specialToken) {
+        this.specialToken= specialToken;
+    }
+
+    private boolean unparsed;
+    //Should find a way to get rid of this.
+    Token() {
+    }
+
+    public Token(int kind) {
+        this(kind, null);
+        this.type= TokenType.values()[kind];
+    }
+
+    /**
+     * Constructs a new token for the specified Image and Kind.
+     */
+    public Token(int kind, String image) {
+        this.type= TokenType.values()[kind];
+        this.image= image;
+        ;
+    }
+
+    public Token(TokenType type, String image, String inputSource) {
+        this.type= type;
+        this.image= image;
+        this.inputSource= inputSource;
+    }
+
+    public boolean isUnparsed() {
+        return unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void clearChildren() {
+    }
+
+    public String getNormalizedText() {
+        if (virtual) {
+            return"Virtual Token of type "+getType();
+        }
+        if (getType()== TokenType.EOF) {
+            return"EOF";
+        }
+        return getImage();
+    }
+
+    public String toString() {
+        return getNormalizedText();
+    }
+
+    public static Token newToken(TokenType type, String image, FileLineMap fileLineMap) {
+        switch(type) {
+            case EXP_WHITE_SPACE:
+            return new EXP_WHITE_SPACE(TokenType.EXP_WHITE_SPACE, image, fileLineMap);
+            case OPEN_PAREN:
+            return new OPEN_PAREN(TokenType.OPEN_PAREN, image, fileLineMap);
+            case CLOSE_PAREN:
+            return new CLOSE_PAREN(TokenType.CLOSE_PAREN, image, fileLineMap);
+            case OPEN_BRACKET:
+            return new OPEN_BRACKET(TokenType.OPEN_BRACKET, image, fileLineMap);
+            case CLOSE_BRACKET:
+            return new CLOSE_BRACKET(TokenType.CLOSE_BRACKET, image, fileLineMap);
+            case OPEN_BRACE:
+            return new OPEN_BRACE(TokenType.OPEN_BRACE, image, fileLineMap);
+            case CLOSE_BRACE:
+            return new CLOSE_BRACE(TokenType.CLOSE_BRACE, image, fileLineMap);
+            case EQUALS:
+            return new EQUALS(TokenType.EQUALS, image, fileLineMap);
+            case DOT:
+            return new DOT(TokenType.DOT, image, fileLineMap);
+            case PLUS:
+            return new PLUS(TokenType.PLUS, image, fileLineMap);
+            case MINUS:
+            return new MINUS(TokenType.MINUS, image, fileLineMap);
+            case TIMES:
+            return new TIMES(TokenType.TIMES, image, fileLineMap);
+            case DIVIDE:
+            return new DIVIDE(TokenType.DIVIDE, image, fileLineMap);
+            case PERCENT:
+            return new PERCENT(TokenType.PERCENT, image, fileLineMap);
+            case OR:
+            return new OR(TokenType.OR, image, fileLineMap);
+            case AND:
+            return new AND(TokenType.AND, image, fileLineMap);
+            case LT:
+            return new LT(TokenType.LT, image, fileLineMap);
+            case GT:
+            return new GT(TokenType.GT, image, fileLineMap);
+            case COMMA:
+            return new COMMA(TokenType.COMMA, image, fileLineMap);
+            case COLON:
+            return new COLON(TokenType.COLON, image, fileLineMap);
+            case SEMICOLON:
+            return new SEMICOLON(TokenType.SEMICOLON, image, fileLineMap);
+            case EXCLAM:
+            return new EXCLAM(TokenType.EXCLAM, image, fileLineMap);
+            case BUILT_IN:
+            return new BUILT_IN(TokenType.BUILT_IN, image, fileLineMap);
+            case DOUBLE_EQUALS:
+            return new DOUBLE_EQUALS(TokenType.DOUBLE_EQUALS, image, fileLineMap);
+            case NOT_EQUALS:
+            return new NOT_EQUALS(TokenType.NOT_EQUALS, image, fileLineMap);
+            case EXISTS_OPERATOR:
+            return new EXISTS_OPERATOR(TokenType.EXISTS_OPERATOR, image, fileLineMap);
+            case LTE:
+            return new LTE(TokenType.LTE, image, fileLineMap);
+            case GTE:
+            return new GTE(TokenType.GTE, image, fileLineMap);
+            case OR2:
+            return new OR2(TokenType.OR2, image, fileLineMap);
+            case AND2:
+            return new AND2(TokenType.AND2, image, fileLineMap);
+            case DOT_DOT:
+            return new DOT_DOT(TokenType.DOT_DOT, image, fileLineMap);
+            case ALT_GT:
+            return new ALT_GT(TokenType.ALT_GT, image, fileLineMap);
+            case ALT_LT:
+            return new ALT_LT(TokenType.ALT_LT, image, fileLineMap);
+            case AS:
+            return new AS(TokenType.AS, image, fileLineMap);
+            case IN:
+            return new IN(TokenType.IN, image, fileLineMap);
+            case ALT_GTE:
+            return new ALT_GTE(TokenType.ALT_GTE, image, fileLineMap);
+            case ALT_LTE:
+            return new ALT_LTE(TokenType.ALT_LTE, image, fileLineMap);
+            case ELLIPSIS:
+            return new ELLIPSIS(TokenType.ELLIPSIS, image, fileLineMap);
+            case NULL:
+            return new NULL(TokenType.NULL, image, fileLineMap);
+            case TRUE:
+            return new TRUE(TokenType.TRUE, image, fileLineMap);
+            case FALSE:
+            return new FALSE(TokenType.FALSE, image, fileLineMap);
+            case USING:
+            return new USING(TokenType.USING, image, fileLineMap);
+            case INTEGER:
+            return new INTEGER(TokenType.INTEGER, image, fileLineMap);
+            case DECIMAL:
+            return new DECIMAL(TokenType.DECIMAL, image, fileLineMap);
+            case IDENTIFIER:
+            return new IDENTIFIER(TokenType.IDENTIFIER, image, fileLineMap);
+            case STRING_LITERAL:
+            return new STRING_LITERAL(TokenType.STRING_LITERAL, image, fileLineMap);
+            case RAW_STRING:
+            return new RAW_STRING(TokenType.RAW_STRING, image, fileLineMap);
+            default:
+            return new Token(type, image, fileLineMap);
+        }
+    }
+
+    public static Token newToken(TokenType type, String image, FELParser parser) {
+        return newToken(type, image, parser.token_source);
+    }
+
+    public static Token newToken(TokenType type, String image, FELLexer lexer) {
+        return newToken(type, image, lexer.input_stream);
+    }
+
+    public static Token newToken(TokenType type, String image, Node node) {
+        return newToken(type, image, node.getFileLineMap());
+    }
+
+    public void setBeginColumn(int beginColumn) {
+        this.beginColumn= beginColumn;
+    }
+
+    public void setEndColumn(int endColumn) {
+        this.endColumn= endColumn;
+    }
+
+    public void setBeginLine(int beginLine) {
+        this.beginLine= beginLine;
+    }
+
+    public void setEndLine(int endLine) {
+        this.endLine= endLine;
+    }
+
+    public int getBeginLine() {
+        return beginLine;
+    }
+
+    public int getBeginColumn() {
+        return beginColumn;
+    }
+
+    public int getEndLine() {
+        return endLine;
+    }
+
+    public int getEndColumn() {
+        return endColumn;
+    }
+
+    private Node parent;
+    private Map<String, Object> attributes;
+    public void setChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Node removeChild(int i) {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean removeChild(Node n) {
+        return false;
+    }
+
+    public int indexOf(Node n) {
+        return-1;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void setParent(Node parent) {
+        this.parent= parent;
+    }
+
+    public int getChildCount() {
+        return 0;
+    }
+
+    public Node getChild(int i) {
+        return null;
+    }
+
+    public List<Node> children() {
+        return Collections.emptyList();
+    }
+
+    public void open() {
+    }
+
+    public void close() {
+    }
+
+    public Object getAttribute(String name) {
+        return attributes== null?null:
+        attributes.get(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes== null) {
+            attributes= new HashMap<String, Object> ();
+        }
+        attributes.put(name, value);
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes== null?false:
+        attributes.containsKey(name);
+    }
+
+    public Set<String> getAttributeNames() {
+        if (attributes== null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for EqualityExpression AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+@SuppressWarnings("unused")
+public class EqualityExpression extends BaseNode {
+}
@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for FTL Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class FTL extends Token {
+    public FTL(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public FTL(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public FTL(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
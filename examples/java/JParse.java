@@ -21,7 +21,12 @@ public class JParse {
         usage();
       }
       List<File> files = new ArrayList<File>();
+      boolean parallel = false;
       for (String arg : args) {
+          if (arg.equals("-p")) {
+              parallel = true;
+              continue;
+          }
           File file = new File(arg);
           if (!file.exists()) {
               System.err.println("File " + file + " does not exist.");
@@ -30,7 +35,10 @@ public class JParse {
 	   addFilesRecursively(files, file);
       }
       long startTime = System.currentTimeMillis();
-      for (File file : files) {
+      if (parallel) {
+          parseInParallel(files, successes, failures);
+      }
+      else for (File file : files) {
           try {
              // A bit screwball, we'll dump the tree if there is only one arg. :-)
               parseFile(file, files.size() == 1);
@@ -73,6 +81,26 @@ public class JParse {
        }
    }
 
+   // Parses the files on all the available cores
+   static public void parseInParallel(List<File> files, List<File> successes, List<File> failures) {
+       List<java.nio.file.Path> paths = new ArrayList<>();
+       for (File file : files) {
+           paths.add(file.toPath());
+       }
+       JavaParserDriver driver = new JavaParserDriver();
+       for (JavaParserDriver.Result<Node> result : driver.parseFiles(paths, parser -> (Node) parser.CompilationUnit())) {
+           File file = new File(result.getInputSource());
+           if (result.isSuccessful()) {
+               System.out.println(file.getName()  + " parsed successfully.");
+               successes.add(file);
+           } else {
+               System.err.println("Error processing file: " + file);
+               result.getError().printStackTrace();
+               failures.add(file);
+           }
+       }
+   }
+
    static public void addFilesRecursively(List<File> files, File file) {
        if (file.isDirectory()) {
            for (File f : file.listFiles()) {
@@ -86,8 +114,9 @@ public class JParse {
    
    
    static public void usage() {
-       System.out.println("Usage: java JParse <sourcefiles or directories>");
+       System.out.println("Usage: java JParse [-p] <sourcefiles or directories>");
        System.out.println("If you just pass it one java source file, it dumps the AST");
+       System.out.println("With -p, the files are parsed in parallel");
        System.exit(-1);
    }
 }
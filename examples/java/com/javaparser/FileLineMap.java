@@ -0,0 +1,617 @@
+/* Generated by: JavaCC 21 Parser Generator. FileLineMap.java */
+package com.javaparser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.*;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+/**
+ * Rather bloody-minded implementation of a class to read in a file 
+ * and store the contents in a String, and keep track of where the 
+ * lines are.
+ */
+public class FileLineMap {
+    private static final int[] EMPTY_INT= new int[0];
+    // Munged content, possibly replace unicode escapes, tabs, or CRLF with LF.
+    private final CharSequence content;
+    // Typically a filename, I suppose.
+    private String inputSource;
+    // A list of offsets of the beginning of lines
+    private final int[] lineOffsets;
+    private int startingLine, startingColumn;
+    private int bufferPosition, tokenBeginOffset, tokenBeginColumn, tokenBeginLine, line, column;
+    // The tokens read so far, in order, along with their begin and (exclusive) end offsets
+    private Token[] tokens= new Token[256];
+    private int[] tokenBeginOffsets= new int[256], tokenEndOffsets= new int[256];
+    private int tokenCount;
+    // The line found by the last call to getLineIndex
+    private int lastLineIndex;
+    public FileLineMap(String inputSource, Reader reader, int startingLine, int startingColumn) {
+        this(inputSource, readToEnd(reader), startingLine, startingColumn);
+    }
+
+    public FileLineMap(String inputSource, CharSequence content) {
+        this(inputSource, content, 1, 1);
+    }
+
+    public FileLineMap(Path path, Charset charset) throws IOException {
+        this(path.toString(), mapFile(path, charset));
+    }
+
+    public FileLineMap(String inputSource, CharSequence content, int startingLine, int startingColumn) {
+        this.inputSource= inputSource;
+        this.content= mungeContent(content, 8, false, true);
+        this.lineOffsets= createLineOffsetsTable(this.content);
+        this.setStartPosition(startingLine, startingColumn);
+    }
+
+    // START API methods
+    // Now some methods to fulfill the functionality that used to be in that
+    // SimpleCharStream class
+    // This backup() method is dead simple by design and does not handle any of the messiness
+    // with column numbers relating to tabs or unicode escapes. 
+    public void backup(int amount) {
+        bufferPosition-=amount;
+        if (amount<column-1) {
+            // Still on the same line
+            column-=amount;
+        }
+        else {
+            setLineAndColumn(bufferPosition);
+        }
+    }
+
+    void forward(int amount) {
+        bufferPosition+=amount;
+        int nextLineIndex= line-startingLine+1;
+        if (nextLineIndex<lineOffsets.length&&bufferPosition<lineOffsets[nextLineIndex]) {
+            // Still on the same line
+            column+=amount;
+        }
+        else {
+            setLineAndColumn(bufferPosition);
+        }
+    }
+
+    int readChar() {
+        if (bufferPosition>=content.length()) {
+            return-1;
+        }
+        int ch= content.charAt(bufferPosition++);
+        if (ch== '\n') {
+            ++line;
+            column= 1;
+        }
+        else {
+            ++column;
+        }
+        return ch;
+    }
+
+    String getImage() {
+        return content.subSequence(tokenBeginOffset, bufferPosition).toString();
+    }
+
+    /**
+     * @return the text between the two offsets, the end offset being exclusive
+     */
+    public String getImage(int beginOffset, int endOffset) {
+        return content.subSequence(beginOffset, endOffset).toString();
+    }
+
+    int getTokenBeginOffset() {
+        return tokenBeginOffset;
+    }
+
+    int getTokenEndOffset() {
+        return bufferPosition;
+    }
+
+    String getSuffix(final int len) {
+        int startPos= bufferPosition-len+1;
+        return content.subSequence(startPos, bufferPosition).toString();
+    }
+
+    int beginToken() {
+        tokenBeginOffset= bufferPosition;
+        tokenBeginColumn= column;
+        tokenBeginLine= line;
+        return readChar();
+    }
+
+    int getBeginColumn() {
+        return tokenBeginColumn;
+    }
+
+    int getBeginLine() {
+        return tokenBeginLine;
+    }
+
+    int getEndColumn() {
+        if (column== 1) {
+            if (line== tokenBeginLine) {
+                return 1;
+            }
+            return getLineLength(line-1);
+        }
+        return column-1;
+    }
+
+    int getEndLine() {
+        if (column== 1&&line> tokenBeginLine) return line-1;
+        return line;
+    }
+
+    void addToken(Token token) {
+        if (tokenCount> 0&&tokens[tokenCount-1]== token) {
+            return;
+        }
+        int begin= getOffset(token.getBeginLine(), token.getBeginColumn());
+        int end= Math.max(begin, Math.min(getOffset(token.getEndLine(), token.getEndColumn())+1, content.length()));
+        if (tokenCount== 0||begin>=tokenEndOffsets[tokenCount-1]&&begin> tokenBeginOffsets[tokenCount-1]||begin== end&&begin== tokenEndOffsets[tokenCount-1]) {
+            appendToken(token, begin, end);
+            return;
+        }
+        // The token is not after the last one, typically because the lexer
+        // was reset to an earlier position. Any (non-empty) tokens that start
+        // within it have been superseded by it.
+        int index= getTokenIndexFromBeginOffset(begin);
+        if (begin<end&&index<tokenCount&&tokenBeginOffsets[index]== begin&&tokenEndOffsets[index]== end) {
+            // Usually the same token lexed again, so it just takes the old one's place.
+            tokens[index]= token;
+            return;
+        }
+        int removeTo= index;
+        while (removeTo<tokenCount&&tokenBeginOffsets[removeTo]<end) {
+            if (tokenEndOffsets[removeTo]> tokenBeginOffsets[removeTo]) {
+                removeToken(removeTo);
+            }
+            else {
+                ++removeTo;
+            }
+        }
+        while (index<tokenCount&&tokenBeginOffsets[index]== begin&&tokenEndOffsets[index]<=end) {
+            ++index;
+        }
+        appendToken(token, begin, end);
+        if (index<tokenCount-1) {
+            // Move it into place
+            System.arraycopy(tokens, index, tokens, index+1, tokenCount-1-index);
+            System.arraycopy(tokenBeginOffsets, index, tokenBeginOffsets, index+1, tokenCount-1-index);
+            System.arraycopy(tokenEndOffsets, index, tokenEndOffsets, index+1, tokenCount-1-index);
+            tokens[index]= token;
+            tokenBeginOffsets[index]= begin;
+            tokenEndOffsets[index]= end;
+        }
+    }
+
+    private void appendToken(Token token, int begin, int end) {
+        if (tokenCount== tokens.length) {
+            int newLength= tokenCount+(tokenCount>>1);
+            tokens= Arrays.copyOf(tokens, newLength);
+            tokenBeginOffsets= Arrays.copyOf(tokenBeginOffsets, newLength);
+            tokenEndOffsets= Arrays.copyOf(tokenEndOffsets, newLength);
+        }
+        tokens[tokenCount]= token;
+        tokenBeginOffsets[tokenCount]= begin;
+        tokenEndOffsets[tokenCount]= end;
+        ++tokenCount;
+    }
+
+    private void removeToken(int index) {
+        --tokenCount;
+        System.arraycopy(tokens, index+1, tokens, index, tokenCount-index);
+        System.arraycopy(tokenBeginOffsets, index+1, tokenBeginOffsets, index, tokenCount-index);
+        System.arraycopy(tokenEndOffsets, index+1, tokenEndOffsets, index, tokenCount-index);
+        tokens[tokenCount]= null;
+    }
+
+    // The index of the first token that begins at or after the offset
+    private int getTokenIndexFromBeginOffset(int offset) {
+        int low= 0, high= tokenCount;
+        while (low<high) {
+            int mid= (low+high)>>>1;
+            if (tokenBeginOffsets[mid]<offset) {
+                low= mid+1;
+            }
+            else {
+                high= mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the number of tokens read so far (including unparsed ones)
+     */
+    public int getTokenCount() {
+        return tokenCount;
+    }
+
+    public Token getToken(int index) {
+        if (index<0||index>=tokenCount) {
+            throw new IndexOutOfBoundsException("Token index: "+index+", token count: "+tokenCount);
+        }
+        return tokens[index];
+    }
+
+    /**
+     * @return the token that the character at the given offset is part of,
+     * or null if there is no such token (yet)
+     */
+    public Token getTokenAt(int offset) {
+        int index= getTokenIndexFromBeginOffset(offset+1)-1;
+        if (index>=0&&tokenEndOffsets[index]> offset) {
+            return tokens[index];
+        }
+        return null;
+    }
+
+    /**
+     * @return the tokens that overlap the text between the two offsets,
+     * the end offset being exclusive
+     */
+    public List<Token> getTokensInRange(int beginOffset, int endOffset) {
+        // The end offsets are in order too, so find the first token that ends after beginOffset
+        int low= 0, high= tokenCount;
+        while (low<high) {
+            int mid= (low+high)>>>1;
+            if (tokenEndOffsets[mid]<=beginOffset) {
+                low= mid+1;
+            }
+            else {
+                high= mid;
+            }
+        }
+        List<Token> result= new ArrayList<> ();
+        for (int i= low; i<tokenCount&&tokenBeginOffsets[i]<endOffset; i++) {
+            result.add(tokens[i]);
+        }
+        return result;
+    }
+
+    // But there is no goto in Java!!!
+    void goTo(int line, int column) {
+        this.bufferPosition= getOffset(line, column);
+        this.line= line;
+        this.column= column;
+    }
+
+    void goTo(int offset) {
+        this.bufferPosition= offset;
+        setLineAndColumn(offset);
+    }
+
+    private void setLineAndColumn(int offset) {
+        int lineIndex= getLineIndex(offset);
+        this.line= startingLine+lineIndex;
+        this.column= offset-getLineIndexStart(lineIndex)+(lineIndex== 0?startingColumn:
+        1);
+    }
+
+    /**
+     * @return the line and the column (in that order) of the character at the given offset
+     */
+    public int[] getLineAndColumn(int offset) {
+        int lineIndex= getLineIndex(offset);
+        int column= offset-getLineIndexStart(lineIndex)+(lineIndex== 0?startingColumn:
+        1);
+        return new int[]{startingLine+lineIndex, column};
+    }
+
+    /**
+     * @return the line number of the character at the given offset
+     */
+    public int getLineFromOffset(int offset) {
+        return startingLine+getLineIndex(offset);
+    }
+
+    /**
+     * @return the column number of the character at the given offset
+     */
+    public int getColumnFromOffset(int offset) {
+        int lineIndex= getLineIndex(offset);
+        return offset-getLineIndexStart(lineIndex)+(lineIndex== 0?startingColumn:
+        1);
+    }
+
+    // END API methods
+    private int getLineLength(int lineNumber) {
+        int startOffset= getLineStartOffset(lineNumber);
+        int endOffset= getLineEndOffset(lineNumber);
+        return endOffset-startOffset;
+    }
+
+    private int getLineStartOffset(int lineNumber) {
+        int realLineNumber= lineNumber-startingLine;
+        return lineOffsets[realLineNumber];
+    }
+
+    private int getLineEndOffset(int lineNumber) {
+        int realLineNumber= lineNumber-startingLine;
+        int endOffset= (realLineNumber+1== lineOffsets.length)?content.length():
+        lineOffsets[realLineNumber+1];
+        return endOffset;
+    }
+
+    private void setStartPosition(int line, int column) {
+        this.startingLine= line;
+        this.startingColumn= column;
+        this.line= line;
+        this.column= column;
+    }
+
+    // The index in lineOffsets of the line that the offset is on, found by binary search.
+    // An offset just past a final newline is on an extra (empty) line.
+    private int getLineIndex(int offset) {
+        if (lineOffsets.length== 0) {
+            return 0;
+        }
+        if (offset>=content.length()&&content.charAt(content.length()-1)== '\n') {
+            return lineOffsets.length;
+        }
+        // Lookups tend to come in order, so try the line of the last one first.
+        int last= lastLineIndex;
+        if (last<lineOffsets.length&&lineOffsets[last]<=offset&&(last+1== lineOffsets.length||offset<lineOffsets[last+1])) {
+            return last;
+        }
+        int low= 0, high= lineOffsets.length-1;
+        while (low<high) {
+            int mid= (low+high+1)>>>1;
+            if (lineOffsets[mid]<=offset) {
+                low= mid;
+            }
+            else {
+                high= mid-1;
+            }
+        }
+        lastLineIndex= low;
+        return low;
+    }
+
+    private int getLineIndexStart(int lineIndex) {
+        return lineIndex<lineOffsets.length?lineOffsets[lineIndex]:
+        content.length();
+    }
+
+    public int getOffset(int line, int column) {
+        int columnAdjustment= (line== startingLine)?startingColumn:
+        1;
+        return getLineIndexStart(line-startingLine)+column-columnAdjustment;
+    }
+
+    // ------------- private utilities method
+    // Icky method to handle annoying stuff. Might make this public later if it is
+    // needed elsewhere
+    private static CharSequence mungeContent(CharSequence content, int tabsToSpaces, boolean preserveLines, boolean javaUnicodeEscape) {
+        if (tabsToSpaces<=0&&preserveLines&&!javaUnicodeEscape) return content;
+        StringBuilder buf= new StringBuilder();
+        int index= 0;
+        int col= 0;
+        // This is just to handle spaces to tabs. If you don't have that setting set, it
+        // is really unused.
+        while (index<content.length()) {
+            char ch= content.charAt(index++);
+            if (ch== '\\'&&javaUnicodeEscape&&index<content.length()) {
+                ch= content.charAt(index++);
+                if (ch!='u') {
+                    buf.append((char)'\\');
+                    buf.append(ch);
+                    if (ch== '\n') col= 0;
+                    else col+=2;
+                }
+                else {
+                    while (content.charAt(index)== 'u') {
+                        index++;
+                        // col++;
+                    }
+                    String hex= content.subSequence(index, index+=4).toString();
+                    buf.append((char) Integer.parseInt(hex, 16));
+                    // col +=6;
+                    ++col;
+                    // We're not going to be trying to track line/column information relative to the original content
+                    // with tabs or unicode escape, so we just increment 1, not 6
+                }
+            }
+            else if (ch== '\r'&&!preserveLines) {
+                buf.append((char)'\n');
+                if (index<content.length()) {
+                    ch= content.charAt(index++);
+                    if (ch!='\n') {
+                        buf.append(ch);
+                        ++col;
+                    }
+                    else col= 0;
+                }
+            }
+            else if (ch== '\t'&&tabsToSpaces> 0) {
+                int spacesToAdd= tabsToSpaces-col%tabsToSpaces;
+                for (int i= 0; i<spacesToAdd; i++) {
+                    buf.append((char)' ');
+                    col++;
+                }
+            }
+            else {
+                buf.append((char) ch);
+                if (ch== '\n') {
+                    col= 0;
+                }
+                else col++;
+            }
+        }
+        return buf.toString();
+    }
+
+    private static int[] createLineOffsetsTable(CharSequence content) {
+        if (content.length()== 0) {
+            return EMPTY_INT;
+        }
+        int lineCount= 0;
+        char ch;
+        int length= content.length();
+        for (int i= 0; i<length; i++) {
+            ch= content.charAt(i);
+            if (ch== '\n') {
+                lineCount++;
+            }
+        }
+        if (content.charAt(length-1)!='\n') {
+            lineCount++;
+        }
+        int[] lineOffsets= new int[lineCount];
+        lineOffsets[0]= 0;
+        int index= 1;
+        for (int i= 0; i<length; i++) {
+            ch= content.charAt(i);
+            if (ch== '\n') {
+                if (i+1== length) break;
+                lineOffsets[index++]= i+1;
+            }
+        }
+        return lineOffsets;
+    }
+
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+    }
+
+    // ------------- TODO: unused method for the moment....
+    private int getLineCount() {
+        return lineOffsets.length;
+    }
+
+    String getText(int beginLine, int beginColumn, int endLine, int endColumn) {
+        int startOffset= getOffset(beginLine, beginColumn);
+        int endOffset= getOffset(endLine, endColumn);
+        return getText(startOffset, endOffset);
+    }
+
+    private String getText(int startOffset, int endOffset) {
+        return content.subSequence(startOffset, endOffset+1).toString();
+    }
+
+    private String getLine(int lineNumber) {
+        int realLineNumber= lineNumber-startingLine;
+        int startOffset= lineOffsets[realLineNumber];
+        int endOffset= (realLineNumber+1== lineOffsets.length)?content.length():
+        lineOffsets[realLineNumber+1];
+        return getText(startOffset, endOffset);
+    }
+
+    /**
+     * Maps a file into memory rather than reading it into a String, so that
+     * files bigger than would comfortably fit on the heap can be lexed.
+     * If the charset is ISO-8859-1, or it is ASCII-compatible and the file is
+     * all ASCII, the mapped bytes are used directly as the characters. Otherwise
+     * the file is decoded into an off-heap buffer. (Note that if tabs are converted
+     * to spaces, line endings are normalized, or unicode escapes are processed,
+     * the content is still copied when the FileLineMap is created.)
+     */
+    public static CharSequence mapFile(Path path, Charset charset) throws IOException {
+        try(FileChannel channel= FileChannel.open(path, StandardOpenOption.READ)) {
+            long size= channel.size();
+            if (size> Integer.MAX_VALUE) {
+                throw new IOException("File is too big to be mapped: "+path);
+            }
+            ByteBuffer bytes= channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (charset.equals(StandardCharsets.ISO_8859_1)) {
+                return new ByteCharSequence(bytes, 0, (int) size);
+            }
+            if (charset.equals(StandardCharsets.UTF_8)||charset.equals(StandardCharsets.US_ASCII)) {
+                boolean ascii= true;
+                for (int i= 0; i<size&&ascii; i++) {
+                    ascii= bytes.get(i)>=0;
+                }
+                if (ascii) {
+                    return new ByteCharSequence(bytes, 0, (int) size);
+                }
+            }
+            CharsetDecoder decoder= charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+            long capacity= (long) Math.ceil(size*(double) decoder.maxCharsPerByte());
+            if (capacity> Integer.MAX_VALUE/2) {
+                throw new IOException("File is too big to be decoded in memory: "+path);
+            }
+            CharBuffer chars= ByteBuffer.allocateDirect((int) capacity*2).asCharBuffer();
+            decoder.decode(bytes, chars, true);
+            decoder.flush(chars);
+            chars.flip();
+            return chars;
+        }
+    }
+
+    // A read-only view of bytes as ISO-8859-1 characters
+    private static class ByteCharSequence implements CharSequence {
+        private final ByteBuffer bytes;
+        private final int start, length;
+        ByteCharSequence(ByteBuffer bytes, int start, int length) {
+            this.bytes= bytes;
+            this.start= start;
+            this.length= length;
+        }
+
+        public int length() {
+            return length;
+        }
+
+        public char charAt(int index) {
+            if (index<0||index>=length) {
+                throw new IndexOutOfBoundsException("Index: "+index+", length: "+length);
+            }
+            return(char)(bytes.get(start+index)&0xff);
+        }
+
+        public CharSequence subSequence(int from, int to) {
+            if (from<0||to> length||from> to) {
+                throw new IndexOutOfBoundsException("From: "+from+", to: "+to+", length: "+length);
+            }
+            return new ByteCharSequence(bytes, start+from, to-from);
+        }
+
+        public String toString() {
+            char[] chars= new char[length];
+            for (int i= 0; i<length; i++) {
+                chars[i]= (char)(bytes.get(start+i)&0xff);
+            }
+            return new String(chars);
+        }
+
+    }
+    static private int BUF_SIZE= 0x10000;
+    // Annoying kludge really...
+    static private String readToEnd(Reader reader) {
+        try {
+            return readFully(reader);
+        }
+        catch(IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+    }
+
+    static String readFully(Reader reader) throws IOException {
+        char[] block= new char[BUF_SIZE];
+        int charsRead= reader.read(block);
+        if (charsRead<0) {
+            throw new IOException("No input");
+        }
+        StringBuilder buf= new StringBuilder();
+        // A short read does not mean we are at the end of the input,
+        // so we keep going until the reader tells us that there is nothing left.
+        do {
+            buf.append(block, 0, charsRead);
+            charsRead= reader.read(block);
+        }
+        while (charsRead>=0);
+        reader.close();
+        return buf.toString();
+    }
+
+}
@@ -0,0 +1,36 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for FieldDeclaration AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+import java.util.*;
+@SuppressWarnings("unused")
+public class FieldDeclaration extends BaseNode {
+    public List<Identifier> getVariableIds() {
+        List<Identifier> result= new ArrayList<> ();
+        boolean atBeginning= true;
+        for (Node child : children()) {
+            if (atBeginning) {
+                atBeginning= false;
+                continue;
+            }
+            if (!(child instanceof Delimiter)) {
+                if (child instanceof Identifier) {
+                    result.add((Identifier) child);
+                }
+                else {
+                    if (child.getChild(0) instanceof Identifier) {
+                        result.add((Identifier) child.getChild(0));
+                    }
+                    else {
+                        result.add((Identifier) child.getChild(0).getChild(0));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+}
@@ -2,12 +2,15 @@ import java.io.*;
 import com.javacc.json.*;
 
 public class JSONTest {
+    // The parsers are reused from one file to the next
+    static private JSONParserPool pool = new JSONParserPool();
+
     static public void parseFile(File file, boolean dumpTree) throws IOException, ParseException {
         FileReader fr = new FileReader(file);
-        JSONParser parser = new JSONParser(fr);
-        parser.setInputSource(file.toString());
-        parser.Value();
-        Node root=parser.rootNode();
+        Node root = pool.parse(file.toString(), fr, parser -> {
+            parser.Value();
+            return parser.rootNode();
+        });
         if (dumpTree) {
             Nodes.dump(root, "");
         }
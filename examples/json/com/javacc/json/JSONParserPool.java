@@ -0,0 +1,302 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONParserPool.java */
+package com.javacc.json;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.*;
+/**
+ * Keeps JSONParser instances around to be reused, for a server (say)
+ * that parses a lot of small inputs, one or more for each request.
+ * A parser is borrowed, reset for the new input, and given back when
+ * it is done with. Neither of those ever blocks: the idle parsers are
+ * kept on a lock-free stack.
+ * <pre>
+ *     JSONParser parser = pool.borrow(inputSource, content);
+ *     try {
+ *         ...
+ *     } finally {
+ *         pool.release(parser);
+ *     }
+ * </pre>
+ * or, for short, {@code pool.parse(inputSource, content, parser -> parser.SomeProduction())}
+ */
+public class JSONParserPool {
+    /**
+     * What to parse the input with, and what to keep of it,
+     * for example {@code parser -> parser.SomeProduction()}
+     */
+    public interface Production<T>  {
+        T parse(JSONParser parser) throws ParseException;
+    }
+    // An entry in the stack of idle parsers. A new one is created each time a
+    // parser is given back. If entries were recycled, a compareAndSet on the top
+    // of the stack could succeed when it should not (the so-called ABA problem).
+    private static final class IdleParser {
+        final JSONParser parser;
+        final long releaseTime;
+        IdleParser next;
+        IdleParser(JSONParser parser, long releaseTime) {
+            this.parser= parser;
+            this.releaseTime= releaseTime;
+        }
+
+    }
+    private final AtomicReference<IdleParser> top= new AtomicReference<> ();
+    private final AtomicInteger idleCount= new AtomicInteger();
+    private final AtomicLong lastEvictionTime= new AtomicLong(System.nanoTime());
+    private final int maxIdle;
+    private final long maxIdleNanos;
+    private final LongAdder borrowCount= new LongAdder();
+    private final LongAdder missCount= new LongAdder();
+    private final LongAdder evictionCount= new LongAdder();
+    private final LongAdder discardCount= new LongAdder();
+    private final LongAdder totalBorrowNanos= new LongAdder();
+    private final LongAccumulator maxBorrowNanos= new LongAccumulator(Math::max, 0L);
+    /**
+     * A pool that keeps up to twice as many idle parsers as there are
+     * processors, for up to a minute each.
+     */
+    public JSONParserPool() {
+        this(2*Runtime.getRuntime().availableProcessors(), 60, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @param maxIdle the most parsers to keep for reuse. Any more that are
+     * given back are left to the garbage collector.
+     * @param maxIdleTime how long a parser can be left unused in the pool
+     * before it is dropped
+     */
+    public JSONParserPool(int maxIdle, long maxIdleTime, TimeUnit unit) {
+        if (maxIdle<0) {
+            throw new IllegalArgumentException("maxIdle cannot be negative: "+maxIdle);
+        }
+        if (maxIdleTime<=0) {
+            throw new IllegalArgumentException("maxIdleTime must be positive: "+maxIdleTime);
+        }
+        this.maxIdle= maxIdle;
+        this.maxIdleNanos= unit.toNanos(maxIdleTime);
+    }
+
+    /**
+     * @return a parser that is set up to parse the content, which should
+     * be handed back with {@link #release(JSONParser)}
+     */
+    public JSONParser borrow(String inputSource, CharSequence content) {
+        long start= System.nanoTime();
+        JSONParser parser= pop();
+        if (parser== null) {
+            missCount.increment();
+            parser= new JSONParser(inputSource, content);
+        }
+        else {
+            parser.reset(inputSource, content);
+        }
+        recordBorrow(start);
+        return parser;
+    }
+
+    public JSONParser borrow(CharSequence content) {
+        return borrow("input", content);
+    }
+
+    /**
+     * @return a parser that is set up to parse what the reader reads, which
+     * should be handed back with {@link #release(JSONParser)}
+     */
+    public JSONParser borrow(String inputSource, Reader reader) {
+        long start= System.nanoTime();
+        JSONParser parser= pop();
+        if (parser== null) {
+            missCount.increment();
+            parser= new JSONParser(reader);
+            parser.setInputSource(inputSource);
+        }
+        else {
+            parser.reset(inputSource, reader);
+        }
+        recordBorrow(start);
+        return parser;
+    }
+
+    public JSONParser borrow(Reader reader) {
+        return borrow("input", reader);
+    }
+
+    /**
+     * Gives back a parser that was borrowed, which must not be used after that.
+     * The trees it built are not affected.
+     */
+    public void release(JSONParser parser) {
+        // So that an idle parser does not hang on to the last input and what it was parsed into
+        parser.reset("");
+        long now= System.nanoTime();
+        if (idleCount.incrementAndGet()> maxIdle) {
+            idleCount.decrementAndGet();
+            discardCount.increment();
+        }
+        else {
+            push(new IdleParser(parser, now));
+        }
+        long lastEviction= lastEvictionTime.get();
+        if (now-lastEviction> maxIdleNanos/2&&lastEvictionTime.compareAndSet(lastEviction, now)) {
+            evictIdle(now);
+        }
+    }
+
+    /**
+     * Parses the content with a parser borrowed from the pool, which is given
+     * back afterwards, whether or not the parse succeeded.
+     */
+    public<T> T parse(String inputSource, CharSequence content, Production<T> production) throws ParseException {
+        JSONParser parser= borrow(inputSource, content);
+        try {
+            return production.parse(parser);
+        }
+        finally {
+            release(parser);
+        }
+    }
+
+    /**
+     * Parses what the reader reads with a parser borrowed from the pool, which
+     * is given back afterwards, whether or not the parse succeeded.
+     */
+    public<T> T parse(String inputSource, Reader reader, Production<T> production) throws ParseException {
+        JSONParser parser= borrow(inputSource, reader);
+        try {
+            return production.parse(parser);
+        }
+        finally {
+            release(parser);
+        }
+    }
+
+    /**
+     * Drops the parsers that have been idle for longer than the maximum idle time.
+     * That is done anyway every so often when a parser is given back, so this only
+     * needs to be called if the pool may go unused for a while.
+     */
+    public void evictIdle() {
+        long now= System.nanoTime();
+        lastEvictionTime.set(now);
+        evictIdle(now);
+    }
+
+    private void evictIdle(long now) {
+        // The whole stack is taken off and the parsers that are still wanted are
+        // put back. Those are the ones at the top, since it is last in, first out.
+        IdleParser idle= top.getAndSet(null);
+        IdleParser keptTop= null, keptBottom= null;
+        while (idle!=null&&now-idle.releaseTime<=maxIdleNanos) {
+            IdleParser kept= new IdleParser(idle.parser, idle.releaseTime);
+            if (keptTop== null) {
+                keptTop= kept;
+            }
+            else {
+                keptBottom.next= kept;
+            }
+            keptBottom= kept;
+            idle= idle.next;
+        }
+        int evicted= 0;
+        for (; idle!=null; idle= idle.next) {
+            evicted++;
+        }
+        if (evicted> 0) {
+            idleCount.addAndGet(-evicted);
+            evictionCount.add(evicted);
+        }
+        if (keptTop!=null) {
+            IdleParser current;
+            do {
+                current= top.get();
+                keptBottom.next= current;
+            }
+            while (!top.compareAndSet(current, keptTop));
+        }
+    }
+
+    private void push(IdleParser idle) {
+        IdleParser current;
+        do {
+            current= top.get();
+            idle.next= current;
+        }
+        while (!top.compareAndSet(current, idle));
+    }
+
+    private JSONParser pop() {
+        IdleParser current;
+        do {
+            current= top.get();
+            if (current== null) {
+                return null;
+            }
+        }
+        while (!top.compareAndSet(current, current.next));
+        idleCount.decrementAndGet();
+        return current.parser;
+    }
+
+    private void recordBorrow(long start) {
+        long nanos= System.nanoTime()-start;
+        borrowCount.increment();
+        totalBorrowNanos.add(nanos);
+        maxBorrowNanos.accumulate(nanos);
+    }
+
+    /**
+     * @return how many times a parser has been borrowed
+     */
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    /**
+     * @return how many times a parser had to be created because there was none idle
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return how many parsers were dropped because they were idle for too long
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return how many parsers were dropped when they were given back
+     * because the pool already had as many idle parsers as it keeps
+     */
+    public long getDiscardCount() {
+        return discardCount.sum();
+    }
+
+    /**
+     * @return how many parsers are in the pool waiting to be borrowed
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * @return the average time that borrowing took, in nanoseconds,
+     * which includes resetting the parser (or creating it) for the input
+     */
+    public double getAverageBorrowNanos() {
+        long count= borrowCount.sum();
+        return count== 0?0:
+        (double) totalBorrowNanos.sum()/count;
+    }
+
+    /**
+     * @return the longest time that borrowing took, in nanoseconds
+     */
+    public long getMaxBorrowNanos() {
+        return maxBorrowNanos.get();
+    }
+
+}
@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for WHITESPACE Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package com.javacc.json.ast;
+
+import com.javacc.json.*;
+import com.javacc.json.JSONConstants.TokenType;
+@SuppressWarnings("unused")
+public class WHITESPACE extends Token {
+    public WHITESPACE(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public WHITESPACE(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
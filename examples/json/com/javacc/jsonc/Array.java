@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Array AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.jsonc;
+
+@SuppressWarnings("unused")
+public class Array extends BaseNode {
+}
@@ -0,0 +1,745 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONCLexer.java */
+package com.javacc.jsonc;
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+@SuppressWarnings("unused")
+public class JSONCLexer implements JSONCConstants {
+    private static final Logger LOGGER= Logger.getLogger("JSONCParser");
+    // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+        input_stream.setInputSource(inputSource);
+    }
+
+    public JSONCLexer(String inputSource, CharSequence chars) {
+        this(inputSource, chars, LexicalState.JSON, 1, 1);
+    }
+
+    public JSONCLexer(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+      * Lexes the file by mapping it into memory, see {@link FileLineMap#mapFile(java.nio.file.Path, java.nio.charset.Charset)}
+      */
+    public JSONCLexer(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public JSONCLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.JSON, 1, 1);
+    }
+
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated public JSONCLexer(Reader reader) {
+        this("input", reader);
+    }
+
+    public JSONCLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+    // Tokens from the previous input refer to its FileLineMap, so that one is not recycled.
+    public void reset(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, CharSequence chars) {
+        reset(inputSource, chars, LexicalState.JSON, 1, 1);
+    }
+
+    public void reset(CharSequence chars) {
+        reset("input", chars);
+    }
+
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.JSON, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    FileLineMap input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    LexicalState lexicalState= LexicalState.JSON;
+    void addToken(Token token) {
+        input_stream.addToken(token);
+    }
+
+    int tabSize= 8;
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+            this.lexicalState= lexState;
+            return true;
+        }
+        return false;
+    }
+
+    private InvalidToken invalidToken;
+    private Token pendingToken;
+    public Token getNextToken() {
+        if (pendingToken!=null) {
+            Token result= pendingToken;
+            pendingToken= null;
+            return result;
+        }
+        Token tok= null;
+        do {
+            tok= nextToken();
+        }
+        while (tok instanceof InvalidToken);
+        if (invalidToken!=null) {
+            addToken(invalidToken);
+            invalidToken.setNext(tok);
+            Token it= invalidToken;
+            pendingToken= tok;
+            this.invalidToken= null;
+            return it;
+        }
+        addToken(tok);
+        return tok;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t) {
+        input_stream.goTo(t.getEndLine(), t.getEndColumn());
+        input_stream.forward(1);
+    }
+
+    FileLineMap getFileLineMap() {
+        return input_stream;
+    }
+
+    private boolean[] jjbeenHere= new boolean[1];
+    private int jjnewStateCnt;
+    private int jjround;
+    private int jjmatchedPos;
+    //FIXME,should be an enum.
+    private int jjmatchedKind;
+    private String inputSource= "input";
+    // BitSet for TOKEN
+    static private BitSet tokenSet= BitSet.valueOf(new long[]{2170865L, });
+    // BitSet for SPECIAL
+    static private BitSet specialSet= BitSet.valueOf(new long[]{6L, });
+    private final int[] jjrounds= new int[33];
+    private final int[] jjstateSet= new int[66];
+    private final StringBuilder image= new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+        int i;
+        jjround= 0x80000001;
+        for (i= 33; i--> 0; ) jjrounds[i]= 0x80000000;
+    }
+
+    // Clears what is left over from the previous input, when the lexer is reset.
+    // The jjrounds array does not need clearing, since jjround only ever moves on.
+    private void resetState(String inputSource, LexicalState lexState) {
+        this.inputSource= inputSource;
+        invalidToken= null;
+        pendingToken= null;
+        Arrays.fill(jjbeenHere, false);
+        jjmatchedKind= jjmatchedPos= jjnewStateCnt= 0;
+        curChar= 0;
+        image.setLength(0);
+        matchedCharsLength= 0;
+        switchTo(lexState);
+    }
+
+    private Token nextToken() {
+        Token specialToken= null;
+        Token matchedToken;
+        int curPos= 0;
+        EOFLoop:
+        while (true) {
+            int retval1= input_stream.beginToken();
+            curChar= (char)(retval1);
+            if (retval1== -1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind= 0;
+                Token eof= jjFillToken();
+                tokenLexicalActions();
+                eof.setSpecialToken(specialToken);
+                addToken(eof);
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength= 0;
+            jjmatchedKind= 0x7FFFFFFF;
+            jjmatchedPos= 0;
+            if (trace_enabled) LOGGER.info("Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+            curPos= jjMoveStringLiteralDfa0_JSON();
+            if (jjmatchedKind!=0x7FFFFFFF) {
+                if (jjmatchedPos+1<curPos) {
+                    if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                    input_stream.backup(curPos-jjmatchedPos-1);
+                }
+                if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                if (tokenSet.get(jjmatchedKind)) {
+                    matchedToken= jjFillToken();
+                    matchedToken.setSpecialToken(specialToken);
+                    tokenLexicalActions();
+                    jjmatchedKind= matchedToken.getType().ordinal();
+                    addToken(matchedToken);
+                    return matchedToken;
+                }
+                else {
+                    if (specialSet.get(jjmatchedKind)) {
+                        matchedToken= jjFillToken();
+                        matchedToken.setUnparsed(true);
+                        if (specialToken== null) {
+                            specialToken= matchedToken;
+                        }
+                        else {
+                            matchedToken.setSpecialToken(specialToken);
+                            specialToken.setNext(matchedToken);
+                            specialToken= matchedToken;
+                        }
+                        addToken(matchedToken);
+                    }
+                    continue EOFLoop;
+                }
+            }
+            int error_line= input_stream.getEndLine();
+            int error_column= input_stream.getEndColumn();
+            String error_after= null;
+            error_after= curPos<=1?"":
+            input_stream.getImage();
+            if (invalidToken== null) {
+                invalidToken= new InvalidToken(""+curChar, input_stream);
+                invalidToken.setBeginLine(error_line);
+                invalidToken.setBeginColumn(error_column);
+            }
+            else {
+                invalidToken.setImage(invalidToken.getImage()+curChar);
+            }
+            invalidToken.setEndLine(error_line);
+            invalidToken.setEndColumn(error_column);
+            return invalidToken;
+        }
+    }
+
+    private void tokenLexicalActions() {
+        switch(jjmatchedKind) {
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage= input_stream.getImage();
+        beginLine= input_stream.getBeginLine();
+        beginColumn= input_stream.getBeginColumn();
+        endLine= input_stream.getEndLine();
+        endColumn= input_stream.getEndColumn();
+        t= Token.newToken(TokenType.values()[jjmatchedKind], curTokenImage, this);
+        t.setBeginLine(beginLine);
+        t.setEndLine(endLine);
+        t.setBeginColumn(beginColumn);
+        t.setEndColumn(endColumn);
+        //        t.setInputSource(this.inputSource);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state]!=jjround) {
+            jjstateSet[jjnewStateCnt++]= state;
+            jjrounds[state]= jjround;
+        }
+    }
+
+    private void jjAddStates(int start, int end) {
+        do {
+            jjstateSet[jjnewStateCnt++]= jjnextStates[start];
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start+1]);
+    }
+
+    private int jjStopAtPos(int pos, int kind) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    private int jjStartNfa_JSON(int pos, long active0) {
+        return jjMoveNfa_JSON(jjStopStringLiteralDfa_JSON(pos, active0), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_JSON(int pos, long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_JSON(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_JSON(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_JSON() {
+        switch(curChar) {
+            case 44:
+            return jjStopAtPos(0, 5);
+            case 58:
+            return jjStopAtPos(0, 4);
+            case 91:
+            return jjStopAtPos(0, 6);
+            case 93:
+            return jjStopAtPos(0, 7);
+            case 102:
+            return jjMoveStringLiteralDfa1_JSON(0x800L);
+            case 110:
+            return jjMoveStringLiteralDfa1_JSON(0x1000L);
+            case 116:
+            return jjMoveStringLiteralDfa1_JSON(0x400L);
+            case 123:
+            return jjStopAtPos(0, 8);
+            case 125:
+            return jjStopAtPos(0, 9);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_JSON(1, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_JSON(long active0) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(0, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa2_JSON(active0, 0x800L);
+            case 114:
+            return jjMoveStringLiteralDfa2_JSON(active0, 0x400L);
+            case 117:
+            return jjMoveStringLiteralDfa2_JSON(active0, 0x1000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(0, active0);
+    }
+
+    private int jjMoveStringLiteralDfa2_JSON(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JSON(0, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(1, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 108:
+            return jjMoveStringLiteralDfa3_JSON(active0, 0x1800L);
+            case 117:
+            return jjMoveStringLiteralDfa3_JSON(active0, 0x400L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(1, active0);
+    }
+
+    private int jjMoveStringLiteralDfa3_JSON(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JSON(1, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(2, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 3;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active0&0x400L)!=0L) return jjStopAtPos(3, 10);
+            break;
+            case 108:
+            if ((active0&0x1000L)!=0L) return jjStopAtPos(3, 12);
+            break;
+            case 115:
+            return jjMoveStringLiteralDfa4_JSON(active0, 0x800L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(2, active0);
+    }
+
+    private int jjMoveStringLiteralDfa4_JSON(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JSON(2, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(3, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 4;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active0&0x800L)!=0L) return jjStopAtPos(4, 11);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(3, active0);
+    }
+
+    private int jjMoveNfa_JSON(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 33;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        if ((0x3fe000000000000L&l)!=0L) {
+                            if (kind> 21) kind= 21;
+                            jjAddStates(0, 2);
+                        }
+                        else if ((0x100002600L&l)!=0L) {
+                            if (kind> 3) kind= 3;
+                            jjCheckNAdd(0);
+                        }
+                        else if (curChar== 47) jjAddStates(3, 4);
+                        else if (curChar== 48) {
+                            if (kind> 21) kind= 21;
+                            jjAddStates(5, 6);
+                        }
+                        else if (curChar== 45) jjAddStates(7, 8);
+                        else if (curChar== 34) jjCheckNAddStates(9, 12);
+                        break;
+                        case 0:
+                        if ((0x100002600L&l)== 0L) break;
+                        if (kind> 3) kind= 3;
+                        jjCheckNAdd(0);
+                        break;
+                        case 3:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 4;
+                        break;
+                        case 4:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 5;
+                        break;
+                        case 5:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 6;
+                        break;
+                        case 6:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddStates(9, 12);
+                        break;
+                        case 9:
+                        if ((0x800400000000L&l)!=0L) jjCheckNAddStates(9, 12);
+                        break;
+                        case 10:
+                        if ((0xfffffffb00000000L&l)!=0L) jjCheckNAddStates(9, 12);
+                        break;
+                        case 11:
+                        if (curChar== 34&&kind> 16) kind= 16;
+                        break;
+                        case 12:
+                        if (curChar== 45) jjCheckNAddTwoStates(13, 20);
+                        break;
+                        case 13:
+                        if ((0x3fe000000000000L&l)== 0L) break;
+                        if (kind> 21) kind= 21;
+                        jjCheckNAddStates(0, 2);
+                        break;
+                        case 14:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 21) kind= 21;
+                        jjCheckNAddStates(0, 2);
+                        break;
+                        case 15:
+                        if (curChar== 46) jjstateSet[jjnewStateCnt++]= 16;
+                        break;
+                        case 16:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 21) kind= 21;
+                        jjCheckNAddTwoStates(16, 17);
+                        break;
+                        case 18:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 19;
+                        break;
+                        case 19:
+                        if ((0x3fe000000000000L&l)== 0L) break;
+                        if (kind> 21) kind= 21;
+                        jjCheckNAdd(19);
+                        break;
+                        case 20:
+                        if (curChar!=48) break;
+                        if (kind> 21) kind= 21;
+                        jjCheckNAddTwoStates(15, 17);
+                        break;
+                        case 21:
+                        if (curChar== 47) jjCheckNAddTwoStates(22, 27);
+                        break;
+                        case 22:
+                        if (curChar== 47) jjCheckNAddStates(13, 15);
+                        break;
+                        case 23:
+                        if ((0xffffffffffffdbffL&l)!=0L) jjCheckNAddStates(13, 15);
+                        break;
+                        case 24:
+                        if (curChar== 10&&kind> 1) kind= 1;
+                        break;
+                        case 25:
+                        if (curChar== 13) jjstateSet[jjnewStateCnt++]= 24;
+                        break;
+                        case 26:
+                        if ((0x2400L&l)!=0L&&kind> 1) kind= 1;
+                        break;
+                        case 27:
+                        if (curChar== 42) jjCheckNAddTwoStates(28, 29);
+                        break;
+                        case 28:
+                        if ((0xfffffbffffffffffL&l)!=0L) jjCheckNAddTwoStates(28, 29);
+                        break;
+                        case 29:
+                        if (curChar== 42) jjCheckNAddStates(16, 18);
+                        break;
+                        case 30:
+                        if ((0xffff7bffffffffffL&l)!=0L) jjCheckNAddTwoStates(31, 29);
+                        break;
+                        case 31:
+                        if ((0xfffffbffffffffffL&l)!=0L) jjCheckNAddTwoStates(31, 29);
+                        break;
+                        case 32:
+                        if (curChar== 47&&kind> 2) kind= 2;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        if (curChar== 117) jjstateSet[jjnewStateCnt++]= 3;
+                        break;
+                        case 3:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 4;
+                        break;
+                        case 4:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 5;
+                        break;
+                        case 5:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 6;
+                        break;
+                        case 6:
+                        if ((0x7e0000007eL&l)!=0L) jjCheckNAddStates(9, 12);
+                        break;
+                        case 7:
+                        if (curChar== 92) jjstateSet[jjnewStateCnt++]= 2;
+                        break;
+                        case 8:
+                        if (curChar== 92) jjstateSet[jjnewStateCnt++]= 9;
+                        break;
+                        case 9:
+                        if ((0x14404410000000L&l)!=0L) jjCheckNAddStates(9, 12);
+                        break;
+                        case 10:
+                        if ((0xffffffffefffffffL&l)!=0L) jjCheckNAddStates(9, 12);
+                        break;
+                        case 17:
+                        if ((0x2000000020L&l)!=0L) jjstateSet[jjnewStateCnt++]= 18;
+                        break;
+                        case 23:
+                        jjCheckNAddStates(13, 15);
+                        break;
+                        case 28:
+                        jjCheckNAddTwoStates(28, 29);
+                        break;
+                        case 30:
+                        jjCheckNAddTwoStates(31, 29);
+                        break;
+                        case 31:
+                        jjCheckNAddTwoStates(31, 29);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_JSON[jjCharClassOffsets_JSON[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 10:
+                        if ((0x2L&l)!=0L) jjCheckNAddStates(9, 12);
+                        break;
+                        case 23:
+                        if ((0x2L&l)!=0L) jjCheckNAddStates(13, 15);
+                        break;
+                        case 28:
+                        if ((0x2L&l)!=0L) jjCheckNAddTwoStates(28, 29);
+                        break;
+                        case 30:
+                        case 31:
+                        if ((0x2L&l)!=0L) jjCheckNAddTwoStates(31, 29);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 33-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_JSON= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_JSON= jjUnpack(512, "@\002\001@\006\002");
+    private static int[] jjUnpack(int size, String...packed) {
+        int[] result= new int[size];
+        int index= 0;
+        for (String s : packed) {
+            int i= 0;
+            while (i<s.length()) {
+                int count= 0, value= 0, shift= 0, c;
+                do {
+                    c= s.charAt(i++);
+                    count|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                shift= 0;
+                do {
+                    c= s.charAt(i++);
+                    value|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                Arrays.fill(result, index, index+count, value-1);
+                index+=count;
+            }
+        }
+        return result;
+    }
+
+    private static final int[] jjnextStates= {14, 15, 17, 22, 27, 15, 17, 13, 20, 7, 8, 10, 11, 23, 25, 26, 30, 29, 32};
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Literal Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package com.javacc.jsonc;
+
+@SuppressWarnings("unused")
+public class Literal extends Token {
+    public Literal(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public Literal(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for StringLiteral Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package com.javacc.jsonc;
+
+@SuppressWarnings("unused")
+public class StringLiteral extends Literal {
+    public StringLiteral(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public StringLiteral(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,166 @@
+/* Generated by: JavaCC 21 Parser Generator. Token.java */
+import java.util.*;
+public class Token implements IDLConstants {
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+    }
+
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    private String inputSource= "";
+    private TokenType type;
+    public TokenType getType() {
+        return type;
+    }
+
+    void setType(TokenType type) {
+        this.type= type;
+    }
+
+    /**
+     * beginLine and beginColumn describe the position of the first character
+     * of this token; endLine and endColumn describe the position of the
+     * last character of this token.
+     */
+    private int beginLine, beginColumn, endLine, endColumn;
+    /**
+     * The string image of the token.
+     */
+    private String image;
+    public String getImage() {
+        return image;
+    }
+
+    public void setImage(String image) {
+        this.image= image;
+    }
+
+    private LexicalState lexicalState;
+    void setLexicalState(LexicalState state) {
+        this.lexicalState= state;
+    }
+
+    LexicalState getLexicalState() {
+        return lexicalState;
+    }
+
+    private Token next;
+    Token getNext() {
+        return next;
+    }
+
+    void setNext(Token next) {
+        this.next= next;
+    }
+
+    /**
+     * This field is used to access special tokens that occur prior to this
+     * token, but after the immediately preceding regular (non-special) token.
+     * If there are no such special tokens, this field is set to null.
+     * When there are more than one such special token, this field refers
+     * to the last of these special tokens, which in turn refers to the next
+     * previous special token through its specialToken field, and so on
+     * until the first special token (whose specialToken field is null).
+     * The next fields of special tokens refer to other special tokens that
+     * immediately follow it (without an intervening regular token).  If there
+     * is no such token, this field is null.
+     */
+    private Token specialToken;
+    public Token getSpecialToken() {
+        return specialToken;
+    }
+
+    public void setSpecialToken(Token specialToken) {
+        this.specialToken= specialToken;
+    }
+
+    private boolean unparsed;
+    //Should find a way to get rid of this.
+    Token() {
+    }
+
+    public Token(int kind) {
+        this(kind, null);
+        this.type= TokenType.values()[kind];
+    }
+
+    /**
+     * Constructs a new token for the specified Image and Kind.
+     */
+    public Token(int kind, String image) {
+        this.type= TokenType.values()[kind];
+        this.image= image;
+        ;
+    }
+
+    public Token(TokenType type, String image, String inputSource) {
+        this.type= type;
+        this.image= image;
+        this.inputSource= inputSource;
+    }
+
+    public boolean isUnparsed() {
+        return unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void clearChildren() {
+    }
+
+    public String getNormalizedText() {
+        if (getType()== TokenType.EOF) {
+            return"EOF";
+        }
+        return getImage();
+    }
+
+    public String toString() {
+        return getNormalizedText();
+    }
+
+    public static Token newToken(TokenType type, String image, String inputSource) {
+        return new Token(type, image, inputSource);
+    }
+
+    public void setBeginColumn(int beginColumn) {
+        this.beginColumn= beginColumn;
+    }
+
+    public void setEndColumn(int endColumn) {
+        this.endColumn= endColumn;
+    }
+
+    public void setBeginLine(int beginLine) {
+        this.beginLine= beginLine;
+    }
+
+    public void setEndLine(int endLine) {
+        this.endLine= endLine;
+    }
+
+    public int getBeginLine() {
+        return beginLine;
+    }
+
+    public int getBeginColumn() {
+        return beginColumn;
+    }
+
+    public int getEndLine() {
+        return endLine;
+    }
+
+    public int getEndColumn() {
+        return endColumn;
+    }
+
+    public String getLocation() {
+        return"line "+getBeginLine()+", column "+getBeginColumn()+" of "+getInputSource();
+    }
+
+}
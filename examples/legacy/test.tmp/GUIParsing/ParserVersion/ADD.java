@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ADD Token subclass
+  * by the ASTToken.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class ADD extends Token {
+    public ADD(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CalcInputConstants.java */
+/**
+ * Token literal values and constants.
+ */
+public interface CalcInputConstants {
+    public enum TokenType {
+        EOF, EQ, ADD, SUB, MUL, DIV, DIGIT, DOT, INVALID
+    }
+    String[] tokenImage= {"<EOF>", "<ADD>", "<SUB>", "<MUL>", "<DIV>", "\"=\"", "<DIGIT>", "<DOT>", };
+}
@@ -0,0 +1,758 @@
+/* Generated by: JavaCC 21 Parser Generator. CalcInputParser.java */
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.logging.*;
+import java.io.*;
+@SuppressWarnings("unused")
+public class CalcInputParser implements CalcInputConstants {
+    private static final java.util.logging.Logger LOGGER= Logger.getLogger(CalcInputParser.class.getName());
+    public static void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    // The last token successfully "consumed"     
+    Token current_token;
+    private TokenType nextTokenType;
+    // The number of tokens after current_token that the current scanahead has looked at
+    private int currentLookaheadIndex;
+    private int remainingLookahead;
+    private TokenType upToTokenType;
+    private EnumSet<TokenType> upToFirstSet;
+    private Token lastParsedToken;
+    //private Token nextToken; //REVISIT
+    //private EnumSet<Token> currentFollowSet;
+    private boolean cancelled;
+    public void cancel() {
+        cancelled= true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** User defined Lexer. */
+    public Lexer token_source;
+    String inputSource= "input";
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    /** Constructor with user supplied Lexer. */
+    public CalcInputParser(Lexer lexer) {
+        token_source= lexer;
+        current_token= new Token();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.getNext()!=null) current_token= current_token.getNext();
+        else {
+            Token nextToken= token_source.getNextToken();
+            current_token.setNext(nextToken);
+            current_token= nextToken;
+        }
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        return index<=0?current_token:
+        lookaheadToken(index);
+    }
+
+    // A circular buffer of the tokens following current_token, so that
+    // lookahead does not have to keep following the tokens' next links.
+    // The links are still there (and are the real thing), so if current_token
+    // has moved on since the buffer was filled, it is brought into line.
+    private Token[] lookaheadTokens= new Token[16];
+    private int lookaheadStart, lookaheadCount;
+    private Token lookaheadAnchor;
+    // The index-th token after current_token, index being at least 1
+    private Token lookaheadToken(int index) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        int mask= lookaheadTokens.length-1;
+        while (lookaheadCount<index) {
+            Token last= lookaheadCount== 0?current_token:
+            lookaheadTokens[(lookaheadStart+lookaheadCount-1)&mask];
+            Token nextToken= last.getNext();
+            if (nextToken== null) {
+                nextToken= token_source.getNextToken();
+                last.setNext(nextToken);
+            }
+            if (lookaheadCount== lookaheadTokens.length) {
+                growLookaheadTokens();
+                mask= lookaheadTokens.length-1;
+            }
+            lookaheadTokens[(lookaheadStart+lookaheadCount++)&mask]= nextToken;
+        }
+        return lookaheadTokens[(lookaheadStart+index-1)&mask];
+    }
+
+    private void syncLookaheadTokens() {
+        int mask= lookaheadTokens.length-1;
+        // Typically, current_token has moved forward to one of the buffered tokens.
+        while (lookaheadCount> 0) {
+            Token t= lookaheadTokens[lookaheadStart];
+            lookaheadTokens[lookaheadStart]= null;
+            lookaheadStart= (lookaheadStart+1)&mask;
+            --lookaheadCount;
+            if (t== current_token) break;
+        }
+        lookaheadAnchor= current_token;
+    }
+
+    private void growLookaheadTokens() {
+        Token[] newTokens= new Token[lookaheadTokens.length*2];
+        for (int i= 0; i<lookaheadCount; i++) {
+            newTokens[i]= lookaheadTokens[(lookaheadStart+i)&(lookaheadTokens.length-1)];
+        }
+        lookaheadTokens= newTokens;
+        lookaheadStart= 0;
+    }
+
+    // To be called if the tokens' next links are changed behind our back.
+    private void clearLookaheadTokens() {
+        Arrays.fill(lookaheadTokens, null);
+        lookaheadStart= lookaheadCount= 0;
+        lookaheadAnchor= null;
+    }
+
+    private final boolean setNextTokenType() {
+        nextTokenType= lookaheadToken(1).getType();
+        return true;
+    }
+
+    private final TokenType nextTokenType() {
+        setNextTokenType();
+        return nextTokenType;
+    }
+
+    private final boolean resetScanAhead(int amount, EnumSet<TokenType> upToFirstSet) {
+        resetScanAhead(amount);
+        this.upToFirstSet= upToFirstSet;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount, TokenType upToTokenType) {
+        resetScanAhead(amount);
+        this.upToTokenType= upToTokenType;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount) {
+        currentLookaheadIndex= 0;
+        remainingLookahead= amount;
+        this.upToTokenType= null;
+        this.upToFirstSet= null;
+        setNextTokenType();
+        return true;
+    }
+
+    // CalcInput.javacc, line 34
+    final public void Input() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 34 of CalcInput.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Input1forced= false;
+        Input Input1= null;
+        if (buildTree) {
+            Input1= new Input();
+            openNodeScope(Input1);
+        }
+        ParseException parseException1= null;
+        int callStackSize1= parsingStackSize;
+        try {
+            double larg= 0.0;
+            double rarg;
+            // Code for ZeroOrMore specified on line 77 of CalcInput.javacc
+            while (resetScanAhead(1)&&first_set$CalcInput_javacc$line_77$column_4.contains(nextTokenType)) {
+                // Code for ZeroOrOne specified on line 41 of CalcInput.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.DIGIT||nextTokenType== TokenType.DOT) {
+                    // Code for NonTerminal specified on line 42 of CalcInput.javacc
+                    pushOntoCallStack(0);
+                    try {
+                        larg= Number();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for CodeBlock specified on line 43 of CalcInput.javacc
+                    CalcGUI.print(larg);
+                }
+                // Code for ZeroOrMore specified on line 75 of CalcInput.javacc
+                while (true) {
+                    // Code for ExpansionChoice specified on line 48 of CalcInput.javacc
+                    if (resetScanAhead(1)&&nextTokenType== TokenType.ADD) {
+                        // Code for RegexpRef specified on line 48 of CalcInput.javacc
+                        consumeToken(TokenType.ADD);
+                        // Code for NonTerminal specified on line 49 of CalcInput.javacc
+                        pushOntoCallStack(1);
+                        try {
+                            rarg= Number();
+                        }
+                        finally {
+                            popCallStack();
+                        }
+                        // Code for CodeBlock specified on line 50 of CalcInput.javacc
+                        larg= larg+rarg;
+                        CalcGUI.print(larg);
+                    }
+                    else if (resetScanAhead(1)&&nextTokenType== TokenType.SUB) {
+                        // Code for RegexpRef specified on line 55 of CalcInput.javacc
+                        consumeToken(TokenType.SUB);
+                        // Code for NonTerminal specified on line 56 of CalcInput.javacc
+                        pushOntoCallStack(2);
+                        try {
+                            rarg= Number();
+                        }
+                        finally {
+                            popCallStack();
+                        }
+                        // Code for CodeBlock specified on line 57 of CalcInput.javacc
+                        larg= larg-rarg;
+                        CalcGUI.print(larg);
+                    }
+                    else if (resetScanAhead(1)&&nextTokenType== TokenType.MUL) {
+                        // Code for RegexpRef specified on line 62 of CalcInput.javacc
+                        consumeToken(TokenType.MUL);
+                        // Code for NonTerminal specified on line 63 of CalcInput.javacc
+                        pushOntoCallStack(3);
+                        try {
+                            rarg= Number();
+                        }
+                        finally {
+                            popCallStack();
+                        }
+                        // Code for CodeBlock specified on line 64 of CalcInput.javacc
+                        larg= larg*rarg;
+                        CalcGUI.print(larg);
+                    }
+                    else if (resetScanAhead(1)&&nextTokenType== TokenType.DIV) {
+                        // Code for RegexpRef specified on line 69 of CalcInput.javacc
+                        consumeToken(TokenType.DIV);
+                        // Code for NonTerminal specified on line 70 of CalcInput.javacc
+                        pushOntoCallStack(4);
+                        try {
+                            rarg= Number();
+                        }
+                        finally {
+                            popCallStack();
+                        }
+                        // Code for CodeBlock specified on line 71 of CalcInput.javacc
+                        larg= (rarg== 0)?Float.POSITIVE_INFINITY:
+                        (larg/rarg);
+                        CalcGUI.print(larg);
+                    }
+                    else {
+                        break;
+                    }
+                }
+                // Code for RegexpStringLiteral specified on line 76 of CalcInput.javacc
+                consumeToken(TokenType.EQ);
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Input");
+        }
+        catch(ParseException e) {
+            parseException1= e;
+            throw e;
+        }
+        finally {
+            if (parseException1== null) {
+                restoreCallStack(callStackSize1);
+            }
+            if (buildTree) {
+                if (parseException1== null) {
+                    closeNodeScope(Input1, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException1.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> Number_FIRST_SET= EnumSet.of(TokenType.DIGIT, TokenType.DOT);
+    // CalcInput.javacc, line 80
+    final public double Number() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 80 of CalcInput.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 88 of CalcInput.javacc
+        boolean Number2forced= false;
+        Number Number2= null;
+        if (buildTree) {
+            Number2= new Number();
+            openNodeScope(Number2);
+        }
+        ParseException parseException2= null;
+        int callStackSize2= parsingStackSize;
+        try {
+            Token t;
+            String image= "";
+            double value= 0.0;
+            double decimalPlace= 1.0;
+            if (resetScanAhead(1)&&nextTokenType== TokenType.DIGIT) {
+                // Code for OneOrMore specified on line 95 of CalcInput.javacc
+                do {
+                    // Code for RegexpRef specified on line 89 of CalcInput.javacc
+                    t= consumeToken(TokenType.DIGIT);
+                    // Code for CodeBlock specified on line 90 of CalcInput.javacc
+                    image+=t.getImage();
+                    value= value*10+Integer.parseInt(t.getImage());
+                    CalcGUI.print(image);
+                }
+                while (resetScanAhead(1)&&nextTokenType== TokenType.DIGIT);
+                // Code for ZeroOrOne specified on line 96 of CalcInput.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.DOT) {
+                    // Code for RegexpRef specified on line 97 of CalcInput.javacc
+                    consumeToken(TokenType.DOT);
+                    // Code for CodeBlock specified on line 98 of CalcInput.javacc
+                    image+=".";
+                    CalcGUI.print(image);
+                    // Code for OneOrMore specified on line 110 of CalcInput.javacc
+                    do {
+                        // Code for RegexpRef specified on line 103 of CalcInput.javacc
+                        t= consumeToken(TokenType.DIGIT);
+                        // Code for CodeBlock specified on line 104 of CalcInput.javacc
+                        image+=t.getImage();
+                        decimalPlace*=0.1;
+                        value= value+Integer.parseInt(t.getImage())*decimalPlace;
+                        CalcGUI.print(image);
+                    }
+                    while (resetScanAhead(1)&&nextTokenType== TokenType.DIGIT);
+                }
+                // Code for CodeBlock specified on line 112 of CalcInput.javacc
+                return value;
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DOT) {
+                // Code for RegexpRef specified on line 116 of CalcInput.javacc
+                consumeToken(TokenType.DOT);
+                // Code for CodeBlock specified on line 117 of CalcInput.javacc
+                image= "0.";
+                CalcGUI.print(image);
+                // Code for OneOrMore specified on line 129 of CalcInput.javacc
+                do {
+                    // Code for RegexpRef specified on line 122 of CalcInput.javacc
+                    t= consumeToken(TokenType.DIGIT);
+                    // Code for CodeBlock specified on line 123 of CalcInput.javacc
+                    image+=t.getImage();
+                    decimalPlace*=0.1;
+                    value= value+Integer.parseInt(t.getImage())*decimalPlace;
+                    CalcGUI.print(image);
+                }
+                while (resetScanAhead(1)&&nextTokenType== TokenType.DIGIT);
+                // Code for CodeBlock specified on line 130 of CalcInput.javacc
+                return value;
+            }
+            else {
+                pushOntoCallStack(5);
+                throw new ParseException(current_token.getNext(), Number_FIRST_SET, getCallStack());
+            }
+        }
+        catch(ParseException e) {
+            parseException2= e;
+            throw e;
+        }
+        finally {
+            if (parseException2== null) {
+                restoreCallStack(callStackSize2);
+            }
+            if (buildTree) {
+                if (parseException2== null) {
+                    closeNodeScope(Number2, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException2.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$CalcInput_javacc$line_77$column_4= EnumSet.of(TokenType.EQ, TokenType.ADD, TokenType.SUB, TokenType.MUL, TokenType.DIV, TokenType.DIGIT, TokenType.DOT);
+    // Without DEBUG_PARSER, these are compile-time constants, so no tracing code is compiled in.
+    private static final boolean TRACE= false;
+    private static final boolean trace_enabled= false;
+    // So that the warning about setTracingEnabled(true) only comes up once
+    private static volatile boolean tracingWarningGiven;
+    /**
+  * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER),
+  * so this does nothing, apart from logging a warning (once) if tracing is asked for.
+  */
+    @Deprecated public void setTracingEnabled(boolean tracingEnabled) {
+        if (tracingEnabled&&!tracingWarningGiven) {
+            tracingWarningGiven= true;
+            LOGGER.warning("setTracingEnabled(true) does nothing, since the parser was generated without DEBUG_PARSER");
+        }
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(true)
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(false)
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+    // The parsing and lookahead stacks just hold indexes into the tables of call sites below.
+    // The NonTerminalCall objects are only created if there is an error to report.
+    private int[] parsingStack= new int[64];
+    private int parsingStackSize;
+    private int[] lookaheadStack= new int[64];
+    private int lookaheadStackSize;
+    private static final String[] CALL_SITE_PRODUCTIONS= {"Input", "Input", "Input", "Input", "Input", "Number"};
+    private static final String[] CALL_SITE_FILES= {"CalcInput.javacc", "CalcInput.javacc", "CalcInput.javacc", "CalcInput.javacc", "CalcInput.javacc", "CalcInput.javacc"};
+    private static final int[] CALL_SITE_LINES= {42, 49, 56, 63, 70, 88};
+    private static final int[] CALL_SITE_COLUMNS= {7, 7, 7, 7, 7, 3};
+    /**
+ * Inner class that represents entering a grammar production
+ */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile= sourceFile;
+            this.productionName= productionName;
+            this.line= line;
+            this.column= column;
+        }
+
+        NonTerminalCall(int callSite) {
+            this(CALL_SITE_FILES[callSite], CALL_SITE_PRODUCTIONS[callSite], CALL_SITE_LINES[callSite], CALL_SITE_COLUMNS[callSite]);
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("CalcInputParser", productionName, sourceFile, line);
+        }
+
+    }
+    private final void pushOntoCallStack(int callSite) {
+        if (parsingStackSize== parsingStack.length) {
+            parsingStack= Arrays.copyOf(parsingStack, parsingStackSize*2);
+        }
+        parsingStack[parsingStackSize++]= callSite;
+    }
+
+    private final void popCallStack() {
+        parsingStackSize--;
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        if (parsingStackSize> prevSize) {
+            parsingStackSize= prevSize;
+        }
+    }
+
+    /**
+ * @return the parsing stack as a list of NonTerminalCall objects
+ */
+    List<NonTerminalCall> getCallStack() {
+        List<NonTerminalCall> result= new ArrayList<> (parsingStackSize);
+        for (int i= 0; i<parsingStackSize; i++) {
+            result.add(new NonTerminalCall(parsingStack[i]));
+        }
+        return result;
+    }
+
+    // The number of entries in the parsing stack and the lookahead stack together
+    private final int callStackDepth() {
+        return parsingStackSize+lookaheadStackSize;
+    }
+
+    // The call site of an entry in the parsing stack followed by the lookahead stack
+    private final int callStackEntry(int index) {
+        return index<parsingStackSize?parsingStack[index]:
+        lookaheadStack[index-parsingStackSize];
+    }
+
+    private final void pushOntoLookaheadStack(int callSite) {
+        if (lookaheadStackSize== lookaheadStack.length) {
+            lookaheadStack= Arrays.copyOf(lookaheadStack, lookaheadStackSize*2);
+        }
+        lookaheadStack[lookaheadStackSize++]= callSite;
+    }
+
+    private final void popLookaheadStack() {
+        lookaheadStackSize--;
+    }
+
+    private final boolean tolerantParsing= false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) throws ParseException {
+        boolean forced= false;
+        InvalidToken invalidToken= null;
+        Token oldToken= current_token;
+        current_token= current_token.getNext();
+        if (current_token== null) {
+            current_token= token_source.getNextToken();
+        }
+        if (current_token.getType()!=expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken);
+        }
+        else {
+            this.lastParsedToken= current_token;
+        }
+        if (buildTree&&tokensAreNodes) {
+            current_token.setInputSource(inputSource);
+            if (invalidToken!=null) {
+                pushNode(invalidToken);
+            }
+            pushNode(current_token);
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Consumed token of type "+current_token.getType()+" from "+current_token.getLocation());
+        return current_token;
+    }
+
+    private void handleUnexpectedTokenType(TokenType expectedType, boolean forced, Token oldToken) throws ParseException {
+        throw new ParseException(current_token, EnumSet.of(expectedType), getCallStack());
+    }
+
+    private boolean buildTree= true;
+    private boolean tokensAreNodes= true;
+    private boolean unparsedTokensAreNodes= false;
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes= unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes= tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope= new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        Node root= currentNodeScope.rootNode();
+        return root;
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    public void openNodeScope(Node n) {
+        Token start= getToken(1);
+        n.setBeginLine(start.getBeginLine());
+        n.setBeginColumn(start.getBeginColumn());
+        new NodeScope();
+        n.open();
+        if (TRACE&&trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (TRACE&&trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (TRACE&&trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes= new ArrayList<Node> ();
+        for (int i= 0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                Token token= (Token) child;
+                Token specialToken= token;
+                while (specialToken!=null) {
+                    specialToken= specialToken.getSpecialToken();
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken= specialToken.getNext();
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n, boolean condition) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (condition) {
+            if (TRACE&&trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a= nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes= new ArrayList<Node> ();
+            while (a--> 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                    Token token= (Token) child;
+                    Token specialToken= token;
+                    while (specialToken.getSpecialToken()!=null) {
+                        specialToken= specialToken.getSpecialToken();
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken= specialToken.getNext();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree= buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    CalcInputParser jjtree= this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node>  {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope= CalcInputParser.this.currentNodeScope;
+            CalcInputParser.this.currentNodeScope= this;
+        }
+
+        boolean isRootScope() {
+            return parentScope== null;
+        }
+
+        Node rootNode() {
+            NodeScope ns= this;
+            while (ns.parentScope!=null) {
+                ns= ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        Node pop() {
+            return isEmpty()?parentScope.pop():
+            remove(size()-1);
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            CalcInputParser.this.currentNodeScope= parentScope;
+        }
+
+        int nestingLevel() {
+            int result= 0;
+            NodeScope parent= this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent= parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+}
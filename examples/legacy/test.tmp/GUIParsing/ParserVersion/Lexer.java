@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Lexer.java */
+/* Generated by: JavaCC 21 Parser Generator. Lexer.java */
+/**
+ * A user who wishes to implement his own Lexer is expected
+ * to create a class that implements this interface.
+ */
+public interface Lexer {
+    /** This gets the next token from the input stream.
+   *  A token of kind 0 (<EOF>) should be returned on EOF.
+   */
+    public Token getNextToken();
+    /** 
+   * This returns a string that says where the 
+   * Tokens are coming from. This will typically be 
+   * a filename.
+   */
+    String getInputSource();
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Number AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class Number extends BaseNode {
+}
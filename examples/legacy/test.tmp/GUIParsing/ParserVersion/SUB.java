@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for SUB Token subclass
+  * by the ASTToken.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class SUB extends Token {
+    public SUB(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+}
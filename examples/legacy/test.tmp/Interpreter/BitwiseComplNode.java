@@ -0,0 +1,12 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for BitwiseComplNode AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class BitwiseComplNode extends SimpleNode {
+    public void interpret() {
+        getChild(1).interpret();
+        stack[top]= new Integer(~((Integer) stack[top]).intValue());
+    }
+
+}
@@ -0,0 +1,23 @@
+import java.util.*;
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for CompilationUnit AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class CompilationUnit extends SimpleNode {
+    public void interpret() {
+        for (int i= 0; i<getChildCount(); i++) {
+            System.out.print("Executing:");
+            Node child= getChild(i);
+            for (Token t : Nodes.getTokens(child)) {
+                System.out.print(" ");
+                System.out.print(t);
+            }
+            System.out.println();
+            if (!(child instanceof Token)) {
+                child.interpret();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for FalseNode AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class FalseNode extends SimpleNode {
+    public void interpret() {
+        stack[++top]= Boolean.FALSE;
+    }
+
+}
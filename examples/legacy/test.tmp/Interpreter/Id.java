@@ -0,0 +1,12 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Id AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class Id extends SimpleNode {
+    String name;
+    public void interpret() {
+        stack[++top]= symtab.get(name);
+    }
+
+}
@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for IfStatement AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class IfStatement extends SimpleNode {
+    public void interpret() {
+        getChild(2).interpret();
+        if (((Boolean) stack[top--]).booleanValue()) {
+            getChild(4).interpret();
+        }
+        else {
+            if (getChildCount()== 7) {
+                getChild(6).interpret();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for NENode AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class NENode extends SimpleNode {
+    public void interpret() {
+        getChild(0).interpret();
+        getChild(2).interpret();
+        if (stack[top] instanceof Boolean) {
+            stack[--top]= new Boolean(((Boolean) stack[top]).booleanValue()!=((Boolean) stack[top+1]).booleanValue());
+        }
+        else {
+            stack[--top]= new Boolean(((Integer) stack[top]).intValue()!=((Integer) stack[top+1]).intValue());
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for OrNode AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class OrNode extends SimpleNode {
+    public void interpret() {
+        getChild(0).interpret();
+        if (((Boolean) stack[top]).booleanValue()) {
+            stack[top]= new Boolean(true);
+            return;
+        }
+        getChild(2).interpret();
+        stack[--top]= new Boolean(((Boolean) stack[top]).booleanValue()||((Boolean) stack[top+1]).booleanValue());
+    }
+
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ParentheticalExpression AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class ParentheticalExpression extends SimpleNode {
+    public void interpret() {
+        getChild(1).interpret();
+    }
+
+}
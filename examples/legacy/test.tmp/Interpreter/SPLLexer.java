@@ -0,0 +1,769 @@
+/* Generated by: JavaCC 21 Parser Generator. SPLLexer.java */
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+@SuppressWarnings("unused")
+public class SPLLexer implements SPLConstants {
+    private static final Logger LOGGER= Logger.getLogger("SPLParser");
+    // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+        input_stream.setInputSource(inputSource);
+    }
+
+    public SPLLexer(String inputSource, CharSequence chars) {
+        this(inputSource, chars, LexicalState.DEFAULT, 1, 1);
+    }
+
+    public SPLLexer(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+      * Lexes the file by mapping it into memory, see {@link FileLineMap#mapFile(java.nio.file.Path, java.nio.charset.Charset)}
+      */
+    public SPLLexer(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public SPLLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.DEFAULT, 1, 1);
+    }
+
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated public SPLLexer(Reader reader) {
+        this("input", reader);
+    }
+
+    public SPLLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+    // Tokens from the previous input refer to its FileLineMap, so that one is not recycled.
+    public void reset(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, CharSequence chars) {
+        reset(inputSource, chars, LexicalState.DEFAULT, 1, 1);
+    }
+
+    public void reset(CharSequence chars) {
+        reset("input", chars);
+    }
+
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.DEFAULT, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    FileLineMap input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    LexicalState lexicalState= LexicalState.DEFAULT;
+    void addToken(Token token) {
+        input_stream.addToken(token);
+    }
+
+    int tabSize= 8;
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+            this.lexicalState= lexState;
+            return true;
+        }
+        return false;
+    }
+
+    private InvalidToken invalidToken;
+    private Token pendingToken;
+    public Token getNextToken() {
+        if (pendingToken!=null) {
+            Token result= pendingToken;
+            pendingToken= null;
+            return result;
+        }
+        Token tok= null;
+        do {
+            tok= nextToken();
+        }
+        while (tok instanceof InvalidToken);
+        if (invalidToken!=null) {
+            addToken(invalidToken);
+            invalidToken.setNext(tok);
+            Token it= invalidToken;
+            pendingToken= tok;
+            this.invalidToken= null;
+            return it;
+        }
+        addToken(tok);
+        return tok;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t) {
+        input_stream.goTo(t.getEndLine(), t.getEndColumn());
+        input_stream.forward(1);
+    }
+
+    FileLineMap getFileLineMap() {
+        return input_stream;
+    }
+
+    private boolean[] jjbeenHere= new boolean[1];
+    private int jjnewStateCnt;
+    private int jjround;
+    private int jjmatchedPos;
+    //FIXME,should be an enum.
+    private int jjmatchedKind;
+    private String inputSource= "input";
+    // BitSet for TOKEN
+    static private BitSet tokenSet= BitSet.valueOf(new long[]{4398046511041L, });
+    private final int[] jjrounds= new int[3];
+    private final int[] jjstateSet= new int[6];
+    private final StringBuilder image= new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+        int i;
+        jjround= 0x80000001;
+        for (i= 3; i--> 0; ) jjrounds[i]= 0x80000000;
+    }
+
+    // Clears what is left over from the previous input, when the lexer is reset.
+    // The jjrounds array does not need clearing, since jjround only ever moves on.
+    private void resetState(String inputSource, LexicalState lexState) {
+        this.inputSource= inputSource;
+        invalidToken= null;
+        pendingToken= null;
+        Arrays.fill(jjbeenHere, false);
+        jjmatchedKind= jjmatchedPos= jjnewStateCnt= 0;
+        curChar= 0;
+        image.setLength(0);
+        matchedCharsLength= 0;
+        switchTo(lexState);
+    }
+
+    private Token nextToken() {
+        Token specialToken= null;
+        Token matchedToken;
+        int curPos= 0;
+        EOFLoop:
+        while (true) {
+            int retval1= input_stream.beginToken();
+            curChar= (char)(retval1);
+            if (retval1== -1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind= 0;
+                Token eof= jjFillToken();
+                tokenLexicalActions();
+                eof.setSpecialToken(specialToken);
+                addToken(eof);
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength= 0;
+            while (curChar<=32&&(0x100003600L&(1L<<curChar))!=0L) {
+                if (trace_enabled) LOGGER.info("Skipping character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+")");
+                curChar= (char) input_stream.beginToken();
+                if (curChar== (char)-1) {
+                    continue EOFLoop;
+                }
+            }
+            jjmatchedKind= 0x7FFFFFFF;
+            jjmatchedPos= 0;
+            if (trace_enabled) LOGGER.info("Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+            curPos= jjMoveStringLiteralDfa0();
+            if (jjmatchedKind!=0x7FFFFFFF) {
+                if (jjmatchedPos+1<curPos) {
+                    if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                    input_stream.backup(curPos-jjmatchedPos-1);
+                }
+                if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                if (tokenSet.get(jjmatchedKind)) {
+                    matchedToken= jjFillToken();
+                    tokenLexicalActions();
+                    jjmatchedKind= matchedToken.getType().ordinal();
+                    addToken(matchedToken);
+                    return matchedToken;
+                }
+                else {
+                    continue EOFLoop;
+                }
+            }
+            int error_line= input_stream.getEndLine();
+            int error_column= input_stream.getEndColumn();
+            String error_after= null;
+            error_after= curPos<=1?"":
+            input_stream.getImage();
+            if (invalidToken== null) {
+                invalidToken= new InvalidToken(""+curChar, input_stream);
+                invalidToken.setBeginLine(error_line);
+                invalidToken.setBeginColumn(error_column);
+            }
+            else {
+                invalidToken.setImage(invalidToken.getImage()+curChar);
+            }
+            invalidToken.setEndLine(error_line);
+            invalidToken.setEndColumn(error_column);
+            return invalidToken;
+        }
+    }
+
+    private void tokenLexicalActions() {
+        switch(jjmatchedKind) {
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage= input_stream.getImage();
+        beginLine= input_stream.getBeginLine();
+        beginColumn= input_stream.getBeginColumn();
+        endLine= input_stream.getEndLine();
+        endColumn= input_stream.getEndColumn();
+        t= Token.newToken(TokenType.values()[jjmatchedKind], curTokenImage, this);
+        t.setBeginLine(beginLine);
+        t.setEndLine(endLine);
+        t.setBeginColumn(beginColumn);
+        t.setEndColumn(endColumn);
+        //        t.setInputSource(this.inputSource);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state]!=jjround) {
+            jjstateSet[jjnewStateCnt++]= state;
+            jjrounds[state]= jjround;
+        }
+    }
+
+    private void jjAddStates(int start, int end) {
+        do {
+            jjstateSet[jjnewStateCnt++]= jjnextStates[start];
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start+1]);
+    }
+
+    private int jjStopAtPos(int pos, int kind) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    private int jjStartNfa(int pos, long active0) {
+        return jjMoveNfa(jjStopStringLiteralDfa(pos, active0), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa(int pos, long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0x1f1800000c0L)!=0L) {
+                jjmatchedKind= 41;
+                return 2;
+            }
+            return-1;
+            case 1:
+            if ((active0&0x1e1800000c0L)!=0L) {
+                jjmatchedKind= 41;
+                jjmatchedPos= 1;
+                return 2;
+            }
+            if ((active0&0x1000000000L)!=0L) return 2;
+            return-1;
+            case 2:
+            if ((active0&0x40L)!=0L) return 2;
+            if ((active0&0x1e180000080L)!=0L) {
+                jjmatchedKind= 41;
+                jjmatchedPos= 2;
+                return 2;
+            }
+            return-1;
+            case 3:
+            if ((active0&0x14100000080L)!=0L) {
+                jjmatchedKind= 41;
+                jjmatchedPos= 3;
+                return 2;
+            }
+            if ((active0&0xa080000000L)!=0L) return 2;
+            return-1;
+            case 4:
+            if ((active0&0x80L)!=0L) {
+                jjmatchedKind= 41;
+                jjmatchedPos= 4;
+                return 2;
+            }
+            if ((active0&0x14100000000L)!=0L) return 2;
+            return-1;
+            case 5:
+            if ((active0&0x80L)!=0L) {
+                jjmatchedKind= 41;
+                jjmatchedPos= 5;
+                return 2;
+            }
+            return-1;
+            case 6:
+            if ((active0&0x80L)!=0L) return 2;
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0() {
+        switch(curChar) {
+            case 33:
+            jjmatchedKind= 28;
+            return jjMoveStringLiteralDfa1(0x20000L);
+            case 37:
+            return jjStopAtPos(0, 26);
+            case 38:
+            jjmatchedKind= 15;
+            return jjMoveStringLiteralDfa1(0x1000L);
+            case 40:
+            return jjStopAtPos(0, 29);
+            case 41:
+            return jjStopAtPos(0, 30);
+            case 42:
+            return jjStopAtPos(0, 24);
+            case 43:
+            return jjStopAtPos(0, 22);
+            case 45:
+            return jjStopAtPos(0, 23);
+            case 47:
+            return jjStopAtPos(0, 25);
+            case 58:
+            return jjStopAtPos(0, 33);
+            case 59:
+            return jjStopAtPos(0, 9);
+            case 60:
+            jjmatchedKind= 18;
+            return jjMoveStringLiteralDfa1(0x100000L);
+            case 61:
+            jjmatchedKind= 10;
+            return jjMoveStringLiteralDfa1(0x10000L);
+            case 62:
+            jjmatchedKind= 19;
+            return jjMoveStringLiteralDfa1(0x200000L);
+            case 94:
+            return jjStopAtPos(0, 14);
+            case 98:
+            return jjMoveStringLiteralDfa1(0x80L);
+            case 101:
+            return jjMoveStringLiteralDfa1(0x2000000000L);
+            case 102:
+            return jjMoveStringLiteralDfa1(0x100000000L);
+            case 105:
+            return jjMoveStringLiteralDfa1(0x1000000040L);
+            case 114:
+            return jjMoveStringLiteralDfa1(0x8000000000L);
+            case 116:
+            return jjMoveStringLiteralDfa1(0x80000000L);
+            case 119:
+            return jjMoveStringLiteralDfa1(0x14000000000L);
+            case 123:
+            return jjStopAtPos(0, 34);
+            case 124:
+            jjmatchedKind= 13;
+            return jjMoveStringLiteralDfa1(0x800L);
+            case 125:
+            return jjStopAtPos(0, 35);
+            case 126:
+            return jjStopAtPos(0, 27);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa(1, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1(long active0) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(0, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 38:
+            if ((active0&0x1000L)!=0L) return jjStopAtPos(1, 12);
+            break;
+            case 61:
+            if ((active0&0x10000L)!=0L) return jjStopAtPos(1, 16);
+            else if ((active0&0x20000L)!=0L) return jjStopAtPos(1, 17);
+            else if ((active0&0x100000L)!=0L) return jjStopAtPos(1, 20);
+            else if ((active0&0x200000L)!=0L) return jjStopAtPos(1, 21);
+            break;
+            case 97:
+            return jjMoveStringLiteralDfa2(active0, 0x100000000L);
+            case 101:
+            return jjMoveStringLiteralDfa2(active0, 0x8000000000L);
+            case 102:
+            if ((active0&0x1000000000L)!=0L) return jjStartNfaWithStates(1, 36, 2);
+            break;
+            case 104:
+            return jjMoveStringLiteralDfa2(active0, 0x4000000000L);
+            case 108:
+            return jjMoveStringLiteralDfa2(active0, 0x2000000000L);
+            case 110:
+            return jjMoveStringLiteralDfa2(active0, 0x40L);
+            case 111:
+            return jjMoveStringLiteralDfa2(active0, 0x80L);
+            case 114:
+            return jjMoveStringLiteralDfa2(active0, 0x10080000000L);
+            case 124:
+            if ((active0&0x800L)!=0L) return jjStopAtPos(1, 11);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(0, active0);
+    }
+
+    private int jjMoveStringLiteralDfa2(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa(0, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(1, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa3(active0, 0x8000000000L);
+            case 105:
+            return jjMoveStringLiteralDfa3(active0, 0x14000000000L);
+            case 108:
+            return jjMoveStringLiteralDfa3(active0, 0x100000000L);
+            case 111:
+            return jjMoveStringLiteralDfa3(active0, 0x80L);
+            case 115:
+            return jjMoveStringLiteralDfa3(active0, 0x2000000000L);
+            case 116:
+            if ((active0&0x40L)!=0L) return jjStartNfaWithStates(2, 6, 2);
+            break;
+            case 117:
+            return jjMoveStringLiteralDfa3(active0, 0x80000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(1, active0);
+    }
+
+    private int jjMoveStringLiteralDfa3(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa(1, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(2, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 3;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 100:
+            if ((active0&0x8000000000L)!=0L) return jjStartNfaWithStates(3, 39, 2);
+            break;
+            case 101:
+            if ((active0&0x80000000L)!=0L) return jjStartNfaWithStates(3, 31, 2);
+            else if ((active0&0x2000000000L)!=0L) return jjStartNfaWithStates(3, 37, 2);
+            break;
+            case 108:
+            return jjMoveStringLiteralDfa4(active0, 0x4000000080L);
+            case 115:
+            return jjMoveStringLiteralDfa4(active0, 0x100000000L);
+            case 116:
+            return jjMoveStringLiteralDfa4(active0, 0x10000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(2, active0);
+    }
+
+    private int jjMoveStringLiteralDfa4(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa(2, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(3, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 4;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active0&0x100000000L)!=0L) return jjStartNfaWithStates(4, 32, 2);
+            else if ((active0&0x4000000000L)!=0L) return jjStartNfaWithStates(4, 38, 2);
+            else if ((active0&0x10000000000L)!=0L) return jjStartNfaWithStates(4, 40, 2);
+            return jjMoveStringLiteralDfa5(active0, 0x80L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(3, active0);
+    }
+
+    private int jjMoveStringLiteralDfa5(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa(3, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(4, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 5;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa6(active0, 0x80L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(4, active0);
+    }
+
+    private int jjMoveStringLiteralDfa6(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa(4, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(5, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 6;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 110:
+            if ((active0&0x80L)!=0L) return jjStartNfaWithStates(6, 7, 2);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(5, active0);
+    }
+
+    private int jjMoveNfa(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 3;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        case 0:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 8) kind= 8;
+                        jjCheckNAdd(0);
+                        break;
+                        case 2:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 41) kind= 41;
+                        jjCheckNAdd(2);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        if ((0x7fffffe07fffffeL&l)== 0L) break;
+                        if (kind> 41) kind= 41;
+                        jjCheckNAdd(2);
+                        break;
+                        case 2:
+                        if ((0x7fffffe07fffffeL&l)== 0L) break;
+                        if (kind> 41) kind= 41;
+                        jjCheckNAdd(2);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                int hiByte= (int)(curChar>>8);
+                int i1= hiByte>>6;
+                long l1= 1L<<(hiByte&077);
+                int i2= (curChar&0xff)>>6;
+                long l2= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 3-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static int[] jjUnpack(int size, String...packed) {
+        int[] result= new int[size];
+        int index= 0;
+        for (String s : packed) {
+            int i= 0;
+            while (i<s.length()) {
+                int count= 0, value= 0, shift= 0, c;
+                do {
+                    c= s.charAt(i++);
+                    count|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                shift= 0;
+                do {
+                    c= s.charAt(i++);
+                    value|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                Arrays.fill(result, index, index+count, value-1);
+                index+=count;
+            }
+        }
+        return result;
+    }
+
+    private static final int[] jjnextStates= {};
+}
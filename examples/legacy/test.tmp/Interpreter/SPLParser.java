@@ -0,0 +1,3203 @@
+/* Generated by: JavaCC 21 Parser Generator. SPLParser.java */
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.logging.*;
+import java.io.*;
+@SuppressWarnings("unused")
+public class SPLParser implements SPLConstants {
+    /**
+   * Returns the root node of the Id.  
+   * It only makes sense to call this after a successful parse. 
+   * @return the root node
+   */
+    public SimpleNode root() {
+        return(SimpleNode) rootNode();
+    }
+
+    /** Main entry point. */
+    public static void main(String args[]) {
+        SPLParser parser;
+        if (args.length== 1) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Reading from file "+args[0]+" . . .");
+            try {
+                parser= new SPLParser(new java.io.FileReader(args[0]));
+            }
+            catch(java.io.FileNotFoundException e) {
+                System.out.println("Stupid Programming Language Interpreter Version 0.1:  File "+args[0]+" not found.");
+                return;
+            }
+        }
+        else {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Usage :");
+            System.out.println("         java SPL inputfile");
+            return;
+        }
+        try {
+            parser.CompilationUnit();
+            parser.rootNode().interpret();
+        }
+        catch(ParseException e) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Encountered errors during parse.");
+            e.printStackTrace();
+        }
+        catch(Exception e1) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Encountered errors during interpretation/tree building.");
+            e1.printStackTrace();
+        }
+    }
+
+    private static final java.util.logging.Logger LOGGER= Logger.getLogger(SPLParser.class.getName());
+    public static void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    // The last token successfully "consumed"     
+    Token current_token;
+    private TokenType nextTokenType;
+    // The number of tokens after current_token that the current scanahead has looked at
+    private int currentLookaheadIndex;
+    private int remainingLookahead;
+    private TokenType upToTokenType;
+    private EnumSet<TokenType> upToFirstSet;
+    private Token lastParsedToken;
+    //private Token nextToken; //REVISIT
+    //private EnumSet<Token> currentFollowSet;
+    private boolean cancelled;
+    public void cancel() {
+        cancelled= true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public SPLLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public SPLParser(String inputSource, CharSequence content) {
+        this(new SPLLexer(inputSource, content));
+    }
+
+    public SPLParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+   * Parses the file by mapping it into memory, rather than reading it into a String.
+   */
+    public SPLParser(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(new SPLLexer(path, charset));
+    }
+
+    public SPLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public SPLParser(Reader reader) {
+        this(new SPLLexer(reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public SPLParser(SPLLexer lexer) {
+        token_source= lexer;
+        current_token= new Token();
+    }
+
+    /*
+   * The reset methods set up this parser, along with its lexer, to parse new input.
+   * That saves creating a new parser for each input, and the buffers and stacks
+   * that have been allocated so far are reused.
+   */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        resetState();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+   * Maps the file into memory, like the corresponding constructor.
+   */
+    public void reset(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        reset(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        token_source.reset(inputSource, reader);
+        resetState();
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    // Puts everything back the way the constructor left it, apart
+    // from any settings that were changed.
+    private void resetState() {
+        current_token= new Token();
+        nextTokenType= null;
+        currentLookaheadIndex= remainingLookahead= 0;
+        upToTokenType= null;
+        upToFirstSet= null;
+        lastParsedToken= null;
+        cancelled= false;
+        clearLookaheadTokens();
+        parsingStackSize= lookaheadStackSize= 0;
+        currentFollowSet= null;
+        parseStateStack.clear();
+        while (!currentNodeScope.isRootScope()) {
+            currentNodeScope= currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.getNext()!=null) current_token= current_token.getNext();
+        else {
+            Token nextToken= token_source.getNextToken();
+            current_token.setNext(nextToken);
+            current_token= nextToken;
+        }
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        return index<=0?current_token:
+        lookaheadToken(index);
+    }
+
+    // A circular buffer of the tokens following current_token, so that
+    // lookahead does not have to keep following the tokens' next links.
+    // The links are still there (and are the real thing), so if current_token
+    // has moved on since the buffer was filled, it is brought into line.
+    private Token[] lookaheadTokens= new Token[16];
+    private int lookaheadStart, lookaheadCount;
+    private Token lookaheadAnchor;
+    // The index-th token after current_token, index being at least 1
+    private Token lookaheadToken(int index) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        int mask= lookaheadTokens.length-1;
+        while (lookaheadCount<index) {
+            Token last= lookaheadCount== 0?current_token:
+            lookaheadTokens[(lookaheadStart+lookaheadCount-1)&mask];
+            Token nextToken= last.getNext();
+            if (nextToken== null) {
+                nextToken= token_source.getNextToken();
+                last.setNext(nextToken);
+            }
+            if (lookaheadCount== lookaheadTokens.length) {
+                growLookaheadTokens();
+                mask= lookaheadTokens.length-1;
+            }
+            lookaheadTokens[(lookaheadStart+lookaheadCount++)&mask]= nextToken;
+        }
+        return lookaheadTokens[(lookaheadStart+index-1)&mask];
+    }
+
+    private void syncLookaheadTokens() {
+        int mask= lookaheadTokens.length-1;
+        // Typically, current_token has moved forward to one of the buffered tokens.
+        while (lookaheadCount> 0) {
+            Token t= lookaheadTokens[lookaheadStart];
+            lookaheadTokens[lookaheadStart]= null;
+            lookaheadStart= (lookaheadStart+1)&mask;
+            --lookaheadCount;
+            if (t== current_token) break;
+        }
+        lookaheadAnchor= current_token;
+    }
+
+    private void growLookaheadTokens() {
+        Token[] newTokens= new Token[lookaheadTokens.length*2];
+        for (int i= 0; i<lookaheadCount; i++) {
+            newTokens[i]= lookaheadTokens[(lookaheadStart+i)&(lookaheadTokens.length-1)];
+        }
+        lookaheadTokens= newTokens;
+        lookaheadStart= 0;
+    }
+
+    // To be called if the tokens' next links are changed behind our back.
+    private void clearLookaheadTokens() {
+        Arrays.fill(lookaheadTokens, null);
+        lookaheadStart= lookaheadCount= 0;
+        lookaheadAnchor= null;
+    }
+
+    private final boolean setNextTokenType() {
+        nextTokenType= lookaheadToken(1).getType();
+        return true;
+    }
+
+    private final TokenType nextTokenType() {
+        setNextTokenType();
+        return nextTokenType;
+    }
+
+    private final boolean resetScanAhead(int amount, EnumSet<TokenType> upToFirstSet) {
+        resetScanAhead(amount);
+        this.upToFirstSet= upToFirstSet;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount, TokenType upToTokenType) {
+        resetScanAhead(amount);
+        this.upToTokenType= upToTokenType;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount) {
+        currentLookaheadIndex= 0;
+        remainingLookahead= amount;
+        this.upToTokenType= null;
+        this.upToFirstSet= null;
+        setNextTokenType();
+        return true;
+    }
+
+    /** Compilation unit. */
+    // SPL.javacc, line 181
+    final public void CompilationUnit() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 181 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean CompilationUnit1forced= false;
+        CompilationUnit CompilationUnit1= null;
+        if (buildTree) {
+            CompilationUnit1= new CompilationUnit();
+            openNodeScope(CompilationUnit1);
+        }
+        ParseException parseException1= null;
+        int callStackSize1= parsingStackSize;
+        try {
+            String name;
+            // Code for ZeroOrMore specified on line 190 of SPL.javacc
+            while (true) {
+                // Code for ExpansionChoice specified on line 187 of SPL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.INT||nextTokenType== TokenType.BOOL) {
+                    // Code for NonTerminal specified on line 187 of SPL.javacc
+                    pushOntoCallStack(0);
+                    try {
+                        VarDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpStringLiteral specified on line 187 of SPL.javacc
+                    consumeToken(TokenType._TOKEN_9);
+                }
+                else if (resetScanAhead(1)&&first_set$SPL_javacc$line_189$column_8.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 189 of SPL.javacc
+                    pushOntoCallStack(1);
+                    try {
+                        Statement();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    break;
+                }
+            }
+            // Code for EndOfFile specified on line 191 of SPL.javacc
+            consumeToken(TokenType.EOF);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from CompilationUnit");
+        }
+        catch(ParseException e) {
+            parseException1= e;
+            throw e;
+        }
+        finally {
+            if (parseException1== null) {
+                restoreCallStack(callStackSize1);
+            }
+            if (buildTree) {
+                if (parseException1== null) {
+                    closeNodeScope(CompilationUnit1, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException1.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /** Variable declaration. */
+    // SPL.javacc, line 212
+    final public void VarDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 212 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean VarDeclaration2forced= false;
+        VarDeclaration VarDeclaration2= null;
+        if (buildTree) {
+            VarDeclaration2= new VarDeclaration();
+            openNodeScope(VarDeclaration2);
+        }
+        ParseException parseException2= null;
+        int callStackSize2= parsingStackSize;
+        try {
+            Token t;
+            // Code for ExpansionChoice specified on line 216 of SPL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.BOOL) {
+                // Code for RegexpStringLiteral specified on line 216 of SPL.javacc
+                consumeToken(TokenType.BOOL);
+                // Code for CodeBlock specified on line 216 of SPL.javacc
+                VarDeclaration2.type= TokenType.BOOL;
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.INT) {
+                // Code for RegexpStringLiteral specified on line 218 of SPL.javacc
+                consumeToken(TokenType.INT);
+                // Code for CodeBlock specified on line 218 of SPL.javacc
+                VarDeclaration2.type= TokenType.INT;
+            }
+            else {
+                pushOntoCallStack(2);
+                throw new ParseException(current_token.getNext(), first_set$SPL_javacc$line_216$column_5, getCallStack());
+            }
+            // Code for RegexpRef specified on line 220 of SPL.javacc
+            t= consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified on line 221 of SPL.javacc
+            VarDeclaration2.name= t.getImage();
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from VarDeclaration");
+        }
+        catch(ParseException e) {
+            parseException2= e;
+            throw e;
+        }
+        finally {
+            if (parseException2== null) {
+                restoreCallStack(callStackSize2);
+            }
+            if (buildTree) {
+                if (parseException2== null) {
+                    closeNodeScope(VarDeclaration2, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException2.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> Expression_FIRST_SET= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_27, TokenType._TOKEN_28, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.IDENTIFIER);
+    /*
+ * Expression syntax follows.
+ */
+    /** Expression. */
+    // SPL.javacc, line 229
+    final public void Expression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 229 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 232 of SPL.javacc
+        if (resetScanAhead(2147483647)&&check$SPL_javacc$line_232$column_14()) {
+            // Code for NonTerminal specified on line 233 of SPL.javacc
+            pushOntoCallStack(5);
+            try {
+                Assignment();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&first_set$SPL_javacc$line_235$column_3.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 235 of SPL.javacc
+            pushOntoCallStack(6);
+            try {
+                ConditionalOrExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(3);
+            throw new ParseException(current_token.getNext(), Expression_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Expression");
+    }
+
+    /** Assignment. */
+    // SPL.javacc, line 249
+    final public void Assignment() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 249 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Assignment3forced= false;
+        Assignment Assignment3= null;
+        if (buildTree) {
+            Assignment3= new Assignment();
+            openNodeScope(Assignment3);
+        }
+        ParseException parseException3= null;
+        int callStackSize3= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 252 of SPL.javacc
+            pushOntoCallStack(7);
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 252 of SPL.javacc
+            consumeToken(TokenType._TOKEN_10);
+            // Code for NonTerminal specified on line 252 of SPL.javacc
+            pushOntoCallStack(8);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Assignment");
+        }
+        catch(ParseException e) {
+            parseException3= e;
+            throw e;
+        }
+        finally {
+            if (parseException3== null) {
+                restoreCallStack(callStackSize3);
+            }
+            if (buildTree) {
+                if (parseException3== null) {
+                    closeNodeScope(Assignment3, 3);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException3.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /** Conditional or expression. */
+    // SPL.javacc, line 256
+    final public void ConditionalOrExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 256 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 259 of SPL.javacc
+        pushOntoCallStack(9);
+        try {
+            ConditionalAndExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 260 of SPL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_11) {
+            // Code for RegexpStringLiteral specified on line 260 of SPL.javacc
+            consumeToken(TokenType._TOKEN_11);
+            // Code for NonTerminal specified on line 260 of SPL.javacc
+            boolean ConditionalOrExpression4forced= false;
+            OrNode ConditionalOrExpression4= null;
+            if (buildTree) {
+                ConditionalOrExpression4= new OrNode();
+                openNodeScope(ConditionalOrExpression4);
+            }
+            ParseException parseException4= null;
+            int callStackSize4= parsingStackSize;
+            try {
+                pushOntoCallStack(10);
+                try {
+                    ConditionalAndExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException4= e;
+                throw e;
+            }
+            finally {
+                if (parseException4== null) {
+                    restoreCallStack(callStackSize4);
+                }
+                if (buildTree) {
+                    if (parseException4== null) {
+                        closeNodeScope(ConditionalOrExpression4, 3);
+                    }
+                    else {
+                        if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException4.getMessage());
+                        clearNodeScope();
+                    }
+                }
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ConditionalOrExpression");
+    }
+
+    /** Conditional and expression. */
+    // SPL.javacc, line 280
+    final public void ConditionalAndExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 280 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 283 of SPL.javacc
+        pushOntoCallStack(11);
+        try {
+            InclusiveOrExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 284 of SPL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_12) {
+            // Code for RegexpStringLiteral specified on line 284 of SPL.javacc
+            consumeToken(TokenType._TOKEN_12);
+            // Code for NonTerminal specified on line 284 of SPL.javacc
+            boolean ConditionalAndExpression5forced= false;
+            AndNode ConditionalAndExpression5= null;
+            if (buildTree) {
+                ConditionalAndExpression5= new AndNode();
+                openNodeScope(ConditionalAndExpression5);
+            }
+            ParseException parseException5= null;
+            int callStackSize5= parsingStackSize;
+            try {
+                pushOntoCallStack(12);
+                try {
+                    InclusiveOrExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException5= e;
+                throw e;
+            }
+            finally {
+                if (parseException5== null) {
+                    restoreCallStack(callStackSize5);
+                }
+                if (buildTree) {
+                    if (parseException5== null) {
+                        closeNodeScope(ConditionalAndExpression5, 3);
+                    }
+                    else {
+                        if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException5.getMessage());
+                        clearNodeScope();
+                    }
+                }
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ConditionalAndExpression");
+    }
+
+    /** Inclusive or expression. */
+    // SPL.javacc, line 304
+    final public void InclusiveOrExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 304 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 307 of SPL.javacc
+        pushOntoCallStack(13);
+        try {
+            ExclusiveOrExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 308 of SPL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_13) {
+            // Code for RegexpStringLiteral specified on line 308 of SPL.javacc
+            consumeToken(TokenType._TOKEN_13);
+            // Code for NonTerminal specified on line 308 of SPL.javacc
+            boolean InclusiveOrExpression6forced= false;
+            BitwiseOrNode InclusiveOrExpression6= null;
+            if (buildTree) {
+                InclusiveOrExpression6= new BitwiseOrNode();
+                openNodeScope(InclusiveOrExpression6);
+            }
+            ParseException parseException6= null;
+            int callStackSize6= parsingStackSize;
+            try {
+                pushOntoCallStack(14);
+                try {
+                    ExclusiveOrExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException6= e;
+                throw e;
+            }
+            finally {
+                if (parseException6== null) {
+                    restoreCallStack(callStackSize6);
+                }
+                if (buildTree) {
+                    if (parseException6== null) {
+                        closeNodeScope(InclusiveOrExpression6, 2);
+                    }
+                    else {
+                        if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException6.getMessage());
+                        clearNodeScope();
+                    }
+                }
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from InclusiveOrExpression");
+    }
+
+    /** Exclusive or expression. */
+    // SPL.javacc, line 330
+    final public void ExclusiveOrExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 330 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 333 of SPL.javacc
+        pushOntoCallStack(15);
+        try {
+            AndExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 334 of SPL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_14) {
+            // Code for RegexpStringLiteral specified on line 334 of SPL.javacc
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified on line 334 of SPL.javacc
+            boolean ExclusiveOrExpression7forced= false;
+            BitwiseXorNode ExclusiveOrExpression7= null;
+            if (buildTree) {
+                ExclusiveOrExpression7= new BitwiseXorNode();
+                openNodeScope(ExclusiveOrExpression7);
+            }
+            ParseException parseException7= null;
+            int callStackSize7= parsingStackSize;
+            try {
+                pushOntoCallStack(16);
+                try {
+                    AndExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException7= e;
+                throw e;
+            }
+            finally {
+                if (parseException7== null) {
+                    restoreCallStack(callStackSize7);
+                }
+                if (buildTree) {
+                    if (parseException7== null) {
+                        closeNodeScope(ExclusiveOrExpression7, 2);
+                    }
+                    else {
+                        if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException7.getMessage());
+                        clearNodeScope();
+                    }
+                }
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ExclusiveOrExpression");
+    }
+
+    /** And expression. */
+    // SPL.javacc, line 356
+    final public void AndExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 356 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 359 of SPL.javacc
+        pushOntoCallStack(17);
+        try {
+            EqualityExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 360 of SPL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_15) {
+            // Code for RegexpStringLiteral specified on line 360 of SPL.javacc
+            consumeToken(TokenType._TOKEN_15);
+            // Code for NonTerminal specified on line 360 of SPL.javacc
+            boolean AndExpression8forced= false;
+            BitwiseAndNode AndExpression8= null;
+            if (buildTree) {
+                AndExpression8= new BitwiseAndNode();
+                openNodeScope(AndExpression8);
+            }
+            ParseException parseException8= null;
+            int callStackSize8= parsingStackSize;
+            try {
+                pushOntoCallStack(18);
+                try {
+                    EqualityExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException8= e;
+                throw e;
+            }
+            finally {
+                if (parseException8== null) {
+                    restoreCallStack(callStackSize8);
+                }
+                if (buildTree) {
+                    if (parseException8== null) {
+                        closeNodeScope(AndExpression8, 2);
+                    }
+                    else {
+                        if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException8.getMessage());
+                        clearNodeScope();
+                    }
+                }
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AndExpression");
+    }
+
+    /** Equality expression. */
+    // SPL.javacc, line 380
+    final public void EqualityExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 380 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 383 of SPL.javacc
+        pushOntoCallStack(19);
+        try {
+            RelationalExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 388 of SPL.javacc
+        while (true) {
+            // Code for ExpansionChoice specified on line 385 of SPL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_16) {
+                // Code for RegexpStringLiteral specified on line 385 of SPL.javacc
+                consumeToken(TokenType._TOKEN_16);
+                // Code for NonTerminal specified on line 385 of SPL.javacc
+                boolean EqualityExpression9forced= false;
+                EQNode EqualityExpression9= null;
+                if (buildTree) {
+                    EqualityExpression9= new EQNode();
+                    openNodeScope(EqualityExpression9);
+                }
+                ParseException parseException9= null;
+                int callStackSize9= parsingStackSize;
+                try {
+                    pushOntoCallStack(20);
+                    try {
+                        RelationalExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException9= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException9== null) {
+                        restoreCallStack(callStackSize9);
+                    }
+                    if (buildTree) {
+                        if (parseException9== null) {
+                            closeNodeScope(EqualityExpression9, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException9.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_17) {
+                // Code for RegexpStringLiteral specified on line 387 of SPL.javacc
+                consumeToken(TokenType._TOKEN_17);
+                // Code for NonTerminal specified on line 387 of SPL.javacc
+                boolean EqualityExpression10forced= false;
+                NENode EqualityExpression10= null;
+                if (buildTree) {
+                    EqualityExpression10= new NENode();
+                    openNodeScope(EqualityExpression10);
+                }
+                ParseException parseException10= null;
+                int callStackSize10= parsingStackSize;
+                try {
+                    pushOntoCallStack(21);
+                    try {
+                        RelationalExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException10= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException10== null) {
+                        restoreCallStack(callStackSize10);
+                    }
+                    if (buildTree) {
+                        if (parseException10== null) {
+                            closeNodeScope(EqualityExpression10, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException10.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else {
+                break;
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from EqualityExpression");
+    }
+
+    /** Relational expression. */
+    // SPL.javacc, line 419
+    final public void RelationalExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 419 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 422 of SPL.javacc
+        pushOntoCallStack(22);
+        try {
+            AdditiveExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 431 of SPL.javacc
+        while (true) {
+            // Code for ExpansionChoice specified on line 424 of SPL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_18) {
+                // Code for RegexpStringLiteral specified on line 424 of SPL.javacc
+                consumeToken(TokenType._TOKEN_18);
+                // Code for NonTerminal specified on line 424 of SPL.javacc
+                boolean RelationalExpression11forced= false;
+                LTNode RelationalExpression11= null;
+                if (buildTree) {
+                    RelationalExpression11= new LTNode();
+                    openNodeScope(RelationalExpression11);
+                }
+                ParseException parseException11= null;
+                int callStackSize11= parsingStackSize;
+                try {
+                    pushOntoCallStack(23);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException11= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException11== null) {
+                        restoreCallStack(callStackSize11);
+                    }
+                    if (buildTree) {
+                        if (parseException11== null) {
+                            closeNodeScope(RelationalExpression11, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException11.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_19) {
+                // Code for RegexpStringLiteral specified on line 426 of SPL.javacc
+                consumeToken(TokenType._TOKEN_19);
+                // Code for NonTerminal specified on line 426 of SPL.javacc
+                boolean RelationalExpression12forced= false;
+                GTNode RelationalExpression12= null;
+                if (buildTree) {
+                    RelationalExpression12= new GTNode();
+                    openNodeScope(RelationalExpression12);
+                }
+                ParseException parseException12= null;
+                int callStackSize12= parsingStackSize;
+                try {
+                    pushOntoCallStack(24);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException12= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException12== null) {
+                        restoreCallStack(callStackSize12);
+                    }
+                    if (buildTree) {
+                        if (parseException12== null) {
+                            closeNodeScope(RelationalExpression12, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException12.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_20) {
+                // Code for RegexpStringLiteral specified on line 428 of SPL.javacc
+                consumeToken(TokenType._TOKEN_20);
+                // Code for NonTerminal specified on line 428 of SPL.javacc
+                boolean RelationalExpression13forced= false;
+                LENode RelationalExpression13= null;
+                if (buildTree) {
+                    RelationalExpression13= new LENode();
+                    openNodeScope(RelationalExpression13);
+                }
+                ParseException parseException13= null;
+                int callStackSize13= parsingStackSize;
+                try {
+                    pushOntoCallStack(25);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException13= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException13== null) {
+                        restoreCallStack(callStackSize13);
+                    }
+                    if (buildTree) {
+                        if (parseException13== null) {
+                            closeNodeScope(RelationalExpression13, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException13.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_21) {
+                // Code for RegexpStringLiteral specified on line 430 of SPL.javacc
+                consumeToken(TokenType._TOKEN_21);
+                // Code for NonTerminal specified on line 430 of SPL.javacc
+                boolean RelationalExpression14forced= false;
+                GENode RelationalExpression14= null;
+                if (buildTree) {
+                    RelationalExpression14= new GENode();
+                    openNodeScope(RelationalExpression14);
+                }
+                ParseException parseException14= null;
+                int callStackSize14= parsingStackSize;
+                try {
+                    pushOntoCallStack(26);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException14= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException14== null) {
+                        restoreCallStack(callStackSize14);
+                    }
+                    if (buildTree) {
+                        if (parseException14== null) {
+                            closeNodeScope(RelationalExpression14, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException14.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else {
+                break;
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from RelationalExpression");
+    }
+
+    /** Additive expression. */
+    // SPL.javacc, line 479
+    final public void AdditiveExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 479 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 482 of SPL.javacc
+        pushOntoCallStack(27);
+        try {
+            MultiplicativeExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 487 of SPL.javacc
+        while (true) {
+            // Code for ExpansionChoice specified on line 484 of SPL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_22) {
+                // Code for RegexpStringLiteral specified on line 484 of SPL.javacc
+                consumeToken(TokenType._TOKEN_22);
+                // Code for NonTerminal specified on line 484 of SPL.javacc
+                boolean AdditiveExpression15forced= false;
+                AddNode AdditiveExpression15= null;
+                if (buildTree) {
+                    AdditiveExpression15= new AddNode();
+                    openNodeScope(AdditiveExpression15);
+                }
+                ParseException parseException15= null;
+                int callStackSize15= parsingStackSize;
+                try {
+                    pushOntoCallStack(28);
+                    try {
+                        MultiplicativeExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException15= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException15== null) {
+                        restoreCallStack(callStackSize15);
+                    }
+                    if (buildTree) {
+                        if (parseException15== null) {
+                            closeNodeScope(AdditiveExpression15, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException15.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_23) {
+                // Code for RegexpStringLiteral specified on line 486 of SPL.javacc
+                consumeToken(TokenType._TOKEN_23);
+                // Code for NonTerminal specified on line 486 of SPL.javacc
+                boolean AdditiveExpression16forced= false;
+                SubtractNode AdditiveExpression16= null;
+                if (buildTree) {
+                    AdditiveExpression16= new SubtractNode();
+                    openNodeScope(AdditiveExpression16);
+                }
+                ParseException parseException16= null;
+                int callStackSize16= parsingStackSize;
+                try {
+                    pushOntoCallStack(29);
+                    try {
+                        MultiplicativeExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException16= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException16== null) {
+                        restoreCallStack(callStackSize16);
+                    }
+                    if (buildTree) {
+                        if (parseException16== null) {
+                            closeNodeScope(AdditiveExpression16, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException16.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else {
+                break;
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AdditiveExpression");
+    }
+
+    /** Multiplicative expression. */
+    // SPL.javacc, line 510
+    final public void MultiplicativeExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 510 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 513 of SPL.javacc
+        pushOntoCallStack(30);
+        try {
+            UnaryExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 520 of SPL.javacc
+        while (true) {
+            // Code for ExpansionChoice specified on line 515 of SPL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_24) {
+                // Code for RegexpStringLiteral specified on line 515 of SPL.javacc
+                consumeToken(TokenType._TOKEN_24);
+                // Code for NonTerminal specified on line 515 of SPL.javacc
+                boolean MultiplicativeExpression17forced= false;
+                MulNode MultiplicativeExpression17= null;
+                if (buildTree) {
+                    MultiplicativeExpression17= new MulNode();
+                    openNodeScope(MultiplicativeExpression17);
+                }
+                ParseException parseException17= null;
+                int callStackSize17= parsingStackSize;
+                try {
+                    pushOntoCallStack(31);
+                    try {
+                        UnaryExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException17= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException17== null) {
+                        restoreCallStack(callStackSize17);
+                    }
+                    if (buildTree) {
+                        if (parseException17== null) {
+                            closeNodeScope(MultiplicativeExpression17, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException17.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_25) {
+                // Code for RegexpStringLiteral specified on line 517 of SPL.javacc
+                consumeToken(TokenType._TOKEN_25);
+                // Code for NonTerminal specified on line 517 of SPL.javacc
+                boolean MultiplicativeExpression18forced= false;
+                DivNode MultiplicativeExpression18= null;
+                if (buildTree) {
+                    MultiplicativeExpression18= new DivNode();
+                    openNodeScope(MultiplicativeExpression18);
+                }
+                ParseException parseException18= null;
+                int callStackSize18= parsingStackSize;
+                try {
+                    pushOntoCallStack(32);
+                    try {
+                        UnaryExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException18= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException18== null) {
+                        restoreCallStack(callStackSize18);
+                    }
+                    if (buildTree) {
+                        if (parseException18== null) {
+                            closeNodeScope(MultiplicativeExpression18, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException18.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_26) {
+                // Code for RegexpStringLiteral specified on line 519 of SPL.javacc
+                consumeToken(TokenType._TOKEN_26);
+                // Code for NonTerminal specified on line 519 of SPL.javacc
+                boolean MultiplicativeExpression19forced= false;
+                ModNode MultiplicativeExpression19= null;
+                if (buildTree) {
+                    MultiplicativeExpression19= new ModNode();
+                    openNodeScope(MultiplicativeExpression19);
+                }
+                ParseException parseException19= null;
+                int callStackSize19= parsingStackSize;
+                try {
+                    pushOntoCallStack(33);
+                    try {
+                        UnaryExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException19= e;
+                    throw e;
+                }
+                finally {
+                    if (parseException19== null) {
+                        restoreCallStack(callStackSize19);
+                    }
+                    if (buildTree) {
+                        if (parseException19== null) {
+                            closeNodeScope(MultiplicativeExpression19, 3);
+                        }
+                        else {
+                            if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException19.getMessage());
+                            clearNodeScope();
+                        }
+                    }
+                }
+            }
+            else {
+                break;
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MultiplicativeExpression");
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_27, TokenType._TOKEN_28, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.IDENTIFIER);
+    /** Unary expression. */
+    // SPL.javacc, line 552
+    final public void UnaryExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 552 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 555 of SPL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_27) {
+            // Code for RegexpStringLiteral specified on line 555 of SPL.javacc
+            consumeToken(TokenType._TOKEN_27);
+            // Code for NonTerminal specified on line 555 of SPL.javacc
+            boolean UnaryExpression20forced= false;
+            BitwiseComplNode UnaryExpression20= null;
+            if (buildTree) {
+                UnaryExpression20= new BitwiseComplNode();
+                openNodeScope(UnaryExpression20);
+            }
+            ParseException parseException20= null;
+            int callStackSize20= parsingStackSize;
+            try {
+                pushOntoCallStack(35);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException20= e;
+                throw e;
+            }
+            finally {
+                if (parseException20== null) {
+                    restoreCallStack(callStackSize20);
+                }
+                if (buildTree) {
+                    if (parseException20== null) {
+                        closeNodeScope(UnaryExpression20, 2);
+                    }
+                    else {
+                        if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException20.getMessage());
+                        clearNodeScope();
+                    }
+                }
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_28) {
+            // Code for RegexpStringLiteral specified on line 557 of SPL.javacc
+            consumeToken(TokenType._TOKEN_28);
+            // Code for NonTerminal specified on line 557 of SPL.javacc
+            boolean UnaryExpression21forced= false;
+            NotNode UnaryExpression21= null;
+            if (buildTree) {
+                UnaryExpression21= new NotNode();
+                openNodeScope(UnaryExpression21);
+            }
+            ParseException parseException21= null;
+            int callStackSize21= parsingStackSize;
+            try {
+                pushOntoCallStack(36);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException21= e;
+                throw e;
+            }
+            finally {
+                if (parseException21== null) {
+                    restoreCallStack(callStackSize21);
+                }
+                if (buildTree) {
+                    if (parseException21== null) {
+                        closeNodeScope(UnaryExpression21, 2);
+                    }
+                    else {
+                        if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException21.getMessage());
+                        clearNodeScope();
+                    }
+                }
+            }
+        }
+        else if (resetScanAhead(1)&&first_set$SPL_javacc$line_559$column_3.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 559 of SPL.javacc
+            pushOntoCallStack(37);
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(34);
+            throw new ParseException(current_token.getNext(), UnaryExpression_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from UnaryExpression");
+    }
+
+    static private final EnumSet<TokenType> PrimaryExpression_FIRST_SET= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.IDENTIFIER);
+    /** Primary expression. */
+    // SPL.javacc, line 581
+    final public void PrimaryExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 581 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 586 of SPL.javacc
+        String name;
+        if (resetScanAhead(1)&&nextTokenType== TokenType.INTEGER_LITERAL||nextTokenType== TokenType.TRUE||nextTokenType== TokenType.FALSE) {
+            // Code for NonTerminal specified on line 586 of SPL.javacc
+            pushOntoCallStack(39);
+            try {
+                Literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+            // Code for NonTerminal specified on line 588 of SPL.javacc
+            pushOntoCallStack(40);
+            try {
+                Id();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_29) {
+            // Code for NonTerminal specified on line 590 of SPL.javacc
+            pushOntoCallStack(41);
+            try {
+                ParentheticalExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(38);
+            throw new ParseException(current_token.getNext(), PrimaryExpression_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PrimaryExpression");
+    }
+
+    // SPL.javacc, line 593
+    final public void ParentheticalExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 593 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ParentheticalExpression22forced= false;
+        ParentheticalExpression ParentheticalExpression22= null;
+        if (buildTree) {
+            ParentheticalExpression22= new ParentheticalExpression();
+            openNodeScope(ParentheticalExpression22);
+        }
+        ParseException parseException22= null;
+        int callStackSize22= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 596 of SPL.javacc
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified on line 596 of SPL.javacc
+            pushOntoCallStack(42);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 596 of SPL.javacc
+            consumeToken(TokenType._TOKEN_30);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ParentheticalExpression");
+        }
+        catch(ParseException e) {
+            parseException22= e;
+            throw e;
+        }
+        finally {
+            if (parseException22== null) {
+                restoreCallStack(callStackSize22);
+            }
+            if (buildTree) {
+                if (parseException22== null) {
+                    closeNodeScope(ParentheticalExpression22, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException22.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /** An Id. */
+    // SPL.javacc, line 617
+    final public void Id() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 617 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Id23forced= false;
+        Id Id23= null;
+        if (buildTree) {
+            Id23= new Id();
+            openNodeScope(Id23);
+        }
+        ParseException parseException23= null;
+        int callStackSize23= parsingStackSize;
+        try {
+            Token t;
+            // Code for RegexpRef specified on line 622 of SPL.javacc
+            t= consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified on line 622 of SPL.javacc
+            Id23.name= t.getImage();
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Id");
+        }
+        catch(ParseException e) {
+            parseException23= e;
+            throw e;
+        }
+        finally {
+            if (parseException23== null) {
+                restoreCallStack(callStackSize23);
+            }
+            if (buildTree) {
+                if (parseException23== null) {
+                    closeNodeScope(Id23, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException23.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> Literal_FIRST_SET= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType.TRUE, TokenType.FALSE);
+    /** A literal. */
+    // SPL.javacc, line 626
+    final public void Literal() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 626 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 631 of SPL.javacc
+        Token t;
+        if (resetScanAhead(1)&&nextTokenType== TokenType.INTEGER_LITERAL) {
+            boolean Literal24forced= false;
+            IntConstNode Literal24= null;
+            if (buildTree) {
+                Literal24= new IntConstNode();
+                openNodeScope(Literal24);
+            }
+            ParseException parseException24= null;
+            int callStackSize24= parsingStackSize;
+            try {
+                // Code for RegexpRef specified on line 632 of SPL.javacc
+                t= consumeToken(TokenType.INTEGER_LITERAL);
+                // Code for CodeBlock specified on line 633 of SPL.javacc
+                Literal24.val= Integer.parseInt(t.getImage());
+            }
+            catch(ParseException e) {
+                parseException24= e;
+                throw e;
+            }
+            finally {
+                if (parseException24== null) {
+                    restoreCallStack(callStackSize24);
+                }
+                if (buildTree) {
+                    if (parseException24== null) {
+                        closeNodeScope(Literal24, true);
+                    }
+                    else {
+                        if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException24.getMessage());
+                        clearNodeScope();
+                    }
+                }
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE||nextTokenType== TokenType.FALSE) {
+            // Code for NonTerminal specified on line 638 of SPL.javacc
+            pushOntoCallStack(44);
+            try {
+                BooleanLiteral();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(43);
+            throw new ParseException(current_token.getNext(), Literal_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Literal");
+    }
+
+    static private final EnumSet<TokenType> BooleanLiteral_FIRST_SET= EnumSet.of(TokenType.TRUE, TokenType.FALSE);
+    /** A boolean literal. */
+    // SPL.javacc, line 651
+    final public void BooleanLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 651 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 654 of SPL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE) {
+            // Code for RegexpStringLiteral specified on line 654 of SPL.javacc
+            boolean BooleanLiteral25forced= false;
+            TrueNode BooleanLiteral25= null;
+            if (buildTree) {
+                BooleanLiteral25= new TrueNode();
+                openNodeScope(BooleanLiteral25);
+            }
+            ParseException parseException25= null;
+            int callStackSize25= parsingStackSize;
+            try {
+                consumeToken(TokenType.TRUE);
+            }
+            catch(ParseException e) {
+                parseException25= e;
+                throw e;
+            }
+            finally {
+                if (parseException25== null) {
+                    restoreCallStack(callStackSize25);
+                }
+                if (buildTree) {
+                    if (parseException25== null) {
+                        closeNodeScope(BooleanLiteral25, true);
+                    }
+                    else {
+                        if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException25.getMessage());
+                        clearNodeScope();
+                    }
+                }
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.FALSE) {
+            // Code for RegexpStringLiteral specified on line 656 of SPL.javacc
+            boolean BooleanLiteral26forced= false;
+            FalseNode BooleanLiteral26= null;
+            if (buildTree) {
+                BooleanLiteral26= new FalseNode();
+                openNodeScope(BooleanLiteral26);
+            }
+            ParseException parseException26= null;
+            int callStackSize26= parsingStackSize;
+            try {
+                consumeToken(TokenType.FALSE);
+            }
+            catch(ParseException e) {
+                parseException26= e;
+                throw e;
+            }
+            finally {
+                if (parseException26== null) {
+                    restoreCallStack(callStackSize26);
+                }
+                if (buildTree) {
+                    if (parseException26== null) {
+                        closeNodeScope(BooleanLiteral26, true);
+                    }
+                    else {
+                        if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException26.getMessage());
+                        clearNodeScope();
+                    }
+                }
+            }
+        }
+        else {
+            pushOntoCallStack(45);
+            throw new ParseException(current_token.getNext(), BooleanLiteral_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BooleanLiteral");
+    }
+
+    static private final EnumSet<TokenType> Statement_FIRST_SET= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_9, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType._TOKEN_34, TokenType.IF, TokenType.WHILE, TokenType.READ, TokenType.WRITE, TokenType.IDENTIFIER);
+    /*
+ * Statement syntax follows.
+ */
+    /** A statement. */
+    // SPL.javacc, line 681
+    final public void Statement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 681 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 684 of SPL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_9) {
+            // Code for RegexpStringLiteral specified on line 684 of SPL.javacc
+            consumeToken(TokenType._TOKEN_9);
+        }
+        else if (resetScanAhead(2)&&check$SPL_javacc$line_686$column_3()) {
+            // Code for NonTerminal specified on line 687 of SPL.javacc
+            pushOntoCallStack(47);
+            try {
+                LabeledStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_34) {
+            // Code for NonTerminal specified on line 689 of SPL.javacc
+            pushOntoCallStack(48);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&first_set$SPL_javacc$line_691$column_3.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 691 of SPL.javacc
+            pushOntoCallStack(49);
+            try {
+                StatementExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.IF) {
+            // Code for NonTerminal specified on line 693 of SPL.javacc
+            pushOntoCallStack(50);
+            try {
+                IfStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.WHILE) {
+            // Code for NonTerminal specified on line 695 of SPL.javacc
+            pushOntoCallStack(51);
+            try {
+                WhileStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.READ||nextTokenType== TokenType.WRITE) {
+            // Code for NonTerminal specified on line 697 of SPL.javacc
+            pushOntoCallStack(52);
+            try {
+                IOStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(46);
+            throw new ParseException(current_token.getNext(), Statement_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Statement");
+    }
+
+    /** A labeled statement. */
+    // SPL.javacc, line 701
+    final public void LabeledStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 701 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 704 of SPL.javacc
+        consumeToken(TokenType.IDENTIFIER);
+        // Code for RegexpStringLiteral specified on line 704 of SPL.javacc
+        consumeToken(TokenType._TOKEN_33);
+        // Code for NonTerminal specified on line 704 of SPL.javacc
+        pushOntoCallStack(53);
+        try {
+            Statement();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from LabeledStatement");
+    }
+
+    /** A block. */
+    // SPL.javacc, line 719
+    final public void Block() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 719 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Block27forced= false;
+        Block Block27= null;
+        if (buildTree) {
+            Block27= new Block();
+            openNodeScope(Block27);
+        }
+        ParseException parseException27= null;
+        int callStackSize27= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 722 of SPL.javacc
+            consumeToken(TokenType._TOKEN_34);
+            // Code for ZeroOrMore specified on line 722 of SPL.javacc
+            while (resetScanAhead(1)&&first_set$SPL_javacc$line_722$column_22.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 722 of SPL.javacc
+                pushOntoCallStack(54);
+                try {
+                    Statement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 722 of SPL.javacc
+            consumeToken(TokenType._TOKEN_35);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Block");
+        }
+        catch(ParseException e) {
+            parseException27= e;
+            throw e;
+        }
+        finally {
+            if (parseException27== null) {
+                restoreCallStack(callStackSize27);
+            }
+            if (buildTree) {
+                if (parseException27== null) {
+                    closeNodeScope(Block27, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException27.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /** A statement expression. */
+    // SPL.javacc, line 735
+    final public void StatementExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 735 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean StatementExpression28forced= false;
+        StatementExpression StatementExpression28= null;
+        if (buildTree) {
+            StatementExpression28= new StatementExpression();
+            openNodeScope(StatementExpression28);
+        }
+        ParseException parseException28= null;
+        int callStackSize28= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 742 of SPL.javacc
+            pushOntoCallStack(55);
+            try {
+                Assignment();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 742 of SPL.javacc
+            consumeToken(TokenType._TOKEN_9);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from StatementExpression");
+        }
+        catch(ParseException e) {
+            parseException28= e;
+            throw e;
+        }
+        finally {
+            if (parseException28== null) {
+                restoreCallStack(callStackSize28);
+            }
+            if (buildTree) {
+                if (parseException28== null) {
+                    closeNodeScope(StatementExpression28, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException28.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /** An if statement. */
+    // SPL.javacc, line 762
+    final public void IfStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 762 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean IfStatement29forced= false;
+        IfStatement IfStatement29= null;
+        if (buildTree) {
+            IfStatement29= new IfStatement();
+            openNodeScope(IfStatement29);
+        }
+        ParseException parseException29= null;
+        int callStackSize29= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 770 of SPL.javacc
+            consumeToken(TokenType.IF);
+            // Code for RegexpStringLiteral specified on line 770 of SPL.javacc
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified on line 770 of SPL.javacc
+            pushOntoCallStack(56);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 770 of SPL.javacc
+            consumeToken(TokenType._TOKEN_30);
+            // Code for NonTerminal specified on line 770 of SPL.javacc
+            pushOntoCallStack(57);
+            try {
+                Statement();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 770 of SPL.javacc
+            if (resetScanAhead(1)&&check$SPL_javacc$line_770$column_43()) {
+                // Code for RegexpStringLiteral specified on line 770 of SPL.javacc
+                consumeToken(TokenType.ELSE);
+                // Code for NonTerminal specified on line 770 of SPL.javacc
+                pushOntoCallStack(58);
+                try {
+                    Statement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from IfStatement");
+        }
+        catch(ParseException e) {
+            parseException29= e;
+            throw e;
+        }
+        finally {
+            if (parseException29== null) {
+                restoreCallStack(callStackSize29);
+            }
+            if (buildTree) {
+                if (parseException29== null) {
+                    closeNodeScope(IfStatement29, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException29.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /** A while statement. */
+    // SPL.javacc, line 793
+    final public void WhileStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 793 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean WhileStatement30forced= false;
+        WhileStatement WhileStatement30= null;
+        if (buildTree) {
+            WhileStatement30= new WhileStatement();
+            openNodeScope(WhileStatement30);
+        }
+        ParseException parseException30= null;
+        int callStackSize30= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 796 of SPL.javacc
+            consumeToken(TokenType.WHILE);
+            // Code for RegexpStringLiteral specified on line 796 of SPL.javacc
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified on line 796 of SPL.javacc
+            pushOntoCallStack(59);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 796 of SPL.javacc
+            consumeToken(TokenType._TOKEN_30);
+            // Code for NonTerminal specified on line 796 of SPL.javacc
+            pushOntoCallStack(60);
+            try {
+                Statement();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from WhileStatement");
+        }
+        catch(ParseException e) {
+            parseException30= e;
+            throw e;
+        }
+        finally {
+            if (parseException30== null) {
+                restoreCallStack(callStackSize30);
+            }
+            if (buildTree) {
+                if (parseException30== null) {
+                    closeNodeScope(WhileStatement30, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException30.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> IOStatement_FIRST_SET= EnumSet.of(TokenType.READ, TokenType.WRITE);
+    /** An IO statement. */
+    // SPL.javacc, line 800
+    final public void IOStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 800 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 803 of SPL.javacc
+        String name;
+        if (resetScanAhead(1)&&nextTokenType== TokenType.READ) {
+            // Code for NonTerminal specified on line 803 of SPL.javacc
+            pushOntoCallStack(62);
+            try {
+                ReadStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.WRITE) {
+            // Code for NonTerminal specified on line 805 of SPL.javacc
+            pushOntoCallStack(63);
+            try {
+                WriteStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(61);
+            throw new ParseException(current_token.getNext(), IOStatement_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from IOStatement");
+    }
+
+    /** A read statement. */
+    // SPL.javacc, line 862
+    final public void ReadStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 862 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ReadStatement31forced= false;
+        ReadStatement ReadStatement31= null;
+        if (buildTree) {
+            ReadStatement31= new ReadStatement();
+            openNodeScope(ReadStatement31);
+        }
+        ParseException parseException31= null;
+        int callStackSize31= parsingStackSize;
+        try {
+            Token t;
+            // Code for RegexpStringLiteral specified on line 865 of SPL.javacc
+            consumeToken(TokenType.READ);
+            // Code for RegexpRef specified on line 865 of SPL.javacc
+            t= consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified on line 866 of SPL.javacc
+            ReadStatement31.name= t.getImage();
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ReadStatement");
+        }
+        catch(ParseException e) {
+            parseException31= e;
+            throw e;
+        }
+        finally {
+            if (parseException31== null) {
+                restoreCallStack(callStackSize31);
+            }
+            if (buildTree) {
+                if (parseException31== null) {
+                    closeNodeScope(ReadStatement31, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException31.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /** A write statement. */
+    // SPL.javacc, line 870
+    final public void WriteStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 870 of SPL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean WriteStatement32forced= false;
+        WriteStatement WriteStatement32= null;
+        if (buildTree) {
+            WriteStatement32= new WriteStatement();
+            openNodeScope(WriteStatement32);
+        }
+        ParseException parseException32= null;
+        int callStackSize32= parsingStackSize;
+        try {
+            Token t;
+            // Code for RegexpStringLiteral specified on line 873 of SPL.javacc
+            consumeToken(TokenType.WRITE);
+            // Code for RegexpRef specified on line 873 of SPL.javacc
+            t= consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified on line 874 of SPL.javacc
+            WriteStatement32.name= t.getImage();
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from WriteStatement");
+        }
+        catch(ParseException e) {
+            parseException32= e;
+            throw e;
+        }
+        finally {
+            if (parseException32== null) {
+                restoreCallStack(callStackSize32);
+            }
+            if (buildTree) {
+                if (parseException32== null) {
+                    closeNodeScope(WriteStatement32, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException32.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$SPL_javacc$line_189$column_8= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_9, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType._TOKEN_34, TokenType.IF, TokenType.WHILE, TokenType.READ, TokenType.WRITE, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$SPL_javacc$line_216$column_5= EnumSet.of(TokenType.INT, TokenType.BOOL);
+    static private final EnumSet<TokenType> first_set$SPL_javacc$line_235$column_3= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_27, TokenType._TOKEN_28, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$SPL_javacc$line_559$column_3= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$SPL_javacc$line_586$column_3= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType.TRUE, TokenType.FALSE);
+    static private final EnumSet<TokenType> first_set$SPL_javacc$line_691$column_3= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$SPL_javacc$line_722$column_22= EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_9, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType._TOKEN_34, TokenType.IF, TokenType.WHILE, TokenType.READ, TokenType.WRITE, TokenType.IDENTIFIER);
+    private final boolean scanToken(TokenType expectedType) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (type!=expectedType) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    private final boolean scanToken(EnumSet<TokenType> types) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (!types.contains(type)) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    //====================================
+    // Lookahead Routines
+    //====================================
+    private final boolean check$SPL_javacc$line_232$column_14() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(4);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_686$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(47);
+        if (!check$LabeledStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_770$column_43() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.ELSE)) return false;
+        return true;
+    }
+
+    private final boolean check$PrimaryExpression() {
+        if (remainingLookahead<=0) return true;
+        int int33= currentLookaheadIndex;
+        int remainingLookahead33= remainingLookahead;
+        if (!(scanToken(first_set$SPL_javacc$line_586$column_3))) {
+            currentLookaheadIndex= int33;
+            remainingLookahead= remainingLookahead33;
+            if (!(scanToken(TokenType.IDENTIFIER))) {
+                currentLookaheadIndex= int33;
+                remainingLookahead= remainingLookahead33;
+                if (!(check$SPL_javacc$line_590$column_3())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$LabeledStatement() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType._TOKEN_33)) return false;
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_590$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(41);
+        if (!check$ParentheticalExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ParentheticalExpression() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        pushOntoLookaheadStack(42);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        return true;
+    }
+
+    private final boolean check$Expression() {
+        if (remainingLookahead<=0) return true;
+        int int34= currentLookaheadIndex;
+        int remainingLookahead34= remainingLookahead;
+        if (!(check$SPL_javacc$line_232$column_3()&&check$SPL_javacc$line_232$column_3$())) {
+            currentLookaheadIndex= int34;
+            remainingLookahead= remainingLookahead34;
+            if (!(check$SPL_javacc$line_235$column_3())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_232$column_3$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(5);
+        if (!check$Assignment()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_235$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(6);
+        if (!check$ConditionalOrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Assignment() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(7);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        pushOntoLookaheadStack(8);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ConditionalOrExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(9);
+        if (!check$ConditionalAndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int35= currentLookaheadIndex;
+            if (!(check$SPL_javacc$line_260$column_5())) {
+                currentLookaheadIndex= int35;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ConditionalAndExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(11);
+        if (!check$InclusiveOrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int36= currentLookaheadIndex;
+            if (!(check$SPL_javacc$line_284$column_5())) {
+                currentLookaheadIndex= int36;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_260$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        pushOntoLookaheadStack(10);
+        if (!check$ConditionalAndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$InclusiveOrExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(13);
+        if (!check$ExclusiveOrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int37= currentLookaheadIndex;
+            if (!(check$SPL_javacc$line_308$column_5())) {
+                currentLookaheadIndex= int37;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_284$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_12)) return false;
+        pushOntoLookaheadStack(12);
+        if (!check$InclusiveOrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ExclusiveOrExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(15);
+        if (!check$AndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int38= currentLookaheadIndex;
+            if (!(check$SPL_javacc$line_334$column_5())) {
+                currentLookaheadIndex= int38;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_308$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_13)) return false;
+        pushOntoLookaheadStack(14);
+        if (!check$ExclusiveOrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$AndExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(17);
+        if (!check$EqualityExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int39= currentLookaheadIndex;
+            if (!(check$SPL_javacc$line_360$column_5())) {
+                currentLookaheadIndex= int39;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_334$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_14)) return false;
+        pushOntoLookaheadStack(16);
+        if (!check$AndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$EqualityExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(19);
+        if (!check$RelationalExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int40= currentLookaheadIndex;
+            if (!(check$SPL_javacc$line_385$column_6())) {
+                currentLookaheadIndex= int40;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_360$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_15)) return false;
+        pushOntoLookaheadStack(18);
+        if (!check$EqualityExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$RelationalExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(22);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int41= currentLookaheadIndex;
+            if (!(check$SPL_javacc$line_424$column_5())) {
+                currentLookaheadIndex= int41;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_385$column_6() {
+        if (remainingLookahead<=0) return true;
+        int int42= currentLookaheadIndex;
+        int remainingLookahead42= remainingLookahead;
+        if (!(check$SPL_javacc$line_385$column_6$())) {
+            currentLookaheadIndex= int42;
+            remainingLookahead= remainingLookahead42;
+            if (!(check$SPL_javacc$line_387$column_6())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$AdditiveExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(27);
+        if (!check$MultiplicativeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int43= currentLookaheadIndex;
+            if (!(check$SPL_javacc$line_484$column_5())) {
+                currentLookaheadIndex= int43;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_424$column_5() {
+        if (remainingLookahead<=0) return true;
+        int int44= currentLookaheadIndex;
+        int remainingLookahead44= remainingLookahead;
+        if (!(check$SPL_javacc$line_424$column_5$())) {
+            currentLookaheadIndex= int44;
+            remainingLookahead= remainingLookahead44;
+            if (!(check$SPL_javacc$line_426$column_5())) {
+                currentLookaheadIndex= int44;
+                remainingLookahead= remainingLookahead44;
+                if (!(check$SPL_javacc$line_428$column_5())) {
+                    currentLookaheadIndex= int44;
+                    remainingLookahead= remainingLookahead44;
+                    if (!(check$SPL_javacc$line_430$column_5())) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_385$column_6$() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_16)) return false;
+        pushOntoLookaheadStack(20);
+        if (!check$RelationalExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_387$column_6() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_17)) return false;
+        pushOntoLookaheadStack(21);
+        if (!check$RelationalExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$MultiplicativeExpression() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(30);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int45= currentLookaheadIndex;
+            if (!(check$SPL_javacc$line_515$column_5())) {
+                currentLookaheadIndex= int45;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_484$column_5() {
+        if (remainingLookahead<=0) return true;
+        int int46= currentLookaheadIndex;
+        int remainingLookahead46= remainingLookahead;
+        if (!(check$SPL_javacc$line_484$column_5$())) {
+            currentLookaheadIndex= int46;
+            remainingLookahead= remainingLookahead46;
+            if (!(check$SPL_javacc$line_486$column_5())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_424$column_5$() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_18)) return false;
+        pushOntoLookaheadStack(23);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_426$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_19)) return false;
+        pushOntoLookaheadStack(24);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_428$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_20)) return false;
+        pushOntoLookaheadStack(25);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_430$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_21)) return false;
+        pushOntoLookaheadStack(26);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$UnaryExpression() {
+        if (remainingLookahead<=0) return true;
+        int int47= currentLookaheadIndex;
+        int remainingLookahead47= remainingLookahead;
+        if (!(check$SPL_javacc$line_555$column_3())) {
+            currentLookaheadIndex= int47;
+            remainingLookahead= remainingLookahead47;
+            if (!(check$SPL_javacc$line_557$column_3())) {
+                currentLookaheadIndex= int47;
+                remainingLookahead= remainingLookahead47;
+                if (!(check$SPL_javacc$line_559$column_3())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_515$column_5() {
+        if (remainingLookahead<=0) return true;
+        int int48= currentLookaheadIndex;
+        int remainingLookahead48= remainingLookahead;
+        if (!(check$SPL_javacc$line_515$column_5$())) {
+            currentLookaheadIndex= int48;
+            remainingLookahead= remainingLookahead48;
+            if (!(check$SPL_javacc$line_517$column_5())) {
+                currentLookaheadIndex= int48;
+                remainingLookahead= remainingLookahead48;
+                if (!(check$SPL_javacc$line_519$column_5())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_484$column_5$() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_22)) return false;
+        pushOntoLookaheadStack(28);
+        if (!check$MultiplicativeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_486$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_23)) return false;
+        pushOntoLookaheadStack(29);
+        if (!check$MultiplicativeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_555$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_27)) return false;
+        pushOntoLookaheadStack(35);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_557$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_28)) return false;
+        pushOntoLookaheadStack(36);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_559$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(37);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_515$column_5$() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_24)) return false;
+        pushOntoLookaheadStack(31);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_517$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_25)) return false;
+        pushOntoLookaheadStack(32);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_519$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_26)) return false;
+        pushOntoLookaheadStack(33);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SPL_javacc$line_232$column_3() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            pushOntoLookaheadStack(4);
+            if (!check$PrimaryExpression()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType._TOKEN_10)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    // Without DEBUG_PARSER, these are compile-time constants, so no tracing code is compiled in.
+    private static final boolean TRACE= false;
+    private static final boolean trace_enabled= false;
+    // So that the warning about setTracingEnabled(true) only comes up once
+    private static volatile boolean tracingWarningGiven;
+    /**
+  * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER),
+  * so this does nothing, apart from logging a warning (once) if tracing is asked for.
+  */
+    @Deprecated public void setTracingEnabled(boolean tracingEnabled) {
+        if (tracingEnabled&&!tracingWarningGiven) {
+            tracingWarningGiven= true;
+            LOGGER.warning("setTracingEnabled(true) does nothing, since the parser was generated without DEBUG_PARSER");
+        }
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(true)
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(false)
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+    // The parsing and lookahead stacks just hold indexes into the tables of call sites below.
+    // The NonTerminalCall objects are only created if there is an error to report.
+    private int[] parsingStack= new int[64];
+    private int parsingStackSize;
+    private int[] lookaheadStack= new int[64];
+    private int lookaheadStackSize;
+    private static final String[] CALL_SITE_PRODUCTIONS= {"CompilationUnit", "CompilationUnit", "VarDeclaration", "Expression", "Expression", "Expression", "Expression", "Assignment", "Assignment", "ConditionalOrExpression", "ConditionalOrExpression", "ConditionalAndExpression", "ConditionalAndExpression", "InclusiveOrExpression", "InclusiveOrExpression", "ExclusiveOrExpression", "ExclusiveOrExpression", "AndExpression", "AndExpression", "EqualityExpression", "EqualityExpression", "EqualityExpression", "RelationalExpression", "RelationalExpression", "RelationalExpression", "RelationalExpression", "RelationalExpression", "AdditiveExpression", "AdditiveExpression", "AdditiveExpression", "MultiplicativeExpression", "MultiplicativeExpression", "MultiplicativeExpression", "MultiplicativeExpression", "UnaryExpression", "UnaryExpression", "UnaryExpression", "UnaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "ParentheticalExpression", "Literal", "Literal", "BooleanLiteral", "Statement", "Statement", "Statement", "Statement", "Statement", "Statement", "Statement", "LabeledStatement", "Block", "StatementExpression", "IfStatement", "IfStatement", "IfStatement", "WhileStatement", "WhileStatement", "IOStatement", "IOStatement", "IOStatement"};
+    private static final String[] CALL_SITE_FILES= {"SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc", "SPL.javacc"};
+    private static final int[] CALL_SITE_LINES= {187, 189, 216, 232, 232, 233, 235, 252, 252, 259, 260, 283, 284, 307, 308, 333, 334, 359, 360, 383, 385, 387, 422, 424, 426, 428, 430, 482, 484, 486, 513, 515, 517, 519, 555, 555, 557, 559, 586, 586, 588, 590, 596, 631, 638, 654, 684, 687, 689, 691, 693, 695, 697, 704, 722, 742, 770, 770, 770, 796, 796, 803, 803, 805};
+    private static final int[] CALL_SITE_COLUMNS= {8, 8, 5, 3, 14, 3, 3, 3, 27, 3, 10, 3, 10, 3, 9, 3, 9, 3, 9, 3, 11, 11, 3, 9, 9, 10, 10, 3, 9, 9, 3, 9, 9, 9, 3, 7, 7, 3, 3, 3, 3, 3, 8, 2, 3, 3, 3, 3, 3, 3, 3, 3, 3, 20, 9, 3, 12, 29, 63, 15, 32, 4, 4, 4};
+    private EnumSet<TokenType> currentFollowSet;
+    /**
+ * Inner class that represents entering a grammar production
+ */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile= sourceFile;
+            this.productionName= productionName;
+            this.line= line;
+            this.column= column;
+        }
+
+        NonTerminalCall(int callSite) {
+            this(CALL_SITE_FILES[callSite], CALL_SITE_PRODUCTIONS[callSite], CALL_SITE_LINES[callSite], CALL_SITE_COLUMNS[callSite]);
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("SPLParser", productionName, sourceFile, line);
+        }
+
+    }
+    private final void pushOntoCallStack(int callSite) {
+        if (parsingStackSize== parsingStack.length) {
+            parsingStack= Arrays.copyOf(parsingStack, parsingStackSize*2);
+        }
+        parsingStack[parsingStackSize++]= callSite;
+    }
+
+    private final void popCallStack() {
+        parsingStackSize--;
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        if (parsingStackSize> prevSize) {
+            parsingStackSize= prevSize;
+        }
+    }
+
+    /**
+ * @return the parsing stack as a list of NonTerminalCall objects
+ */
+    List<NonTerminalCall> getCallStack() {
+        List<NonTerminalCall> result= new ArrayList<> (parsingStackSize);
+        for (int i= 0; i<parsingStackSize; i++) {
+            result.add(new NonTerminalCall(parsingStack[i]));
+        }
+        return result;
+    }
+
+    // The number of entries in the parsing stack and the lookahead stack together
+    private final int callStackDepth() {
+        return parsingStackSize+lookaheadStackSize;
+    }
+
+    // The call site of an entry in the parsing stack followed by the lookahead stack
+    private final int callStackEntry(int index) {
+        return index<parsingStackSize?parsingStack[index]:
+        lookaheadStack[index-parsingStackSize];
+    }
+
+    private final void pushOntoLookaheadStack(int callSite) {
+        if (lookaheadStackSize== lookaheadStack.length) {
+            lookaheadStack= Arrays.copyOf(lookaheadStack, lookaheadStackSize*2);
+        }
+        lookaheadStack[lookaheadStackSize++]= callSite;
+    }
+
+    private final void popLookaheadStack() {
+        lookaheadStackSize--;
+    }
+
+    private final boolean tolerantParsing= false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) throws ParseException {
+        boolean forced= false;
+        InvalidToken invalidToken= null;
+        Token oldToken= current_token;
+        current_token= current_token.getNext();
+        if (current_token== null) {
+            current_token= token_source.getNextToken();
+        }
+        if (current_token.getType()!=expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken);
+        }
+        else {
+            this.lastParsedToken= current_token;
+        }
+        if (buildTree&&tokensAreNodes) {
+            if (invalidToken!=null) {
+                pushNode(invalidToken);
+            }
+            pushNode(current_token);
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Consumed token of type "+current_token.getType()+" from "+current_token.getLocation());
+        return current_token;
+    }
+
+    private void handleUnexpectedTokenType(TokenType expectedType, boolean forced, Token oldToken) throws ParseException {
+        throw new ParseException(current_token, EnumSet.of(expectedType), getCallStack());
+    }
+
+    private class ParseState {
+        Token lastParsed;
+        NodeScope nodeScope;
+        ParseState() {
+            this.lastParsed= SPLParser.this.lastParsedToken;
+            this.nodeScope= (NodeScope) currentNodeScope.clone();
+        }
+
+    }
+    private ArrayList<ParseState> parseStateStack= new ArrayList<> ();
+    void stashParseState() {
+        parseStateStack.add(new ParseState());
+    }
+
+    ParseState popParseState() {
+        return parseStateStack.remove(parseStateStack.size()-1);
+    }
+
+    void restoreStashedParseState() {
+        ParseState state= popParseState();
+        currentNodeScope= state.nodeScope;
+        if (state.lastParsed!=null) {
+            //REVISIT
+            current_token= lastParsedToken= state.lastParsed;
+        }
+    }
+
+    private boolean buildTree= true;
+    private boolean tokensAreNodes= true;
+    private boolean unparsedTokensAreNodes= false;
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes= unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes= tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope= new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        Node root= currentNodeScope.rootNode();
+        recursivelySetInputSource(root, this.token_source.input_stream);
+        return root;
+    }
+
+    static private void recursivelySetInputSource(Node n, FileLineMap fileLineMap) {
+        n.setInputSource(fileLineMap);
+        for (Node child : n.children()) {
+            //            if (child instanceof Token) {
+            //                 ((Token) child).setImage(null);
+            //            } 
+            recursivelySetInputSource(child, fileLineMap);
+        }
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    public void openNodeScope(Node n) {
+        Token start= getToken(1);
+        n.setBeginLine(start.getBeginLine());
+        n.setBeginColumn(start.getBeginColumn());
+        n.setInputSource(token_source.input_stream);
+        new NodeScope();
+        n.open();
+        if (TRACE&&trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (TRACE&&trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (TRACE&&trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes= new ArrayList<Node> ();
+        for (int i= 0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                Token token= (Token) child;
+                Token specialToken= token;
+                while (specialToken!=null) {
+                    specialToken= specialToken.getSpecialToken();
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken= specialToken.getNext();
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n, boolean condition) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (condition) {
+            if (TRACE&&trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a= nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes= new ArrayList<Node> ();
+            while (a--> 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                    Token token= (Token) child;
+                    Token specialToken= token;
+                    while (specialToken.getSpecialToken()!=null) {
+                        specialToken= specialToken.getSpecialToken();
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken= specialToken.getNext();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree= buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    SPLParser jjtree= this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node>  {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope= SPLParser.this.currentNodeScope;
+            SPLParser.this.currentNodeScope= this;
+        }
+
+        boolean isRootScope() {
+            return parentScope== null;
+        }
+
+        Node rootNode() {
+            NodeScope ns= this;
+            while (ns.parentScope!=null) {
+                ns= ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        Node pop() {
+            return isEmpty()?parentScope.pop():
+            remove(size()-1);
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            SPLParser.this.currentNodeScope= parentScope;
+        }
+
+        int nestingLevel() {
+            int result= 0;
+            NodeScope parent= this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent= parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+}
@@ -0,0 +1,13 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for StatementExpression AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class StatementExpression extends SimpleNode {
+    public void interpret() {
+        getChild(0).interpret();
+        top--;
+        //just throw away the value.
+    }
+
+}
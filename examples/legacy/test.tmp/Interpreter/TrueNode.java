@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for TrueNode AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class TrueNode extends SimpleNode {
+    public void interpret() {
+        stack[++top]= Boolean.TRUE;
+    }
+
+}
@@ -0,0 +1,14 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for VarDeclaration AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class VarDeclaration extends SimpleNode implements SPLConstants {
+    TokenType type;
+    String name;
+    public void interpret() {
+        if (type== TokenType.BOOL) symtab.put(name, new Boolean(false));
+        else symtab.put(name, new Integer(0));
+    }
+
+}
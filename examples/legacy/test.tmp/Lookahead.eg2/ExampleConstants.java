@@ -0,0 +1,16 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ExampleConstants.java */
+/**
+ * Token literal values and constants.
+ */
+public interface ExampleConstants {
+    public enum TokenType {
+        EOF, _TOKEN_1, _TOKEN_2, _TOKEN_3, _TOKEN_4, ID, _TOKEN_6, _TOKEN_7, NEW, TBD, INVALID
+    }
+    /**
+   * Lexical States
+   */
+    public enum LexicalState {
+        DEFAULT, 
+    }
+    String[] tokenImage= {"<EOF>", "\" \"", "\"\\t\"", "\"\\n\"", "\"\\r\"", "<ID>", "\"(\"", "\")\"", "\"new\"", "\"TBD\""};
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for FROM Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package digest;
+
+@SuppressWarnings("unused")
+public class FROM extends Token {
+    public FROM(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public FROM(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for MailMessage AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package digest;
+
+@SuppressWarnings("unused")
+public class MailMessage extends BaseNode {
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for SUBJECT Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package digest;
+
+@SuppressWarnings("unused")
+public class SUBJECT extends Token {
+    public SUBJECT(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public SUBJECT(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for _EOL2 Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package digest;
+
+@SuppressWarnings("unused")
+public class _EOL2 extends Token {
+    public _EOL2(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public _EOL2(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
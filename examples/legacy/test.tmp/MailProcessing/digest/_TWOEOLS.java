@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for _TWOEOLS Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package digest;
+
+@SuppressWarnings("unused")
+public class _TWOEOLS extends Token {
+    public _TWOEOLS(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public _TWOEOLS(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for BODY Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package faq;
+
+@SuppressWarnings("unused")
+public class BODY extends Token {
+    public BODY(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public BODY(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
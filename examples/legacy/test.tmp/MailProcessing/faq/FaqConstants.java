@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FaqConstants.java */
+package faq;
+
+/**
+ * Token literal values and constants.
+ */
+public interface FaqConstants {
+    public enum TokenType {
+        EOF, EOL, TWOEOLS, NOT_EOL, _TOKEN_4, _TOKEN_5, _TWOEOLS, _TOKEN_7, _TOKEN_8, _TOKEN_9, _TOKEN_10, SUBJECT, _EOL1, FROM, _EOL2, DATE, _EOL3, BODY, END, INVALID
+    }
+    /**
+   * Lexical States
+   */
+    public enum LexicalState {
+        DEFAULT, MAILHEADER, MAILSUBJECT, MAILFROM, MAILDATE, MAILBODY, 
+    }
+    String[] tokenImage= {"<EOF>", "<EOL>", "<TWOEOLS>", "<NOT_EOL>", "<_TOKEN_4>", "<_TOKEN_5>", "<_TWOEOLS>", "\"Subject: \"", "\"From: \"", "\"Date: \"", "<_TOKEN_10>", "<SUBJECT>", "<_EOL1>", "<FROM>", "<_EOL2>", "<DATE>", "<_EOL3>", "<BODY>", "\"\\u001f\""};
+}
@@ -0,0 +1,1445 @@
+/* Generated by: JavaCC 21 Parser Generator. FaqLexer.java */
+package faq;
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+@SuppressWarnings("unused")
+public class FaqLexer implements FaqConstants {
+    private static final Logger LOGGER= Logger.getLogger("Faq");
+    // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+        input_stream.setInputSource(inputSource);
+    }
+
+    public FaqLexer(String inputSource, CharSequence chars) {
+        this(inputSource, chars, LexicalState.DEFAULT, 1, 1);
+    }
+
+    public FaqLexer(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+      * Lexes the file by mapping it into memory, see {@link FileLineMap#mapFile(java.nio.file.Path, java.nio.charset.Charset)}
+      */
+    public FaqLexer(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public FaqLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.DEFAULT, 1, 1);
+    }
+
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated public FaqLexer(Reader reader) {
+        this("input", reader);
+    }
+
+    public FaqLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+    // Tokens from the previous input refer to its FileLineMap, so that one is not recycled.
+    public void reset(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, CharSequence chars) {
+        reset(inputSource, chars, LexicalState.DEFAULT, 1, 1);
+    }
+
+    public void reset(CharSequence chars) {
+        reset("input", chars);
+    }
+
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.DEFAULT, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    FileLineMap input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    LexicalState lexicalState= LexicalState.DEFAULT;
+    boolean doLexicalStateSwitch(int tokenType) {
+        LexicalState newLexState= newLexicalStates[tokenType];
+        if (newLexState!=null) {
+            return switchTo(newLexState);
+        }
+        return false;
+    }
+
+    boolean doLexicalStateSwitch(TokenType tokenType) {
+        return doLexicalStateSwitch(tokenType.ordinal());
+    }
+
+    private static final LexicalState[] newLexicalStates= {null, null, null, null, LexicalState.MAILHEADER, null, LexicalState.MAILBODY, LexicalState.MAILSUBJECT, LexicalState.MAILFROM, LexicalState.MAILDATE, null, null, LexicalState.MAILHEADER, null, LexicalState.MAILHEADER, null, LexicalState.MAILHEADER, null, LexicalState.DEFAULT, };
+    void addToken(Token token) {
+        input_stream.addToken(token);
+    }
+
+    int tabSize= 8;
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+            this.lexicalState= lexState;
+            return true;
+        }
+        return false;
+    }
+
+    private InvalidToken invalidToken;
+    private Token pendingToken;
+    public Token getNextToken() {
+        if (pendingToken!=null) {
+            Token result= pendingToken;
+            pendingToken= null;
+            return result;
+        }
+        Token tok= null;
+        do {
+            tok= nextToken();
+        }
+        while (tok instanceof InvalidToken);
+        if (invalidToken!=null) {
+            addToken(invalidToken);
+            invalidToken.setNext(tok);
+            Token it= invalidToken;
+            pendingToken= tok;
+            this.invalidToken= null;
+            return it;
+        }
+        addToken(tok);
+        return tok;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t) {
+        input_stream.goTo(t.getEndLine(), t.getEndColumn());
+        input_stream.forward(1);
+    }
+
+    FileLineMap getFileLineMap() {
+        return input_stream;
+    }
+
+    private boolean[] jjbeenHere= new boolean[6];
+    private int jjnewStateCnt;
+    private int jjround;
+    private int jjmatchedPos;
+    //FIXME,should be an enum.
+    private int jjmatchedKind;
+    private String inputSource= "input";
+    // BitSet for TOKEN
+    static private BitSet tokenSet= BitSet.valueOf(new long[]{436225L, });
+    private final int[] jjrounds= new int[19];
+    private final int[] jjstateSet= new int[38];
+    private final StringBuilder image= new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+        int i;
+        jjround= 0x80000001;
+        for (i= 19; i--> 0; ) jjrounds[i]= 0x80000000;
+    }
+
+    // Clears what is left over from the previous input, when the lexer is reset.
+    // The jjrounds array does not need clearing, since jjround only ever moves on.
+    private void resetState(String inputSource, LexicalState lexState) {
+        this.inputSource= inputSource;
+        invalidToken= null;
+        pendingToken= null;
+        Arrays.fill(jjbeenHere, false);
+        jjmatchedKind= jjmatchedPos= jjnewStateCnt= 0;
+        curChar= 0;
+        image.setLength(0);
+        matchedCharsLength= 0;
+        switchTo(lexState);
+    }
+
+    private Token nextToken() {
+        Token specialToken= null;
+        Token matchedToken;
+        int curPos= 0;
+        EOFLoop:
+        while (true) {
+            int retval1= input_stream.beginToken();
+            curChar= (char)(retval1);
+            if (retval1== -1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind= 0;
+                Token eof= jjFillToken();
+                tokenLexicalActions();
+                eof.setSpecialToken(specialToken);
+                addToken(eof);
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength= 0;
+            switch(lexicalState) {
+                case DEFAULT:
+                jjmatchedKind= 0x7FFFFFFF;
+                jjmatchedPos= 0;
+                if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                curPos= jjMoveStringLiteralDfa0();
+                break;
+                case MAILHEADER:
+                jjmatchedKind= 0x7FFFFFFF;
+                jjmatchedPos= 0;
+                if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                curPos= jjMoveStringLiteralDfa0_MAILHEADER();
+                break;
+                case MAILSUBJECT:
+                jjmatchedKind= 0x7FFFFFFF;
+                jjmatchedPos= 0;
+                if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                curPos= jjMoveStringLiteralDfa0_MAILSUBJECT();
+                break;
+                case MAILFROM:
+                jjmatchedKind= 0x7FFFFFFF;
+                jjmatchedPos= 0;
+                if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                curPos= jjMoveStringLiteralDfa0_MAILFROM();
+                break;
+                case MAILDATE:
+                jjmatchedKind= 0x7FFFFFFF;
+                jjmatchedPos= 0;
+                if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                curPos= jjMoveStringLiteralDfa0_MAILDATE();
+                break;
+                case MAILBODY:
+                jjmatchedKind= 0x7FFFFFFF;
+                jjmatchedPos= 0;
+                if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                curPos= jjMoveStringLiteralDfa0_MAILBODY();
+                break;
+            }
+            if (jjmatchedKind!=0x7FFFFFFF) {
+                if (jjmatchedPos+1<curPos) {
+                    if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                    input_stream.backup(curPos-jjmatchedPos-1);
+                }
+                if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                if (tokenSet.get(jjmatchedKind)) {
+                    matchedToken= jjFillToken();
+                    tokenLexicalActions();
+                    jjmatchedKind= matchedToken.getType().ordinal();
+                    if (newLexicalStates[jjmatchedKind]!=null) {
+                        switchTo(newLexicalStates[jjmatchedKind]);
+                    }
+                    addToken(matchedToken);
+                    return matchedToken;
+                }
+                else {
+                    if (newLexicalStates[jjmatchedKind]!=null) {
+                        this.lexicalState= newLexicalStates[jjmatchedKind];
+                    }
+                    continue EOFLoop;
+                }
+            }
+            int error_line= input_stream.getEndLine();
+            int error_column= input_stream.getEndColumn();
+            String error_after= null;
+            error_after= curPos<=1?"":
+            input_stream.getImage();
+            if (invalidToken== null) {
+                invalidToken= new InvalidToken(""+curChar, input_stream);
+                invalidToken.setBeginLine(error_line);
+                invalidToken.setBeginColumn(error_column);
+            }
+            else {
+                invalidToken.setImage(invalidToken.getImage()+curChar);
+            }
+            invalidToken.setEndLine(error_line);
+            invalidToken.setEndColumn(error_column);
+            return invalidToken;
+        }
+    }
+
+    private void tokenLexicalActions() {
+        switch(jjmatchedKind) {
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage= input_stream.getImage();
+        beginLine= input_stream.getBeginLine();
+        beginColumn= input_stream.getBeginColumn();
+        endLine= input_stream.getEndLine();
+        endColumn= input_stream.getEndColumn();
+        t= Token.newToken(TokenType.values()[jjmatchedKind], curTokenImage, this);
+        t.setBeginLine(beginLine);
+        t.setEndLine(endLine);
+        t.setBeginColumn(beginColumn);
+        t.setEndColumn(endColumn);
+        //        t.setInputSource(this.inputSource);
+        t.setLexicalState(lexicalState);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state]!=jjround) {
+            jjstateSet[jjnewStateCnt++]= state;
+            jjrounds[state]= jjround;
+        }
+    }
+
+    private void jjAddStates(int start, int end) {
+        do {
+            jjstateSet[jjnewStateCnt++]= jjnextStates[start];
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start+1]);
+    }
+
+    private int jjStopAtPos(int pos, int kind) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    private int jjStartNfaWithStates(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<DEFAULT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0() {
+        return jjMoveNfa(16, 0);
+    }
+
+    private int jjMoveNfa(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 19;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 16:
+                         {
+                            if (kind> 5) kind= 5;
+                        }
+                        if ((0x2400L&l)!=0L) jjstateSet[jjnewStateCnt++]= 15;
+                        if (curChar== 13) jjstateSet[jjnewStateCnt++]= 0;
+                        break;
+                        case 0:
+                        if (curChar== 10) jjstateSet[jjnewStateCnt++]= 15;
+                        break;
+                        case 1:
+                        if (curChar== 42) jjAddStates(0, 1);
+                        break;
+                        case 2:
+                        if (curChar== 10&&kind> 4) kind= 4;
+                        break;
+                        case 3:
+                        if (curChar== 13) jjstateSet[jjnewStateCnt++]= 2;
+                        break;
+                        case 4:
+                        if ((0x2400L&l)!=0L&&kind> 4) kind= 4;
+                        break;
+                        case 5:
+                        if (curChar== 42) jjstateSet[jjnewStateCnt++]= 1;
+                        break;
+                        case 6:
+                        if (curChar== 42) jjstateSet[jjnewStateCnt++]= 5;
+                        break;
+                        case 7:
+                        if (curChar== 32) jjstateSet[jjnewStateCnt++]= 6;
+                        break;
+                        case 12:
+                        if (curChar== 32) jjstateSet[jjnewStateCnt++]= 11;
+                        break;
+                        case 13:
+                        if (curChar== 42) jjstateSet[jjnewStateCnt++]= 12;
+                        break;
+                        case 14:
+                        if (curChar== 42) jjstateSet[jjnewStateCnt++]= 13;
+                        break;
+                        case 15:
+                        if (curChar== 42) jjstateSet[jjnewStateCnt++]= 14;
+                        break;
+                        case 17:
+                        if ((0x2400L&l)!=0L) jjCheckNAdd(15);
+                        break;
+                        case 18:
+                        if (kind> 5) kind= 5;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 16:
+                        if (kind> 5) kind= 5;
+                        break;
+                        case 8:
+                        if (curChar== 72) jjstateSet[jjnewStateCnt++]= 7;
+                        break;
+                        case 9:
+                        if (curChar== 79) jjstateSet[jjnewStateCnt++]= 8;
+                        break;
+                        case 10:
+                        if (curChar== 79) jjstateSet[jjnewStateCnt++]= 9;
+                        break;
+                        case 11:
+                        if (curChar== 69) jjstateSet[jjnewStateCnt++]= 10;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses[jjCharClassOffsets[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 16:
+                        if ((0x2L&l)!=0L&&kind> 5) kind= 5;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 19-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses= jjUnpack(512, "@\002\001@\006\002");
+    private int jjStartNfa_MAILHEADER(int pos, long active0) {
+        return jjMoveNfa_MAILHEADER(jjStopStringLiteralDfa_MAILHEADER(pos, active0), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_MAILHEADER(int pos, long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0x380L)!=0L) {
+                jjmatchedKind= 10;
+                return-1;
+            }
+            return-1;
+            case 1:
+            if ((active0&0x380L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 10;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            case 2:
+            if ((active0&0x380L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 10;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            case 3:
+            if ((active0&0x380L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 10;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            case 4:
+            if ((active0&0x380L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 10;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            case 5:
+            if ((active0&0x380L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 10;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            case 6:
+            if ((active0&0x80L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 10;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            case 7:
+            if ((active0&0x80L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 10;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            case 8:
+            if ((active0&0x80L)!=0L) {
+                if (jjmatchedPos== 0) {
+                    jjmatchedKind= 10;
+                    jjmatchedPos= 0;
+                }
+                return-1;
+            }
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_MAILHEADER(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILHEADER>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_MAILHEADER(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_MAILHEADER() {
+        switch(curChar) {
+            case 68:
+            return jjMoveStringLiteralDfa1_MAILHEADER(0x200L);
+            case 70:
+            return jjMoveStringLiteralDfa1_MAILHEADER(0x100L);
+            case 83:
+            return jjMoveStringLiteralDfa1_MAILHEADER(0x80L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_MAILHEADER(0, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_MAILHEADER(long active0) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_MAILHEADER(0, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILHEADER>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa2_MAILHEADER(active0, 0x200L);
+            case 114:
+            return jjMoveStringLiteralDfa2_MAILHEADER(active0, 0x100L);
+            case 117:
+            return jjMoveStringLiteralDfa2_MAILHEADER(active0, 0x80L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_MAILHEADER(0, active0);
+    }
+
+    private int jjMoveStringLiteralDfa2_MAILHEADER(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_MAILHEADER(0, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_MAILHEADER(1, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILHEADER>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 98:
+            return jjMoveStringLiteralDfa3_MAILHEADER(active0, 0x80L);
+            case 111:
+            return jjMoveStringLiteralDfa3_MAILHEADER(active0, 0x100L);
+            case 116:
+            return jjMoveStringLiteralDfa3_MAILHEADER(active0, 0x200L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_MAILHEADER(1, active0);
+    }
+
+    private int jjMoveStringLiteralDfa3_MAILHEADER(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_MAILHEADER(1, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_MAILHEADER(2, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 3;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILHEADER>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            return jjMoveStringLiteralDfa4_MAILHEADER(active0, 0x200L);
+            case 106:
+            return jjMoveStringLiteralDfa4_MAILHEADER(active0, 0x80L);
+            case 109:
+            return jjMoveStringLiteralDfa4_MAILHEADER(active0, 0x100L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_MAILHEADER(2, active0);
+    }
+
+    private int jjMoveStringLiteralDfa4_MAILHEADER(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_MAILHEADER(2, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_MAILHEADER(3, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 4;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILHEADER>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 58:
+            return jjMoveStringLiteralDfa5_MAILHEADER(active0, 0x300L);
+            case 101:
+            return jjMoveStringLiteralDfa5_MAILHEADER(active0, 0x80L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_MAILHEADER(3, active0);
+    }
+
+    private int jjMoveStringLiteralDfa5_MAILHEADER(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_MAILHEADER(3, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_MAILHEADER(4, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 5;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILHEADER>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 32:
+            if ((active0&0x100L)!=0L) return jjStopAtPos(5, 8);
+            else if ((active0&0x200L)!=0L) return jjStopAtPos(5, 9);
+            break;
+            case 99:
+            return jjMoveStringLiteralDfa6_MAILHEADER(active0, 0x80L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_MAILHEADER(4, active0);
+    }
+
+    private int jjMoveStringLiteralDfa6_MAILHEADER(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_MAILHEADER(4, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_MAILHEADER(5, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 6;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILHEADER>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 116:
+            return jjMoveStringLiteralDfa7_MAILHEADER(active0, 0x80L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_MAILHEADER(5, active0);
+    }
+
+    private int jjMoveStringLiteralDfa7_MAILHEADER(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_MAILHEADER(5, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_MAILHEADER(6, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 7;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILHEADER>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 58:
+            return jjMoveStringLiteralDfa8_MAILHEADER(active0, 0x80L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_MAILHEADER(6, active0);
+    }
+
+    private int jjMoveStringLiteralDfa8_MAILHEADER(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_MAILHEADER(6, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_MAILHEADER(7, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 8;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILHEADER>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 32:
+            if ((active0&0x80L)!=0L) return jjStopAtPos(8, 7);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_MAILHEADER(7, active0);
+    }
+
+    private int jjMoveNfa_MAILHEADER(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 9;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                         {
+                            if (kind> 10) kind= 10;
+                        }
+                        if (curChar== 13) jjAddStates(2, 3);
+                        else if (curChar== 10) jjAddStates(4, 5);
+                        break;
+                        case 1:
+                        case 8:
+                        if (curChar== 10&&kind> 6) kind= 6;
+                        break;
+                        case 2:
+                        if (curChar== 13) jjstateSet[jjnewStateCnt++]= 1;
+                        break;
+                        case 3:
+                        if ((0x2400L&l)!=0L&&kind> 6) kind= 6;
+                        break;
+                        case 4:
+                        if (kind> 10) kind= 10;
+                        break;
+                        case 5:
+                        if (curChar== 13) jjCheckNAddTwoStates(6, 7);
+                        break;
+                        case 6:
+                        if (curChar== 10) jjAddStates(4, 5);
+                        break;
+                        case 7:
+                        if (curChar== 13) jjstateSet[jjnewStateCnt++]= 8;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        kind= 10;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_MAILHEADER[jjCharClassOffsets_MAILHEADER[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if ((0x2L&l)!=0L&&kind> 10) kind= 10;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 9-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_MAILHEADER= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_MAILHEADER= jjUnpack(512, "@\002\001@\006\002");
+    private int jjStartNfaWithStates_MAILSUBJECT(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILSUBJECT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_MAILSUBJECT(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_MAILSUBJECT() {
+        return jjMoveNfa_MAILSUBJECT(2, 0);
+    }
+
+    private int jjMoveNfa_MAILSUBJECT(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 4;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        if ((0xffffffffffffdbffL&l)!=0L) {
+                            if (kind> 11) kind= 11;
+                            jjCheckNAdd(0);
+                        }
+                        else if ((0x2400L&l)!=0L) {
+                            if (kind> 12) kind= 12;
+                        }
+                        if (curChar== 13) jjstateSet[jjnewStateCnt++]= 1;
+                        break;
+                        case 0:
+                        if ((0xffffffffffffdbffL&l)== 0L) break;
+                        kind= 11;
+                        jjCheckNAdd(0);
+                        break;
+                        case 1:
+                        if (curChar== 10&&kind> 12) kind= 12;
+                        break;
+                        case 3:
+                        if ((0x2400L&l)!=0L&&kind> 12) kind= 12;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        case 0:
+                        kind= 11;
+                        jjCheckNAdd(0);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_MAILSUBJECT[jjCharClassOffsets_MAILSUBJECT[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        case 0:
+                        if ((0x2L&l)== 0L) break;
+                        if (kind> 11) kind= 11;
+                        jjCheckNAdd(0);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 4-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_MAILSUBJECT= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_MAILSUBJECT= jjUnpack(512, "@\002\001@\006\002");
+    private int jjStartNfaWithStates_MAILFROM(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILFROM>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_MAILFROM(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_MAILFROM() {
+        return jjMoveNfa_MAILFROM(2, 0);
+    }
+
+    private int jjMoveNfa_MAILFROM(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 4;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        if ((0xffffffffffffdbffL&l)!=0L) {
+                            if (kind> 13) kind= 13;
+                            jjCheckNAdd(0);
+                        }
+                        else if ((0x2400L&l)!=0L) {
+                            if (kind> 14) kind= 14;
+                        }
+                        if (curChar== 13) jjstateSet[jjnewStateCnt++]= 1;
+                        break;
+                        case 0:
+                        if ((0xffffffffffffdbffL&l)== 0L) break;
+                        kind= 13;
+                        jjCheckNAdd(0);
+                        break;
+                        case 1:
+                        if (curChar== 10&&kind> 14) kind= 14;
+                        break;
+                        case 3:
+                        if ((0x2400L&l)!=0L&&kind> 14) kind= 14;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        case 0:
+                        kind= 13;
+                        jjCheckNAdd(0);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_MAILFROM[jjCharClassOffsets_MAILFROM[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        case 0:
+                        if ((0x2L&l)== 0L) break;
+                        if (kind> 13) kind= 13;
+                        jjCheckNAdd(0);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 4-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_MAILFROM= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_MAILFROM= jjUnpack(512, "@\002\001@\006\002");
+    private int jjStartNfaWithStates_MAILDATE(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILDATE>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_MAILDATE(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_MAILDATE() {
+        return jjMoveNfa_MAILDATE(2, 0);
+    }
+
+    private int jjMoveNfa_MAILDATE(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 4;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        if ((0xffffffffffffdbffL&l)!=0L) {
+                            if (kind> 15) kind= 15;
+                            jjCheckNAdd(0);
+                        }
+                        else if ((0x2400L&l)!=0L) {
+                            if (kind> 16) kind= 16;
+                        }
+                        if (curChar== 13) jjstateSet[jjnewStateCnt++]= 1;
+                        break;
+                        case 0:
+                        if ((0xffffffffffffdbffL&l)== 0L) break;
+                        kind= 15;
+                        jjCheckNAdd(0);
+                        break;
+                        case 1:
+                        if (curChar== 10&&kind> 16) kind= 16;
+                        break;
+                        case 3:
+                        if ((0x2400L&l)!=0L&&kind> 16) kind= 16;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        case 0:
+                        kind= 15;
+                        jjCheckNAdd(0);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_MAILDATE[jjCharClassOffsets_MAILDATE[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        case 0:
+                        if ((0x2L&l)== 0L) break;
+                        if (kind> 15) kind= 15;
+                        jjCheckNAdd(0);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 4-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_MAILDATE= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_MAILDATE= jjUnpack(512, "@\002\001@\006\002");
+    private int jjStartNfa_MAILBODY(int pos, long active0) {
+        return jjMoveNfa_MAILBODY(jjStopStringLiteralDfa_MAILBODY(pos, active0), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_MAILBODY(int pos, long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_MAILBODY(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<MAILBODY>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_MAILBODY(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_MAILBODY() {
+        switch(curChar) {
+            case 31:
+            return jjStopAtPos(0, 18);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_MAILBODY(4, 0);
+        }
+    }
+
+    private int jjMoveNfa_MAILBODY(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 4;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 4:
+                        if ((0xffffffff7fffdbffL&l)!=0L) jjCheckNAddStates(6, 8);
+                        else if ((0x2400L&l)!=0L) {
+                            if (kind> 17) kind= 17;
+                        }
+                        if (curChar== 13) jjstateSet[jjnewStateCnt++]= 1;
+                        break;
+                        case 0:
+                        if ((0xffffffff7fffdbffL&l)!=0L) jjCheckNAddStates(6, 8);
+                        break;
+                        case 1:
+                        if (curChar== 10&&kind> 17) kind= 17;
+                        break;
+                        case 2:
+                        if (curChar== 13) jjCheckNAdd(1);
+                        break;
+                        case 3:
+                        if ((0x2400L&l)!=0L&&kind> 17) kind= 17;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 4:
+                        case 0:
+                        jjCheckNAddStates(6, 8);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_MAILBODY[jjCharClassOffsets_MAILBODY[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 4:
+                        case 0:
+                        if ((0x2L&l)!=0L) jjCheckNAddStates(6, 8);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 4-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_MAILBODY= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_MAILBODY= jjUnpack(512, "@\002\001@\006\002");
+    private static int[] jjUnpack(int size, String...packed) {
+        int[] result= new int[size];
+        int index= 0;
+        for (String s : packed) {
+            int i= 0;
+            while (i<s.length()) {
+                int count= 0, value= 0, shift= 0, c;
+                do {
+                    c= s.charAt(i++);
+                    count|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                shift= 0;
+                do {
+                    c= s.charAt(i++);
+                    value|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                Arrays.fill(result, index, index+count, value-1);
+                index+=count;
+            }
+        }
+        return result;
+    }
+
+    private static final int[] jjnextStates= {3, 4, 6, 7, 2, 3, 0, 2, 3};
+}
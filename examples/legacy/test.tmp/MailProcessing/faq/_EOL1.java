@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for _EOL1 Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package faq;
+
+@SuppressWarnings("unused")
+public class _EOL1 extends Token {
+    public _EOL1(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public _EOL1(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,15 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for INTEGER_LITERAL Token subclass
+  * by the ASTToken.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class INTEGER_LITERAL extends Token {
+    public INTEGER_LITERAL(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public INTEGER_LITERAL(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,16 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Eg2Constants.java */
+/**
+ * Token literal values and constants.
+ */
+public interface Eg2Constants {
+    public enum TokenType {
+        EOF, _TOKEN_1, _TOKEN_2, _TOKEN_3, _TOKEN_4, _TOKEN_5, _TOKEN_6, INTEGER_LITERAL, DECIMAL_LITERAL, HEX_LITERAL, OCTAL_LITERAL, IDENTIFIER, LETTER, DIGIT, _TOKEN_14, _TOKEN_15, _TOKEN_16, _TOKEN_17, _TOKEN_18, _TOKEN_19, _TOKEN_20, _TOKEN_21, INVALID
+    }
+    /**
+   * Lexical States
+   */
+    public enum LexicalState {
+        DEFAULT, 
+    }
+    String[] tokenImage= {"<EOF>", "\" \"", "\"\\t\"", "\"\\n\"", "\"\\r\"", "<_TOKEN_5>", "<_TOKEN_6>", "<INTEGER_LITERAL>", "<DECIMAL_LITERAL>", "<HEX_LITERAL>", "<OCTAL_LITERAL>", "<IDENTIFIER>", "<LETTER>", "<DIGIT>", "\";\"", "\"+\"", "\"-\"", "\"*\"", "\"/\"", "\"%\"", "\"(\"", "\")\"", };
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Add AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class Add extends BaseNode {
+    public Object jjtAccept(Eg4Visitor visitor, Object data) {
+        return visitor.visit(this, data);
+    }
+
+}
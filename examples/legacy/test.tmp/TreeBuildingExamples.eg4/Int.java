@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Int AST Node type
+  * by the ASTNode.java.ftl template
+  */
+@SuppressWarnings("unused")
+public class Int extends BaseNode {
+    public Object jjtAccept(Eg4Visitor visitor, Object data) {
+        return visitor.visit(this, data);
+    }
+
+}
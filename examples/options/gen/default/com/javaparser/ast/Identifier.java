@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Identifier Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+import com.javaparser.JavaConstants.TokenType;
+@SuppressWarnings("unused")
+public class Identifier extends Token {
+    public Identifier(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public Identifier(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Name AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+@SuppressWarnings("unused")
+public class Name extends BaseNode {
+    public String toString() {
+        StringBuilder buf= new StringBuilder();
+        for (Token tok : Nodes.getRealTokens(this)) {
+            buf.append(tok);
+        }
+        return buf.toString();
+    }
+
+}
@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for END_USER_DIRECTIVE Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class END_USER_DIRECTIVE extends Token {
+    public END_USER_DIRECTIVE(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public END_USER_DIRECTIVE(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public END_USER_DIRECTIVE(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
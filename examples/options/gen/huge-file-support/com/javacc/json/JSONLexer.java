@@ -0,0 +1,860 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONLexer.java */
+package com.javacc.json;
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+@SuppressWarnings("unused")
+public class JSONLexer implements JSONConstants {
+    private static final Logger LOGGER= Logger.getLogger("JSONParser");
+    // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+    }
+
+    public JSONLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.JSON, 1, 1);
+    }
+
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated public JSONLexer(Reader reader) {
+        this("input", reader);
+    }
+
+    public JSONLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new TokenBuilder(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream.reset(reader, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.JSON, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    TokenBuilder input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    LexicalState lexicalState= LexicalState.JSON;
+    void addToken(Token token) {
+    }
+
+    int tabSize= 8;
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+            this.lexicalState= lexState;
+            return true;
+        }
+        return false;
+    }
+
+    private InvalidToken invalidToken;
+    private Token pendingToken;
+    public Token getNextToken() {
+        if (pendingToken!=null) {
+            Token result= pendingToken;
+            pendingToken= null;
+            return result;
+        }
+        Token tok= null;
+        do {
+            tok= nextToken();
+        }
+        while (tok instanceof InvalidToken);
+        if (invalidToken!=null) {
+            addToken(invalidToken);
+            invalidToken.setNext(tok);
+            Token it= invalidToken;
+            pendingToken= tok;
+            this.invalidToken= null;
+            return it;
+        }
+        addToken(tok);
+        return tok;
+    }
+
+    private class TokenBuilder {
+        private int tokenBegin;
+        private int bufpos= -1;
+        private int backupAmount;
+        private Reader reader;
+        private StringBuilder pushBackBuffer= new StringBuilder();
+        private int column, line;
+        private boolean prevCharIsCR, prevCharIsLF, prevCharIsTAB;
+        private char lookaheadBuffer[]= new char[8192];
+        // Maybe this should be adjustable but 8K should be fine. Maybe revisit...
+        private int lookaheadIndex, charsReadLast;
+        TokenBuilder(Reader reader, int startline, int startcolumn) {
+            this.reader= reader;
+            line= startline;
+            column= startcolumn-1;
+        }
+
+        TokenBuilder(String inputStream, Reader reader, int startline, int startcolumn) {
+            this(reader, startline, startcolumn);
+        }
+
+        TokenBuilder(Reader reader) {
+            this(reader, 1, 1);
+        }
+
+        // Start over on a new Reader, keeping the buffers that have
+        // already been allocated.
+        void reset(Reader reader, int startline, int startcolumn) {
+            this.reader= reader;
+            line= startline;
+            column= startcolumn-1;
+            tokenBegin= backupAmount= 0;
+            bufpos= -1;
+            pushBackBuffer.setLength(0);
+            prevCharIsCR= prevCharIsLF= prevCharIsTAB= false;
+            lookaheadIndex= charsReadLast= 0;
+        }
+
+        public void backup(int amount) {
+            backupAmount+=amount;
+            bufpos-=amount;
+            if (bufpos<0) {
+                throw new RuntimeException("Should never get here, I don't think!");
+            }
+        }
+
+        public String getImage() {
+            StringBuilder buf= new StringBuilder();
+            for (int i= tokenBegin; i<=bufpos; i++) {
+                buf.append(getCharAt(i));
+            }
+            return buf.toString();
+        }
+
+        String getSuffix(final int len) {
+            StringBuilder buf= new StringBuilder();
+            int startPos= bufpos-len+1;
+            for (int i= 0; i<len; i++) {
+                buf.append(getCharAt(startPos+i));
+            }
+            return buf.toString();
+        }
+
+        int readChar() {
+            ++bufpos;
+            if (backupAmount> 0) {
+                --backupAmount;
+                return getCharAt(bufpos);
+            }
+            int ch= read();
+            if (ch<0) {
+                if (bufpos> 0)--bufpos;
+            }
+            return ch;
+        }
+
+        int beginToken() {
+            if (backupAmount> 0) {
+                // Move the characters that were backed up over to the start of the buffer.
+                // That way, the buffer never has to be bigger than the longest token
+                // plus whatever the lexer reads ahead, however long the input is.
+                System.arraycopy(locationInfoBuffer, (bufpos+1)*3, locationInfoBuffer, 0, backupAmount*3);
+                --backupAmount;
+                bufpos= 0;
+                tokenBegin= 0;
+                return getCharAt(0);
+            }
+            tokenBegin= 0;
+            bufpos= -1;
+            int ch= readChar();
+            if (ch<0) {
+                setEOFLocation();
+            }
+            return ch;
+        }
+
+        // The EOF token has an empty image, and goes just after the last character,
+        // where it does when the lexer has the whole input, rather than wherever
+        // the buffer slots it would otherwise be taken from happen to say.
+        // Slot 1 has where it begins and slot 0 where it ends, so that getImage() is empty.
+        private void setEOFLocation() {
+            int beginLine= line, beginColumn= column+1;
+            if (prevCharIsLF||prevCharIsCR) {
+                ++beginLine;
+                beginColumn= 1;
+            }
+            else if (prevCharIsTAB) {
+                beginColumn= column+tabSize-(column%tabSize);
+            }
+            setLocationInfo(1, 0, beginLine, beginColumn);
+            setLocationInfo(0, 0, beginLine, Math.max(1, beginColumn-1));
+            tokenBegin= 1;
+            bufpos= 0;
+        }
+
+        int getBeginColumn() {
+            return getColumn(tokenBegin);
+        }
+
+        int getBeginLine() {
+            return getLine(tokenBegin);
+        }
+
+        int getEndColumn() {
+            return getColumn(bufpos);
+        }
+
+        int getEndLine() {
+            return getLine(bufpos);
+        }
+
+        private int nextChar() {
+            if (lookaheadIndex<charsReadLast) {
+                return lookaheadBuffer[lookaheadIndex++];
+            }
+            if (charsReadLast<0) {
+                return-1;
+            }
+            try {
+                // A short read does not mean we are at the end of the input,
+                // (the reader could be reading from a socket, say) so we keep
+                // going until the reader tells us that there is nothing left.
+                do {
+                    charsReadLast= reader.read(lookaheadBuffer, 0, 8192);
+                }
+                while (charsReadLast== 0);
+                if (charsReadLast<0) {
+                    return-1;
+                }
+            }
+            catch(IOException ioe) {
+                return-1;
+                // Maybe handle this. REVISIT
+            }
+            lookaheadIndex= 0;
+            return lookaheadBuffer[lookaheadIndex++];
+        }
+
+        private int read() {
+            int ch;
+            int pushBack= pushBackBuffer.length();
+            if (pushBack> 0) {
+                ch= pushBackBuffer.charAt(0);
+                pushBackBuffer.deleteCharAt(0);
+                updateLineColumn(ch);
+                return ch;
+            }
+            ch= nextChar();
+            if (ch<0) {
+                return ch;
+            }
+            int tabsToSpaces= 8;
+            if (ch== '\t') {
+                ch= ' ';
+                // The column field is still where the last character was, so the
+                // tab goes that many characters into its line, unless that was a line end.
+                int tabColumn= (prevCharIsLF||prevCharIsCR)?0:
+                column;
+                int spacesToAdd= tabsToSpaces-(tabColumn%tabsToSpaces)-1;
+                for (int i= 0; i<spacesToAdd; i++) {
+                    pushBackBuffer.append((char)' ');
+                }
+            }
+            updateLineColumn(ch);
+            return ch;
+        }
+
+        private void updateLineColumn(int c) {
+            column++;
+            if (prevCharIsLF||(prevCharIsCR&&c!='\n')) {
+                ++line;
+                column= 1;
+            }
+            else if (prevCharIsTAB) {
+                column--;
+                column+=(tabSize-(column%tabSize));
+            }
+            prevCharIsCR= (c== '\r');
+            prevCharIsLF= (c== '\n');
+            prevCharIsTAB= (c== '\t');
+            setLocationInfo(bufpos, c, line, column);
+        }
+
+        private int[] locationInfoBuffer= new int[3072];
+        private int getLine(int pos) {
+            return locationInfoBuffer[pos*3+1];
+        }
+
+        private int getColumn(int pos) {
+            return locationInfoBuffer[pos*3+2];
+        }
+
+        private char getCharAt(int pos) {
+            return(char) locationInfoBuffer[pos*3];
+        }
+
+        private void setLocationInfo(int pos, int ch, int line, int column) {
+            pos*=3;
+            if (pos>=locationInfoBuffer.length) {
+                expandBuff();
+            }
+            locationInfoBuffer[pos++]= ch;
+            locationInfoBuffer[pos++]= line;
+            locationInfoBuffer[pos++]= column;
+        }
+
+        private void expandBuff() {
+            int[] newBuf= new int[locationInfoBuffer.length*2];
+            System.arraycopy(locationInfoBuffer, 0, newBuf, 0, locationInfoBuffer.length);
+            locationInfoBuffer= newBuf;
+        }
+
+    }
+    private boolean[] jjbeenHere= new boolean[1];
+    private int jjnewStateCnt;
+    private int jjround;
+    private int jjmatchedPos;
+    //FIXME,should be an enum.
+    private int jjmatchedKind;
+    private String inputSource= "input";
+    // BitSet for TOKEN
+    static private BitSet tokenSet= BitSet.valueOf(new long[]{542717L, });
+    private final int[] jjrounds= new int[21];
+    private final int[] jjstateSet= new int[42];
+    private final StringBuilder image= new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+        int i;
+        jjround= 0x80000001;
+        for (i= 21; i--> 0; ) jjrounds[i]= 0x80000000;
+    }
+
+    // Clears what is left over from the previous input, when the lexer is reset.
+    // The jjrounds array does not need clearing, since jjround only ever moves on.
+    private void resetState(String inputSource, LexicalState lexState) {
+        this.inputSource= inputSource;
+        invalidToken= null;
+        pendingToken= null;
+        Arrays.fill(jjbeenHere, false);
+        jjmatchedKind= jjmatchedPos= jjnewStateCnt= 0;
+        curChar= 0;
+        image.setLength(0);
+        matchedCharsLength= 0;
+        switchTo(lexState);
+    }
+
+    private Token nextToken() {
+        Token specialToken= null;
+        Token matchedToken;
+        int curPos= 0;
+        EOFLoop:
+        while (true) {
+            int retval1= input_stream.beginToken();
+            curChar= (char)(retval1);
+            if (retval1== -1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind= 0;
+                Token eof= jjFillToken();
+                tokenLexicalActions();
+                eof.setSpecialToken(specialToken);
+                addToken(eof);
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength= 0;
+            jjmatchedKind= 0x7FFFFFFF;
+            jjmatchedPos= 0;
+            if (trace_enabled) LOGGER.info("Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+            curPos= jjMoveStringLiteralDfa0_JSON();
+            if (jjmatchedKind!=0x7FFFFFFF) {
+                if (jjmatchedPos+1<curPos) {
+                    if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                    input_stream.backup(curPos-jjmatchedPos-1);
+                }
+                if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                if (tokenSet.get(jjmatchedKind)) {
+                    matchedToken= jjFillToken();
+                    tokenLexicalActions();
+                    jjmatchedKind= matchedToken.getType().ordinal();
+                    addToken(matchedToken);
+                    return matchedToken;
+                }
+                else {
+                    continue EOFLoop;
+                }
+            }
+            int error_line= input_stream.getEndLine();
+            int error_column= input_stream.getEndColumn();
+            String error_after= null;
+            error_after= curPos<=1?"":
+            input_stream.getImage();
+            if (invalidToken== null) {
+                invalidToken= new InvalidToken(""+curChar, inputSource);
+                invalidToken.setBeginLine(error_line);
+                invalidToken.setBeginColumn(error_column);
+            }
+            else {
+                invalidToken.setImage(invalidToken.getImage()+curChar);
+            }
+            invalidToken.setEndLine(error_line);
+            invalidToken.setEndColumn(error_column);
+            return invalidToken;
+        }
+    }
+
+    private void tokenLexicalActions() {
+        switch(jjmatchedKind) {
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage= input_stream.getImage();
+        beginLine= input_stream.getBeginLine();
+        beginColumn= input_stream.getBeginColumn();
+        endLine= input_stream.getEndLine();
+        endColumn= input_stream.getEndColumn();
+        t= Token.newToken(TokenType.values()[jjmatchedKind], curTokenImage, inputSource);
+        t.setBeginLine(beginLine);
+        t.setEndLine(endLine);
+        t.setBeginColumn(beginColumn);
+        t.setEndColumn(endColumn);
+        //        t.setInputSource(this.inputSource);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state]!=jjround) {
+            jjstateSet[jjnewStateCnt++]= state;
+            jjrounds[state]= jjround;
+        }
+    }
+
+    private void jjAddStates(int start, int end) {
+        do {
+            jjstateSet[jjnewStateCnt++]= jjnextStates[start];
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start+1]);
+    }
+
+    private int jjStopAtPos(int pos, int kind) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    private int jjStartNfa_JSON(int pos, long active0) {
+        return jjMoveNfa_JSON(jjStopStringLiteralDfa_JSON(pos, active0), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_JSON(int pos, long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_JSON(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_JSON(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_JSON() {
+        switch(curChar) {
+            case 44:
+            return jjStopAtPos(0, 3);
+            case 58:
+            return jjStopAtPos(0, 2);
+            case 91:
+            return jjStopAtPos(0, 4);
+            case 93:
+            return jjStopAtPos(0, 5);
+            case 102:
+            return jjMoveStringLiteralDfa1_JSON(0x200L);
+            case 110:
+            return jjMoveStringLiteralDfa1_JSON(0x400L);
+            case 116:
+            return jjMoveStringLiteralDfa1_JSON(0x100L);
+            case 123:
+            return jjStopAtPos(0, 6);
+            case 125:
+            return jjStopAtPos(0, 7);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_JSON(1, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_JSON(long active0) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(0, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa2_JSON(active0, 0x200L);
+            case 114:
+            return jjMoveStringLiteralDfa2_JSON(active0, 0x100L);
+            case 117:
+            return jjMoveStringLiteralDfa2_JSON(active0, 0x400L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(0, active0);
+    }
+
+    private int jjMoveStringLiteralDfa2_JSON(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JSON(0, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(1, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 108:
+            return jjMoveStringLiteralDfa3_JSON(active0, 0x600L);
+            case 117:
+            return jjMoveStringLiteralDfa3_JSON(active0, 0x100L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(1, active0);
+    }
+
+    private int jjMoveStringLiteralDfa3_JSON(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JSON(1, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(2, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 3;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active0&0x100L)!=0L) return jjStopAtPos(3, 8);
+            break;
+            case 108:
+            if ((active0&0x400L)!=0L) return jjStopAtPos(3, 10);
+            break;
+            case 115:
+            return jjMoveStringLiteralDfa4_JSON(active0, 0x200L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(2, active0);
+    }
+
+    private int jjMoveStringLiteralDfa4_JSON(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JSON(2, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(3, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 4;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active0&0x200L)!=0L) return jjStopAtPos(4, 9);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(3, active0);
+    }
+
+    private int jjMoveNfa_JSON(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 21;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        if ((0x3fe000000000000L&l)!=0L) {
+                            if (kind> 19) kind= 19;
+                            jjAddStates(0, 2);
+                        }
+                        else if ((0x100002600L&l)!=0L) {
+                            if (kind> 1) kind= 1;
+                            jjCheckNAdd(0);
+                        }
+                        else if (curChar== 48) {
+                            if (kind> 19) kind= 19;
+                            jjAddStates(3, 4);
+                        }
+                        else if (curChar== 45) jjAddStates(5, 6);
+                        else if (curChar== 34) jjCheckNAddStates(7, 10);
+                        break;
+                        case 0:
+                        if ((0x100002600L&l)== 0L) break;
+                        if (kind> 1) kind= 1;
+                        jjCheckNAdd(0);
+                        break;
+                        case 3:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 4;
+                        break;
+                        case 4:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 5;
+                        break;
+                        case 5:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 6;
+                        break;
+                        case 6:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 9:
+                        if ((0x800400000000L&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 10:
+                        if ((0xfffffffb00000000L&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 11:
+                        if (curChar== 34&&kind> 14) kind= 14;
+                        break;
+                        case 12:
+                        if (curChar== 45) jjCheckNAddTwoStates(13, 20);
+                        break;
+                        case 13:
+                        if ((0x3fe000000000000L&l)== 0L) break;
+                        if (kind> 19) kind= 19;
+                        jjCheckNAddStates(0, 2);
+                        break;
+                        case 14:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 19) kind= 19;
+                        jjCheckNAddStates(0, 2);
+                        break;
+                        case 15:
+                        if (curChar== 46) jjstateSet[jjnewStateCnt++]= 16;
+                        break;
+                        case 16:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 19) kind= 19;
+                        jjCheckNAddTwoStates(16, 17);
+                        break;
+                        case 18:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 19;
+                        break;
+                        case 19:
+                        if ((0x3fe000000000000L&l)== 0L) break;
+                        if (kind> 19) kind= 19;
+                        jjCheckNAdd(19);
+                        break;
+                        case 20:
+                        if (curChar!=48) break;
+                        if (kind> 19) kind= 19;
+                        jjCheckNAddTwoStates(15, 17);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        if (curChar== 117) jjstateSet[jjnewStateCnt++]= 3;
+                        break;
+                        case 3:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 4;
+                        break;
+                        case 4:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 5;
+                        break;
+                        case 5:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 6;
+                        break;
+                        case 6:
+                        if ((0x7e0000007eL&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 7:
+                        if (curChar== 92) jjstateSet[jjnewStateCnt++]= 2;
+                        break;
+                        case 8:
+                        if (curChar== 92) jjstateSet[jjnewStateCnt++]= 9;
+                        break;
+                        case 9:
+                        if ((0x14404410000000L&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 10:
+                        if ((0xffffffffefffffffL&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 17:
+                        if ((0x2000000020L&l)!=0L) jjstateSet[jjnewStateCnt++]= 18;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_JSON[jjCharClassOffsets_JSON[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 10:
+                        if ((0x2L&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 21-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_JSON= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_JSON= jjUnpack(512, "@\002\001@\006\002");
+    private static int[] jjUnpack(int size, String...packed) {
+        int[] result= new int[size];
+        int index= 0;
+        for (String s : packed) {
+            int i= 0;
+            while (i<s.length()) {
+                int count= 0, value= 0, shift= 0, c;
+                do {
+                    c= s.charAt(i++);
+                    count|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                shift= 0;
+                do {
+                    c= s.charAt(i++);
+                    value|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                Arrays.fill(result, index, index+count, value-1);
+                index+=count;
+            }
+        }
+        return result;
+    }
+
+    private static final int[] jjnextStates= {14, 15, 17, 15, 17, 13, 20, 7, 8, 10, 11};
+}
@@ -0,0 +1,478 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONParser.java */
+package com.javacc.json;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.logging.*;
+import java.io.*;
+import static com.javacc.json.JSONConstants.TokenType.*;
+@SuppressWarnings("unused")
+public class JSONParser implements JSONConstants {
+    private static final java.util.logging.Logger LOGGER= Logger.getLogger(JSONParser.class.getName());
+    public static void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    // The last token successfully "consumed"     
+    Token current_token;
+    private TokenType nextTokenType;
+    // The number of tokens after current_token that the current scanahead has looked at
+    private int currentLookaheadIndex;
+    private int remainingLookahead;
+    private TokenType upToTokenType;
+    private EnumSet<TokenType> upToFirstSet;
+    private Token lastParsedToken;
+    //private Token nextToken; //REVISIT
+    //private EnumSet<Token> currentFollowSet;
+    private boolean cancelled;
+    public void cancel() {
+        cancelled= true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public JSONLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public JSONParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public JSONParser(Reader reader) {
+        this(new JSONLexer(reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public JSONParser(JSONLexer lexer) {
+        token_source= lexer;
+        current_token= new Token();
+    }
+
+    /*
+   * The reset methods set up this parser, along with its lexer, to parse new input.
+   * That saves creating a new parser for each input, and the buffers and stacks
+   * that have been allocated so far are reused.
+   */
+    public void reset(String inputSource, Reader reader) {
+        token_source.reset(inputSource, reader);
+        resetState();
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    // Puts everything back the way the constructor left it, apart
+    // from any settings that were changed.
+    private void resetState() {
+        current_token= new Token();
+        nextTokenType= null;
+        currentLookaheadIndex= remainingLookahead= 0;
+        upToTokenType= null;
+        upToFirstSet= null;
+        lastParsedToken= null;
+        cancelled= false;
+        clearLookaheadTokens();
+        parsingStackSize= lookaheadStackSize= 0;
+        currentFollowSet= null;
+    }
+
+    final public Token getNextToken() {
+        if (current_token.getNext()!=null) current_token= current_token.getNext();
+        else {
+            Token nextToken= token_source.getNextToken();
+            current_token.setNext(nextToken);
+            current_token= nextToken;
+        }
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        return index<=0?current_token:
+        lookaheadToken(index);
+    }
+
+    // A circular buffer of the tokens following current_token, so that
+    // lookahead does not have to keep following the tokens' next links.
+    // The links are still there (and are the real thing), so if current_token
+    // has moved on since the buffer was filled, it is brought into line.
+    private Token[] lookaheadTokens= new Token[16];
+    private int lookaheadStart, lookaheadCount;
+    private Token lookaheadAnchor;
+    // The index-th token after current_token, index being at least 1
+    private Token lookaheadToken(int index) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        int mask= lookaheadTokens.length-1;
+        while (lookaheadCount<index) {
+            Token last= lookaheadCount== 0?current_token:
+            lookaheadTokens[(lookaheadStart+lookaheadCount-1)&mask];
+            Token nextToken= last.getNext();
+            if (nextToken== null) {
+                nextToken= token_source.getNextToken();
+                last.setNext(nextToken);
+            }
+            if (lookaheadCount== lookaheadTokens.length) {
+                growLookaheadTokens();
+                mask= lookaheadTokens.length-1;
+            }
+            lookaheadTokens[(lookaheadStart+lookaheadCount++)&mask]= nextToken;
+        }
+        return lookaheadTokens[(lookaheadStart+index-1)&mask];
+    }
+
+    private void syncLookaheadTokens() {
+        int mask= lookaheadTokens.length-1;
+        // Typically, current_token has moved forward to one of the buffered tokens.
+        while (lookaheadCount> 0) {
+            Token t= lookaheadTokens[lookaheadStart];
+            lookaheadTokens[lookaheadStart]= null;
+            lookaheadStart= (lookaheadStart+1)&mask;
+            --lookaheadCount;
+            if (t== current_token) break;
+        }
+        lookaheadAnchor= current_token;
+    }
+
+    private void growLookaheadTokens() {
+        Token[] newTokens= new Token[lookaheadTokens.length*2];
+        for (int i= 0; i<lookaheadCount; i++) {
+            newTokens[i]= lookaheadTokens[(lookaheadStart+i)&(lookaheadTokens.length-1)];
+        }
+        lookaheadTokens= newTokens;
+        lookaheadStart= 0;
+    }
+
+    // To be called if the tokens' next links are changed behind our back.
+    private void clearLookaheadTokens() {
+        Arrays.fill(lookaheadTokens, null);
+        lookaheadStart= lookaheadCount= 0;
+        lookaheadAnchor= null;
+    }
+
+    private final boolean setNextTokenType() {
+        nextTokenType= lookaheadToken(1).getType();
+        return true;
+    }
+
+    private final TokenType nextTokenType() {
+        setNextTokenType();
+        return nextTokenType;
+    }
+
+    private final boolean resetScanAhead(int amount, EnumSet<TokenType> upToFirstSet) {
+        resetScanAhead(amount);
+        this.upToFirstSet= upToFirstSet;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount, TokenType upToTokenType) {
+        resetScanAhead(amount);
+        this.upToTokenType= upToTokenType;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount) {
+        currentLookaheadIndex= 0;
+        remainingLookahead= amount;
+        this.upToTokenType= null;
+        this.upToFirstSet= null;
+        setNextTokenType();
+        return true;
+    }
+
+    // JSON.javacc, line 61
+    final public void Array() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 61 of JSON.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 62 of JSON.javacc
+        consumeToken(TokenType.OPEN_BRACKET);
+        // Code for ZeroOrOne specified on line 63 of JSON.javacc
+        if (resetScanAhead(1)&&first_set$JSON_javacc$line_63$column_5.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 64 of JSON.javacc
+            pushOntoCallStack(0);
+            try {
+                Value();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 64 of JSON.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpRef specified on line 64 of JSON.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 64 of JSON.javacc
+                pushOntoCallStack(1);
+                try {
+                    Value();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        // Code for RegexpRef specified on line 66 of JSON.javacc
+        consumeToken(TokenType.CLOSE_BRACKET);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Array");
+    }
+
+    static private final EnumSet<TokenType> Value_FIRST_SET= EnumSet.of(TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.TRUE, TokenType.FALSE, TokenType.NULL, TokenType.STRING_LITERAL, TokenType.NUMBER);
+    // JSON.javacc, line 69
+    final public void Value() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 69 of JSON.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 70 of JSON.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE) {
+            // Code for RegexpRef specified on line 70 of JSON.javacc
+            consumeToken(TokenType.TRUE);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.FALSE) {
+            // Code for RegexpRef specified on line 72 of JSON.javacc
+            consumeToken(TokenType.FALSE);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.NULL) {
+            // Code for RegexpRef specified on line 74 of JSON.javacc
+            consumeToken(TokenType.NULL);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.STRING_LITERAL) {
+            // Code for RegexpRef specified on line 76 of JSON.javacc
+            consumeToken(TokenType.STRING_LITERAL);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.NUMBER) {
+            // Code for RegexpRef specified on line 78 of JSON.javacc
+            consumeToken(TokenType.NUMBER);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_BRACKET) {
+            // Code for NonTerminal specified on line 80 of JSON.javacc
+            pushOntoCallStack(3);
+            try {
+                Array();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_BRACE) {
+            // Code for NonTerminal specified on line 82 of JSON.javacc
+            pushOntoCallStack(4);
+            try {
+                JSONObject();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(2);
+            throw new ParseException(current_token.getNext(), Value_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Value");
+    }
+
+    // JSON.javacc, line 85
+    final public void JSONObject() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 85 of JSON.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 86 of JSON.javacc
+        consumeToken(TokenType.OPEN_BRACE);
+        // Code for ZeroOrOne specified on line 87 of JSON.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.STRING_LITERAL) {
+            // Code for RegexpRef specified on line 88 of JSON.javacc
+            consumeToken(TokenType.STRING_LITERAL);
+            // Code for RegexpRef specified on line 89 of JSON.javacc
+            consumeToken(TokenType.COLON);
+            // Code for NonTerminal specified on line 90 of JSON.javacc
+            pushOntoCallStack(5);
+            try {
+                Value();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 95 of JSON.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpRef specified on line 92 of JSON.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for RegexpRef specified on line 93 of JSON.javacc
+                consumeToken(TokenType.STRING_LITERAL);
+                // Code for RegexpRef specified on line 93 of JSON.javacc
+                consumeToken(TokenType.COLON);
+                // Code for NonTerminal specified on line 94 of JSON.javacc
+                pushOntoCallStack(6);
+                try {
+                    Value();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        // Code for RegexpRef specified on line 97 of JSON.javacc
+        consumeToken(TokenType.CLOSE_BRACE);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from JSONObject");
+    }
+
+    static private final EnumSet<TokenType> first_set$JSON_javacc$line_63$column_5= EnumSet.of(TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.TRUE, TokenType.FALSE, TokenType.NULL, TokenType.STRING_LITERAL, TokenType.NUMBER);
+    // Without DEBUG_PARSER, these are compile-time constants, so no tracing code is compiled in.
+    private static final boolean TRACE= false;
+    private static final boolean trace_enabled= false;
+    // So that the warning about setTracingEnabled(true) only comes up once
+    private static volatile boolean tracingWarningGiven;
+    /**
+  * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER),
+  * so this does nothing, apart from logging a warning (once) if tracing is asked for.
+  */
+    @Deprecated public void setTracingEnabled(boolean tracingEnabled) {
+        if (tracingEnabled&&!tracingWarningGiven) {
+            tracingWarningGiven= true;
+            LOGGER.warning("setTracingEnabled(true) does nothing, since the parser was generated without DEBUG_PARSER");
+        }
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(true)
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(false)
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+    // The parsing and lookahead stacks just hold indexes into the tables of call sites below.
+    // The NonTerminalCall objects are only created if there is an error to report.
+    private int[] parsingStack= new int[64];
+    private int parsingStackSize;
+    private int[] lookaheadStack= new int[64];
+    private int lookaheadStackSize;
+    private static final String[] CALL_SITE_PRODUCTIONS= {"Array", "Array", "Value", "Value", "Value", "JSONObject", "JSONObject"};
+    private static final String[] CALL_SITE_FILES= {"JSON.javacc", "JSON.javacc", "JSON.javacc", "JSON.javacc", "JSON.javacc", "JSON.javacc", "JSON.javacc"};
+    private static final int[] CALL_SITE_LINES= {64, 64, 70, 80, 82, 90, 94};
+    private static final int[] CALL_SITE_COLUMNS= {7, 22, 5, 5, 5, 8, 9};
+    private EnumSet<TokenType> currentFollowSet;
+    /**
+ * Inner class that represents entering a grammar production
+ */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile= sourceFile;
+            this.productionName= productionName;
+            this.line= line;
+            this.column= column;
+        }
+
+        NonTerminalCall(int callSite) {
+            this(CALL_SITE_FILES[callSite], CALL_SITE_PRODUCTIONS[callSite], CALL_SITE_LINES[callSite], CALL_SITE_COLUMNS[callSite]);
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("JSONParser", productionName, sourceFile, line);
+        }
+
+    }
+    private final void pushOntoCallStack(int callSite) {
+        if (parsingStackSize== parsingStack.length) {
+            parsingStack= Arrays.copyOf(parsingStack, parsingStackSize*2);
+        }
+        parsingStack[parsingStackSize++]= callSite;
+    }
+
+    private final void popCallStack() {
+        parsingStackSize--;
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        if (parsingStackSize> prevSize) {
+            parsingStackSize= prevSize;
+        }
+    }
+
+    /**
+ * @return the parsing stack as a list of NonTerminalCall objects
+ */
+    List<NonTerminalCall> getCallStack() {
+        List<NonTerminalCall> result= new ArrayList<> (parsingStackSize);
+        for (int i= 0; i<parsingStackSize; i++) {
+            result.add(new NonTerminalCall(parsingStack[i]));
+        }
+        return result;
+    }
+
+    // The number of entries in the parsing stack and the lookahead stack together
+    private final int callStackDepth() {
+        return parsingStackSize+lookaheadStackSize;
+    }
+
+    // The call site of an entry in the parsing stack followed by the lookahead stack
+    private final int callStackEntry(int index) {
+        return index<parsingStackSize?parsingStack[index]:
+        lookaheadStack[index-parsingStackSize];
+    }
+
+    private final void pushOntoLookaheadStack(int callSite) {
+        if (lookaheadStackSize== lookaheadStack.length) {
+            lookaheadStack= Arrays.copyOf(lookaheadStack, lookaheadStackSize*2);
+        }
+        lookaheadStack[lookaheadStackSize++]= callSite;
+    }
+
+    private final void popLookaheadStack() {
+        lookaheadStackSize--;
+    }
+
+    private final boolean tolerantParsing= false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) throws ParseException {
+        boolean forced= false;
+        InvalidToken invalidToken= null;
+        Token oldToken= current_token;
+        current_token= current_token.getNext();
+        if (current_token== null) {
+            current_token= token_source.getNextToken();
+        }
+        if (current_token.getType()!=expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken);
+        }
+        else {
+            this.lastParsedToken= current_token;
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Consumed token of type "+current_token.getType()+" from "+current_token.getLocation());
+        return current_token;
+    }
+
+    private void handleUnexpectedTokenType(TokenType expectedType, boolean forced, Token oldToken) throws ParseException {
+        throw new ParseException(current_token, EnumSet.of(expectedType), getCallStack());
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.javacc.json;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes out the tokens that JSONLexer gets from each file, up to and including
+ * EOF, with the unparsed tokens before each one, and where each one is. The
+ * lexer reads the file through a Reader that hands out a few characters at a
+ * time, so this works the same way whether or not the lexer was generated
+ * with HUGE_FILE_SUPPORT, and the output of the two can be compared. (It
+ * goes by the tokens alone, since a parser generated with HUGE_FILE_SUPPORT
+ * does not build a tree, so unlike TreeDump, it does without Node.)
+ */
+public class TokenDump {
+
+    static public void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: java com.javacc.json.TokenDump <outputfile> <extension> <sourcefiles or directories>");
+            System.exit(-1);
+        }
+        List<Path> files = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            addFilesRecursively(files, Paths.get(args[i]), args[1]);
+        }
+        Collections.sort(files);
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(args[0]), UTF_8))) {
+            for (Path file : files) {
+                out.println("FILE " + file.getFileName());
+                String content = new String(Files.readAllBytes(file), UTF_8);
+                JSONLexer lexer = new JSONLexer(file.toString(), new ShortReads(content, 7));
+                Token t;
+                do {
+                    t = lexer.getNextToken();
+                    List<Token> unparsed = new ArrayList<>();
+                    for (Token special = t.getSpecialToken(); special != null; special = special.getSpecialToken()) {
+                        unparsed.add(0, special);
+                    }
+                    for (Token special : unparsed) {
+                        out.println("(" + describe(special) + ")");
+                    }
+                    out.println(describe(t));
+                } while (t.getType() != JSONConstants.TokenType.EOF);
+            }
+        }
+        System.out.println("Wrote the tokens for " + files.size() + " files to " + args[0]);
+    }
+
+    static String describe(Token t) {
+        String image = t.getImage() == null ? "null" : t.getImage().replace("\\", "\\\\").replace("\r", "\\r").replace("\n", "\\n");
+        return t.getType() + " " + t.getBeginLine() + ":" + t.getBeginColumn() + "-" + t.getEndLine() + ":" + t.getEndColumn() + " " + image;
+    }
+
+    static void addFilesRecursively(List<Path> files, Path path, String extension) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+                for (Path p : stream) {
+                    addFilesRecursively(files, p, extension);
+                }
+            }
+        } else if (path.getFileName().toString().endsWith(extension)) {
+            files.add(path);
+        }
+    }
+
+    // A Reader that never returns more than the given number of characters at a time,
+    // as one reading from a socket might.
+    static class ShortReads extends StringReader {
+        private final int most;
+
+        ShortReads(String s, int most) {
+            super(s);
+            this.most = most;
+        }
+
+        @Override
+        public int read(char[] buf, int off, int len) throws IOException {
+            return super.read(buf, off, Math.min(len, most));
+        }
+    }
+}
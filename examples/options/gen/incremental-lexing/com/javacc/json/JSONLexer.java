@@ -0,0 +1,834 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONLexer.java */
+package com.javacc.json;
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+@SuppressWarnings("unused")
+public class JSONLexer implements JSONConstants {
+    private static final Logger LOGGER= Logger.getLogger("JSONParser");
+    // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+        input_stream.setInputSource(inputSource);
+    }
+
+    public JSONLexer(String inputSource, CharSequence chars) {
+        this(inputSource, chars, LexicalState.JSON, 1, 1);
+    }
+
+    public JSONLexer(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+      * Lexes the file by mapping it into memory, see {@link FileLineMap#mapFile(java.nio.file.Path, java.nio.charset.Charset)}
+      */
+    public JSONLexer(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public JSONLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.JSON, 1, 1);
+    }
+
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated public JSONLexer(Reader reader) {
+        this("input", reader);
+    }
+
+    public JSONLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+    // Tokens from the previous input refer to its FileLineMap, so that one is not recycled.
+    public void reset(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, CharSequence chars) {
+        reset(inputSource, chars, LexicalState.JSON, 1, 1);
+    }
+
+    public void reset(CharSequence chars) {
+        reset("input", chars);
+    }
+
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.JSON, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    FileLineMap input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    LexicalState lexicalState= LexicalState.JSON;
+    void addToken(Token token) {
+        input_stream.addToken(token);
+    }
+
+    int tabSize= 8;
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+            this.lexicalState= lexState;
+            return true;
+        }
+        return false;
+    }
+
+    private InvalidToken invalidToken;
+    private Token pendingToken;
+    public Token getNextToken() {
+        if (pendingToken!=null) {
+            Token result= pendingToken;
+            pendingToken= null;
+            return result;
+        }
+        Token tok= null;
+        do {
+            tok= nextToken();
+        }
+        while (tok instanceof InvalidToken);
+        if (invalidToken!=null) {
+            addToken(invalidToken);
+            invalidToken.setNext(tok);
+            Token it= invalidToken;
+            pendingToken= tok;
+            this.invalidToken= null;
+            return it;
+        }
+        addToken(tok);
+        if (++tokensSinceCheckpoint== CHECKPOINT_INTERVAL) {
+            addCheckpoint();
+        }
+        return tok;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t) {
+        input_stream.goTo(t.getEndLine(), t.getEndColumn());
+        input_stream.forward(1);
+        // The checkpoints from here on may not hold any more.
+        while (checkpointCount> 0&&checkpointOffsets[checkpointCount-1]>=input_stream.getTokenEndOffset()) {
+            --checkpointCount;
+        }
+    }
+
+    FileLineMap getFileLineMap() {
+        return input_stream;
+    }
+
+    // Every so many tokens, the lexer notes where it is and which lexical state
+    // it is in, so that it can start from there again after an edit.
+    private static final int CHECKPOINT_INTERVAL= 64;
+    private int[] checkpointOffsets= new int[16], checkpointReadLimits= new int[16], checkpointTokenCounts= new int[16];
+    private LexicalState[] checkpointStates= new LexicalState[16];
+    private int checkpointCount, tokensSinceCheckpoint;
+    private void addCheckpoint() {
+        addCheckpoint(input_stream.getTokenEndOffset(), input_stream.getReadLimit(), input_stream.getTokenCount(), lexicalState);
+        tokensSinceCheckpoint= 0;
+    }
+
+    private void addCheckpoint(int offset, int readLimit, int tokenCount, LexicalState lexState) {
+        if (checkpointCount== checkpointOffsets.length) {
+            int newLength= checkpointCount*2;
+            checkpointOffsets= Arrays.copyOf(checkpointOffsets, newLength);
+            checkpointReadLimits= Arrays.copyOf(checkpointReadLimits, newLength);
+            checkpointTokenCounts= Arrays.copyOf(checkpointTokenCounts, newLength);
+            checkpointStates= Arrays.copyOf(checkpointStates, newLength);
+        }
+        checkpointOffsets[checkpointCount]= offset;
+        checkpointReadLimits[checkpointCount]= readLimit;
+        checkpointTokenCounts[checkpointCount]= tokenCount;
+        checkpointStates[checkpointCount]= lexState;
+        ++checkpointCount;
+    }
+
+    /**
+     * Brings the tokens up to date after the content has been edited. The edit is
+     * found by comparing the new content with the old. Lexing starts again from the
+     * last checkpoint before the edit (rather than from the beginning) and stops at
+     * the first token after the edit that ends where an old token did, leaving the
+     * lexer in the same lexical state. From there on, the old tokens are what the
+     * lexer would come up with anyway, so they are kept, and moved to where they now
+     * are in the new content. The lexer then carries on from where it had got to,
+     * in the new content, and getFileLineMap() has all the tokens.
+     * This assumes that what the lexer does only depends on the text and the lexical
+     * state, which does not hold if code in the grammar switches lexical states or
+     * keeps track of anything else.
+     * @param newContent the complete content after the edit
+     * @return the tokens that were lexed again, including unparsed ones, in order
+     */
+    public List<Token> relex(CharSequence newContent) {
+        FileLineMap oldMap= input_stream;
+        int[] start= oldMap.getLineAndColumn(0);
+        FileLineMap newMap= new FileLineMap(oldMap.getInputSource(), newContent, start[0], start[1]);
+        FileLineMap.TextEdit edit= new FileLineMap.TextEdit(oldMap, newMap);
+        if (edit.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int oldPosition= oldMap.getTokenEndOffset(), oldReadLimit= oldMap.getReadLimit();
+        if (oldReadLimit<=edit.changeBegin) {
+            // The lexer has not got as far as the edit, so it just carries on in the new content.
+            moveTokens(edit, 0, oldMap.getTokenCount(), false);
+            input_stream= newMap;
+            newMap.goTo(oldPosition);
+            newMap.setReadLimit(oldReadLimit);
+            return Collections.emptyList();
+        }
+        LexicalState oldState= lexicalState;
+        Token oldPendingToken= pendingToken;
+        int oldTokensSinceCheckpoint= tokensSinceCheckpoint;
+        // The last checkpoint the lexer got to without looking at the edited text.
+        // The read limits only ever go up, so it can be found by binary search.
+        int low= 0, high= checkpointCount;
+        while (low<high) {
+            int mid= (low+high)>>>1;
+            if (checkpointReadLimits[mid]<=edit.changeBegin) {
+                low= mid+1;
+            }
+            else {
+                high= mid;
+            }
+        }
+        int keep= low;
+        int startOffset= keep== 0?0:
+        checkpointOffsets[keep-1];
+        int prefixCount= keep== 0?0:
+        checkpointTokenCounts[keep-1];
+        LexicalState startState= keep== 0?LexicalState.JSON:
+        checkpointStates[keep-1];
+        // The later checkpoints, which may come in useful again once the lexer is back in step
+        int[] oldOffsets= Arrays.copyOfRange(checkpointOffsets, keep, checkpointCount);
+        int[] oldReadLimits= Arrays.copyOfRange(checkpointReadLimits, keep, checkpointCount);
+        int[] oldTokenCounts= Arrays.copyOfRange(checkpointTokenCounts, keep, checkpointCount);
+        LexicalState[] oldStates= Arrays.copyOfRange(checkpointStates, keep, checkpointCount);
+        moveTokens(edit, 0, prefixCount, false);
+        input_stream= newMap;
+        resetState(oldMap.getInputSource(), startState);
+        checkpointCount= keep;
+        newMap.goTo(startOffset);
+        while (true) {
+            Token tok= getNextToken();
+            int index= newMap.getTokenCount()-1;
+            int oldIndex= -1;
+            if (!tok.isUnparsed()&&!(tok instanceof InvalidToken)&&newMap.getToken(index)== tok&&newMap.getBeginOffset(index)>=edit.newChangeEnd) {
+                oldIndex= findOldToken(edit, tok, newMap.getBeginOffset(index), newMap.getEndOffset(index));
+            }
+            if (oldIndex>=0) {
+                // Back in step, so the rest of the old tokens and checkpoints are moved over.
+                List<Token> result= new ArrayList<> ();
+                for (int i= prefixCount; i<=index; i++) {
+                    result.add(newMap.getToken(i));
+                }
+                int oldEnd= oldMap.getEndOffset(oldIndex);
+                moveTokens(edit, oldIndex+1, oldMap.getTokenCount(), true);
+                for (int i= 0; i<oldOffsets.length; i++) {
+                    if (oldOffsets[i]> oldEnd) {
+                        addCheckpoint(edit.shift(oldOffsets[i]), edit.shift(oldReadLimits[i]), oldTokenCounts[i]+index-oldIndex, oldStates[i]);
+                    }
+                }
+                newMap.goTo(edit.shift(oldPosition));
+                newMap.setReadLimit(edit.shift(oldReadLimit));
+                switchTo(oldState);
+                pendingToken= oldPendingToken== oldMap.getToken(oldIndex)?tok:
+                oldPendingToken;
+                tokensSinceCheckpoint= oldTokensSinceCheckpoint;
+                return result;
+            }
+            if (tok.getType()== TokenType.EOF) {
+                List<Token> result= new ArrayList<> ();
+                for (int i= prefixCount; i<newMap.getTokenCount(); i++) {
+                    result.add(newMap.getToken(i));
+                }
+                return result;
+            }
+        }
+    }
+
+    // The index of the old token that, once moved to the new content, is just
+    // where the new token (which is after the edit) is and leaves the lexer in the
+    // same lexical state, or -1 if there is none
+    private static int findOldToken(FileLineMap.TextEdit edit, Token tok, int begin, int end) {
+        FileLineMap oldMap= edit.oldMap;
+        int delta= edit.newChangeEnd-edit.oldChangeEnd;
+        for (int i= oldMap.getTokenIndex(begin-delta); i<oldMap.getTokenCount()&&oldMap.getBeginOffset(i)== begin-delta; i++) {
+            Token oldToken= oldMap.getToken(i);
+            if (!oldToken.isUnparsed()&&oldToken.getType()== tok.getType()&&oldMap.getEndOffset(i)+delta== end) {
+                return i;
+            }
+        }
+        return-1;
+    }
+
+    // Moves the old tokens from index from to index to (exclusive) over to the new content.
+    // The ones before the edit stay where they were, even if they end just where it begins.
+    private static void moveTokens(FileLineMap.TextEdit edit, int from, int to, boolean afterEdit) {
+        for (int i= from; i<to; i++) {
+            Token t= edit.oldMap.getToken(i);
+            if (afterEdit) {
+                edit.shiftPositions(t);
+            }
+            t.setInputSource(edit.newMap);
+            edit.newMap.addToken(t);
+        }
+    }
+
+    private boolean[] jjbeenHere= new boolean[1];
+    private int jjnewStateCnt;
+    private int jjround;
+    private int jjmatchedPos;
+    //FIXME,should be an enum.
+    private int jjmatchedKind;
+    private String inputSource= "input";
+    // BitSet for TOKEN
+    static private BitSet tokenSet= BitSet.valueOf(new long[]{542717L, });
+    private final int[] jjrounds= new int[21];
+    private final int[] jjstateSet= new int[42];
+    private final StringBuilder image= new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+        int i;
+        jjround= 0x80000001;
+        for (i= 21; i--> 0; ) jjrounds[i]= 0x80000000;
+    }
+
+    // Clears what is left over from the previous input, when the lexer is reset.
+    // The jjrounds array does not need clearing, since jjround only ever moves on.
+    private void resetState(String inputSource, LexicalState lexState) {
+        this.inputSource= inputSource;
+        invalidToken= null;
+        pendingToken= null;
+        Arrays.fill(jjbeenHere, false);
+        jjmatchedKind= jjmatchedPos= jjnewStateCnt= 0;
+        curChar= 0;
+        image.setLength(0);
+        matchedCharsLength= 0;
+        checkpointCount= tokensSinceCheckpoint= 0;
+        switchTo(lexState);
+    }
+
+    private Token nextToken() {
+        Token specialToken= null;
+        Token matchedToken;
+        int curPos= 0;
+        EOFLoop:
+        while (true) {
+            int retval1= input_stream.beginToken();
+            curChar= (char)(retval1);
+            if (retval1== -1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind= 0;
+                Token eof= jjFillToken();
+                tokenLexicalActions();
+                eof.setSpecialToken(specialToken);
+                addToken(eof);
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength= 0;
+            jjmatchedKind= 0x7FFFFFFF;
+            jjmatchedPos= 0;
+            if (trace_enabled) LOGGER.info("Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+            curPos= jjMoveStringLiteralDfa0_JSON();
+            if (jjmatchedKind!=0x7FFFFFFF) {
+                if (jjmatchedPos+1<curPos) {
+                    if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                    input_stream.backup(curPos-jjmatchedPos-1);
+                }
+                if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                if (tokenSet.get(jjmatchedKind)) {
+                    matchedToken= jjFillToken();
+                    tokenLexicalActions();
+                    jjmatchedKind= matchedToken.getType().ordinal();
+                    addToken(matchedToken);
+                    return matchedToken;
+                }
+                else {
+                    continue EOFLoop;
+                }
+            }
+            int error_line= input_stream.getEndLine();
+            int error_column= input_stream.getEndColumn();
+            String error_after= null;
+            error_after= curPos<=1?"":
+            input_stream.getImage();
+            if (invalidToken== null) {
+                invalidToken= new InvalidToken(""+curChar, input_stream);
+                invalidToken.setBeginLine(error_line);
+                invalidToken.setBeginColumn(error_column);
+            }
+            else {
+                invalidToken.setImage(invalidToken.getImage()+curChar);
+            }
+            invalidToken.setEndLine(error_line);
+            invalidToken.setEndColumn(error_column);
+            return invalidToken;
+        }
+    }
+
+    private void tokenLexicalActions() {
+        switch(jjmatchedKind) {
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage= input_stream.getImage();
+        beginLine= input_stream.getBeginLine();
+        beginColumn= input_stream.getBeginColumn();
+        endLine= input_stream.getEndLine();
+        endColumn= input_stream.getEndColumn();
+        t= Token.newToken(TokenType.values()[jjmatchedKind], curTokenImage, this);
+        t.setBeginLine(beginLine);
+        t.setEndLine(endLine);
+        t.setBeginColumn(beginColumn);
+        t.setEndColumn(endColumn);
+        //        t.setInputSource(this.inputSource);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state]!=jjround) {
+            jjstateSet[jjnewStateCnt++]= state;
+            jjrounds[state]= jjround;
+        }
+    }
+
+    private void jjAddStates(int start, int end) {
+        do {
+            jjstateSet[jjnewStateCnt++]= jjnextStates[start];
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start+1]);
+    }
+
+    private int jjStopAtPos(int pos, int kind) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    private int jjStartNfa_JSON(int pos, long active0) {
+        return jjMoveNfa_JSON(jjStopStringLiteralDfa_JSON(pos, active0), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_JSON(int pos, long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_JSON(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_JSON(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_JSON() {
+        switch(curChar) {
+            case 44:
+            return jjStopAtPos(0, 3);
+            case 58:
+            return jjStopAtPos(0, 2);
+            case 91:
+            return jjStopAtPos(0, 4);
+            case 93:
+            return jjStopAtPos(0, 5);
+            case 102:
+            return jjMoveStringLiteralDfa1_JSON(0x200L);
+            case 110:
+            return jjMoveStringLiteralDfa1_JSON(0x400L);
+            case 116:
+            return jjMoveStringLiteralDfa1_JSON(0x100L);
+            case 123:
+            return jjStopAtPos(0, 6);
+            case 125:
+            return jjStopAtPos(0, 7);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_JSON(1, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_JSON(long active0) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(0, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa2_JSON(active0, 0x200L);
+            case 114:
+            return jjMoveStringLiteralDfa2_JSON(active0, 0x100L);
+            case 117:
+            return jjMoveStringLiteralDfa2_JSON(active0, 0x400L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(0, active0);
+    }
+
+    private int jjMoveStringLiteralDfa2_JSON(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JSON(0, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(1, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 108:
+            return jjMoveStringLiteralDfa3_JSON(active0, 0x600L);
+            case 117:
+            return jjMoveStringLiteralDfa3_JSON(active0, 0x100L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(1, active0);
+    }
+
+    private int jjMoveStringLiteralDfa3_JSON(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JSON(1, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(2, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 3;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active0&0x100L)!=0L) return jjStopAtPos(3, 8);
+            break;
+            case 108:
+            if ((active0&0x400L)!=0L) return jjStopAtPos(3, 10);
+            break;
+            case 115:
+            return jjMoveStringLiteralDfa4_JSON(active0, 0x200L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(2, active0);
+    }
+
+    private int jjMoveStringLiteralDfa4_JSON(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa_JSON(2, old0);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_JSON(3, active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 4;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active0&0x200L)!=0L) return jjStopAtPos(4, 9);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_JSON(3, active0);
+    }
+
+    private int jjMoveNfa_JSON(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 21;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        if ((0x3fe000000000000L&l)!=0L) {
+                            if (kind> 19) kind= 19;
+                            jjAddStates(0, 2);
+                        }
+                        else if ((0x100002600L&l)!=0L) {
+                            if (kind> 1) kind= 1;
+                            jjCheckNAdd(0);
+                        }
+                        else if (curChar== 48) {
+                            if (kind> 19) kind= 19;
+                            jjAddStates(3, 4);
+                        }
+                        else if (curChar== 45) jjAddStates(5, 6);
+                        else if (curChar== 34) jjCheckNAddStates(7, 10);
+                        break;
+                        case 0:
+                        if ((0x100002600L&l)== 0L) break;
+                        if (kind> 1) kind= 1;
+                        jjCheckNAdd(0);
+                        break;
+                        case 3:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 4;
+                        break;
+                        case 4:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 5;
+                        break;
+                        case 5:
+                        if ((0x3ff000000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 6;
+                        break;
+                        case 6:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 9:
+                        if ((0x800400000000L&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 10:
+                        if ((0xfffffffb00000000L&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 11:
+                        if (curChar== 34&&kind> 14) kind= 14;
+                        break;
+                        case 12:
+                        if (curChar== 45) jjCheckNAddTwoStates(13, 20);
+                        break;
+                        case 13:
+                        if ((0x3fe000000000000L&l)== 0L) break;
+                        if (kind> 19) kind= 19;
+                        jjCheckNAddStates(0, 2);
+                        break;
+                        case 14:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 19) kind= 19;
+                        jjCheckNAddStates(0, 2);
+                        break;
+                        case 15:
+                        if (curChar== 46) jjstateSet[jjnewStateCnt++]= 16;
+                        break;
+                        case 16:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 19) kind= 19;
+                        jjCheckNAddTwoStates(16, 17);
+                        break;
+                        case 18:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 19;
+                        break;
+                        case 19:
+                        if ((0x3fe000000000000L&l)== 0L) break;
+                        if (kind> 19) kind= 19;
+                        jjCheckNAdd(19);
+                        break;
+                        case 20:
+                        if (curChar!=48) break;
+                        if (kind> 19) kind= 19;
+                        jjCheckNAddTwoStates(15, 17);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 2:
+                        if (curChar== 117) jjstateSet[jjnewStateCnt++]= 3;
+                        break;
+                        case 3:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 4;
+                        break;
+                        case 4:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 5;
+                        break;
+                        case 5:
+                        if ((0x7e0000007eL&l)!=0L) jjstateSet[jjnewStateCnt++]= 6;
+                        break;
+                        case 6:
+                        if ((0x7e0000007eL&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 7:
+                        if (curChar== 92) jjstateSet[jjnewStateCnt++]= 2;
+                        break;
+                        case 8:
+                        if (curChar== 92) jjstateSet[jjnewStateCnt++]= 9;
+                        break;
+                        case 9:
+                        if ((0x14404410000000L&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 10:
+                        if ((0xffffffffefffffffL&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        case 17:
+                        if ((0x2000000020L&l)!=0L) jjstateSet[jjnewStateCnt++]= 18;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses_JSON[jjCharClassOffsets_JSON[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 10:
+                        if ((0x2L&l)!=0L) jjCheckNAddStates(7, 10);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 21-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_JSON= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_JSON= jjUnpack(512, "@\002\001@\006\002");
+    private static int[] jjUnpack(int size, String...packed) {
+        int[] result= new int[size];
+        int index= 0;
+        for (String s : packed) {
+            int i= 0;
+            while (i<s.length()) {
+                int count= 0, value= 0, shift= 0, c;
+                do {
+                    c= s.charAt(i++);
+                    count|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                shift= 0;
+                do {
+                    c= s.charAt(i++);
+                    value|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                Arrays.fill(result, index, index+count, value-1);
+                index+=count;
+            }
+        }
+        return result;
+    }
+
+    private static final int[] jjnextStates= {14, 15, 17, 15, 17, 13, 20, 7, 8, 10, 11};
+}
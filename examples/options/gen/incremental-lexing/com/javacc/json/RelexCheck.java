@@ -0,0 +1,93 @@
+package com.javacc.json;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Makes random edits to each file, one after another, and checks that after
+ * JSONLexer.relex, and lexing the rest of the content, the lexer's FileLineMap
+ * has just the tokens that lexing the edited content from scratch gives, in the
+ * same places, and with the same unparsed tokens before them. Before the first
+ * edit to a file, the lexer has only got some random way into it. After that,
+ * each edit is made to the content that the lexer was brought up to date with.
+ */
+public class RelexCheck {
+
+    static int edits, tokens, relexedTokens, failures;
+
+    static public void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.out.println("Usage: java com.javacc.json.RelexCheck <seed> <edits per file> <extension> <sourcefiles or directories>");
+            System.exit(-1);
+        }
+        Random random = new Random(Long.parseLong(args[0]));
+        int editsPerFile = Integer.parseInt(args[1]);
+        List<Path> files = new ArrayList<>();
+        for (int i = 3; i < args.length; i++) {
+            TreeDump.addFilesRecursively(files, Paths.get(args[i]), args[2]);
+        }
+        Collections.sort(files);
+        for (Path file : files) {
+            checkFile(file, random, editsPerFile);
+        }
+        System.out.println("Made " + edits + " edits to " + files.size() + " files. " + relexedTokens
+                           + " tokens were lexed again, out of the " + tokens + " tokens in the edited content.");
+        if (failures > 0) {
+            System.out.println("After " + failures + " of the edits, the tokens were not what lexing from scratch gives.");
+            System.exit(1);
+        }
+    }
+
+    static void checkFile(Path file, Random random, int editsPerFile) throws IOException {
+        JSONLexer lexer = new JSONLexer(file.toString(), new String(Files.readAllBytes(file), UTF_8));
+        // The whole file is lexed once, just to pick the first edit.
+        FileLineMap map = lex(new JSONLexer(file.toString(), lexer.getFileLineMap().getContent()), -1);
+        lex(lexer, random.nextInt(map.getTokenCount() + 1));
+        for (int i = 0; i < editsPerFile; i++) {
+            String content = map.getContent().toString();
+            String newContent = RandomEdits.edit(map, content, random);
+            ++edits;
+            relexedTokens += lexer.relex(newContent).size();
+            map = lex(lexer, -1);
+            FileLineMap expectedMap = lex(new JSONLexer(file.toString(), newContent), -1);
+            tokens += expectedMap.getTokenCount();
+            String expected = dump(expectedMap), actual = dump(map);
+            if (!actual.equals(expected)) {
+                ++failures;
+                System.out.println("After an edit at offset " + RandomEdits.changeBegin(content, newContent) + " of " + file
+                                   + ", the relexed tokens differ from fresh ones, first at:\n" + RandomEdits.firstDifference(expected, actual));
+                // The next edit starts from the right tokens.
+                lexer = new JSONLexer(file.toString(), newContent);
+                map = lex(lexer, -1);
+            }
+        }
+    }
+
+    // Gets the given number of tokens (or up to EOF, if that is negative or comes first) from the lexer
+    static FileLineMap lex(JSONLexer lexer, int count) {
+        FileLineMap map = lexer.getFileLineMap();
+        if (map.getTokenCount() == 0 || map.getToken(map.getTokenCount() - 1).getType() != JSONConstants.TokenType.EOF) {
+            for (int i = 0; i != count; i++) {
+                if (lexer.getNextToken().getType() == JSONConstants.TokenType.EOF) {
+                    break;
+                }
+            }
+        }
+        return lexer.getFileLineMap();
+    }
+
+    static String dump(FileLineMap map) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < map.getTokenCount(); i++) {
+            Token t = map.getToken(i);
+            result.append(TreeDump.describe(t));
+            if (t.getSpecialToken() != null) {
+                result.append(" after ").append(TreeDump.describe(t.getSpecialToken()));
+            }
+            result.append('\n');
+        }
+        return result.toString();
+    }
+}
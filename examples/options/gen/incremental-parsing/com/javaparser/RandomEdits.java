@@ -0,0 +1,64 @@
+package com.javaparser;
+
+import java.util.*;
+
+/**
+ * The random edits that ReparseCheck and RelexCheck make, things like inserting a
+ * character into a token, adding a statement, a comment or some whitespace after
+ * it, or deleting, duplicating or replacing it. Some of them start or end a comment
+ * or a string literal, so that the lexer goes into another lexical state.
+ */
+class RandomEdits {
+
+    static final String[] INSERTIONS = {" ", "\n", "  \n  ", "/* comment */", "// comment\n", "/** doc */", " int check = 1;",
+                                        "(", ")", "{", "}", ";", "/*", "*/", "//", "\"", "'"};
+
+    // Makes a random edit next to or within one of the tokens in the map, whose content this is
+    static String edit(FileLineMap map, String content, Random random) {
+        while (true) {
+            Token t = map.getToken(random.nextInt(map.getTokenCount()));
+            if (t.getType() == JavaConstants.TokenType.EOF) {
+                continue;
+            }
+            int begin = map.getOffset(t.getBeginLine(), t.getBeginColumn());
+            int end = Math.min(map.getOffset(t.getEndLine(), t.getEndColumn()) + 1, content.length());
+            String image = content.substring(begin, end);
+            switch (random.nextInt(5)) {
+                case 0 : // Type a character into the token
+                    int offset = begin + random.nextInt(end - begin + 1);
+                    return content.substring(0, offset) + "abcxyz_019".charAt(random.nextInt(10)) + content.substring(offset);
+                case 1 : // Insert something after it
+                    return content.substring(0, end) + INSERTIONS[random.nextInt(INSERTIONS.length)] + content.substring(end);
+                case 2 : // Delete it
+                    return content.substring(0, begin) + content.substring(end);
+                case 3 : // Duplicate it
+                    return content.substring(0, end) + image + content.substring(end);
+                default : // Replace it with another token of the same type
+                    Token other = map.getToken(random.nextInt(map.getTokenCount()));
+                    if (other.getType() != t.getType() || other.getImage().equals(t.getImage())) {
+                        continue;
+                    }
+                    return content.substring(0, begin) + other.getImage() + content.substring(end);
+            }
+        }
+    }
+
+    // Where the content first differs, for reporting an edit
+    static int changeBegin(String content, String newContent) {
+        int begin = 0;
+        while (begin < content.length() && begin < newContent.length() && content.charAt(begin) == newContent.charAt(begin)) {
+            ++begin;
+        }
+        return begin;
+    }
+
+    static String firstDifference(String expected, String actual) {
+        String[] expectedLines = expected.split("\n"), actualLines = actual.split("\n");
+        for (int i = 0; i < Math.min(expectedLines.length, actualLines.length); i++) {
+            if (!expectedLines[i].equals(actualLines[i])) {
+                return "    expected: " + expectedLines[i] + "\n    found:    " + actualLines[i];
+            }
+        }
+        return "    expected " + expectedLines.length + " lines, found " + actualLines.length;
+    }
+}
@@ -0,0 +1,116 @@
+package com.javaparser;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Makes random edits to each file, one after another, and checks that whenever
+ * JavaParser.reparse brings the tree up to date, the tree, the tokens in the
+ * FileLineMap and the chain of tokens (following the next links) are just what
+ * parsing the edited content from scratch gives. When reparse gives up, the tree
+ * has to be left as it was. Some of the edits (see RandomEdits) leave the content
+ * unparseable. Those are undone before the next edit. Otherwise, the next edit
+ * is made to the tree that reparse brought up to date, or failing that, to a
+ * fresh one.
+ */
+public class ReparseCheck {
+
+    static int edits, reparsed, unparseable, failures;
+
+    static public void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.out.println("Usage: java com.javaparser.ReparseCheck <seed> <edits per file> <extension> <sourcefiles or directories>");
+            System.exit(-1);
+        }
+        Random random = new Random(Long.parseLong(args[0]));
+        int editsPerFile = Integer.parseInt(args[1]);
+        List<Path> files = new ArrayList<>();
+        for (int i = 3; i < args.length; i++) {
+            TreeDump.addFilesRecursively(files, Paths.get(args[i]), args[2]);
+        }
+        Collections.sort(files);
+        for (Path file : files) {
+            checkFile(file, random, editsPerFile);
+        }
+        System.out.println("Made " + edits + " edits to " + files.size() + " files. The tree was brought up to date "
+                           + reparsed + " times, " + unparseable + " edits left the content unparseable.");
+        if (failures > 0) {
+            System.out.println(failures + " of the reparsed trees were not what parsing from scratch gives.");
+            System.exit(1);
+        }
+    }
+
+    static void checkFile(Path file, Random random, int editsPerFile) throws IOException {
+        Node root = parse(file.toString(), new String(Files.readAllBytes(file), UTF_8));
+        if (root == null) {
+            return;
+        }
+        JavaParser parser = new JavaParser(file.toString(), "");
+        for (int i = 0; i < editsPerFile; i++) {
+            // The FileLineMap may have changed the line endings, so this is what the token offsets go by.
+            String content = root.getFileLineMap().getContent().toString();
+            String newContent = RandomEdits.edit(root.getFileLineMap(), content, random);
+            ++edits;
+            String before = dump(root);
+            Node newRoot = parse(file.toString(), newContent);
+            Node node = parser.reparse(root, newContent);
+            if (node == null) {
+                if (!dump(root).equals(before)) {
+                    fail(file, content, newContent, "reparse gave up, but did not leave the tree as it was");
+                }
+            } else if (newRoot == null) {
+                fail(file, content, newContent, "reparse brought the tree up to date, but the content does not parse");
+            } else {
+                ++reparsed;
+                String expected = dump(newRoot), actual = dump(root);
+                if (actual.equals(expected)) {
+                    // The next edit is made to the tree that was brought up to date.
+                    continue;
+                }
+                fail(file, content, newContent, "the reparsed tree differs from a fresh one, first at:\n" + RandomEdits.firstDifference(expected, actual));
+            }
+            if (newRoot == null) {
+                ++unparseable;
+            } else {
+                root = newRoot;
+            }
+        }
+    }
+
+    static Node parse(String inputSource, String content) {
+        JavaParser parser = new JavaParser(inputSource, content);
+        try {
+            parser.CompilationUnit();
+        } catch (ParseException e) {
+            return null;
+        }
+        return parser.rootNode();
+    }
+
+    // The tree and the tokens, as TreeDump writes them out, and then the chain of tokens
+    static String dump(Node root) {
+        StringWriter result = new StringWriter();
+        PrintWriter out = new PrintWriter(result);
+        TreeDump.dump(root, out);
+        out.println("CHAIN");
+        FileLineMap map = root.getFileLineMap();
+        Token t = null;
+        for (int i = 0; i < map.getTokenCount() && t == null; i++) {
+            if (!map.getToken(i).isUnparsed()) {
+                t = map.getToken(i);
+            }
+        }
+        for (; t != null; t = t.getNext()) {
+            out.println(TreeDump.describe(t));
+        }
+        out.flush();
+        return result.toString();
+    }
+
+    static void fail(Path file, String content, String newContent, String message) {
+        ++failures;
+        System.out.println("After an edit at offset " + RandomEdits.changeBegin(content, newContent) + " of " + file + ", " + message);
+    }
+}
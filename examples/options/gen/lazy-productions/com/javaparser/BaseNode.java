@@ -0,0 +1,270 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BaseNode.java */
+package com.javaparser;
+
+import java.util.*;
+@SuppressWarnings("rawtypes")
+public class BaseNode implements Node, JavaConstants {
+    protected String getLiteralText() {
+        StringBuilder buf= new StringBuilder();
+        for (Token t : Nodes.getAllTokens(this, true, true)) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+
+    protected String getInnerText() {
+        StringBuilder buf= new StringBuilder();
+        List<Token> tokens= Nodes.getAllTokens(this, true, true);
+        boolean outputOpeningBrace= false;
+        for (int i= 0; i<tokens.size()-1; i++) {
+            Token t= tokens.get(i);
+            if (outputOpeningBrace) {
+                buf.append(t);
+            }
+            else if (t.getType()== TokenType.LBRACE) {
+                outputOpeningBrace= true;
+            }
+        }
+        return buf.toString();
+    }
+
+    public ListIterator<Node> iterator() {
+        return Nodes.iterator(this);
+    }
+
+    public void prepend(Node n) {
+        ListIterator<Node> iterator= iterator();
+        iterator.add(n);
+    }
+
+    public String getAsString() {
+        return getLiteralText();
+    }
+
+    public boolean isEmpty() {
+        return Nodes.getRealTokens(this).size()== 0;
+    }
+
+    private FileLineMap fileLineMap;
+    public FileLineMap getFileLineMap() {
+        return fileLineMap;
+    }
+
+    public void setInputSource(FileLineMap fileLineMap) {
+        this.fileLineMap= fileLineMap;
+    }
+
+    static private Class listClass= ArrayList.class;
+    static public void setListClass(Class<?extends List> listClass) {
+        BaseNode.listClass= listClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Node> newList() {
+        try {
+            return(List<Node> ) listClass.getDeclaredConstructor().newInstance();
+        }
+        catch(Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected Node parent;
+    private List<Node> children= newList();
+    // Set if the children of this node are still to be built
+    private volatile JavaParser.LazyChildren lazyChildren;
+    void setLazyChildren(JavaParser.LazyChildren lazyChildren) {
+        this.lazyChildren= lazyChildren;
+    }
+
+    /**
+     * @return whether the children of this node (built by one of the LAZY_PRODUCTIONS)
+     * have not been built yet. They are built as soon as anything asks for them.
+     */
+    public boolean hasLazyChildren() {
+        return lazyChildren!=null;
+    }
+
+    /**
+     * @return the children of this node, in a list that can be changed. Code injected
+     * into the node classes gets at the children through this, or the methods of Node.
+     * If the children are still to be built (see #hasLazyChildren()) they are built
+     * first. That puts new tokens in the FileLineMap, so it is done with the
+     * FileLineMap locked, and different threads can ask for the children of nodes
+     * in the same tree at once. (Anything else that reads the FileLineMap while
+     * that goes on has to lock it too.)
+     * @throws IllegalStateException if the production that builds the children
+     * does not parse the node's text again, for instance if the content has changed
+     * since. The children are then left unbuilt.
+     */
+    protected List<Node> childList() {
+        JavaParser.LazyChildren lazy= lazyChildren;
+        if (lazy!=null) {
+            synchronized(getFileLineMap()) {
+                // Unless another thread has built them in the meantime
+                if (lazyChildren== lazy) {
+                    for (Node child : lazy.build(this)) {
+                        children.add(child);
+                        child.setParent(this);
+                    }
+                    lazyChildren= null;
+                }
+            }
+        }
+        return children;
+    }
+
+    private int beginLine, beginColumn, endLine, endColumn;
+    private Map<String, Object> attributes;
+    private boolean unparsed;
+    public boolean isUnparsed() {
+        return this.unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void open() {
+    }
+
+    public void close() {
+    }
+
+    public void setParent(Node n) {
+        parent= n;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void addChild(Node n) {
+        childList().add(n);
+        n.setParent(this);
+    }
+
+    public void addChild(int i, Node n) {
+        childList().add(i, n);
+        n.setParent(this);
+    }
+
+    public Node getChild(int i) {
+        return childList().get(i);
+    }
+
+    public void setChild(int i, Node n) {
+        childList().set(i, n);
+        n.setParent(this);
+    }
+
+    public Node removeChild(int i) {
+        return childList().remove(i);
+    }
+
+    public boolean removeChild(Node n) {
+        return childList().remove(n);
+    }
+
+    public void clearChildren() {
+        lazyChildren= null;
+        children.clear();
+    }
+
+    public int getChildCount() {
+        return childList().size();
+    }
+
+    public List<Node> children() {
+        return Collections.unmodifiableList(childList());
+    }
+
+    public Object getAttribute(String name) {
+        return attributes== null?null:
+        attributes.get(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes== null) {
+            attributes= new HashMap<String, Object> ();
+        }
+        attributes.put(name, value);
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes== null?false:
+        attributes.containsKey(name);
+    }
+
+    public Set<String> getAttributeNames() {
+        if (attributes== null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+
+    public int getBeginLine() {
+        if (beginLine<=0) {
+            if (!childList().isEmpty()) {
+                beginLine= childList().get(0).getBeginLine();
+                beginColumn= childList().get(0).getBeginColumn();
+            }
+        }
+        return beginLine;
+    }
+
+    public int getEndLine() {
+        if (endLine<=0) {
+            if (!childList().isEmpty()) {
+                Node last= childList().get(childList().size()-1);
+                endLine= last.getEndLine();
+                endColumn= last.getEndColumn();
+            }
+        }
+        return endLine;
+    }
+
+    public int getBeginColumn() {
+        if (beginColumn<=0) {
+            if (!childList().isEmpty()) {
+                beginLine= childList().get(0).getBeginLine();
+                beginColumn= childList().get(0).getBeginColumn();
+            }
+        }
+        return beginColumn;
+    }
+
+    public int getEndColumn() {
+        if (endColumn<=0) {
+            if (!childList().isEmpty()) {
+                Node last= childList().get(childList().size()-1);
+                endLine= last.getEndLine();
+                endColumn= last.getEndColumn();
+            }
+        }
+        return endColumn;
+    }
+
+    public void setBeginLine(int beginLine) {
+        this.beginLine= beginLine;
+    }
+
+    public void setEndLine(int endLine) {
+        this.endLine= endLine;
+    }
+
+    public void setBeginColumn(int beginColumn) {
+        this.beginColumn= beginColumn;
+    }
+
+    public void setEndColumn(int endColumn) {
+        this.endColumn= endColumn;
+    }
+
+    public String toString() {
+        StringBuilder buf= new StringBuilder();
+        for (Token t : Nodes.getRealTokens(this)) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+
+}
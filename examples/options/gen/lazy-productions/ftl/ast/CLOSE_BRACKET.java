@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for CLOSE_BRACKET Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class CLOSE_BRACKET extends Token {
+    public CLOSE_BRACKET(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public CLOSE_BRACKET(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public CLOSE_BRACKET(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for MINUS Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class MINUS extends Token {
+    public MINUS(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public MINUS(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public MINUS(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
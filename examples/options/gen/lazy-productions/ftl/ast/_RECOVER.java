@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for _RECOVER Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class _RECOVER extends Token {
+    public _RECOVER(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public _RECOVER(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public _RECOVER(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
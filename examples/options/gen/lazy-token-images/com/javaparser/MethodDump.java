@@ -0,0 +1,55 @@
+package com.javaparser;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.javaparser.ast.*;
+
+/**
+ * Writes out the signature of each method in the files, as the code injected
+ * into ClassOrInterfaceBodyDeclaration and MethodDeclaration in Java.javacc
+ * works it out, and where the method is. Each declaration is written out before
+ * anything else looks at its children, so if MethodDeclaration is one of the
+ * LAZY_PRODUCTIONS, the injected code is what gets them built. (TreeDump goes
+ * through the methods of Node, so it would build them first.)
+ */
+public class MethodDump {
+
+    static public void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: java com.javaparser.MethodDump <outputfile> <extension> <sourcefiles or directories>");
+            System.exit(-1);
+        }
+        List<Path> files = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            TreeDump.addFilesRecursively(files, Paths.get(args[i]), args[1]);
+        }
+        Collections.sort(files);
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(args[0]), UTF_8))) {
+            for (Path file : files) {
+                out.println("FILE " + file.getFileName());
+                String content = new String(Files.readAllBytes(file), UTF_8);
+                JavaParser parser = new JavaParser(file.toString(), content);
+                try {
+                    parser.CompilationUnit();
+                } catch (ParseException e) {
+                    out.println("ERROR " + e.getMessage());
+                    continue;
+                }
+                dumpMethods(parser.rootNode(), out);
+            }
+        }
+        System.out.println("Wrote the methods in " + files.size() + " files to " + args[0]);
+    }
+
+    static void dumpMethods(Node node, PrintWriter out) {
+        if (node instanceof ClassOrInterfaceBodyDeclaration && ((ClassOrInterfaceBodyDeclaration) node).isMethod()) {
+            out.println(((ClassOrInterfaceBodyDeclaration) node).getFullNameSignatureIfMethod() + " " + TreeDump.location(node));
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            dumpMethods(node.getChild(i), out);
+        }
+    }
+}
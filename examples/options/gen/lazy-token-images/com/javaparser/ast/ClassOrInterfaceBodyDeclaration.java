@@ -0,0 +1,43 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ClassOrInterfaceBodyDeclaration AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+@SuppressWarnings("unused")
+public class ClassOrInterfaceBodyDeclaration extends BaseNode {
+    public boolean isPrivate() {
+        return hasKeyWord("private");
+    }
+
+    public boolean isStatic() {
+        return hasKeyWord("static");
+    }
+
+    public boolean isProtected() {
+        return hasKeyWord("protected");
+    }
+
+    public boolean isPublic() {
+        return hasKeyWord("public");
+    }
+
+    private boolean hasKeyWord(String keyWord) {
+        for (KeyWord kw : childrenOfType(KeyWord.class)) {
+            if (kw.getImage().equals(keyWord)) return true;
+        }
+        return false;
+    }
+
+    public boolean isMethod() {
+        return firstChildOfType(MethodDeclaration.class)!=null;
+    }
+
+    public String getFullNameSignatureIfMethod() {
+        MethodDeclaration md= firstChildOfType(MethodDeclaration.class);
+        return md== null?null:
+        md.getFullSignature();
+    }
+
+}
@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for NOT_EQUALS Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class NOT_EQUALS extends Token {
+    public NOT_EQUALS(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public NOT_EQUALS(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public NOT_EQUALS(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for STRING_LITERAL Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class STRING_LITERAL extends Token {
+    public STRING_LITERAL(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public STRING_LITERAL(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public STRING_LITERAL(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,15928 @@
+/* Generated by: JavaCC 21 Parser Generator. JavaParser.java */
+package com.javaparser;
+
+import com.javaparser.ast.*;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.logging.*;
+import java.io.*;
+import static com.javaparser.JavaConstants.TokenType.*;
+@SuppressWarnings("unused")
+public class JavaParser implements JavaConstants {
+    private static final java.util.logging.Logger LOGGER= Logger.getLogger(JavaParser.class.getName());
+    public static void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    // The last token successfully "consumed"     
+    Token current_token;
+    private TokenType nextTokenType;
+    // The number of tokens after current_token that the current scanahead has looked at
+    private int currentLookaheadIndex;
+    private int remainingLookahead;
+    private TokenType upToTokenType;
+    private EnumSet<TokenType> upToFirstSet;
+    private Token lastParsedToken;
+    //private Token nextToken; //REVISIT
+    //private EnumSet<Token> currentFollowSet;
+    private boolean cancelled;
+    public void cancel() {
+        cancelled= true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public JavaLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public JavaParser(String inputSource, CharSequence content) {
+        this(new JavaLexer(inputSource, content));
+    }
+
+    public JavaParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+   * Parses the file by mapping it into memory, rather than reading it into a String.
+   */
+    public JavaParser(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(new JavaLexer(path, charset));
+    }
+
+    public JavaParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public JavaParser(Reader reader) {
+        this(new JavaLexer(reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public JavaParser(JavaLexer lexer) {
+        token_source= lexer;
+        current_token= new Token();
+    }
+
+    /*
+   * The reset methods set up this parser, along with its lexer, to parse new input.
+   * That saves creating a new parser for each input, and the buffers and stacks
+   * that have been allocated so far are reused.
+   */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        resetState();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+   * Maps the file into memory, like the corresponding constructor.
+   */
+    public void reset(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        reset(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        token_source.reset(inputSource, reader);
+        resetState();
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    // Puts everything back the way the constructor left it, apart
+    // from any settings that were changed.
+    private void resetState() {
+        current_token= new Token();
+        nextTokenType= null;
+        currentLookaheadIndex= remainingLookahead= 0;
+        upToTokenType= null;
+        upToFirstSet= null;
+        lastParsedToken= null;
+        cancelled= false;
+        Arrays.fill(scanMemoKeys, -1L);
+        scanMemoSize= 0;
+        clearLookaheadTokens();
+        parsingStackSize= lookaheadStackSize= 0;
+        currentFollowSet= null;
+        parseStateStack.clear();
+        while (!currentNodeScope.isRootScope()) {
+            currentNodeScope= currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.getNext()!=null) current_token= current_token.getNext();
+        else {
+            Token nextToken= token_source.getNextToken();
+            current_token.setNext(nextToken);
+            current_token= nextToken;
+        }
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        return index<=0?current_token:
+        lookaheadToken(index);
+    }
+
+    // A circular buffer of the tokens following current_token, so that
+    // lookahead does not have to keep following the tokens' next links.
+    // The links are still there (and are the real thing), so if current_token
+    // has moved on since the buffer was filled, it is brought into line.
+    private Token[] lookaheadTokens= new Token[16];
+    private int lookaheadStart, lookaheadCount;
+    private Token lookaheadAnchor;
+    // The index-th token after current_token, index being at least 1
+    private Token lookaheadToken(int index) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        int mask= lookaheadTokens.length-1;
+        while (lookaheadCount<index) {
+            Token last= lookaheadCount== 0?current_token:
+            lookaheadTokens[(lookaheadStart+lookaheadCount-1)&mask];
+            Token nextToken= last.getNext();
+            if (nextToken== null) {
+                nextToken= token_source.getNextToken();
+                last.setNext(nextToken);
+            }
+            if (lookaheadCount== lookaheadTokens.length) {
+                growLookaheadTokens();
+                mask= lookaheadTokens.length-1;
+            }
+            lookaheadTokens[(lookaheadStart+lookaheadCount++)&mask]= nextToken;
+        }
+        return lookaheadTokens[(lookaheadStart+index-1)&mask];
+    }
+
+    private void syncLookaheadTokens() {
+        int mask= lookaheadTokens.length-1;
+        Token t= lookaheadAnchor;
+        int distance= 0;
+        // Typically, current_token has moved forward to one of the buffered tokens.
+        while (lookaheadCount> 0&&t!=current_token) {
+            t= lookaheadTokens[lookaheadStart];
+            lookaheadTokens[lookaheadStart]= null;
+            lookaheadStart= (lookaheadStart+1)&mask;
+            --lookaheadCount;
+            ++distance;
+        }
+        // ... or possibly beyond them.
+        while (t!=null&&t!=current_token) {
+            t= t.getNext();
+            ++distance;
+        }
+        if (t== null) {
+            // current_token is not where we thought, so the memo table
+            // is no use any more.
+            clearScanMemo();
+        }
+        else {
+            currentTokenIndex+=distance;
+        }
+        lookaheadAnchor= current_token;
+    }
+
+    private void growLookaheadTokens() {
+        Token[] newTokens= new Token[lookaheadTokens.length*2];
+        for (int i= 0; i<lookaheadCount; i++) {
+            newTokens[i]= lookaheadTokens[(lookaheadStart+i)&(lookaheadTokens.length-1)];
+        }
+        lookaheadTokens= newTokens;
+        lookaheadStart= 0;
+    }
+
+    // To be called if the tokens' next links are changed behind our back.
+    private void clearLookaheadTokens() {
+        Arrays.fill(lookaheadTokens, null);
+        lookaheadStart= lookaheadCount= 0;
+        lookaheadAnchor= null;
+        clearScanMemo();
+    }
+
+    // The results of the scan routines that only depend on the tokens
+    // they look at, so that each one is only run once at a given position.
+    // It is an open addressing hash table keyed by the routine's index and
+    // the position of the token it starts at. The value is the number of
+    // tokens the routine matched, plus 1, or SCAN_FAILED.
+    private static final int SCAN_MEMO_INITIAL_SIZE= 1024;
+    private static final int SCAN_FAILED= -1;
+    private long[] scanMemoKeys= newScanMemoKeys(SCAN_MEMO_INITIAL_SIZE);
+    private int[] scanMemoValues= new int[SCAN_MEMO_INITIAL_SIZE];
+    private int scanMemoSize;
+    // The position of current_token, counting from wherever we
+    // last lost track of it, i.e. the last time the memo table was cleared.
+    private int currentTokenIndex;
+    private static long[] newScanMemoKeys(int size) {
+        long[] keys= new long[size];
+        Arrays.fill(keys, -1L);
+        return keys;
+    }
+
+    private static int scanMemoHash(long key) {
+        return(int)((key*0x9E3779B97F4A7C15L)>>>32);
+    }
+
+    // The key for the given scan routine at the current scanahead position
+    private long scanMemoKey(int routineIndex) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        return(long)(currentTokenIndex+currentLookaheadIndex)*126+routineIndex;
+    }
+
+    // Returns 0 if there is no entry for the key
+    private int scanMemoLookup(long key) {
+        int mask= scanMemoKeys.length-1;
+        for (int i= scanMemoHash(key)&mask; scanMemoKeys[i]!=-1L; i= (i+1)&mask) {
+            if (scanMemoKeys[i]== key) return scanMemoValues[i];
+        }
+        return 0;
+    }
+
+    private void scanMemoStore(long key, int value) {
+        if (2*(scanMemoSize+1)> scanMemoKeys.length) {
+            rebuildScanMemo();
+        }
+        int mask= scanMemoKeys.length-1;
+        int i= scanMemoHash(key)&mask;
+        while (scanMemoKeys[i]!=-1L&&scanMemoKeys[i]!=key) {
+            i= (i+1)&mask;
+        }
+        if (scanMemoKeys[i]== -1L)++scanMemoSize;
+        scanMemoKeys[i]= key;
+        scanMemoValues[i]= value;
+    }
+
+    // Moves the entries that are still of any use, those from current_token on,
+    // into a table with enough room to spare.
+    private void rebuildScanMemo() {
+        long[] oldKeys= scanMemoKeys;
+        int[] oldValues= scanMemoValues;
+        long firstUsefulKey= (long) currentTokenIndex*126;
+        int useful= 0;
+        for (long key : oldKeys) {
+            if (key>=firstUsefulKey)++useful;
+        }
+        int size= SCAN_MEMO_INITIAL_SIZE;
+        while (4*useful> size) size*=2;
+        scanMemoKeys= newScanMemoKeys(size);
+        scanMemoValues= new int[size];
+        scanMemoSize= 0;
+        for (int i= 0; i<oldKeys.length; i++) {
+            if (oldKeys[i]>=firstUsefulKey) scanMemoStore(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    private void clearScanMemo() {
+        if (scanMemoSize> 0) {
+            scanMemoKeys= newScanMemoKeys(SCAN_MEMO_INITIAL_SIZE);
+            scanMemoValues= new int[SCAN_MEMO_INITIAL_SIZE];
+            scanMemoSize= 0;
+        }
+    }
+
+    private final boolean setNextTokenType() {
+        nextTokenType= lookaheadToken(1).getType();
+        return true;
+    }
+
+    private final TokenType nextTokenType() {
+        setNextTokenType();
+        return nextTokenType;
+    }
+
+    private final boolean resetScanAhead(int amount, EnumSet<TokenType> upToFirstSet) {
+        resetScanAhead(amount);
+        this.upToFirstSet= upToFirstSet;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount, TokenType upToTokenType) {
+        resetScanAhead(amount);
+        this.upToTokenType= upToTokenType;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount) {
+        currentLookaheadIndex= 0;
+        remainingLookahead= amount;
+        this.upToTokenType= null;
+        this.upToFirstSet= null;
+        setNextTokenType();
+        return true;
+    }
+
+    // Java.javacc, line 309
+    final public CompilationUnit CompilationUnit() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 309 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean CompilationUnit1forced= false;
+        CompilationUnit CompilationUnit1= null;
+        if (buildTree) {
+            CompilationUnit1= new CompilationUnit();
+            openNodeScope(CompilationUnit1);
+        }
+        ParseException parseException1= null;
+        int callStackSize1= parsingStackSize;
+        try {
+            // Code for ZeroOrOne specified on line 310 of Java.javacc
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_310$column_10()) {
+                // Code for NonTerminal specified on line 310 of Java.javacc
+                pushOntoCallStack(1);
+                try {
+                    PackageDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified on line 312 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.IMPORT) {
+                // Code for NonTerminal specified on line 312 of Java.javacc
+                pushOntoCallStack(2);
+                try {
+                    ImportDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ExpansionChoice specified on line 314 of Java.javacc
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_314$column_6.contains(nextTokenType)) {
+                // Code for OneOrMore specified on line 314 of Java.javacc
+                do {
+                    // Code for NonTerminal specified on line 314 of Java.javacc
+                    pushOntoCallStack(4);
+                    try {
+                        TypeDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                while (resetScanAhead(1)&&first_set$Java_javacc$line_314$column_25.contains(nextTokenType));
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.EOF) {
+                // Code for EndOfFile specified on line 316 of Java.javacc
+                consumeToken(TokenType.EOF);
+            }
+            else {
+                pushOntoCallStack(3);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_314$column_6$, getCallStack());
+            }
+            // Code for CodeBlock specified on line 318 of Java.javacc
+            return CompilationUnit1;
+        }
+        catch(ParseException e) {
+            parseException1= e;
+            throw e;
+        }
+        finally {
+            if (parseException1== null) {
+                restoreCallStack(callStackSize1);
+            }
+            if (buildTree) {
+                if (parseException1== null) {
+                    closeNodeScope(CompilationUnit1, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException1.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 359
+    final public void PackageDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 359 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean PackageDeclaration2forced= false;
+        PackageDeclaration PackageDeclaration2= null;
+        if (buildTree) {
+            PackageDeclaration2= new PackageDeclaration();
+            openNodeScope(PackageDeclaration2);
+        }
+        ParseException parseException2= null;
+        int callStackSize2= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 359 of Java.javacc
+            consumeToken(TokenType.PACKAGE);
+            // Code for NonTerminal specified on line 359 of Java.javacc
+            pushOntoCallStack(5);
+            try {
+                Name();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 359 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PackageDeclaration");
+        }
+        catch(ParseException e) {
+            parseException2= e;
+            throw e;
+        }
+        finally {
+            if (parseException2== null) {
+                restoreCallStack(callStackSize2);
+            }
+            if (buildTree) {
+                if (parseException2== null) {
+                    closeNodeScope(PackageDeclaration2, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException2.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 378
+    final public void ImportDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 378 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ImportDeclaration3forced= false;
+        ImportDeclaration ImportDeclaration3= null;
+        if (buildTree) {
+            ImportDeclaration3= new ImportDeclaration();
+            openNodeScope(ImportDeclaration3);
+        }
+        ParseException parseException3= null;
+        int callStackSize3= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 378 of Java.javacc
+            consumeToken(TokenType.IMPORT);
+            // Code for ZeroOrOne specified on line 378 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.STATIC) {
+                // Code for RegexpStringLiteral specified on line 378 of Java.javacc
+                consumeToken(TokenType.STATIC);
+            }
+            // Code for NonTerminal specified on line 378 of Java.javacc
+            pushOntoCallStack(6);
+            try {
+                Name();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 378 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.DOT) {
+                // Code for RegexpStringLiteral specified on line 378 of Java.javacc
+                consumeToken(TokenType.DOT);
+                // Code for RegexpStringLiteral specified on line 378 of Java.javacc
+                consumeToken(TokenType.STAR);
+            }
+            // Code for RegexpStringLiteral specified on line 378 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ImportDeclaration");
+        }
+        catch(ParseException e) {
+            parseException3= e;
+            throw e;
+        }
+        finally {
+            if (parseException3== null) {
+                restoreCallStack(callStackSize3);
+            }
+            if (buildTree) {
+                if (parseException3== null) {
+                    closeNodeScope(ImportDeclaration3, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException3.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 416
+    final public void Modifiers() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 416 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for CodeBlock specified on line 417 of Java.javacc
+        EnumSet<TokenType> modifiers= EnumSet.noneOf(TokenType.class);
+        // Code for ZeroOrMore specified on line 456 of Java.javacc
+        while (true) {
+            // Code for ExpansionChoice specified on line 419 of Java.javacc
+            if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.STATIC))&&(nextTokenType== TokenType.STATIC)) {
+                // Code for RegexpRef specified on line 420 of Java.javacc
+                consumeToken(TokenType.STATIC);
+                // Code for CodeBlock specified on line 420 of Java.javacc
+                modifiers.add(TokenType.STATIC);
+            }
+            else if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.ABSTRACT))&&(nextTokenType== TokenType.ABSTRACT)) {
+                // Code for RegexpRef specified on line 423 of Java.javacc
+                consumeToken(TokenType.ABSTRACT);
+                // Code for CodeBlock specified on line 423 of Java.javacc
+                modifiers.add(TokenType.ABSTRACT);
+            }
+            else if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.FINAL))&&(nextTokenType== TokenType.FINAL)) {
+                // Code for RegexpRef specified on line 426 of Java.javacc
+                consumeToken(TokenType.FINAL);
+                // Code for CodeBlock specified on line 426 of Java.javacc
+                modifiers.add(TokenType.FINAL);
+            }
+            else if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.SYNCHRONIZED))&&(nextTokenType== TokenType.SYNCHRONIZED)) {
+                // Code for RegexpRef specified on line 429 of Java.javacc
+                consumeToken(TokenType.SYNCHRONIZED);
+                // Code for CodeBlock specified on line 429 of Java.javacc
+                modifiers.add(TokenType.SYNCHRONIZED);
+            }
+            else if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.NATIVE))&&(nextTokenType== TokenType.NATIVE)) {
+                // Code for RegexpRef specified on line 432 of Java.javacc
+                consumeToken(TokenType.NATIVE);
+                // Code for CodeBlock specified on line 432 of Java.javacc
+                modifiers.add(TokenType.NATIVE);
+            }
+            else if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.PUBLIC)&&!modifiers.contains(TokenType.PRIVATE)&&!modifiers.contains(TokenType.PROTECTED))&&(nextTokenType== TokenType.PUBLIC)) {
+                // Code for RegexpRef specified on line 435 of Java.javacc
+                consumeToken(TokenType.PUBLIC);
+                // Code for CodeBlock specified on line 435 of Java.javacc
+                modifiers.add(TokenType.PUBLIC);
+            }
+            else if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.PUBLIC)&&!modifiers.contains(TokenType.PRIVATE)&&!modifiers.contains(TokenType.PROTECTED))&&(nextTokenType== TokenType.PROTECTED)) {
+                // Code for RegexpRef specified on line 438 of Java.javacc
+                consumeToken(TokenType.PROTECTED);
+                // Code for CodeBlock specified on line 438 of Java.javacc
+                modifiers.add(TokenType.PROTECTED);
+            }
+            else if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.PUBLIC)&&!modifiers.contains(TokenType.PRIVATE)&&!modifiers.contains(TokenType.PROTECTED))&&(nextTokenType== TokenType.PRIVATE)) {
+                // Code for RegexpRef specified on line 441 of Java.javacc
+                consumeToken(TokenType.PRIVATE);
+                // Code for CodeBlock specified on line 441 of Java.javacc
+                modifiers.add(TokenType.PRIVATE);
+            }
+            else if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.TRANSIENT))&&(nextTokenType== TokenType.TRANSIENT)) {
+                // Code for RegexpRef specified on line 444 of Java.javacc
+                consumeToken(TokenType.TRANSIENT);
+                // Code for CodeBlock specified on line 444 of Java.javacc
+                modifiers.add(TokenType.TRANSIENT);
+            }
+            else if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.VOLATILE))&&(nextTokenType== TokenType.VOLATILE)) {
+                // Code for RegexpRef specified on line 447 of Java.javacc
+                consumeToken(TokenType.VOLATILE);
+                // Code for CodeBlock specified on line 447 of Java.javacc
+                modifiers.add(TokenType.VOLATILE);
+            }
+            else if (resetScanAhead(2147483647)&&(!modifiers.contains(TokenType.STRICTFP))&&(nextTokenType== TokenType.STRICTFP)) {
+                // Code for RegexpRef specified on line 450 of Java.javacc
+                consumeToken(TokenType.STRICTFP);
+                // Code for CodeBlock specified on line 450 of Java.javacc
+                modifiers.add(TokenType.STRICTFP);
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_455$column_7()) {
+                // Code for NonTerminal specified on line 455 of Java.javacc
+                pushOntoCallStack(7);
+                try {
+                    Annotation();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                break;
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Modifiers");
+    }
+
+    // Java.javacc, line 459
+    final public void Modifiers2() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 459 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ZeroOrMore specified on line 486 of Java.javacc
+        while (true) {
+            // Code for ExpansionChoice specified on line 461 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.PUBLIC) {
+                // Code for RegexpStringLiteral specified on line 461 of Java.javacc
+                consumeToken(TokenType.PUBLIC);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.STATIC) {
+                // Code for RegexpStringLiteral specified on line 463 of Java.javacc
+                consumeToken(TokenType.STATIC);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.PROTECTED) {
+                // Code for RegexpStringLiteral specified on line 465 of Java.javacc
+                consumeToken(TokenType.PROTECTED);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.PRIVATE) {
+                // Code for RegexpStringLiteral specified on line 467 of Java.javacc
+                consumeToken(TokenType.PRIVATE);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.FINAL) {
+                // Code for RegexpStringLiteral specified on line 469 of Java.javacc
+                consumeToken(TokenType.FINAL);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.ABSTRACT) {
+                // Code for RegexpStringLiteral specified on line 471 of Java.javacc
+                consumeToken(TokenType.ABSTRACT);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.SYNCHRONIZED) {
+                // Code for RegexpStringLiteral specified on line 473 of Java.javacc
+                consumeToken(TokenType.SYNCHRONIZED);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.NATIVE) {
+                // Code for RegexpStringLiteral specified on line 475 of Java.javacc
+                consumeToken(TokenType.NATIVE);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.TRANSIENT) {
+                // Code for RegexpStringLiteral specified on line 477 of Java.javacc
+                consumeToken(TokenType.TRANSIENT);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.VOLATILE) {
+                // Code for RegexpStringLiteral specified on line 479 of Java.javacc
+                consumeToken(TokenType.VOLATILE);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.STRICTFP) {
+                // Code for RegexpStringLiteral specified on line 481 of Java.javacc
+                consumeToken(TokenType.STRICTFP);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._DEFAULT) {
+                // Code for RegexpStringLiteral specified on line 483 of Java.javacc
+                consumeToken(TokenType._DEFAULT);
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_485$column_3()) {
+                // Code for NonTerminal specified on line 485 of Java.javacc
+                pushOntoCallStack(8);
+                try {
+                    Annotation();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                break;
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Modifiers2");
+    }
+
+    /*
+ * Declaration syntax follows.
+ */
+    // Java.javacc, line 493
+    final public TypeDeclaration TypeDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 493 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TypeDeclaration4forced= false;
+        TypeDeclaration TypeDeclaration4= null;
+        if (buildTree) {
+            TypeDeclaration4= new TypeDeclaration();
+            openNodeScope(TypeDeclaration4);
+        }
+        ParseException parseException4= null;
+        int callStackSize4= parsingStackSize;
+        try {
+            // Code for ExpansionChoice specified on line 495 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpStringLiteral specified on line 495 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_497$column_3.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 497 of Java.javacc
+                pushOntoCallStack(10);
+                try {
+                    Modifiers();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ExpansionChoice specified on line 499 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.CLASS) {
+                    // Code for NonTerminal specified on line 499 of Java.javacc
+                    pushOntoCallStack(12);
+                    try {
+                        ClassDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.INTERFACE) {
+                    // Code for NonTerminal specified on line 501 of Java.javacc
+                    pushOntoCallStack(13);
+                    try {
+                        InterfaceDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ENUM) {
+                    // Code for NonTerminal specified on line 503 of Java.javacc
+                    pushOntoCallStack(14);
+                    try {
+                        EnumDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.AT) {
+                    // Code for NonTerminal specified on line 505 of Java.javacc
+                    pushOntoCallStack(15);
+                    try {
+                        AnnotationTypeDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    pushOntoCallStack(11);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_499$column_6, getCallStack());
+                }
+            }
+            else {
+                pushOntoCallStack(9);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_495$column_3, getCallStack());
+            }
+            // Code for CodeBlock specified on line 508 of Java.javacc
+            return TypeDeclaration4;
+        }
+        catch(ParseException e) {
+            parseException4= e;
+            throw e;
+        }
+        finally {
+            if (parseException4== null) {
+                restoreCallStack(callStackSize4);
+            }
+            if (buildTree) {
+                if (parseException4== null) {
+                    closeNodeScope(TypeDeclaration4, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException4.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 673
+    final public void ClassDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 673 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 674 of Java.javacc
+        consumeToken(TokenType.CLASS);
+        // Code for RegexpRef specified on line 675 of Java.javacc
+        consumeToken(TokenType.IDENTIFIER);
+        // Code for ZeroOrOne specified on line 676 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+            // Code for NonTerminal specified on line 676 of Java.javacc
+            pushOntoCallStack(16);
+            try {
+                TypeParameters();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for ZeroOrOne specified on line 677 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.EXTENDS) {
+            // Code for NonTerminal specified on line 677 of Java.javacc
+            pushOntoCallStack(17);
+            try {
+                ExtendsList(false);
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for ZeroOrOne specified on line 678 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.IMPLEMENTS) {
+            // Code for NonTerminal specified on line 678 of Java.javacc
+            pushOntoCallStack(18);
+            try {
+                ImplementsList(false);
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for NonTerminal specified on line 679 of Java.javacc
+        pushOntoCallStack(19);
+        try {
+            ClassOrInterfaceBody(false);
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ClassDeclaration");
+    }
+
+    // Java.javacc, line 682
+    final public void InterfaceDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 682 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 683 of Java.javacc
+        consumeToken(TokenType.INTERFACE);
+        // Code for RegexpRef specified on line 684 of Java.javacc
+        consumeToken(TokenType.IDENTIFIER);
+        // Code for ZeroOrOne specified on line 685 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+            // Code for NonTerminal specified on line 685 of Java.javacc
+            pushOntoCallStack(20);
+            try {
+                TypeParameters();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for ZeroOrOne specified on line 686 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.EXTENDS) {
+            // Code for NonTerminal specified on line 686 of Java.javacc
+            pushOntoCallStack(21);
+            try {
+                ExtendsList(true);
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for NonTerminal specified on line 687 of Java.javacc
+        pushOntoCallStack(22);
+        try {
+            ClassOrInterfaceBody(true);
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from InterfaceDeclaration");
+    }
+
+    // Java.javacc, line 690
+    final public ExtendsList ExtendsList(boolean isInterface) throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 690 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ExtendsList5forced= false;
+        ExtendsList ExtendsList5= null;
+        if (buildTree) {
+            ExtendsList5= new ExtendsList();
+            openNodeScope(ExtendsList5);
+        }
+        ParseException parseException5= null;
+        int callStackSize5= parsingStackSize;
+        try {
+            // Code for CodeBlock specified on line 691 of Java.javacc
+            boolean extendsMoreThanOne= false;
+            // Code for RegexpStringLiteral specified on line 694 of Java.javacc
+            consumeToken(TokenType.EXTENDS);
+            // Code for NonTerminal specified on line 694 of Java.javacc
+            pushOntoCallStack(23);
+            try {
+                ClassOrInterfaceType();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 695 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 695 of Java.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 695 of Java.javacc
+                pushOntoCallStack(24);
+                try {
+                    ClassOrInterfaceType();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for CodeBlock specified on line 695 of Java.javacc
+                extendsMoreThanOne= true;
+            }
+            // Code for CodeBlock specified on line 696 of Java.javacc
+            if (extendsMoreThanOne&&!isInterface) throw new ParseException(this, "A class cannot extend more than one other class");
+            return ExtendsList5;
+        }
+        catch(ParseException e) {
+            parseException5= e;
+            throw e;
+        }
+        finally {
+            if (parseException5== null) {
+                restoreCallStack(callStackSize5);
+            }
+            if (buildTree) {
+                if (parseException5== null) {
+                    closeNodeScope(ExtendsList5, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException5.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 731
+    final public ImplementsList ImplementsList(boolean isInterface) throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 731 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ImplementsList6forced= false;
+        ImplementsList ImplementsList6= null;
+        if (buildTree) {
+            ImplementsList6= new ImplementsList();
+            openNodeScope(ImplementsList6);
+        }
+        ParseException parseException6= null;
+        int callStackSize6= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 734 of Java.javacc
+            consumeToken(TokenType.IMPLEMENTS);
+            // Code for NonTerminal specified on line 734 of Java.javacc
+            pushOntoCallStack(25);
+            try {
+                ClassOrInterfaceType();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 735 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 735 of Java.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 735 of Java.javacc
+                pushOntoCallStack(26);
+                try {
+                    ClassOrInterfaceType();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for CodeBlock specified on line 736 of Java.javacc
+            if (isInterface) {
+                throw new ParseException(this, "An interface cannot implement other interfaces");
+            }
+            return ImplementsList6;
+        }
+        catch(ParseException e) {
+            parseException6= e;
+            throw e;
+        }
+        finally {
+            if (parseException6== null) {
+                restoreCallStack(callStackSize6);
+            }
+            if (buildTree) {
+                if (parseException6== null) {
+                    closeNodeScope(ImplementsList6, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException6.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 769
+    final public void EnumDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 769 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean EnumDeclaration7forced= false;
+        EnumDeclaration EnumDeclaration7= null;
+        if (buildTree) {
+            EnumDeclaration7= new EnumDeclaration();
+            openNodeScope(EnumDeclaration7);
+        }
+        ParseException parseException7= null;
+        int callStackSize7= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 770 of Java.javacc
+            consumeToken(TokenType.ENUM);
+            // Code for RegexpRef specified on line 770 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 771 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IMPLEMENTS) {
+                // Code for NonTerminal specified on line 771 of Java.javacc
+                pushOntoCallStack(27);
+                try {
+                    ImplementsList(false);
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 772 of Java.javacc
+            pushOntoCallStack(28);
+            try {
+                EnumBody();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from EnumDeclaration");
+        }
+        catch(ParseException e) {
+            parseException7= e;
+            throw e;
+        }
+        finally {
+            if (parseException7== null) {
+                restoreCallStack(callStackSize7);
+            }
+            if (buildTree) {
+                if (parseException7== null) {
+                    closeNodeScope(EnumDeclaration7, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException7.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 775
+    final public void EnumBody() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 775 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean EnumBody8forced= false;
+        EnumBody EnumBody8= null;
+        if (buildTree) {
+            EnumBody8= new EnumBody();
+            openNodeScope(EnumBody8);
+        }
+        ParseException parseException8= null;
+        int callStackSize8= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 776 of Java.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for ZeroOrOne specified on line 777 of Java.javacc
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_777$column_4.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 777 of Java.javacc
+                pushOntoCallStack(29);
+                try {
+                    EnumConstant();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 777 of Java.javacc
+                while (resetScanAhead(2)&&check$Java_javacc$line_777$column_21()) {
+                    // Code for RegexpStringLiteral specified on line 777 of Java.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 777 of Java.javacc
+                    pushOntoCallStack(30);
+                    try {
+                        EnumConstant();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for ZeroOrOne specified on line 778 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 778 of Java.javacc
+                consumeToken(TokenType.COMMA);
+            }
+            // Code for ZeroOrOne specified on line 779 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpStringLiteral specified on line 779 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+                // Code for ZeroOrMore specified on line 779 of Java.javacc
+                while (resetScanAhead(1)&&first_set$Java_javacc$line_779$column_52.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 779 of Java.javacc
+                    pushOntoCallStack(31);
+                    try {
+                        ClassOrInterfaceBodyDeclaration(false);
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 780 of Java.javacc
+            consumeToken(TokenType.RBRACE);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from EnumBody");
+        }
+        catch(ParseException e) {
+            parseException8= e;
+            throw e;
+        }
+        finally {
+            if (parseException8== null) {
+                restoreCallStack(callStackSize8);
+            }
+            if (buildTree) {
+                if (parseException8== null) {
+                    closeNodeScope(EnumBody8, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException8.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 783
+    final public void EnumConstant() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 783 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean EnumConstant9forced= false;
+        EnumConstant EnumConstant9= null;
+        if (buildTree) {
+            EnumConstant9= new EnumConstant();
+            openNodeScope(EnumConstant9);
+        }
+        ParseException parseException9= null;
+        int callStackSize9= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 784 of Java.javacc
+            pushOntoCallStack(32);
+            try {
+                Modifiers();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 784 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 784 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LPAREN) {
+                // Code for NonTerminal specified on line 784 of Java.javacc
+                pushOntoCallStack(33);
+                try {
+                    Arguments();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified on line 784 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACE) {
+                // Code for NonTerminal specified on line 784 of Java.javacc
+                pushOntoCallStack(34);
+                try {
+                    ClassOrInterfaceBody(false);
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from EnumConstant");
+        }
+        catch(ParseException e) {
+            parseException9= e;
+            throw e;
+        }
+        finally {
+            if (parseException9== null) {
+                restoreCallStack(callStackSize9);
+            }
+            if (buildTree) {
+                if (parseException9== null) {
+                    closeNodeScope(EnumConstant9, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException9.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 787
+    final public void TypeParameters() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 787 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TypeParameters10forced= false;
+        TypeParameterList TypeParameters10= null;
+        if (buildTree) {
+            TypeParameters10= new TypeParameterList();
+            openNodeScope(TypeParameters10);
+        }
+        ParseException parseException10= null;
+        int callStackSize10= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 788 of Java.javacc
+            consumeToken(TokenType.LT);
+            // Code for NonTerminal specified on line 789 of Java.javacc
+            pushOntoCallStack(35);
+            try {
+                TypeParameter();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 789 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 789 of Java.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 789 of Java.javacc
+                pushOntoCallStack(36);
+                try {
+                    TypeParameter();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 790 of Java.javacc
+            consumeToken(TokenType.GT);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from TypeParameters");
+        }
+        catch(ParseException e) {
+            parseException10= e;
+            throw e;
+        }
+        finally {
+            if (parseException10== null) {
+                restoreCallStack(callStackSize10);
+            }
+            if (buildTree) {
+                if (parseException10== null) {
+                    closeNodeScope(TypeParameters10, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException10.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 820
+    final public void TypeParameter() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 820 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TypeParameter11forced= false;
+        TypeParameter TypeParameter11= null;
+        if (buildTree) {
+            TypeParameter11= new TypeParameter();
+            openNodeScope(TypeParameter11);
+        }
+        ParseException parseException11= null;
+        int callStackSize11= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 820 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 820 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.EXTENDS) {
+                // Code for NonTerminal specified on line 820 of Java.javacc
+                pushOntoCallStack(37);
+                try {
+                    TypeBound();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from TypeParameter");
+        }
+        catch(ParseException e) {
+            parseException11= e;
+            throw e;
+        }
+        finally {
+            if (parseException11== null) {
+                restoreCallStack(callStackSize11);
+            }
+            if (buildTree) {
+                if (parseException11== null) {
+                    closeNodeScope(TypeParameter11, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException11.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 822
+    final public void TypeBound() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 822 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TypeBound12forced= false;
+        TypeBound TypeBound12= null;
+        if (buildTree) {
+            TypeBound12= new TypeBound();
+            openNodeScope(TypeBound12);
+        }
+        ParseException parseException12= null;
+        int callStackSize12= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 823 of Java.javacc
+            consumeToken(TokenType.EXTENDS);
+            // Code for NonTerminal specified on line 823 of Java.javacc
+            pushOntoCallStack(38);
+            try {
+                ClassOrInterfaceType();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 823 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.BIT_AND) {
+                // Code for RegexpStringLiteral specified on line 823 of Java.javacc
+                consumeToken(TokenType.BIT_AND);
+                // Code for NonTerminal specified on line 823 of Java.javacc
+                pushOntoCallStack(39);
+                try {
+                    ClassOrInterfaceType();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from TypeBound");
+        }
+        catch(ParseException e) {
+            parseException12= e;
+            throw e;
+        }
+        finally {
+            if (parseException12== null) {
+                restoreCallStack(callStackSize12);
+            }
+            if (buildTree) {
+                if (parseException12== null) {
+                    closeNodeScope(TypeBound12, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException12.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 826
+    final public ClassOrInterfaceBody ClassOrInterfaceBody(boolean isInterface) throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 826 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ClassOrInterfaceBody13forced= false;
+        ClassOrInterfaceBody ClassOrInterfaceBody13= null;
+        if (buildTree) {
+            ClassOrInterfaceBody13= new ClassOrInterfaceBody();
+            openNodeScope(ClassOrInterfaceBody13);
+        }
+        ParseException parseException13= null;
+        int callStackSize13= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 827 of Java.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for ZeroOrMore specified on line 830 of Java.javacc
+            while (resetScanAhead(1)&&first_set$Java_javacc$line_830$column_6.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 829 of Java.javacc
+                pushOntoCallStack(40);
+                try {
+                    ClassOrInterfaceBodyDeclaration(isInterface);
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 831 of Java.javacc
+            consumeToken(TokenType.RBRACE);
+            // Code for CodeBlock specified on line 832 of Java.javacc
+            return ClassOrInterfaceBody13;
+        }
+        catch(ParseException e) {
+            parseException13= e;
+            throw e;
+        }
+        finally {
+            if (parseException13== null) {
+                restoreCallStack(callStackSize13);
+            }
+            if (buildTree) {
+                if (parseException13== null) {
+                    closeNodeScope(ClassOrInterfaceBody13, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException13.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> ClassOrInterfaceBodyDeclaration_FIRST_SET= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType._DEFAULT, TokenType.DOUBLE, TokenType.ENUM, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.INTERFACE, TokenType.LONG, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOID, TokenType.VOLATILE, TokenType.LBRACE, TokenType.SEMICOLON, TokenType.AT, TokenType.LT, TokenType.IDENTIFIER);
+    // Java.javacc, line 908
+    final public void ClassOrInterfaceBodyDeclaration(boolean isInterface) throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 908 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 909 of Java.javacc
+        boolean ClassOrInterfaceBodyDeclaration14forced= false;
+        ClassOrInterfaceBodyDeclaration ClassOrInterfaceBodyDeclaration14= null;
+        if (buildTree) {
+            ClassOrInterfaceBodyDeclaration14= new ClassOrInterfaceBodyDeclaration();
+            openNodeScope(ClassOrInterfaceBodyDeclaration14);
+        }
+        ParseException parseException14= null;
+        int callStackSize14= parsingStackSize;
+        try {
+            if (resetScanAhead(2)&&(!isInterface)&&check$Java_javacc$line_909$column_3()) {
+                // Code for NonTerminal specified on line 910 of Java.javacc
+                pushOntoCallStack(42);
+                try {
+                    Initializer();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_912$column_3.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 912 of Java.javacc
+                pushOntoCallStack(43);
+                try {
+                    Modifiers2();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ExpansionChoice specified on line 915 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.CLASS) {
+                    // Code for NonTerminal specified on line 915 of Java.javacc
+                    pushOntoCallStack(45);
+                    try {
+                        ClassDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.INTERFACE) {
+                    // Code for NonTerminal specified on line 917 of Java.javacc
+                    pushOntoCallStack(46);
+                    try {
+                        InterfaceDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.AT) {
+                    // Code for NonTerminal specified on line 919 of Java.javacc
+                    pushOntoCallStack(47);
+                    try {
+                        AnnotationTypeDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ENUM) {
+                    // Code for NonTerminal specified on line 921 of Java.javacc
+                    pushOntoCallStack(48);
+                    try {
+                        EnumDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(2147483647)&&check$Java_javacc$line_923$column_12()) {
+                    // Code for NonTerminal specified on line 925 of Java.javacc
+                    pushOntoCallStack(50);
+                    try {
+                        ConstructorDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(2147483647)&&check$Java_javacc$line_927$column_12()) {
+                    // Code for NonTerminal specified on line 928 of Java.javacc
+                    pushOntoCallStack(53);
+                    try {
+                        FieldDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&first_set$Java_javacc$line_930$column_7.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 930 of Java.javacc
+                    pushOntoCallStack(54);
+                    try {
+                        MethodDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    pushOntoCallStack(44);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_915$column_7, getCallStack());
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpStringLiteral specified on line 933 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            else {
+                pushOntoCallStack(41);
+                throw new ParseException(current_token.getNext(), ClassOrInterfaceBodyDeclaration_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ClassOrInterfaceBodyDeclaration");
+        }
+        catch(ParseException e) {
+            parseException14= e;
+            throw e;
+        }
+        finally {
+            if (parseException14== null) {
+                restoreCallStack(callStackSize14);
+            }
+            if (buildTree) {
+                if (parseException14== null) {
+                    closeNodeScope(ClassOrInterfaceBodyDeclaration14, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException14.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 976
+    final public void FieldDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 976 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean FieldDeclaration15forced= false;
+        FieldDeclaration FieldDeclaration15= null;
+        if (buildTree) {
+            FieldDeclaration15= new FieldDeclaration();
+            openNodeScope(FieldDeclaration15);
+        }
+        ParseException parseException15= null;
+        int callStackSize15= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 978 of Java.javacc
+            pushOntoCallStack(55);
+            try {
+                Type();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 978 of Java.javacc
+            pushOntoCallStack(56);
+            try {
+                VariableDeclarator();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 978 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 978 of Java.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 978 of Java.javacc
+                pushOntoCallStack(57);
+                try {
+                    VariableDeclarator();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 978 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from FieldDeclaration");
+        }
+        catch(ParseException e) {
+            parseException15= e;
+            throw e;
+        }
+        finally {
+            if (parseException15== null) {
+                restoreCallStack(callStackSize15);
+            }
+            if (buildTree) {
+                if (parseException15== null) {
+                    closeNodeScope(FieldDeclaration15, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException15.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 981
+    final public void VariableDeclarator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 981 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean VariableDeclarator16forced= false;
+        VariableDeclarator VariableDeclarator16= null;
+        if (buildTree) {
+            VariableDeclarator16= new VariableDeclarator();
+            openNodeScope(VariableDeclarator16);
+        }
+        ParseException parseException16= null;
+        int callStackSize16= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 982 of Java.javacc
+            pushOntoCallStack(58);
+            try {
+                VariableDeclaratorId();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 982 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.ASSIGN) {
+                // Code for RegexpStringLiteral specified on line 982 of Java.javacc
+                consumeToken(TokenType.ASSIGN);
+                // Code for NonTerminal specified on line 982 of Java.javacc
+                pushOntoCallStack(59);
+                try {
+                    VariableInitializer();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from VariableDeclarator");
+        }
+        catch(ParseException e) {
+            parseException16= e;
+            throw e;
+        }
+        finally {
+            if (parseException16== null) {
+                restoreCallStack(callStackSize16);
+            }
+            if (buildTree) {
+                if (parseException16== null) {
+                    closeNodeScope(VariableDeclarator16, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException16.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 985
+    final public void VariableDeclaratorId() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 985 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean VariableDeclaratorId17forced= false;
+        VariableDeclaratorId VariableDeclaratorId17= null;
+        if (buildTree) {
+            VariableDeclaratorId17= new VariableDeclaratorId();
+            openNodeScope(VariableDeclaratorId17);
+        }
+        ParseException parseException17= null;
+        int callStackSize17= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 986 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrMore specified on line 986 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET) {
+                // Code for RegexpStringLiteral specified on line 986 of Java.javacc
+                consumeToken(TokenType.LBRACKET);
+                // Code for RegexpStringLiteral specified on line 986 of Java.javacc
+                consumeToken(TokenType.RBRACKET);
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from VariableDeclaratorId");
+        }
+        catch(ParseException e) {
+            parseException17= e;
+            throw e;
+        }
+        finally {
+            if (parseException17== null) {
+                restoreCallStack(callStackSize17);
+            }
+            if (buildTree) {
+                if (parseException17== null) {
+                    closeNodeScope(VariableDeclaratorId17, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException17.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> VariableInitializer_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.LBRACE, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    // Java.javacc, line 989
+    final public void VariableInitializer() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 989 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 989 of Java.javacc
+        boolean VariableInitializer18forced= false;
+        VariableInitializer VariableInitializer18= null;
+        if (buildTree) {
+            VariableInitializer18= new VariableInitializer();
+            openNodeScope(VariableInitializer18);
+        }
+        ParseException parseException18= null;
+        int callStackSize18= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACE) {
+                // Code for NonTerminal specified on line 989 of Java.javacc
+                pushOntoCallStack(61);
+                try {
+                    ArrayInitializer();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_989$column_42.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 989 of Java.javacc
+                pushOntoCallStack(62);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(60);
+                throw new ParseException(current_token.getNext(), VariableInitializer_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from VariableInitializer");
+        }
+        catch(ParseException e) {
+            parseException18= e;
+            throw e;
+        }
+        finally {
+            if (parseException18== null) {
+                restoreCallStack(callStackSize18);
+            }
+            if (buildTree) {
+                if (parseException18== null) {
+                    closeNodeScope(VariableInitializer18, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException18.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 991
+    final public void ArrayInitializer() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 991 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ArrayInitializer19forced= false;
+        ArrayInitializer ArrayInitializer19= null;
+        if (buildTree) {
+            ArrayInitializer19= new ArrayInitializer();
+            openNodeScope(ArrayInitializer19);
+        }
+        ParseException parseException19= null;
+        int callStackSize19= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 992 of Java.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for ZeroOrOne specified on line 992 of Java.javacc
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_992$column_7.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 992 of Java.javacc
+                pushOntoCallStack(63);
+                try {
+                    VariableInitializer();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 992 of Java.javacc
+                while (resetScanAhead(2)&&check$Java_javacc$line_992$column_31()) {
+                    // Code for RegexpStringLiteral specified on line 992 of Java.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 992 of Java.javacc
+                    pushOntoCallStack(64);
+                    try {
+                        VariableInitializer();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for ZeroOrOne specified on line 992 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 992 of Java.javacc
+                consumeToken(TokenType.COMMA);
+            }
+            // Code for RegexpStringLiteral specified on line 992 of Java.javacc
+            consumeToken(TokenType.RBRACE);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ArrayInitializer");
+        }
+        catch(ParseException e) {
+            parseException19= e;
+            throw e;
+        }
+        finally {
+            if (parseException19== null) {
+                restoreCallStack(callStackSize19);
+            }
+            if (buildTree) {
+                if (parseException19== null) {
+                    closeNodeScope(ArrayInitializer19, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException19.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1015
+    final public void MethodDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1015 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean MethodDeclaration20forced= false;
+        MethodDeclaration MethodDeclaration20= null;
+        if (buildTree) {
+            MethodDeclaration20= new MethodDeclaration();
+            openNodeScope(MethodDeclaration20);
+        }
+        ParseException parseException20= null;
+        int callStackSize20= parsingStackSize;
+        try {
+            // Code for ZeroOrOne specified on line 1017 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                // Code for NonTerminal specified on line 1017 of Java.javacc
+                pushOntoCallStack(65);
+                try {
+                    TypeParameters();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 1018 of Java.javacc
+            pushOntoCallStack(66);
+            try {
+                ReturnType();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 1019 of Java.javacc
+            pushOntoCallStack(67);
+            try {
+                MethodDeclarator();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 1019 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.THROWS) {
+                // Code for NonTerminal specified on line 1019 of Java.javacc
+                pushOntoCallStack(68);
+                try {
+                    ThrowsList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ExpansionChoice specified on line 1020 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACE) {
+                // Code for NonTerminal specified on line 1020 of Java.javacc
+                pushOntoCallStack(70);
+                try {
+                    Block();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpStringLiteral specified on line 1020 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            else {
+                pushOntoCallStack(69);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1020$column_5, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MethodDeclaration");
+        }
+        catch(ParseException e) {
+            parseException20= e;
+            throw e;
+        }
+        finally {
+            if (parseException20== null) {
+                restoreCallStack(callStackSize20);
+            }
+            if (buildTree) {
+                if (parseException20== null) {
+                    closeNodeScope(MethodDeclaration20, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException20.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1024
+    final public void MethodDeclarator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1024 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 1025 of Java.javacc
+        consumeToken(TokenType.IDENTIFIER);
+        // Code for NonTerminal specified on line 1025 of Java.javacc
+        pushOntoCallStack(71);
+        try {
+            FormalParameters();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 1025 of Java.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET) {
+            // Code for RegexpStringLiteral specified on line 1025 of Java.javacc
+            consumeToken(TokenType.LBRACKET);
+            // Code for RegexpStringLiteral specified on line 1025 of Java.javacc
+            consumeToken(TokenType.RBRACKET);
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MethodDeclarator");
+    }
+
+    // Java.javacc, line 1028
+    final public FormalParams FormalParameters() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1028 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean FormalParameters21forced= false;
+        FormalParams FormalParameters21= null;
+        if (buildTree) {
+            FormalParameters21= new FormalParams();
+            openNodeScope(FormalParameters21);
+        }
+        ParseException parseException21= null;
+        int callStackSize21= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1029 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for ZeroOrOne specified on line 1030 of Java.javacc
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_1030$column_5.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1030 of Java.javacc
+                pushOntoCallStack(72);
+                try {
+                    FormalParameter();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 1030 of Java.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpStringLiteral specified on line 1030 of Java.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 1030 of Java.javacc
+                    pushOntoCallStack(73);
+                    try {
+                        FormalParameter();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1031 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for CodeBlock specified on line 1032 of Java.javacc
+            return FormalParameters21;
+        }
+        catch(ParseException e) {
+            parseException21= e;
+            throw e;
+        }
+        finally {
+            if (parseException21== null) {
+                restoreCallStack(callStackSize21);
+            }
+            if (buildTree) {
+                if (parseException21== null) {
+                    closeNodeScope(FormalParameters21, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException21.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1068
+    final public FormalParameter FormalParameter() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1068 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean FormalParameter22forced= false;
+        FormalParameter FormalParameter22= null;
+        if (buildTree) {
+            FormalParameter22= new FormalParameter();
+            openNodeScope(FormalParameter22);
+        }
+        ParseException parseException22= null;
+        int callStackSize22= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1069 of Java.javacc
+            pushOntoCallStack(74);
+            try {
+                Modifiers();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 1069 of Java.javacc
+            pushOntoCallStack(75);
+            try {
+                Type();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 1069 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.VAR_ARGS) {
+                // Code for RegexpStringLiteral specified on line 1069 of Java.javacc
+                consumeToken(TokenType.VAR_ARGS);
+            }
+            // Code for NonTerminal specified on line 1069 of Java.javacc
+            pushOntoCallStack(76);
+            try {
+                VariableDeclaratorId();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified on line 1070 of Java.javacc
+            return FormalParameter22;
+        }
+        catch(ParseException e) {
+            parseException22= e;
+            throw e;
+        }
+        finally {
+            if (parseException22== null) {
+                restoreCallStack(callStackSize22);
+            }
+            if (buildTree) {
+                if (parseException22== null) {
+                    closeNodeScope(FormalParameter22, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException22.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1077
+    final public void ConstructorDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1077 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ConstructorDeclaration23forced= false;
+        ConstructorDeclaration ConstructorDeclaration23= null;
+        if (buildTree) {
+            ConstructorDeclaration23= new ConstructorDeclaration();
+            openNodeScope(ConstructorDeclaration23);
+        }
+        ParseException parseException23= null;
+        int callStackSize23= parsingStackSize;
+        try {
+            // Code for ZeroOrOne specified on line 1078 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                // Code for NonTerminal specified on line 1078 of Java.javacc
+                pushOntoCallStack(77);
+                try {
+                    TypeParameters();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpRef specified on line 1080 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for NonTerminal specified on line 1080 of Java.javacc
+            pushOntoCallStack(78);
+            try {
+                FormalParameters();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 1080 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.THROWS) {
+                // Code for NonTerminal specified on line 1080 of Java.javacc
+                pushOntoCallStack(79);
+                try {
+                    ThrowsList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1081 of Java.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for ZeroOrOne specified on line 1082 of Java.javacc
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1082$column_7()) {
+                // Code for NonTerminal specified on line 1082 of Java.javacc
+                pushOntoCallStack(80);
+                try {
+                    ExplicitConstructorInvocation();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified on line 1083 of Java.javacc
+            while (resetScanAhead(1)&&first_set$Java_javacc$line_1083$column_23.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1083 of Java.javacc
+                pushOntoCallStack(81);
+                try {
+                    BlockStatement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1084 of Java.javacc
+            consumeToken(TokenType.RBRACE);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ConstructorDeclaration");
+        }
+        catch(ParseException e) {
+            parseException23= e;
+            throw e;
+        }
+        finally {
+            if (parseException23== null) {
+                restoreCallStack(callStackSize23);
+            }
+            if (buildTree) {
+                if (parseException23== null) {
+                    closeNodeScope(ConstructorDeclaration23, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException23.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> ExplicitConstructorInvocation_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.IDENTIFIER);
+    // Java.javacc, line 1087
+    final public void ExplicitConstructorInvocation() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1087 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1088 of Java.javacc
+        boolean ExplicitConstructorInvocation24forced= false;
+        ExplicitConstructorInvocation ExplicitConstructorInvocation24= null;
+        if (buildTree) {
+            ExplicitConstructorInvocation24= new ExplicitConstructorInvocation();
+            openNodeScope(ExplicitConstructorInvocation24);
+        }
+        ParseException parseException24= null;
+        int callStackSize24= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1088$column_3()) {
+                // Code for RegexpStringLiteral specified on line 1088 of Java.javacc
+                consumeToken(TokenType.THIS);
+                // Code for NonTerminal specified on line 1088 of Java.javacc
+                pushOntoCallStack(83);
+                try {
+                    Arguments();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified on line 1088 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_1090$column_3.contains(nextTokenType)) {
+                // Code for ZeroOrOne specified on line 1090 of Java.javacc
+                if (resetScanAhead(2)&&check$Java_javacc$line_1090$column_5()) {
+                    // Code for NonTerminal specified on line 1090 of Java.javacc
+                    pushOntoCallStack(84);
+                    try {
+                        PrimaryExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpStringLiteral specified on line 1090 of Java.javacc
+                    consumeToken(TokenType.DOT);
+                }
+                // Code for RegexpStringLiteral specified on line 1090 of Java.javacc
+                consumeToken(TokenType.SUPER);
+                // Code for NonTerminal specified on line 1090 of Java.javacc
+                pushOntoCallStack(85);
+                try {
+                    Arguments();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified on line 1090 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            else {
+                pushOntoCallStack(82);
+                throw new ParseException(current_token.getNext(), ExplicitConstructorInvocation_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ExplicitConstructorInvocation");
+        }
+        catch(ParseException e) {
+            parseException24= e;
+            throw e;
+        }
+        finally {
+            if (parseException24== null) {
+                restoreCallStack(callStackSize24);
+            }
+            if (buildTree) {
+                if (parseException24== null) {
+                    closeNodeScope(ExplicitConstructorInvocation24, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException24.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1094
+    final public void Initializer() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1094 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Initializer25forced= false;
+        Initializer Initializer25= null;
+        if (buildTree) {
+            Initializer25= new Initializer();
+            openNodeScope(Initializer25);
+        }
+        ParseException parseException25= null;
+        int callStackSize25= parsingStackSize;
+        try {
+            // Code for ZeroOrOne specified on line 1095 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.STATIC) {
+                // Code for RegexpStringLiteral specified on line 1095 of Java.javacc
+                consumeToken(TokenType.STATIC);
+            }
+            // Code for NonTerminal specified on line 1095 of Java.javacc
+            pushOntoCallStack(86);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Initializer");
+        }
+        catch(ParseException e) {
+            parseException25= e;
+            throw e;
+        }
+        finally {
+            if (parseException25== null) {
+                restoreCallStack(callStackSize25);
+            }
+            if (buildTree) {
+                if (parseException25== null) {
+                    closeNodeScope(Initializer25, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException25.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> Type_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT, TokenType.IDENTIFIER);
+    /*
+ * Type, name and expression syntax follows.
+ */
+    // Java.javacc, line 1103
+    final public void Type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1103 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1104 of Java.javacc
+        boolean Type26forced= false;
+        Type Type26= null;
+        if (buildTree) {
+            Type26= new Type();
+            openNodeScope(Type26);
+        }
+        ParseException parseException26= null;
+        int callStackSize26= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1104$column_4()) {
+                // Code for NonTerminal specified on line 1104 of Java.javacc
+                pushOntoCallStack(88);
+                try {
+                    ReferenceType();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_1106$column_4.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1106 of Java.javacc
+                pushOntoCallStack(89);
+                try {
+                    PrimitiveType();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(87);
+                throw new ParseException(current_token.getNext(), Type_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Type");
+        }
+        catch(ParseException e) {
+            parseException26= e;
+            throw e;
+        }
+        finally {
+            if (parseException26== null) {
+                restoreCallStack(callStackSize26);
+            }
+            if (buildTree) {
+                if (parseException26== null) {
+                    closeNodeScope(Type26, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException26.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> ReferenceType_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT, TokenType.IDENTIFIER);
+    // Java.javacc, line 1109
+    final public void ReferenceType() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1109 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1111 of Java.javacc
+        boolean ReferenceType27forced= false;
+        ReferenceType ReferenceType27= null;
+        if (buildTree) {
+            ReferenceType27= new ReferenceType();
+            openNodeScope(ReferenceType27);
+        }
+        ParseException parseException27= null;
+        int callStackSize27= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_1111$column_4.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1111 of Java.javacc
+                pushOntoCallStack(91);
+                try {
+                    PrimitiveArrayType();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for NonTerminal specified on line 1113 of Java.javacc
+                pushOntoCallStack(92);
+                try {
+                    ClassOrInterfaceType();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 1113 of Java.javacc
+                while (resetScanAhead(2147483647)&&check$Java_javacc$line_1113$column_26()) {
+                    // Code for RegexpStringLiteral specified on line 1113 of Java.javacc
+                    consumeToken(TokenType.LBRACKET);
+                    // Code for RegexpStringLiteral specified on line 1113 of Java.javacc
+                    consumeToken(TokenType.RBRACKET);
+                }
+            }
+            else {
+                pushOntoCallStack(90);
+                throw new ParseException(current_token.getNext(), ReferenceType_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ReferenceType");
+        }
+        catch(ParseException e) {
+            parseException27= e;
+            throw e;
+        }
+        finally {
+            if (parseException27== null) {
+                restoreCallStack(callStackSize27);
+            }
+            if (buildTree) {
+                if (parseException27== null) {
+                    closeNodeScope(ReferenceType27, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException27.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1116
+    final public ObjectType ClassOrInterfaceType() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1116 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ClassOrInterfaceType28forced= false;
+        ObjectType ClassOrInterfaceType28= null;
+        if (buildTree) {
+            ClassOrInterfaceType28= new ObjectType();
+            openNodeScope(ClassOrInterfaceType28);
+        }
+        ParseException parseException28= null;
+        int callStackSize28= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1117 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 1118 of Java.javacc
+            if (resetScanAhead(2)&&check$Java_javacc$line_1118$column_7()) {
+                // Code for NonTerminal specified on line 1118 of Java.javacc
+                pushOntoCallStack(93);
+                try {
+                    TypeArguments();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified on line 1119 of Java.javacc
+            while (resetScanAhead(2)&&check$Java_javacc$line_1119$column_7()) {
+                // Code for RegexpStringLiteral specified on line 1119 of Java.javacc
+                consumeToken(TokenType.DOT);
+                // Code for RegexpRef specified on line 1119 of Java.javacc
+                consumeToken(TokenType.IDENTIFIER);
+                // Code for ZeroOrOne specified on line 1119 of Java.javacc
+                if (resetScanAhead(2)&&check$Java_javacc$line_1119$column_33()) {
+                    // Code for NonTerminal specified on line 1119 of Java.javacc
+                    pushOntoCallStack(94);
+                    try {
+                        TypeArguments();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for CodeBlock specified on line 1120 of Java.javacc
+            return ClassOrInterfaceType28;
+        }
+        catch(ParseException e) {
+            parseException28= e;
+            throw e;
+        }
+        finally {
+            if (parseException28== null) {
+                restoreCallStack(callStackSize28);
+            }
+            if (buildTree) {
+                if (parseException28== null) {
+                    closeNodeScope(ClassOrInterfaceType28, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException28.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1143
+    final public void DiamondOperator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1143 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean DiamondOperator29forced= false;
+        DiamondOperator DiamondOperator29= null;
+        if (buildTree) {
+            DiamondOperator29= new DiamondOperator();
+            openNodeScope(DiamondOperator29);
+        }
+        ParseException parseException29= null;
+        int callStackSize29= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1143 of Java.javacc
+            consumeToken(TokenType.LT);
+            // Code for RegexpStringLiteral specified on line 1143 of Java.javacc
+            consumeToken(TokenType.GT);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from DiamondOperator");
+        }
+        catch(ParseException e) {
+            parseException29= e;
+            throw e;
+        }
+        finally {
+            if (parseException29== null) {
+                restoreCallStack(callStackSize29);
+            }
+            if (buildTree) {
+                if (parseException29== null) {
+                    closeNodeScope(DiamondOperator29, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException29.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> PossiblyEmptyTypeArguments_FIRST_SET= EnumSet.of(TokenType.LT);
+    // Java.javacc, line 1145
+    final public void PossiblyEmptyTypeArguments() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1145 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1146 of Java.javacc
+        if (resetScanAhead(2147483647)&&check$Java_javacc$line_1146$column_4()) {
+            // Code for NonTerminal specified on line 1146 of Java.javacc
+            pushOntoCallStack(96);
+            try {
+                DiamondOperator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+            // Code for NonTerminal specified on line 1148 of Java.javacc
+            pushOntoCallStack(97);
+            try {
+                TypeArguments();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(95);
+            throw new ParseException(current_token.getNext(), PossiblyEmptyTypeArguments_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PossiblyEmptyTypeArguments");
+    }
+
+    // Java.javacc, line 1151
+    final public void TypeArguments() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1151 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TypeArguments30forced= false;
+        TypeArguments TypeArguments30= null;
+        if (buildTree) {
+            TypeArguments30= new TypeArguments();
+            openNodeScope(TypeArguments30);
+        }
+        ParseException parseException30= null;
+        int callStackSize30= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1152 of Java.javacc
+            consumeToken(TokenType.LT);
+            // Code for NonTerminal specified on line 1153 of Java.javacc
+            pushOntoCallStack(98);
+            try {
+                TypeArgument();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1153 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 1153 of Java.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 1153 of Java.javacc
+                pushOntoCallStack(99);
+                try {
+                    TypeArgument();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1154 of Java.javacc
+            consumeToken(TokenType.GT);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from TypeArguments");
+        }
+        catch(ParseException e) {
+            parseException30= e;
+            throw e;
+        }
+        finally {
+            if (parseException30== null) {
+                restoreCallStack(callStackSize30);
+            }
+            if (buildTree) {
+                if (parseException30== null) {
+                    closeNodeScope(TypeArguments30, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException30.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> TypeArgument_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT, TokenType.HOOK, TokenType.IDENTIFIER);
+    // Java.javacc, line 1157
+    final public void TypeArgument() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1157 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1158 of Java.javacc
+        boolean TypeArgument31forced= false;
+        TypeArgument TypeArgument31= null;
+        if (buildTree) {
+            TypeArgument31= new TypeArgument();
+            openNodeScope(TypeArgument31);
+        }
+        ParseException parseException31= null;
+        int callStackSize31= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_1158$column_4.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1158 of Java.javacc
+                pushOntoCallStack(101);
+                try {
+                    ReferenceType();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.HOOK) {
+                // Code for RegexpStringLiteral specified on line 1160 of Java.javacc
+                consumeToken(TokenType.HOOK);
+                // Code for ZeroOrOne specified on line 1160 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.EXTENDS||nextTokenType== TokenType.SUPER) {
+                    // Code for NonTerminal specified on line 1160 of Java.javacc
+                    pushOntoCallStack(102);
+                    try {
+                        WildcardBounds();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            else {
+                pushOntoCallStack(100);
+                throw new ParseException(current_token.getNext(), TypeArgument_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from TypeArgument");
+        }
+        catch(ParseException e) {
+            parseException31= e;
+            throw e;
+        }
+        finally {
+            if (parseException31== null) {
+                restoreCallStack(callStackSize31);
+            }
+            if (buildTree) {
+                if (parseException31== null) {
+                    closeNodeScope(TypeArgument31, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException31.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1163
+    final public void WildcardBounds() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1163 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean WildcardBounds32forced= false;
+        WildcardBounds WildcardBounds32= null;
+        if (buildTree) {
+            WildcardBounds32= new WildcardBounds();
+            openNodeScope(WildcardBounds32);
+        }
+        ParseException parseException32= null;
+        int callStackSize32= parsingStackSize;
+        try {
+            // Code for ExpansionChoice specified on line 1164 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.EXTENDS) {
+                // Code for RegexpStringLiteral specified on line 1164 of Java.javacc
+                consumeToken(TokenType.EXTENDS);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.SUPER) {
+                // Code for RegexpStringLiteral specified on line 1164 of Java.javacc
+                consumeToken(TokenType.SUPER);
+            }
+            else {
+                pushOntoCallStack(103);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1164$column_5, getCallStack());
+            }
+            // Code for NonTerminal specified on line 1164 of Java.javacc
+            pushOntoCallStack(104);
+            try {
+                ReferenceType();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from WildcardBounds");
+        }
+        catch(ParseException e) {
+            parseException32= e;
+            throw e;
+        }
+        finally {
+            if (parseException32== null) {
+                restoreCallStack(callStackSize32);
+            }
+            if (buildTree) {
+                if (parseException32== null) {
+                    closeNodeScope(WildcardBounds32, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException32.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> PrimitiveType_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT);
+    // Java.javacc, line 1168
+    final public void PrimitiveType() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1168 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1169 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.BOOLEAN) {
+            // Code for RegexpStringLiteral specified on line 1169 of Java.javacc
+            consumeToken(TokenType.BOOLEAN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.CHAR) {
+            // Code for RegexpStringLiteral specified on line 1171 of Java.javacc
+            consumeToken(TokenType.CHAR);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.BYTE) {
+            // Code for RegexpStringLiteral specified on line 1173 of Java.javacc
+            consumeToken(TokenType.BYTE);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.SHORT) {
+            // Code for RegexpStringLiteral specified on line 1175 of Java.javacc
+            consumeToken(TokenType.SHORT);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.INT) {
+            // Code for RegexpStringLiteral specified on line 1177 of Java.javacc
+            consumeToken(TokenType.INT);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.LONG) {
+            // Code for RegexpStringLiteral specified on line 1179 of Java.javacc
+            consumeToken(TokenType.LONG);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.FLOAT) {
+            // Code for RegexpStringLiteral specified on line 1181 of Java.javacc
+            consumeToken(TokenType.FLOAT);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.DOUBLE) {
+            // Code for RegexpStringLiteral specified on line 1183 of Java.javacc
+            consumeToken(TokenType.DOUBLE);
+        }
+        else {
+            pushOntoCallStack(105);
+            throw new ParseException(current_token.getNext(), PrimitiveType_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PrimitiveType");
+    }
+
+    // Java.javacc, line 1186
+    final public void PrimitiveArrayType() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1186 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean PrimitiveArrayType33forced= false;
+        PrimitiveArrayType PrimitiveArrayType33= null;
+        if (buildTree) {
+            PrimitiveArrayType33= new PrimitiveArrayType();
+            openNodeScope(PrimitiveArrayType33);
+        }
+        ParseException parseException33= null;
+        int callStackSize33= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1187 of Java.javacc
+            pushOntoCallStack(106);
+            try {
+                PrimitiveType();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for OneOrMore specified on line 1187 of Java.javacc
+            do {
+                // Code for RegexpStringLiteral specified on line 1187 of Java.javacc
+                consumeToken(TokenType.LBRACKET);
+                // Code for RegexpStringLiteral specified on line 1187 of Java.javacc
+                consumeToken(TokenType.RBRACKET);
+            }
+            while (resetScanAhead(2147483647)&&check$Java_javacc$line_1187$column_20());
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PrimitiveArrayType");
+        }
+        catch(ParseException e) {
+            parseException33= e;
+            throw e;
+        }
+        finally {
+            if (parseException33== null) {
+                restoreCallStack(callStackSize33);
+            }
+            if (buildTree) {
+                if (parseException33== null) {
+                    closeNodeScope(PrimitiveArrayType33, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException33.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1190
+    final public ReturnType ReturnType() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1190 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ReturnType34forced= false;
+        ReturnType ReturnType34= null;
+        if (buildTree) {
+            ReturnType34= new ReturnType();
+            openNodeScope(ReturnType34);
+        }
+        ParseException parseException34= null;
+        int callStackSize34= parsingStackSize;
+        try {
+            // Code for ExpansionChoice specified on line 1192 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.VOID) {
+                // Code for RegexpStringLiteral specified on line 1192 of Java.javacc
+                consumeToken(TokenType.VOID);
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_1194$column_9.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1194 of Java.javacc
+                pushOntoCallStack(108);
+                try {
+                    Type();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(107);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1192$column_9, getCallStack());
+            }
+            // Code for CodeBlock specified on line 1196 of Java.javacc
+            return ReturnType34;
+        }
+        catch(ParseException e) {
+            parseException34= e;
+            throw e;
+        }
+        finally {
+            if (parseException34== null) {
+                restoreCallStack(callStackSize34);
+            }
+            if (buildTree) {
+                if (parseException34== null) {
+                    closeNodeScope(ReturnType34, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException34.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1201
+    final public Name Name() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1201 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Name35forced= false;
+        Name Name35= null;
+        if (buildTree) {
+            Name35= new Name();
+            openNodeScope(Name35);
+        }
+        ParseException parseException35= null;
+        int callStackSize35= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1206 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrMore specified on line 1209 of Java.javacc
+            while (resetScanAhead(2147483647)&&check$Java_javacc$line_1208$column_9()) {
+                // Code for RegexpStringLiteral specified on line 1208 of Java.javacc
+                consumeToken(TokenType.DOT);
+                // Code for RegexpRef specified on line 1208 of Java.javacc
+                consumeToken(TokenType.IDENTIFIER);
+            }
+            // Code for CodeBlock specified on line 1210 of Java.javacc
+            return Name35;
+        }
+        catch(ParseException e) {
+            parseException35= e;
+            throw e;
+        }
+        finally {
+            if (parseException35== null) {
+                restoreCallStack(callStackSize35);
+            }
+            if (buildTree) {
+                if (parseException35== null) {
+                    closeNodeScope(Name35, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException35.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1227
+    final public ThrowsList ThrowsList() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1227 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ThrowsList36forced= false;
+        ThrowsList ThrowsList36= null;
+        if (buildTree) {
+            ThrowsList36= new ThrowsList();
+            openNodeScope(ThrowsList36);
+        }
+        ParseException parseException36= null;
+        int callStackSize36= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1228 of Java.javacc
+            consumeToken(TokenType.THROWS);
+            // Code for NonTerminal specified on line 1228 of Java.javacc
+            pushOntoCallStack(109);
+            try {
+                Name();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1228 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 1228 of Java.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 1228 of Java.javacc
+                pushOntoCallStack(110);
+                try {
+                    Name();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for CodeBlock specified on line 1229 of Java.javacc
+            return ThrowsList36;
+        }
+        catch(ParseException e) {
+            parseException36= e;
+            throw e;
+        }
+        finally {
+            if (parseException36== null) {
+                restoreCallStack(callStackSize36);
+            }
+            if (buildTree) {
+                if (parseException36== null) {
+                    closeNodeScope(ThrowsList36, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException36.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /*
+ * Expression syntax follows.
+ */
+    // Java.javacc, line 1255
+    final public Expression Expression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1255 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Expression37forced= false;
+        Expression Expression37= null;
+        if (buildTree) {
+            Expression37= new Expression();
+            openNodeScope(Expression37);
+        }
+        ParseException parseException37= null;
+        int callStackSize37= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1256 of Java.javacc
+            pushOntoCallStack(111);
+            try {
+                AssignmentExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified on line 1257 of Java.javacc
+            return getBuildTree()?(Expression) peekNode():
+            null;
+        }
+        catch(ParseException e) {
+            parseException37= e;
+            throw e;
+        }
+        finally {
+            if (parseException37== null) {
+                restoreCallStack(callStackSize37);
+            }
+            if (buildTree) {
+                if (parseException37== null) {
+                    closeNodeScope(Expression37, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException37.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /*
+ * This expansion has been written this way instead of:
+ *   Assignment | TernaryExpression
+ * for performance reasons.
+ * However, it is a weakening of the grammar for it allows the LHS of
+ * assignments to be any conditional expression whereas it can only be
+ * a primary expression.  Consider adding a semantic predicate to work
+ * around this.
+ */
+    // Java.javacc, line 1293
+    final public void AssignmentExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1293 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AssignmentExpression38forced= false;
+        AssignmentExpression AssignmentExpression38= null;
+        if (buildTree) {
+            AssignmentExpression38= new AssignmentExpression();
+            openNodeScope(AssignmentExpression38);
+        }
+        ParseException parseException38= null;
+        int callStackSize38= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1294 of Java.javacc
+            pushOntoCallStack(112);
+            try {
+                TernaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 1295 of Java.javacc
+            if (resetScanAhead(2)&&check$Java_javacc$line_1296$column_9()) {
+                // Code for NonTerminal specified on line 1296 of Java.javacc
+                pushOntoCallStack(113);
+                try {
+                    AssignmentOperator();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for NonTerminal specified on line 1296 of Java.javacc
+                pushOntoCallStack(114);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AssignmentExpression");
+        }
+        catch(ParseException e) {
+            parseException38= e;
+            throw e;
+        }
+        finally {
+            if (parseException38== null) {
+                restoreCallStack(callStackSize38);
+            }
+            if (buildTree) {
+                if (parseException38== null) {
+                    closeNodeScope(AssignmentExpression38, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException38.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> AssignmentOperator_FIRST_SET= EnumSet.of(TokenType.ASSIGN, TokenType.PLUSASSIGN, TokenType.MINUSASSIGN, TokenType.STARASSIGN, TokenType.SLASHASSIGN, TokenType.ANDASSIGN, TokenType.ORASSIGN, TokenType.XORASSIGN, TokenType.REMASSIGN, TokenType.LSHIFTASSIGN, TokenType.RSIGNEDSHIFTASSIGN, TokenType.RUNSIGNEDSHIFTASSIGN);
+    // Java.javacc, line 1300
+    final public void AssignmentOperator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1300 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1302 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.ASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.ASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.STARASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.STARASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.SLASHASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.SLASHASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.REMASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.REMASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.PLUSASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.PLUSASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.MINUSASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.MINUSASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.LSHIFTASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.LSHIFTASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.RSIGNEDSHIFTASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.RSIGNEDSHIFTASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.RUNSIGNEDSHIFTASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.RUNSIGNEDSHIFTASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.ANDASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.ANDASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.XORASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.XORASSIGN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.ORASSIGN) {
+            // Code for RegexpStringLiteral specified on line 1302 of Java.javacc
+            consumeToken(TokenType.ORASSIGN);
+        }
+        else {
+            pushOntoCallStack(115);
+            throw new ParseException(current_token.getNext(), AssignmentOperator_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AssignmentOperator");
+    }
+
+    // Java.javacc, line 1305
+    final public void TernaryExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1305 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TernaryExpression39forced= false;
+        TernaryExpression TernaryExpression39= null;
+        if (buildTree) {
+            TernaryExpression39= new TernaryExpression();
+            openNodeScope(TernaryExpression39);
+        }
+        ParseException parseException39= null;
+        int callStackSize39= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1306 of Java.javacc
+            pushOntoCallStack(116);
+            try {
+                ConditionalOrExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 1306 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.HOOK) {
+                // Code for RegexpStringLiteral specified on line 1306 of Java.javacc
+                consumeToken(TokenType.HOOK);
+                // Code for NonTerminal specified on line 1306 of Java.javacc
+                pushOntoCallStack(117);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified on line 1306 of Java.javacc
+                consumeToken(TokenType.COLON);
+                // Code for NonTerminal specified on line 1306 of Java.javacc
+                pushOntoCallStack(118);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from TernaryExpression");
+        }
+        catch(ParseException e) {
+            parseException39= e;
+            throw e;
+        }
+        finally {
+            if (parseException39== null) {
+                restoreCallStack(callStackSize39);
+            }
+            if (buildTree) {
+                if (parseException39== null) {
+                    closeNodeScope(TernaryExpression39, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException39.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1309
+    final public void ConditionalOrExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1309 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ConditionalOrExpression40forced= false;
+        ConditionalOrExpression ConditionalOrExpression40= null;
+        if (buildTree) {
+            ConditionalOrExpression40= new ConditionalOrExpression();
+            openNodeScope(ConditionalOrExpression40);
+        }
+        ParseException parseException40= null;
+        int callStackSize40= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1310 of Java.javacc
+            pushOntoCallStack(119);
+            try {
+                ConditionalAndExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1310 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.SC_OR) {
+                // Code for RegexpStringLiteral specified on line 1310 of Java.javacc
+                consumeToken(TokenType.SC_OR);
+                // Code for NonTerminal specified on line 1310 of Java.javacc
+                pushOntoCallStack(120);
+                try {
+                    ConditionalAndExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ConditionalOrExpression");
+        }
+        catch(ParseException e) {
+            parseException40= e;
+            throw e;
+        }
+        finally {
+            if (parseException40== null) {
+                restoreCallStack(callStackSize40);
+            }
+            if (buildTree) {
+                if (parseException40== null) {
+                    closeNodeScope(ConditionalOrExpression40, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException40.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1313
+    final public void ConditionalAndExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1313 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ConditionalAndExpression41forced= false;
+        ConditionalAndExpression ConditionalAndExpression41= null;
+        if (buildTree) {
+            ConditionalAndExpression41= new ConditionalAndExpression();
+            openNodeScope(ConditionalAndExpression41);
+        }
+        ParseException parseException41= null;
+        int callStackSize41= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1314 of Java.javacc
+            pushOntoCallStack(121);
+            try {
+                InclusiveOrExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1314 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.SC_AND) {
+                // Code for RegexpStringLiteral specified on line 1314 of Java.javacc
+                consumeToken(TokenType.SC_AND);
+                // Code for NonTerminal specified on line 1314 of Java.javacc
+                pushOntoCallStack(122);
+                try {
+                    InclusiveOrExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ConditionalAndExpression");
+        }
+        catch(ParseException e) {
+            parseException41= e;
+            throw e;
+        }
+        finally {
+            if (parseException41== null) {
+                restoreCallStack(callStackSize41);
+            }
+            if (buildTree) {
+                if (parseException41== null) {
+                    closeNodeScope(ConditionalAndExpression41, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException41.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1317
+    final public void InclusiveOrExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1317 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean InclusiveOrExpression42forced= false;
+        InclusiveOrExpression InclusiveOrExpression42= null;
+        if (buildTree) {
+            InclusiveOrExpression42= new InclusiveOrExpression();
+            openNodeScope(InclusiveOrExpression42);
+        }
+        ParseException parseException42= null;
+        int callStackSize42= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1318 of Java.javacc
+            pushOntoCallStack(123);
+            try {
+                ExclusiveOrExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1318 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.BIT_OR) {
+                // Code for RegexpStringLiteral specified on line 1318 of Java.javacc
+                consumeToken(TokenType.BIT_OR);
+                // Code for NonTerminal specified on line 1318 of Java.javacc
+                pushOntoCallStack(124);
+                try {
+                    ExclusiveOrExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from InclusiveOrExpression");
+        }
+        catch(ParseException e) {
+            parseException42= e;
+            throw e;
+        }
+        finally {
+            if (parseException42== null) {
+                restoreCallStack(callStackSize42);
+            }
+            if (buildTree) {
+                if (parseException42== null) {
+                    closeNodeScope(InclusiveOrExpression42, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException42.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1321
+    final public void ExclusiveOrExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1321 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ExclusiveOrExpression43forced= false;
+        ExclusiveOrExpression ExclusiveOrExpression43= null;
+        if (buildTree) {
+            ExclusiveOrExpression43= new ExclusiveOrExpression();
+            openNodeScope(ExclusiveOrExpression43);
+        }
+        ParseException parseException43= null;
+        int callStackSize43= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1322 of Java.javacc
+            pushOntoCallStack(125);
+            try {
+                AndExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1322 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.XOR) {
+                // Code for RegexpStringLiteral specified on line 1322 of Java.javacc
+                consumeToken(TokenType.XOR);
+                // Code for NonTerminal specified on line 1322 of Java.javacc
+                pushOntoCallStack(126);
+                try {
+                    AndExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ExclusiveOrExpression");
+        }
+        catch(ParseException e) {
+            parseException43= e;
+            throw e;
+        }
+        finally {
+            if (parseException43== null) {
+                restoreCallStack(callStackSize43);
+            }
+            if (buildTree) {
+                if (parseException43== null) {
+                    closeNodeScope(ExclusiveOrExpression43, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException43.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1325
+    final public void AndExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1325 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AndExpression44forced= false;
+        AndExpression AndExpression44= null;
+        if (buildTree) {
+            AndExpression44= new AndExpression();
+            openNodeScope(AndExpression44);
+        }
+        ParseException parseException44= null;
+        int callStackSize44= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1326 of Java.javacc
+            pushOntoCallStack(127);
+            try {
+                EqualityExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1326 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.BIT_AND) {
+                // Code for RegexpStringLiteral specified on line 1326 of Java.javacc
+                consumeToken(TokenType.BIT_AND);
+                // Code for NonTerminal specified on line 1326 of Java.javacc
+                pushOntoCallStack(128);
+                try {
+                    EqualityExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AndExpression");
+        }
+        catch(ParseException e) {
+            parseException44= e;
+            throw e;
+        }
+        finally {
+            if (parseException44== null) {
+                restoreCallStack(callStackSize44);
+            }
+            if (buildTree) {
+                if (parseException44== null) {
+                    closeNodeScope(AndExpression44, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException44.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1329
+    final public void EqualityExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1329 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean EqualityExpression45forced= false;
+        EqualityExpression EqualityExpression45= null;
+        if (buildTree) {
+            EqualityExpression45= new EqualityExpression();
+            openNodeScope(EqualityExpression45);
+        }
+        ParseException parseException45= null;
+        int callStackSize45= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1330 of Java.javacc
+            pushOntoCallStack(129);
+            try {
+                InstanceOfExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1330 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.EQ||nextTokenType== TokenType.NE) {
+                // Code for ExpansionChoice specified on line 1330 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.EQ) {
+                    // Code for RegexpStringLiteral specified on line 1330 of Java.javacc
+                    consumeToken(TokenType.EQ);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.NE) {
+                    // Code for RegexpStringLiteral specified on line 1330 of Java.javacc
+                    consumeToken(TokenType.NE);
+                }
+                else {
+                    pushOntoCallStack(130);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1330$column_28, getCallStack());
+                }
+                // Code for NonTerminal specified on line 1330 of Java.javacc
+                pushOntoCallStack(131);
+                try {
+                    InstanceOfExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from EqualityExpression");
+        }
+        catch(ParseException e) {
+            parseException45= e;
+            throw e;
+        }
+        finally {
+            if (parseException45== null) {
+                restoreCallStack(callStackSize45);
+            }
+            if (buildTree) {
+                if (parseException45== null) {
+                    closeNodeScope(EqualityExpression45, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException45.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1333
+    final public void InstanceOfExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1333 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean InstanceOfExpression46forced= false;
+        InstanceOfExpression InstanceOfExpression46= null;
+        if (buildTree) {
+            InstanceOfExpression46= new InstanceOfExpression();
+            openNodeScope(InstanceOfExpression46);
+        }
+        ParseException parseException46= null;
+        int callStackSize46= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1334 of Java.javacc
+            pushOntoCallStack(132);
+            try {
+                RelationalExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 1334 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.INSTANCEOF) {
+                // Code for RegexpStringLiteral specified on line 1334 of Java.javacc
+                consumeToken(TokenType.INSTANCEOF);
+                // Code for NonTerminal specified on line 1334 of Java.javacc
+                pushOntoCallStack(133);
+                try {
+                    Type();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from InstanceOfExpression");
+        }
+        catch(ParseException e) {
+            parseException46= e;
+            throw e;
+        }
+        finally {
+            if (parseException46== null) {
+                restoreCallStack(callStackSize46);
+            }
+            if (buildTree) {
+                if (parseException46== null) {
+                    closeNodeScope(InstanceOfExpression46, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException46.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1337
+    final public void RelationalExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1337 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean RelationalExpression47forced= false;
+        RelationalExpression RelationalExpression47= null;
+        if (buildTree) {
+            RelationalExpression47= new RelationalExpression();
+            openNodeScope(RelationalExpression47);
+        }
+        ParseException parseException47= null;
+        int callStackSize47= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1338 of Java.javacc
+            pushOntoCallStack(134);
+            try {
+                ShiftExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1347 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.GT||nextTokenType== TokenType.LT||nextTokenType== TokenType.LE||nextTokenType== TokenType.GE) {
+                // Code for ExpansionChoice specified on line 1341 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                    // Code for RegexpStringLiteral specified on line 1341 of Java.javacc
+                    consumeToken(TokenType.LT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.GT) {
+                    // Code for RegexpStringLiteral specified on line 1342 of Java.javacc
+                    consumeToken(TokenType.GT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.LE) {
+                    // Code for RegexpStringLiteral specified on line 1343 of Java.javacc
+                    consumeToken(TokenType.LE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.GE) {
+                    // Code for RegexpStringLiteral specified on line 1344 of Java.javacc
+                    consumeToken(TokenType.GE);
+                }
+                else {
+                    pushOntoCallStack(135);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1341$column_6, getCallStack());
+                }
+                // Code for NonTerminal specified on line 1346 of Java.javacc
+                pushOntoCallStack(136);
+                try {
+                    ShiftExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from RelationalExpression");
+        }
+        catch(ParseException e) {
+            parseException47= e;
+            throw e;
+        }
+        finally {
+            if (parseException47== null) {
+                restoreCallStack(callStackSize47);
+            }
+            if (buildTree) {
+                if (parseException47== null) {
+                    closeNodeScope(RelationalExpression47, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException47.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1351
+    final public void ShiftExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1351 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ShiftExpression48forced= false;
+        ShiftExpression ShiftExpression48= null;
+        if (buildTree) {
+            ShiftExpression48= new ShiftExpression();
+            openNodeScope(ShiftExpression48);
+        }
+        ParseException parseException48= null;
+        int callStackSize48= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1352 of Java.javacc
+            pushOntoCallStack(137);
+            try {
+                AdditiveExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1361 of Java.javacc
+            while (resetScanAhead(2)&&check$Java_javacc$line_1354$column_7()) {
+                // Code for ExpansionChoice specified on line 1356 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.LSHIFT) {
+                    // Code for RegexpStringLiteral specified on line 1356 of Java.javacc
+                    consumeToken(TokenType.LSHIFT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.GT) {
+                    // Code for NonTerminal specified on line 1358 of Java.javacc
+                    pushOntoCallStack(139);
+                    try {
+                        ShiftOperator();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    pushOntoCallStack(138);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1356$column_9, getCallStack());
+                }
+                // Code for NonTerminal specified on line 1360 of Java.javacc
+                pushOntoCallStack(140);
+                try {
+                    AdditiveExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ShiftExpression");
+        }
+        catch(ParseException e) {
+            parseException48= e;
+            throw e;
+        }
+        finally {
+            if (parseException48== null) {
+                restoreCallStack(callStackSize48);
+            }
+            if (buildTree) {
+                if (parseException48== null) {
+                    closeNodeScope(ShiftExpression48, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException48.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    //Egad, what a ghastly kludge this is! Consider a REVISIT.
+    // Java.javacc, line 1366
+    final public void ShiftOperator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1366 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for CodeBlock specified on line 1367 of Java.javacc
+        Token first, second, third= null;
+        // Code for RegexpStringLiteral specified on line 1370 of Java.javacc
+        first= consumeToken(TokenType.GT);
+        // Code for RegexpStringLiteral specified on line 1371 of Java.javacc
+        second= consumeToken(TokenType.GT);
+        // Code for ZeroOrOne specified on line 1372 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.GT) {
+            // Code for RegexpStringLiteral specified on line 1372 of Java.javacc
+            third= consumeToken(TokenType.GT);
+        }
+        // Code for CodeBlock specified on line 1373 of Java.javacc
+        if (second.getBeginColumn()!=first.getBeginColumn()+1) {
+            throw new ParseException(this, "Shift operator cannot have spaces or comments inside!\n"+first.getLocation());
+        }
+        if (third!=null) {
+            if (third.getBeginColumn()!=first.getBeginColumn()+2) {
+                throw new ParseException(this, "Shift operator >>> cannot have spaces or comments inside!\n"+first.getLocation());
+            }
+            first.setImage(">>>");
+            first.setType(TokenType.RUNSIGNEDSHIFT);
+            Token next= third.getNext();
+            first.setNext(next);
+            if (getBuildTree()) {
+                popNode();
+                popNode();
+            }
+        }
+        else {
+            first.setImage(">>");
+            first.setType(TokenType.RSIGNEDSHIFT);
+            Token next= second.getNext();
+            first.setNext(next);
+            if (getBuildTree()) {
+                popNode();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ShiftOperator");
+    }
+
+    // Java.javacc, line 1402
+    final public void AdditiveExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1402 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AdditiveExpression49forced= false;
+        AdditiveExpression AdditiveExpression49= null;
+        if (buildTree) {
+            AdditiveExpression49= new AdditiveExpression();
+            openNodeScope(AdditiveExpression49);
+        }
+        ParseException parseException49= null;
+        int callStackSize49= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1403 of Java.javacc
+            pushOntoCallStack(141);
+            try {
+                MultiplicativeExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1403 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.PLUS||nextTokenType== TokenType.MINUS) {
+                // Code for ExpansionChoice specified on line 1403 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.PLUS) {
+                    // Code for RegexpStringLiteral specified on line 1403 of Java.javacc
+                    consumeToken(TokenType.PLUS);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.MINUS) {
+                    // Code for RegexpStringLiteral specified on line 1403 of Java.javacc
+                    consumeToken(TokenType.MINUS);
+                }
+                else {
+                    pushOntoCallStack(142);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1403$column_33, getCallStack());
+                }
+                // Code for NonTerminal specified on line 1403 of Java.javacc
+                pushOntoCallStack(143);
+                try {
+                    MultiplicativeExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AdditiveExpression");
+        }
+        catch(ParseException e) {
+            parseException49= e;
+            throw e;
+        }
+        finally {
+            if (parseException49== null) {
+                restoreCallStack(callStackSize49);
+            }
+            if (buildTree) {
+                if (parseException49== null) {
+                    closeNodeScope(AdditiveExpression49, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException49.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1406
+    final public void MultiplicativeExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1406 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean MultiplicativeExpression50forced= false;
+        MultiplicativeExpression MultiplicativeExpression50= null;
+        if (buildTree) {
+            MultiplicativeExpression50= new MultiplicativeExpression();
+            openNodeScope(MultiplicativeExpression50);
+        }
+        ParseException parseException50= null;
+        int callStackSize50= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1407 of Java.javacc
+            pushOntoCallStack(144);
+            try {
+                UnaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1407 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.STAR||nextTokenType== TokenType.SLASH||nextTokenType== TokenType.REM) {
+                // Code for ExpansionChoice specified on line 1407 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.STAR) {
+                    // Code for RegexpStringLiteral specified on line 1407 of Java.javacc
+                    consumeToken(TokenType.STAR);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.SLASH) {
+                    // Code for RegexpStringLiteral specified on line 1407 of Java.javacc
+                    consumeToken(TokenType.SLASH);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.REM) {
+                    // Code for RegexpStringLiteral specified on line 1407 of Java.javacc
+                    consumeToken(TokenType.REM);
+                }
+                else {
+                    pushOntoCallStack(145);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1407$column_24, getCallStack());
+                }
+                // Code for NonTerminal specified on line 1407 of Java.javacc
+                pushOntoCallStack(146);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MultiplicativeExpression");
+        }
+        catch(ParseException e) {
+            parseException50= e;
+            throw e;
+        }
+        finally {
+            if (parseException50== null) {
+                restoreCallStack(callStackSize50);
+            }
+            if (buildTree) {
+                if (parseException50== null) {
+                    closeNodeScope(MultiplicativeExpression50, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException50.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    // Java.javacc, line 1410
+    final public void UnaryExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1410 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1411 of Java.javacc
+        boolean UnaryExpression51forced= false;
+        UnaryExpression UnaryExpression51= null;
+        if (buildTree) {
+            UnaryExpression51= new UnaryExpression();
+            openNodeScope(UnaryExpression51);
+        }
+        ParseException parseException51= null;
+        int callStackSize51= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.PLUS||nextTokenType== TokenType.MINUS) {
+                // Code for ExpansionChoice specified on line 1411 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.PLUS) {
+                    // Code for RegexpStringLiteral specified on line 1411 of Java.javacc
+                    consumeToken(TokenType.PLUS);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.MINUS) {
+                    // Code for RegexpStringLiteral specified on line 1411 of Java.javacc
+                    consumeToken(TokenType.MINUS);
+                }
+                else {
+                    pushOntoCallStack(148);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1411$column_5, getCallStack());
+                }
+                // Code for NonTerminal specified on line 1411 of Java.javacc
+                pushOntoCallStack(149);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.INCR) {
+                // Code for NonTerminal specified on line 1413 of Java.javacc
+                pushOntoCallStack(150);
+                try {
+                    PreIncrementExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DECR) {
+                // Code for NonTerminal specified on line 1415 of Java.javacc
+                pushOntoCallStack(151);
+                try {
+                    PreDecrementExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_1417$column_3.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1417 of Java.javacc
+                pushOntoCallStack(152);
+                try {
+                    UnaryExpressionNotPlusMinus();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(147);
+                throw new ParseException(current_token.getNext(), UnaryExpression_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from UnaryExpression");
+        }
+        catch(ParseException e) {
+            parseException51= e;
+            throw e;
+        }
+        finally {
+            if (parseException51== null) {
+                restoreCallStack(callStackSize51);
+            }
+            if (buildTree) {
+                if (parseException51== null) {
+                    closeNodeScope(UnaryExpression51, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException51.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1420
+    final public void PreIncrementExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1420 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean PreIncrementExpression52forced= false;
+        PreIncrementExpression PreIncrementExpression52= null;
+        if (buildTree) {
+            PreIncrementExpression52= new PreIncrementExpression();
+            openNodeScope(PreIncrementExpression52);
+        }
+        ParseException parseException52= null;
+        int callStackSize52= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1421 of Java.javacc
+            consumeToken(TokenType.INCR);
+            // Code for NonTerminal specified on line 1421 of Java.javacc
+            pushOntoCallStack(153);
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PreIncrementExpression");
+        }
+        catch(ParseException e) {
+            parseException52= e;
+            throw e;
+        }
+        finally {
+            if (parseException52== null) {
+                restoreCallStack(callStackSize52);
+            }
+            if (buildTree) {
+                if (parseException52== null) {
+                    closeNodeScope(PreIncrementExpression52, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException52.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1424
+    final public void PreDecrementExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1424 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean PreDecrementExpression53forced= false;
+        PreDecrementExpression PreDecrementExpression53= null;
+        if (buildTree) {
+            PreDecrementExpression53= new PreDecrementExpression();
+            openNodeScope(PreDecrementExpression53);
+        }
+        ParseException parseException53= null;
+        int callStackSize53= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1425 of Java.javacc
+            consumeToken(TokenType.DECR);
+            // Code for NonTerminal specified on line 1425 of Java.javacc
+            pushOntoCallStack(154);
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PreDecrementExpression");
+        }
+        catch(ParseException e) {
+            parseException53= e;
+            throw e;
+        }
+        finally {
+            if (parseException53== null) {
+                restoreCallStack(callStackSize53);
+            }
+            if (buildTree) {
+                if (parseException53== null) {
+                    closeNodeScope(PreDecrementExpression53, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException53.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpressionNotPlusMinus_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.BANG, TokenType.TILDE, TokenType.IDENTIFIER);
+    // Java.javacc, line 1428
+    final public void UnaryExpressionNotPlusMinus() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1428 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1429 of Java.javacc
+        boolean UnaryExpressionNotPlusMinus54forced= false;
+        UnaryExpressionNotPlusMinus UnaryExpressionNotPlusMinus54= null;
+        if (buildTree) {
+            UnaryExpressionNotPlusMinus54= new UnaryExpressionNotPlusMinus();
+            openNodeScope(UnaryExpressionNotPlusMinus54);
+        }
+        ParseException parseException54= null;
+        int callStackSize54= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.BANG||nextTokenType== TokenType.TILDE) {
+                // Code for ExpansionChoice specified on line 1429 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.TILDE) {
+                    // Code for RegexpStringLiteral specified on line 1429 of Java.javacc
+                    consumeToken(TokenType.TILDE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.BANG) {
+                    // Code for RegexpStringLiteral specified on line 1429 of Java.javacc
+                    consumeToken(TokenType.BANG);
+                }
+                else {
+                    pushOntoCallStack(156);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1429$column_5, getCallStack());
+                }
+                // Code for NonTerminal specified on line 1429 of Java.javacc
+                pushOntoCallStack(157);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(2147483647, TokenType.LAMBDA)&&check$Java_javacc$line_1431$column_3()) {
+                // Code for NonTerminal specified on line 1433 of Java.javacc
+                pushOntoCallStack(158);
+                try {
+                    LambdaExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1435$column_3()) {
+                // Code for NonTerminal specified on line 1435 of Java.javacc
+                pushOntoCallStack(159);
+                try {
+                    CastExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_1437$column_3.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1437 of Java.javacc
+                pushOntoCallStack(160);
+                try {
+                    PostfixExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(155);
+                throw new ParseException(current_token.getNext(), UnaryExpressionNotPlusMinus_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from UnaryExpressionNotPlusMinus");
+        }
+        catch(ParseException e) {
+            parseException54= e;
+            throw e;
+        }
+        finally {
+            if (parseException54== null) {
+                restoreCallStack(callStackSize54);
+            }
+            if (buildTree) {
+                if (parseException54== null) {
+                    closeNodeScope(UnaryExpressionNotPlusMinus54, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException54.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1440
+    final public void PostfixExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1440 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean PostfixExpression55forced= false;
+        PostfixExpression PostfixExpression55= null;
+        if (buildTree) {
+            PostfixExpression55= new PostfixExpression();
+            openNodeScope(PostfixExpression55);
+        }
+        ParseException parseException55= null;
+        int callStackSize55= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1441 of Java.javacc
+            pushOntoCallStack(161);
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 1441 of Java.javacc
+            // Code for ExpansionChoice specified on line 1441 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.INCR) {
+                // Code for RegexpStringLiteral specified on line 1441 of Java.javacc
+                consumeToken(TokenType.INCR);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DECR) {
+                // Code for RegexpStringLiteral specified on line 1441 of Java.javacc
+                consumeToken(TokenType.DECR);
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PostfixExpression");
+        }
+        catch(ParseException e) {
+            parseException55= e;
+            throw e;
+        }
+        finally {
+            if (parseException55== null) {
+                restoreCallStack(callStackSize55);
+            }
+            if (buildTree) {
+                if (parseException55== null) {
+                    closeNodeScope(PostfixExpression55, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException55.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> CastExpression_FIRST_SET= EnumSet.of(TokenType.LPAREN);
+    // Java.javacc, line 1444
+    final public void CastExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1444 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1445 of Java.javacc
+        boolean CastExpression56forced= false;
+        CastExpression CastExpression56= null;
+        if (buildTree) {
+            CastExpression56= new CastExpression();
+            openNodeScope(CastExpression56);
+        }
+        ParseException parseException56= null;
+        int callStackSize56= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1445$column_3()) {
+                // Code for RegexpStringLiteral specified on line 1445 of Java.javacc
+                consumeToken(TokenType.LPAREN);
+                // Code for NonTerminal specified on line 1445 of Java.javacc
+                pushOntoCallStack(163);
+                try {
+                    PrimitiveType();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified on line 1445 of Java.javacc
+                consumeToken(TokenType.RPAREN);
+                // Code for NonTerminal specified on line 1445 of Java.javacc
+                pushOntoCallStack(164);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1447$column_3()) {
+                // Code for RegexpStringLiteral specified on line 1447 of Java.javacc
+                consumeToken(TokenType.LPAREN);
+                // Code for NonTerminal specified on line 1447 of Java.javacc
+                pushOntoCallStack(165);
+                try {
+                    ReferenceType();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified on line 1447 of Java.javacc
+                consumeToken(TokenType.RPAREN);
+                // Code for NonTerminal specified on line 1447 of Java.javacc
+                pushOntoCallStack(166);
+                try {
+                    UnaryExpressionNotPlusMinus();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1449$column_3()) {
+                // Code for RegexpStringLiteral specified on line 1449 of Java.javacc
+                consumeToken(TokenType.LPAREN);
+                // Code for NonTerminal specified on line 1449 of Java.javacc
+                pushOntoCallStack(167);
+                try {
+                    ClassOrInterfaceType();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for OneOrMore specified on line 1449 of Java.javacc
+                do {
+                    // Code for RegexpStringLiteral specified on line 1449 of Java.javacc
+                    consumeToken(TokenType.BIT_AND);
+                    // Code for NonTerminal specified on line 1449 of Java.javacc
+                    pushOntoCallStack(168);
+                    try {
+                        ClassOrInterfaceType();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                while (resetScanAhead(1)&&nextTokenType== TokenType.BIT_AND);
+                // Code for RegexpStringLiteral specified on line 1449 of Java.javacc
+                consumeToken(TokenType.RPAREN);
+                // Code for NonTerminal specified on line 1449 of Java.javacc
+                pushOntoCallStack(169);
+                try {
+                    UnaryExpressionNotPlusMinus();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(162);
+                throw new ParseException(current_token.getNext(), CastExpression_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from CastExpression");
+        }
+        catch(ParseException e) {
+            parseException56= e;
+            throw e;
+        }
+        finally {
+            if (parseException56== null) {
+                restoreCallStack(callStackSize56);
+            }
+            if (buildTree) {
+                if (parseException56== null) {
+                    closeNodeScope(CastExpression56, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException56.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1452
+    final public Expression PrimaryExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1452 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean PrimaryExpression57forced= false;
+        PrimaryExpression PrimaryExpression57= null;
+        if (buildTree) {
+            PrimaryExpression57= new PrimaryExpression();
+            openNodeScope(PrimaryExpression57);
+        }
+        ParseException parseException57= null;
+        int callStackSize57= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1453 of Java.javacc
+            pushOntoCallStack(170);
+            try {
+                PrimaryPrefix();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1454 of Java.javacc
+            while (resetScanAhead(2)&&check$Java_javacc$line_1454$column_7()) {
+                // Code for NonTerminal specified on line 1454 of Java.javacc
+                pushOntoCallStack(171);
+                try {
+                    PrimarySuffix();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for CodeBlock specified on line 1455 of Java.javacc
+            return PrimaryExpression57;
+        }
+        catch(ParseException e) {
+            parseException57= e;
+            throw e;
+        }
+        finally {
+            if (parseException57== null) {
+                restoreCallStack(callStackSize57);
+            }
+            if (buildTree) {
+                if (parseException57== null) {
+                    closeNodeScope(PrimaryExpression57, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException57.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1460
+    final public void MemberSelector() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1460 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean MemberSelector58forced= false;
+        MemberSelector MemberSelector58= null;
+        if (buildTree) {
+            MemberSelector58= new MemberSelector();
+            openNodeScope(MemberSelector58);
+        }
+        ParseException parseException58= null;
+        int callStackSize58= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1461 of Java.javacc
+            consumeToken(TokenType.DOT);
+            // Code for NonTerminal specified on line 1461 of Java.javacc
+            pushOntoCallStack(172);
+            try {
+                TypeArguments();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 1461 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MemberSelector");
+        }
+        catch(ParseException e) {
+            parseException58= e;
+            throw e;
+        }
+        finally {
+            if (parseException58== null) {
+                restoreCallStack(callStackSize58);
+            }
+            if (buildTree) {
+                if (parseException58== null) {
+                    closeNodeScope(MemberSelector58, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException58.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> PrimaryPrefix_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.IDENTIFIER);
+    // Java.javacc, line 1464
+    final public void PrimaryPrefix() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1464 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1465 of Java.javacc
+        boolean PrimaryPrefix59forced= false;
+        PrimaryPrefix PrimaryPrefix59= null;
+        if (buildTree) {
+            PrimaryPrefix59= new PrimaryPrefix();
+            openNodeScope(PrimaryPrefix59);
+        }
+        ParseException parseException59= null;
+        int callStackSize59= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_1465$column_3.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1465 of Java.javacc
+                pushOntoCallStack(174);
+                try {
+                    Literal();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.THIS) {
+                // Code for RegexpStringLiteral specified on line 1467 of Java.javacc
+                consumeToken(TokenType.THIS);
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1469$column_2()) {
+                // Code for RegexpStringLiteral specified on line 1469 of Java.javacc
+                consumeToken(TokenType.SUPER);
+                // Code for RegexpStringLiteral specified on line 1469 of Java.javacc
+                consumeToken(TokenType.DOT);
+                // Code for RegexpRef specified on line 1469 of Java.javacc
+                consumeToken(TokenType.IDENTIFIER);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.LPAREN) {
+                // Code for RegexpStringLiteral specified on line 1471 of Java.javacc
+                consumeToken(TokenType.LPAREN);
+                // Code for NonTerminal specified on line 1471 of Java.javacc
+                pushOntoCallStack(175);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified on line 1471 of Java.javacc
+                consumeToken(TokenType.RPAREN);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.NEW) {
+                // Code for NonTerminal specified on line 1473 of Java.javacc
+                pushOntoCallStack(176);
+                try {
+                    AllocationExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1475$column_2()) {
+                // Code for NonTerminal specified on line 1475 of Java.javacc
+                pushOntoCallStack(177);
+                try {
+                    PrimitiveType();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified on line 1475 of Java.javacc
+                consumeToken(TokenType.DOT);
+                // Code for RegexpStringLiteral specified on line 1475 of Java.javacc
+                consumeToken(TokenType.CLASS);
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1477$column_2()) {
+                // Code for NonTerminal specified on line 1477 of Java.javacc
+                pushOntoCallStack(178);
+                try {
+                    ReturnType();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified on line 1477 of Java.javacc
+                consumeToken(TokenType.DOT);
+                // Code for RegexpStringLiteral specified on line 1477 of Java.javacc
+                consumeToken(TokenType.CLASS);
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1479$column_2()) {
+                // Code for NonTerminal specified on line 1479 of Java.javacc
+                pushOntoCallStack(179);
+                try {
+                    MethodReference();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for NonTerminal specified on line 1481 of Java.javacc
+                pushOntoCallStack(180);
+                try {
+                    Name();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(173);
+                throw new ParseException(current_token.getNext(), PrimaryPrefix_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PrimaryPrefix");
+        }
+        catch(ParseException e) {
+            parseException59= e;
+            throw e;
+        }
+        finally {
+            if (parseException59== null) {
+                restoreCallStack(callStackSize59);
+            }
+            if (buildTree) {
+                if (parseException59== null) {
+                    closeNodeScope(PrimaryPrefix59, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException59.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1484
+    final public void MethodReference() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1484 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean MethodReference60forced= false;
+        MethodReference MethodReference60= null;
+        if (buildTree) {
+            MethodReference60= new MethodReference();
+            openNodeScope(MethodReference60);
+        }
+        ParseException parseException60= null;
+        int callStackSize60= parsingStackSize;
+        try {
+            // Code for ExpansionChoice specified on line 1485 of Java.javacc
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_1485$column_6.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1485 of Java.javacc
+                pushOntoCallStack(182);
+                try {
+                    Type();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.SUPER) {
+                // Code for RegexpStringLiteral specified on line 1485 of Java.javacc
+                consumeToken(TokenType.SUPER);
+            }
+            else {
+                pushOntoCallStack(181);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1485$column_6$, getCallStack());
+            }
+            // Code for RegexpStringLiteral specified on line 1486 of Java.javacc
+            consumeToken(TokenType.DOUBLE_COLON);
+            // Code for ExpansionChoice specified on line 1487 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for RegexpRef specified on line 1487 of Java.javacc
+                consumeToken(TokenType.IDENTIFIER);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.NEW) {
+                // Code for RegexpStringLiteral specified on line 1487 of Java.javacc
+                consumeToken(TokenType.NEW);
+            }
+            else {
+                pushOntoCallStack(183);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1487$column_7, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MethodReference");
+        }
+        catch(ParseException e) {
+            parseException60= e;
+            throw e;
+        }
+        finally {
+            if (parseException60== null) {
+                restoreCallStack(callStackSize60);
+            }
+            if (buildTree) {
+                if (parseException60== null) {
+                    closeNodeScope(MethodReference60, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException60.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> PrimarySuffix_FIRST_SET= EnumSet.of(TokenType.LPAREN, TokenType.LBRACKET, TokenType.DOT, TokenType.DOUBLE_COLON);
+    // Java.javacc, line 1490
+    final public void PrimarySuffix() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1490 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1491 of Java.javacc
+        boolean PrimarySuffix61forced= false;
+        PrimarySuffix PrimarySuffix61= null;
+        if (buildTree) {
+            PrimarySuffix61= new PrimarySuffix();
+            openNodeScope(PrimarySuffix61);
+        }
+        ParseException parseException61= null;
+        int callStackSize61= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1491$column_3()) {
+                // Code for RegexpStringLiteral specified on line 1491 of Java.javacc
+                consumeToken(TokenType.DOT);
+                // Code for ExpansionChoice specified on line 1491 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.THIS) {
+                    // Code for RegexpStringLiteral specified on line 1491 of Java.javacc
+                    consumeToken(TokenType.THIS);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.SUPER) {
+                    // Code for RegexpStringLiteral specified on line 1491 of Java.javacc
+                    consumeToken(TokenType.SUPER);
+                }
+                else {
+                    pushOntoCallStack(185);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1491$column_11, getCallStack());
+                }
+            }
+            else if (resetScanAhead(2)&&check$Java_javacc$line_1493$column_3()) {
+                // Code for RegexpStringLiteral specified on line 1494 of Java.javacc
+                consumeToken(TokenType.DOT);
+                // Code for NonTerminal specified on line 1494 of Java.javacc
+                pushOntoCallStack(186);
+                try {
+                    AllocationExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(3)&&check$Java_javacc$line_1496$column_3()) {
+                // Code for NonTerminal specified on line 1497 of Java.javacc
+                pushOntoCallStack(187);
+                try {
+                    MemberSelector();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET) {
+                // Code for RegexpStringLiteral specified on line 1499 of Java.javacc
+                consumeToken(TokenType.LBRACKET);
+                // Code for ZeroOrOne specified on line 1499 of Java.javacc
+                if (resetScanAhead(1)&&first_set$Java_javacc$line_1499$column_7.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 1499 of Java.javacc
+                    pushOntoCallStack(188);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for RegexpStringLiteral specified on line 1499 of Java.javacc
+                consumeToken(TokenType.RBRACKET);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DOT) {
+                // Code for RegexpStringLiteral specified on line 1501 of Java.javacc
+                consumeToken(TokenType.DOT);
+                // Code for RegexpRef specified on line 1501 of Java.javacc
+                consumeToken(TokenType.IDENTIFIER);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DOUBLE_COLON) {
+                // Code for RegexpStringLiteral specified on line 1503 of Java.javacc
+                consumeToken(TokenType.DOUBLE_COLON);
+                // Code for ExpansionChoice specified on line 1503 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                    // Code for RegexpRef specified on line 1503 of Java.javacc
+                    consumeToken(TokenType.IDENTIFIER);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.NEW) {
+                    // Code for RegexpStringLiteral specified on line 1503 of Java.javacc
+                    consumeToken(TokenType.NEW);
+                }
+                else {
+                    pushOntoCallStack(189);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1503$column_9, getCallStack());
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.LPAREN) {
+                // Code for NonTerminal specified on line 1505 of Java.javacc
+                pushOntoCallStack(190);
+                try {
+                    Arguments();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(184);
+                throw new ParseException(current_token.getNext(), PrimarySuffix_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PrimarySuffix");
+        }
+        catch(ParseException e) {
+            parseException61= e;
+            throw e;
+        }
+        finally {
+            if (parseException61== null) {
+                restoreCallStack(callStackSize61);
+            }
+            if (buildTree) {
+                if (parseException61== null) {
+                    closeNodeScope(PrimarySuffix61, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException61.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> Literal_FIRST_SET= EnumSet.of(TokenType.FALSE, TokenType.NULL, TokenType.TRUE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL);
+    // Java.javacc, line 1508
+    final public void Literal() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1508 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1509 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.INTEGER_LITERAL) {
+            // Code for RegexpRef specified on line 1509 of Java.javacc
+            consumeToken(TokenType.INTEGER_LITERAL);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.LONG_LITERAL) {
+            // Code for RegexpRef specified on line 1511 of Java.javacc
+            consumeToken(TokenType.LONG_LITERAL);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.FLOATING_POINT_LITERAL) {
+            // Code for RegexpRef specified on line 1513 of Java.javacc
+            consumeToken(TokenType.FLOATING_POINT_LITERAL);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.CHARACTER_LITERAL) {
+            // Code for RegexpRef specified on line 1515 of Java.javacc
+            consumeToken(TokenType.CHARACTER_LITERAL);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.STRING_LITERAL) {
+            // Code for RegexpRef specified on line 1517 of Java.javacc
+            consumeToken(TokenType.STRING_LITERAL);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE) {
+            // Code for RegexpStringLiteral specified on line 1519 of Java.javacc
+            consumeToken(TokenType.TRUE);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.FALSE) {
+            // Code for RegexpStringLiteral specified on line 1521 of Java.javacc
+            consumeToken(TokenType.FALSE);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.NULL) {
+            // Code for RegexpStringLiteral specified on line 1523 of Java.javacc
+            consumeToken(TokenType.NULL);
+        }
+        else {
+            pushOntoCallStack(191);
+            throw new ParseException(current_token.getNext(), Literal_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Literal");
+    }
+
+    // Java.javacc, line 1526
+    final public InvocationArgs Arguments() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1526 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Arguments62forced= false;
+        InvocationArgs Arguments62= null;
+        if (buildTree) {
+            Arguments62= new InvocationArgs();
+            openNodeScope(Arguments62);
+        }
+        ParseException parseException62= null;
+        int callStackSize62= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1527 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for ZeroOrOne specified on line 1528 of Java.javacc
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_1528$column_5.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1528 of Java.javacc
+                pushOntoCallStack(192);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 1528 of Java.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpStringLiteral specified on line 1528 of Java.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 1528 of Java.javacc
+                    pushOntoCallStack(193);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1529 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for CodeBlock specified on line 1530 of Java.javacc
+            return Arguments62;
+        }
+        catch(ParseException e) {
+            parseException62= e;
+            throw e;
+        }
+        finally {
+            if (parseException62== null) {
+                restoreCallStack(callStackSize62);
+            }
+            if (buildTree) {
+                if (parseException62== null) {
+                    closeNodeScope(Arguments62, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException62.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> AllocationExpression_FIRST_SET= EnumSet.of(TokenType.NEW);
+    // Java.javacc, line 1557
+    final public void AllocationExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1557 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1558 of Java.javacc
+        boolean AllocationExpression63forced= false;
+        AllocationExpression AllocationExpression63= null;
+        if (buildTree) {
+            AllocationExpression63= new AllocationExpression();
+            openNodeScope(AllocationExpression63);
+        }
+        ParseException parseException63= null;
+        int callStackSize63= parsingStackSize;
+        try {
+            if (resetScanAhead(2)&&check$Java_javacc$line_1558$column_3()) {
+                // Code for RegexpStringLiteral specified on line 1559 of Java.javacc
+                consumeToken(TokenType.NEW);
+                // Code for NonTerminal specified on line 1559 of Java.javacc
+                pushOntoCallStack(195);
+                try {
+                    PrimitiveType();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for NonTerminal specified on line 1559 of Java.javacc
+                pushOntoCallStack(196);
+                try {
+                    ArrayDimsAndInits();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.NEW) {
+                // Code for RegexpStringLiteral specified on line 1561 of Java.javacc
+                consumeToken(TokenType.NEW);
+                // Code for NonTerminal specified on line 1561 of Java.javacc
+                pushOntoCallStack(197);
+                try {
+                    ClassOrInterfaceType();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrOne specified on line 1561 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                    // Code for NonTerminal specified on line 1561 of Java.javacc
+                    pushOntoCallStack(198);
+                    try {
+                        PossiblyEmptyTypeArguments();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for ExpansionChoice specified on line 1563 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET) {
+                    // Code for NonTerminal specified on line 1563 of Java.javacc
+                    pushOntoCallStack(200);
+                    try {
+                        ArrayDimsAndInits();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.LPAREN) {
+                    // Code for NonTerminal specified on line 1565 of Java.javacc
+                    pushOntoCallStack(201);
+                    try {
+                        Arguments();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for ZeroOrOne specified on line 1565 of Java.javacc
+                    if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACE) {
+                        // Code for NonTerminal specified on line 1565 of Java.javacc
+                        pushOntoCallStack(202);
+                        try {
+                            ClassOrInterfaceBody(false);
+                        }
+                        finally {
+                            popCallStack();
+                        }
+                    }
+                }
+                else {
+                    pushOntoCallStack(199);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1563$column_7, getCallStack());
+                }
+            }
+            else {
+                pushOntoCallStack(194);
+                throw new ParseException(current_token.getNext(), AllocationExpression_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AllocationExpression");
+        }
+        catch(ParseException e) {
+            parseException63= e;
+            throw e;
+        }
+        finally {
+            if (parseException63== null) {
+                restoreCallStack(callStackSize63);
+            }
+            if (buildTree) {
+                if (parseException63== null) {
+                    closeNodeScope(AllocationExpression63, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException63.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> ArrayDimsAndInits_FIRST_SET= EnumSet.of(TokenType.LBRACKET);
+    /*
+ * The third SCAN specification below is to parse to PrimarySuffix
+ * if there is an expression between the "[...]".
+ */
+    // Java.javacc, line 1573
+    final public void ArrayDimsAndInits() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1573 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1574 of Java.javacc
+        boolean ArrayDimsAndInits64forced= false;
+        ArrayDimsAndInits ArrayDimsAndInits64= null;
+        if (buildTree) {
+            ArrayDimsAndInits64= new ArrayDimsAndInits();
+            openNodeScope(ArrayDimsAndInits64);
+        }
+        ParseException parseException64= null;
+        int callStackSize64= parsingStackSize;
+        try {
+            if (resetScanAhead(2)&&check$Java_javacc$line_1574$column_3()) {
+                // Code for OneOrMore specified on line 1577 of Java.javacc
+                do {
+                    // Code for RegexpStringLiteral specified on line 1576 of Java.javacc
+                    consumeToken(TokenType.LBRACKET);
+                    // Code for NonTerminal specified on line 1576 of Java.javacc
+                    pushOntoCallStack(204);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpStringLiteral specified on line 1576 of Java.javacc
+                    consumeToken(TokenType.RBRACKET);
+                }
+                while (resetScanAhead(2)&&check$Java_javacc$line_1576$column_5());
+                // Code for ZeroOrMore specified on line 1580 of Java.javacc
+                while (resetScanAhead(2147483647)&&check$Java_javacc$line_1579$column_5()) {
+                    // Code for RegexpStringLiteral specified on line 1579 of Java.javacc
+                    consumeToken(TokenType.LBRACKET);
+                    // Code for RegexpStringLiteral specified on line 1579 of Java.javacc
+                    consumeToken(TokenType.RBRACKET);
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET) {
+                // Code for OneOrMore specified on line 1584 of Java.javacc
+                do {
+                    // Code for RegexpStringLiteral specified on line 1583 of Java.javacc
+                    consumeToken(TokenType.LBRACKET);
+                    // Code for RegexpStringLiteral specified on line 1583 of Java.javacc
+                    consumeToken(TokenType.RBRACKET);
+                }
+                while (resetScanAhead(1)&&nextTokenType== TokenType.LBRACKET);
+                // Code for NonTerminal specified on line 1585 of Java.javacc
+                pushOntoCallStack(205);
+                try {
+                    ArrayInitializer();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(203);
+                throw new ParseException(current_token.getNext(), ArrayDimsAndInits_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ArrayDimsAndInits");
+        }
+        catch(ParseException e) {
+            parseException64= e;
+            throw e;
+        }
+        finally {
+            if (parseException64== null) {
+                restoreCallStack(callStackSize64);
+            }
+            if (buildTree) {
+                if (parseException64== null) {
+                    closeNodeScope(ArrayDimsAndInits64, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException64.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1588
+    final public void Label() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1588 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Label65forced= false;
+        Label Label65= null;
+        if (buildTree) {
+            Label65= new Label();
+            openNodeScope(Label65);
+        }
+        ParseException parseException65= null;
+        int callStackSize65= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1588 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpRef specified on line 1588 of Java.javacc
+            consumeToken(TokenType.COLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Label");
+        }
+        catch(ParseException e) {
+            parseException65= e;
+            throw e;
+        }
+        finally {
+            if (parseException65== null) {
+                restoreCallStack(callStackSize65);
+            }
+            if (buildTree) {
+                if (parseException65== null) {
+                    closeNodeScope(Label65, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException65.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /*
+ * Statement syntax follows.
+ */
+    // Java.javacc, line 1595
+    final public void Statement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1595 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Statement66forced= false;
+        Statement Statement66= null;
+        if (buildTree) {
+            Statement66= new Statement();
+            openNodeScope(Statement66);
+        }
+        ParseException parseException66= null;
+        int callStackSize66= parsingStackSize;
+        try {
+            // Code for ZeroOrMore specified on line 1596 of Java.javacc
+            while (resetScanAhead(2)&&check$Java_javacc$line_1596$column_4()) {
+                // Code for NonTerminal specified on line 1596 of Java.javacc
+                pushOntoCallStack(206);
+                try {
+                    Label();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 1597 of Java.javacc
+            pushOntoCallStack(207);
+            try {
+                UnlabeledStatement();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Statement");
+        }
+        catch(ParseException e) {
+            parseException66= e;
+            throw e;
+        }
+        finally {
+            if (parseException66== null) {
+                restoreCallStack(callStackSize66);
+            }
+            if (buildTree) {
+                if (parseException66== null) {
+                    closeNodeScope(Statement66, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException66.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> UnlabeledStatement_FIRST_SET= EnumSet.of(TokenType.ASSERT, TokenType.BOOLEAN, TokenType.BREAK, TokenType.BYTE, TokenType.CHAR, TokenType.CONTINUE, TokenType.DO, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.FOR, TokenType.IF, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.RETURN, TokenType.SHORT, TokenType.SUPER, TokenType.SWITCH, TokenType.SYNCHRONIZED, TokenType.THIS, TokenType.THROW, TokenType.TRUE, TokenType.TRY, TokenType.VOID, TokenType.WHILE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.LBRACE, TokenType.SEMICOLON, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    // Java.javacc, line 1601
+    final public void UnlabeledStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1601 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1602 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.ASSERT) {
+            // Code for NonTerminal specified on line 1602 of Java.javacc
+            pushOntoCallStack(209);
+            try {
+                AssertStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACE) {
+            // Code for NonTerminal specified on line 1604 of Java.javacc
+            pushOntoCallStack(210);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+            // Code for NonTerminal specified on line 1606 of Java.javacc
+            pushOntoCallStack(211);
+            try {
+                EmptyStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&first_set$Java_javacc$line_1608$column_3.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 1608 of Java.javacc
+            pushOntoCallStack(212);
+            try {
+                StatementExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1608 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.SWITCH) {
+            // Code for NonTerminal specified on line 1610 of Java.javacc
+            pushOntoCallStack(213);
+            try {
+                SwitchStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.IF) {
+            // Code for NonTerminal specified on line 1612 of Java.javacc
+            pushOntoCallStack(214);
+            try {
+                IfStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.WHILE) {
+            // Code for NonTerminal specified on line 1614 of Java.javacc
+            pushOntoCallStack(215);
+            try {
+                WhileStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.DO) {
+            // Code for NonTerminal specified on line 1616 of Java.javacc
+            pushOntoCallStack(216);
+            try {
+                DoStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.FOR) {
+            // Code for NonTerminal specified on line 1618 of Java.javacc
+            pushOntoCallStack(217);
+            try {
+                ForStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.BREAK) {
+            // Code for NonTerminal specified on line 1620 of Java.javacc
+            pushOntoCallStack(218);
+            try {
+                BreakStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.CONTINUE) {
+            // Code for NonTerminal specified on line 1622 of Java.javacc
+            pushOntoCallStack(219);
+            try {
+                ContinueStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.RETURN) {
+            // Code for NonTerminal specified on line 1624 of Java.javacc
+            pushOntoCallStack(220);
+            try {
+                ReturnStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.THROW) {
+            // Code for NonTerminal specified on line 1626 of Java.javacc
+            pushOntoCallStack(221);
+            try {
+                ThrowStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.SYNCHRONIZED) {
+            // Code for NonTerminal specified on line 1628 of Java.javacc
+            pushOntoCallStack(222);
+            try {
+                SynchronizedStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.TRY) {
+            // Code for NonTerminal specified on line 1630 of Java.javacc
+            pushOntoCallStack(223);
+            try {
+                TryStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(208);
+            throw new ParseException(current_token.getNext(), UnlabeledStatement_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from UnlabeledStatement");
+    }
+
+    static private final EnumSet<TokenType> TryStatement_FIRST_SET= EnumSet.of(TokenType.TRY);
+    // Java.javacc, line 1633
+    final public void TryStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1633 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1634 of Java.javacc
+        if (resetScanAhead(2147483647)&&check$Java_javacc$line_1634$column_9()) {
+            // Code for NonTerminal specified on line 1635 of Java.javacc
+            pushOntoCallStack(225);
+            try {
+                TryWithResources();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1637$column_9()) {
+            // Code for NonTerminal specified on line 1638 of Java.javacc
+            pushOntoCallStack(226);
+            try {
+                ClassicTryStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.TRY) {
+            // Code for RegexpStringLiteral specified on line 1640 of Java.javacc
+            consumeToken(TokenType.TRY);
+            // Code for CodeBlock specified on line 1640 of Java.javacc
+            throw new ParseException(this, "Expecting either '{' or '(' after 'try'");
+        }
+        else {
+            pushOntoCallStack(224);
+            throw new ParseException(current_token.getNext(), TryStatement_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from TryStatement");
+    }
+
+    // Java.javacc, line 1643
+    final public void AssertStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1643 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AssertStatement67forced= false;
+        AssertStatement AssertStatement67= null;
+        if (buildTree) {
+            AssertStatement67= new AssertStatement();
+            openNodeScope(AssertStatement67);
+        }
+        ParseException parseException67= null;
+        int callStackSize67= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1644 of Java.javacc
+            consumeToken(TokenType.ASSERT);
+            // Code for NonTerminal specified on line 1644 of Java.javacc
+            pushOntoCallStack(227);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 1644 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.COLON) {
+                // Code for RegexpStringLiteral specified on line 1644 of Java.javacc
+                consumeToken(TokenType.COLON);
+                // Code for NonTerminal specified on line 1644 of Java.javacc
+                pushOntoCallStack(228);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1644 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AssertStatement");
+        }
+        catch(ParseException e) {
+            parseException67= e;
+            throw e;
+        }
+        finally {
+            if (parseException67== null) {
+                restoreCallStack(callStackSize67);
+            }
+            if (buildTree) {
+                if (parseException67== null) {
+                    closeNodeScope(AssertStatement67, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException67.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // LabeledStatement : <IDENTIFIER> ":" Statement;
+    // Java.javacc, line 1649
+    final public CodeBlock Block() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1649 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Block68forced= false;
+        CodeBlock Block68= null;
+        if (buildTree) {
+            Block68= new CodeBlock();
+            openNodeScope(Block68);
+        }
+        ParseException parseException68= null;
+        int callStackSize68= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1650 of Java.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for ZeroOrMore specified on line 1651 of Java.javacc
+            while (resetScanAhead(1)&&first_set$Java_javacc$line_1651$column_19.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1651 of Java.javacc
+                pushOntoCallStack(229);
+                try {
+                    BlockStatement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1652 of Java.javacc
+            consumeToken(TokenType.RBRACE);
+            // Code for CodeBlock specified on line 1653 of Java.javacc
+            return Block68;
+        }
+        catch(ParseException e) {
+            parseException68= e;
+            throw e;
+        }
+        finally {
+            if (parseException68== null) {
+                restoreCallStack(callStackSize68);
+            }
+            if (buildTree) {
+                if (parseException68== null) {
+                    closeNodeScope(Block68, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException68.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> BlockStatement_FIRST_SET= EnumSet.of(TokenType.ABSTRACT, TokenType.ASSERT, TokenType.BOOLEAN, TokenType.BREAK, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType.CONTINUE, TokenType.DO, TokenType.DOUBLE, TokenType.FALSE, TokenType.FINAL, TokenType.FLOAT, TokenType.FOR, TokenType.IF, TokenType.INT, TokenType.LONG, TokenType.NATIVE, TokenType.NEW, TokenType.NULL, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.RETURN, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SUPER, TokenType.SWITCH, TokenType.SYNCHRONIZED, TokenType.THIS, TokenType.THROW, TokenType.TRANSIENT, TokenType.TRUE, TokenType.TRY, TokenType.VOID, TokenType.VOLATILE, TokenType.WHILE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.LBRACE, TokenType.SEMICOLON, TokenType.AT, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    // Java.javacc, line 1672
+    final public void BlockStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1672 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1673 of Java.javacc
+        boolean BlockStatement69forced= false;
+        BlockStatement BlockStatement69= null;
+        if (buildTree) {
+            BlockStatement69= new BlockStatement();
+            openNodeScope(BlockStatement69);
+        }
+        ParseException parseException69= null;
+        int callStackSize69= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1673$column_8()) {
+                // Code for NonTerminal specified on line 1674 of Java.javacc
+                pushOntoCallStack(233);
+                try {
+                    LocalVariableDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified on line 1674 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1676$column_8()) {
+                // Code for NonTerminal specified on line 1677 of Java.javacc
+                pushOntoCallStack(235);
+                try {
+                    Modifiers();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for NonTerminal specified on line 1677 of Java.javacc
+                pushOntoCallStack(236);
+                try {
+                    ClassDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_1679$column_3.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1679 of Java.javacc
+                pushOntoCallStack(237);
+                try {
+                    Statement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(230);
+                throw new ParseException(current_token.getNext(), BlockStatement_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BlockStatement");
+        }
+        catch(ParseException e) {
+            parseException69= e;
+            throw e;
+        }
+        finally {
+            if (parseException69== null) {
+                restoreCallStack(callStackSize69);
+            }
+            if (buildTree) {
+                if (parseException69== null) {
+                    closeNodeScope(BlockStatement69, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException69.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1682
+    final public void LocalVariableDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1682 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean LocalVariableDeclaration70forced= false;
+        LocalVariableDeclaration LocalVariableDeclaration70= null;
+        if (buildTree) {
+            LocalVariableDeclaration70= new LocalVariableDeclaration();
+            openNodeScope(LocalVariableDeclaration70);
+        }
+        ParseException parseException70= null;
+        int callStackSize70= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1683 of Java.javacc
+            pushOntoCallStack(238);
+            try {
+                Modifiers();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 1683 of Java.javacc
+            pushOntoCallStack(239);
+            try {
+                Type();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 1683 of Java.javacc
+            pushOntoCallStack(240);
+            try {
+                VariableDeclarator();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1683 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 1683 of Java.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 1683 of Java.javacc
+                pushOntoCallStack(241);
+                try {
+                    VariableDeclarator();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from LocalVariableDeclaration");
+        }
+        catch(ParseException e) {
+            parseException70= e;
+            throw e;
+        }
+        finally {
+            if (parseException70== null) {
+                restoreCallStack(callStackSize70);
+            }
+            if (buildTree) {
+                if (parseException70== null) {
+                    closeNodeScope(LocalVariableDeclaration70, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException70.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1686
+    final public void EmptyStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1686 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean EmptyStatement71forced= false;
+        EmptyStatement EmptyStatement71= null;
+        if (buildTree) {
+            EmptyStatement71= new EmptyStatement();
+            openNodeScope(EmptyStatement71);
+        }
+        ParseException parseException71= null;
+        int callStackSize71= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1686 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from EmptyStatement");
+        }
+        catch(ParseException e) {
+            parseException71= e;
+            throw e;
+        }
+        finally {
+            if (parseException71== null) {
+                restoreCallStack(callStackSize71);
+            }
+            if (buildTree) {
+                if (parseException71== null) {
+                    closeNodeScope(EmptyStatement71, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException71.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> StatementExpression_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    // Java.javacc, line 1688
+    final public void StatementExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1688 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1694 of Java.javacc
+        boolean StatementExpression72forced= false;
+        StatementExpression StatementExpression72= null;
+        if (buildTree) {
+            StatementExpression72= new StatementExpression();
+            openNodeScope(StatementExpression72);
+        }
+        ParseException parseException72= null;
+        int callStackSize72= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.INCR) {
+                // Code for NonTerminal specified on line 1694 of Java.javacc
+                pushOntoCallStack(243);
+                try {
+                    PreIncrementExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DECR) {
+                // Code for NonTerminal specified on line 1696 of Java.javacc
+                pushOntoCallStack(244);
+                try {
+                    PreDecrementExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_1698$column_3.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1698 of Java.javacc
+                pushOntoCallStack(245);
+                try {
+                    PrimaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrOne specified on line 1699 of Java.javacc
+                // Code for ExpansionChoice specified on line 1700 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.INCR) {
+                    // Code for RegexpStringLiteral specified on line 1700 of Java.javacc
+                    consumeToken(TokenType.INCR);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.DECR) {
+                    // Code for RegexpStringLiteral specified on line 1702 of Java.javacc
+                    consumeToken(TokenType.DECR);
+                }
+                else if (resetScanAhead(1)&&first_set$Java_javacc$line_1704$column_5.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 1704 of Java.javacc
+                    pushOntoCallStack(246);
+                    try {
+                        AssignmentOperator();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for NonTerminal specified on line 1704 of Java.javacc
+                    pushOntoCallStack(247);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            else {
+                pushOntoCallStack(242);
+                throw new ParseException(current_token.getNext(), StatementExpression_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from StatementExpression");
+        }
+        catch(ParseException e) {
+            parseException72= e;
+            throw e;
+        }
+        finally {
+            if (parseException72== null) {
+                restoreCallStack(callStackSize72);
+            }
+            if (buildTree) {
+                if (parseException72== null) {
+                    closeNodeScope(StatementExpression72, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException72.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1708
+    final public void SwitchStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1708 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean SwitchStatement73forced= false;
+        SwitchStatement SwitchStatement73= null;
+        if (buildTree) {
+            SwitchStatement73= new SwitchStatement();
+            openNodeScope(SwitchStatement73);
+        }
+        ParseException parseException73= null;
+        int callStackSize73= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1709 of Java.javacc
+            consumeToken(TokenType.SWITCH);
+            // Code for RegexpStringLiteral specified on line 1709 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for NonTerminal specified on line 1709 of Java.javacc
+            pushOntoCallStack(248);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1709 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for RegexpStringLiteral specified on line 1709 of Java.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for ZeroOrMore specified on line 1710 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.CASE||nextTokenType== TokenType._DEFAULT) {
+                // Code for NonTerminal specified on line 1710 of Java.javacc
+                pushOntoCallStack(249);
+                try {
+                    CaseStatement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1711 of Java.javacc
+            consumeToken(TokenType.RBRACE);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from SwitchStatement");
+        }
+        catch(ParseException e) {
+            parseException73= e;
+            throw e;
+        }
+        finally {
+            if (parseException73== null) {
+                restoreCallStack(callStackSize73);
+            }
+            if (buildTree) {
+                if (parseException73== null) {
+                    closeNodeScope(SwitchStatement73, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException73.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1714
+    final public void CaseStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1714 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean CaseStatement74forced= false;
+        CaseStatement CaseStatement74= null;
+        if (buildTree) {
+            CaseStatement74= new CaseStatement();
+            openNodeScope(CaseStatement74);
+        }
+        ParseException parseException74= null;
+        int callStackSize74= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1715 of Java.javacc
+            pushOntoCallStack(250);
+            try {
+                SwitchLabel();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1716 of Java.javacc
+            while (resetScanAhead(1)&&first_set$Java_javacc$line_1716$column_21.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1716 of Java.javacc
+                pushOntoCallStack(251);
+                try {
+                    BlockStatement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from CaseStatement");
+        }
+        catch(ParseException e) {
+            parseException74= e;
+            throw e;
+        }
+        finally {
+            if (parseException74== null) {
+                restoreCallStack(callStackSize74);
+            }
+            if (buildTree) {
+                if (parseException74== null) {
+                    closeNodeScope(CaseStatement74, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException74.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> SwitchLabel_FIRST_SET= EnumSet.of(TokenType.CASE, TokenType._DEFAULT);
+    // Java.javacc, line 1719
+    final public void SwitchLabel() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1719 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1720 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.CASE) {
+            // Code for RegexpStringLiteral specified on line 1720 of Java.javacc
+            consumeToken(TokenType.CASE);
+            // Code for NonTerminal specified on line 1720 of Java.javacc
+            pushOntoCallStack(253);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1720 of Java.javacc
+            consumeToken(TokenType.COLON);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._DEFAULT) {
+            // Code for RegexpStringLiteral specified on line 1722 of Java.javacc
+            consumeToken(TokenType._DEFAULT);
+            // Code for RegexpStringLiteral specified on line 1722 of Java.javacc
+            consumeToken(TokenType.COLON);
+        }
+        else {
+            pushOntoCallStack(252);
+            throw new ParseException(current_token.getNext(), SwitchLabel_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from SwitchLabel");
+    }
+
+    // Java.javacc, line 1725
+    final public void IfStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1725 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean IfStatement75forced= false;
+        IfStatement IfStatement75= null;
+        if (buildTree) {
+            IfStatement75= new IfStatement();
+            openNodeScope(IfStatement75);
+        }
+        ParseException parseException75= null;
+        int callStackSize75= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1726 of Java.javacc
+            consumeToken(TokenType.IF);
+            // Code for RegexpStringLiteral specified on line 1726 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for NonTerminal specified on line 1726 of Java.javacc
+            pushOntoCallStack(254);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1726 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for NonTerminal specified on line 1726 of Java.javacc
+            pushOntoCallStack(255);
+            try {
+                Statement();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 1726 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.ELSE) {
+                // Code for RegexpStringLiteral specified on line 1726 of Java.javacc
+                consumeToken(TokenType.ELSE);
+                // Code for NonTerminal specified on line 1726 of Java.javacc
+                pushOntoCallStack(256);
+                try {
+                    Statement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from IfStatement");
+        }
+        catch(ParseException e) {
+            parseException75= e;
+            throw e;
+        }
+        finally {
+            if (parseException75== null) {
+                restoreCallStack(callStackSize75);
+            }
+            if (buildTree) {
+                if (parseException75== null) {
+                    closeNodeScope(IfStatement75, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException75.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1729
+    final public void WhileStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1729 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean WhileStatement76forced= false;
+        WhileStatement WhileStatement76= null;
+        if (buildTree) {
+            WhileStatement76= new WhileStatement();
+            openNodeScope(WhileStatement76);
+        }
+        ParseException parseException76= null;
+        int callStackSize76= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1730 of Java.javacc
+            consumeToken(TokenType.WHILE);
+            // Code for RegexpStringLiteral specified on line 1730 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for NonTerminal specified on line 1730 of Java.javacc
+            pushOntoCallStack(257);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1730 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for NonTerminal specified on line 1730 of Java.javacc
+            pushOntoCallStack(258);
+            try {
+                Statement();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from WhileStatement");
+        }
+        catch(ParseException e) {
+            parseException76= e;
+            throw e;
+        }
+        finally {
+            if (parseException76== null) {
+                restoreCallStack(callStackSize76);
+            }
+            if (buildTree) {
+                if (parseException76== null) {
+                    closeNodeScope(WhileStatement76, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException76.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1733
+    final public void DoStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1733 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean DoStatement77forced= false;
+        DoStatement DoStatement77= null;
+        if (buildTree) {
+            DoStatement77= new DoStatement();
+            openNodeScope(DoStatement77);
+        }
+        ParseException parseException77= null;
+        int callStackSize77= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1734 of Java.javacc
+            consumeToken(TokenType.DO);
+            // Code for NonTerminal specified on line 1734 of Java.javacc
+            pushOntoCallStack(259);
+            try {
+                Statement();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1734 of Java.javacc
+            consumeToken(TokenType.WHILE);
+            // Code for RegexpStringLiteral specified on line 1734 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for NonTerminal specified on line 1734 of Java.javacc
+            pushOntoCallStack(260);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1734 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for RegexpStringLiteral specified on line 1734 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from DoStatement");
+        }
+        catch(ParseException e) {
+            parseException77= e;
+            throw e;
+        }
+        finally {
+            if (parseException77== null) {
+                restoreCallStack(callStackSize77);
+            }
+            if (buildTree) {
+                if (parseException77== null) {
+                    closeNodeScope(DoStatement77, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException77.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1737
+    final public void ForStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1737 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ForStatement78forced= false;
+        ForStatement ForStatement78= null;
+        if (buildTree) {
+            ForStatement78= new ForStatement();
+            openNodeScope(ForStatement78);
+        }
+        ParseException parseException78= null;
+        int callStackSize78= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1738 of Java.javacc
+            consumeToken(TokenType.FOR);
+            // Code for RegexpStringLiteral specified on line 1738 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for ExpansionChoice specified on line 1740 of Java.javacc
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1740$column_12()) {
+                // Code for NonTerminal specified on line 1741 of Java.javacc
+                pushOntoCallStack(264);
+                try {
+                    Modifiers();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for NonTerminal specified on line 1741 of Java.javacc
+                pushOntoCallStack(265);
+                try {
+                    Type();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpRef specified on line 1741 of Java.javacc
+                consumeToken(TokenType.IDENTIFIER);
+                // Code for RegexpStringLiteral specified on line 1741 of Java.javacc
+                consumeToken(TokenType.COLON);
+                // Code for NonTerminal specified on line 1741 of Java.javacc
+                pushOntoCallStack(266);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_1743$column_6.contains(nextTokenType)) {
+                // Code for ZeroOrOne specified on line 1743 of Java.javacc
+                if (resetScanAhead(1)&&first_set$Java_javacc$line_1743$column_6$.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 1743 of Java.javacc
+                    pushOntoCallStack(267);
+                    try {
+                        ForInit();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for RegexpStringLiteral specified on line 1743 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+                // Code for ZeroOrOne specified on line 1743 of Java.javacc
+                if (resetScanAhead(1)&&first_set$Java_javacc$line_1743$column_22.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 1743 of Java.javacc
+                    pushOntoCallStack(268);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for RegexpStringLiteral specified on line 1743 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+                // Code for ZeroOrOne specified on line 1743 of Java.javacc
+                if (resetScanAhead(1)&&first_set$Java_javacc$line_1743$column_41.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 1743 of Java.javacc
+                    pushOntoCallStack(269);
+                    try {
+                        ForUpdate();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            else {
+                pushOntoCallStack(261);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1740$column_7, getCallStack());
+            }
+            // Code for RegexpStringLiteral specified on line 1746 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for NonTerminal specified on line 1746 of Java.javacc
+            pushOntoCallStack(270);
+            try {
+                Statement();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ForStatement");
+        }
+        catch(ParseException e) {
+            parseException78= e;
+            throw e;
+        }
+        finally {
+            if (parseException78== null) {
+                restoreCallStack(callStackSize78);
+            }
+            if (buildTree) {
+                if (parseException78== null) {
+                    closeNodeScope(ForStatement78, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException78.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> ForInit_FIRST_SET= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NATIVE, TokenType.NEW, TokenType.NULL, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SUPER, TokenType.SYNCHRONIZED, TokenType.THIS, TokenType.TRANSIENT, TokenType.TRUE, TokenType.VOID, TokenType.VOLATILE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.AT, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    // Java.javacc, line 1749
+    final public void ForInit() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1749 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1750 of Java.javacc
+        boolean ForInit79forced= false;
+        ForInit ForInit79= null;
+        if (buildTree) {
+            ForInit79= new ForInit();
+            openNodeScope(ForInit79);
+        }
+        ParseException parseException79= null;
+        int callStackSize79= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1750$column_8()) {
+                // Code for NonTerminal specified on line 1751 of Java.javacc
+                pushOntoCallStack(274);
+                try {
+                    LocalVariableDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_1753$column_3.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1753 of Java.javacc
+                pushOntoCallStack(275);
+                try {
+                    StatementExpressionList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(271);
+                throw new ParseException(current_token.getNext(), ForInit_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ForInit");
+        }
+        catch(ParseException e) {
+            parseException79= e;
+            throw e;
+        }
+        finally {
+            if (parseException79== null) {
+                restoreCallStack(callStackSize79);
+            }
+            if (buildTree) {
+                if (parseException79== null) {
+                    closeNodeScope(ForInit79, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException79.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1756
+    final public void StatementExpressionList() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1756 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean StatementExpressionList80forced= false;
+        StatementExpressionList StatementExpressionList80= null;
+        if (buildTree) {
+            StatementExpressionList80= new StatementExpressionList();
+            openNodeScope(StatementExpressionList80);
+        }
+        ParseException parseException80= null;
+        int callStackSize80= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1757 of Java.javacc
+            pushOntoCallStack(276);
+            try {
+                StatementExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1757 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 1757 of Java.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 1757 of Java.javacc
+                pushOntoCallStack(277);
+                try {
+                    StatementExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from StatementExpressionList");
+        }
+        catch(ParseException e) {
+            parseException80= e;
+            throw e;
+        }
+        finally {
+            if (parseException80== null) {
+                restoreCallStack(callStackSize80);
+            }
+            if (buildTree) {
+                if (parseException80== null) {
+                    closeNodeScope(StatementExpressionList80, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException80.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1760
+    final public void ForUpdate() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1760 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ForUpdate81forced= false;
+        ForUpdate ForUpdate81= null;
+        if (buildTree) {
+            ForUpdate81= new ForUpdate();
+            openNodeScope(ForUpdate81);
+        }
+        ParseException parseException81= null;
+        int callStackSize81= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1761 of Java.javacc
+            pushOntoCallStack(278);
+            try {
+                StatementExpressionList();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ForUpdate");
+        }
+        catch(ParseException e) {
+            parseException81= e;
+            throw e;
+        }
+        finally {
+            if (parseException81== null) {
+                restoreCallStack(callStackSize81);
+            }
+            if (buildTree) {
+                if (parseException81== null) {
+                    closeNodeScope(ForUpdate81, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException81.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1764
+    final public void BreakStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1764 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean BreakStatement82forced= false;
+        BreakStatement BreakStatement82= null;
+        if (buildTree) {
+            BreakStatement82= new BreakStatement();
+            openNodeScope(BreakStatement82);
+        }
+        ParseException parseException82= null;
+        int callStackSize82= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1765 of Java.javacc
+            consumeToken(TokenType.BREAK);
+            // Code for ZeroOrOne specified on line 1765 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for RegexpRef specified on line 1765 of Java.javacc
+                consumeToken(TokenType.IDENTIFIER);
+            }
+            // Code for RegexpStringLiteral specified on line 1765 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BreakStatement");
+        }
+        catch(ParseException e) {
+            parseException82= e;
+            throw e;
+        }
+        finally {
+            if (parseException82== null) {
+                restoreCallStack(callStackSize82);
+            }
+            if (buildTree) {
+                if (parseException82== null) {
+                    closeNodeScope(BreakStatement82, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException82.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1768
+    final public void ContinueStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1768 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ContinueStatement83forced= false;
+        ContinueStatement ContinueStatement83= null;
+        if (buildTree) {
+            ContinueStatement83= new ContinueStatement();
+            openNodeScope(ContinueStatement83);
+        }
+        ParseException parseException83= null;
+        int callStackSize83= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1769 of Java.javacc
+            consumeToken(TokenType.CONTINUE);
+            // Code for ZeroOrOne specified on line 1769 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for RegexpRef specified on line 1769 of Java.javacc
+                consumeToken(TokenType.IDENTIFIER);
+            }
+            // Code for RegexpStringLiteral specified on line 1769 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ContinueStatement");
+        }
+        catch(ParseException e) {
+            parseException83= e;
+            throw e;
+        }
+        finally {
+            if (parseException83== null) {
+                restoreCallStack(callStackSize83);
+            }
+            if (buildTree) {
+                if (parseException83== null) {
+                    closeNodeScope(ContinueStatement83, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException83.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1772
+    final public void ReturnStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1772 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ReturnStatement84forced= false;
+        ReturnStatement ReturnStatement84= null;
+        if (buildTree) {
+            ReturnStatement84= new ReturnStatement();
+            openNodeScope(ReturnStatement84);
+        }
+        ParseException parseException84= null;
+        int callStackSize84= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1773 of Java.javacc
+            consumeToken(TokenType.RETURN);
+            // Code for ZeroOrOne specified on line 1774 of Java.javacc
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_1774$column_3.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1775 of Java.javacc
+                pushOntoCallStack(279);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1777 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ReturnStatement");
+        }
+        catch(ParseException e) {
+            parseException84= e;
+            throw e;
+        }
+        finally {
+            if (parseException84== null) {
+                restoreCallStack(callStackSize84);
+            }
+            if (buildTree) {
+                if (parseException84== null) {
+                    closeNodeScope(ReturnStatement84, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException84.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1780
+    final public void ThrowStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1780 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ThrowStatement85forced= false;
+        ThrowStatement ThrowStatement85= null;
+        if (buildTree) {
+            ThrowStatement85= new ThrowStatement();
+            openNodeScope(ThrowStatement85);
+        }
+        ParseException parseException85= null;
+        int callStackSize85= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1781 of Java.javacc
+            consumeToken(TokenType.THROW);
+            // Code for NonTerminal specified on line 1782 of Java.javacc
+            pushOntoCallStack(280);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1783 of Java.javacc
+            consumeToken(TokenType.SEMICOLON);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ThrowStatement");
+        }
+        catch(ParseException e) {
+            parseException85= e;
+            throw e;
+        }
+        finally {
+            if (parseException85== null) {
+                restoreCallStack(callStackSize85);
+            }
+            if (buildTree) {
+                if (parseException85== null) {
+                    closeNodeScope(ThrowStatement85, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException85.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1786
+    final public void SynchronizedStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1786 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean SynchronizedStatement86forced= false;
+        SynchronizedStatement SynchronizedStatement86= null;
+        if (buildTree) {
+            SynchronizedStatement86= new SynchronizedStatement();
+            openNodeScope(SynchronizedStatement86);
+        }
+        ParseException parseException86= null;
+        int callStackSize86= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1787 of Java.javacc
+            consumeToken(TokenType.SYNCHRONIZED);
+            // Code for RegexpStringLiteral specified on line 1787 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for NonTerminal specified on line 1787 of Java.javacc
+            pushOntoCallStack(281);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1787 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for NonTerminal specified on line 1787 of Java.javacc
+            pushOntoCallStack(282);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from SynchronizedStatement");
+        }
+        catch(ParseException e) {
+            parseException86= e;
+            throw e;
+        }
+        finally {
+            if (parseException86== null) {
+                restoreCallStack(callStackSize86);
+            }
+            if (buildTree) {
+                if (parseException86== null) {
+                    closeNodeScope(SynchronizedStatement86, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException86.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1790
+    final public ClassicTryStatement ClassicTryStatement() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1790 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ClassicTryStatement87forced= false;
+        ClassicTryStatement ClassicTryStatement87= null;
+        if (buildTree) {
+            ClassicTryStatement87= new ClassicTryStatement();
+            openNodeScope(ClassicTryStatement87);
+        }
+        ParseException parseException87= null;
+        int callStackSize87= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1795 of Java.javacc
+            consumeToken(TokenType.TRY);
+            // Code for NonTerminal specified on line 1796 of Java.javacc
+            pushOntoCallStack(283);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ExpansionChoice specified on line 1798 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.FINALLY) {
+                // Code for NonTerminal specified on line 1798 of Java.javacc
+                pushOntoCallStack(285);
+                try {
+                    FinallyBlock();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.CATCH) {
+                // Code for OneOrMore specified on line 1801 of Java.javacc
+                do {
+                    // Code for NonTerminal specified on line 1801 of Java.javacc
+                    pushOntoCallStack(286);
+                    try {
+                        CatchBlock();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                while (resetScanAhead(1)&&nextTokenType== TokenType.CATCH);
+                // Code for ZeroOrOne specified on line 1802 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.FINALLY) {
+                    // Code for NonTerminal specified on line 1802 of Java.javacc
+                    pushOntoCallStack(287);
+                    try {
+                        FinallyBlock();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            else {
+                pushOntoCallStack(284);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1798$column_6, getCallStack());
+            }
+            // Code for CodeBlock specified on line 1805 of Java.javacc
+            return ClassicTryStatement87;
+        }
+        catch(ParseException e) {
+            parseException87= e;
+            throw e;
+        }
+        finally {
+            if (parseException87== null) {
+                restoreCallStack(callStackSize87);
+            }
+            if (buildTree) {
+                if (parseException87== null) {
+                    closeNodeScope(ClassicTryStatement87, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException87.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1810
+    final public TryWithResources TryWithResources() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1810 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TryWithResources88forced= false;
+        TryWithResources TryWithResources88= null;
+        if (buildTree) {
+            TryWithResources88= new TryWithResources();
+            openNodeScope(TryWithResources88);
+        }
+        ParseException parseException88= null;
+        int callStackSize88= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1811 of Java.javacc
+            consumeToken(TokenType.TRY);
+            // Code for RegexpStringLiteral specified on line 1812 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for ExpansionChoice specified on line 1814 of Java.javacc
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1814$column_10()) {
+                // Code for NonTerminal specified on line 1814 of Java.javacc
+                pushOntoCallStack(289);
+                try {
+                    LocalVariableDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for NonTerminal specified on line 1816 of Java.javacc
+                pushOntoCallStack(290);
+                try {
+                    Name();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(288);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1814$column_10, getCallStack());
+            }
+            // Code for ZeroOrMore specified on line 1825 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpStringLiteral specified on line 1819 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+                // Code for ZeroOrOne specified on line 1820 of Java.javacc
+                // Code for ExpansionChoice specified on line 1821 of Java.javacc
+                if (resetScanAhead(2147483647)&&check$Java_javacc$line_1821$column_11()) {
+                    // Code for NonTerminal specified on line 1821 of Java.javacc
+                    pushOntoCallStack(291);
+                    try {
+                        LocalVariableDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                    // Code for NonTerminal specified on line 1823 of Java.javacc
+                    pushOntoCallStack(292);
+                    try {
+                        Name();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1826 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for NonTerminal specified on line 1827 of Java.javacc
+            pushOntoCallStack(293);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1828 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.CATCH) {
+                // Code for NonTerminal specified on line 1828 of Java.javacc
+                pushOntoCallStack(294);
+                try {
+                    CatchBlock();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified on line 1829 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.FINALLY) {
+                // Code for NonTerminal specified on line 1829 of Java.javacc
+                pushOntoCallStack(295);
+                try {
+                    FinallyBlock();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for CodeBlock specified on line 1830 of Java.javacc
+            return TryWithResources88;
+        }
+        catch(ParseException e) {
+            parseException88= e;
+            throw e;
+        }
+        finally {
+            if (parseException88== null) {
+                restoreCallStack(callStackSize88);
+            }
+            if (buildTree) {
+                if (parseException88== null) {
+                    closeNodeScope(TryWithResources88, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException88.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1835
+    final public CatchBlock CatchBlock() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1835 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean CatchBlock89forced= false;
+        CatchBlock CatchBlock89= null;
+        if (buildTree) {
+            CatchBlock89= new CatchBlock();
+            openNodeScope(CatchBlock89);
+        }
+        ParseException parseException89= null;
+        int callStackSize89= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1836 of Java.javacc
+            consumeToken(TokenType.CATCH);
+            // Code for RegexpStringLiteral specified on line 1837 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for ZeroOrOne specified on line 1838 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.FINAL) {
+                // Code for RegexpStringLiteral specified on line 1838 of Java.javacc
+                consumeToken(TokenType.FINAL);
+            }
+            // Code for NonTerminal specified on line 1839 of Java.javacc
+            pushOntoCallStack(296);
+            try {
+                ClassOrInterfaceType();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1839 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.BIT_OR) {
+                // Code for RegexpStringLiteral specified on line 1839 of Java.javacc
+                consumeToken(TokenType.BIT_OR);
+                // Code for NonTerminal specified on line 1839 of Java.javacc
+                pushOntoCallStack(297);
+                try {
+                    ClassOrInterfaceType();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 1839 of Java.javacc
+            pushOntoCallStack(298);
+            try {
+                VariableDeclaratorId();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1840 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            // Code for NonTerminal specified on line 1841 of Java.javacc
+            pushOntoCallStack(299);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified on line 1842 of Java.javacc
+            return CatchBlock89;
+        }
+        catch(ParseException e) {
+            parseException89= e;
+            throw e;
+        }
+        finally {
+            if (parseException89== null) {
+                restoreCallStack(callStackSize89);
+            }
+            if (buildTree) {
+                if (parseException89== null) {
+                    closeNodeScope(CatchBlock89, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException89.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1854
+    final public void FinallyBlock() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1854 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean FinallyBlock90forced= false;
+        FinallyBlock FinallyBlock90= null;
+        if (buildTree) {
+            FinallyBlock90= new FinallyBlock();
+            openNodeScope(FinallyBlock90);
+        }
+        ParseException parseException90= null;
+        int callStackSize90= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1854 of Java.javacc
+            consumeToken(TokenType.FINALLY);
+            // Code for NonTerminal specified on line 1854 of Java.javacc
+            pushOntoCallStack(300);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from FinallyBlock");
+        }
+        catch(ParseException e) {
+            parseException90= e;
+            throw e;
+        }
+        finally {
+            if (parseException90== null) {
+                restoreCallStack(callStackSize90);
+            }
+            if (buildTree) {
+                if (parseException90== null) {
+                    closeNodeScope(FinallyBlock90, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException90.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /* Annotation syntax follows. */
+    // Java.javacc, line 1866
+    final public Annotation Annotation() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1866 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Annotation91forced= false;
+        Annotation Annotation91= null;
+        if (buildTree) {
+            Annotation91= new Annotation();
+            openNodeScope(Annotation91);
+        }
+        ParseException parseException91= null;
+        int callStackSize91= parsingStackSize;
+        try {
+            // Code for ExpansionChoice specified on line 1868 of Java.javacc
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1868$column_9()) {
+                // Code for NonTerminal specified on line 1869 of Java.javacc
+                pushOntoCallStack(304);
+                try {
+                    NormalAnnotation();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1871$column_9()) {
+                // Code for NonTerminal specified on line 1872 of Java.javacc
+                pushOntoCallStack(306);
+                try {
+                    SingleMemberAnnotation();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.AT) {
+                // Code for NonTerminal specified on line 1874 of Java.javacc
+                pushOntoCallStack(307);
+                try {
+                    MarkerAnnotation();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(301);
+                throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1868$column_4, getCallStack());
+            }
+            // Code for CodeBlock specified on line 1876 of Java.javacc
+            return Annotation91;
+        }
+        catch(ParseException e) {
+            parseException91= e;
+            throw e;
+        }
+        finally {
+            if (parseException91== null) {
+                restoreCallStack(callStackSize91);
+            }
+            if (buildTree) {
+                if (parseException91== null) {
+                    closeNodeScope(Annotation91, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException91.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1881
+    final public void NormalAnnotation() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1881 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 1882 of Java.javacc
+        consumeToken(TokenType.AT);
+        // Code for NonTerminal specified on line 1882 of Java.javacc
+        pushOntoCallStack(308);
+        try {
+            Name();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 1882 of Java.javacc
+        consumeToken(TokenType.LPAREN);
+        // Code for ZeroOrOne specified on line 1882 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+            // Code for NonTerminal specified on line 1882 of Java.javacc
+            pushOntoCallStack(309);
+            try {
+                MemberValuePairs();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified on line 1882 of Java.javacc
+        consumeToken(TokenType.RPAREN);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NormalAnnotation");
+    }
+
+    // Java.javacc, line 1885
+    final public void MarkerAnnotation() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1885 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 1886 of Java.javacc
+        consumeToken(TokenType.AT);
+        // Code for NonTerminal specified on line 1886 of Java.javacc
+        pushOntoCallStack(310);
+        try {
+            Name();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MarkerAnnotation");
+    }
+
+    // Java.javacc, line 1889
+    final public void SingleMemberAnnotation() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1889 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 1890 of Java.javacc
+        consumeToken(TokenType.AT);
+        // Code for NonTerminal specified on line 1890 of Java.javacc
+        pushOntoCallStack(311);
+        try {
+            Name();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 1890 of Java.javacc
+        consumeToken(TokenType.LPAREN);
+        // Code for NonTerminal specified on line 1890 of Java.javacc
+        pushOntoCallStack(312);
+        try {
+            MemberValue();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 1890 of Java.javacc
+        consumeToken(TokenType.RPAREN);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from SingleMemberAnnotation");
+    }
+
+    // Java.javacc, line 1893
+    final public void MemberValuePairs() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1893 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean MemberValuePairs92forced= false;
+        MemberValuePairs MemberValuePairs92= null;
+        if (buildTree) {
+            MemberValuePairs92= new MemberValuePairs();
+            openNodeScope(MemberValuePairs92);
+        }
+        ParseException parseException92= null;
+        int callStackSize92= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1894 of Java.javacc
+            pushOntoCallStack(313);
+            try {
+                MemberValuePair();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1894 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 1894 of Java.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 1894 of Java.javacc
+                pushOntoCallStack(314);
+                try {
+                    MemberValuePair();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MemberValuePairs");
+        }
+        catch(ParseException e) {
+            parseException92= e;
+            throw e;
+        }
+        finally {
+            if (parseException92== null) {
+                restoreCallStack(callStackSize92);
+            }
+            if (buildTree) {
+                if (parseException92== null) {
+                    closeNodeScope(MemberValuePairs92, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException92.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1897
+    final public void MemberValuePair() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1897 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean MemberValuePair93forced= false;
+        MemberValuePair MemberValuePair93= null;
+        if (buildTree) {
+            MemberValuePair93= new MemberValuePair();
+            openNodeScope(MemberValuePair93);
+        }
+        ParseException parseException93= null;
+        int callStackSize93= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1897 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpStringLiteral specified on line 1897 of Java.javacc
+            consumeToken(TokenType.ASSIGN);
+            // Code for NonTerminal specified on line 1897 of Java.javacc
+            pushOntoCallStack(315);
+            try {
+                MemberValue();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MemberValuePair");
+        }
+        catch(ParseException e) {
+            parseException93= e;
+            throw e;
+        }
+        finally {
+            if (parseException93== null) {
+                restoreCallStack(callStackSize93);
+            }
+            if (buildTree) {
+                if (parseException93== null) {
+                    closeNodeScope(MemberValuePair93, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException93.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> MemberValue_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.LBRACE, TokenType.AT, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    // Java.javacc, line 1899
+    final public void MemberValue() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1899 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1900 of Java.javacc
+        boolean MemberValue94forced= false;
+        MemberValue MemberValue94= null;
+        if (buildTree) {
+            MemberValue94= new MemberValue();
+            openNodeScope(MemberValue94);
+        }
+        ParseException parseException94= null;
+        int callStackSize94= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.AT) {
+                // Code for NonTerminal specified on line 1900 of Java.javacc
+                pushOntoCallStack(317);
+                try {
+                    Annotation();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACE) {
+                // Code for NonTerminal specified on line 1902 of Java.javacc
+                pushOntoCallStack(318);
+                try {
+                    MemberValueArrayInitializer();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&first_set$Java_javacc$line_1904$column_4.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1904 of Java.javacc
+                pushOntoCallStack(319);
+                try {
+                    TernaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(316);
+                throw new ParseException(current_token.getNext(), MemberValue_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MemberValue");
+        }
+        catch(ParseException e) {
+            parseException94= e;
+            throw e;
+        }
+        finally {
+            if (parseException94== null) {
+                restoreCallStack(callStackSize94);
+            }
+            if (buildTree) {
+                if (parseException94== null) {
+                    closeNodeScope(MemberValue94, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException94.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> MemberValueArrayInitializer_FIRST_SET= EnumSet.of(TokenType.LBRACE);
+    // Java.javacc, line 1907
+    final public void MemberValueArrayInitializer() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1907 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1908 of Java.javacc
+        boolean MemberValueArrayInitializer95forced= false;
+        MemberValueArrayInitializer MemberValueArrayInitializer95= null;
+        if (buildTree) {
+            MemberValueArrayInitializer95= new MemberValueArrayInitializer();
+            openNodeScope(MemberValueArrayInitializer95);
+        }
+        ParseException parseException95= null;
+        int callStackSize95= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1908$column_3()) {
+                // Code for RegexpStringLiteral specified on line 1908 of Java.javacc
+                consumeToken(TokenType.LBRACE);
+                // Code for RegexpStringLiteral specified on line 1908 of Java.javacc
+                consumeToken(TokenType.RBRACE);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACE) {
+                // Code for RegexpStringLiteral specified on line 1910 of Java.javacc
+                consumeToken(TokenType.LBRACE);
+                // Code for NonTerminal specified on line 1910 of Java.javacc
+                pushOntoCallStack(321);
+                try {
+                    MemberValue();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 1910 of Java.javacc
+                while (resetScanAhead(2)&&check$Java_javacc$line_1910$column_21()) {
+                    // Code for RegexpStringLiteral specified on line 1910 of Java.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 1910 of Java.javacc
+                    pushOntoCallStack(322);
+                    try {
+                        MemberValue();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for ZeroOrOne specified on line 1910 of Java.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpStringLiteral specified on line 1910 of Java.javacc
+                    consumeToken(TokenType.COMMA);
+                }
+                // Code for RegexpStringLiteral specified on line 1910 of Java.javacc
+                consumeToken(TokenType.RBRACE);
+            }
+            else {
+                pushOntoCallStack(320);
+                throw new ParseException(current_token.getNext(), MemberValueArrayInitializer_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MemberValueArrayInitializer");
+        }
+        catch(ParseException e) {
+            parseException95= e;
+            throw e;
+        }
+        finally {
+            if (parseException95== null) {
+                restoreCallStack(callStackSize95);
+            }
+            if (buildTree) {
+                if (parseException95== null) {
+                    closeNodeScope(MemberValueArrayInitializer95, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException95.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    /* Annotation Types. */
+    // Java.javacc, line 1916
+    final public void AnnotationTypeDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1916 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AnnotationTypeDeclaration96forced= false;
+        AnnotationTypeDeclaration AnnotationTypeDeclaration96= null;
+        if (buildTree) {
+            AnnotationTypeDeclaration96= new AnnotationTypeDeclaration();
+            openNodeScope(AnnotationTypeDeclaration96);
+        }
+        ParseException parseException96= null;
+        int callStackSize96= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1917 of Java.javacc
+            consumeToken(TokenType.AT);
+            // Code for RegexpStringLiteral specified on line 1917 of Java.javacc
+            consumeToken(TokenType.INTERFACE);
+            // Code for RegexpRef specified on line 1917 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for NonTerminal specified on line 1917 of Java.javacc
+            pushOntoCallStack(323);
+            try {
+                AnnotationTypeBody();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AnnotationTypeDeclaration");
+        }
+        catch(ParseException e) {
+            parseException96= e;
+            throw e;
+        }
+        finally {
+            if (parseException96== null) {
+                restoreCallStack(callStackSize96);
+            }
+            if (buildTree) {
+                if (parseException96== null) {
+                    closeNodeScope(AnnotationTypeDeclaration96, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException96.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1920
+    final public void AnnotationTypeBody() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1920 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AnnotationTypeBody97forced= false;
+        AnnotationTypeBody AnnotationTypeBody97= null;
+        if (buildTree) {
+            AnnotationTypeBody97= new AnnotationTypeBody();
+            openNodeScope(AnnotationTypeBody97);
+        }
+        ParseException parseException97= null;
+        int callStackSize97= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1921 of Java.javacc
+            consumeToken(TokenType.LBRACE);
+            // Code for ZeroOrMore specified on line 1921 of Java.javacc
+            while (resetScanAhead(1)&&first_set$Java_javacc$line_1921$column_42.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1921 of Java.javacc
+                pushOntoCallStack(324);
+                try {
+                    AnnotationTypeMemberDeclaration();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1921 of Java.javacc
+            consumeToken(TokenType.RBRACE);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AnnotationTypeBody");
+        }
+        catch(ParseException e) {
+            parseException97= e;
+            throw e;
+        }
+        finally {
+            if (parseException97== null) {
+                restoreCallStack(callStackSize97);
+            }
+            if (buildTree) {
+                if (parseException97== null) {
+                    closeNodeScope(AnnotationTypeBody97, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException97.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> AnnotationTypeMemberDeclaration_FIRST_SET= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType.DOUBLE, TokenType.ENUM, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.INTERFACE, TokenType.LONG, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.SEMICOLON, TokenType.AT, TokenType.IDENTIFIER);
+    // Java.javacc, line 1924
+    final public void AnnotationTypeMemberDeclaration() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1924 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1925 of Java.javacc
+        boolean AnnotationTypeMemberDeclaration98forced= false;
+        AnnotationTypeMemberDeclaration AnnotationTypeMemberDeclaration98= null;
+        if (buildTree) {
+            AnnotationTypeMemberDeclaration98= new AnnotationTypeMemberDeclaration();
+            openNodeScope(AnnotationTypeMemberDeclaration98);
+        }
+        ParseException parseException98= null;
+        int callStackSize98= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_1925$column_2.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1925 of Java.javacc
+                pushOntoCallStack(326);
+                try {
+                    Modifiers();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ExpansionChoice specified on line 1927 of Java.javacc
+                if (resetScanAhead(2147483647)&&check$Java_javacc$line_1927$column_9()) {
+                    // Code for NonTerminal specified on line 1928 of Java.javacc
+                    pushOntoCallStack(329);
+                    try {
+                        Type();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpRef specified on line 1928 of Java.javacc
+                    consumeToken(TokenType.IDENTIFIER);
+                    // Code for RegexpStringLiteral specified on line 1928 of Java.javacc
+                    consumeToken(TokenType.LPAREN);
+                    // Code for RegexpStringLiteral specified on line 1928 of Java.javacc
+                    consumeToken(TokenType.RPAREN);
+                    // Code for ZeroOrOne specified on line 1928 of Java.javacc
+                    if (resetScanAhead(1)&&nextTokenType== TokenType._DEFAULT) {
+                        // Code for NonTerminal specified on line 1928 of Java.javacc
+                        pushOntoCallStack(330);
+                        try {
+                            DefaultValue();
+                        }
+                        finally {
+                            popCallStack();
+                        }
+                    }
+                    // Code for RegexpStringLiteral specified on line 1928 of Java.javacc
+                    consumeToken(TokenType.SEMICOLON);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.CLASS) {
+                    // Code for NonTerminal specified on line 1930 of Java.javacc
+                    pushOntoCallStack(331);
+                    try {
+                        ClassDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.INTERFACE) {
+                    // Code for NonTerminal specified on line 1932 of Java.javacc
+                    pushOntoCallStack(332);
+                    try {
+                        InterfaceDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ENUM) {
+                    // Code for NonTerminal specified on line 1934 of Java.javacc
+                    pushOntoCallStack(333);
+                    try {
+                        EnumDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.AT) {
+                    // Code for NonTerminal specified on line 1936 of Java.javacc
+                    pushOntoCallStack(334);
+                    try {
+                        AnnotationTypeDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&first_set$Java_javacc$line_1938$column_4.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 1938 of Java.javacc
+                    pushOntoCallStack(335);
+                    try {
+                        FieldDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    pushOntoCallStack(327);
+                    throw new ParseException(current_token.getNext(), first_set$Java_javacc$line_1927$column_4, getCallStack());
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpStringLiteral specified on line 1941 of Java.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            else {
+                pushOntoCallStack(325);
+                throw new ParseException(current_token.getNext(), AnnotationTypeMemberDeclaration_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AnnotationTypeMemberDeclaration");
+        }
+        catch(ParseException e) {
+            parseException98= e;
+            throw e;
+        }
+        finally {
+            if (parseException98== null) {
+                restoreCallStack(callStackSize98);
+            }
+            if (buildTree) {
+                if (parseException98== null) {
+                    closeNodeScope(AnnotationTypeMemberDeclaration98, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException98.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1944
+    final public void DefaultValue() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1944 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean DefaultValue99forced= false;
+        DefaultValue DefaultValue99= null;
+        if (buildTree) {
+            DefaultValue99= new DefaultValue();
+            openNodeScope(DefaultValue99);
+        }
+        ParseException parseException99= null;
+        int callStackSize99= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1945 of Java.javacc
+            consumeToken(TokenType._DEFAULT);
+            // Code for NonTerminal specified on line 1945 of Java.javacc
+            pushOntoCallStack(336);
+            try {
+                MemberValue();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from DefaultValue");
+        }
+        catch(ParseException e) {
+            parseException99= e;
+            throw e;
+        }
+        finally {
+            if (parseException99== null) {
+                restoreCallStack(callStackSize99);
+            }
+            if (buildTree) {
+                if (parseException99== null) {
+                    closeNodeScope(DefaultValue99, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException99.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // Java.javacc, line 1948
+    final public LambdaExpression LambdaExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1948 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean LambdaExpression100forced= false;
+        LambdaExpression LambdaExpression100= null;
+        if (buildTree) {
+            LambdaExpression100= new LambdaExpression();
+            openNodeScope(LambdaExpression100);
+        }
+        ParseException parseException100= null;
+        int callStackSize100= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1949 of Java.javacc
+            pushOntoCallStack(337);
+            try {
+                LambdaLHS();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 1950 of Java.javacc
+            consumeToken(TokenType.LAMBDA);
+            // Code for NonTerminal specified on line 1951 of Java.javacc
+            pushOntoCallStack(338);
+            try {
+                LambdaRHS();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified on line 1952 of Java.javacc
+            return LambdaExpression100;
+        }
+        catch(ParseException e) {
+            parseException100= e;
+            throw e;
+        }
+        finally {
+            if (parseException100== null) {
+                restoreCallStack(callStackSize100);
+            }
+            if (buildTree) {
+                if (parseException100== null) {
+                    closeNodeScope(LambdaExpression100, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException100.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> LambdaLHS_FIRST_SET= EnumSet.of(TokenType.LPAREN, TokenType.IDENTIFIER);
+    // Java.javacc, line 1957
+    final public void LambdaLHS() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1957 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1958 of Java.javacc
+        boolean LambdaLHS101forced= false;
+        LambdaLHS LambdaLHS101= null;
+        if (buildTree) {
+            LambdaLHS101= new LambdaLHS();
+            openNodeScope(LambdaLHS101);
+        }
+        ParseException parseException101= null;
+        int callStackSize101= parsingStackSize;
+        try {
+            if (resetScanAhead(2147483647)&&check$Java_javacc$line_1958$column_9()) {
+                // Code for NonTerminal specified on line 1959 of Java.javacc
+                pushOntoCallStack(341);
+                try {
+                    SimpleLambdaLHS();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(2147483647)&&check$Java_javacc$line_1961$column_9()) {
+                // Code for NonTerminal specified on line 1962 of Java.javacc
+                pushOntoCallStack(343);
+                try {
+                    FormalLambdaLHS();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(339);
+                throw new ParseException(current_token.getNext(), LambdaLHS_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from LambdaLHS");
+        }
+        catch(ParseException e) {
+            parseException101= e;
+            throw e;
+        }
+        finally {
+            if (parseException101== null) {
+                restoreCallStack(callStackSize101);
+            }
+            if (buildTree) {
+                if (parseException101== null) {
+                    closeNodeScope(LambdaLHS101, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException101.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> SimpleLambdaLHS_FIRST_SET= EnumSet.of(TokenType.LPAREN, TokenType.IDENTIFIER);
+    // Java.javacc, line 1965
+    final public void SimpleLambdaLHS() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1965 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1966 of Java.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+            // Code for RegexpRef specified on line 1966 of Java.javacc
+            consumeToken(TokenType.IDENTIFIER);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.LPAREN) {
+            // Code for RegexpStringLiteral specified on line 1969 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for ZeroOrOne specified on line 1970 of Java.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for RegexpRef specified on line 1970 of Java.javacc
+                consumeToken(TokenType.IDENTIFIER);
+                // Code for ZeroOrMore specified on line 1970 of Java.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpStringLiteral specified on line 1970 of Java.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for RegexpRef specified on line 1970 of Java.javacc
+                    consumeToken(TokenType.IDENTIFIER);
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1971 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+        }
+        else {
+            pushOntoCallStack(344);
+            throw new ParseException(current_token.getNext(), SimpleLambdaLHS_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from SimpleLambdaLHS");
+    }
+
+    // Java.javacc, line 1975
+    final public void FormalLambdaLHS() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1975 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean FormalLambdaLHS102forced= false;
+        FormalParameters FormalLambdaLHS102= null;
+        if (buildTree) {
+            FormalLambdaLHS102= new FormalParameters();
+            openNodeScope(FormalLambdaLHS102);
+        }
+        ParseException parseException102= null;
+        int callStackSize102= parsingStackSize;
+        try {
+            // Code for RegexpStringLiteral specified on line 1976 of Java.javacc
+            consumeToken(TokenType.LPAREN);
+            // Code for NonTerminal specified on line 1977 of Java.javacc
+            pushOntoCallStack(345);
+            try {
+                Type();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 1977 of Java.javacc
+            pushOntoCallStack(346);
+            try {
+                VariableDeclaratorId();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1980 of Java.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                // Code for RegexpStringLiteral specified on line 1979 of Java.javacc
+                consumeToken(TokenType.COMMA);
+                // Code for NonTerminal specified on line 1979 of Java.javacc
+                pushOntoCallStack(347);
+                try {
+                    Type();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for NonTerminal specified on line 1979 of Java.javacc
+                pushOntoCallStack(348);
+                try {
+                    VariableDeclaratorId();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified on line 1981 of Java.javacc
+            consumeToken(TokenType.RPAREN);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from FormalLambdaLHS");
+        }
+        catch(ParseException e) {
+            parseException102= e;
+            throw e;
+        }
+        finally {
+            if (parseException102== null) {
+                restoreCallStack(callStackSize102);
+            }
+            if (buildTree) {
+                if (parseException102== null) {
+                    closeNodeScope(FormalLambdaLHS102, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException102.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> LambdaRHS_FIRST_SET= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.LBRACE, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    // Java.javacc, line 1984
+    final public void LambdaRHS() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1984 of Java.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1985 of Java.javacc
+        boolean LambdaRHS103forced= false;
+        LambdaRHS LambdaRHS103= null;
+        if (buildTree) {
+            LambdaRHS103= new LambdaRHS();
+            openNodeScope(LambdaRHS103);
+        }
+        ParseException parseException103= null;
+        int callStackSize103= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&first_set$Java_javacc$line_1985$column_3.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1985 of Java.javacc
+                pushOntoCallStack(350);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.LBRACE) {
+                // Code for NonTerminal specified on line 1987 of Java.javacc
+                pushOntoCallStack(351);
+                try {
+                    Block();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(349);
+                throw new ParseException(current_token.getNext(), LambdaRHS_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from LambdaRHS");
+        }
+        catch(ParseException e) {
+            parseException103= e;
+            throw e;
+        }
+        finally {
+            if (parseException103== null) {
+                restoreCallStack(callStackSize103);
+            }
+            if (buildTree) {
+                if (parseException103== null) {
+                    closeNodeScope(LambdaRHS103, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException103.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_314$column_6$= EnumSet.of(TokenType.EOF, TokenType.ABSTRACT, TokenType.CLASS, TokenType.ENUM, TokenType.FINAL, TokenType.INTERFACE, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.SEMICOLON, TokenType.AT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_314$column_6= EnumSet.of(TokenType.ABSTRACT, TokenType.CLASS, TokenType.ENUM, TokenType.FINAL, TokenType.INTERFACE, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.SEMICOLON, TokenType.AT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_314$column_25= EnumSet.of(TokenType.ABSTRACT, TokenType.CLASS, TokenType.ENUM, TokenType.FINAL, TokenType.INTERFACE, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.SEMICOLON, TokenType.AT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_495$column_3= EnumSet.of(TokenType.ABSTRACT, TokenType.CLASS, TokenType.ENUM, TokenType.FINAL, TokenType.INTERFACE, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.SEMICOLON, TokenType.AT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_497$column_3= EnumSet.of(TokenType.ABSTRACT, TokenType.CLASS, TokenType.ENUM, TokenType.FINAL, TokenType.INTERFACE, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.AT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_499$column_6= EnumSet.of(TokenType.CLASS, TokenType.ENUM, TokenType.INTERFACE, TokenType.AT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_777$column_4= EnumSet.of(TokenType.ABSTRACT, TokenType.FINAL, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.AT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_779$column_52= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType._DEFAULT, TokenType.DOUBLE, TokenType.ENUM, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.INTERFACE, TokenType.LONG, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOID, TokenType.VOLATILE, TokenType.LBRACE, TokenType.SEMICOLON, TokenType.AT, TokenType.LT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_830$column_6= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType._DEFAULT, TokenType.DOUBLE, TokenType.ENUM, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.INTERFACE, TokenType.LONG, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOID, TokenType.VOLATILE, TokenType.LBRACE, TokenType.SEMICOLON, TokenType.AT, TokenType.LT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_912$column_3= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType._DEFAULT, TokenType.DOUBLE, TokenType.ENUM, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.INTERFACE, TokenType.LONG, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOID, TokenType.VOLATILE, TokenType.AT, TokenType.LT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_915$column_7= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType.DOUBLE, TokenType.ENUM, TokenType.FLOAT, TokenType.INT, TokenType.INTERFACE, TokenType.LONG, TokenType.SHORT, TokenType.VOID, TokenType.AT, TokenType.LT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_927$column_45= EnumSet.of(TokenType.SEMICOLON, TokenType.COMMA, TokenType.ASSIGN);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_930$column_7= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT, TokenType.VOID, TokenType.LT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_989$column_42= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_992$column_7= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.LBRACE, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1020$column_5= EnumSet.of(TokenType.LBRACE, TokenType.SEMICOLON);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1030$column_5= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.AT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1083$column_23= EnumSet.of(TokenType.ABSTRACT, TokenType.ASSERT, TokenType.BOOLEAN, TokenType.BREAK, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType.CONTINUE, TokenType.DO, TokenType.DOUBLE, TokenType.FALSE, TokenType.FINAL, TokenType.FLOAT, TokenType.FOR, TokenType.IF, TokenType.INT, TokenType.LONG, TokenType.NATIVE, TokenType.NEW, TokenType.NULL, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.RETURN, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SUPER, TokenType.SWITCH, TokenType.SYNCHRONIZED, TokenType.THIS, TokenType.THROW, TokenType.TRANSIENT, TokenType.TRUE, TokenType.TRY, TokenType.VOID, TokenType.VOLATILE, TokenType.WHILE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.LBRACE, TokenType.SEMICOLON, TokenType.AT, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1090$column_3= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1106$column_4= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1111$column_4= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1158$column_4= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1164$column_5= EnumSet.of(TokenType.EXTENDS, TokenType.SUPER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1187$column_5= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1192$column_9= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT, TokenType.VOID, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1194$column_9= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1296$column_19= EnumSet.of(TokenType.ASSIGN, TokenType.PLUSASSIGN, TokenType.MINUSASSIGN, TokenType.STARASSIGN, TokenType.SLASHASSIGN, TokenType.ANDASSIGN, TokenType.ORASSIGN, TokenType.XORASSIGN, TokenType.REMASSIGN, TokenType.LSHIFTASSIGN, TokenType.RSIGNEDSHIFTASSIGN, TokenType.RUNSIGNEDSHIFTASSIGN);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1330$column_28= EnumSet.of(TokenType.EQ, TokenType.NE);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1341$column_6= EnumSet.of(TokenType.GT, TokenType.LT, TokenType.LE, TokenType.GE);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1356$column_9= EnumSet.of(TokenType.GT, TokenType.LSHIFT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1403$column_33= EnumSet.of(TokenType.PLUS, TokenType.MINUS);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1407$column_24= EnumSet.of(TokenType.STAR, TokenType.SLASH, TokenType.REM);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1411$column_5= EnumSet.of(TokenType.PLUS, TokenType.MINUS);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1417$column_3= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.BANG, TokenType.TILDE, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1429$column_5= EnumSet.of(TokenType.BANG, TokenType.TILDE);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1437$column_3= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1441$column_23= EnumSet.of(TokenType.INCR, TokenType.DECR);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1445$column_12= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1465$column_3= EnumSet.of(TokenType.FALSE, TokenType.NULL, TokenType.TRUE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1475$column_5= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1485$column_6$= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT, TokenType.SUPER, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1485$column_6= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1487$column_7= EnumSet.of(TokenType.NEW, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1491$column_11= EnumSet.of(TokenType.SUPER, TokenType.THIS);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1499$column_7= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1503$column_9= EnumSet.of(TokenType.NEW, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1528$column_5= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1559$column_9= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1563$column_7= EnumSet.of(TokenType.LPAREN, TokenType.LBRACKET);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1608$column_3= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1651$column_19= EnumSet.of(TokenType.ABSTRACT, TokenType.ASSERT, TokenType.BOOLEAN, TokenType.BREAK, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType.CONTINUE, TokenType.DO, TokenType.DOUBLE, TokenType.FALSE, TokenType.FINAL, TokenType.FLOAT, TokenType.FOR, TokenType.IF, TokenType.INT, TokenType.LONG, TokenType.NATIVE, TokenType.NEW, TokenType.NULL, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.RETURN, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SUPER, TokenType.SWITCH, TokenType.SYNCHRONIZED, TokenType.THIS, TokenType.THROW, TokenType.TRANSIENT, TokenType.TRUE, TokenType.TRY, TokenType.VOID, TokenType.VOLATILE, TokenType.WHILE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.LBRACE, TokenType.SEMICOLON, TokenType.AT, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1679$column_3= EnumSet.of(TokenType.ASSERT, TokenType.BOOLEAN, TokenType.BREAK, TokenType.BYTE, TokenType.CHAR, TokenType.CONTINUE, TokenType.DO, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.FOR, TokenType.IF, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.RETURN, TokenType.SHORT, TokenType.SUPER, TokenType.SWITCH, TokenType.SYNCHRONIZED, TokenType.THIS, TokenType.THROW, TokenType.TRUE, TokenType.TRY, TokenType.VOID, TokenType.WHILE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.LBRACE, TokenType.SEMICOLON, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1698$column_3= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1704$column_5= EnumSet.of(TokenType.ASSIGN, TokenType.PLUSASSIGN, TokenType.MINUSASSIGN, TokenType.STARASSIGN, TokenType.SLASHASSIGN, TokenType.ANDASSIGN, TokenType.ORASSIGN, TokenType.XORASSIGN, TokenType.REMASSIGN, TokenType.LSHIFTASSIGN, TokenType.RSIGNEDSHIFTASSIGN, TokenType.RUNSIGNEDSHIFTASSIGN);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1704$column_5$= EnumSet.of(TokenType.ASSIGN, TokenType.PLUSASSIGN, TokenType.MINUSASSIGN, TokenType.STARASSIGN, TokenType.SLASHASSIGN, TokenType.ANDASSIGN, TokenType.ORASSIGN, TokenType.XORASSIGN, TokenType.REMASSIGN, TokenType.LSHIFTASSIGN, TokenType.RSIGNEDSHIFTASSIGN, TokenType.RUNSIGNEDSHIFTASSIGN);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1716$column_21= EnumSet.of(TokenType.ABSTRACT, TokenType.ASSERT, TokenType.BOOLEAN, TokenType.BREAK, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType.CONTINUE, TokenType.DO, TokenType.DOUBLE, TokenType.FALSE, TokenType.FINAL, TokenType.FLOAT, TokenType.FOR, TokenType.IF, TokenType.INT, TokenType.LONG, TokenType.NATIVE, TokenType.NEW, TokenType.NULL, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.RETURN, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SUPER, TokenType.SWITCH, TokenType.SYNCHRONIZED, TokenType.THIS, TokenType.THROW, TokenType.TRANSIENT, TokenType.TRUE, TokenType.TRY, TokenType.VOID, TokenType.VOLATILE, TokenType.WHILE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.LBRACE, TokenType.SEMICOLON, TokenType.AT, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1740$column_7= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NATIVE, TokenType.NEW, TokenType.NULL, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SUPER, TokenType.SYNCHRONIZED, TokenType.THIS, TokenType.TRANSIENT, TokenType.TRUE, TokenType.VOID, TokenType.VOLATILE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.SEMICOLON, TokenType.AT, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1743$column_6= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NATIVE, TokenType.NEW, TokenType.NULL, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SUPER, TokenType.SYNCHRONIZED, TokenType.THIS, TokenType.TRANSIENT, TokenType.TRUE, TokenType.VOID, TokenType.VOLATILE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.SEMICOLON, TokenType.AT, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1743$column_6$= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NATIVE, TokenType.NEW, TokenType.NULL, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SUPER, TokenType.SYNCHRONIZED, TokenType.THIS, TokenType.TRANSIENT, TokenType.TRUE, TokenType.VOID, TokenType.VOLATILE, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.AT, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1743$column_22= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1743$column_41= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1753$column_3= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.INCR, TokenType.DECR, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1774$column_3= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1798$column_6= EnumSet.of(TokenType.CATCH, TokenType.FINALLY);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1814$column_10= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.AT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1868$column_4= EnumSet.of(TokenType.AT);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1904$column_4= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1921$column_42= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType.DOUBLE, TokenType.ENUM, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.INTERFACE, TokenType.LONG, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.SEMICOLON, TokenType.AT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1925$column_2= EnumSet.of(TokenType.ABSTRACT, TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType.DOUBLE, TokenType.ENUM, TokenType.FINAL, TokenType.FLOAT, TokenType.INT, TokenType.INTERFACE, TokenType.LONG, TokenType.NATIVE, TokenType.PRIVATE, TokenType.PROTECTED, TokenType.PUBLIC, TokenType.SHORT, TokenType.STATIC, TokenType.STRICTFP, TokenType.SYNCHRONIZED, TokenType.TRANSIENT, TokenType.VOLATILE, TokenType.AT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1927$column_4= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.CLASS, TokenType.DOUBLE, TokenType.ENUM, TokenType.FLOAT, TokenType.INT, TokenType.INTERFACE, TokenType.LONG, TokenType.SHORT, TokenType.AT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1938$column_4= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.SHORT, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$Java_javacc$line_1985$column_3= EnumSet.of(TokenType.BOOLEAN, TokenType.BYTE, TokenType.CHAR, TokenType.DOUBLE, TokenType.FALSE, TokenType.FLOAT, TokenType.INT, TokenType.LONG, TokenType.NEW, TokenType.NULL, TokenType.SHORT, TokenType.SUPER, TokenType.THIS, TokenType.TRUE, TokenType.VOID, TokenType.LONG_LITERAL, TokenType.INTEGER_LITERAL, TokenType.FLOATING_POINT_LITERAL, TokenType.CHARACTER_LITERAL, TokenType.STRING_LITERAL, TokenType.LPAREN, TokenType.BANG, TokenType.TILDE, TokenType.INCR, TokenType.DECR, TokenType.PLUS, TokenType.MINUS, TokenType.IDENTIFIER);
+    private final boolean scanToken(TokenType expectedType) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (type!=expectedType) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    private final boolean scanToken(EnumSet<TokenType> types) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (!types.contains(type)) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    //====================================
+    // Lookahead Routines
+    //====================================
+    private final boolean check$Java_javacc$line_310$column_10() {
+        if (remainingLookahead<=0) return true;
+        while (remainingLookahead> 0) {
+            int int104= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_310$column_11())) {
+                currentLookaheadIndex= int104;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.PACKAGE)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_455$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(7);
+        if (!check$Annotation()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_485$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(8);
+        if (!check$Annotation()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_777$column_21() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(30);
+        if (!check$EnumConstant()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_909$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(42);
+        if (!check$Initializer()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_923$column_12() {
+        if (remainingLookahead<=0) return true;
+        int int105= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_923$column_14())) currentLookaheadIndex= int105;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_927$column_12() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(51);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        while (remainingLookahead> 0) {
+            int int106= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_927$column_32())) {
+                currentLookaheadIndex= int106;
+                break;
+            }
+        }
+        if (!scanToken(first_set$Java_javacc$line_927$column_45)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_992$column_31() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(64);
+        if (!check$VariableInitializer()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1082$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(80);
+        if (!check$ExplicitConstructorInvocation()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1088$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.THIS)) return false;
+        pushOntoLookaheadStack(83);
+        if (!check$Arguments()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1090$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(84);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.DOT)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1104$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(88);
+        if (!check$ReferenceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1113$column_26() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACKET)) return false;
+        if (!scanToken(TokenType.RBRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1118$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(93);
+        if (!check$TypeArguments()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1119$column_33() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(94);
+        if (!check$TypeArguments()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1119$column_7() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        int int107= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1119$column_33())) currentLookaheadIndex= int107;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1146$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(96);
+        if (!check$DiamondOperator()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1187$column_20() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACKET)) return false;
+        if (!scanToken(TokenType.RBRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1208$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1296$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1296$column_19)) return false;
+        pushOntoLookaheadStack(114);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1354$column_7() {
+        if (remainingLookahead<=0) return true;
+        int int108= currentLookaheadIndex;
+        int remainingLookahead108= remainingLookahead;
+        if (!(scanToken(TokenType.LSHIFT))) {
+            currentLookaheadIndex= int108;
+            remainingLookahead= remainingLookahead108;
+            if (!(check$Java_javacc$line_1358$column_9())) {
+                return false;
+            }
+        }
+        pushOntoLookaheadStack(140);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1431$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(158);
+        if (!check$LambdaExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1435$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(159);
+        if (!check$CastExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1445$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        if (!scanToken(first_set$Java_javacc$line_1445$column_12)) return false;
+        if (!scanToken(TokenType.RPAREN)) return false;
+        pushOntoLookaheadStack(164);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1447$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        pushOntoLookaheadStack(165);
+        if (!check$ReferenceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.RPAREN)) return false;
+        pushOntoLookaheadStack(166);
+        if (!check$UnaryExpressionNotPlusMinus()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1449$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        pushOntoLookaheadStack(167);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!(check$Java_javacc$line_1449$column_35())) return false;
+        while (remainingLookahead> 0) {
+            int int109= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1449$column_35())) {
+                currentLookaheadIndex= int109;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.RPAREN)) return false;
+        pushOntoLookaheadStack(169);
+        if (!check$UnaryExpressionNotPlusMinus()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1454$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(171);
+        if (!check$PrimarySuffix()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1469$column_2() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.SUPER)) return false;
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1475$column_2() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1475$column_5)) return false;
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(TokenType.CLASS)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1477$column_2() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(178);
+        if (!check$ReturnType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(TokenType.CLASS)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1479$column_2() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(179);
+        if (!check$MethodReference()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1491$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(first_set$Java_javacc$line_1491$column_11)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1493$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT)) return false;
+        pushOntoLookaheadStack(186);
+        if (!check$AllocationExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1496$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(187);
+        if (!check$MemberSelector()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1558$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.NEW)) return false;
+        if (!scanToken(first_set$Java_javacc$line_1559$column_9)) return false;
+        pushOntoLookaheadStack(196);
+        if (!check$ArrayDimsAndInits()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1576$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACKET)) return false;
+        pushOntoLookaheadStack(204);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.RBRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1579$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACKET)) return false;
+        if (!scanToken(TokenType.RBRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1574$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!(check$Java_javacc$line_1576$column_5())) return false;
+        while (remainingLookahead> 0) {
+            int int110= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1576$column_5())) {
+                currentLookaheadIndex= int110;
+                break;
+            }
+        }
+        while (remainingLookahead> 0) {
+            int int111= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1579$column_5())) {
+                currentLookaheadIndex= int111;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1596$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(206);
+        if (!check$Label()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1634$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.TRY)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1637$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.TRY)) return false;
+        if (!scanToken(TokenType.LBRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1673$column_8() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(231);
+        if (!check$Modifiers()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(232);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1676$column_8() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(234);
+        if (!check$Modifiers()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.CLASS)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1740$column_12() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(262);
+        if (!check$Modifiers()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(263);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.COLON)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1750$column_8() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(272);
+        if (!check$Modifiers()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(273);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1814$column_10() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(289);
+        if (!check$LocalVariableDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1821$column_11() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(291);
+        if (!check$LocalVariableDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1868$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.AT)) return false;
+        pushOntoLookaheadStack(302);
+        if (!check$Name()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.LPAREN)) return false;
+        int int112= currentLookaheadIndex;
+        int remainingLookahead112= remainingLookahead;
+        if (!(check$Java_javacc$line_1868$column_24())) {
+            currentLookaheadIndex= int112;
+            remainingLookahead= remainingLookahead112;
+            if (!(scanToken(TokenType.RPAREN))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1871$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.AT)) return false;
+        pushOntoLookaheadStack(305);
+        if (!check$Name()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.LPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1908$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACE)) return false;
+        if (!scanToken(TokenType.RBRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1910$column_21() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(322);
+        if (!check$MemberValue()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1927$column_9() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(328);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1958$column_9() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(340);
+        if (!check$SimpleLambdaLHS()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.LAMBDA)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1961$column_9() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(342);
+        if (!check$FormalLambdaLHS()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.LAMBDA)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_310$column_11() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(0);
+        if (!check$Annotation()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Annotation() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Annotation$scan();
+        }
+        long memoKey= scanMemoKey(0);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Annotation$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Annotation$scan() {
+        if (remainingLookahead<=0) return true;
+        int int113= currentLookaheadIndex;
+        int remainingLookahead113= remainingLookahead;
+        if (!(check$Java_javacc$line_1868$column_4()&&check$Java_javacc$line_1868$column_4$())) {
+            currentLookaheadIndex= int113;
+            remainingLookahead= remainingLookahead113;
+            if (!(check$Java_javacc$line_1871$column_4()&&check$Java_javacc$line_1871$column_4$())) {
+                currentLookaheadIndex= int113;
+                remainingLookahead= remainingLookahead113;
+                if (!(check$Java_javacc$line_1874$column_4())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$EnumConstant() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$EnumConstant$scan();
+        }
+        long memoKey= scanMemoKey(1);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$EnumConstant$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$EnumConstant$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(32);
+        if (!check$Modifiers()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        int int114= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_784$column_28())) currentLookaheadIndex= int114;
+        int int115= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_784$column_42())) currentLookaheadIndex= int115;
+        return true;
+    }
+
+    private final boolean check$Initializer() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Initializer$scan();
+        }
+        long memoKey= scanMemoKey(2);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Initializer$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Initializer$scan() {
+        if (remainingLookahead<=0) return true;
+        int int116= currentLookaheadIndex;
+        if (!(scanToken(TokenType.STATIC))) currentLookaheadIndex= int116;
+        pushOntoLookaheadStack(86);
+        if (!check$Block()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_923$column_14() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(49);
+        if (!check$TypeParameters()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Type() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Type$scan();
+        }
+        long memoKey= scanMemoKey(3);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Type$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Type$scan() {
+        if (remainingLookahead<=0) return true;
+        int int117= currentLookaheadIndex;
+        int remainingLookahead117= remainingLookahead;
+        if (!(check$Java_javacc$line_1104$column_4())) {
+            currentLookaheadIndex= int117;
+            remainingLookahead= remainingLookahead117;
+            if (!(scanToken(first_set$Java_javacc$line_1106$column_4))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_927$column_32() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACKET)) return false;
+        if (!scanToken(TokenType.RBRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$VariableInitializer() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$VariableInitializer$scan();
+        }
+        long memoKey= scanMemoKey(4);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$VariableInitializer$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$VariableInitializer$scan() {
+        if (remainingLookahead<=0) return true;
+        int int118= currentLookaheadIndex;
+        int remainingLookahead118= remainingLookahead;
+        if (!(check$Java_javacc$line_989$column_23())) {
+            currentLookaheadIndex= int118;
+            remainingLookahead= remainingLookahead118;
+            if (!(check$Java_javacc$line_989$column_42())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ExplicitConstructorInvocation() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ExplicitConstructorInvocation$scan();
+        }
+        long memoKey= scanMemoKey(5);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ExplicitConstructorInvocation$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ExplicitConstructorInvocation$scan() {
+        if (remainingLookahead<=0) return true;
+        int int119= currentLookaheadIndex;
+        int remainingLookahead119= remainingLookahead;
+        if (!(check$Java_javacc$line_1088$column_3())) {
+            currentLookaheadIndex= int119;
+            remainingLookahead= remainingLookahead119;
+            if (!(check$Java_javacc$line_1090$column_3())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Arguments() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Arguments$scan();
+        }
+        long memoKey= scanMemoKey(6);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Arguments$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Arguments$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        int int120= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1528$column_7())) currentLookaheadIndex= int120;
+        if (!scanToken(TokenType.RPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$PrimaryExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$PrimaryExpression$scan();
+        }
+        long memoKey= scanMemoKey(7);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$PrimaryExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$PrimaryExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(170);
+        if (!check$PrimaryPrefix()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int121= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1454$column_7())) {
+                currentLookaheadIndex= int121;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ReferenceType() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ReferenceType$scan();
+        }
+        long memoKey= scanMemoKey(8);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ReferenceType$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ReferenceType$scan() {
+        if (remainingLookahead<=0) return true;
+        int int122= currentLookaheadIndex;
+        int remainingLookahead122= remainingLookahead;
+        if (!(check$Java_javacc$line_1111$column_4())) {
+            currentLookaheadIndex= int122;
+            remainingLookahead= remainingLookahead122;
+            if (!(check$Java_javacc$line_1113$column_4())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$TypeArguments() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$TypeArguments$scan();
+        }
+        long memoKey= scanMemoKey(9);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$TypeArguments$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$TypeArguments$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LT)) return false;
+        pushOntoLookaheadStack(98);
+        if (!check$TypeArgument()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int123= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1153$column_19())) {
+                currentLookaheadIndex= int123;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.GT)) return false;
+        return true;
+    }
+
+    private final boolean check$DiamondOperator() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$DiamondOperator$scan();
+        }
+        long memoKey= scanMemoKey(10);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$DiamondOperator$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$DiamondOperator$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LT)) return false;
+        if (!scanToken(TokenType.GT)) return false;
+        return true;
+    }
+
+    private final boolean check$Expression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Expression$scan();
+        }
+        long memoKey= scanMemoKey(11);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Expression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Expression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(111);
+        if (!check$AssignmentExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1358$column_9() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(139);
+        if (!check$ShiftOperator()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$AdditiveExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$AdditiveExpression$scan();
+        }
+        long memoKey= scanMemoKey(12);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$AdditiveExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$AdditiveExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(141);
+        if (!check$MultiplicativeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int124= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1403$column_31())) {
+                currentLookaheadIndex= int124;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$LambdaExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$LambdaExpression$scan();
+        }
+        long memoKey= scanMemoKey(13);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$LambdaExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$LambdaExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(337);
+        if (!check$LambdaLHS()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.LAMBDA)) return false;
+        pushOntoLookaheadStack(338);
+        if (!check$LambdaRHS()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$CastExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$CastExpression$scan();
+        }
+        long memoKey= scanMemoKey(14);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$CastExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$CastExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        int int125= currentLookaheadIndex;
+        int remainingLookahead125= remainingLookahead;
+        if (!(check$Java_javacc$line_1445$column_3())) {
+            currentLookaheadIndex= int125;
+            remainingLookahead= remainingLookahead125;
+            if (!(check$Java_javacc$line_1447$column_3())) {
+                currentLookaheadIndex= int125;
+                remainingLookahead= remainingLookahead125;
+                if (!(check$Java_javacc$line_1449$column_3())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$UnaryExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$UnaryExpression$scan();
+        }
+        long memoKey= scanMemoKey(15);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$UnaryExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$UnaryExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        int int126= currentLookaheadIndex;
+        int remainingLookahead126= remainingLookahead;
+        if (!(check$Java_javacc$line_1411$column_3())) {
+            currentLookaheadIndex= int126;
+            remainingLookahead= remainingLookahead126;
+            if (!(check$Java_javacc$line_1413$column_3())) {
+                currentLookaheadIndex= int126;
+                remainingLookahead= remainingLookahead126;
+                if (!(check$Java_javacc$line_1415$column_3())) {
+                    currentLookaheadIndex= int126;
+                    remainingLookahead= remainingLookahead126;
+                    if (!(check$Java_javacc$line_1417$column_3())) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$UnaryExpressionNotPlusMinus() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$UnaryExpressionNotPlusMinus$scan();
+        }
+        long memoKey= scanMemoKey(16);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$UnaryExpressionNotPlusMinus$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$UnaryExpressionNotPlusMinus$scan() {
+        if (remainingLookahead<=0) return true;
+        int int127= currentLookaheadIndex;
+        int remainingLookahead127= remainingLookahead;
+        if (!(check$Java_javacc$line_1429$column_3())) {
+            currentLookaheadIndex= int127;
+            remainingLookahead= remainingLookahead127;
+            if (!(check$Java_javacc$line_1431$column_3())) {
+                currentLookaheadIndex= int127;
+                remainingLookahead= remainingLookahead127;
+                if (!(check$Java_javacc$line_1435$column_3())) {
+                    currentLookaheadIndex= int127;
+                    remainingLookahead= remainingLookahead127;
+                    if (!(check$Java_javacc$line_1437$column_3())) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ClassOrInterfaceType() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ClassOrInterfaceType$scan();
+        }
+        long memoKey= scanMemoKey(17);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ClassOrInterfaceType$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ClassOrInterfaceType$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        int int128= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1118$column_7())) currentLookaheadIndex= int128;
+        while (remainingLookahead> 0) {
+            int int129= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1119$column_7())) {
+                currentLookaheadIndex= int129;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1449$column_35() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.BIT_AND)) return false;
+        pushOntoLookaheadStack(168);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$PrimarySuffix() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$PrimarySuffix$scan();
+        }
+        long memoKey= scanMemoKey(18);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$PrimarySuffix$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$PrimarySuffix$scan() {
+        if (remainingLookahead<=0) return true;
+        int int130= currentLookaheadIndex;
+        int remainingLookahead130= remainingLookahead;
+        if (!(check$Java_javacc$line_1491$column_3())) {
+            currentLookaheadIndex= int130;
+            remainingLookahead= remainingLookahead130;
+            if (!(check$Java_javacc$line_1493$column_3())) {
+                currentLookaheadIndex= int130;
+                remainingLookahead= remainingLookahead130;
+                if (!(check$Java_javacc$line_1496$column_3())) {
+                    currentLookaheadIndex= int130;
+                    remainingLookahead= remainingLookahead130;
+                    if (!(check$Java_javacc$line_1499$column_3())) {
+                        currentLookaheadIndex= int130;
+                        remainingLookahead= remainingLookahead130;
+                        if (!(check$Java_javacc$line_1501$column_3())) {
+                            currentLookaheadIndex= int130;
+                            remainingLookahead= remainingLookahead130;
+                            if (!(check$Java_javacc$line_1503$column_3())) {
+                                currentLookaheadIndex= int130;
+                                remainingLookahead= remainingLookahead130;
+                                if (!(check$Java_javacc$line_1505$column_3())) {
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ReturnType() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ReturnType$scan();
+        }
+        long memoKey= scanMemoKey(19);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ReturnType$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ReturnType$scan() {
+        if (remainingLookahead<=0) return true;
+        int int131= currentLookaheadIndex;
+        int remainingLookahead131= remainingLookahead;
+        if (!(scanToken(TokenType.VOID))) {
+            currentLookaheadIndex= int131;
+            remainingLookahead= remainingLookahead131;
+            if (!(check$Java_javacc$line_1194$column_9())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$MethodReference() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MethodReference$scan();
+        }
+        long memoKey= scanMemoKey(20);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MethodReference$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MethodReference$scan() {
+        if (remainingLookahead<=0) return true;
+        int int132= currentLookaheadIndex;
+        int remainingLookahead132= remainingLookahead;
+        if (!(check$Java_javacc$line_1485$column_6())) {
+            currentLookaheadIndex= int132;
+            remainingLookahead= remainingLookahead132;
+            if (!(scanToken(TokenType.SUPER))) {
+                return false;
+            }
+        }
+        if (!scanToken(TokenType.DOUBLE_COLON)) return false;
+        if (!scanToken(first_set$Java_javacc$line_1487$column_7)) return false;
+        return true;
+    }
+
+    private final boolean check$AllocationExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$AllocationExpression$scan();
+        }
+        long memoKey= scanMemoKey(21);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$AllocationExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$AllocationExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        int int133= currentLookaheadIndex;
+        int remainingLookahead133= remainingLookahead;
+        if (!(check$Java_javacc$line_1558$column_3())) {
+            currentLookaheadIndex= int133;
+            remainingLookahead= remainingLookahead133;
+            if (!(check$Java_javacc$line_1561$column_3())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$MemberSelector() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MemberSelector$scan();
+        }
+        long memoKey= scanMemoKey(22);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MemberSelector$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MemberSelector$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT)) return false;
+        pushOntoLookaheadStack(172);
+        if (!check$TypeArguments()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$Label() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Label$scan();
+        }
+        long memoKey= scanMemoKey(23);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Label$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Label$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.COLON)) return false;
+        return true;
+    }
+
+    private final boolean check$Modifiers() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Modifiers$scan();
+        }
+        long memoKey= scanMemoKey(24);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Modifiers$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Modifiers$scan() {
+        if (remainingLookahead<=0) return true;
+        while (remainingLookahead> 0) {
+            int int134= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_419$column_7())) {
+                currentLookaheadIndex= int134;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$LocalVariableDeclaration() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$LocalVariableDeclaration$scan();
+        }
+        long memoKey= scanMemoKey(25);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$LocalVariableDeclaration$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$LocalVariableDeclaration$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(238);
+        if (!check$Modifiers()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(239);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(240);
+        if (!check$VariableDeclarator()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int135= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1683$column_39())) {
+                currentLookaheadIndex= int135;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Name() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Name$scan();
+        }
+        long memoKey= scanMemoKey(26);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Name$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Name$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        while (remainingLookahead> 0) {
+            int int136= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1208$column_9())) {
+                currentLookaheadIndex= int136;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1868$column_24() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.ASSIGN)) return false;
+        return true;
+    }
+
+    private final boolean check$MemberValue() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MemberValue$scan();
+        }
+        long memoKey= scanMemoKey(27);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MemberValue$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MemberValue$scan() {
+        if (remainingLookahead<=0) return true;
+        int int137= currentLookaheadIndex;
+        int remainingLookahead137= remainingLookahead;
+        if (!(check$Java_javacc$line_1900$column_4())) {
+            currentLookaheadIndex= int137;
+            remainingLookahead= remainingLookahead137;
+            if (!(check$Java_javacc$line_1902$column_4())) {
+                currentLookaheadIndex= int137;
+                remainingLookahead= remainingLookahead137;
+                if (!(check$Java_javacc$line_1904$column_4())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SimpleLambdaLHS() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$SimpleLambdaLHS$scan();
+        }
+        long memoKey= scanMemoKey(28);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$SimpleLambdaLHS$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$SimpleLambdaLHS$scan() {
+        if (remainingLookahead<=0) return true;
+        int int138= currentLookaheadIndex;
+        int remainingLookahead138= remainingLookahead;
+        if (!(scanToken(TokenType.IDENTIFIER))) {
+            currentLookaheadIndex= int138;
+            remainingLookahead= remainingLookahead138;
+            if (!(check$Java_javacc$line_1968$column_4())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FormalLambdaLHS() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$FormalLambdaLHS$scan();
+        }
+        long memoKey= scanMemoKey(29);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$FormalLambdaLHS$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$FormalLambdaLHS$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        pushOntoLookaheadStack(345);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(346);
+        if (!check$VariableDeclaratorId()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int139= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1979$column_10())) {
+                currentLookaheadIndex= int139;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.RPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1868$column_4$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(304);
+        if (!check$NormalAnnotation()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1871$column_4$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(306);
+        if (!check$SingleMemberAnnotation()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1874$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(307);
+        if (!check$MarkerAnnotation()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Block() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Block$scan();
+        }
+        long memoKey= scanMemoKey(30);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Block$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Block$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACE)) return false;
+        while (remainingLookahead> 0) {
+            int int140= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1651$column_4())) {
+                currentLookaheadIndex= int140;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.RBRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$TypeParameters() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$TypeParameters$scan();
+        }
+        long memoKey= scanMemoKey(31);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$TypeParameters$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$TypeParameters$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LT)) return false;
+        pushOntoLookaheadStack(35);
+        if (!check$TypeParameter()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int141= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_789$column_20())) {
+                currentLookaheadIndex= int141;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.GT)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_989$column_23() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(61);
+        if (!check$ArrayInitializer()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_989$column_42() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(62);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1090$column_3() {
+        if (remainingLookahead<=0) return true;
+        int int142= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1090$column_5())) currentLookaheadIndex= int142;
+        if (!scanToken(TokenType.SUPER)) return false;
+        pushOntoLookaheadStack(85);
+        if (!check$Arguments()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1528$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(192);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int143= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1528$column_19())) {
+                currentLookaheadIndex= int143;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$PrimaryPrefix() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$PrimaryPrefix$scan();
+        }
+        long memoKey= scanMemoKey(32);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$PrimaryPrefix$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$PrimaryPrefix$scan() {
+        if (remainingLookahead<=0) return true;
+        int int144= currentLookaheadIndex;
+        int remainingLookahead144= remainingLookahead;
+        if (!(scanToken(first_set$Java_javacc$line_1465$column_3))) {
+            currentLookaheadIndex= int144;
+            remainingLookahead= remainingLookahead144;
+            if (!(scanToken(TokenType.THIS))) {
+                currentLookaheadIndex= int144;
+                remainingLookahead= remainingLookahead144;
+                if (!(check$Java_javacc$line_1469$column_2())) {
+                    currentLookaheadIndex= int144;
+                    remainingLookahead= remainingLookahead144;
+                    if (!(check$Java_javacc$line_1471$column_3())) {
+                        currentLookaheadIndex= int144;
+                        remainingLookahead= remainingLookahead144;
+                        if (!(check$Java_javacc$line_1473$column_3())) {
+                            currentLookaheadIndex= int144;
+                            remainingLookahead= remainingLookahead144;
+                            if (!(check$Java_javacc$line_1475$column_2())) {
+                                currentLookaheadIndex= int144;
+                                remainingLookahead= remainingLookahead144;
+                                if (!(check$Java_javacc$line_1477$column_2())) {
+                                    currentLookaheadIndex= int144;
+                                    remainingLookahead= remainingLookahead144;
+                                    if (!(check$Java_javacc$line_1479$column_2())) {
+                                        currentLookaheadIndex= int144;
+                                        remainingLookahead= remainingLookahead144;
+                                        if (!(check$Java_javacc$line_1481$column_2())) {
+                                            return false;
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1111$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(91);
+        if (!check$PrimitiveArrayType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1113$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(92);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int145= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1113$column_26())) {
+                currentLookaheadIndex= int145;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$TypeArgument() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$TypeArgument$scan();
+        }
+        long memoKey= scanMemoKey(33);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$TypeArgument$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$TypeArgument$scan() {
+        if (remainingLookahead<=0) return true;
+        int int146= currentLookaheadIndex;
+        int remainingLookahead146= remainingLookahead;
+        if (!(check$Java_javacc$line_1158$column_4())) {
+            currentLookaheadIndex= int146;
+            remainingLookahead= remainingLookahead146;
+            if (!(check$Java_javacc$line_1160$column_4())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$AssignmentExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$AssignmentExpression$scan();
+        }
+        long memoKey= scanMemoKey(34);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$AssignmentExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$AssignmentExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(112);
+        if (!check$TernaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int147= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1296$column_9())) currentLookaheadIndex= int147;
+        return true;
+    }
+
+    private final boolean check$ShiftOperator() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ShiftOperator$scan();
+        }
+        long memoKey= scanMemoKey(35);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ShiftOperator$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ShiftOperator$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.GT)) return false;
+        if (!scanToken(TokenType.GT)) return false;
+        int int148= currentLookaheadIndex;
+        if (!(scanToken(TokenType.GT))) currentLookaheadIndex= int148;
+        return true;
+    }
+
+    private final boolean check$MultiplicativeExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MultiplicativeExpression$scan();
+        }
+        long memoKey= scanMemoKey(36);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MultiplicativeExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MultiplicativeExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(144);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int149= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1407$column_22())) {
+                currentLookaheadIndex= int149;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$LambdaLHS() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$LambdaLHS$scan();
+        }
+        long memoKey= scanMemoKey(37);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$LambdaLHS$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$LambdaLHS$scan() {
+        if (remainingLookahead<=0) return true;
+        int int150= currentLookaheadIndex;
+        int remainingLookahead150= remainingLookahead;
+        if (!(check$Java_javacc$line_1958$column_4()&&check$Java_javacc$line_1958$column_4$())) {
+            currentLookaheadIndex= int150;
+            remainingLookahead= remainingLookahead150;
+            if (!(check$Java_javacc$line_1961$column_4()&&check$Java_javacc$line_1961$column_4$())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$LambdaRHS() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$LambdaRHS$scan();
+        }
+        long memoKey= scanMemoKey(38);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$LambdaRHS$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$LambdaRHS$scan() {
+        if (remainingLookahead<=0) return true;
+        int int151= currentLookaheadIndex;
+        int remainingLookahead151= remainingLookahead;
+        if (!(check$Java_javacc$line_1985$column_3())) {
+            currentLookaheadIndex= int151;
+            remainingLookahead= remainingLookahead151;
+            if (!(check$Java_javacc$line_1987$column_3())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1411$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1411$column_5)) return false;
+        pushOntoLookaheadStack(149);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1413$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(150);
+        if (!check$PreIncrementExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1415$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(151);
+        if (!check$PreDecrementExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1417$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(152);
+        if (!check$UnaryExpressionNotPlusMinus()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1429$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1429$column_5)) return false;
+        pushOntoLookaheadStack(157);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1437$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(160);
+        if (!check$PostfixExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1499$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACKET)) return false;
+        int int152= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1499$column_8())) currentLookaheadIndex= int152;
+        if (!scanToken(TokenType.RBRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1501$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1503$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOUBLE_COLON)) return false;
+        if (!scanToken(first_set$Java_javacc$line_1503$column_9)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1505$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(190);
+        if (!check$Arguments()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1194$column_9() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(108);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1485$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(182);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1561$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.NEW)) return false;
+        pushOntoLookaheadStack(197);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int153= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1561$column_32())) currentLookaheadIndex= int153;
+        int int154= currentLookaheadIndex;
+        int remainingLookahead154= remainingLookahead;
+        if (!(check$Java_javacc$line_1563$column_7())) {
+            currentLookaheadIndex= int154;
+            remainingLookahead= remainingLookahead154;
+            if (!(check$Java_javacc$line_1565$column_7())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_419$column_7() {
+        if (remainingLookahead<=0) return true;
+        int int155= currentLookaheadIndex;
+        int remainingLookahead155= remainingLookahead;
+        if (!(scanToken(TokenType.STATIC))) {
+            currentLookaheadIndex= int155;
+            remainingLookahead= remainingLookahead155;
+            if (!(scanToken(TokenType.ABSTRACT))) {
+                currentLookaheadIndex= int155;
+                remainingLookahead= remainingLookahead155;
+                if (!(scanToken(TokenType.FINAL))) {
+                    currentLookaheadIndex= int155;
+                    remainingLookahead= remainingLookahead155;
+                    if (!(scanToken(TokenType.SYNCHRONIZED))) {
+                        currentLookaheadIndex= int155;
+                        remainingLookahead= remainingLookahead155;
+                        if (!(scanToken(TokenType.NATIVE))) {
+                            currentLookaheadIndex= int155;
+                            remainingLookahead= remainingLookahead155;
+                            if (!(scanToken(TokenType.PUBLIC))) {
+                                currentLookaheadIndex= int155;
+                                remainingLookahead= remainingLookahead155;
+                                if (!(scanToken(TokenType.PROTECTED))) {
+                                    currentLookaheadIndex= int155;
+                                    remainingLookahead= remainingLookahead155;
+                                    if (!(scanToken(TokenType.PRIVATE))) {
+                                        currentLookaheadIndex= int155;
+                                        remainingLookahead= remainingLookahead155;
+                                        if (!(scanToken(TokenType.TRANSIENT))) {
+                                            currentLookaheadIndex= int155;
+                                            remainingLookahead= remainingLookahead155;
+                                            if (!(scanToken(TokenType.VOLATILE))) {
+                                                currentLookaheadIndex= int155;
+                                                remainingLookahead= remainingLookahead155;
+                                                if (!(scanToken(TokenType.STRICTFP))) {
+                                                    currentLookaheadIndex= int155;
+                                                    remainingLookahead= remainingLookahead155;
+                                                    if (!(check$Java_javacc$line_455$column_7())) {
+                                                        return false;
+                                                    }
+                                                }
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$VariableDeclarator() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$VariableDeclarator$scan();
+        }
+        long memoKey= scanMemoKey(39);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$VariableDeclarator$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$VariableDeclarator$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(58);
+        if (!check$VariableDeclaratorId()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int156= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_982$column_26())) currentLookaheadIndex= int156;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1683$column_39() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(241);
+        if (!check$VariableDeclarator()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1900$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(317);
+        if (!check$Annotation()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1902$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(318);
+        if (!check$MemberValueArrayInitializer()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1904$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(319);
+        if (!check$TernaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1968$column_4() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        int int157= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1970$column_7())) currentLookaheadIndex= int157;
+        if (!scanToken(TokenType.RPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$VariableDeclaratorId() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$VariableDeclaratorId$scan();
+        }
+        long memoKey= scanMemoKey(40);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$VariableDeclaratorId$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$VariableDeclaratorId$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        while (remainingLookahead> 0) {
+            int int158= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_986$column_18())) {
+                currentLookaheadIndex= int158;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1979$column_10() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(347);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(348);
+        if (!check$VariableDeclaratorId()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$NormalAnnotation() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$NormalAnnotation$scan();
+        }
+        long memoKey= scanMemoKey(41);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$NormalAnnotation$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$NormalAnnotation$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.AT)) return false;
+        pushOntoLookaheadStack(308);
+        if (!check$Name()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.LPAREN)) return false;
+        int int159= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1882$column_19())) currentLookaheadIndex= int159;
+        if (!scanToken(TokenType.RPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$SingleMemberAnnotation() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$SingleMemberAnnotation$scan();
+        }
+        long memoKey= scanMemoKey(42);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$SingleMemberAnnotation$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$SingleMemberAnnotation$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.AT)) return false;
+        pushOntoLookaheadStack(311);
+        if (!check$Name()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.LPAREN)) return false;
+        pushOntoLookaheadStack(312);
+        if (!check$MemberValue()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.RPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$MarkerAnnotation() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MarkerAnnotation$scan();
+        }
+        long memoKey= scanMemoKey(43);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MarkerAnnotation$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MarkerAnnotation$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.AT)) return false;
+        pushOntoLookaheadStack(310);
+        if (!check$Name()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1651$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(229);
+        if (!check$BlockStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$TypeParameter() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$TypeParameter$scan();
+        }
+        long memoKey= scanMemoKey(44);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$TypeParameter$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$TypeParameter$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        int int160= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_820$column_30())) currentLookaheadIndex= int160;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_789$column_20() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(36);
+        if (!check$TypeParameter()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ArrayInitializer() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ArrayInitializer$scan();
+        }
+        long memoKey= scanMemoKey(45);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ArrayInitializer$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ArrayInitializer$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACE)) return false;
+        int int161= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_992$column_9())) currentLookaheadIndex= int161;
+        int int162= currentLookaheadIndex;
+        if (!(scanToken(TokenType.COMMA))) currentLookaheadIndex= int162;
+        if (!scanToken(TokenType.RBRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1528$column_19() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(193);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1471$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        pushOntoLookaheadStack(175);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.RPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1473$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(176);
+        if (!check$AllocationExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1481$column_2() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(180);
+        if (!check$Name()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$PrimitiveArrayType() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$PrimitiveArrayType$scan();
+        }
+        long memoKey= scanMemoKey(46);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$PrimitiveArrayType$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$PrimitiveArrayType$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1187$column_5)) return false;
+        if (!(check$Java_javacc$line_1187$column_20())) return false;
+        while (remainingLookahead> 0) {
+            int int163= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1187$column_20())) {
+                currentLookaheadIndex= int163;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1158$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(101);
+        if (!check$ReferenceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1160$column_4() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.HOOK)) return false;
+        int int164= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1160$column_10())) currentLookaheadIndex= int164;
+        return true;
+    }
+
+    private final boolean check$TernaryExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$TernaryExpression$scan();
+        }
+        long memoKey= scanMemoKey(47);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$TernaryExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$TernaryExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(116);
+        if (!check$ConditionalOrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int165= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1306$column_30())) currentLookaheadIndex= int165;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1958$column_4$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(341);
+        if (!check$SimpleLambdaLHS()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1961$column_4$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(343);
+        if (!check$FormalLambdaLHS()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1985$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(350);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1987$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(351);
+        if (!check$Block()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$PreIncrementExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$PreIncrementExpression$scan();
+        }
+        long memoKey= scanMemoKey(48);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$PreIncrementExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$PreIncrementExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.INCR)) return false;
+        pushOntoLookaheadStack(153);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$PreDecrementExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$PreDecrementExpression$scan();
+        }
+        long memoKey= scanMemoKey(49);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$PreDecrementExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$PreDecrementExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DECR)) return false;
+        pushOntoLookaheadStack(154);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$PostfixExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$PostfixExpression$scan();
+        }
+        long memoKey= scanMemoKey(50);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$PostfixExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$PostfixExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(161);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int166= currentLookaheadIndex;
+        if (!(scanToken(first_set$Java_javacc$line_1441$column_23))) currentLookaheadIndex= int166;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1499$column_8() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(188);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_982$column_26() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.ASSIGN)) return false;
+        pushOntoLookaheadStack(59);
+        if (!check$VariableInitializer()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$MemberValueArrayInitializer() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MemberValueArrayInitializer$scan();
+        }
+        long memoKey= scanMemoKey(51);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MemberValueArrayInitializer$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MemberValueArrayInitializer$scan() {
+        if (remainingLookahead<=0) return true;
+        int int167= currentLookaheadIndex;
+        int remainingLookahead167= remainingLookahead;
+        if (!(check$Java_javacc$line_1908$column_3())) {
+            currentLookaheadIndex= int167;
+            remainingLookahead= remainingLookahead167;
+            if (!(check$Java_javacc$line_1910$column_3())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1970$column_7() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        while (remainingLookahead> 0) {
+            int int168= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1970$column_20())) {
+                currentLookaheadIndex= int168;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_986$column_18() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACKET)) return false;
+        if (!scanToken(TokenType.RBRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1882$column_19() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(309);
+        if (!check$MemberValuePairs()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$BlockStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$BlockStatement$scan();
+        }
+        long memoKey= scanMemoKey(52);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$BlockStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$BlockStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        int int169= currentLookaheadIndex;
+        int remainingLookahead169= remainingLookahead;
+        if (!(check$Java_javacc$line_1673$column_3()&&check$Java_javacc$line_1673$column_3$())) {
+            currentLookaheadIndex= int169;
+            remainingLookahead= remainingLookahead169;
+            if (!(check$Java_javacc$line_1676$column_3()&&check$Java_javacc$line_1676$column_3$())) {
+                currentLookaheadIndex= int169;
+                remainingLookahead= remainingLookahead169;
+                if (!(check$Java_javacc$line_1679$column_3())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_820$column_30() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(37);
+        if (!check$TypeBound()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ConditionalOrExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ConditionalOrExpression$scan();
+        }
+        long memoKey= scanMemoKey(53);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ConditionalOrExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ConditionalOrExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(119);
+        if (!check$ConditionalAndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int170= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1310$column_30())) {
+                currentLookaheadIndex= int170;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1153$column_19() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(99);
+        if (!check$TypeArgument()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1910$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACE)) return false;
+        pushOntoLookaheadStack(321);
+        if (!check$MemberValue()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int171= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1910$column_21())) {
+                currentLookaheadIndex= int171;
+                break;
+            }
+        }
+        int int172= currentLookaheadIndex;
+        if (!(scanToken(TokenType.COMMA))) currentLookaheadIndex= int172;
+        if (!scanToken(TokenType.RBRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1970$column_20() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$MemberValuePairs() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MemberValuePairs$scan();
+        }
+        long memoKey= scanMemoKey(54);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MemberValuePairs$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MemberValuePairs$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(313);
+        if (!check$MemberValuePair()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int173= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1894$column_22())) {
+                currentLookaheadIndex= int173;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1673$column_3$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(233);
+        if (!check$LocalVariableDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1676$column_3$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(235);
+        if (!check$Modifiers()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(236);
+        if (!check$ClassDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1679$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(237);
+        if (!check$Statement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$TypeBound() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$TypeBound$scan();
+        }
+        long memoKey= scanMemoKey(55);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$TypeBound$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$TypeBound$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.EXTENDS)) return false;
+        pushOntoLookaheadStack(38);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int174= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_823$column_37())) {
+                currentLookaheadIndex= int174;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ConditionalAndExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ConditionalAndExpression$scan();
+        }
+        long memoKey= scanMemoKey(56);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ConditionalAndExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ConditionalAndExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(121);
+        if (!check$InclusiveOrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int175= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1314$column_27())) {
+                currentLookaheadIndex= int175;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$MemberValuePair() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MemberValuePair$scan();
+        }
+        long memoKey= scanMemoKey(57);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MemberValuePair$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MemberValuePair$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.ASSIGN)) return false;
+        pushOntoLookaheadStack(315);
+        if (!check$MemberValue()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1894$column_22() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(314);
+        if (!check$MemberValuePair()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ClassDeclaration() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ClassDeclaration$scan();
+        }
+        long memoKey= scanMemoKey(58);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ClassDeclaration$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ClassDeclaration$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.CLASS)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        int int176= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_676$column_5())) currentLookaheadIndex= int176;
+        int int177= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_677$column_5())) currentLookaheadIndex= int177;
+        int int178= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_678$column_5())) currentLookaheadIndex= int178;
+        pushOntoLookaheadStack(19);
+        if (!check$ClassOrInterfaceBody()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Statement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Statement$scan();
+        }
+        long memoKey= scanMemoKey(59);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Statement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Statement$scan() {
+        if (remainingLookahead<=0) return true;
+        while (remainingLookahead> 0) {
+            int int179= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1596$column_4())) {
+                currentLookaheadIndex= int179;
+                break;
+            }
+        }
+        pushOntoLookaheadStack(207);
+        if (!check$UnlabeledStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_823$column_37() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.BIT_AND)) return false;
+        pushOntoLookaheadStack(39);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1306$column_30() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.HOOK)) return false;
+        pushOntoLookaheadStack(117);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.COLON)) return false;
+        pushOntoLookaheadStack(118);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$InclusiveOrExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$InclusiveOrExpression$scan();
+        }
+        long memoKey= scanMemoKey(60);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$InclusiveOrExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$InclusiveOrExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(123);
+        if (!check$ExclusiveOrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int180= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1318$column_27())) {
+                currentLookaheadIndex= int180;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1160$column_10() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(102);
+        if (!check$WildcardBounds()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$UnlabeledStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$UnlabeledStatement$scan();
+        }
+        long memoKey= scanMemoKey(61);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$UnlabeledStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$UnlabeledStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        int int181= currentLookaheadIndex;
+        int remainingLookahead181= remainingLookahead;
+        if (!(check$Java_javacc$line_1602$column_3())) {
+            currentLookaheadIndex= int181;
+            remainingLookahead= remainingLookahead181;
+            if (!(check$Java_javacc$line_1604$column_3())) {
+                currentLookaheadIndex= int181;
+                remainingLookahead= remainingLookahead181;
+                if (!(scanToken(TokenType.SEMICOLON))) {
+                    currentLookaheadIndex= int181;
+                    remainingLookahead= remainingLookahead181;
+                    if (!(check$Java_javacc$line_1608$column_3())) {
+                        currentLookaheadIndex= int181;
+                        remainingLookahead= remainingLookahead181;
+                        if (!(check$Java_javacc$line_1610$column_3())) {
+                            currentLookaheadIndex= int181;
+                            remainingLookahead= remainingLookahead181;
+                            if (!(check$Java_javacc$line_1612$column_3())) {
+                                currentLookaheadIndex= int181;
+                                remainingLookahead= remainingLookahead181;
+                                if (!(check$Java_javacc$line_1614$column_3())) {
+                                    currentLookaheadIndex= int181;
+                                    remainingLookahead= remainingLookahead181;
+                                    if (!(check$Java_javacc$line_1616$column_3())) {
+                                        currentLookaheadIndex= int181;
+                                        remainingLookahead= remainingLookahead181;
+                                        if (!(check$Java_javacc$line_1618$column_3())) {
+                                            currentLookaheadIndex= int181;
+                                            remainingLookahead= remainingLookahead181;
+                                            if (!(check$Java_javacc$line_1620$column_3())) {
+                                                currentLookaheadIndex= int181;
+                                                remainingLookahead= remainingLookahead181;
+                                                if (!(check$Java_javacc$line_1622$column_3())) {
+                                                    currentLookaheadIndex= int181;
+                                                    remainingLookahead= remainingLookahead181;
+                                                    if (!(check$Java_javacc$line_1624$column_3())) {
+                                                        currentLookaheadIndex= int181;
+                                                        remainingLookahead= remainingLookahead181;
+                                                        if (!(check$Java_javacc$line_1626$column_3())) {
+                                                            currentLookaheadIndex= int181;
+                                                            remainingLookahead= remainingLookahead181;
+                                                            if (!(check$Java_javacc$line_1628$column_3())) {
+                                                                currentLookaheadIndex= int181;
+                                                                remainingLookahead= remainingLookahead181;
+                                                                if (!(check$Java_javacc$line_1630$column_3())) {
+                                                                    return false;
+                                                                }
+                                                            }
+                                                        }
+                                                    }
+                                                }
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1310$column_30() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.SC_OR)) return false;
+        pushOntoLookaheadStack(120);
+        if (!check$ConditionalAndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ExclusiveOrExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ExclusiveOrExpression$scan();
+        }
+        long memoKey= scanMemoKey(62);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ExclusiveOrExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ExclusiveOrExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(125);
+        if (!check$AndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int182= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1322$column_19())) {
+                currentLookaheadIndex= int182;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$WildcardBounds() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$WildcardBounds$scan();
+        }
+        long memoKey= scanMemoKey(63);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$WildcardBounds$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$WildcardBounds$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1164$column_5)) return false;
+        pushOntoLookaheadStack(104);
+        if (!check$ReferenceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_992$column_9() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(63);
+        if (!check$VariableInitializer()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int183= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_992$column_31())) {
+                currentLookaheadIndex= int183;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1602$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(209);
+        if (!check$AssertStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1604$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(210);
+        if (!check$Block()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1608$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(212);
+        if (!check$StatementExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1610$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(213);
+        if (!check$SwitchStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1612$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(214);
+        if (!check$IfStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1614$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(215);
+        if (!check$WhileStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1616$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(216);
+        if (!check$DoStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1618$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(217);
+        if (!check$ForStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1620$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(218);
+        if (!check$BreakStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1622$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(219);
+        if (!check$ContinueStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1624$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(220);
+        if (!check$ReturnStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1626$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(221);
+        if (!check$ThrowStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1628$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(222);
+        if (!check$SynchronizedStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1630$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(223);
+        if (!check$TryStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1314$column_27() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.SC_AND)) return false;
+        pushOntoLookaheadStack(122);
+        if (!check$InclusiveOrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$AndExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$AndExpression$scan();
+        }
+        long memoKey= scanMemoKey(64);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$AndExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$AndExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(127);
+        if (!check$EqualityExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int184= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1326$column_24())) {
+                currentLookaheadIndex= int184;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$AssertStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$AssertStatement$scan();
+        }
+        long memoKey= scanMemoKey(65);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$AssertStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$AssertStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.ASSERT)) return false;
+        pushOntoLookaheadStack(227);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int185= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1644$column_25())) currentLookaheadIndex= int185;
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$StatementExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$StatementExpression$scan();
+        }
+        long memoKey= scanMemoKey(66);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$StatementExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$StatementExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        int int186= currentLookaheadIndex;
+        int remainingLookahead186= remainingLookahead;
+        if (!(check$Java_javacc$line_1694$column_3())) {
+            currentLookaheadIndex= int186;
+            remainingLookahead= remainingLookahead186;
+            if (!(check$Java_javacc$line_1696$column_3())) {
+                currentLookaheadIndex= int186;
+                remainingLookahead= remainingLookahead186;
+                if (!(check$Java_javacc$line_1698$column_3())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$SwitchStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$SwitchStatement$scan();
+        }
+        long memoKey= scanMemoKey(67);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$SwitchStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$SwitchStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.SWITCH)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        pushOntoLookaheadStack(248);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.RPAREN)) return false;
+        if (!scanToken(TokenType.LBRACE)) return false;
+        while (remainingLookahead> 0) {
+            int int187= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1710$column_4())) {
+                currentLookaheadIndex= int187;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.RBRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$IfStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$IfStatement$scan();
+        }
+        long memoKey= scanMemoKey(68);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$IfStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$IfStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IF)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        pushOntoLookaheadStack(254);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.RPAREN)) return false;
+        pushOntoLookaheadStack(255);
+        if (!check$Statement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int188= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1726$column_39())) currentLookaheadIndex= int188;
+        return true;
+    }
+
+    private final boolean check$WhileStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$WhileStatement$scan();
+        }
+        long memoKey= scanMemoKey(69);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$WhileStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$WhileStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.WHILE)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        pushOntoLookaheadStack(257);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.RPAREN)) return false;
+        pushOntoLookaheadStack(258);
+        if (!check$Statement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$DoStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$DoStatement$scan();
+        }
+        long memoKey= scanMemoKey(70);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$DoStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$DoStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DO)) return false;
+        pushOntoLookaheadStack(259);
+        if (!check$Statement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.WHILE)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        pushOntoLookaheadStack(260);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.RPAREN)) return false;
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$ForStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ForStatement$scan();
+        }
+        long memoKey= scanMemoKey(71);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ForStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ForStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FOR)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        int int189= currentLookaheadIndex;
+        int remainingLookahead189= remainingLookahead;
+        if (!(check$Java_javacc$line_1740$column_7()&&check$Java_javacc$line_1740$column_7$())) {
+            currentLookaheadIndex= int189;
+            remainingLookahead= remainingLookahead189;
+            if (!(check$Java_javacc$line_1743$column_6())) {
+                return false;
+            }
+        }
+        if (!scanToken(TokenType.RPAREN)) return false;
+        pushOntoLookaheadStack(270);
+        if (!check$Statement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$BreakStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$BreakStatement$scan();
+        }
+        long memoKey= scanMemoKey(72);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$BreakStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$BreakStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.BREAK)) return false;
+        int int190= currentLookaheadIndex;
+        if (!(scanToken(TokenType.IDENTIFIER))) currentLookaheadIndex= int190;
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$ContinueStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ContinueStatement$scan();
+        }
+        long memoKey= scanMemoKey(73);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ContinueStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ContinueStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.CONTINUE)) return false;
+        int int191= currentLookaheadIndex;
+        if (!(scanToken(TokenType.IDENTIFIER))) currentLookaheadIndex= int191;
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$ReturnStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ReturnStatement$scan();
+        }
+        long memoKey= scanMemoKey(74);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ReturnStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ReturnStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.RETURN)) return false;
+        int int192= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1775$column_5())) currentLookaheadIndex= int192;
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$ThrowStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ThrowStatement$scan();
+        }
+        long memoKey= scanMemoKey(75);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ThrowStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ThrowStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.THROW)) return false;
+        pushOntoLookaheadStack(280);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$SynchronizedStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$SynchronizedStatement$scan();
+        }
+        long memoKey= scanMemoKey(76);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$SynchronizedStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$SynchronizedStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.SYNCHRONIZED)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        pushOntoLookaheadStack(281);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.RPAREN)) return false;
+        pushOntoLookaheadStack(282);
+        if (!check$Block()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$TryStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$TryStatement$scan();
+        }
+        long memoKey= scanMemoKey(77);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$TryStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$TryStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        int int193= currentLookaheadIndex;
+        int remainingLookahead193= remainingLookahead;
+        if (!(check$Java_javacc$line_1634$column_4()&&check$Java_javacc$line_1634$column_4$())) {
+            currentLookaheadIndex= int193;
+            remainingLookahead= remainingLookahead193;
+            if (!(check$Java_javacc$line_1637$column_4()&&check$Java_javacc$line_1637$column_4$())) {
+                currentLookaheadIndex= int193;
+                remainingLookahead= remainingLookahead193;
+                if (!(scanToken(TokenType.TRY))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ArrayDimsAndInits() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ArrayDimsAndInits$scan();
+        }
+        long memoKey= scanMemoKey(78);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ArrayDimsAndInits$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ArrayDimsAndInits$scan() {
+        if (remainingLookahead<=0) return true;
+        int int194= currentLookaheadIndex;
+        int remainingLookahead194= remainingLookahead;
+        if (!(check$Java_javacc$line_1574$column_3())) {
+            currentLookaheadIndex= int194;
+            remainingLookahead= remainingLookahead194;
+            if (!(check$Java_javacc$line_1582$column_3())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1561$column_32() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(198);
+        if (!check$PossiblyEmptyTypeArguments()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1563$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(200);
+        if (!check$ArrayDimsAndInits()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1565$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(201);
+        if (!check$Arguments()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int195= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1565$column_19())) currentLookaheadIndex= int195;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1318$column_27() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.BIT_OR)) return false;
+        pushOntoLookaheadStack(124);
+        if (!check$ExclusiveOrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$EqualityExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$EqualityExpression$scan();
+        }
+        long memoKey= scanMemoKey(79);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$EqualityExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$EqualityExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(129);
+        if (!check$InstanceOfExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int196= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1330$column_26())) {
+                currentLookaheadIndex= int196;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_676$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(16);
+        if (!check$TypeParameters()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_677$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(17);
+        if (!check$ExtendsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_678$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(18);
+        if (!check$ImplementsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ClassOrInterfaceBody() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ClassOrInterfaceBody$scan();
+        }
+        long memoKey= scanMemoKey(80);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ClassOrInterfaceBody$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ClassOrInterfaceBody$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACE)) return false;
+        while (remainingLookahead> 0) {
+            int int197= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_829$column_8())) {
+                currentLookaheadIndex= int197;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.RBRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1694$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(243);
+        if (!check$PreIncrementExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1696$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(244);
+        if (!check$PreDecrementExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1698$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(245);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int198= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1700$column_5())) currentLookaheadIndex= int198;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1634$column_4$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(225);
+        if (!check$TryWithResources()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1637$column_4$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(226);
+        if (!check$ClassicTryStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1582$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!(check$Java_javacc$line_1583$column_5())) return false;
+        while (remainingLookahead> 0) {
+            int int199= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1583$column_5())) {
+                currentLookaheadIndex= int199;
+                break;
+            }
+        }
+        pushOntoLookaheadStack(205);
+        if (!check$ArrayInitializer()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$PossiblyEmptyTypeArguments() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$PossiblyEmptyTypeArguments$scan();
+        }
+        long memoKey= scanMemoKey(81);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$PossiblyEmptyTypeArguments$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$PossiblyEmptyTypeArguments$scan() {
+        if (remainingLookahead<=0) return true;
+        int int200= currentLookaheadIndex;
+        int remainingLookahead200= remainingLookahead;
+        if (!(check$Java_javacc$line_1146$column_4())) {
+            currentLookaheadIndex= int200;
+            remainingLookahead= remainingLookahead200;
+            if (!(check$Java_javacc$line_1148$column_4())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1565$column_19() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(202);
+        if (!check$ClassOrInterfaceBody()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1322$column_19() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.XOR)) return false;
+        pushOntoLookaheadStack(126);
+        if (!check$AndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$InstanceOfExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$InstanceOfExpression$scan();
+        }
+        long memoKey= scanMemoKey(82);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$InstanceOfExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$InstanceOfExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(132);
+        if (!check$RelationalExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int201= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1334$column_26())) currentLookaheadIndex= int201;
+        return true;
+    }
+
+    private final boolean check$ExtendsList() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ExtendsList$scan();
+        }
+        long memoKey= scanMemoKey(83);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ExtendsList$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ExtendsList$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.EXTENDS)) return false;
+        pushOntoLookaheadStack(23);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int202= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_695$column_6())) {
+                currentLookaheadIndex= int202;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ImplementsList() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ImplementsList$scan();
+        }
+        long memoKey= scanMemoKey(84);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ImplementsList$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ImplementsList$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IMPLEMENTS)) return false;
+        pushOntoLookaheadStack(25);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int203= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_735$column_6())) {
+                currentLookaheadIndex= int203;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_829$column_8() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(40);
+        if (!check$ClassOrInterfaceBodyDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$TryWithResources() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$TryWithResources$scan();
+        }
+        long memoKey= scanMemoKey(85);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$TryWithResources$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$TryWithResources$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.TRY)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        int int204= currentLookaheadIndex;
+        int remainingLookahead204= remainingLookahead;
+        if (!(check$Java_javacc$line_1814$column_10())) {
+            currentLookaheadIndex= int204;
+            remainingLookahead= remainingLookahead204;
+            if (!(check$Java_javacc$line_1816$column_10())) {
+                return false;
+            }
+        }
+        while (remainingLookahead> 0) {
+            int int205= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1819$column_9())) {
+                currentLookaheadIndex= int205;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.RPAREN)) return false;
+        pushOntoLookaheadStack(293);
+        if (!check$Block()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int206= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1828$column_6())) {
+                currentLookaheadIndex= int206;
+                break;
+            }
+        }
+        int int207= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1829$column_6())) currentLookaheadIndex= int207;
+        return true;
+    }
+
+    private final boolean check$ClassicTryStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ClassicTryStatement$scan();
+        }
+        long memoKey= scanMemoKey(86);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ClassicTryStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ClassicTryStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.TRY)) return false;
+        pushOntoLookaheadStack(283);
+        if (!check$Block()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int208= currentLookaheadIndex;
+        int remainingLookahead208= remainingLookahead;
+        if (!(check$Java_javacc$line_1798$column_6())) {
+            currentLookaheadIndex= int208;
+            remainingLookahead= remainingLookahead208;
+            if (!(check$Java_javacc$line_1800$column_6())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1583$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACKET)) return false;
+        if (!scanToken(TokenType.RBRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1148$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(97);
+        if (!check$TypeArguments()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1326$column_24() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.BIT_AND)) return false;
+        pushOntoLookaheadStack(128);
+        if (!check$EqualityExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$RelationalExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$RelationalExpression$scan();
+        }
+        long memoKey= scanMemoKey(87);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$RelationalExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$RelationalExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(134);
+        if (!check$ShiftExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int209= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1340$column_5())) {
+                currentLookaheadIndex= int209;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_695$column_6() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(24);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_735$column_6() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(26);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ClassOrInterfaceBodyDeclaration() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ClassOrInterfaceBodyDeclaration$scan();
+        }
+        long memoKey= scanMemoKey(88);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ClassOrInterfaceBodyDeclaration$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ClassOrInterfaceBodyDeclaration$scan() {
+        if (remainingLookahead<=0) return true;
+        int int210= currentLookaheadIndex;
+        int remainingLookahead210= remainingLookahead;
+        if (!(check$Java_javacc$line_909$column_3())) {
+            currentLookaheadIndex= int210;
+            remainingLookahead= remainingLookahead210;
+            if (!(check$Java_javacc$line_912$column_3())) {
+                currentLookaheadIndex= int210;
+                remainingLookahead= remainingLookahead210;
+                if (!(scanToken(TokenType.SEMICOLON))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1330$column_26() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1330$column_28)) return false;
+        pushOntoLookaheadStack(131);
+        if (!check$InstanceOfExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ShiftExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ShiftExpression$scan();
+        }
+        long memoKey= scanMemoKey(89);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ShiftExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ShiftExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(137);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int211= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1354$column_7())) {
+                currentLookaheadIndex= int211;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_912$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(43);
+        if (!check$Modifiers2()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int212= currentLookaheadIndex;
+        int remainingLookahead212= remainingLookahead;
+        if (!(check$Java_javacc$line_915$column_7())) {
+            currentLookaheadIndex= int212;
+            remainingLookahead= remainingLookahead212;
+            if (!(check$Java_javacc$line_917$column_7())) {
+                currentLookaheadIndex= int212;
+                remainingLookahead= remainingLookahead212;
+                if (!(check$Java_javacc$line_919$column_7())) {
+                    currentLookaheadIndex= int212;
+                    remainingLookahead= remainingLookahead212;
+                    if (!(check$Java_javacc$line_921$column_7())) {
+                        currentLookaheadIndex= int212;
+                        remainingLookahead= remainingLookahead212;
+                        if (!(check$Java_javacc$line_923$column_7()&&check$Java_javacc$line_923$column_7$())) {
+                            currentLookaheadIndex= int212;
+                            remainingLookahead= remainingLookahead212;
+                            if (!(check$Java_javacc$line_927$column_7()&&check$Java_javacc$line_927$column_7$())) {
+                                currentLookaheadIndex= int212;
+                                remainingLookahead= remainingLookahead212;
+                                if (!(check$Java_javacc$line_930$column_7())) {
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1644$column_25() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COLON)) return false;
+        pushOntoLookaheadStack(228);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1710$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(249);
+        if (!check$CaseStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1726$column_39() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.ELSE)) return false;
+        pushOntoLookaheadStack(256);
+        if (!check$Statement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1740$column_7$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(264);
+        if (!check$Modifiers()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(265);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.COLON)) return false;
+        pushOntoLookaheadStack(266);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1743$column_6() {
+        if (remainingLookahead<=0) return true;
+        int int213= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1743$column_8())) currentLookaheadIndex= int213;
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        int int214= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1743$column_24())) currentLookaheadIndex= int214;
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        int int215= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1743$column_43())) currentLookaheadIndex= int215;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1775$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(279);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1334$column_26() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.INSTANCEOF)) return false;
+        pushOntoLookaheadStack(133);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Modifiers2() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Modifiers2$scan();
+        }
+        long memoKey= scanMemoKey(90);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Modifiers2$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Modifiers2$scan() {
+        if (remainingLookahead<=0) return true;
+        while (remainingLookahead> 0) {
+            int int216= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_461$column_4())) {
+                currentLookaheadIndex= int216;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_915$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(45);
+        if (!check$ClassDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_917$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(46);
+        if (!check$InterfaceDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_919$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(47);
+        if (!check$AnnotationTypeDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_921$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(48);
+        if (!check$EnumDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_923$column_7$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(50);
+        if (!check$ConstructorDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_927$column_7$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(53);
+        if (!check$FieldDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_930$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(54);
+        if (!check$MethodDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1700$column_5() {
+        if (remainingLookahead<=0) return true;
+        int int217= currentLookaheadIndex;
+        int remainingLookahead217= remainingLookahead;
+        if (!(scanToken(TokenType.INCR))) {
+            currentLookaheadIndex= int217;
+            remainingLookahead= remainingLookahead217;
+            if (!(scanToken(TokenType.DECR))) {
+                currentLookaheadIndex= int217;
+                remainingLookahead= remainingLookahead217;
+                if (!(check$Java_javacc$line_1704$column_5())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$CaseStatement() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$CaseStatement$scan();
+        }
+        long memoKey= scanMemoKey(91);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$CaseStatement$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$CaseStatement$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(250);
+        if (!check$SwitchLabel()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int218= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1716$column_6())) {
+                currentLookaheadIndex= int218;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1743$column_8() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(267);
+        if (!check$ForInit()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1743$column_24() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(268);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1743$column_43() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(269);
+        if (!check$ForUpdate()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1340$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1341$column_6)) return false;
+        pushOntoLookaheadStack(136);
+        if (!check$ShiftExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_461$column_4() {
+        if (remainingLookahead<=0) return true;
+        int int219= currentLookaheadIndex;
+        int remainingLookahead219= remainingLookahead;
+        if (!(scanToken(TokenType.PUBLIC))) {
+            currentLookaheadIndex= int219;
+            remainingLookahead= remainingLookahead219;
+            if (!(scanToken(TokenType.STATIC))) {
+                currentLookaheadIndex= int219;
+                remainingLookahead= remainingLookahead219;
+                if (!(scanToken(TokenType.PROTECTED))) {
+                    currentLookaheadIndex= int219;
+                    remainingLookahead= remainingLookahead219;
+                    if (!(scanToken(TokenType.PRIVATE))) {
+                        currentLookaheadIndex= int219;
+                        remainingLookahead= remainingLookahead219;
+                        if (!(scanToken(TokenType.FINAL))) {
+                            currentLookaheadIndex= int219;
+                            remainingLookahead= remainingLookahead219;
+                            if (!(scanToken(TokenType.ABSTRACT))) {
+                                currentLookaheadIndex= int219;
+                                remainingLookahead= remainingLookahead219;
+                                if (!(scanToken(TokenType.SYNCHRONIZED))) {
+                                    currentLookaheadIndex= int219;
+                                    remainingLookahead= remainingLookahead219;
+                                    if (!(scanToken(TokenType.NATIVE))) {
+                                        currentLookaheadIndex= int219;
+                                        remainingLookahead= remainingLookahead219;
+                                        if (!(scanToken(TokenType.TRANSIENT))) {
+                                            currentLookaheadIndex= int219;
+                                            remainingLookahead= remainingLookahead219;
+                                            if (!(scanToken(TokenType.VOLATILE))) {
+                                                currentLookaheadIndex= int219;
+                                                remainingLookahead= remainingLookahead219;
+                                                if (!(scanToken(TokenType.STRICTFP))) {
+                                                    currentLookaheadIndex= int219;
+                                                    remainingLookahead= remainingLookahead219;
+                                                    if (!(scanToken(TokenType._DEFAULT))) {
+                                                        currentLookaheadIndex= int219;
+                                                        remainingLookahead= remainingLookahead219;
+                                                        if (!(check$Java_javacc$line_485$column_3())) {
+                                                            return false;
+                                                        }
+                                                    }
+                                                }
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$InterfaceDeclaration() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$InterfaceDeclaration$scan();
+        }
+        long memoKey= scanMemoKey(92);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$InterfaceDeclaration$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$InterfaceDeclaration$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.INTERFACE)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        int int220= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_685$column_5())) currentLookaheadIndex= int220;
+        int int221= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_686$column_5())) currentLookaheadIndex= int221;
+        pushOntoLookaheadStack(22);
+        if (!check$ClassOrInterfaceBody()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$AnnotationTypeDeclaration() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$AnnotationTypeDeclaration$scan();
+        }
+        long memoKey= scanMemoKey(93);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$AnnotationTypeDeclaration$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$AnnotationTypeDeclaration$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.AT)) return false;
+        if (!scanToken(TokenType.INTERFACE)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        pushOntoLookaheadStack(323);
+        if (!check$AnnotationTypeBody()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$EnumDeclaration() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$EnumDeclaration$scan();
+        }
+        long memoKey= scanMemoKey(94);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$EnumDeclaration$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$EnumDeclaration$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.ENUM)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        int int222= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_771$column_5())) currentLookaheadIndex= int222;
+        pushOntoLookaheadStack(28);
+        if (!check$EnumBody()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ConstructorDeclaration() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ConstructorDeclaration$scan();
+        }
+        long memoKey= scanMemoKey(95);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ConstructorDeclaration$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ConstructorDeclaration$scan() {
+        if (remainingLookahead<=0) return true;
+        int int223= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1078$column_5())) currentLookaheadIndex= int223;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        pushOntoLookaheadStack(78);
+        if (!check$FormalParameters()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int224= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1080$column_35())) currentLookaheadIndex= int224;
+        if (!scanToken(TokenType.LBRACE)) return false;
+        int int225= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1082$column_7())) currentLookaheadIndex= int225;
+        while (remainingLookahead> 0) {
+            int int226= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1083$column_7())) {
+                currentLookaheadIndex= int226;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.RBRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$FieldDeclaration() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$FieldDeclaration$scan();
+        }
+        long memoKey= scanMemoKey(96);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$FieldDeclaration$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$FieldDeclaration$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(55);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(56);
+        if (!check$VariableDeclarator()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int227= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_978$column_29())) {
+                currentLookaheadIndex= int227;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$MethodDeclaration() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MethodDeclaration$scan();
+        }
+        long memoKey= scanMemoKey(97);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MethodDeclaration$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MethodDeclaration$scan() {
+        if (remainingLookahead<=0) return true;
+        int int228= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1017$column_5())) currentLookaheadIndex= int228;
+        pushOntoLookaheadStack(66);
+        if (!check$ReturnType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(67);
+        if (!check$MethodDeclarator()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int229= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1019$column_22())) currentLookaheadIndex= int229;
+        int int230= currentLookaheadIndex;
+        int remainingLookahead230= remainingLookahead;
+        if (!(check$Java_javacc$line_1020$column_5())) {
+            currentLookaheadIndex= int230;
+            remainingLookahead= remainingLookahead230;
+            if (!(scanToken(TokenType.SEMICOLON))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1704$column_5() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1704$column_5$)) return false;
+        pushOntoLookaheadStack(247);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$SwitchLabel() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$SwitchLabel$scan();
+        }
+        long memoKey= scanMemoKey(98);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$SwitchLabel$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$SwitchLabel$scan() {
+        if (remainingLookahead<=0) return true;
+        int int231= currentLookaheadIndex;
+        int remainingLookahead231= remainingLookahead;
+        if (!(check$Java_javacc$line_1720$column_3())) {
+            currentLookaheadIndex= int231;
+            remainingLookahead= remainingLookahead231;
+            if (!(check$Java_javacc$line_1722$column_3())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1716$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(251);
+        if (!check$BlockStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ForInit() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ForInit$scan();
+        }
+        long memoKey= scanMemoKey(99);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ForInit$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ForInit$scan() {
+        if (remainingLookahead<=0) return true;
+        int int232= currentLookaheadIndex;
+        int remainingLookahead232= remainingLookahead;
+        if (!(check$Java_javacc$line_1750$column_3()&&check$Java_javacc$line_1750$column_3$())) {
+            currentLookaheadIndex= int232;
+            remainingLookahead= remainingLookahead232;
+            if (!(check$Java_javacc$line_1753$column_3())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ForUpdate() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ForUpdate$scan();
+        }
+        long memoKey= scanMemoKey(100);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ForUpdate$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ForUpdate$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(278);
+        if (!check$StatementExpressionList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1816$column_10() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(290);
+        if (!check$Name()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1819$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        int int233= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1821$column_11$())) currentLookaheadIndex= int233;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1828$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(294);
+        if (!check$CatchBlock()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1829$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(295);
+        if (!check$FinallyBlock()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1798$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(285);
+        if (!check$FinallyBlock()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1800$column_6() {
+        if (remainingLookahead<=0) return true;
+        if (!(check$Java_javacc$line_1801$column_10())) return false;
+        while (remainingLookahead> 0) {
+            int int234= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1801$column_10())) {
+                currentLookaheadIndex= int234;
+                break;
+            }
+        }
+        int int235= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1802$column_10())) currentLookaheadIndex= int235;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_685$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(20);
+        if (!check$TypeParameters()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_686$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(21);
+        if (!check$ExtendsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$AnnotationTypeBody() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$AnnotationTypeBody$scan();
+        }
+        long memoKey= scanMemoKey(101);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$AnnotationTypeBody$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$AnnotationTypeBody$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACE)) return false;
+        while (remainingLookahead> 0) {
+            int int236= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1921$column_9())) {
+                currentLookaheadIndex= int236;
+                break;
+            }
+        }
+        if (!scanToken(TokenType.RBRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_771$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(27);
+        if (!check$ImplementsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$EnumBody() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$EnumBody$scan();
+        }
+        long memoKey= scanMemoKey(102);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$EnumBody$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$EnumBody$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACE)) return false;
+        int int237= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_777$column_6())) currentLookaheadIndex= int237;
+        int int238= currentLookaheadIndex;
+        if (!(scanToken(TokenType.COMMA))) currentLookaheadIndex= int238;
+        int int239= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_779$column_6())) currentLookaheadIndex= int239;
+        if (!scanToken(TokenType.RBRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1078$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(77);
+        if (!check$TypeParameters()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FormalParameters() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$FormalParameters$scan();
+        }
+        long memoKey= scanMemoKey(103);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$FormalParameters$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$FormalParameters$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        int int240= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1030$column_7())) currentLookaheadIndex= int240;
+        if (!scanToken(TokenType.RPAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1080$column_35() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(79);
+        if (!check$ThrowsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1083$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(81);
+        if (!check$BlockStatement()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_978$column_29() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(57);
+        if (!check$VariableDeclarator()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1017$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(65);
+        if (!check$TypeParameters()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$MethodDeclarator() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MethodDeclarator$scan();
+        }
+        long memoKey= scanMemoKey(104);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MethodDeclarator$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MethodDeclarator$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        pushOntoLookaheadStack(71);
+        if (!check$FormalParameters()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int241= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1025$column_35())) {
+                currentLookaheadIndex= int241;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1019$column_22() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(68);
+        if (!check$ThrowsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1020$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(70);
+        if (!check$Block()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1720$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.CASE)) return false;
+        pushOntoLookaheadStack(253);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.COLON)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1722$column_3() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._DEFAULT)) return false;
+        if (!scanToken(TokenType.COLON)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1750$column_3$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(274);
+        if (!check$LocalVariableDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1753$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(275);
+        if (!check$StatementExpressionList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$StatementExpressionList() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$StatementExpressionList$scan();
+        }
+        long memoKey= scanMemoKey(105);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$StatementExpressionList$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$StatementExpressionList$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(276);
+        if (!check$StatementExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int242= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1757$column_25())) {
+                currentLookaheadIndex= int242;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1821$column_11$() {
+        if (remainingLookahead<=0) return true;
+        int int243= currentLookaheadIndex;
+        int remainingLookahead243= remainingLookahead;
+        if (!(check$Java_javacc$line_1821$column_11())) {
+            currentLookaheadIndex= int243;
+            remainingLookahead= remainingLookahead243;
+            if (!(check$Java_javacc$line_1823$column_11())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$CatchBlock() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$CatchBlock$scan();
+        }
+        long memoKey= scanMemoKey(106);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$CatchBlock$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$CatchBlock$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.CATCH)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        int int244= currentLookaheadIndex;
+        if (!(scanToken(TokenType.FINAL))) currentLookaheadIndex= int244;
+        pushOntoLookaheadStack(296);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int245= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1839$column_27())) {
+                currentLookaheadIndex= int245;
+                break;
+            }
+        }
+        pushOntoLookaheadStack(298);
+        if (!check$VariableDeclaratorId()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.RPAREN)) return false;
+        pushOntoLookaheadStack(299);
+        if (!check$Block()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FinallyBlock() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$FinallyBlock$scan();
+        }
+        long memoKey= scanMemoKey(107);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$FinallyBlock$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$FinallyBlock$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FINALLY)) return false;
+        pushOntoLookaheadStack(300);
+        if (!check$Block()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1801$column_10() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(286);
+        if (!check$CatchBlock()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1802$column_10() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(287);
+        if (!check$FinallyBlock()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1403$column_31() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1403$column_33)) return false;
+        pushOntoLookaheadStack(143);
+        if (!check$MultiplicativeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1921$column_9() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(324);
+        if (!check$AnnotationTypeMemberDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_777$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(29);
+        if (!check$EnumConstant()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int246= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_777$column_21())) {
+                currentLookaheadIndex= int246;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_779$column_6() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        while (remainingLookahead> 0) {
+            int int247= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_779$column_12())) {
+                currentLookaheadIndex= int247;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1030$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(72);
+        if (!check$FormalParameter()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int248= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1030$column_25())) {
+                currentLookaheadIndex= int248;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ThrowsList() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ThrowsList$scan();
+        }
+        long memoKey= scanMemoKey(108);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ThrowsList$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ThrowsList$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.THROWS)) return false;
+        pushOntoLookaheadStack(109);
+        if (!check$Name()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int249= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_1228$column_21())) {
+                currentLookaheadIndex= int249;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1025$column_35() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.LBRACKET)) return false;
+        if (!scanToken(TokenType.RBRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1757$column_25() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(277);
+        if (!check$StatementExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1823$column_11() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(292);
+        if (!check$Name()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1839$column_27() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.BIT_OR)) return false;
+        pushOntoLookaheadStack(297);
+        if (!check$ClassOrInterfaceType()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1407$column_22() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$Java_javacc$line_1407$column_24)) return false;
+        pushOntoLookaheadStack(146);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$AnnotationTypeMemberDeclaration() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$AnnotationTypeMemberDeclaration$scan();
+        }
+        long memoKey= scanMemoKey(109);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$AnnotationTypeMemberDeclaration$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$AnnotationTypeMemberDeclaration$scan() {
+        if (remainingLookahead<=0) return true;
+        int int250= currentLookaheadIndex;
+        int remainingLookahead250= remainingLookahead;
+        if (!(check$Java_javacc$line_1925$column_2())) {
+            currentLookaheadIndex= int250;
+            remainingLookahead= remainingLookahead250;
+            if (!(scanToken(TokenType.SEMICOLON))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_779$column_12() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(31);
+        if (!check$ClassOrInterfaceBodyDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FormalParameter() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$FormalParameter$scan();
+        }
+        long memoKey= scanMemoKey(110);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$FormalParameter$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$FormalParameter$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(74);
+        if (!check$Modifiers()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        pushOntoLookaheadStack(75);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int251= currentLookaheadIndex;
+        if (!(scanToken(TokenType.VAR_ARGS))) currentLookaheadIndex= int251;
+        pushOntoLookaheadStack(76);
+        if (!check$VariableDeclaratorId()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1030$column_25() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(73);
+        if (!check$FormalParameter()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1228$column_21() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(110);
+        if (!check$Name()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1925$column_2() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(326);
+        if (!check$Modifiers()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int252= currentLookaheadIndex;
+        int remainingLookahead252= remainingLookahead;
+        if (!(check$Java_javacc$line_1927$column_4()&&check$Java_javacc$line_1927$column_4$())) {
+            currentLookaheadIndex= int252;
+            remainingLookahead= remainingLookahead252;
+            if (!(check$Java_javacc$line_1930$column_4())) {
+                currentLookaheadIndex= int252;
+                remainingLookahead= remainingLookahead252;
+                if (!(check$Java_javacc$line_1932$column_4())) {
+                    currentLookaheadIndex= int252;
+                    remainingLookahead= remainingLookahead252;
+                    if (!(check$Java_javacc$line_1934$column_4())) {
+                        currentLookaheadIndex= int252;
+                        remainingLookahead= remainingLookahead252;
+                        if (!(check$Java_javacc$line_1936$column_4())) {
+                            currentLookaheadIndex= int252;
+                            remainingLookahead= remainingLookahead252;
+                            if (!(check$Java_javacc$line_1938$column_4())) {
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_784$column_28() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(33);
+        if (!check$Arguments()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_784$column_42() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(34);
+        if (!check$ClassOrInterfaceBody()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1927$column_4$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(329);
+        if (!check$Type()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.LPAREN)) return false;
+        if (!scanToken(TokenType.RPAREN)) return false;
+        int int253= currentLookaheadIndex;
+        if (!(check$Java_javacc$line_1928$column_35())) currentLookaheadIndex= int253;
+        if (!scanToken(TokenType.SEMICOLON)) return false;
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1930$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(331);
+        if (!check$ClassDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1932$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(332);
+        if (!check$InterfaceDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1934$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(333);
+        if (!check$EnumDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1936$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(334);
+        if (!check$AnnotationTypeDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1938$column_4() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(335);
+        if (!check$FieldDeclaration()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_1928$column_35() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(330);
+        if (!check$DefaultValue()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$DefaultValue() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$DefaultValue$scan();
+        }
+        long memoKey= scanMemoKey(111);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$DefaultValue$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$DefaultValue$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._DEFAULT)) return false;
+        pushOntoLookaheadStack(336);
+        if (!check$MemberValue()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Java_javacc$line_310$column_5() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_310$column_5$scan();
+        }
+        long memoKey= scanMemoKey(112);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_310$column_5$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_310$column_5$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            while (remainingLookahead> 0) {
+                int int254= currentLookaheadIndex;
+                if (!(check$Java_javacc$line_310$column_11())) {
+                    currentLookaheadIndex= int254;
+                    break;
+                }
+            }
+            if (!scanToken(TokenType.PACKAGE)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_923$column_7() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_923$column_7$scan();
+        }
+        long memoKey= scanMemoKey(113);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_923$column_7$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_923$column_7$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            int int255= currentLookaheadIndex;
+            if (!(check$Java_javacc$line_923$column_14())) currentLookaheadIndex= int255;
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            if (!scanToken(TokenType.LPAREN)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_927$column_7() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_927$column_7$scan();
+        }
+        long memoKey= scanMemoKey(114);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_927$column_7$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_927$column_7$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            pushOntoLookaheadStack(51);
+            if (!check$Type()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            while (remainingLookahead> 0) {
+                int int256= currentLookaheadIndex;
+                if (!(check$Java_javacc$line_927$column_32())) {
+                    currentLookaheadIndex= int256;
+                    break;
+                }
+            }
+            if (!scanToken(first_set$Java_javacc$line_927$column_45)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1634$column_4() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1634$column_4$scan();
+        }
+        long memoKey= scanMemoKey(115);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1634$column_4$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1634$column_4$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.TRY)) return false;
+            if (!scanToken(TokenType.LPAREN)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1637$column_4() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1637$column_4$scan();
+        }
+        long memoKey= scanMemoKey(116);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1637$column_4$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1637$column_4$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.TRY)) return false;
+            if (!scanToken(TokenType.LBRACE)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1673$column_3() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1673$column_3$scan();
+        }
+        long memoKey= scanMemoKey(117);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1673$column_3$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1673$column_3$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            pushOntoLookaheadStack(231);
+            if (!check$Modifiers()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            pushOntoLookaheadStack(232);
+            if (!check$Type()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1676$column_3() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1676$column_3$scan();
+        }
+        long memoKey= scanMemoKey(118);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1676$column_3$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1676$column_3$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            pushOntoLookaheadStack(234);
+            if (!check$Modifiers()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType.CLASS)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1740$column_7() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1740$column_7$scan();
+        }
+        long memoKey= scanMemoKey(119);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1740$column_7$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1740$column_7$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            pushOntoLookaheadStack(262);
+            if (!check$Modifiers()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            pushOntoLookaheadStack(263);
+            if (!check$Type()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            if (!scanToken(TokenType.COLON)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1750$column_3() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1750$column_3$scan();
+        }
+        long memoKey= scanMemoKey(120);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1750$column_3$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1750$column_3$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            pushOntoLookaheadStack(272);
+            if (!check$Modifiers()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            pushOntoLookaheadStack(273);
+            if (!check$Type()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1868$column_4() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1868$column_4$scan();
+        }
+        long memoKey= scanMemoKey(121);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1868$column_4$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1868$column_4$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.AT)) return false;
+            pushOntoLookaheadStack(302);
+            if (!check$Name()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType.LPAREN)) return false;
+            int int257= currentLookaheadIndex;
+            int remainingLookahead257= remainingLookahead;
+            if (!(check$Java_javacc$line_1868$column_24())) {
+                currentLookaheadIndex= int257;
+                remainingLookahead= remainingLookahead257;
+                if (!(scanToken(TokenType.RPAREN))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1871$column_4() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1871$column_4$scan();
+        }
+        long memoKey= scanMemoKey(122);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1871$column_4$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1871$column_4$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.AT)) return false;
+            pushOntoLookaheadStack(305);
+            if (!check$Name()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType.LPAREN)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1927$column_4() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1927$column_4$scan();
+        }
+        long memoKey= scanMemoKey(123);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1927$column_4$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1927$column_4$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            pushOntoLookaheadStack(328);
+            if (!check$Type()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            if (!scanToken(TokenType.LPAREN)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1958$column_4() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1958$column_4$scan();
+        }
+        long memoKey= scanMemoKey(124);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1958$column_4$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1958$column_4$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            pushOntoLookaheadStack(340);
+            if (!check$SimpleLambdaLHS()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType.LAMBDA)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$Java_javacc$line_1961$column_4() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Java_javacc$line_1961$column_4$scan();
+        }
+        long memoKey= scanMemoKey(125);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Java_javacc$line_1961$column_4$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Java_javacc$line_1961$column_4$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            pushOntoLookaheadStack(342);
+            if (!check$FormalLambdaLHS()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            if (!scanToken(TokenType.LAMBDA)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    // Without DEBUG_PARSER, these are compile-time constants, so no tracing code is compiled in.
+    private static final boolean TRACE= false;
+    private static final boolean trace_enabled= false;
+    // So that the warning about setTracingEnabled(true) only comes up once
+    private static volatile boolean tracingWarningGiven;
+    /**
+  * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER),
+  * so this does nothing, apart from logging a warning (once) if tracing is asked for.
+  */
+    @Deprecated public void setTracingEnabled(boolean tracingEnabled) {
+        if (tracingEnabled&&!tracingWarningGiven) {
+            tracingWarningGiven= true;
+            LOGGER.warning("setTracingEnabled(true) does nothing, since the parser was generated without DEBUG_PARSER");
+        }
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(true)
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(false)
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+    // The parsing and lookahead stacks just hold indexes into the tables of call sites below.
+    // The NonTerminalCall objects are only created if there is an error to report.
+    private int[] parsingStack= new int[64];
+    private int parsingStackSize;
+    private int[] lookaheadStack= new int[64];
+    private int lookaheadStackSize;
+    private static final String[] CALL_SITE_PRODUCTIONS= {"CompilationUnit", "CompilationUnit", "CompilationUnit", "CompilationUnit", "CompilationUnit", "PackageDeclaration", "ImportDeclaration", "Modifiers", "Modifiers2", "TypeDeclaration", "TypeDeclaration", "TypeDeclaration", "TypeDeclaration", "TypeDeclaration", "TypeDeclaration", "TypeDeclaration", "ClassDeclaration", "ClassDeclaration", "ClassDeclaration", "ClassDeclaration", "InterfaceDeclaration", "InterfaceDeclaration", "InterfaceDeclaration", "ExtendsList", "ExtendsList", "ImplementsList", "ImplementsList", "EnumDeclaration", "EnumDeclaration", "EnumBody", "EnumBody", "EnumBody", "EnumConstant", "EnumConstant", "EnumConstant", "TypeParameters", "TypeParameters", "TypeParameter", "TypeBound", "TypeBound", "ClassOrInterfaceBody", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "ClassOrInterfaceBodyDeclaration", "FieldDeclaration", "FieldDeclaration", "FieldDeclaration", "VariableDeclarator", "VariableDeclarator", "VariableInitializer", "VariableInitializer", "VariableInitializer", "ArrayInitializer", "ArrayInitializer", "MethodDeclaration", "MethodDeclaration", "MethodDeclaration", "MethodDeclaration", "MethodDeclaration", "MethodDeclaration", "MethodDeclarator", "FormalParameters", "FormalParameters", "FormalParameter", "FormalParameter", "FormalParameter", "ConstructorDeclaration", "ConstructorDeclaration", "ConstructorDeclaration", "ConstructorDeclaration", "ConstructorDeclaration", "ExplicitConstructorInvocation", "ExplicitConstructorInvocation", "ExplicitConstructorInvocation", "ExplicitConstructorInvocation", "Initializer", "Type", "Type", "Type", "ReferenceType", "ReferenceType", "ReferenceType", "ClassOrInterfaceType", "ClassOrInterfaceType", "PossiblyEmptyTypeArguments", "PossiblyEmptyTypeArguments", "PossiblyEmptyTypeArguments", "TypeArguments", "TypeArguments", "TypeArgument", "TypeArgument", "TypeArgument", "WildcardBounds", "WildcardBounds", "PrimitiveType", "PrimitiveArrayType", "ReturnType", "ReturnType", "ThrowsList", "ThrowsList", "Expression", "AssignmentExpression", "AssignmentExpression", "AssignmentExpression", "AssignmentOperator", "TernaryExpression", "TernaryExpression", "TernaryExpression", "ConditionalOrExpression", "ConditionalOrExpression", "ConditionalAndExpression", "ConditionalAndExpression", "InclusiveOrExpression", "InclusiveOrExpression", "ExclusiveOrExpression", "ExclusiveOrExpression", "AndExpression", "AndExpression", "EqualityExpression", "EqualityExpression", "EqualityExpression", "InstanceOfExpression", "InstanceOfExpression", "RelationalExpression", "RelationalExpression", "RelationalExpression", "ShiftExpression", "ShiftExpression", "ShiftExpression", "ShiftExpression", "AdditiveExpression", "AdditiveExpression", "AdditiveExpression", "MultiplicativeExpression", "MultiplicativeExpression", "MultiplicativeExpression", "UnaryExpression", "UnaryExpression", "UnaryExpression", "UnaryExpression", "UnaryExpression", "UnaryExpression", "PreIncrementExpression", "PreDecrementExpression", "UnaryExpressionNotPlusMinus", "UnaryExpressionNotPlusMinus", "UnaryExpressionNotPlusMinus", "UnaryExpressionNotPlusMinus", "UnaryExpressionNotPlusMinus", "UnaryExpressionNotPlusMinus", "PostfixExpression", "CastExpression", "CastExpression", "CastExpression", "CastExpression", "CastExpression", "CastExpression", "CastExpression", "CastExpression", "PrimaryExpression", "PrimaryExpression", "MemberSelector", "PrimaryPrefix", "PrimaryPrefix", "PrimaryPrefix", "PrimaryPrefix", "PrimaryPrefix", "PrimaryPrefix", "PrimaryPrefix", "PrimaryPrefix", "MethodReference", "MethodReference", "MethodReference", "PrimarySuffix", "PrimarySuffix", "PrimarySuffix", "PrimarySuffix", "PrimarySuffix", "PrimarySuffix", "PrimarySuffix", "Literal", "Arguments", "Arguments", "AllocationExpression", "AllocationExpression", "AllocationExpression", "AllocationExpression", "AllocationExpression", "AllocationExpression", "AllocationExpression", "AllocationExpression", "AllocationExpression", "ArrayDimsAndInits", "ArrayDimsAndInits", "ArrayDimsAndInits", "Statement", "Statement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "UnlabeledStatement", "TryStatement", "TryStatement", "TryStatement", "AssertStatement", "AssertStatement", "Block", "BlockStatement", "BlockStatement", "BlockStatement", "BlockStatement", "BlockStatement", "BlockStatement", "BlockStatement", "BlockStatement", "LocalVariableDeclaration", "LocalVariableDeclaration", "LocalVariableDeclaration", "LocalVariableDeclaration", "StatementExpression", "StatementExpression", "StatementExpression", "StatementExpression", "StatementExpression", "StatementExpression", "SwitchStatement", "SwitchStatement", "CaseStatement", "CaseStatement", "SwitchLabel", "SwitchLabel", "IfStatement", "IfStatement", "IfStatement", "WhileStatement", "WhileStatement", "DoStatement", "DoStatement", "ForStatement", "ForStatement", "ForStatement", "ForStatement", "ForStatement", "ForStatement", "ForStatement", "ForStatement", "ForStatement", "ForStatement", "ForInit", "ForInit", "ForInit", "ForInit", "ForInit", "StatementExpressionList", "StatementExpressionList", "ForUpdate", "ReturnStatement", "ThrowStatement", "SynchronizedStatement", "SynchronizedStatement", "ClassicTryStatement", "ClassicTryStatement", "ClassicTryStatement", "ClassicTryStatement", "ClassicTryStatement", "TryWithResources", "TryWithResources", "TryWithResources", "TryWithResources", "TryWithResources", "TryWithResources", "TryWithResources", "TryWithResources", "CatchBlock", "CatchBlock", "CatchBlock", "CatchBlock", "FinallyBlock", "Annotation", "Annotation", "Annotation", "Annotation", "Annotation", "Annotation", "Annotation", "NormalAnnotation", "NormalAnnotation", "MarkerAnnotation", "SingleMemberAnnotation", "SingleMemberAnnotation", "MemberValuePairs", "MemberValuePairs", "MemberValuePair", "MemberValue", "MemberValue", "MemberValue", "MemberValue", "MemberValueArrayInitializer", "MemberValueArrayInitializer", "MemberValueArrayInitializer", "AnnotationTypeDeclaration", "AnnotationTypeBody", "AnnotationTypeMemberDeclaration", "AnnotationTypeMemberDeclaration", "AnnotationTypeMemberDeclaration", "AnnotationTypeMemberDeclaration", "AnnotationTypeMemberDeclaration", "AnnotationTypeMemberDeclaration", "AnnotationTypeMemberDeclaration", "AnnotationTypeMemberDeclaration", "AnnotationTypeMemberDeclaration", "AnnotationTypeMemberDeclaration", "AnnotationTypeMemberDeclaration", "DefaultValue", "LambdaExpression", "LambdaExpression", "LambdaLHS", "LambdaLHS", "LambdaLHS", "LambdaLHS", "LambdaLHS", "SimpleLambdaLHS", "FormalLambdaLHS", "FormalLambdaLHS", "FormalLambdaLHS", "FormalLambdaLHS", "LambdaRHS", "LambdaRHS", "LambdaRHS"};
+    private static final String[] CALL_SITE_FILES= {"Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc", "Java.javacc"};
+    private static final int[] CALL_SITE_LINES= {310, 310, 312, 314, 314, 359, 378, 455, 485, 495, 497, 499, 499, 501, 503, 505, 676, 677, 678, 679, 685, 686, 687, 694, 695, 734, 735, 771, 772, 777, 777, 779, 784, 784, 784, 789, 789, 820, 823, 823, 829, 909, 910, 912, 915, 915, 917, 919, 921, 923, 925, 927, 927, 928, 930, 978, 978, 978, 982, 982, 989, 989, 989, 992, 992, 1017, 1018, 1019, 1019, 1020, 1020, 1025, 1030, 1030, 1069, 1069, 1069, 1078, 1080, 1080, 1082, 1083, 1088, 1088, 1090, 1090, 1095, 1104, 1104, 1106, 1111, 1111, 1113, 1118, 1119, 1146, 1146, 1148, 1153, 1153, 1158, 1158, 1160, 1164, 1164, 1169, 1187, 1192, 1194, 1228, 1228, 1256, 1294, 1296, 1296, 1302, 1306, 1306, 1306, 1310, 1310, 1314, 1314, 1318, 1318, 1322, 1322, 1326, 1326, 1330, 1330, 1330, 1334, 1334, 1338, 1341, 1346, 1352, 1356, 1358, 1360, 1403, 1403, 1403, 1407, 1407, 1407, 1411, 1411, 1411, 1413, 1415, 1417, 1421, 1425, 1429, 1429, 1429, 1433, 1435, 1437, 1441, 1445, 1445, 1445, 1447, 1447, 1449, 1449, 1449, 1453, 1454, 1461, 1465, 1465, 1471, 1473, 1475, 1477, 1479, 1481, 1485, 1485, 1487, 1491, 1491, 1494, 1497, 1499, 1503, 1505, 1509, 1528, 1528, 1558, 1559, 1559, 1561, 1561, 1563, 1563, 1565, 1565, 1574, 1576, 1585, 1596, 1597, 1602, 1602, 1604, 1606, 1608, 1610, 1612, 1614, 1616, 1618, 1620, 1622, 1624, 1626, 1628, 1630, 1634, 1635, 1638, 1644, 1644, 1651, 1673, 1673, 1673, 1674, 1676, 1677, 1677, 1679, 1683, 1683, 1683, 1683, 1694, 1694, 1696, 1698, 1704, 1704, 1709, 1710, 1715, 1716, 1720, 1720, 1726, 1726, 1726, 1730, 1730, 1734, 1734, 1740, 1740, 1740, 1741, 1741, 1741, 1743, 1743, 1743, 1746, 1750, 1750, 1750, 1751, 1753, 1757, 1757, 1761, 1775, 1782, 1787, 1787, 1796, 1798, 1798, 1801, 1802, 1814, 1814, 1816, 1821, 1823, 1827, 1828, 1829, 1839, 1839, 1839, 1841, 1854, 1868, 1868, 1868, 1869, 1871, 1872, 1874, 1882, 1882, 1886, 1890, 1890, 1894, 1894, 1897, 1900, 1900, 1902, 1904, 1908, 1910, 1910, 1917, 1921, 1925, 1925, 1927, 1927, 1928, 1928, 1930, 1932, 1934, 1936, 1938, 1945, 1949, 1951, 1958, 1958, 1959, 1961, 1962, 1966, 1977, 1977, 1979, 1979, 1985, 1985, 1987};
+    private static final int[] CALL_SITE_COLUMNS= {11, 37, 5, 6, 8, 32, 43, 10, 6, 3, 3, 6, 6, 6, 6, 6, 5, 5, 5, 3, 5, 5, 3, 14, 10, 17, 10, 5, 4, 6, 35, 12, 3, 28, 42, 4, 24, 30, 14, 41, 8, 3, 6, 3, 7, 7, 7, 7, 7, 14, 10, 12, 45, 10, 7, 3, 8, 33, 3, 30, 23, 23, 42, 9, 45, 5, 3, 3, 22, 5, 5, 16, 7, 29, 5, 15, 30, 5, 16, 35, 10, 7, 3, 15, 15, 47, 16, 4, 9, 4, 4, 4, 4, 14, 40, 4, 7, 4, 4, 23, 4, 4, 10, 5, 26, 3, 5, 9, 9, 14, 25, 5, 3, 19, 38, 3, 3, 34, 49, 3, 35, 3, 32, 3, 31, 3, 23, 3, 28, 3, 28, 42, 3, 39, 3, 6, 5, 4, 9, 9, 7, 3, 33, 45, 3, 24, 42, 3, 5, 17, 3, 3, 3, 8, 8, 3, 5, 17, 6, 8, 3, 3, 3, 12, 30, 12, 30, 13, 39, 66, 5, 14, 7, 3, 3, 7, 3, 5, 5, 5, 2, 6, 6, 7, 3, 11, 10, 6, 8, 9, 3, 3, 7, 23, 3, 9, 23, 9, 32, 7, 7, 7, 19, 3, 16, 3, 11, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 4, 4, 4, 12, 29, 4, 3, 8, 18, 6, 8, 6, 16, 3, 3, 13, 18, 43, 3, 3, 3, 3, 5, 24, 16, 4, 5, 6, 3, 10, 12, 27, 46, 15, 30, 8, 30, 7, 12, 22, 10, 20, 42, 8, 24, 43, 7, 3, 8, 18, 6, 3, 3, 29, 3, 5, 3, 22, 37, 3, 6, 6, 10, 10, 10, 13, 10, 14, 11, 5, 6, 6, 5, 31, 54, 5, 26, 4, 13, 24, 7, 13, 7, 4, 8, 19, 7, 7, 16, 4, 26, 37, 4, 4, 4, 4, 3, 7, 32, 32, 9, 2, 2, 4, 9, 7, 35, 4, 4, 4, 4, 4, 13, 3, 3, 4, 9, 7, 9, 7, 4, 8, 13, 14, 19, 3, 3, 3};
+    private EnumSet<TokenType> currentFollowSet;
+    /**
+ * Inner class that represents entering a grammar production
+ */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile= sourceFile;
+            this.productionName= productionName;
+            this.line= line;
+            this.column= column;
+        }
+
+        NonTerminalCall(int callSite) {
+            this(CALL_SITE_FILES[callSite], CALL_SITE_PRODUCTIONS[callSite], CALL_SITE_LINES[callSite], CALL_SITE_COLUMNS[callSite]);
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("JavaParser", productionName, sourceFile, line);
+        }
+
+    }
+    private final void pushOntoCallStack(int callSite) {
+        if (parsingStackSize== parsingStack.length) {
+            parsingStack= Arrays.copyOf(parsingStack, parsingStackSize*2);
+        }
+        parsingStack[parsingStackSize++]= callSite;
+    }
+
+    private final void popCallStack() {
+        parsingStackSize--;
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        if (parsingStackSize> prevSize) {
+            parsingStackSize= prevSize;
+        }
+    }
+
+    /**
+ * @return the parsing stack as a list of NonTerminalCall objects
+ */
+    List<NonTerminalCall> getCallStack() {
+        List<NonTerminalCall> result= new ArrayList<> (parsingStackSize);
+        for (int i= 0; i<parsingStackSize; i++) {
+            result.add(new NonTerminalCall(parsingStack[i]));
+        }
+        return result;
+    }
+
+    // The number of entries in the parsing stack and the lookahead stack together
+    private final int callStackDepth() {
+        return parsingStackSize+lookaheadStackSize;
+    }
+
+    // The call site of an entry in the parsing stack followed by the lookahead stack
+    private final int callStackEntry(int index) {
+        return index<parsingStackSize?parsingStack[index]:
+        lookaheadStack[index-parsingStackSize];
+    }
+
+    private final void pushOntoLookaheadStack(int callSite) {
+        if (lookaheadStackSize== lookaheadStack.length) {
+            lookaheadStack= Arrays.copyOf(lookaheadStack, lookaheadStackSize*2);
+        }
+        lookaheadStack[lookaheadStackSize++]= callSite;
+    }
+
+    private final void popLookaheadStack() {
+        lookaheadStackSize--;
+    }
+
+    private final boolean tolerantParsing= false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) throws ParseException {
+        boolean forced= false;
+        InvalidToken invalidToken= null;
+        Token oldToken= current_token;
+        current_token= current_token.getNext();
+        if (current_token== null) {
+            current_token= token_source.getNextToken();
+        }
+        if (current_token.getType()!=expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken);
+        }
+        else {
+            this.lastParsedToken= current_token;
+        }
+        if (buildTree&&tokensAreNodes) {
+            if (invalidToken!=null) {
+                pushNode(invalidToken);
+            }
+            pushNode(current_token);
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Consumed token of type "+current_token.getType()+" from "+current_token.getLocation());
+        return current_token;
+    }
+
+    private void handleUnexpectedTokenType(TokenType expectedType, boolean forced, Token oldToken) throws ParseException {
+        throw new ParseException(current_token, EnumSet.of(expectedType), getCallStack());
+    }
+
+    private class ParseState {
+        Token lastParsed;
+        NodeScope nodeScope;
+        ParseState() {
+            this.lastParsed= JavaParser.this.lastParsedToken;
+            this.nodeScope= (NodeScope) currentNodeScope.clone();
+        }
+
+    }
+    private ArrayList<ParseState> parseStateStack= new ArrayList<> ();
+    void stashParseState() {
+        parseStateStack.add(new ParseState());
+    }
+
+    ParseState popParseState() {
+        return parseStateStack.remove(parseStateStack.size()-1);
+    }
+
+    void restoreStashedParseState() {
+        ParseState state= popParseState();
+        currentNodeScope= state.nodeScope;
+        if (state.lastParsed!=null) {
+            //REVISIT
+            current_token= lastParsedToken= state.lastParsed;
+        }
+        token_source.switchTo(lastParsedToken.getLexicalState());
+        if (token_source.doLexicalStateSwitch(lastParsedToken.getType())) {
+            token_source.reset(lastParsedToken);
+            lastParsedToken.setNext(null);
+            clearLookaheadTokens();
+        }
+    }
+
+    private boolean buildTree= true;
+    private boolean tokensAreNodes= true;
+    private boolean unparsedTokensAreNodes= true;
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes= unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes= tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope= new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        Node root= currentNodeScope.rootNode();
+        recursivelySetInputSource(root, this.token_source.input_stream);
+        return root;
+    }
+
+    static private void recursivelySetInputSource(Node n, FileLineMap fileLineMap) {
+        n.setInputSource(fileLineMap);
+        for (Node child : n.children()) {
+            //            if (child instanceof Token) {
+            //                 ((Token) child).setImage(null);
+            //            } 
+            recursivelySetInputSource(child, fileLineMap);
+        }
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    public void openNodeScope(Node n) {
+        Token start= getToken(1);
+        n.setBeginLine(start.getBeginLine());
+        n.setBeginColumn(start.getBeginColumn());
+        n.setInputSource(token_source.input_stream);
+        new NodeScope();
+        n.open();
+        if (TRACE&&trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (TRACE&&trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (TRACE&&trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes= new ArrayList<Node> ();
+        for (int i= 0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                Token token= (Token) child;
+                Token specialToken= token;
+                while (specialToken!=null) {
+                    specialToken= specialToken.getSpecialToken();
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken= specialToken.getNext();
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n, boolean condition) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (condition) {
+            if (TRACE&&trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a= nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes= new ArrayList<Node> ();
+            while (a--> 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                    Token token= (Token) child;
+                    Token specialToken= token;
+                    while (specialToken.getSpecialToken()!=null) {
+                        specialToken= specialToken.getSpecialToken();
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken= specialToken.getNext();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree= buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    JavaParser jjtree= this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node>  {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope= JavaParser.this.currentNodeScope;
+            JavaParser.this.currentNodeScope= this;
+        }
+
+        boolean isRootScope() {
+            return parentScope== null;
+        }
+
+        Node rootNode() {
+            NodeScope ns= this;
+            while (ns.parentScope!=null) {
+                ns= ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        Node pop() {
+            return isEmpty()?parentScope.pop():
+            remove(size()-1);
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            JavaParser.this.currentNodeScope= parentScope;
+        }
+
+        int nestingLevel() {
+            int result= 0;
+            NodeScope parent= this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent= parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+}
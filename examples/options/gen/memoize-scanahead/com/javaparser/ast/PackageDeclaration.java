@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for PackageDeclaration AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+@SuppressWarnings("unused")
+public class PackageDeclaration extends BaseNode {
+    public String getPackageName() {
+        StringBuilder buf= new StringBuilder();
+        boolean seenPackage= false;
+        for (Token t : Nodes.getRealTokens(this)) {
+            if (t.getType()== TokenType.PACKAGE) {
+                seenPackage= true;
+            }
+            else if (seenPackage) {
+                if (t.getType()!=TokenType.SEMICOLON) buf.append(t);
+            }
+        }
+        return buf.toString();
+    }
+
+}
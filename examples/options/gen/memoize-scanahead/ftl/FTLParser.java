@@ -0,0 +1,8885 @@
+/* Generated by: JavaCC 21 Parser Generator. FTLParser.java */
+package ftl;
+
+import ftl.ast.*;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.logging.*;
+import java.io.*;
+import static ftl.FTLConstants.TokenType.*;
+@SuppressWarnings("unused")
+public class FTLParser implements FTLConstants {
+    static final boolean DUMPTREE= false;
+    static public void main(String[] args) throws Exception {
+        if (args.length== 0) {
+            usage();
+            System.exit(-1);
+        }
+        java.util.List<File> files= new java.util.ArrayList<File> ();
+        for (String arg : args) {
+            File file= new File(arg);
+            if (file.isDirectory()) {
+                for (File f : file.listFiles()) {
+                    if (f.getName().endsWith(".ftl")) {
+                        files.add(f);
+                    }
+                }
+            }
+            else {
+                files.add(file);
+            }
+        }
+        for (File f : files) {
+            checkFTLFile(f, false);
+        }
+    }
+
+    static public void checkFTLFile(File inputFile, boolean dumpTree) {
+        FTLParser parser= null;
+        try {
+            FileReader reader= new FileReader(inputFile);
+            parser= new FTLParser(reader);
+            parser.setInputSource(inputFile.toString());
+            parser.Root();
+        }
+        catch(Exception e) {
+            System.err.println("Error parsing "+inputFile);
+            e.printStackTrace();
+            return;
+        }
+        System.err.println("File "+inputFile+" parsed successfully.");
+        if (dumpTree) {
+            Nodes.dump(parser.rootNode(), "---");
+        }
+    }
+
+    static public void usage() {
+        System.err.println("Usage: java ftl.FTLParser <filenames>");
+    }
+
+    private static final java.util.logging.Logger LOGGER= Logger.getLogger(FTLParser.class.getName());
+    public static void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    // The last token successfully "consumed"     
+    Token current_token;
+    private TokenType nextTokenType;
+    // The number of tokens after current_token that the current scanahead has looked at
+    private int currentLookaheadIndex;
+    private int remainingLookahead;
+    private TokenType upToTokenType;
+    private EnumSet<TokenType> upToFirstSet;
+    private Token lastParsedToken;
+    //private Token nextToken; //REVISIT
+    //private EnumSet<Token> currentFollowSet;
+    private boolean cancelled;
+    public void cancel() {
+        cancelled= true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public FTLLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public FTLParser(String inputSource, CharSequence content) {
+        this(new FTLLexer(inputSource, content));
+    }
+
+    public FTLParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+   * Parses the file by mapping it into memory, rather than reading it into a String.
+   */
+    public FTLParser(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(new FTLLexer(path, charset));
+    }
+
+    public FTLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public FTLParser(Reader reader) {
+        this(new FTLLexer(reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public FTLParser(FTLLexer lexer) {
+        token_source= lexer;
+        current_token= new Token();
+    }
+
+    /*
+   * The reset methods set up this parser, along with its lexer, to parse new input.
+   * That saves creating a new parser for each input, and the buffers and stacks
+   * that have been allocated so far are reused.
+   */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        resetState();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+   * Maps the file into memory, like the corresponding constructor.
+   */
+    public void reset(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        reset(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        token_source.reset(inputSource, reader);
+        resetState();
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    // Puts everything back the way the constructor left it, apart
+    // from any settings that were changed.
+    private void resetState() {
+        current_token= new Token();
+        nextTokenType= null;
+        currentLookaheadIndex= remainingLookahead= 0;
+        upToTokenType= null;
+        upToFirstSet= null;
+        lastParsedToken= null;
+        cancelled= false;
+        Arrays.fill(scanMemoKeys, -1L);
+        scanMemoSize= 0;
+        clearLookaheadTokens();
+        parsingStackSize= lookaheadStackSize= 0;
+        currentFollowSet= null;
+        parseStateStack.clear();
+        while (!currentNodeScope.isRootScope()) {
+            currentNodeScope= currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.getNext()!=null) current_token= current_token.getNext();
+        else {
+            Token nextToken= token_source.getNextToken();
+            current_token.setNext(nextToken);
+            current_token= nextToken;
+        }
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        return index<=0?current_token:
+        lookaheadToken(index);
+    }
+
+    // A circular buffer of the tokens following current_token, so that
+    // lookahead does not have to keep following the tokens' next links.
+    // The links are still there (and are the real thing), so if current_token
+    // has moved on since the buffer was filled, it is brought into line.
+    private Token[] lookaheadTokens= new Token[16];
+    private int lookaheadStart, lookaheadCount;
+    private Token lookaheadAnchor;
+    // The index-th token after current_token, index being at least 1
+    private Token lookaheadToken(int index) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        int mask= lookaheadTokens.length-1;
+        while (lookaheadCount<index) {
+            Token last= lookaheadCount== 0?current_token:
+            lookaheadTokens[(lookaheadStart+lookaheadCount-1)&mask];
+            Token nextToken= last.getNext();
+            if (nextToken== null) {
+                nextToken= token_source.getNextToken();
+                last.setNext(nextToken);
+            }
+            if (lookaheadCount== lookaheadTokens.length) {
+                growLookaheadTokens();
+                mask= lookaheadTokens.length-1;
+            }
+            lookaheadTokens[(lookaheadStart+lookaheadCount++)&mask]= nextToken;
+        }
+        return lookaheadTokens[(lookaheadStart+index-1)&mask];
+    }
+
+    private void syncLookaheadTokens() {
+        int mask= lookaheadTokens.length-1;
+        Token t= lookaheadAnchor;
+        int distance= 0;
+        // Typically, current_token has moved forward to one of the buffered tokens.
+        while (lookaheadCount> 0&&t!=current_token) {
+            t= lookaheadTokens[lookaheadStart];
+            lookaheadTokens[lookaheadStart]= null;
+            lookaheadStart= (lookaheadStart+1)&mask;
+            --lookaheadCount;
+            ++distance;
+        }
+        // ... or possibly beyond them.
+        while (t!=null&&t!=current_token) {
+            t= t.getNext();
+            ++distance;
+        }
+        if (t== null) {
+            // current_token is not where we thought, so the memo table
+            // is no use any more.
+            clearScanMemo();
+        }
+        else {
+            currentTokenIndex+=distance;
+        }
+        lookaheadAnchor= current_token;
+    }
+
+    private void growLookaheadTokens() {
+        Token[] newTokens= new Token[lookaheadTokens.length*2];
+        for (int i= 0; i<lookaheadCount; i++) {
+            newTokens[i]= lookaheadTokens[(lookaheadStart+i)&(lookaheadTokens.length-1)];
+        }
+        lookaheadTokens= newTokens;
+        lookaheadStart= 0;
+    }
+
+    // To be called if the tokens' next links are changed behind our back.
+    private void clearLookaheadTokens() {
+        Arrays.fill(lookaheadTokens, null);
+        lookaheadStart= lookaheadCount= 0;
+        lookaheadAnchor= null;
+        clearScanMemo();
+    }
+
+    // The results of the scan routines that only depend on the tokens
+    // they look at, so that each one is only run once at a given position.
+    // It is an open addressing hash table keyed by the routine's index and
+    // the position of the token it starts at. The value is the number of
+    // tokens the routine matched, plus 1, or SCAN_FAILED.
+    private static final int SCAN_MEMO_INITIAL_SIZE= 1024;
+    private static final int SCAN_FAILED= -1;
+    private long[] scanMemoKeys= newScanMemoKeys(SCAN_MEMO_INITIAL_SIZE);
+    private int[] scanMemoValues= new int[SCAN_MEMO_INITIAL_SIZE];
+    private int scanMemoSize;
+    // The position of current_token, counting from wherever we
+    // last lost track of it, i.e. the last time the memo table was cleared.
+    private int currentTokenIndex;
+    private static long[] newScanMemoKeys(int size) {
+        long[] keys= new long[size];
+        Arrays.fill(keys, -1L);
+        return keys;
+    }
+
+    private static int scanMemoHash(long key) {
+        return(int)((key*0x9E3779B97F4A7C15L)>>>32);
+    }
+
+    // The key for the given scan routine at the current scanahead position
+    private long scanMemoKey(int routineIndex) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        return(long)(currentTokenIndex+currentLookaheadIndex)*68+routineIndex;
+    }
+
+    // Returns 0 if there is no entry for the key
+    private int scanMemoLookup(long key) {
+        int mask= scanMemoKeys.length-1;
+        for (int i= scanMemoHash(key)&mask; scanMemoKeys[i]!=-1L; i= (i+1)&mask) {
+            if (scanMemoKeys[i]== key) return scanMemoValues[i];
+        }
+        return 0;
+    }
+
+    private void scanMemoStore(long key, int value) {
+        if (2*(scanMemoSize+1)> scanMemoKeys.length) {
+            rebuildScanMemo();
+        }
+        int mask= scanMemoKeys.length-1;
+        int i= scanMemoHash(key)&mask;
+        while (scanMemoKeys[i]!=-1L&&scanMemoKeys[i]!=key) {
+            i= (i+1)&mask;
+        }
+        if (scanMemoKeys[i]== -1L)++scanMemoSize;
+        scanMemoKeys[i]= key;
+        scanMemoValues[i]= value;
+    }
+
+    // Moves the entries that are still of any use, those from current_token on,
+    // into a table with enough room to spare.
+    private void rebuildScanMemo() {
+        long[] oldKeys= scanMemoKeys;
+        int[] oldValues= scanMemoValues;
+        long firstUsefulKey= (long) currentTokenIndex*68;
+        int useful= 0;
+        for (long key : oldKeys) {
+            if (key>=firstUsefulKey)++useful;
+        }
+        int size= SCAN_MEMO_INITIAL_SIZE;
+        while (4*useful> size) size*=2;
+        scanMemoKeys= newScanMemoKeys(size);
+        scanMemoValues= new int[size];
+        scanMemoSize= 0;
+        for (int i= 0; i<oldKeys.length; i++) {
+            if (oldKeys[i]>=firstUsefulKey) scanMemoStore(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    private void clearScanMemo() {
+        if (scanMemoSize> 0) {
+            scanMemoKeys= newScanMemoKeys(SCAN_MEMO_INITIAL_SIZE);
+            scanMemoValues= new int[SCAN_MEMO_INITIAL_SIZE];
+            scanMemoSize= 0;
+        }
+    }
+
+    private final boolean setNextTokenType() {
+        nextTokenType= lookaheadToken(1).getType();
+        return true;
+    }
+
+    private final TokenType nextTokenType() {
+        setNextTokenType();
+        return nextTokenType;
+    }
+
+    private final boolean resetScanAhead(int amount, EnumSet<TokenType> upToFirstSet) {
+        resetScanAhead(amount);
+        this.upToFirstSet= upToFirstSet;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount, TokenType upToTokenType) {
+        resetScanAhead(amount);
+        this.upToTokenType= upToTokenType;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount) {
+        currentLookaheadIndex= 0;
+        remainingLookahead= amount;
+        this.upToTokenType= null;
+        this.upToFirstSet= null;
+        setNextTokenType();
+        return true;
+    }
+
+    // FEL.javacc, line 825
+    final public Node Input() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 825 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 828 of FEL.javacc
+        pushOntoCallStack(0);
+        try {
+            Expression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for EndOfFile specified on line 829 of FEL.javacc
+        consumeToken(TokenType.EOF);
+        // Code for CodeBlock specified on line 830 of FEL.javacc
+        return rootNode();
+    }
+
+    // FEL.javacc, line 835
+    final public void Expression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 835 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Expression1forced= false;
+        Expression Expression1= null;
+        if (buildTree) {
+            Expression1= new Expression();
+            openNodeScope(Expression1);
+        }
+        ParseException parseException1= null;
+        int callStackSize1= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 837 of FEL.javacc
+            pushOntoCallStack(1);
+            try {
+                OrExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Expression");
+        }
+        catch(ParseException e) {
+            parseException1= e;
+            throw e;
+        }
+        finally {
+            if (parseException1== null) {
+                restoreCallStack(callStackSize1);
+            }
+            if (buildTree) {
+                if (parseException1== null) {
+                    closeNodeScope(Expression1, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException1.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 840
+    final public void OrExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 840 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean OrExpression2forced= false;
+        OrExpression OrExpression2= null;
+        if (buildTree) {
+            OrExpression2= new OrExpression();
+            openNodeScope(OrExpression2);
+        }
+        ParseException parseException2= null;
+        int callStackSize2= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 842 of FEL.javacc
+            pushOntoCallStack(2);
+            try {
+                AndExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 845 of FEL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.OR||nextTokenType== TokenType.OR2) {
+                // Code for ExpansionChoice specified on line 844 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.OR) {
+                    // Code for RegexpRef specified on line 844 of FEL.javacc
+                    consumeToken(TokenType.OR);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.OR2) {
+                    // Code for RegexpRef specified on line 844 of FEL.javacc
+                    consumeToken(TokenType.OR2);
+                }
+                else {
+                    pushOntoCallStack(3);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_844$column_10, getCallStack());
+                }
+                // Code for NonTerminal specified on line 844 of FEL.javacc
+                pushOntoCallStack(4);
+                try {
+                    AndExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from OrExpression");
+        }
+        catch(ParseException e) {
+            parseException2= e;
+            throw e;
+        }
+        finally {
+            if (parseException2== null) {
+                restoreCallStack(callStackSize2);
+            }
+            if (buildTree) {
+                if (parseException2== null) {
+                    closeNodeScope(OrExpression2, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException2.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 848
+    final public void AndExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 848 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AndExpression3forced= false;
+        AndExpression AndExpression3= null;
+        if (buildTree) {
+            AndExpression3= new AndExpression();
+            openNodeScope(AndExpression3);
+        }
+        ParseException parseException3= null;
+        int callStackSize3= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 850 of FEL.javacc
+            pushOntoCallStack(5);
+            try {
+                EqualityExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 853 of FEL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.AND||nextTokenType== TokenType.AND2) {
+                // Code for ExpansionChoice specified on line 852 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.AND) {
+                    // Code for RegexpRef specified on line 852 of FEL.javacc
+                    consumeToken(TokenType.AND);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.AND2) {
+                    // Code for RegexpRef specified on line 852 of FEL.javacc
+                    consumeToken(TokenType.AND2);
+                }
+                else {
+                    pushOntoCallStack(6);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_852$column_10, getCallStack());
+                }
+                // Code for NonTerminal specified on line 852 of FEL.javacc
+                pushOntoCallStack(7);
+                try {
+                    EqualityExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AndExpression");
+        }
+        catch(ParseException e) {
+            parseException3= e;
+            throw e;
+        }
+        finally {
+            if (parseException3== null) {
+                restoreCallStack(callStackSize3);
+            }
+            if (buildTree) {
+                if (parseException3== null) {
+                    closeNodeScope(AndExpression3, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException3.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 856
+    final public void EqualityExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 856 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean EqualityExpression4forced= false;
+        EqualityExpression EqualityExpression4= null;
+        if (buildTree) {
+            EqualityExpression4= new EqualityExpression();
+            openNodeScope(EqualityExpression4);
+        }
+        ParseException parseException4= null;
+        int callStackSize4= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 858 of FEL.javacc
+            pushOntoCallStack(8);
+            try {
+                RelationalExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 859 of FEL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS||nextTokenType== TokenType.DOUBLE_EQUALS||nextTokenType== TokenType.NOT_EQUALS) {
+                // Code for ExpansionChoice specified on line 860 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS) {
+                    // Code for RegexpRef specified on line 860 of FEL.javacc
+                    consumeToken(TokenType.EQUALS);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.DOUBLE_EQUALS) {
+                    // Code for RegexpRef specified on line 860 of FEL.javacc
+                    consumeToken(TokenType.DOUBLE_EQUALS);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.NOT_EQUALS) {
+                    // Code for RegexpRef specified on line 860 of FEL.javacc
+                    consumeToken(TokenType.NOT_EQUALS);
+                }
+                else {
+                    pushOntoCallStack(9);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_860$column_10, getCallStack());
+                }
+                // Code for NonTerminal specified on line 861 of FEL.javacc
+                pushOntoCallStack(10);
+                try {
+                    RelationalExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from EqualityExpression");
+        }
+        catch(ParseException e) {
+            parseException4= e;
+            throw e;
+        }
+        finally {
+            if (parseException4== null) {
+                restoreCallStack(callStackSize4);
+            }
+            if (buildTree) {
+                if (parseException4== null) {
+                    closeNodeScope(EqualityExpression4, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException4.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 865
+    final public void RelationalExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 865 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean RelationalExpression5forced= false;
+        RelationalExpression RelationalExpression5= null;
+        if (buildTree) {
+            RelationalExpression5= new RelationalExpression();
+            openNodeScope(RelationalExpression5);
+        }
+        ParseException parseException5= null;
+        int callStackSize5= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 867 of FEL.javacc
+            pushOntoCallStack(11);
+            try {
+                RangeExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 868 of FEL.javacc
+            if (resetScanAhead(1)&&first_set$FEL_javacc$line_868$column_5.contains(nextTokenType)) {
+                // Code for ExpansionChoice specified on line 869 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.GT) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.GT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.GTE) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.GTE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.LT) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.LT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.LTE) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.LTE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ALT_GT) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.ALT_GT);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ALT_GTE) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.ALT_GTE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ALT_LTE) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.ALT_LTE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ALT_LT) {
+                    // Code for RegexpRef specified on line 869 of FEL.javacc
+                    consumeToken(TokenType.ALT_LT);
+                }
+                else {
+                    pushOntoCallStack(12);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_869$column_10, getCallStack());
+                }
+                // Code for NonTerminal specified on line 870 of FEL.javacc
+                pushOntoCallStack(13);
+                try {
+                    RangeExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from RelationalExpression");
+        }
+        catch(ParseException e) {
+            parseException5= e;
+            throw e;
+        }
+        finally {
+            if (parseException5== null) {
+                restoreCallStack(callStackSize5);
+            }
+            if (buildTree) {
+                if (parseException5== null) {
+                    closeNodeScope(RelationalExpression5, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException5.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 874
+    final public void RangeExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 874 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean RangeExpression6forced= false;
+        RangeExpression RangeExpression6= null;
+        if (buildTree) {
+            RangeExpression6= new RangeExpression();
+            openNodeScope(RangeExpression6);
+        }
+        ParseException parseException6= null;
+        int callStackSize6= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 876 of FEL.javacc
+            pushOntoCallStack(14);
+            try {
+                AdditiveExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 877 of FEL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.DOT_DOT) {
+                // Code for RegexpRef specified on line 878 of FEL.javacc
+                consumeToken(TokenType.DOT_DOT);
+                // Code for ZeroOrOne specified on line 879 of FEL.javacc
+                if (resetScanAhead(2147483647)&&check$FEL_javacc$line_880$column_10()) {
+                    // Code for NonTerminal specified on line 881 of FEL.javacc
+                    pushOntoCallStack(15);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from RangeExpression");
+        }
+        catch(ParseException e) {
+            parseException6= e;
+            throw e;
+        }
+        finally {
+            if (parseException6== null) {
+                restoreCallStack(callStackSize6);
+            }
+            if (buildTree) {
+                if (parseException6== null) {
+                    closeNodeScope(RangeExpression6, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException6.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 886
+    final public void AdditiveExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 886 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean AdditiveExpression7forced= false;
+        AdditiveExpression AdditiveExpression7= null;
+        if (buildTree) {
+            AdditiveExpression7= new AdditiveExpression();
+            openNodeScope(AdditiveExpression7);
+        }
+        ParseException parseException7= null;
+        int callStackSize7= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 888 of FEL.javacc
+            pushOntoCallStack(16);
+            try {
+                MultiplicativeExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 892 of FEL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.PLUS||nextTokenType== TokenType.MINUS) {
+                // Code for ExpansionChoice specified on line 890 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.PLUS) {
+                    // Code for RegexpRef specified on line 890 of FEL.javacc
+                    consumeToken(TokenType.PLUS);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.MINUS) {
+                    // Code for RegexpRef specified on line 890 of FEL.javacc
+                    consumeToken(TokenType.MINUS);
+                }
+                else {
+                    pushOntoCallStack(17);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_890$column_13, getCallStack());
+                }
+                // Code for NonTerminal specified on line 891 of FEL.javacc
+                pushOntoCallStack(18);
+                try {
+                    MultiplicativeExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from AdditiveExpression");
+        }
+        catch(ParseException e) {
+            parseException7= e;
+            throw e;
+        }
+        finally {
+            if (parseException7== null) {
+                restoreCallStack(callStackSize7);
+            }
+            if (buildTree) {
+                if (parseException7== null) {
+                    closeNodeScope(AdditiveExpression7, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException7.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 895
+    final public void MultiplicativeExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 895 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean MultiplicativeExpression8forced= false;
+        MultiplicativeExpression MultiplicativeExpression8= null;
+        if (buildTree) {
+            MultiplicativeExpression8= new MultiplicativeExpression();
+            openNodeScope(MultiplicativeExpression8);
+        }
+        ParseException parseException8= null;
+        int callStackSize8= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 897 of FEL.javacc
+            pushOntoCallStack(19);
+            try {
+                UnaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 901 of FEL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.TIMES||nextTokenType== TokenType.DIVIDE||nextTokenType== TokenType.PERCENT) {
+                // Code for ExpansionChoice specified on line 899 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.TIMES) {
+                    // Code for RegexpRef specified on line 899 of FEL.javacc
+                    consumeToken(TokenType.TIMES);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.DIVIDE) {
+                    // Code for RegexpRef specified on line 899 of FEL.javacc
+                    consumeToken(TokenType.DIVIDE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.PERCENT) {
+                    // Code for RegexpRef specified on line 899 of FEL.javacc
+                    consumeToken(TokenType.PERCENT);
+                }
+                else {
+                    pushOntoCallStack(20);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_899$column_12, getCallStack());
+                }
+                // Code for NonTerminal specified on line 900 of FEL.javacc
+                pushOntoCallStack(21);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MultiplicativeExpression");
+        }
+        catch(ParseException e) {
+            parseException8= e;
+            throw e;
+        }
+        finally {
+            if (parseException8== null) {
+                restoreCallStack(callStackSize8);
+            }
+            if (buildTree) {
+                if (parseException8== null) {
+                    closeNodeScope(MultiplicativeExpression8, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException8.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    // FEL.javacc, line 905
+    final public void UnaryExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 905 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 907 of FEL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.PLUS||nextTokenType== TokenType.MINUS) {
+            // Code for NonTerminal specified on line 907 of FEL.javacc
+            pushOntoCallStack(23);
+            try {
+                UnaryPlusMinusExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.EXCLAM) {
+            // Code for NonTerminal specified on line 909 of FEL.javacc
+            pushOntoCallStack(24);
+            try {
+                NotExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&first_set$FEL_javacc$line_911$column_5.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 911 of FEL.javacc
+            pushOntoCallStack(25);
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(22);
+            throw new ParseException(current_token.getNext(), UnaryExpression_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from UnaryExpression");
+    }
+
+    // FEL.javacc, line 914
+    final public void UnaryPlusMinusExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 914 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean UnaryPlusMinusExpression9forced= false;
+        UnaryPlusMinusExpression UnaryPlusMinusExpression9= null;
+        if (buildTree) {
+            UnaryPlusMinusExpression9= new UnaryPlusMinusExpression();
+            openNodeScope(UnaryPlusMinusExpression9);
+        }
+        ParseException parseException9= null;
+        int callStackSize9= parsingStackSize;
+        try {
+            // Code for ExpansionChoice specified on line 916 of FEL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.PLUS) {
+                // Code for RegexpRef specified on line 916 of FEL.javacc
+                consumeToken(TokenType.PLUS);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.MINUS) {
+                // Code for RegexpRef specified on line 916 of FEL.javacc
+                consumeToken(TokenType.MINUS);
+            }
+            else {
+                pushOntoCallStack(26);
+                throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_916$column_6, getCallStack());
+            }
+            // Code for NonTerminal specified on line 916 of FEL.javacc
+            pushOntoCallStack(27);
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from UnaryPlusMinusExpression");
+        }
+        catch(ParseException e) {
+            parseException9= e;
+            throw e;
+        }
+        finally {
+            if (parseException9== null) {
+                restoreCallStack(callStackSize9);
+            }
+            if (buildTree) {
+                if (parseException9== null) {
+                    closeNodeScope(UnaryPlusMinusExpression9, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException9.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 919
+    final public void NotExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 919 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NotExpression10forced= false;
+        NotExpression NotExpression10= null;
+        if (buildTree) {
+            NotExpression10= new NotExpression();
+            openNodeScope(NotExpression10);
+        }
+        ParseException parseException10= null;
+        int callStackSize10= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 921 of FEL.javacc
+            consumeToken(TokenType.EXCLAM);
+            // Code for NonTerminal specified on line 922 of FEL.javacc
+            pushOntoCallStack(28);
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NotExpression");
+        }
+        catch(ParseException e) {
+            parseException10= e;
+            throw e;
+        }
+        finally {
+            if (parseException10== null) {
+                restoreCallStack(callStackSize10);
+            }
+            if (buildTree) {
+                if (parseException10== null) {
+                    closeNodeScope(NotExpression10, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException10.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 925
+    final public void BuiltinVariable() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 925 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean BuiltinVariable11forced= false;
+        BuiltinVariable BuiltinVariable11= null;
+        if (buildTree) {
+            BuiltinVariable11= new BuiltinVariable();
+            openNodeScope(BuiltinVariable11);
+        }
+        ParseException parseException11= null;
+        int callStackSize11= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 927 of FEL.javacc
+            consumeToken(TokenType.DOT);
+            // Code for RegexpRef specified on line 927 of FEL.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BuiltinVariable");
+        }
+        catch(ParseException e) {
+            parseException11= e;
+            throw e;
+        }
+        finally {
+            if (parseException11== null) {
+                restoreCallStack(callStackSize11);
+            }
+            if (buildTree) {
+                if (parseException11== null) {
+                    closeNodeScope(BuiltinVariable11, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException11.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 930
+    final public void DefaultToExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 930 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean DefaultToExpression12forced= false;
+        DefaultToExpression DefaultToExpression12= null;
+        if (buildTree) {
+            DefaultToExpression12= new DefaultToExpression();
+            openNodeScope(DefaultToExpression12);
+        }
+        ParseException parseException12= null;
+        int callStackSize12= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 932 of FEL.javacc
+            pushOntoCallStack(29);
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 936 of FEL.javacc
+            while (resetScanAhead(2147483647)&&(getToken(2).getType()!=TokenType.IDENTIFIER||getToken(3).getType()!=TokenType.EQUALS)&&check$FEL_javacc$line_934$column_19()) {
+                // Code for RegexpRef specified on line 935 of FEL.javacc
+                consumeToken(TokenType.EXCLAM);
+                // Code for NonTerminal specified on line 935 of FEL.javacc
+                pushOntoCallStack(31);
+                try {
+                    PrimaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified on line 937 of FEL.javacc
+            if (resetScanAhead(1)&&(nextTokenType== TokenType.EXCLAM)) {
+                // Code for RegexpRef specified on line 939 of FEL.javacc
+                consumeToken(TokenType.EXCLAM);
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from DefaultToExpression");
+        }
+        catch(ParseException e) {
+            parseException12= e;
+            throw e;
+        }
+        finally {
+            if (parseException12== null) {
+                restoreCallStack(callStackSize12);
+            }
+            if (buildTree) {
+                if (parseException12== null) {
+                    closeNodeScope(DefaultToExpression12, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException12.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 943
+    final public void PrimaryExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 943 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean PrimaryExpression13forced= false;
+        PrimaryExpression PrimaryExpression13= null;
+        if (buildTree) {
+            PrimaryExpression13= new PrimaryExpression();
+            openNodeScope(PrimaryExpression13);
+        }
+        ParseException parseException13= null;
+        int callStackSize13= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 945 of FEL.javacc
+            pushOntoCallStack(32);
+            try {
+                BaseExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 959 of FEL.javacc
+            while (resetScanAhead(2147483647)&&(first_set$FEL_javacc$line_947$column_15.contains(nextTokenType))) {
+                // Code for ExpansionChoice specified on line 949 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.DOT) {
+                    // Code for NonTerminal specified on line 949 of FEL.javacc
+                    pushOntoCallStack(35);
+                    try {
+                        DotKey();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_BRACKET) {
+                    // Code for NonTerminal specified on line 951 of FEL.javacc
+                    pushOntoCallStack(36);
+                    try {
+                        DynamicKey();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_PAREN) {
+                    // Code for NonTerminal specified on line 953 of FEL.javacc
+                    pushOntoCallStack(37);
+                    try {
+                        MethodInvoke();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.BUILT_IN) {
+                    // Code for NonTerminal specified on line 955 of FEL.javacc
+                    pushOntoCallStack(38);
+                    try {
+                        BuiltIn();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.EXISTS_OPERATOR) {
+                    // Code for NonTerminal specified on line 957 of FEL.javacc
+                    pushOntoCallStack(39);
+                    try {
+                        Exists();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    pushOntoCallStack(34);
+                    throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_949$column_7, getCallStack());
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PrimaryExpression");
+        }
+        catch(ParseException e) {
+            parseException13= e;
+            throw e;
+        }
+        finally {
+            if (parseException13== null) {
+                restoreCallStack(callStackSize13);
+            }
+            if (buildTree) {
+                if (parseException13== null) {
+                    closeNodeScope(PrimaryExpression13, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException13.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> BaseExpression_FIRST_SET= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    // FEL.javacc, line 962
+    final public void BaseExpression() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 962 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 964 of FEL.javacc
+        boolean BaseExpression14forced= false;
+        BaseExpression BaseExpression14= null;
+        if (buildTree) {
+            BaseExpression14= new BaseExpression();
+            openNodeScope(BaseExpression14);
+        }
+        ParseException parseException14= null;
+        int callStackSize14= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for RegexpRef specified on line 964 of FEL.javacc
+                consumeToken(TokenType.IDENTIFIER);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.INTEGER||nextTokenType== TokenType.DECIMAL) {
+                // Code for NonTerminal specified on line 966 of FEL.javacc
+                pushOntoCallStack(41);
+                try {
+                    NumberLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_BRACE) {
+                // Code for NonTerminal specified on line 968 of FEL.javacc
+                pushOntoCallStack(42);
+                try {
+                    HashLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.STRING_LITERAL||nextTokenType== TokenType.RAW_STRING) {
+                // Code for NonTerminal specified on line 970 of FEL.javacc
+                pushOntoCallStack(43);
+                try {
+                    StringLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE||nextTokenType== TokenType.FALSE) {
+                // Code for NonTerminal specified on line 972 of FEL.javacc
+                pushOntoCallStack(44);
+                try {
+                    BooleanLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.NULL) {
+                // Code for NonTerminal specified on line 974 of FEL.javacc
+                pushOntoCallStack(45);
+                try {
+                    NullLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_BRACKET) {
+                // Code for NonTerminal specified on line 976 of FEL.javacc
+                pushOntoCallStack(46);
+                try {
+                    ListLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_PAREN) {
+                // Code for NonTerminal specified on line 978 of FEL.javacc
+                pushOntoCallStack(47);
+                try {
+                    Parenthesis();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DOT) {
+                // Code for NonTerminal specified on line 980 of FEL.javacc
+                pushOntoCallStack(48);
+                try {
+                    BuiltinVariable();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(40);
+                throw new ParseException(current_token.getNext(), BaseExpression_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BaseExpression");
+        }
+        catch(ParseException e) {
+            parseException14= e;
+            throw e;
+        }
+        finally {
+            if (parseException14== null) {
+                restoreCallStack(callStackSize14);
+            }
+            if (buildTree) {
+                if (parseException14== null) {
+                    closeNodeScope(BaseExpression14, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException14.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 984
+    final public void DotKey() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 984 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 986 of FEL.javacc
+        consumeToken(TokenType.DOT);
+        // Code for ExpansionChoice specified on line 987 of FEL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+            // Code for RegexpRef specified on line 987 of FEL.javacc
+            consumeToken(TokenType.IDENTIFIER);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.TIMES) {
+            // Code for RegexpRef specified on line 987 of FEL.javacc
+            consumeToken(TokenType.TIMES);
+        }
+        else {
+            pushOntoCallStack(49);
+            throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_987$column_6, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from DotKey");
+    }
+
+    // FEL.javacc, line 990
+    final public void DynamicKey() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 990 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 992 of FEL.javacc
+        consumeToken(TokenType.OPEN_BRACKET);
+        // Code for NonTerminal specified on line 992 of FEL.javacc
+        pushOntoCallStack(50);
+        try {
+            Expression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpRef specified on line 992 of FEL.javacc
+        consumeToken(TokenType.CLOSE_BRACKET);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from DynamicKey");
+    }
+
+    // FEL.javacc, line 996
+    final public void MethodInvoke() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 996 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 998 of FEL.javacc
+        consumeToken(TokenType.OPEN_PAREN);
+        // Code for ZeroOrOne specified on line 998 of FEL.javacc
+        if (resetScanAhead(1)&&first_set$FEL_javacc$line_998$column_15.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 998 of FEL.javacc
+            pushOntoCallStack(51);
+            try {
+                ArgsList();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpRef specified on line 998 of FEL.javacc
+        consumeToken(TokenType.CLOSE_PAREN);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MethodInvoke");
+    }
+
+    // FEL.javacc, line 1001
+    final public void BuiltIn() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1001 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 1003 of FEL.javacc
+        consumeToken(TokenType.BUILT_IN);
+        // Code for RegexpRef specified on line 1003 of FEL.javacc
+        consumeToken(TokenType.IDENTIFIER);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BuiltIn");
+    }
+
+    // FEL.javacc, line 1006
+    final public void Exists() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1006 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Exists15forced= false;
+        Exists Exists15= null;
+        if (buildTree) {
+            Exists15= new Exists();
+            openNodeScope(Exists15);
+        }
+        ParseException parseException15= null;
+        int callStackSize15= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1008 of FEL.javacc
+            consumeToken(TokenType.EXISTS_OPERATOR);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Exists");
+        }
+        catch(ParseException e) {
+            parseException15= e;
+            throw e;
+        }
+        finally {
+            if (parseException15== null) {
+                restoreCallStack(callStackSize15);
+            }
+            if (buildTree) {
+                if (parseException15== null) {
+                    closeNodeScope(Exists15, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException15.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1011
+    final public void ListLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1011 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ListLiteral16forced= false;
+        ListLiteral ListLiteral16= null;
+        if (buildTree) {
+            ListLiteral16= new ListLiteral();
+            openNodeScope(ListLiteral16);
+        }
+        ParseException parseException16= null;
+        int callStackSize16= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1013 of FEL.javacc
+            consumeToken(TokenType.OPEN_BRACKET);
+            // Code for ZeroOrOne specified on line 1014 of FEL.javacc
+            if (resetScanAhead(1)&&first_set$FEL_javacc$line_1014$column_5.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1014 of FEL.javacc
+                pushOntoCallStack(52);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 1014 of FEL.javacc
+                while (resetScanAhead(1)&&first_set$FEL_javacc$line_1014$column_42.contains(nextTokenType)) {
+                    // Code for ZeroOrOne specified on line 1014 of FEL.javacc
+                    if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                        // Code for RegexpRef specified on line 1014 of FEL.javacc
+                        consumeToken(TokenType.COMMA);
+                    }
+                    // Code for NonTerminal specified on line 1014 of FEL.javacc
+                    pushOntoCallStack(53);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified on line 1015 of FEL.javacc
+            consumeToken(TokenType.CLOSE_BRACKET);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ListLiteral");
+        }
+        catch(ParseException e) {
+            parseException16= e;
+            throw e;
+        }
+        finally {
+            if (parseException16== null) {
+                restoreCallStack(callStackSize16);
+            }
+            if (buildTree) {
+                if (parseException16== null) {
+                    closeNodeScope(ListLiteral16, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException16.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> StringLiteral_FIRST_SET= EnumSet.of(TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    // FEL.javacc, line 1018
+    final public void StringLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1018 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1020 of FEL.javacc
+        boolean StringLiteral17forced= false;
+        StringLiteral StringLiteral17= null;
+        if (buildTree) {
+            StringLiteral17= new StringLiteral();
+            openNodeScope(StringLiteral17);
+        }
+        ParseException parseException17= null;
+        int callStackSize17= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.STRING_LITERAL) {
+                // Code for RegexpRef specified on line 1020 of FEL.javacc
+                consumeToken(TokenType.STRING_LITERAL);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.RAW_STRING) {
+                // Code for RegexpRef specified on line 1020 of FEL.javacc
+                consumeToken(TokenType.RAW_STRING);
+            }
+            else {
+                pushOntoCallStack(54);
+                throw new ParseException(current_token.getNext(), StringLiteral_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from StringLiteral");
+        }
+        catch(ParseException e) {
+            parseException17= e;
+            throw e;
+        }
+        finally {
+            if (parseException17== null) {
+                restoreCallStack(callStackSize17);
+            }
+            if (buildTree) {
+                if (parseException17== null) {
+                    closeNodeScope(StringLiteral17, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException17.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1024
+    final public void HashLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1024 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean HashLiteral18forced= false;
+        HashLiteral HashLiteral18= null;
+        if (buildTree) {
+            HashLiteral18= new HashLiteral();
+            openNodeScope(HashLiteral18);
+        }
+        ParseException parseException18= null;
+        int callStackSize18= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1026 of FEL.javacc
+            consumeToken(TokenType.OPEN_BRACE);
+            // Code for ZeroOrOne specified on line 1027 of FEL.javacc
+            if (resetScanAhead(1)&&first_set$FEL_javacc$line_1027$column_5.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 1028 of FEL.javacc
+                pushOntoCallStack(55);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpRef specified on line 1028 of FEL.javacc
+                consumeToken(TokenType.COLON);
+                // Code for NonTerminal specified on line 1028 of FEL.javacc
+                pushOntoCallStack(56);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 1029 of FEL.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 1029 of FEL.javacc
+                    consumeToken(TokenType.COMMA);
+                    // Code for NonTerminal specified on line 1029 of FEL.javacc
+                    pushOntoCallStack(57);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpRef specified on line 1029 of FEL.javacc
+                    consumeToken(TokenType.COLON);
+                    // Code for NonTerminal specified on line 1029 of FEL.javacc
+                    pushOntoCallStack(58);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified on line 1031 of FEL.javacc
+            consumeToken(TokenType.CLOSE_BRACE);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from HashLiteral");
+        }
+        catch(ParseException e) {
+            parseException18= e;
+            throw e;
+        }
+        finally {
+            if (parseException18== null) {
+                restoreCallStack(callStackSize18);
+            }
+            if (buildTree) {
+                if (parseException18== null) {
+                    closeNodeScope(HashLiteral18, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException18.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> NumberLiteral_FIRST_SET= EnumSet.of(TokenType.INTEGER, TokenType.DECIMAL);
+    // FEL.javacc, line 1034
+    final public void NumberLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1034 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1036 of FEL.javacc
+        boolean NumberLiteral19forced= false;
+        NumberLiteral NumberLiteral19= null;
+        if (buildTree) {
+            NumberLiteral19= new NumberLiteral();
+            openNodeScope(NumberLiteral19);
+        }
+        ParseException parseException19= null;
+        int callStackSize19= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.INTEGER) {
+                // Code for RegexpRef specified on line 1036 of FEL.javacc
+                consumeToken(TokenType.INTEGER);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.DECIMAL) {
+                // Code for RegexpRef specified on line 1036 of FEL.javacc
+                consumeToken(TokenType.DECIMAL);
+            }
+            else {
+                pushOntoCallStack(59);
+                throw new ParseException(current_token.getNext(), NumberLiteral_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NumberLiteral");
+        }
+        catch(ParseException e) {
+            parseException19= e;
+            throw e;
+        }
+        finally {
+            if (parseException19== null) {
+                restoreCallStack(callStackSize19);
+            }
+            if (buildTree) {
+                if (parseException19== null) {
+                    closeNodeScope(NumberLiteral19, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException19.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> BooleanLiteral_FIRST_SET= EnumSet.of(TokenType.TRUE, TokenType.FALSE);
+    // FEL.javacc, line 1039
+    final public void BooleanLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1039 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1041 of FEL.javacc
+        boolean BooleanLiteral20forced= false;
+        BooleanLiteral BooleanLiteral20= null;
+        if (buildTree) {
+            BooleanLiteral20= new BooleanLiteral();
+            openNodeScope(BooleanLiteral20);
+        }
+        ParseException parseException20= null;
+        int callStackSize20= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE) {
+                // Code for RegexpRef specified on line 1041 of FEL.javacc
+                consumeToken(TokenType.TRUE);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.FALSE) {
+                // Code for RegexpRef specified on line 1041 of FEL.javacc
+                consumeToken(TokenType.FALSE);
+            }
+            else {
+                pushOntoCallStack(60);
+                throw new ParseException(current_token.getNext(), BooleanLiteral_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from BooleanLiteral");
+        }
+        catch(ParseException e) {
+            parseException20= e;
+            throw e;
+        }
+        finally {
+            if (parseException20== null) {
+                restoreCallStack(callStackSize20);
+            }
+            if (buildTree) {
+                if (parseException20== null) {
+                    closeNodeScope(BooleanLiteral20, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException20.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1044
+    final public void NullLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1044 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NullLiteral21forced= false;
+        NullLiteral NullLiteral21= null;
+        if (buildTree) {
+            NullLiteral21= new NullLiteral();
+            openNodeScope(NullLiteral21);
+        }
+        ParseException parseException21= null;
+        int callStackSize21= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1046 of FEL.javacc
+            consumeToken(TokenType.NULL);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NullLiteral");
+        }
+        catch(ParseException e) {
+            parseException21= e;
+            throw e;
+        }
+        finally {
+            if (parseException21== null) {
+                restoreCallStack(callStackSize21);
+            }
+            if (buildTree) {
+                if (parseException21== null) {
+                    closeNodeScope(NullLiteral21, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException21.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1049
+    final public void Parenthesis() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1049 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Parenthesis22forced= false;
+        Parenthesis Parenthesis22= null;
+        if (buildTree) {
+            Parenthesis22= new Parenthesis();
+            openNodeScope(Parenthesis22);
+        }
+        ParseException parseException22= null;
+        int callStackSize22= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1051 of FEL.javacc
+            consumeToken(TokenType.OPEN_PAREN);
+            // Code for NonTerminal specified on line 1051 of FEL.javacc
+            pushOntoCallStack(61);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 1051 of FEL.javacc
+            consumeToken(TokenType.CLOSE_PAREN);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Parenthesis");
+        }
+        catch(ParseException e) {
+            parseException22= e;
+            throw e;
+        }
+        finally {
+            if (parseException22== null) {
+                restoreCallStack(callStackSize22);
+            }
+            if (buildTree) {
+                if (parseException22== null) {
+                    closeNodeScope(Parenthesis22, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException22.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1054
+    final public void ArgsList() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1054 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 1057 of FEL.javacc
+        if (resetScanAhead(2147483647)&&check$FEL_javacc$line_1057$column_19()) {
+            // Code for NonTerminal specified on line 1058 of FEL.javacc
+            pushOntoCallStack(63);
+            try {
+                NamedArgsList();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&first_set$FEL_javacc$line_1060$column_9.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 1060 of FEL.javacc
+            pushOntoCallStack(64);
+            try {
+                PositionalArgsList();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(62);
+            throw new ParseException(current_token.getNext(), first_set$FEL_javacc$line_1057$column_9, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ArgsList");
+    }
+
+    // FEL.javacc, line 1064
+    final public void NamedArgsList() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1064 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NamedArgsList23forced= false;
+        NamedArgsList NamedArgsList23= null;
+        if (buildTree) {
+            NamedArgsList23= new NamedArgsList();
+            openNodeScope(NamedArgsList23);
+        }
+        ParseException parseException23= null;
+        int callStackSize23= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 1066 of FEL.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpRef specified on line 1067 of FEL.javacc
+            consumeToken(TokenType.EQUALS);
+            // Code for NonTerminal specified on line 1068 of FEL.javacc
+            pushOntoCallStack(65);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1074 of FEL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA||nextTokenType== TokenType.IDENTIFIER) {
+                // Code for ZeroOrOne specified on line 1070 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 1070 of FEL.javacc
+                    consumeToken(TokenType.COMMA);
+                }
+                // Code for RegexpRef specified on line 1071 of FEL.javacc
+                consumeToken(TokenType.IDENTIFIER);
+                // Code for RegexpRef specified on line 1072 of FEL.javacc
+                consumeToken(TokenType.EQUALS);
+                // Code for NonTerminal specified on line 1073 of FEL.javacc
+                pushOntoCallStack(66);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NamedArgsList");
+        }
+        catch(ParseException e) {
+            parseException23= e;
+            throw e;
+        }
+        finally {
+            if (parseException23== null) {
+                restoreCallStack(callStackSize23);
+            }
+            if (buildTree) {
+                if (parseException23== null) {
+                    closeNodeScope(NamedArgsList23, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException23.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1077
+    final public void PositionalArgsList() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 1077 of FEL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean PositionalArgsList24forced= false;
+        PositionalArgsList PositionalArgsList24= null;
+        if (buildTree) {
+            PositionalArgsList24= new PositionalArgsList();
+            openNodeScope(PositionalArgsList24);
+        }
+        ParseException parseException24= null;
+        int callStackSize24= parsingStackSize;
+        try {
+            // Code for NonTerminal specified on line 1079 of FEL.javacc
+            pushOntoCallStack(67);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 1083 of FEL.javacc
+            while (resetScanAhead(1)&&first_set$FEL_javacc$line_1083$column_6.contains(nextTokenType)) {
+                // Code for ZeroOrOne specified on line 1081 of FEL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 1081 of FEL.javacc
+                    consumeToken(TokenType.COMMA);
+                }
+                // Code for NonTerminal specified on line 1082 of FEL.javacc
+                pushOntoCallStack(68);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from PositionalArgsList");
+        }
+        catch(ParseException e) {
+            parseException24= e;
+            throw e;
+        }
+        finally {
+            if (parseException24== null) {
+                restoreCallStack(callStackSize24);
+            }
+            if (buildTree) {
+                if (parseException24== null) {
+                    closeNodeScope(PositionalArgsList24, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException24.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> IdentifierOrStringLiteral_FIRST_SET= EnumSet.of(TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    // FTL.javacc, line 386
+    final public void IdentifierOrStringLiteral() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 386 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 388 of FTL.javacc
+        boolean IdentifierOrStringLiteral25forced= false;
+        IdentifierOrStringLiteral IdentifierOrStringLiteral25= null;
+        if (buildTree) {
+            IdentifierOrStringLiteral25= new IdentifierOrStringLiteral();
+            openNodeScope(IdentifierOrStringLiteral25);
+        }
+        ParseException parseException25= null;
+        int callStackSize25= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for RegexpRef specified on line 388 of FTL.javacc
+                consumeToken(TokenType.IDENTIFIER);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.STRING_LITERAL||nextTokenType== TokenType.RAW_STRING) {
+                // Code for NonTerminal specified on line 390 of FTL.javacc
+                pushOntoCallStack(70);
+                try {
+                    StringLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(69);
+                throw new ParseException(current_token.getNext(), IdentifierOrStringLiteral_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from IdentifierOrStringLiteral");
+        }
+        catch(ParseException e) {
+            parseException25= e;
+            throw e;
+        }
+        finally {
+            if (parseException25== null) {
+                restoreCallStack(callStackSize25);
+            }
+            if (buildTree) {
+                if (parseException25== null) {
+                    closeNodeScope(IdentifierOrStringLiteral25, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException25.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 394
+    final public void Interpolation() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 394 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Interpolation26forced= false;
+        Interpolation Interpolation26= null;
+        if (buildTree) {
+            Interpolation26= new Interpolation();
+            openNodeScope(Interpolation26);
+        }
+        ParseException parseException26= null;
+        int callStackSize26= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 396 of FTL.javacc
+            consumeToken(TokenType.INTERPOLATE);
+            // Code for NonTerminal specified on line 396 of FTL.javacc
+            pushOntoCallStack(71);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 396 of FTL.javacc
+            consumeToken(TokenType.CLOSE_BRACE);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Interpolation");
+        }
+        catch(ParseException e) {
+            parseException26= e;
+            throw e;
+        }
+        finally {
+            if (parseException26== null) {
+                restoreCallStack(callStackSize26);
+            }
+            if (buildTree) {
+                if (parseException26== null) {
+                    closeNodeScope(Interpolation26, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException26.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 399
+    final public void NumericalInterpolation() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 399 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NumericalInterpolation27forced= false;
+        NumericalInterpolation NumericalInterpolation27= null;
+        if (buildTree) {
+            NumericalInterpolation27= new NumericalInterpolation();
+            openNodeScope(NumericalInterpolation27);
+        }
+        ParseException parseException27= null;
+        int callStackSize27= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 401 of FTL.javacc
+            consumeToken(TokenType.NUMERICAL_INTERPOLATE);
+            // Code for NonTerminal specified on line 401 of FTL.javacc
+            pushOntoCallStack(72);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 401 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpRef specified on line 401 of FTL.javacc
+                consumeToken(TokenType.SEMICOLON);
+                // Code for RegexpRef specified on line 401 of FTL.javacc
+                consumeToken(TokenType.IDENTIFIER);
+            }
+            // Code for RegexpRef specified on line 401 of FTL.javacc
+            consumeToken(TokenType.CLOSE_BRACE);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NumericalInterpolation");
+        }
+        catch(ParseException e) {
+            parseException27= e;
+            throw e;
+        }
+        finally {
+            if (parseException27== null) {
+                restoreCallStack(callStackSize27);
+            }
+            if (buildTree) {
+                if (parseException27== null) {
+                    closeNodeScope(NumericalInterpolation27, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException27.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 405
+    final public void Assignment() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 405 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Assignment28forced= false;
+        Assignment Assignment28= null;
+        if (buildTree) {
+            Assignment28= new Assignment();
+            openNodeScope(Assignment28);
+        }
+        ParseException parseException28= null;
+        int callStackSize28= parsingStackSize;
+        try {
+            Token t;
+            // Code for RegexpRef specified on line 410 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for ExpansionChoice specified on line 412 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.SET) {
+                // Code for RegexpRef specified on line 412 of FTL.javacc
+                t= consumeToken(TokenType.SET);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.ASSIGN) {
+                // Code for RegexpRef specified on line 413 of FTL.javacc
+                t= consumeToken(TokenType.ASSIGN);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.LOCAL) {
+                // Code for RegexpRef specified on line 414 of FTL.javacc
+                t= consumeToken(TokenType.LOCAL);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.GLOBAL) {
+                // Code for RegexpRef specified on line 415 of FTL.javacc
+                t= consumeToken(TokenType.GLOBAL);
+            }
+            else {
+                pushOntoCallStack(73);
+                throw new ParseException(current_token.getNext(), first_set$FTL_javacc$line_412$column_8, getCallStack());
+            }
+            // Code for RegexpRef specified on line 417 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 418 of FTL.javacc
+            pushOntoCallStack(74);
+            try {
+                IdentifierOrStringLiteral();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ExpansionChoice specified on line 420 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS) {
+                // Code for RegexpRef specified on line 421 of FTL.javacc
+                consumeToken(TokenType.EQUALS);
+                // Code for NonTerminal specified on line 421 of FTL.javacc
+                pushOntoCallStack(76);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 422 of FTL.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA||nextTokenType== TokenType.IDENTIFIER||nextTokenType== TokenType.STRING_LITERAL||nextTokenType== TokenType.RAW_STRING) {
+                    // Code for ZeroOrOne specified on line 422 of FTL.javacc
+                    if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                        // Code for RegexpRef specified on line 422 of FTL.javacc
+                        consumeToken(TokenType.COMMA);
+                    }
+                    // Code for NonTerminal specified on line 422 of FTL.javacc
+                    pushOntoCallStack(77);
+                    try {
+                        IdentifierOrStringLiteral();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpRef specified on line 422 of FTL.javacc
+                    consumeToken(TokenType.EQUALS);
+                    // Code for NonTerminal specified on line 422 of FTL.javacc
+                    pushOntoCallStack(78);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for ZeroOrOne specified on line 423 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.IN) {
+                    // Code for RegexpRef specified on line 423 of FTL.javacc
+                    consumeToken(TokenType.IN);
+                    // Code for NonTerminal specified on line 423 of FTL.javacc
+                    pushOntoCallStack(79);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for NonTerminal specified on line 424 of FTL.javacc
+                pushOntoCallStack(80);
+                try {
+                    LooseTagEnd();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.IN||nextTokenType== TokenType.CLOSE_TAG) {
+                // Code for ZeroOrOne specified on line 428 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.IN) {
+                    // Code for RegexpRef specified on line 428 of FTL.javacc
+                    consumeToken(TokenType.IN);
+                    // Code for NonTerminal specified on line 428 of FTL.javacc
+                    pushOntoCallStack(81);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for RegexpRef specified on line 429 of FTL.javacc
+                consumeToken(TokenType.CLOSE_TAG);
+                // Code for NonTerminal specified on line 430 of FTL.javacc
+                pushOntoCallStack(82);
+                try {
+                    Block();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for NonTerminal specified on line 431 of FTL.javacc
+                pushOntoCallStack(83);
+                try {
+                    DirectiveEnd(t.getImage());
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(75);
+                throw new ParseException(current_token.getNext(), first_set$FTL_javacc$line_420$column_7, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Assignment");
+        }
+        catch(ParseException e) {
+            parseException28= e;
+            throw e;
+        }
+        finally {
+            if (parseException28== null) {
+                restoreCallStack(callStackSize28);
+            }
+            if (buildTree) {
+                if (parseException28== null) {
+                    closeNodeScope(Assignment28, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException28.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 436
+    final public void Var() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 436 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Var29forced= false;
+        VarInstruction Var29= null;
+        if (buildTree) {
+            Var29= new VarInstruction();
+            openNodeScope(Var29);
+        }
+        ParseException parseException29= null;
+        int callStackSize29= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 438 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 438 of FTL.javacc
+            consumeToken(TokenType.VAR);
+            // Code for RegexpRef specified on line 438 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 439 of FTL.javacc
+            pushOntoCallStack(84);
+            try {
+                IdentifierOrStringLiteral();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 439 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS) {
+                // Code for RegexpRef specified on line 439 of FTL.javacc
+                consumeToken(TokenType.EQUALS);
+                // Code for NonTerminal specified on line 439 of FTL.javacc
+                pushOntoCallStack(85);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified on line 440 of FTL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA||nextTokenType== TokenType.IDENTIFIER||nextTokenType== TokenType.STRING_LITERAL||nextTokenType== TokenType.RAW_STRING) {
+                // Code for ZeroOrOne specified on line 440 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 440 of FTL.javacc
+                    consumeToken(TokenType.COMMA);
+                }
+                // Code for NonTerminal specified on line 440 of FTL.javacc
+                pushOntoCallStack(86);
+                try {
+                    IdentifierOrStringLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrOne specified on line 440 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS) {
+                    // Code for RegexpRef specified on line 440 of FTL.javacc
+                    consumeToken(TokenType.EQUALS);
+                    // Code for NonTerminal specified on line 440 of FTL.javacc
+                    pushOntoCallStack(87);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for NonTerminal specified on line 441 of FTL.javacc
+            pushOntoCallStack(88);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Var");
+        }
+        catch(ParseException e) {
+            parseException29= e;
+            throw e;
+        }
+        finally {
+            if (parseException29== null) {
+                restoreCallStack(callStackSize29);
+            }
+            if (buildTree) {
+                if (parseException29== null) {
+                    closeNodeScope(Var29, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException29.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 444
+    final public void Setting() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 444 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Setting30forced= false;
+        SettingInstruction Setting30= null;
+        if (buildTree) {
+            Setting30= new SettingInstruction();
+            openNodeScope(Setting30);
+        }
+        ParseException parseException30= null;
+        int callStackSize30= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 446 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 446 of FTL.javacc
+            consumeToken(TokenType.SETTING);
+            // Code for RegexpRef specified on line 446 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for RegexpRef specified on line 447 of FTL.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 447 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS) {
+                // Code for RegexpRef specified on line 447 of FTL.javacc
+                consumeToken(TokenType.EQUALS);
+                // Code for NonTerminal specified on line 447 of FTL.javacc
+                pushOntoCallStack(89);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified on line 448 of FTL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA||nextTokenType== TokenType.IDENTIFIER||nextTokenType== TokenType.STRING_LITERAL||nextTokenType== TokenType.RAW_STRING) {
+                // Code for ZeroOrOne specified on line 448 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 448 of FTL.javacc
+                    consumeToken(TokenType.COMMA);
+                }
+                // Code for NonTerminal specified on line 448 of FTL.javacc
+                pushOntoCallStack(90);
+                try {
+                    IdentifierOrStringLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrOne specified on line 448 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS) {
+                    // Code for RegexpRef specified on line 448 of FTL.javacc
+                    consumeToken(TokenType.EQUALS);
+                    // Code for NonTerminal specified on line 448 of FTL.javacc
+                    pushOntoCallStack(91);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for NonTerminal specified on line 449 of FTL.javacc
+            pushOntoCallStack(92);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Setting");
+        }
+        catch(ParseException e) {
+            parseException30= e;
+            throw e;
+        }
+        finally {
+            if (parseException30== null) {
+                restoreCallStack(callStackSize30);
+            }
+            if (buildTree) {
+                if (parseException30== null) {
+                    closeNodeScope(Setting30, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException30.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 452
+    final public void Attempt() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 452 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Attempt31forced= false;
+        AttemptRecover Attempt31= null;
+        if (buildTree) {
+            Attempt31= new AttemptRecover();
+            openNodeScope(Attempt31);
+        }
+        ParseException parseException31= null;
+        int callStackSize31= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 454 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 454 of FTL.javacc
+            consumeToken(TokenType._ATTEMPT);
+            // Code for RegexpRef specified on line 454 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 455 of FTL.javacc
+            pushOntoCallStack(93);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 456 of FTL.javacc
+            pushOntoCallStack(94);
+            try {
+                Recover();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Attempt");
+        }
+        catch(ParseException e) {
+            parseException31= e;
+            throw e;
+        }
+        finally {
+            if (parseException31== null) {
+                restoreCallStack(callStackSize31);
+            }
+            if (buildTree) {
+                if (parseException31== null) {
+                    closeNodeScope(Attempt31, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException31.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 459
+    final public void Comment() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 459 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Comment32forced= false;
+        CommentBlock Comment32= null;
+        if (buildTree) {
+            Comment32= new CommentBlock();
+            openNodeScope(Comment32);
+        }
+        ParseException parseException32= null;
+        int callStackSize32= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 461 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 461 of FTL.javacc
+            consumeToken(TokenType.COMMENT);
+            // Code for RegexpRef specified on line 462 of FTL.javacc
+            consumeToken(TokenType.END_COMMENT);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Comment");
+        }
+        catch(ParseException e) {
+            parseException32= e;
+            throw e;
+        }
+        finally {
+            if (parseException32== null) {
+                restoreCallStack(callStackSize32);
+            }
+            if (buildTree) {
+                if (parseException32== null) {
+                    closeNodeScope(Comment32, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException32.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 465
+    final public void NoParse() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 465 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NoParse33forced= false;
+        NoParseBlock NoParse33= null;
+        if (buildTree) {
+            NoParse33= new NoParseBlock();
+            openNodeScope(NoParse33);
+        }
+        ParseException parseException33= null;
+        int callStackSize33= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 467 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 467 of FTL.javacc
+            consumeToken(TokenType.NOPARSE);
+            // Code for RegexpRef specified on line 468 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for CodeBlock specified on line 468 of FTL.javacc
+            token_source.SwitchTo(NO_PARSE);
+            // Code for RegexpRef specified on line 469 of FTL.javacc
+            consumeToken(TokenType.NOPARSE_END);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NoParse");
+        }
+        catch(ParseException e) {
+            parseException33= e;
+            throw e;
+        }
+        finally {
+            if (parseException33== null) {
+                restoreCallStack(callStackSize33);
+            }
+            if (buildTree) {
+                if (parseException33== null) {
+                    closeNodeScope(NoParse33, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException33.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 474
+    final public void Trim() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 474 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Trim34forced= false;
+        TrimInstruction Trim34= null;
+        if (buildTree) {
+            Trim34= new TrimInstruction();
+            openNodeScope(Trim34);
+        }
+        ParseException parseException34= null;
+        int callStackSize34= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 476 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 476 of FTL.javacc
+            consumeToken(TokenType.TRIM);
+            // Code for NonTerminal specified on line 477 of FTL.javacc
+            pushOntoCallStack(95);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Trim");
+        }
+        catch(ParseException e) {
+            parseException34= e;
+            throw e;
+        }
+        finally {
+            if (parseException34== null) {
+                restoreCallStack(callStackSize34);
+            }
+            if (buildTree) {
+                if (parseException34== null) {
+                    closeNodeScope(Trim34, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException34.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 481
+    final public void NoTrim() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 481 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NoTrim35forced= false;
+        TrimInstruction NoTrim35= null;
+        if (buildTree) {
+            NoTrim35= new TrimInstruction();
+            openNodeScope(NoTrim35);
+        }
+        ParseException parseException35= null;
+        int callStackSize35= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 483 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 483 of FTL.javacc
+            consumeToken(TokenType.NOTRIM);
+            // Code for NonTerminal specified on line 484 of FTL.javacc
+            pushOntoCallStack(96);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NoTrim");
+        }
+        catch(ParseException e) {
+            parseException35= e;
+            throw e;
+        }
+        finally {
+            if (parseException35== null) {
+                restoreCallStack(callStackSize35);
+            }
+            if (buildTree) {
+                if (parseException35== null) {
+                    closeNodeScope(NoTrim35, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException35.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 488
+    final public void RightTrim() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 488 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean RightTrim36forced= false;
+        TrimInstruction RightTrim36= null;
+        if (buildTree) {
+            RightTrim36= new TrimInstruction();
+            openNodeScope(RightTrim36);
+        }
+        ParseException parseException36= null;
+        int callStackSize36= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 490 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 490 of FTL.javacc
+            consumeToken(TokenType.RTRIM);
+            // Code for NonTerminal specified on line 491 of FTL.javacc
+            pushOntoCallStack(97);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from RightTrim");
+        }
+        catch(ParseException e) {
+            parseException36= e;
+            throw e;
+        }
+        finally {
+            if (parseException36== null) {
+                restoreCallStack(callStackSize36);
+            }
+            if (buildTree) {
+                if (parseException36== null) {
+                    closeNodeScope(RightTrim36, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException36.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 495
+    final public void LeftTrim() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 495 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean LeftTrim37forced= false;
+        TrimInstruction LeftTrim37= null;
+        if (buildTree) {
+            LeftTrim37= new TrimInstruction();
+            openNodeScope(LeftTrim37);
+        }
+        ParseException parseException37= null;
+        int callStackSize37= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 497 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 497 of FTL.javacc
+            consumeToken(TokenType.LTRIM);
+            // Code for NonTerminal specified on line 498 of FTL.javacc
+            pushOntoCallStack(98);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from LeftTrim");
+        }
+        catch(ParseException e) {
+            parseException37= e;
+            throw e;
+        }
+        finally {
+            if (parseException37== null) {
+                restoreCallStack(callStackSize37);
+            }
+            if (buildTree) {
+                if (parseException37== null) {
+                    closeNodeScope(LeftTrim37, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException37.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 501
+    final public void Break() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 501 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Break38forced= false;
+        BreakInstruction Break38= null;
+        if (buildTree) {
+            Break38= new BreakInstruction();
+            openNodeScope(Break38);
+        }
+        ParseException parseException38= null;
+        int callStackSize38= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 503 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 504 of FTL.javacc
+            consumeToken(TokenType.BREAK);
+            // Code for NonTerminal specified on line 505 of FTL.javacc
+            pushOntoCallStack(99);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Break");
+        }
+        catch(ParseException e) {
+            parseException38= e;
+            throw e;
+        }
+        finally {
+            if (parseException38== null) {
+                restoreCallStack(callStackSize38);
+            }
+            if (buildTree) {
+                if (parseException38== null) {
+                    closeNodeScope(Break38, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException38.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 508
+    final public void Flush() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 508 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Flush39forced= false;
+        FlushInstruction Flush39= null;
+        if (buildTree) {
+            Flush39= new FlushInstruction();
+            openNodeScope(Flush39);
+        }
+        ParseException parseException39= null;
+        int callStackSize39= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 510 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 510 of FTL.javacc
+            consumeToken(TokenType.FLUSH);
+            // Code for NonTerminal specified on line 510 of FTL.javacc
+            pushOntoCallStack(100);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Flush");
+        }
+        catch(ParseException e) {
+            parseException39= e;
+            throw e;
+        }
+        finally {
+            if (parseException39== null) {
+                restoreCallStack(callStackSize39);
+            }
+            if (buildTree) {
+                if (parseException39== null) {
+                    closeNodeScope(Flush39, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException39.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 513
+    final public void Return() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 513 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Return40forced= false;
+        ReturnInstruction Return40= null;
+        if (buildTree) {
+            Return40= new ReturnInstruction();
+            openNodeScope(Return40);
+        }
+        ParseException parseException40= null;
+        int callStackSize40= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 515 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 515 of FTL.javacc
+            consumeToken(TokenType.RETURN);
+            // Code for ZeroOrOne specified on line 516 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.BLANK) {
+                // Code for RegexpRef specified on line 516 of FTL.javacc
+                consumeToken(TokenType.BLANK);
+                // Code for NonTerminal specified on line 516 of FTL.javacc
+                pushOntoCallStack(101);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 517 of FTL.javacc
+            pushOntoCallStack(102);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Return");
+        }
+        catch(ParseException e) {
+            parseException40= e;
+            throw e;
+        }
+        finally {
+            if (parseException40== null) {
+                restoreCallStack(callStackSize40);
+            }
+            if (buildTree) {
+                if (parseException40== null) {
+                    closeNodeScope(Return40, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException40.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 520
+    final public void Stop() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 520 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Stop41forced= false;
+        StopInstruction Stop41= null;
+        if (buildTree) {
+            Stop41= new StopInstruction();
+            openNodeScope(Stop41);
+        }
+        ParseException parseException41= null;
+        int callStackSize41= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 522 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 522 of FTL.javacc
+            consumeToken(TokenType.STOP);
+            // Code for ZeroOrOne specified on line 523 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.BLANK) {
+                // Code for RegexpRef specified on line 523 of FTL.javacc
+                consumeToken(TokenType.BLANK);
+                // Code for NonTerminal specified on line 523 of FTL.javacc
+                pushOntoCallStack(103);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 524 of FTL.javacc
+            pushOntoCallStack(104);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Stop");
+        }
+        catch(ParseException e) {
+            parseException41= e;
+            throw e;
+        }
+        finally {
+            if (parseException41== null) {
+                restoreCallStack(callStackSize41);
+            }
+            if (buildTree) {
+                if (parseException41== null) {
+                    closeNodeScope(Stop41, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException41.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 528
+    final public void Compress() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 528 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Compress42forced= false;
+        CompressBlock Compress42= null;
+        if (buildTree) {
+            Compress42= new CompressBlock();
+            openNodeScope(Compress42);
+        }
+        ParseException parseException42= null;
+        int callStackSize42= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 530 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 530 of FTL.javacc
+            consumeToken(TokenType.COMPRESS);
+            // Code for RegexpRef specified on line 530 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 531 of FTL.javacc
+            pushOntoCallStack(105);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 532 of FTL.javacc
+            pushOntoCallStack(106);
+            try {
+                DirectiveEnd("compress");
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Compress");
+        }
+        catch(ParseException e) {
+            parseException42= e;
+            throw e;
+        }
+        finally {
+            if (parseException42== null) {
+                restoreCallStack(callStackSize42);
+            }
+            if (buildTree) {
+                if (parseException42== null) {
+                    closeNodeScope(Compress42, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException42.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 535
+    final public void TrimBlock() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 535 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean TrimBlock43forced= false;
+        TrimBlock TrimBlock43= null;
+        if (buildTree) {
+            TrimBlock43= new TrimBlock();
+            openNodeScope(TrimBlock43);
+        }
+        ParseException parseException43= null;
+        int callStackSize43= parsingStackSize;
+        try {
+            String closeTag;
+            // Code for RegexpRef specified on line 540 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for ExpansionChoice specified on line 542 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.BLOCKTRIM) {
+                // Code for RegexpRef specified on line 542 of FTL.javacc
+                consumeToken(TokenType.BLOCKTRIM);
+                // Code for CodeBlock specified on line 542 of FTL.javacc
+                closeTag= "t_lines";
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.BLOCKTRIML) {
+                // Code for RegexpRef specified on line 544 of FTL.javacc
+                consumeToken(TokenType.BLOCKTRIML);
+                // Code for CodeBlock specified on line 544 of FTL.javacc
+                closeTag= "lt_lines";
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.BLOCKTRIMR) {
+                // Code for RegexpRef specified on line 546 of FTL.javacc
+                consumeToken(TokenType.BLOCKTRIMR);
+                // Code for CodeBlock specified on line 546 of FTL.javacc
+                closeTag= "rt_lines";
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.BLOCKNOTRIM) {
+                // Code for RegexpRef specified on line 548 of FTL.javacc
+                consumeToken(TokenType.BLOCKNOTRIM);
+                // Code for CodeBlock specified on line 548 of FTL.javacc
+                closeTag= "nt_lines";
+            }
+            else {
+                pushOntoCallStack(107);
+                throw new ParseException(current_token.getNext(), first_set$FTL_javacc$line_542$column_9, getCallStack());
+            }
+            // Code for RegexpRef specified on line 550 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 551 of FTL.javacc
+            pushOntoCallStack(108);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 552 of FTL.javacc
+            pushOntoCallStack(109);
+            try {
+                DirectiveEnd(closeTag);
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from TrimBlock");
+        }
+        catch(ParseException e) {
+            parseException43= e;
+            throw e;
+        }
+        finally {
+            if (parseException43== null) {
+                restoreCallStack(callStackSize43);
+            }
+            if (buildTree) {
+                if (parseException43== null) {
+                    closeNodeScope(TrimBlock43, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException43.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 555
+    final public void NoEscapeBlock() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 555 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean NoEscapeBlock44forced= false;
+        NoEscapeBlock NoEscapeBlock44= null;
+        if (buildTree) {
+            NoEscapeBlock44= new NoEscapeBlock();
+            openNodeScope(NoEscapeBlock44);
+        }
+        ParseException parseException44= null;
+        int callStackSize44= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 557 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 557 of FTL.javacc
+            consumeToken(TokenType.NOESCAPE);
+            // Code for RegexpRef specified on line 557 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 558 of FTL.javacc
+            pushOntoCallStack(110);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 559 of FTL.javacc
+            pushOntoCallStack(111);
+            try {
+                DirectiveEnd("noescape");
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from NoEscapeBlock");
+        }
+        catch(ParseException e) {
+            parseException44= e;
+            throw e;
+        }
+        finally {
+            if (parseException44== null) {
+                restoreCallStack(callStackSize44);
+            }
+            if (buildTree) {
+                if (parseException44== null) {
+                    closeNodeScope(NoEscapeBlock44, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException44.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 562
+    final public void EscapeBlock() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 562 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean EscapeBlock45forced= false;
+        EscapeBlock EscapeBlock45= null;
+        if (buildTree) {
+            EscapeBlock45= new EscapeBlock();
+            openNodeScope(EscapeBlock45);
+        }
+        ParseException parseException45= null;
+        int callStackSize45= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 564 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 565 of FTL.javacc
+            consumeToken(TokenType.ESCAPE);
+            // Code for RegexpRef specified on line 566 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for RegexpRef specified on line 567 of FTL.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpRef specified on line 568 of FTL.javacc
+            consumeToken(TokenType.AS);
+            // Code for NonTerminal specified on line 569 of FTL.javacc
+            pushOntoCallStack(112);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 570 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 571 of FTL.javacc
+            pushOntoCallStack(113);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 572 of FTL.javacc
+            pushOntoCallStack(114);
+            try {
+                DirectiveEnd("escape");
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from EscapeBlock");
+        }
+        catch(ParseException e) {
+            parseException45= e;
+            throw e;
+        }
+        finally {
+            if (parseException45== null) {
+                restoreCallStack(callStackSize45);
+            }
+            if (buildTree) {
+                if (parseException45== null) {
+                    closeNodeScope(EscapeBlock45, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException45.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 575
+    final public void Include() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 575 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Include46forced= false;
+        IncludeInstruction Include46= null;
+        if (buildTree) {
+            Include46= new IncludeInstruction();
+            openNodeScope(Include46);
+        }
+        ParseException parseException46= null;
+        int callStackSize46= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 577 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 577 of FTL.javacc
+            consumeToken(TokenType._INCLUDE);
+            // Code for RegexpRef specified on line 577 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 578 of FTL.javacc
+            pushOntoCallStack(115);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 579 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpRef specified on line 579 of FTL.javacc
+                consumeToken(TokenType.SEMICOLON);
+            }
+            // Code for ZeroOrMore specified on line 580 of FTL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for RegexpRef specified on line 580 of FTL.javacc
+                consumeToken(TokenType.IDENTIFIER);
+                // Code for RegexpRef specified on line 580 of FTL.javacc
+                consumeToken(TokenType.EQUALS);
+                // Code for NonTerminal specified on line 580 of FTL.javacc
+                pushOntoCallStack(116);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 581 of FTL.javacc
+            pushOntoCallStack(117);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Include");
+        }
+        catch(ParseException e) {
+            parseException46= e;
+            throw e;
+        }
+        finally {
+            if (parseException46== null) {
+                restoreCallStack(callStackSize46);
+            }
+            if (buildTree) {
+                if (parseException46== null) {
+                    closeNodeScope(Include46, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException46.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 584
+    final public void Embed() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 584 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Embed47forced= false;
+        EmbedInstruction Embed47= null;
+        if (buildTree) {
+            Embed47= new EmbedInstruction();
+            openNodeScope(Embed47);
+        }
+        ParseException parseException47= null;
+        int callStackSize47= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 586 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 586 of FTL.javacc
+            consumeToken(TokenType.EMBED);
+            // Code for RegexpRef specified on line 586 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 587 of FTL.javacc
+            pushOntoCallStack(118);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 588 of FTL.javacc
+            pushOntoCallStack(119);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Embed");
+        }
+        catch(ParseException e) {
+            parseException47= e;
+            throw e;
+        }
+        finally {
+            if (parseException47== null) {
+                restoreCallStack(callStackSize47);
+            }
+            if (buildTree) {
+                if (parseException47== null) {
+                    closeNodeScope(Embed47, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException47.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 591
+    final public void Import() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 591 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Import48forced= false;
+        ImportInstruction Import48= null;
+        if (buildTree) {
+            Import48= new ImportInstruction();
+            openNodeScope(Import48);
+        }
+        ParseException parseException48= null;
+        int callStackSize48= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 593 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 593 of FTL.javacc
+            consumeToken(TokenType.IMPORT);
+            // Code for RegexpRef specified on line 593 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 594 of FTL.javacc
+            pushOntoCallStack(120);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 595 of FTL.javacc
+            consumeToken(TokenType.AS);
+            // Code for RegexpRef specified on line 596 of FTL.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for NonTerminal specified on line 597 of FTL.javacc
+            pushOntoCallStack(121);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Import");
+        }
+        catch(ParseException e) {
+            parseException48= e;
+            throw e;
+        }
+        finally {
+            if (parseException48== null) {
+                restoreCallStack(callStackSize48);
+            }
+            if (buildTree) {
+                if (parseException48== null) {
+                    closeNodeScope(Import48, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException48.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 600
+    final public void Visit() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 600 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Visit49forced= false;
+        VisitInstruction Visit49= null;
+        if (buildTree) {
+            Visit49= new VisitInstruction();
+            openNodeScope(Visit49);
+        }
+        ParseException parseException49= null;
+        int callStackSize49= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 602 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 603 of FTL.javacc
+            consumeToken(TokenType.VISIT);
+            // Code for RegexpRef specified on line 604 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 605 of FTL.javacc
+            pushOntoCallStack(122);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 606 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.USING) {
+                // Code for RegexpRef specified on line 607 of FTL.javacc
+                consumeToken(TokenType.USING);
+                // Code for NonTerminal specified on line 608 of FTL.javacc
+                pushOntoCallStack(123);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified on line 612 of FTL.javacc
+                while (resetScanAhead(1)&&first_set$FTL_javacc$line_612$column_9.contains(nextTokenType)) {
+                    // Code for ZeroOrOne specified on line 610 of FTL.javacc
+                    if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                        // Code for RegexpRef specified on line 610 of FTL.javacc
+                        consumeToken(TokenType.COMMA);
+                    }
+                    // Code for NonTerminal specified on line 611 of FTL.javacc
+                    pushOntoCallStack(124);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for NonTerminal specified on line 614 of FTL.javacc
+            pushOntoCallStack(125);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Visit");
+        }
+        catch(ParseException e) {
+            parseException49= e;
+            throw e;
+        }
+        finally {
+            if (parseException49== null) {
+                restoreCallStack(callStackSize49);
+            }
+            if (buildTree) {
+                if (parseException49== null) {
+                    closeNodeScope(Visit49, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException49.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 617
+    final public void Recurse() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 617 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Recurse50forced= false;
+        RecurseInstruction Recurse50= null;
+        if (buildTree) {
+            Recurse50= new RecurseInstruction();
+            openNodeScope(Recurse50);
+        }
+        ParseException parseException50= null;
+        int callStackSize50= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 619 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 619 of FTL.javacc
+            consumeToken(TokenType.RECURSE);
+            // Code for ExpansionChoice specified on line 621 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.CLOSE_TAG||nextTokenType== TokenType.CLOSE_EMPTY_TAG) {
+                // Code for NonTerminal specified on line 621 of FTL.javacc
+                pushOntoCallStack(127);
+                try {
+                    LooseTagEnd();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.BLANK) {
+                // Code for RegexpRef specified on line 624 of FTL.javacc
+                consumeToken(TokenType.BLANK);
+                // Code for ZeroOrOne specified on line 625 of FTL.javacc
+                if (resetScanAhead(1)&&first_set$FTL_javacc$line_625$column_11.contains(nextTokenType)) {
+                    // Code for NonTerminal specified on line 625 of FTL.javacc
+                    pushOntoCallStack(128);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for ZeroOrOne specified on line 626 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.USING) {
+                    // Code for RegexpRef specified on line 626 of FTL.javacc
+                    consumeToken(TokenType.USING);
+                    // Code for NonTerminal specified on line 627 of FTL.javacc
+                    pushOntoCallStack(129);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for ZeroOrMore specified on line 628 of FTL.javacc
+                    while (resetScanAhead(1)&&first_set$FTL_javacc$line_628$column_37.contains(nextTokenType)) {
+                        // Code for ZeroOrOne specified on line 628 of FTL.javacc
+                        if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                            // Code for RegexpRef specified on line 628 of FTL.javacc
+                            consumeToken(TokenType.COMMA);
+                        }
+                        // Code for NonTerminal specified on line 628 of FTL.javacc
+                        pushOntoCallStack(130);
+                        try {
+                            Expression();
+                        }
+                        finally {
+                            popCallStack();
+                        }
+                    }
+                }
+                // Code for NonTerminal specified on line 630 of FTL.javacc
+                pushOntoCallStack(131);
+                try {
+                    LooseTagEnd();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(126);
+                throw new ParseException(current_token.getNext(), first_set$FTL_javacc$line_621$column_8, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Recurse");
+        }
+        catch(ParseException e) {
+            parseException50= e;
+            throw e;
+        }
+        finally {
+            if (parseException50== null) {
+                restoreCallStack(callStackSize50);
+            }
+            if (buildTree) {
+                if (parseException50== null) {
+                    closeNodeScope(Recurse50, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException50.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 635
+    final public void FallBack() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 635 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean FallBack51forced= false;
+        FallBackInstruction FallBack51= null;
+        if (buildTree) {
+            FallBack51= new FallBackInstruction();
+            openNodeScope(FallBack51);
+        }
+        ParseException parseException51= null;
+        int callStackSize51= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 637 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 638 of FTL.javacc
+            consumeToken(TokenType.FALLBACK);
+            // Code for NonTerminal specified on line 639 of FTL.javacc
+            pushOntoCallStack(132);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from FallBack");
+        }
+        catch(ParseException e) {
+            parseException51= e;
+            throw e;
+        }
+        finally {
+            if (parseException51== null) {
+                restoreCallStack(callStackSize51);
+            }
+            if (buildTree) {
+                if (parseException51== null) {
+                    closeNodeScope(FallBack51, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException51.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 642
+    final public void If() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 642 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean If52forced= false;
+        IfStatement If52= null;
+        if (buildTree) {
+            If52= new IfStatement();
+            openNodeScope(If52);
+        }
+        ParseException parseException52= null;
+        int callStackSize52= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 644 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 644 of FTL.javacc
+            consumeToken(TokenType.IF);
+            // Code for RegexpRef specified on line 644 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 645 of FTL.javacc
+            pushOntoCallStack(133);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 646 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 647 of FTL.javacc
+            pushOntoCallStack(134);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 650 of FTL.javacc
+            while (resetScanAhead(2)&&check$FTL_javacc$line_649$column_8()) {
+                // Code for NonTerminal specified on line 649 of FTL.javacc
+                pushOntoCallStack(135);
+                try {
+                    ElseIf();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified on line 651 of FTL.javacc
+            if (resetScanAhead(2)&&check$FTL_javacc$line_652$column_8()) {
+                // Code for NonTerminal specified on line 652 of FTL.javacc
+                pushOntoCallStack(136);
+                try {
+                    Else();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 654 of FTL.javacc
+            pushOntoCallStack(137);
+            try {
+                DirectiveEnd("if");
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from If");
+        }
+        catch(ParseException e) {
+            parseException52= e;
+            throw e;
+        }
+        finally {
+            if (parseException52== null) {
+                restoreCallStack(callStackSize52);
+            }
+            if (buildTree) {
+                if (parseException52== null) {
+                    closeNodeScope(If52, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException52.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 657
+    final public void ElseIf() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 657 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ElseIf53forced= false;
+        ElseIfBlock ElseIf53= null;
+        if (buildTree) {
+            ElseIf53= new ElseIfBlock();
+            openNodeScope(ElseIf53);
+        }
+        ParseException parseException53= null;
+        int callStackSize53= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 659 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 659 of FTL.javacc
+            consumeToken(TokenType.ELSEIF);
+            // Code for RegexpRef specified on line 659 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 660 of FTL.javacc
+            pushOntoCallStack(138);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 661 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 662 of FTL.javacc
+            pushOntoCallStack(139);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ElseIf");
+        }
+        catch(ParseException e) {
+            parseException53= e;
+            throw e;
+        }
+        finally {
+            if (parseException53== null) {
+                restoreCallStack(callStackSize53);
+            }
+            if (buildTree) {
+                if (parseException53== null) {
+                    closeNodeScope(ElseIf53, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException53.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 665
+    final public void Else() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 665 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Else54forced= false;
+        ElseBlock Else54= null;
+        if (buildTree) {
+            Else54= new ElseBlock();
+            openNodeScope(Else54);
+        }
+        ParseException parseException54= null;
+        int callStackSize54= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 667 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 667 of FTL.javacc
+            consumeToken(TokenType.ELSE);
+            // Code for RegexpRef specified on line 667 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 668 of FTL.javacc
+            pushOntoCallStack(140);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Else");
+        }
+        catch(ParseException e) {
+            parseException54= e;
+            throw e;
+        }
+        finally {
+            if (parseException54== null) {
+                restoreCallStack(callStackSize54);
+            }
+            if (buildTree) {
+                if (parseException54== null) {
+                    closeNodeScope(Else54, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException54.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 671
+    final public void Switch() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 671 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Switch55forced= false;
+        SwitchInstruction Switch55= null;
+        if (buildTree) {
+            Switch55= new SwitchInstruction();
+            openNodeScope(Switch55);
+        }
+        ParseException parseException55= null;
+        int callStackSize55= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 673 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 673 of FTL.javacc
+            consumeToken(TokenType.SWITCH);
+            // Code for RegexpRef specified on line 673 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 674 of FTL.javacc
+            pushOntoCallStack(141);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 675 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for ZeroOrOne specified on line 676 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.WHITESPACE) {
+                // Code for RegexpRef specified on line 676 of FTL.javacc
+                consumeToken(TokenType.WHITESPACE);
+            }
+            // Code for ZeroOrMore specified on line 679 of FTL.javacc
+            while (resetScanAhead(2)&&check$FTL_javacc$line_678$column_6()) {
+                // Code for NonTerminal specified on line 678 of FTL.javacc
+                pushOntoCallStack(142);
+                try {
+                    Case();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified on line 680 of FTL.javacc
+            if (resetScanAhead(2)&&check$FTL_javacc$line_681$column_6()) {
+                // Code for NonTerminal specified on line 681 of FTL.javacc
+                pushOntoCallStack(143);
+                try {
+                    Default();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 683 of FTL.javacc
+            pushOntoCallStack(144);
+            try {
+                DirectiveEnd("switch");
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Switch");
+        }
+        catch(ParseException e) {
+            parseException55= e;
+            throw e;
+        }
+        finally {
+            if (parseException55== null) {
+                restoreCallStack(callStackSize55);
+            }
+            if (buildTree) {
+                if (parseException55== null) {
+                    closeNodeScope(Switch55, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException55.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 686
+    final public void Case() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 686 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Case56forced= false;
+        CaseInstruction Case56= null;
+        if (buildTree) {
+            Case56= new CaseInstruction();
+            openNodeScope(Case56);
+        }
+        ParseException parseException56= null;
+        int callStackSize56= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 688 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 688 of FTL.javacc
+            consumeToken(TokenType.CASE);
+            // Code for RegexpRef specified on line 688 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 689 of FTL.javacc
+            pushOntoCallStack(145);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 689 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 689 of FTL.javacc
+            pushOntoCallStack(146);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Case");
+        }
+        catch(ParseException e) {
+            parseException56= e;
+            throw e;
+        }
+        finally {
+            if (parseException56== null) {
+                restoreCallStack(callStackSize56);
+            }
+            if (buildTree) {
+                if (parseException56== null) {
+                    closeNodeScope(Case56, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException56.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 692
+    final public void Default() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 692 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Default57forced= false;
+        DefaultInstruction Default57= null;
+        if (buildTree) {
+            Default57= new DefaultInstruction();
+            openNodeScope(Default57);
+        }
+        ParseException parseException57= null;
+        int callStackSize57= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 694 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 694 of FTL.javacc
+            consumeToken(TokenType.DEFAUL);
+            // Code for RegexpRef specified on line 694 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 695 of FTL.javacc
+            pushOntoCallStack(147);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Default");
+        }
+        catch(ParseException e) {
+            parseException57= e;
+            throw e;
+        }
+        finally {
+            if (parseException57== null) {
+                restoreCallStack(callStackSize57);
+            }
+            if (buildTree) {
+                if (parseException57== null) {
+                    closeNodeScope(Default57, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException57.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 698
+    final public void List() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 698 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean List58forced= false;
+        ListInstruction List58= null;
+        if (buildTree) {
+            List58= new ListInstruction();
+            openNodeScope(List58);
+        }
+        ParseException parseException58= null;
+        int callStackSize58= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 700 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 700 of FTL.javacc
+            consumeToken(TokenType.LIST);
+            // Code for RegexpRef specified on line 700 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 701 of FTL.javacc
+            pushOntoCallStack(148);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 702 of FTL.javacc
+            consumeToken(TokenType.AS);
+            // Code for RegexpRef specified on line 703 of FTL.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpRef specified on line 704 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 705 of FTL.javacc
+            pushOntoCallStack(149);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 706 of FTL.javacc
+            pushOntoCallStack(150);
+            try {
+                DirectiveEnd("list");
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from List");
+        }
+        catch(ParseException e) {
+            parseException58= e;
+            throw e;
+        }
+        finally {
+            if (parseException58== null) {
+                restoreCallStack(callStackSize58);
+            }
+            if (buildTree) {
+                if (parseException58== null) {
+                    closeNodeScope(List58, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException58.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 709
+    final public void ForEach() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 709 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ForEach59forced= false;
+        ForEachInstruction ForEach59= null;
+        if (buildTree) {
+            ForEach59= new ForEachInstruction();
+            openNodeScope(ForEach59);
+        }
+        ParseException parseException59= null;
+        int callStackSize59= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 711 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 711 of FTL.javacc
+            consumeToken(TokenType.FOREACH);
+            // Code for RegexpRef specified on line 711 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for RegexpRef specified on line 712 of FTL.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for RegexpRef specified on line 713 of FTL.javacc
+            consumeToken(TokenType.IN);
+            // Code for NonTerminal specified on line 714 of FTL.javacc
+            pushOntoCallStack(151);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified on line 715 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 716 of FTL.javacc
+            pushOntoCallStack(152);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 717 of FTL.javacc
+            pushOntoCallStack(153);
+            try {
+                DirectiveEnd("foreach");
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ForEach");
+        }
+        catch(ParseException e) {
+            parseException59= e;
+            throw e;
+        }
+        finally {
+            if (parseException59== null) {
+                restoreCallStack(callStackSize59);
+            }
+            if (buildTree) {
+                if (parseException59== null) {
+                    closeNodeScope(ForEach59, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException59.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 720
+    final public void Nested() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 720 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Nested60forced= false;
+        NestedInstruction Nested60= null;
+        if (buildTree) {
+            Nested60= new NestedInstruction();
+            openNodeScope(Nested60);
+        }
+        ParseException parseException60= null;
+        int callStackSize60= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 722 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 722 of FTL.javacc
+            consumeToken(TokenType.NESTED);
+            // Code for ZeroOrOne specified on line 723 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.BLANK) {
+                // Code for RegexpRef specified on line 723 of FTL.javacc
+                consumeToken(TokenType.BLANK);
+                // Code for NonTerminal specified on line 723 of FTL.javacc
+                pushOntoCallStack(154);
+                try {
+                    PositionalArgsList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified on line 724 of FTL.javacc
+            pushOntoCallStack(155);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Nested");
+        }
+        catch(ParseException e) {
+            parseException60= e;
+            throw e;
+        }
+        finally {
+            if (parseException60== null) {
+                restoreCallStack(callStackSize60);
+            }
+            if (buildTree) {
+                if (parseException60== null) {
+                    closeNodeScope(Nested60, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException60.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 727
+    final public void MacroDefinition() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 727 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean MacroDefinition61forced= false;
+        MacroDefinition MacroDefinition61= null;
+        if (buildTree) {
+            MacroDefinition61= new MacroDefinition();
+            openNodeScope(MacroDefinition61);
+        }
+        ParseException parseException61= null;
+        int callStackSize61= parsingStackSize;
+        try {
+            Token t;
+            // Code for RegexpRef specified on line 732 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for ExpansionChoice specified on line 734 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.MACRO) {
+                // Code for RegexpRef specified on line 734 of FTL.javacc
+                t= consumeToken(TokenType.MACRO);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.FUNCTION) {
+                // Code for RegexpRef specified on line 736 of FTL.javacc
+                t= consumeToken(TokenType.FUNCTION);
+            }
+            else {
+                pushOntoCallStack(156);
+                throw new ParseException(current_token.getNext(), first_set$FTL_javacc$line_734$column_7, getCallStack());
+            }
+            // Code for RegexpRef specified on line 738 of FTL.javacc
+            consumeToken(TokenType.BLANK);
+            // Code for NonTerminal specified on line 739 of FTL.javacc
+            pushOntoCallStack(157);
+            try {
+                IdentifierOrStringLiteral();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified on line 740 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.OPEN_PAREN) {
+                // Code for RegexpRef specified on line 740 of FTL.javacc
+                consumeToken(TokenType.OPEN_PAREN);
+            }
+            // Code for ZeroOrOne specified on line 741 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                // Code for NonTerminal specified on line 741 of FTL.javacc
+                pushOntoCallStack(158);
+                try {
+                    ParameterList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified on line 742 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.CLOSE_PAREN) {
+                // Code for RegexpRef specified on line 742 of FTL.javacc
+                consumeToken(TokenType.CLOSE_PAREN);
+            }
+            // Code for RegexpRef specified on line 743 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 744 of FTL.javacc
+            pushOntoCallStack(159);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 745 of FTL.javacc
+            pushOntoCallStack(160);
+            try {
+                DirectiveEnd(t.getImage());
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from MacroDefinition");
+        }
+        catch(ParseException e) {
+            parseException61= e;
+            throw e;
+        }
+        finally {
+            if (parseException61== null) {
+                restoreCallStack(callStackSize61);
+            }
+            if (buildTree) {
+                if (parseException61== null) {
+                    closeNodeScope(MacroDefinition61, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException61.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 748
+    final public void ParameterList() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 748 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean ParameterList62forced= false;
+        ParameterList ParameterList62= null;
+        if (buildTree) {
+            ParameterList62= new ParameterList();
+            openNodeScope(ParameterList62);
+        }
+        ParseException parseException62= null;
+        int callStackSize62= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 753 of FTL.javacc
+            consumeToken(TokenType.IDENTIFIER);
+            // Code for ZeroOrOne specified on line 754 of FTL.javacc
+            // Code for ExpansionChoice specified on line 754 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS) {
+                // Code for RegexpRef specified on line 754 of FTL.javacc
+                consumeToken(TokenType.EQUALS);
+                // Code for NonTerminal specified on line 754 of FTL.javacc
+                pushOntoCallStack(161);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.ELLIPSIS) {
+                // Code for RegexpRef specified on line 754 of FTL.javacc
+                consumeToken(TokenType.ELLIPSIS);
+            }
+            // Code for ZeroOrMore specified on line 763 of FTL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType.COMMA||nextTokenType== TokenType.IDENTIFIER) {
+                // Code for ZeroOrOne specified on line 756 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.COMMA) {
+                    // Code for RegexpRef specified on line 756 of FTL.javacc
+                    consumeToken(TokenType.COMMA);
+                }
+                // Code for RegexpRef specified on line 757 of FTL.javacc
+                consumeToken(TokenType.IDENTIFIER);
+                // Code for ZeroOrOne specified on line 758 of FTL.javacc
+                // Code for ExpansionChoice specified on line 759 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.EQUALS) {
+                    // Code for RegexpRef specified on line 759 of FTL.javacc
+                    consumeToken(TokenType.EQUALS);
+                    // Code for NonTerminal specified on line 759 of FTL.javacc
+                    pushOntoCallStack(162);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.ELLIPSIS) {
+                    // Code for RegexpRef specified on line 761 of FTL.javacc
+                    consumeToken(TokenType.ELLIPSIS);
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from ParameterList");
+        }
+        catch(ParseException e) {
+            parseException62= e;
+            throw e;
+        }
+        finally {
+            if (parseException62== null) {
+                restoreCallStack(callStackSize62);
+            }
+            if (buildTree) {
+                if (parseException62== null) {
+                    closeNodeScope(ParameterList62, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException62.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> LooseTagEnd_FIRST_SET= EnumSet.of(TokenType.CLOSE_TAG, TokenType.CLOSE_EMPTY_TAG);
+    // FTL.javacc, line 767
+    final public void LooseTagEnd() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 767 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 769 of FTL.javacc
+        boolean LooseTagEnd63forced= false;
+        LooseTagEnd LooseTagEnd63= null;
+        if (buildTree) {
+            LooseTagEnd63= new LooseTagEnd();
+            openNodeScope(LooseTagEnd63);
+        }
+        ParseException parseException63= null;
+        int callStackSize63= parsingStackSize;
+        try {
+            if (resetScanAhead(1)&&nextTokenType== TokenType.CLOSE_TAG) {
+                // Code for RegexpRef specified on line 769 of FTL.javacc
+                consumeToken(TokenType.CLOSE_TAG);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.CLOSE_EMPTY_TAG) {
+                // Code for RegexpRef specified on line 771 of FTL.javacc
+                consumeToken(TokenType.CLOSE_EMPTY_TAG);
+            }
+            else {
+                pushOntoCallStack(163);
+                throw new ParseException(current_token.getNext(), LooseTagEnd_FIRST_SET, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from LooseTagEnd");
+        }
+        catch(ParseException e) {
+            parseException63= e;
+            throw e;
+        }
+        finally {
+            if (parseException63== null) {
+                restoreCallStack(callStackSize63);
+            }
+            if (buildTree) {
+                if (parseException63== null) {
+                    closeNodeScope(LooseTagEnd63, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException63.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 774
+    final public void DirectiveEnd(String name) throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 774 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean DirectiveEnd64forced= false;
+        DirectiveEnd DirectiveEnd64= null;
+        if (buildTree) {
+            DirectiveEnd64= new DirectiveEnd();
+            openNodeScope(DirectiveEnd64);
+        }
+        ParseException parseException64= null;
+        int callStackSize64= parsingStackSize;
+        try {
+            Token t;
+            // Code for RegexpRef specified on line 779 of FTL.javacc
+            t= consumeToken(TokenType.END_DIRECTIVE);
+            // Code for CodeBlock specified on line 780 of FTL.javacc
+            String tag= t.getImage();
+            tag= tag.substring(3);
+            tag= tag.substring(0, tag.length()-1).trim();
+            if (tag.length()!=0&&!name.equals(tag)) {
+                throw new ParseException("Expecting closing tag for "+name);
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from DirectiveEnd");
+        }
+        catch(ParseException e) {
+            parseException64= e;
+            throw e;
+        }
+        finally {
+            if (parseException64== null) {
+                restoreCallStack(callStackSize64);
+            }
+            if (buildTree) {
+                if (parseException64== null) {
+                    closeNodeScope(DirectiveEnd64, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException64.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 790
+    final public void Text() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 790 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Text65forced= false;
+        Text Text65= null;
+        if (buildTree) {
+            Text65= new Text();
+            openNodeScope(Text65);
+        }
+        ParseException parseException65= null;
+        int callStackSize65= parsingStackSize;
+        try {
+            Token t;
+            // Code for OneOrMore specified on line 799 of FTL.javacc
+            do {
+                // Code for ExpansionChoice specified on line 796 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.PRINTABLE_CHARS) {
+                    // Code for RegexpRef specified on line 796 of FTL.javacc
+                    t= consumeToken(TokenType.PRINTABLE_CHARS);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.WHITESPACE) {
+                    // Code for RegexpRef specified on line 797 of FTL.javacc
+                    t= consumeToken(TokenType.WHITESPACE);
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.SPECIAL_CHAR) {
+                    // Code for RegexpRef specified on line 798 of FTL.javacc
+                    t= consumeToken(TokenType.SPECIAL_CHAR);
+                }
+                else {
+                    pushOntoCallStack(164);
+                    throw new ParseException(current_token.getNext(), first_set$FTL_javacc$line_796$column_8, getCallStack());
+                }
+            }
+            while (resetScanAhead(1)&&nextTokenType== TokenType.WHITESPACE||nextTokenType== TokenType.SPECIAL_CHAR||nextTokenType== TokenType.PRINTABLE_CHARS);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Text");
+        }
+        catch(ParseException e) {
+            parseException65= e;
+            throw e;
+        }
+        finally {
+            if (parseException65== null) {
+                restoreCallStack(callStackSize65);
+            }
+            if (buildTree) {
+                if (parseException65== null) {
+                    closeNodeScope(Text65, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException65.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 803
+    final public void Recover() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 803 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Recover66forced= false;
+        RecoverBlock Recover66= null;
+        if (buildTree) {
+            Recover66= new RecoverBlock();
+            openNodeScope(Recover66);
+        }
+        ParseException parseException66= null;
+        int callStackSize66= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 805 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 805 of FTL.javacc
+            consumeToken(TokenType._RECOVER);
+            // Code for RegexpRef specified on line 805 of FTL.javacc
+            consumeToken(TokenType.CLOSE_TAG);
+            // Code for NonTerminal specified on line 806 of FTL.javacc
+            pushOntoCallStack(165);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified on line 807 of FTL.javacc
+            pushOntoCallStack(166);
+            try {
+                DirectiveEnd("attempt");
+            }
+            finally {
+                popCallStack();
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Recover");
+        }
+        catch(ParseException e) {
+            parseException66= e;
+            throw e;
+        }
+        finally {
+            if (parseException66== null) {
+                restoreCallStack(callStackSize66);
+            }
+            if (buildTree) {
+                if (parseException66== null) {
+                    closeNodeScope(Recover66, true);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException66.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 810
+    final public void TopLevelDirective() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 810 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 813 of FTL.javacc
+        if (resetScanAhead(2)&&check$FTL_javacc$line_813$column_6()) {
+            // Code for NonTerminal specified on line 813 of FTL.javacc
+            pushOntoCallStack(168);
+            try {
+                Assignment();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_814$column_6()) {
+            // Code for NonTerminal specified on line 814 of FTL.javacc
+            pushOntoCallStack(169);
+            try {
+                Attempt();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_815$column_6()) {
+            // Code for NonTerminal specified on line 815 of FTL.javacc
+            pushOntoCallStack(170);
+            try {
+                Comment();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_816$column_6()) {
+            // Code for NonTerminal specified on line 816 of FTL.javacc
+            pushOntoCallStack(171);
+            try {
+                Compress();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_817$column_6()) {
+            // Code for NonTerminal specified on line 817 of FTL.javacc
+            pushOntoCallStack(172);
+            try {
+                Embed();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_818$column_6()) {
+            // Code for NonTerminal specified on line 818 of FTL.javacc
+            pushOntoCallStack(173);
+            try {
+                ForEach();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_819$column_6()) {
+            // Code for NonTerminal specified on line 819 of FTL.javacc
+            pushOntoCallStack(174);
+            try {
+                If();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_820$column_6()) {
+            // Code for NonTerminal specified on line 820 of FTL.javacc
+            pushOntoCallStack(175);
+            try {
+                List();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_821$column_6()) {
+            // Code for NonTerminal specified on line 821 of FTL.javacc
+            pushOntoCallStack(176);
+            try {
+                Include();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_822$column_6()) {
+            // Code for NonTerminal specified on line 822 of FTL.javacc
+            pushOntoCallStack(177);
+            try {
+                Import();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_823$column_6()) {
+            // Code for NonTerminal specified on line 823 of FTL.javacc
+            pushOntoCallStack(178);
+            try {
+                MacroDefinition();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_824$column_6()) {
+            // Code for NonTerminal specified on line 824 of FTL.javacc
+            pushOntoCallStack(179);
+            try {
+                NoParse();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_825$column_6()) {
+            // Code for NonTerminal specified on line 825 of FTL.javacc
+            pushOntoCallStack(180);
+            try {
+                Switch();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_826$column_6()) {
+            // Code for NonTerminal specified on line 826 of FTL.javacc
+            pushOntoCallStack(181);
+            try {
+                Setting();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_827$column_6()) {
+            // Code for NonTerminal specified on line 827 of FTL.javacc
+            pushOntoCallStack(182);
+            try {
+                Var();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_828$column_6()) {
+            // Code for NonTerminal specified on line 828 of FTL.javacc
+            pushOntoCallStack(183);
+            try {
+                Break();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_829$column_6()) {
+            // Code for NonTerminal specified on line 829 of FTL.javacc
+            pushOntoCallStack(184);
+            try {
+                Return();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_830$column_6()) {
+            // Code for NonTerminal specified on line 830 of FTL.javacc
+            pushOntoCallStack(185);
+            try {
+                Stop();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_831$column_6()) {
+            // Code for NonTerminal specified on line 831 of FTL.javacc
+            pushOntoCallStack(186);
+            try {
+                Flush();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_832$column_6()) {
+            // Code for NonTerminal specified on line 832 of FTL.javacc
+            pushOntoCallStack(187);
+            try {
+                Trim();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_833$column_6()) {
+            // Code for NonTerminal specified on line 833 of FTL.javacc
+            pushOntoCallStack(188);
+            try {
+                NoTrim();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_834$column_6()) {
+            // Code for NonTerminal specified on line 834 of FTL.javacc
+            pushOntoCallStack(189);
+            try {
+                LeftTrim();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_835$column_6()) {
+            // Code for NonTerminal specified on line 835 of FTL.javacc
+            pushOntoCallStack(190);
+            try {
+                RightTrim();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_836$column_6()) {
+            // Code for NonTerminal specified on line 836 of FTL.javacc
+            pushOntoCallStack(191);
+            try {
+                TrimBlock();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_837$column_6()) {
+            // Code for NonTerminal specified on line 837 of FTL.javacc
+            pushOntoCallStack(192);
+            try {
+                Nested();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_838$column_6()) {
+            // Code for NonTerminal specified on line 838 of FTL.javacc
+            pushOntoCallStack(193);
+            try {
+                EscapeBlock();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_839$column_6()) {
+            // Code for NonTerminal specified on line 839 of FTL.javacc
+            pushOntoCallStack(194);
+            try {
+                NoEscapeBlock();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_840$column_6()) {
+            // Code for NonTerminal specified on line 840 of FTL.javacc
+            pushOntoCallStack(195);
+            try {
+                Visit();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_841$column_6()) {
+            // Code for NonTerminal specified on line 841 of FTL.javacc
+            pushOntoCallStack(196);
+            try {
+                Recurse();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(2)&&check$FTL_javacc$line_842$column_6()) {
+            // Code for NonTerminal specified on line 842 of FTL.javacc
+            pushOntoCallStack(197);
+            try {
+                FallBack();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(167);
+            throw new ParseException(current_token.getNext(), first_set$FTL_javacc$line_813$column_6, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from TopLevelDirective");
+    }
+
+    // FTL.javacc, line 846
+    final public void UserDirective() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 846 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean UserDirective67forced= false;
+        UserDirective UserDirective67= null;
+        if (buildTree) {
+            UserDirective67= new UserDirective();
+            openNodeScope(UserDirective67);
+        }
+        ParseException parseException67= null;
+        int callStackSize67= parsingStackSize;
+        try {
+            Token startToken;
+            token_source.noWhitespaceInExpression= true;
+            // Code for RegexpRef specified on line 852 of FTL.javacc
+            startToken= consumeToken(TokenType.USER_DIRECTIVE_OPEN);
+            // Code for NonTerminal specified on line 853 of FTL.javacc
+            pushOntoCallStack(198);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified on line 854 of FTL.javacc
+            token_source.noWhitespaceInExpression= false;
+            // Code for ZeroOrOne specified on line 855 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.BLANK) {
+                // Code for RegexpRef specified on line 855 of FTL.javacc
+                consumeToken(TokenType.BLANK);
+            }
+            // Code for ZeroOrOne specified on line 856 of FTL.javacc
+            if (resetScanAhead(1)&&first_set$FTL_javacc$line_856$column_5.contains(nextTokenType)) {
+                // Code for NonTerminal specified on line 856 of FTL.javacc
+                pushOntoCallStack(199);
+                try {
+                    ArgsList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified on line 857 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.SEMICOLON) {
+                // Code for RegexpRef specified on line 857 of FTL.javacc
+                consumeToken(TokenType.SEMICOLON);
+                // Code for ZeroOrOne specified on line 857 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                    // Code for NonTerminal specified on line 857 of FTL.javacc
+                    pushOntoCallStack(200);
+                    try {
+                        ParameterList();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for ExpansionChoice specified on line 859 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.CLOSE_EMPTY_TAG) {
+                // Code for RegexpRef specified on line 859 of FTL.javacc
+                consumeToken(TokenType.CLOSE_EMPTY_TAG);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.CLOSE_TAG) {
+                // Code for RegexpRef specified on line 862 of FTL.javacc
+                consumeToken(TokenType.CLOSE_TAG);
+                // Code for NonTerminal specified on line 863 of FTL.javacc
+                pushOntoCallStack(202);
+                try {
+                    Block();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for NonTerminal specified on line 864 of FTL.javacc
+                pushOntoCallStack(203);
+                try {
+                    EndUserDirective(startToken);
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(201);
+                throw new ParseException(current_token.getNext(), first_set$FTL_javacc$line_859$column_8, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from UserDirective");
+        }
+        catch(ParseException e) {
+            parseException67= e;
+            throw e;
+        }
+        finally {
+            if (parseException67== null) {
+                restoreCallStack(callStackSize67);
+            }
+            if (buildTree) {
+                if (parseException67== null) {
+                    closeNodeScope(UserDirective67, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException67.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 869
+    final public void EndUserDirective(Token startToken) throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 869 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 871 of FTL.javacc
+        consumeToken(TokenType.END_USER_DIRECTIVE);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from EndUserDirective");
+    }
+
+    // FTL.javacc, line 874
+    final public void Block() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 874 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Block68forced= false;
+        Block Block68= null;
+        if (buildTree) {
+            Block68= new Block();
+            openNodeScope(Block68);
+        }
+        ParseException parseException68= null;
+        int callStackSize68= parsingStackSize;
+        try {
+            // Code for ZeroOrMore specified on line 889 of FTL.javacc
+            while (resetScanAhead(2)&&check$FTL_javacc$line_877$column_5()) {
+                // Code for ExpansionChoice specified on line 879 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.WHITESPACE||nextTokenType== TokenType.SPECIAL_CHAR||nextTokenType== TokenType.PRINTABLE_CHARS) {
+                    // Code for NonTerminal specified on line 879 of FTL.javacc
+                    pushOntoCallStack(205);
+                    try {
+                        Text();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.INTERPOLATE) {
+                    // Code for NonTerminal specified on line 881 of FTL.javacc
+                    pushOntoCallStack(206);
+                    try {
+                        Interpolation();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.NUMERICAL_INTERPOLATE) {
+                    // Code for NonTerminal specified on line 883 of FTL.javacc
+                    pushOntoCallStack(207);
+                    try {
+                        NumericalInterpolation();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.USER_DIRECTIVE_OPEN) {
+                    // Code for NonTerminal specified on line 885 of FTL.javacc
+                    pushOntoCallStack(208);
+                    try {
+                        UserDirective();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (resetScanAhead(1)&&nextTokenType== TokenType.FTL_DIRECTIVE_OPEN) {
+                    // Code for NonTerminal specified on line 887 of FTL.javacc
+                    pushOntoCallStack(209);
+                    try {
+                        TopLevelDirective();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    pushOntoCallStack(204);
+                    throw new ParseException(current_token.getNext(), first_set$FTL_javacc$line_879$column_6, getCallStack());
+                }
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Block");
+        }
+        catch(ParseException e) {
+            parseException68= e;
+            throw e;
+        }
+        finally {
+            if (parseException68== null) {
+                restoreCallStack(callStackSize68);
+            }
+            if (buildTree) {
+                if (parseException68== null) {
+                    closeNodeScope(Block68, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException68.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 892
+    final public void FTLHeader() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 892 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean FTLHeader69forced= false;
+        FTLHeader FTLHeader69= null;
+        if (buildTree) {
+            FTLHeader69= new FTLHeader();
+            openNodeScope(FTLHeader69);
+        }
+        ParseException parseException69= null;
+        int callStackSize69= parsingStackSize;
+        try {
+            // Code for RegexpRef specified on line 894 of FTL.javacc
+            consumeToken(TokenType.FTL_DIRECTIVE_OPEN);
+            // Code for RegexpRef specified on line 894 of FTL.javacc
+            consumeToken(TokenType.FTL);
+            // Code for ZeroOrOne specified on line 895 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.BLANK) {
+                // Code for RegexpRef specified on line 896 of FTL.javacc
+                consumeToken(TokenType.BLANK);
+                // Code for ZeroOrMore specified on line 901 of FTL.javacc
+                while (resetScanAhead(1)&&nextTokenType== TokenType.IDENTIFIER) {
+                    // Code for RegexpRef specified on line 898 of FTL.javacc
+                    consumeToken(TokenType.IDENTIFIER);
+                    // Code for RegexpRef specified on line 899 of FTL.javacc
+                    consumeToken(TokenType.EQUALS);
+                    // Code for NonTerminal specified on line 900 of FTL.javacc
+                    pushOntoCallStack(210);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for ExpansionChoice specified on line 903 of FTL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType.CLOSE_TAG) {
+                // Code for RegexpRef specified on line 903 of FTL.javacc
+                consumeToken(TokenType.CLOSE_TAG);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType.CLOSE_EMPTY_TAG) {
+                // Code for RegexpRef specified on line 903 of FTL.javacc
+                consumeToken(TokenType.CLOSE_EMPTY_TAG);
+            }
+            else {
+                pushOntoCallStack(211);
+                throw new ParseException(current_token.getNext(), first_set$FTL_javacc$line_903$column_6, getCallStack());
+            }
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from FTLHeader");
+        }
+        catch(ParseException e) {
+            parseException69= e;
+            throw e;
+        }
+        finally {
+            if (parseException69== null) {
+                restoreCallStack(callStackSize69);
+            }
+            if (buildTree) {
+                if (parseException69== null) {
+                    closeNodeScope(FTLHeader69, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException69.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 908
+    final public void Root() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 908 of FTL.javacc");
+        if (cancelled) throw new CancellationException();
+        boolean Root70forced= false;
+        Root Root70= null;
+        if (buildTree) {
+            Root70= new Root();
+            openNodeScope(Root70);
+        }
+        ParseException parseException70= null;
+        int callStackSize70= parsingStackSize;
+        try {
+            // Code for ZeroOrOne specified on line 910 of FTL.javacc
+            if (resetScanAhead(2147483647)&&check$FTL_javacc$line_911$column_14()) {
+                // Code for ZeroOrOne specified on line 912 of FTL.javacc
+                if (resetScanAhead(1)&&nextTokenType== TokenType.WHITESPACE) {
+                    // Code for RegexpRef specified on line 912 of FTL.javacc
+                    consumeToken(TokenType.WHITESPACE);
+                }
+                // Code for NonTerminal specified on line 913 of FTL.javacc
+                pushOntoCallStack(212);
+                try {
+                    FTLHeader();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for CodeBlock specified on line 913 of FTL.javacc
+                token_source.rightAfterHeader= true;
+            }
+            // Code for NonTerminal specified on line 915 of FTL.javacc
+            pushOntoCallStack(213);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for EndOfFile specified on line 916 of FTL.javacc
+            consumeToken(TokenType.EOF);
+            if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from Root");
+        }
+        catch(ParseException e) {
+            parseException70= e;
+            throw e;
+        }
+        finally {
+            if (parseException70== null) {
+                restoreCallStack(callStackSize70);
+            }
+            if (buildTree) {
+                if (parseException70== null) {
+                    closeNodeScope(Root70, nodeArity()> 1);
+                }
+                else {
+                    if (TRACE&&trace_enabled) LOGGER.warning("ParseException: "+parseException70.getMessage());
+                    clearNodeScope();
+                }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_844$column_10= EnumSet.of(TokenType.OR, TokenType.OR2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_852$column_10= EnumSet.of(TokenType.AND, TokenType.AND2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_860$column_10= EnumSet.of(TokenType.EQUALS, TokenType.DOUBLE_EQUALS, TokenType.NOT_EQUALS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_868$column_5= EnumSet.of(TokenType.LT, TokenType.GT, TokenType.LTE, TokenType.GTE, TokenType.ALT_GT, TokenType.ALT_LT, TokenType.ALT_GTE, TokenType.ALT_LTE);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_869$column_10= EnumSet.of(TokenType.LT, TokenType.GT, TokenType.LTE, TokenType.GTE, TokenType.ALT_GT, TokenType.ALT_LT, TokenType.ALT_GTE, TokenType.ALT_LTE);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_890$column_13= EnumSet.of(TokenType.PLUS, TokenType.MINUS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_899$column_12= EnumSet.of(TokenType.TIMES, TokenType.DIVIDE, TokenType.PERCENT);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_911$column_5= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_916$column_6= EnumSet.of(TokenType.PLUS, TokenType.MINUS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_947$column_15= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.DOT, TokenType.BUILT_IN, TokenType.EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_949$column_7= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.DOT, TokenType.BUILT_IN, TokenType.EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_966$column_5= EnumSet.of(TokenType.INTEGER, TokenType.DECIMAL);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_970$column_5= EnumSet.of(TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_972$column_5= EnumSet.of(TokenType.TRUE, TokenType.FALSE);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_987$column_6= EnumSet.of(TokenType.TIMES, TokenType.IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_998$column_15= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1014$column_5= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1014$column_42= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.COMMA, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1027$column_5= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1057$column_9= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1060$column_9= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$line_1083$column_6= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.COMMA, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_412$column_8= EnumSet.of(TokenType.SET, TokenType.LOCAL, TokenType.GLOBAL, TokenType.ASSIGN);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_420$column_7= EnumSet.of(TokenType.EQUALS, TokenType.IN, TokenType.CLOSE_TAG);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_542$column_9= EnumSet.of(TokenType.BLOCKTRIM, TokenType.BLOCKTRIML, TokenType.BLOCKTRIMR, TokenType.BLOCKNOTRIM);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_612$column_9= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.COMMA, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_621$column_8= EnumSet.of(TokenType.BLANK, TokenType.CLOSE_TAG, TokenType.CLOSE_EMPTY_TAG);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_625$column_11= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_628$column_37= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.COMMA, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_734$column_7= EnumSet.of(TokenType.MACRO, TokenType.FUNCTION);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_796$column_7= EnumSet.of(TokenType.WHITESPACE, TokenType.SPECIAL_CHAR, TokenType.PRINTABLE_CHARS);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_796$column_8= EnumSet.of(TokenType.WHITESPACE, TokenType.SPECIAL_CHAR, TokenType.PRINTABLE_CHARS);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_813$column_6= EnumSet.of(TokenType.FTL_DIRECTIVE_OPEN);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_856$column_5= EnumSet.of(TokenType.OPEN_PAREN, TokenType.OPEN_BRACKET, TokenType.OPEN_BRACE, TokenType.DOT, TokenType.PLUS, TokenType.MINUS, TokenType.EXCLAM, TokenType.NULL, TokenType.TRUE, TokenType.FALSE, TokenType.INTEGER, TokenType.DECIMAL, TokenType.IDENTIFIER, TokenType.STRING_LITERAL, TokenType.RAW_STRING);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_859$column_8= EnumSet.of(TokenType.CLOSE_TAG, TokenType.CLOSE_EMPTY_TAG);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_879$column_6= EnumSet.of(TokenType.FTL_DIRECTIVE_OPEN, TokenType.USER_DIRECTIVE_OPEN, TokenType.INTERPOLATE, TokenType.NUMERICAL_INTERPOLATE, TokenType.WHITESPACE, TokenType.SPECIAL_CHAR, TokenType.PRINTABLE_CHARS);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$line_903$column_6= EnumSet.of(TokenType.CLOSE_TAG, TokenType.CLOSE_EMPTY_TAG);
+    private final boolean scanToken(TokenType expectedType) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (type!=expectedType) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    private final boolean scanToken(EnumSet<TokenType> types) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (!types.contains(type)) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    //====================================
+    // Lookahead Routines
+    //====================================
+    private final boolean check$FEL_javacc$line_880$column_10() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(15);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_934$column_19() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.EXCLAM)) return false;
+        pushOntoLookaheadStack(30);
+        if (!check$BaseExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1057$column_19() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.EQUALS)) return false;
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_649$column_8() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(135);
+        if (!check$ElseIf()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_652$column_8() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(136);
+        if (!check$Else()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_678$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(142);
+        if (!check$Case()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_681$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(143);
+        if (!check$Default()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_813$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(168);
+        if (!check$Assignment()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_814$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(169);
+        if (!check$Attempt()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_815$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(170);
+        if (!check$Comment()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_816$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(171);
+        if (!check$Compress()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_817$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(172);
+        if (!check$Embed()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_818$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(173);
+        if (!check$ForEach()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_819$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(174);
+        if (!check$If()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_820$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(175);
+        if (!check$List()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_821$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(176);
+        if (!check$Include()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_822$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(177);
+        if (!check$Import()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_823$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(178);
+        if (!check$MacroDefinition()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_824$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(179);
+        if (!check$NoParse()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_825$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(180);
+        if (!check$Switch()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_826$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(181);
+        if (!check$Setting()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_827$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(182);
+        if (!check$Var()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_828$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(183);
+        if (!check$Break()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_829$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(184);
+        if (!check$Return()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_830$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(185);
+        if (!check$Stop()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_831$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(186);
+        if (!check$Flush()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_832$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(187);
+        if (!check$Trim()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_833$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(188);
+        if (!check$NoTrim()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_834$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(189);
+        if (!check$LeftTrim()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_835$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(190);
+        if (!check$RightTrim()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_836$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(191);
+        if (!check$TrimBlock()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_837$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(192);
+        if (!check$Nested()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_838$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(193);
+        if (!check$EscapeBlock()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_839$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(194);
+        if (!check$NoEscapeBlock()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_840$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(195);
+        if (!check$Visit()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_841$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(196);
+        if (!check$Recurse()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_842$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(197);
+        if (!check$FallBack()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_877$column_5() {
+        if (remainingLookahead<=0) return true;
+        int int71= currentLookaheadIndex;
+        int remainingLookahead71= remainingLookahead;
+        if (!(check$FTL_javacc$line_879$column_6())) {
+            currentLookaheadIndex= int71;
+            remainingLookahead= remainingLookahead71;
+            if (!(check$FTL_javacc$line_881$column_6())) {
+                currentLookaheadIndex= int71;
+                remainingLookahead= remainingLookahead71;
+                if (!(check$FTL_javacc$line_883$column_6())) {
+                    currentLookaheadIndex= int71;
+                    remainingLookahead= remainingLookahead71;
+                    if (!(check$FTL_javacc$line_885$column_6())) {
+                        currentLookaheadIndex= int71;
+                        remainingLookahead= remainingLookahead71;
+                        if (!(check$FTL_javacc$line_887$column_6())) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_911$column_14() {
+        if (remainingLookahead<=0) return true;
+        int int72= currentLookaheadIndex;
+        if (!(scanToken(TokenType.WHITESPACE))) currentLookaheadIndex= int72;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.FTL)) return false;
+        return true;
+    }
+
+    private final boolean check$AdditiveExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$AdditiveExpression$scan();
+        }
+        long memoKey= scanMemoKey(0);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$AdditiveExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$AdditiveExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(16);
+        if (!check$MultiplicativeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int73= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_890$column_12())) {
+                currentLookaheadIndex= int73;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$BaseExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$BaseExpression$scan();
+        }
+        long memoKey= scanMemoKey(1);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$BaseExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$BaseExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        int int74= currentLookaheadIndex;
+        int remainingLookahead74= remainingLookahead;
+        if (!(scanToken(TokenType.IDENTIFIER))) {
+            currentLookaheadIndex= int74;
+            remainingLookahead= remainingLookahead74;
+            if (!(scanToken(first_set$FEL_javacc$line_966$column_5))) {
+                currentLookaheadIndex= int74;
+                remainingLookahead= remainingLookahead74;
+                if (!(check$FEL_javacc$line_968$column_5())) {
+                    currentLookaheadIndex= int74;
+                    remainingLookahead= remainingLookahead74;
+                    if (!(scanToken(first_set$FEL_javacc$line_970$column_5))) {
+                        currentLookaheadIndex= int74;
+                        remainingLookahead= remainingLookahead74;
+                        if (!(scanToken(first_set$FEL_javacc$line_972$column_5))) {
+                            currentLookaheadIndex= int74;
+                            remainingLookahead= remainingLookahead74;
+                            if (!(scanToken(TokenType.NULL))) {
+                                currentLookaheadIndex= int74;
+                                remainingLookahead= remainingLookahead74;
+                                if (!(check$FEL_javacc$line_976$column_5())) {
+                                    currentLookaheadIndex= int74;
+                                    remainingLookahead= remainingLookahead74;
+                                    if (!(check$FEL_javacc$line_978$column_5())) {
+                                        currentLookaheadIndex= int74;
+                                        remainingLookahead= remainingLookahead74;
+                                        if (!(check$FEL_javacc$line_980$column_5())) {
+                                            return false;
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$ElseIf() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ElseIf$scan();
+        }
+        long memoKey= scanMemoKey(2);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ElseIf$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ElseIf$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.ELSEIF)) return false;
+        return true;
+    }
+
+    private final boolean check$Else() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Else$scan();
+        }
+        long memoKey= scanMemoKey(3);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Else$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Else$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.ELSE)) return false;
+        return true;
+    }
+
+    private final boolean check$Case() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Case$scan();
+        }
+        long memoKey= scanMemoKey(4);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Case$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Case$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.CASE)) return false;
+        return true;
+    }
+
+    private final boolean check$Default() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Default$scan();
+        }
+        long memoKey= scanMemoKey(5);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Default$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Default$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.DEFAUL)) return false;
+        return true;
+    }
+
+    private final boolean check$Assignment() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Assignment$scan();
+        }
+        long memoKey= scanMemoKey(6);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Assignment$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Assignment$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(first_set$FTL_javacc$line_412$column_8)) return false;
+        return true;
+    }
+
+    private final boolean check$Attempt() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Attempt$scan();
+        }
+        long memoKey= scanMemoKey(7);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Attempt$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Attempt$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType._ATTEMPT)) return false;
+        return true;
+    }
+
+    private final boolean check$Comment() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Comment$scan();
+        }
+        long memoKey= scanMemoKey(8);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Comment$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Comment$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.COMMENT)) return false;
+        return true;
+    }
+
+    private final boolean check$Compress() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Compress$scan();
+        }
+        long memoKey= scanMemoKey(9);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Compress$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Compress$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.COMPRESS)) return false;
+        return true;
+    }
+
+    private final boolean check$Embed() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Embed$scan();
+        }
+        long memoKey= scanMemoKey(10);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Embed$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Embed$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.EMBED)) return false;
+        return true;
+    }
+
+    private final boolean check$ForEach() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ForEach$scan();
+        }
+        long memoKey= scanMemoKey(11);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ForEach$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ForEach$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.FOREACH)) return false;
+        return true;
+    }
+
+    private final boolean check$If() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$If$scan();
+        }
+        long memoKey= scanMemoKey(12);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$If$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$If$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.IF)) return false;
+        return true;
+    }
+
+    private final boolean check$List() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$List$scan();
+        }
+        long memoKey= scanMemoKey(13);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$List$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$List$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.LIST)) return false;
+        return true;
+    }
+
+    private final boolean check$Include() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Include$scan();
+        }
+        long memoKey= scanMemoKey(14);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Include$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Include$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType._INCLUDE)) return false;
+        return true;
+    }
+
+    private final boolean check$Import() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Import$scan();
+        }
+        long memoKey= scanMemoKey(15);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Import$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Import$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.IMPORT)) return false;
+        return true;
+    }
+
+    private final boolean check$MacroDefinition() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MacroDefinition$scan();
+        }
+        long memoKey= scanMemoKey(16);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MacroDefinition$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MacroDefinition$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(first_set$FTL_javacc$line_734$column_7)) return false;
+        return true;
+    }
+
+    private final boolean check$NoParse() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$NoParse$scan();
+        }
+        long memoKey= scanMemoKey(17);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$NoParse$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$NoParse$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.NOPARSE)) return false;
+        return true;
+    }
+
+    private final boolean check$Switch() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Switch$scan();
+        }
+        long memoKey= scanMemoKey(18);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Switch$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Switch$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.SWITCH)) return false;
+        return true;
+    }
+
+    private final boolean check$Setting() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Setting$scan();
+        }
+        long memoKey= scanMemoKey(19);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Setting$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Setting$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.SETTING)) return false;
+        return true;
+    }
+
+    private final boolean check$Var() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Var$scan();
+        }
+        long memoKey= scanMemoKey(20);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Var$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Var$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.VAR)) return false;
+        return true;
+    }
+
+    private final boolean check$Break() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Break$scan();
+        }
+        long memoKey= scanMemoKey(21);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Break$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Break$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.BREAK)) return false;
+        return true;
+    }
+
+    private final boolean check$Return() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Return$scan();
+        }
+        long memoKey= scanMemoKey(22);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Return$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Return$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.RETURN)) return false;
+        return true;
+    }
+
+    private final boolean check$Stop() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Stop$scan();
+        }
+        long memoKey= scanMemoKey(23);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Stop$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Stop$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.STOP)) return false;
+        return true;
+    }
+
+    private final boolean check$Flush() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Flush$scan();
+        }
+        long memoKey= scanMemoKey(24);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Flush$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Flush$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.FLUSH)) return false;
+        return true;
+    }
+
+    private final boolean check$Trim() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Trim$scan();
+        }
+        long memoKey= scanMemoKey(25);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Trim$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Trim$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.TRIM)) return false;
+        return true;
+    }
+
+    private final boolean check$NoTrim() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$NoTrim$scan();
+        }
+        long memoKey= scanMemoKey(26);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$NoTrim$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$NoTrim$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.NOTRIM)) return false;
+        return true;
+    }
+
+    private final boolean check$LeftTrim() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$LeftTrim$scan();
+        }
+        long memoKey= scanMemoKey(27);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$LeftTrim$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$LeftTrim$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.LTRIM)) return false;
+        return true;
+    }
+
+    private final boolean check$RightTrim() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$RightTrim$scan();
+        }
+        long memoKey= scanMemoKey(28);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$RightTrim$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$RightTrim$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.RTRIM)) return false;
+        return true;
+    }
+
+    private final boolean check$TrimBlock() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$TrimBlock$scan();
+        }
+        long memoKey= scanMemoKey(29);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$TrimBlock$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$TrimBlock$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(first_set$FTL_javacc$line_542$column_9)) return false;
+        return true;
+    }
+
+    private final boolean check$Nested() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Nested$scan();
+        }
+        long memoKey= scanMemoKey(30);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Nested$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Nested$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.NESTED)) return false;
+        return true;
+    }
+
+    private final boolean check$EscapeBlock() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$EscapeBlock$scan();
+        }
+        long memoKey= scanMemoKey(31);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$EscapeBlock$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$EscapeBlock$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.ESCAPE)) return false;
+        return true;
+    }
+
+    private final boolean check$NoEscapeBlock() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$NoEscapeBlock$scan();
+        }
+        long memoKey= scanMemoKey(32);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$NoEscapeBlock$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$NoEscapeBlock$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.NOESCAPE)) return false;
+        return true;
+    }
+
+    private final boolean check$Visit() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Visit$scan();
+        }
+        long memoKey= scanMemoKey(33);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Visit$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Visit$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.VISIT)) return false;
+        return true;
+    }
+
+    private final boolean check$Recurse() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Recurse$scan();
+        }
+        long memoKey= scanMemoKey(34);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Recurse$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Recurse$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.RECURSE)) return false;
+        return true;
+    }
+
+    private final boolean check$FallBack() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$FallBack$scan();
+        }
+        long memoKey= scanMemoKey(35);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$FallBack$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$FallBack$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+        if (!scanToken(TokenType.FALLBACK)) return false;
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_879$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(205);
+        if (!check$Text()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_881$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(206);
+        if (!check$Interpolation()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_883$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(207);
+        if (!check$NumericalInterpolation()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_885$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(208);
+        if (!check$UserDirective()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FTL_javacc$line_887$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(209);
+        if (!check$TopLevelDirective()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$MultiplicativeExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MultiplicativeExpression$scan();
+        }
+        long memoKey= scanMemoKey(36);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MultiplicativeExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MultiplicativeExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(19);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int75= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_899$column_11())) {
+                currentLookaheadIndex= int75;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_890$column_12() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_890$column_13)) return false;
+        pushOntoLookaheadStack(18);
+        if (!check$MultiplicativeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_968$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(42);
+        if (!check$HashLiteral()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_976$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(46);
+        if (!check$ListLiteral()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_978$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(47);
+        if (!check$Parenthesis()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_980$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(48);
+        if (!check$BuiltinVariable()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$Text() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Text$scan();
+        }
+        long memoKey= scanMemoKey(37);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Text$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Text$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!(scanToken(first_set$FTL_javacc$line_796$column_7))) return false;
+        while (remainingLookahead> 0) {
+            int int76= currentLookaheadIndex;
+            if (!(scanToken(first_set$FTL_javacc$line_796$column_7))) {
+                currentLookaheadIndex= int76;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$Interpolation() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Interpolation$scan();
+        }
+        long memoKey= scanMemoKey(38);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Interpolation$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Interpolation$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.INTERPOLATE)) return false;
+        pushOntoLookaheadStack(71);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$NumericalInterpolation() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$NumericalInterpolation$scan();
+        }
+        long memoKey= scanMemoKey(39);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$NumericalInterpolation$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$NumericalInterpolation$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.NUMERICAL_INTERPOLATE)) return false;
+        pushOntoLookaheadStack(72);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$UserDirective() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$UserDirective$scan();
+        }
+        long memoKey= scanMemoKey(40);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$UserDirective$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$UserDirective$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.USER_DIRECTIVE_OPEN)) return false;
+        pushOntoLookaheadStack(198);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$TopLevelDirective() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$TopLevelDirective$scan();
+        }
+        long memoKey= scanMemoKey(41);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$TopLevelDirective$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$TopLevelDirective$scan() {
+        if (remainingLookahead<=0) return true;
+        int int77= currentLookaheadIndex;
+        int remainingLookahead77= remainingLookahead;
+        if (!(check$FTL_javacc$line_813$column_6())) {
+            currentLookaheadIndex= int77;
+            remainingLookahead= remainingLookahead77;
+            if (!(check$FTL_javacc$line_814$column_6())) {
+                currentLookaheadIndex= int77;
+                remainingLookahead= remainingLookahead77;
+                if (!(check$FTL_javacc$line_815$column_6())) {
+                    currentLookaheadIndex= int77;
+                    remainingLookahead= remainingLookahead77;
+                    if (!(check$FTL_javacc$line_816$column_6())) {
+                        currentLookaheadIndex= int77;
+                        remainingLookahead= remainingLookahead77;
+                        if (!(check$FTL_javacc$line_817$column_6())) {
+                            currentLookaheadIndex= int77;
+                            remainingLookahead= remainingLookahead77;
+                            if (!(check$FTL_javacc$line_818$column_6())) {
+                                currentLookaheadIndex= int77;
+                                remainingLookahead= remainingLookahead77;
+                                if (!(check$FTL_javacc$line_819$column_6())) {
+                                    currentLookaheadIndex= int77;
+                                    remainingLookahead= remainingLookahead77;
+                                    if (!(check$FTL_javacc$line_820$column_6())) {
+                                        currentLookaheadIndex= int77;
+                                        remainingLookahead= remainingLookahead77;
+                                        if (!(check$FTL_javacc$line_821$column_6())) {
+                                            currentLookaheadIndex= int77;
+                                            remainingLookahead= remainingLookahead77;
+                                            if (!(check$FTL_javacc$line_822$column_6())) {
+                                                currentLookaheadIndex= int77;
+                                                remainingLookahead= remainingLookahead77;
+                                                if (!(check$FTL_javacc$line_823$column_6())) {
+                                                    currentLookaheadIndex= int77;
+                                                    remainingLookahead= remainingLookahead77;
+                                                    if (!(check$FTL_javacc$line_824$column_6())) {
+                                                        currentLookaheadIndex= int77;
+                                                        remainingLookahead= remainingLookahead77;
+                                                        if (!(check$FTL_javacc$line_825$column_6())) {
+                                                            currentLookaheadIndex= int77;
+                                                            remainingLookahead= remainingLookahead77;
+                                                            if (!(check$FTL_javacc$line_826$column_6())) {
+                                                                currentLookaheadIndex= int77;
+                                                                remainingLookahead= remainingLookahead77;
+                                                                if (!(check$FTL_javacc$line_827$column_6())) {
+                                                                    currentLookaheadIndex= int77;
+                                                                    remainingLookahead= remainingLookahead77;
+                                                                    if (!(check$FTL_javacc$line_828$column_6())) {
+                                                                        currentLookaheadIndex= int77;
+                                                                        remainingLookahead= remainingLookahead77;
+                                                                        if (!(check$FTL_javacc$line_829$column_6())) {
+                                                                            currentLookaheadIndex= int77;
+                                                                            remainingLookahead= remainingLookahead77;
+                                                                            if (!(check$FTL_javacc$line_830$column_6())) {
+                                                                                currentLookaheadIndex= int77;
+                                                                                remainingLookahead= remainingLookahead77;
+                                                                                if (!(check$FTL_javacc$line_831$column_6())) {
+                                                                                    currentLookaheadIndex= int77;
+                                                                                    remainingLookahead= remainingLookahead77;
+                                                                                    if (!(check$FTL_javacc$line_832$column_6())) {
+                                                                                        currentLookaheadIndex= int77;
+                                                                                        remainingLookahead= remainingLookahead77;
+                                                                                        if (!(check$FTL_javacc$line_833$column_6())) {
+                                                                                            currentLookaheadIndex= int77;
+                                                                                            remainingLookahead= remainingLookahead77;
+                                                                                            if (!(check$FTL_javacc$line_834$column_6())) {
+                                                                                                currentLookaheadIndex= int77;
+                                                                                                remainingLookahead= remainingLookahead77;
+                                                                                                if (!(check$FTL_javacc$line_835$column_6())) {
+                                                                                                    currentLookaheadIndex= int77;
+                                                                                                    remainingLookahead= remainingLookahead77;
+                                                                                                    if (!(check$FTL_javacc$line_836$column_6())) {
+                                                                                                        currentLookaheadIndex= int77;
+                                                                                                        remainingLookahead= remainingLookahead77;
+                                                                                                        if (!(check$FTL_javacc$line_837$column_6())) {
+                                                                                                            currentLookaheadIndex= int77;
+                                                                                                            remainingLookahead= remainingLookahead77;
+                                                                                                            if (!(check$FTL_javacc$line_838$column_6())) {
+                                                                                                                currentLookaheadIndex= int77;
+                                                                                                                remainingLookahead= remainingLookahead77;
+                                                                                                                if (!(check$FTL_javacc$line_839$column_6())) {
+                                                                                                                    currentLookaheadIndex= int77;
+                                                                                                                    remainingLookahead= remainingLookahead77;
+                                                                                                                    if (!(check$FTL_javacc$line_840$column_6())) {
+                                                                                                                        currentLookaheadIndex= int77;
+                                                                                                                        remainingLookahead= remainingLookahead77;
+                                                                                                                        if (!(check$FTL_javacc$line_841$column_6())) {
+                                                                                                                            currentLookaheadIndex= int77;
+                                                                                                                            remainingLookahead= remainingLookahead77;
+                                                                                                                            if (!(check$FTL_javacc$line_842$column_6())) {
+                                                                                                                                return false;
+                                                                                                                            }
+                                                                                                                        }
+                                                                                                                    }
+                                                                                                                }
+                                                                                                            }
+                                                                                                        }
+                                                                                                    }
+                                                                                                }
+                                                                                            }
+                                                                                        }
+                                                                                    }
+                                                                                }
+                                                                            }
+                                                                        }
+                                                                    }
+                                                                }
+                                                            }
+                                                        }
+                                                    }
+                                                }
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$UnaryExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$UnaryExpression$scan();
+        }
+        long memoKey= scanMemoKey(42);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$UnaryExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$UnaryExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        int int78= currentLookaheadIndex;
+        int remainingLookahead78= remainingLookahead;
+        if (!(check$FEL_javacc$line_907$column_5())) {
+            currentLookaheadIndex= int78;
+            remainingLookahead= remainingLookahead78;
+            if (!(check$FEL_javacc$line_909$column_5())) {
+                currentLookaheadIndex= int78;
+                remainingLookahead= remainingLookahead78;
+                if (!(check$FEL_javacc$line_911$column_5())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_899$column_11() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_899$column_12)) return false;
+        pushOntoLookaheadStack(21);
+        if (!check$UnaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$HashLiteral() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$HashLiteral$scan();
+        }
+        long memoKey= scanMemoKey(43);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$HashLiteral$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$HashLiteral$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.OPEN_BRACE)) return false;
+        int int79= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_1028$column_8())) currentLookaheadIndex= int79;
+        if (!scanToken(TokenType.CLOSE_BRACE)) return false;
+        return true;
+    }
+
+    private final boolean check$ListLiteral() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ListLiteral$scan();
+        }
+        long memoKey= scanMemoKey(44);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ListLiteral$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ListLiteral$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.OPEN_BRACKET)) return false;
+        int int80= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_1014$column_6())) currentLookaheadIndex= int80;
+        if (!scanToken(TokenType.CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$Parenthesis() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Parenthesis$scan();
+        }
+        long memoKey= scanMemoKey(45);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Parenthesis$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Parenthesis$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.OPEN_PAREN)) return false;
+        pushOntoLookaheadStack(61);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$BuiltinVariable() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$BuiltinVariable$scan();
+        }
+        long memoKey= scanMemoKey(46);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$BuiltinVariable$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$BuiltinVariable$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$Expression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$Expression$scan();
+        }
+        long memoKey= scanMemoKey(47);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$Expression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$Expression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(1);
+        if (!check$OrExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_907$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(23);
+        if (!check$UnaryPlusMinusExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_909$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(24);
+        if (!check$NotExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_911$column_5() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(25);
+        if (!check$DefaultToExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1028$column_8() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(55);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.COLON)) return false;
+        pushOntoLookaheadStack(56);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int81= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_1029$column_9())) {
+                currentLookaheadIndex= int81;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1014$column_6() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(52);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int82= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_1014$column_20())) {
+                currentLookaheadIndex= int82;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$OrExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$OrExpression$scan();
+        }
+        long memoKey= scanMemoKey(48);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$OrExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$OrExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(2);
+        if (!check$AndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int83= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_844$column_9())) {
+                currentLookaheadIndex= int83;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$UnaryPlusMinusExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$UnaryPlusMinusExpression$scan();
+        }
+        long memoKey= scanMemoKey(49);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$UnaryPlusMinusExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$UnaryPlusMinusExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_916$column_6)) return false;
+        pushOntoLookaheadStack(27);
+        if (!check$DefaultToExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$NotExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$NotExpression$scan();
+        }
+        long memoKey= scanMemoKey(50);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$NotExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$NotExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.EXCLAM)) return false;
+        pushOntoLookaheadStack(28);
+        if (!check$DefaultToExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$DefaultToExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$DefaultToExpression$scan();
+        }
+        long memoKey= scanMemoKey(51);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$DefaultToExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$DefaultToExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(29);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int84= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_934$column_9()&&check$FEL_javacc$line_934$column_9$())) {
+                currentLookaheadIndex= int84;
+                break;
+            }
+        }
+        int int85= currentLookaheadIndex;
+        if (!(scanToken(TokenType.EXCLAM))) currentLookaheadIndex= int85;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1029$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.COMMA)) return false;
+        pushOntoLookaheadStack(57);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.COLON)) return false;
+        pushOntoLookaheadStack(58);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1014$column_20() {
+        if (remainingLookahead<=0) return true;
+        int int86= currentLookaheadIndex;
+        if (!(scanToken(TokenType.COMMA))) currentLookaheadIndex= int86;
+        pushOntoLookaheadStack(53);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$AndExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$AndExpression$scan();
+        }
+        long memoKey= scanMemoKey(52);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$AndExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$AndExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(5);
+        if (!check$EqualityExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int87= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_852$column_9())) {
+                currentLookaheadIndex= int87;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_844$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_844$column_10)) return false;
+        pushOntoLookaheadStack(4);
+        if (!check$AndExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$PrimaryExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$PrimaryExpression$scan();
+        }
+        long memoKey= scanMemoKey(53);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$PrimaryExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$PrimaryExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(32);
+        if (!check$BaseExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int88= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_947$column_5()&&check$FEL_javacc$line_947$column_5$())) {
+                currentLookaheadIndex= int88;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_934$column_9$() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.EXCLAM)) return false;
+        pushOntoLookaheadStack(31);
+        if (!check$PrimaryExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$EqualityExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$EqualityExpression$scan();
+        }
+        long memoKey= scanMemoKey(54);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$EqualityExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$EqualityExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(8);
+        if (!check$RelationalExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int89= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_860$column_9())) currentLookaheadIndex= int89;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_852$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_852$column_10)) return false;
+        pushOntoLookaheadStack(7);
+        if (!check$EqualityExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_947$column_5$() {
+        if (remainingLookahead<=0) return true;
+        int int90= currentLookaheadIndex;
+        int remainingLookahead90= remainingLookahead;
+        if (!(check$FEL_javacc$line_949$column_7())) {
+            currentLookaheadIndex= int90;
+            remainingLookahead= remainingLookahead90;
+            if (!(check$FEL_javacc$line_951$column_7())) {
+                currentLookaheadIndex= int90;
+                remainingLookahead= remainingLookahead90;
+                if (!(check$FEL_javacc$line_953$column_7())) {
+                    currentLookaheadIndex= int90;
+                    remainingLookahead= remainingLookahead90;
+                    if (!(check$FEL_javacc$line_955$column_7())) {
+                        currentLookaheadIndex= int90;
+                        remainingLookahead= remainingLookahead90;
+                        if (!(scanToken(TokenType.EXISTS_OPERATOR))) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$RelationalExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$RelationalExpression$scan();
+        }
+        long memoKey= scanMemoKey(55);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$RelationalExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$RelationalExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(11);
+        if (!check$RangeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int91= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_869$column_9())) currentLookaheadIndex= int91;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_860$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_860$column_10)) return false;
+        pushOntoLookaheadStack(10);
+        if (!check$RelationalExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_949$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(35);
+        if (!check$DotKey()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_951$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(36);
+        if (!check$DynamicKey()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_953$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(37);
+        if (!check$MethodInvoke()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_955$column_7() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(38);
+        if (!check$BuiltIn()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$RangeExpression() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$RangeExpression$scan();
+        }
+        long memoKey= scanMemoKey(56);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$RangeExpression$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$RangeExpression$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(14);
+        if (!check$AdditiveExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        int int92= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_878$column_8())) currentLookaheadIndex= int92;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_869$column_9() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(first_set$FEL_javacc$line_869$column_10)) return false;
+        pushOntoLookaheadStack(13);
+        if (!check$RangeExpression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$DotKey() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$DotKey$scan();
+        }
+        long memoKey= scanMemoKey(57);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$DotKey$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$DotKey$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT)) return false;
+        if (!scanToken(first_set$FEL_javacc$line_987$column_6)) return false;
+        return true;
+    }
+
+    private final boolean check$DynamicKey() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$DynamicKey$scan();
+        }
+        long memoKey= scanMemoKey(58);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$DynamicKey$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$DynamicKey$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.OPEN_BRACKET)) return false;
+        pushOntoLookaheadStack(50);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType.CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    private final boolean check$MethodInvoke() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$MethodInvoke$scan();
+        }
+        long memoKey= scanMemoKey(59);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$MethodInvoke$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$MethodInvoke$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.OPEN_PAREN)) return false;
+        int int93= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_998$column_16())) currentLookaheadIndex= int93;
+        if (!scanToken(TokenType.CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    private final boolean check$BuiltIn() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$BuiltIn$scan();
+        }
+        long memoKey= scanMemoKey(60);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$BuiltIn$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$BuiltIn$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.BUILT_IN)) return false;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_878$column_8() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.DOT_DOT)) return false;
+        int int94= currentLookaheadIndex;
+        if (!(check$FEL_javacc$line_880$column_10())) currentLookaheadIndex= int94;
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_998$column_16() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(51);
+        if (!check$ArgsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$ArgsList() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$ArgsList$scan();
+        }
+        long memoKey= scanMemoKey(61);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$ArgsList$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$ArgsList$scan() {
+        if (remainingLookahead<=0) return true;
+        int int95= currentLookaheadIndex;
+        int remainingLookahead95= remainingLookahead;
+        if (!(check$FEL_javacc$line_1057$column_9()&&check$FEL_javacc$line_1057$column_9$())) {
+            currentLookaheadIndex= int95;
+            remainingLookahead= remainingLookahead95;
+            if (!(check$FEL_javacc$line_1060$column_9())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1057$column_9$() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(63);
+        if (!check$NamedArgsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1060$column_9() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(64);
+        if (!check$PositionalArgsList()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$NamedArgsList() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$NamedArgsList$scan();
+        }
+        long memoKey= scanMemoKey(62);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$NamedArgsList$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$NamedArgsList$scan() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.EQUALS)) return false;
+        pushOntoLookaheadStack(65);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int96= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_1070$column_8())) {
+                currentLookaheadIndex= int96;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$PositionalArgsList() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$PositionalArgsList$scan();
+        }
+        long memoKey= scanMemoKey(63);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$PositionalArgsList$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$PositionalArgsList$scan() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(67);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        while (remainingLookahead> 0) {
+            int int97= currentLookaheadIndex;
+            if (!(check$FEL_javacc$line_1081$column_8())) {
+                currentLookaheadIndex= int97;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1070$column_8() {
+        if (remainingLookahead<=0) return true;
+        int int98= currentLookaheadIndex;
+        if (!(scanToken(TokenType.COMMA))) currentLookaheadIndex= int98;
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (!scanToken(TokenType.EQUALS)) return false;
+        pushOntoLookaheadStack(66);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_1081$column_8() {
+        if (remainingLookahead<=0) return true;
+        int int99= currentLookaheadIndex;
+        if (!(scanToken(TokenType.COMMA))) currentLookaheadIndex= int99;
+        pushOntoLookaheadStack(68);
+        if (!check$Expression()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$FEL_javacc$line_934$column_9() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$FEL_javacc$line_934$column_9$scan();
+        }
+        long memoKey= scanMemoKey(64);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$FEL_javacc$line_934$column_9$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$FEL_javacc$line_934$column_9$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.EXCLAM)) return false;
+            pushOntoLookaheadStack(30);
+            if (!check$BaseExpression()) {
+                popLookaheadStack();
+                return false;
+            }
+            popLookaheadStack();
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$FEL_javacc$line_947$column_5() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$FEL_javacc$line_947$column_5$scan();
+        }
+        long memoKey= scanMemoKey(65);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$FEL_javacc$line_947$column_5$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$FEL_javacc$line_947$column_5$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(first_set$FEL_javacc$line_947$column_15)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$FEL_javacc$line_1057$column_9() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$FEL_javacc$line_1057$column_9$scan();
+        }
+        long memoKey= scanMemoKey(66);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$FEL_javacc$line_1057$column_9$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$FEL_javacc$line_1057$column_9$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            if (!scanToken(TokenType.IDENTIFIER)) return false;
+            if (!scanToken(TokenType.EQUALS)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    private final boolean check$FTL_javacc$line_911$column_9() {
+        if (remainingLookahead!=Integer.MAX_VALUE||upToTokenType!=null) {
+            return check$FTL_javacc$line_911$column_9$scan();
+        }
+        long memoKey= scanMemoKey(67);
+        int memo= scanMemoLookup(memoKey);
+        if (memo== SCAN_FAILED) return false;
+        if (memo> 0) {
+            currentLookaheadIndex+=memo-1;
+            return true;
+        }
+        int startIndex= currentLookaheadIndex;
+        boolean result= check$FTL_javacc$line_911$column_9$scan();
+        scanMemoStore(memoKey, result?currentLookaheadIndex-startIndex+1:
+        SCAN_FAILED);
+        return result;
+    }
+
+    private final boolean check$FTL_javacc$line_911$column_9$scan() {
+        int prevRemainingLookahead= remainingLookahead;
+        int prevLookaheadIndex= currentLookaheadIndex;
+        try {
+            int int100= currentLookaheadIndex;
+            if (!(scanToken(TokenType.WHITESPACE))) currentLookaheadIndex= int100;
+            if (!scanToken(TokenType.FTL_DIRECTIVE_OPEN)) return false;
+            if (!scanToken(TokenType.FTL)) return false;
+            return true;
+        }
+        finally {
+            currentLookaheadIndex= prevLookaheadIndex;
+            remainingLookahead= prevRemainingLookahead;
+        }
+    }
+
+    // Without DEBUG_PARSER, these are compile-time constants, so no tracing code is compiled in.
+    private static final boolean TRACE= false;
+    private static final boolean trace_enabled= false;
+    // So that the warning about setTracingEnabled(true) only comes up once
+    private static volatile boolean tracingWarningGiven;
+    /**
+  * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER),
+  * so this does nothing, apart from logging a warning (once) if tracing is asked for.
+  */
+    @Deprecated public void setTracingEnabled(boolean tracingEnabled) {
+        if (tracingEnabled&&!tracingWarningGiven) {
+            tracingWarningGiven= true;
+            LOGGER.warning("setTracingEnabled(true) does nothing, since the parser was generated without DEBUG_PARSER");
+        }
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(true)
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(false)
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+    // The parsing and lookahead stacks just hold indexes into the tables of call sites below.
+    // The NonTerminalCall objects are only created if there is an error to report.
+    private int[] parsingStack= new int[64];
+    private int parsingStackSize;
+    private int[] lookaheadStack= new int[64];
+    private int lookaheadStackSize;
+    private static final String[] CALL_SITE_PRODUCTIONS= {"Input", "Expression", "OrExpression", "OrExpression", "OrExpression", "AndExpression", "AndExpression", "AndExpression", "EqualityExpression", "EqualityExpression", "EqualityExpression", "RelationalExpression", "RelationalExpression", "RelationalExpression", "RangeExpression", "RangeExpression", "AdditiveExpression", "AdditiveExpression", "AdditiveExpression", "MultiplicativeExpression", "MultiplicativeExpression", "MultiplicativeExpression", "UnaryExpression", "UnaryExpression", "UnaryExpression", "UnaryExpression", "UnaryPlusMinusExpression", "UnaryPlusMinusExpression", "NotExpression", "DefaultToExpression", "DefaultToExpression", "DefaultToExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "PrimaryExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "BaseExpression", "DotKey", "DynamicKey", "MethodInvoke", "ListLiteral", "ListLiteral", "StringLiteral", "HashLiteral", "HashLiteral", "HashLiteral", "HashLiteral", "NumberLiteral", "BooleanLiteral", "Parenthesis", "ArgsList", "ArgsList", "ArgsList", "NamedArgsList", "NamedArgsList", "PositionalArgsList", "PositionalArgsList", "IdentifierOrStringLiteral", "IdentifierOrStringLiteral", "Interpolation", "NumericalInterpolation", "Assignment", "Assignment", "Assignment", "Assignment", "Assignment", "Assignment", "Assignment", "Assignment", "Assignment", "Assignment", "Assignment", "Var", "Var", "Var", "Var", "Var", "Setting", "Setting", "Setting", "Setting", "Attempt", "Attempt", "Trim", "NoTrim", "RightTrim", "LeftTrim", "Break", "Flush", "Return", "Return", "Stop", "Stop", "Compress", "Compress", "TrimBlock", "TrimBlock", "TrimBlock", "NoEscapeBlock", "NoEscapeBlock", "EscapeBlock", "EscapeBlock", "EscapeBlock", "Include", "Include", "Include", "Embed", "Embed", "Import", "Import", "Visit", "Visit", "Visit", "Visit", "Recurse", "Recurse", "Recurse", "Recurse", "Recurse", "Recurse", "FallBack", "If", "If", "If", "If", "If", "ElseIf", "ElseIf", "Else", "Switch", "Switch", "Switch", "Switch", "Case", "Case", "Default", "List", "List", "List", "ForEach", "ForEach", "ForEach", "Nested", "Nested", "MacroDefinition", "MacroDefinition", "MacroDefinition", "MacroDefinition", "MacroDefinition", "ParameterList", "ParameterList", "LooseTagEnd", "Text", "Recover", "Recover", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "TopLevelDirective", "UserDirective", "UserDirective", "UserDirective", "UserDirective", "UserDirective", "UserDirective", "Block", "Block", "Block", "Block", "Block", "Block", "FTLHeader", "FTLHeader", "Root", "Root"};
+    private static final String[] CALL_SITE_FILES= {"FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FEL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc", "FTL.javacc"};
+    private static final int[] CALL_SITE_LINES= {828, 837, 842, 844, 844, 850, 852, 852, 858, 860, 861, 867, 869, 870, 876, 881, 888, 890, 891, 897, 899, 900, 907, 907, 909, 911, 916, 916, 922, 932, 934, 935, 945, 947, 949, 949, 951, 953, 955, 957, 964, 966, 968, 970, 972, 974, 976, 978, 980, 987, 992, 998, 1014, 1014, 1020, 1028, 1028, 1029, 1029, 1036, 1041, 1051, 1057, 1058, 1060, 1068, 1073, 1079, 1082, 388, 390, 396, 401, 412, 418, 420, 421, 422, 422, 423, 424, 428, 430, 431, 439, 439, 440, 440, 441, 447, 448, 448, 449, 455, 456, 477, 484, 491, 498, 505, 510, 516, 517, 523, 524, 531, 532, 542, 551, 552, 558, 559, 569, 571, 572, 578, 580, 581, 587, 588, 594, 597, 605, 608, 611, 614, 621, 621, 625, 627, 628, 630, 639, 645, 647, 649, 652, 654, 660, 662, 668, 674, 678, 681, 683, 689, 689, 695, 701, 705, 706, 714, 716, 717, 723, 724, 734, 739, 741, 744, 745, 754, 759, 769, 796, 806, 807, 813, 813, 814, 815, 816, 817, 818, 819, 820, 821, 822, 823, 824, 825, 826, 827, 828, 829, 830, 831, 832, 833, 834, 835, 836, 837, 838, 839, 840, 841, 842, 853, 856, 857, 859, 863, 864, 879, 879, 881, 883, 885, 887, 900, 903, 913, 915};
+    private static final int[] CALL_SITE_COLUMNS= {4, 5, 5, 10, 22, 5, 10, 24, 5, 10, 9, 5, 10, 9, 5, 11, 5, 13, 12, 5, 12, 11, 5, 5, 5, 5, 6, 22, 5, 5, 27, 17, 3, 15, 7, 7, 7, 7, 7, 7, 5, 5, 5, 5, 5, 5, 5, 5, 5, 6, 19, 16, 6, 29, 5, 8, 29, 16, 37, 5, 5, 17, 9, 9, 9, 5, 8, 5, 8, 5, 5, 18, 28, 8, 5, 7, 16, 19, 56, 14, 8, 17, 10, 10, 5, 43, 15, 53, 5, 28, 15, 53, 5, 5, 5, 5, 5, 5, 5, 5, 32, 13, 5, 13, 5, 5, 5, 9, 5, 5, 5, 5, 5, 5, 5, 5, 26, 5, 5, 5, 5, 5, 5, 8, 12, 5, 8, 8, 12, 13, 24, 11, 5, 5, 5, 18, 18, 5, 5, 5, 5, 5, 13, 13, 5, 5, 28, 5, 5, 5, 5, 5, 5, 5, 13, 5, 7, 5, 6, 5, 5, 15, 20, 5, 8, 5, 5, 6, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 5, 6, 18, 8, 11, 11, 6, 6, 6, 6, 6, 6, 11, 6, 9, 5};
+    private EnumSet<TokenType> currentFollowSet;
+    /**
+ * Inner class that represents entering a grammar production
+ */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile= sourceFile;
+            this.productionName= productionName;
+            this.line= line;
+            this.column= column;
+        }
+
+        NonTerminalCall(int callSite) {
+            this(CALL_SITE_FILES[callSite], CALL_SITE_PRODUCTIONS[callSite], CALL_SITE_LINES[callSite], CALL_SITE_COLUMNS[callSite]);
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("FTLParser", productionName, sourceFile, line);
+        }
+
+    }
+    private final void pushOntoCallStack(int callSite) {
+        if (parsingStackSize== parsingStack.length) {
+            parsingStack= Arrays.copyOf(parsingStack, parsingStackSize*2);
+        }
+        parsingStack[parsingStackSize++]= callSite;
+    }
+
+    private final void popCallStack() {
+        parsingStackSize--;
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        if (parsingStackSize> prevSize) {
+            parsingStackSize= prevSize;
+        }
+    }
+
+    /**
+ * @return the parsing stack as a list of NonTerminalCall objects
+ */
+    List<NonTerminalCall> getCallStack() {
+        List<NonTerminalCall> result= new ArrayList<> (parsingStackSize);
+        for (int i= 0; i<parsingStackSize; i++) {
+            result.add(new NonTerminalCall(parsingStack[i]));
+        }
+        return result;
+    }
+
+    // The number of entries in the parsing stack and the lookahead stack together
+    private final int callStackDepth() {
+        return parsingStackSize+lookaheadStackSize;
+    }
+
+    // The call site of an entry in the parsing stack followed by the lookahead stack
+    private final int callStackEntry(int index) {
+        return index<parsingStackSize?parsingStack[index]:
+        lookaheadStack[index-parsingStackSize];
+    }
+
+    private final void pushOntoLookaheadStack(int callSite) {
+        if (lookaheadStackSize== lookaheadStack.length) {
+            lookaheadStack= Arrays.copyOf(lookaheadStack, lookaheadStackSize*2);
+        }
+        lookaheadStack[lookaheadStackSize++]= callSite;
+    }
+
+    private final void popLookaheadStack() {
+        lookaheadStackSize--;
+    }
+
+    private final boolean tolerantParsing= false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) throws ParseException {
+        boolean forced= false;
+        InvalidToken invalidToken= null;
+        Token oldToken= current_token;
+        current_token= current_token.getNext();
+        if (current_token== null) {
+            current_token= token_source.getNextToken();
+        }
+        if (current_token.getType()!=expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken);
+        }
+        else {
+            this.lastParsedToken= current_token;
+        }
+        if (buildTree&&tokensAreNodes) {
+            if (invalidToken!=null) {
+                pushNode(invalidToken);
+            }
+            pushNode(current_token);
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Consumed token of type "+current_token.getType()+" from "+current_token.getLocation());
+        return current_token;
+    }
+
+    private void handleUnexpectedTokenType(TokenType expectedType, boolean forced, Token oldToken) throws ParseException {
+        throw new ParseException(current_token, EnumSet.of(expectedType), getCallStack());
+    }
+
+    private class ParseState {
+        Token lastParsed;
+        NodeScope nodeScope;
+        ParseState() {
+            this.lastParsed= FTLParser.this.lastParsedToken;
+            this.nodeScope= (NodeScope) currentNodeScope.clone();
+        }
+
+    }
+    private ArrayList<ParseState> parseStateStack= new ArrayList<> ();
+    void stashParseState() {
+        parseStateStack.add(new ParseState());
+    }
+
+    ParseState popParseState() {
+        return parseStateStack.remove(parseStateStack.size()-1);
+    }
+
+    void restoreStashedParseState() {
+        ParseState state= popParseState();
+        currentNodeScope= state.nodeScope;
+        if (state.lastParsed!=null) {
+            //REVISIT
+            current_token= lastParsedToken= state.lastParsed;
+        }
+        token_source.switchTo(lastParsedToken.getLexicalState());
+        if (token_source.doLexicalStateSwitch(lastParsedToken.getType())) {
+            token_source.reset(lastParsedToken);
+            lastParsedToken.setNext(null);
+            clearLookaheadTokens();
+        }
+    }
+
+    private boolean buildTree= true;
+    private boolean tokensAreNodes= true;
+    private boolean unparsedTokensAreNodes= false;
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes= unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes= tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope= new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        Node root= currentNodeScope.rootNode();
+        recursivelySetInputSource(root, this.token_source.input_stream);
+        return root;
+    }
+
+    static private void recursivelySetInputSource(Node n, FileLineMap fileLineMap) {
+        n.setInputSource(fileLineMap);
+        for (Node child : n.children()) {
+            //            if (child instanceof Token) {
+            //                 ((Token) child).setImage(null);
+            //            } 
+            recursivelySetInputSource(child, fileLineMap);
+        }
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    public void openNodeScope(Node n) {
+        Token start= getToken(1);
+        n.setBeginLine(start.getBeginLine());
+        n.setBeginColumn(start.getBeginColumn());
+        n.setInputSource(token_source.input_stream);
+        new NodeScope();
+        n.open();
+        if (TRACE&&trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (TRACE&&trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (TRACE&&trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes= new ArrayList<Node> ();
+        for (int i= 0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                Token token= (Token) child;
+                Token specialToken= token;
+                while (specialToken!=null) {
+                    specialToken= specialToken.getSpecialToken();
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken= specialToken.getNext();
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n, boolean condition) {
+        n.setEndLine(current_token.getEndLine());
+        n.setEndColumn(current_token.getEndColumn());
+        if (condition) {
+            if (TRACE&&trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a= nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes= new ArrayList<Node> ();
+            while (a--> 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes&&(child instanceof Token)) {
+                    Token token= (Token) child;
+                    Token specialToken= token;
+                    while (specialToken.getSpecialToken()!=null) {
+                        specialToken= specialToken.getSpecialToken();
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken= specialToken.getNext();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (TRACE&&trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree= buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    FTLParser jjtree= this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node>  {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope= FTLParser.this.currentNodeScope;
+            FTLParser.this.currentNodeScope= this;
+        }
+
+        boolean isRootScope() {
+            return parentScope== null;
+        }
+
+        Node rootNode() {
+            NodeScope ns= this;
+            while (ns.parentScope!=null) {
+                ns= ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        Node pop() {
+            return isEmpty()?parentScope.pop():
+            remove(size()-1);
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            FTLParser.this.currentNodeScope= parentScope;
+        }
+
+        int nestingLevel() {
+            int result= 0;
+            NodeScope parent= this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent= parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+}
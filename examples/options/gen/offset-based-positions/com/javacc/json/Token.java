@@ -0,0 +1,328 @@
+/* Generated by: JavaCC 21 Parser Generator. Token.java */
+package com.javacc.json;
+
+import java.util.*;
+import com.javacc.json.ast.*;
+public class Token implements JSONConstants, Node {
+    private FileLineMap fileLineMap;
+    public FileLineMap getFileLineMap() {
+        if (fileLineMap== null) {
+            Node n= getParent();
+            while (n!=null) {
+                fileLineMap= n.getFileLineMap();
+                if (fileLineMap!=null) break;
+                n= n.getParent();
+            }
+        }
+        return fileLineMap;
+    }
+
+    public Token(TokenType type, String image, FileLineMap fileLineMap) {
+        this.type= type;
+        this.image= image;
+        this.fileLineMap= fileLineMap;
+    }
+
+    public void setInputSource(FileLineMap fileLineMap) {
+        this.fileLineMap= fileLineMap;
+    }
+
+    private String inputSource= "";
+    private TokenType type;
+    public TokenType getType() {
+        return type;
+    }
+
+    void setType(TokenType type) {
+        this.type= type;
+    }
+
+    /**
+     * The string image of the token.
+     */
+    private String image;
+    // The token's location in the FileLineMap content, the end offset being exclusive.
+    private int beginOffset, endOffset;
+    public int getBeginOffset() {
+        return beginOffset;
+    }
+
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    public void setBeginOffset(int beginOffset) {
+        this.beginOffset= beginOffset;
+    }
+
+    public void setEndOffset(int endOffset) {
+        this.endOffset= endOffset;
+    }
+
+    public String getImage() {
+        if (image== null) {
+            return getSource();
+        }
+        return image;
+    }
+
+    public void setImage(String image) {
+        this.image= image;
+    }
+
+    private LexicalState lexicalState;
+    void setLexicalState(LexicalState state) {
+        this.lexicalState= state;
+    }
+
+    LexicalState getLexicalState() {
+        return lexicalState;
+    }
+
+    private Token next;
+    Token getNext() {
+        return next;
+    }
+
+    void setNext(Token next) {
+        this.next= next;
+    }
+
+    /**
+     * This field is used to access special tokens that occur prior to this
+     * token, but after the immediately preceding regular (non-special) token.
+     * If there are no such special tokens, this field is set to null.
+     * When there are more than one such special token, this field refers
+     * to the last of these special tokens, which in turn refers to the next
+     * previous special token through its specialToken field, and so on
+     * until the first special token (whose specialToken field is null).
+     * The next fields of special tokens refer to other special tokens that
+     * immediately follow it (without an intervening regular token).  If there
+     * is no such token, this field is null.
+     */
+    private Token specialToken;
+    public Token getSpecialToken() {
+        return specialToken;
+    }
+
+    public void setSpecialToken(Token specialToken) {
+        this.specialToken= specialToken;
+    }
+
+    private boolean unparsed;
+    //Should find a way to get rid of this.
+    Token() {
+    }
+
+    public Token(int kind) {
+        this(kind, null);
+        this.type= TokenType.values()[kind];
+    }
+
+    /**
+     * Constructs a new token for the specified Image and Kind.
+     */
+    public Token(int kind, String image) {
+        this.type= TokenType.values()[kind];
+        this.image= image;
+        ;
+    }
+
+    public Token(TokenType type, String image, String inputSource) {
+        this.type= type;
+        this.image= image;
+        this.inputSource= inputSource;
+    }
+
+    public boolean isUnparsed() {
+        return unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void clearChildren() {
+    }
+
+    public String getNormalizedText() {
+        if (getType()== TokenType.EOF) {
+            return"EOF";
+        }
+        return getImage();
+    }
+
+    public String toString() {
+        return getNormalizedText();
+    }
+
+    public static Token newToken(TokenType type, String image, FileLineMap fileLineMap) {
+        switch(type) {
+            case WHITESPACE:
+            return new WHITESPACE(TokenType.WHITESPACE, image, fileLineMap);
+            case COLON:
+            return new Delimiter(TokenType.COLON, image, fileLineMap);
+            case COMMA:
+            return new Delimiter(TokenType.COMMA, image, fileLineMap);
+            case OPEN_BRACKET:
+            return new Delimiter(TokenType.OPEN_BRACKET, image, fileLineMap);
+            case CLOSE_BRACKET:
+            return new Delimiter(TokenType.CLOSE_BRACKET, image, fileLineMap);
+            case OPEN_BRACE:
+            return new Delimiter(TokenType.OPEN_BRACE, image, fileLineMap);
+            case CLOSE_BRACE:
+            return new Delimiter(TokenType.CLOSE_BRACE, image, fileLineMap);
+            case TRUE:
+            return new BooleanLiteral(TokenType.TRUE, image, fileLineMap);
+            case FALSE:
+            return new BooleanLiteral(TokenType.FALSE, image, fileLineMap);
+            case NULL:
+            return new NullLiteral(TokenType.NULL, image, fileLineMap);
+            case STRING_LITERAL:
+            return new StringLiteral(TokenType.STRING_LITERAL, image, fileLineMap);
+            case NUMBER:
+            return new NumberLiteral(TokenType.NUMBER, image, fileLineMap);
+            default:
+            return new Token(type, image, fileLineMap);
+        }
+    }
+
+    public static Token newToken(TokenType type, String image, JSONParser parser) {
+        return newToken(type, image, parser.token_source);
+    }
+
+    public static Token newToken(TokenType type, String image, JSONLexer lexer) {
+        return newToken(type, image, lexer.input_stream);
+    }
+
+    public static Token newToken(TokenType type, String image, Node node) {
+        return newToken(type, image, node.getFileLineMap());
+    }
+
+    // The line and column are worked out from the offsets. Setting
+    // a line moves the position to the start of that line, so the
+    // line has to be set before the column.
+    public void setBeginLine(int beginLine) {
+        this.beginOffset= getFileLineMap().getOffset(beginLine, 1);
+    }
+
+    public void setBeginColumn(int beginColumn) {
+        this.beginOffset= getFileLineMap().getOffset(getBeginLine(), beginColumn);
+    }
+
+    public void setEndLine(int endLine) {
+        this.endOffset= getFileLineMap().getOffset(endLine, 1)+1;
+    }
+
+    public void setEndColumn(int endColumn) {
+        this.endOffset= getFileLineMap().getOffset(getEndLine(), endColumn)+1;
+    }
+
+    public int getBeginLine() {
+        FileLineMap fileLineMap= getFileLineMap();
+        return fileLineMap== null?0:
+        fileLineMap.getLineFromOffset(beginOffset);
+    }
+
+    public int getBeginColumn() {
+        FileLineMap fileLineMap= getFileLineMap();
+        return fileLineMap== null?0:
+        fileLineMap.getColumnFromOffset(beginOffset);
+    }
+
+    public int getEndLine() {
+        FileLineMap fileLineMap= getFileLineMap();
+        return fileLineMap== null?0:
+        fileLineMap.getLineFromOffset(Math.max(beginOffset, endOffset-1));
+    }
+
+    public int getEndColumn() {
+        FileLineMap fileLineMap= getFileLineMap();
+        if (fileLineMap== null) {
+            return 0;
+        }
+        if (type== TokenType.EOF&&endOffset== beginOffset) {
+            // As when the lines and columns are kept, the EOF token ends just
+            // before it begins, unless it is at the start of a line.
+            int column= fileLineMap.getColumnFromOffset(beginOffset);
+            return column> 1?column-1:
+            column;
+        }
+        return fileLineMap.getColumnFromOffset(Math.max(beginOffset, endOffset-1));
+    }
+
+    private Node parent;
+    private Map<String, Object> attributes;
+    public void setChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Node removeChild(int i) {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean removeChild(Node n) {
+        return false;
+    }
+
+    public int indexOf(Node n) {
+        return-1;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void setParent(Node parent) {
+        this.parent= parent;
+    }
+
+    public int getChildCount() {
+        return 0;
+    }
+
+    public Node getChild(int i) {
+        return null;
+    }
+
+    public List<Node> children() {
+        return Collections.emptyList();
+    }
+
+    public void open() {
+    }
+
+    public void close() {
+    }
+
+    public Object getAttribute(String name) {
+        return attributes== null?null:
+        attributes.get(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes== null) {
+            attributes= new HashMap<String, Object> ();
+        }
+        attributes.put(name, value);
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes== null?false:
+        attributes.containsKey(name);
+    }
+
+    public Set<String> getAttributeNames() {
+        if (attributes== null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+
+}
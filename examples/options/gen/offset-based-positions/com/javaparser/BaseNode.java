@@ -0,0 +1,240 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BaseNode.java */
+package com.javaparser;
+
+import java.util.*;
+@SuppressWarnings("rawtypes")
+public class BaseNode implements Node, JavaConstants {
+    protected String getLiteralText() {
+        StringBuilder buf= new StringBuilder();
+        for (Token t : Nodes.getAllTokens(this, true, true)) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+
+    protected String getInnerText() {
+        StringBuilder buf= new StringBuilder();
+        List<Token> tokens= Nodes.getAllTokens(this, true, true);
+        boolean outputOpeningBrace= false;
+        for (int i= 0; i<tokens.size()-1; i++) {
+            Token t= tokens.get(i);
+            if (outputOpeningBrace) {
+                buf.append(t);
+            }
+            else if (t.getType()== TokenType.LBRACE) {
+                outputOpeningBrace= true;
+            }
+        }
+        return buf.toString();
+    }
+
+    public ListIterator<Node> iterator() {
+        return Nodes.iterator(this);
+    }
+
+    public void prepend(Node n) {
+        ListIterator<Node> iterator= iterator();
+        iterator.add(n);
+    }
+
+    public String getAsString() {
+        return getLiteralText();
+    }
+
+    public boolean isEmpty() {
+        return Nodes.getRealTokens(this).size()== 0;
+    }
+
+    private FileLineMap fileLineMap;
+    public FileLineMap getFileLineMap() {
+        return fileLineMap;
+    }
+
+    public void setInputSource(FileLineMap fileLineMap) {
+        this.fileLineMap= fileLineMap;
+    }
+
+    static private Class listClass= ArrayList.class;
+    static public void setListClass(Class<?extends List> listClass) {
+        BaseNode.listClass= listClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Node> newList() {
+        try {
+            return(List<Node> ) listClass.getDeclaredConstructor().newInstance();
+        }
+        catch(Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected Node parent;
+    private List<Node> children= newList();
+    /**
+     * @return the children of this node, in a list that can be changed. Code injected
+     * into the node classes gets at the children through this, or the methods of Node.
+     */
+    protected List<Node> childList() {
+        return children;
+    }
+
+    private int beginOffset= -1, endOffset= -1;
+    private Map<String, Object> attributes;
+    private boolean unparsed;
+    public boolean isUnparsed() {
+        return this.unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void open() {
+    }
+
+    public void close() {
+    }
+
+    public void setParent(Node n) {
+        parent= n;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void addChild(Node n) {
+        childList().add(n);
+        n.setParent(this);
+    }
+
+    public void addChild(int i, Node n) {
+        childList().add(i, n);
+        n.setParent(this);
+    }
+
+    public Node getChild(int i) {
+        return childList().get(i);
+    }
+
+    public void setChild(int i, Node n) {
+        childList().set(i, n);
+        n.setParent(this);
+    }
+
+    public Node removeChild(int i) {
+        return childList().remove(i);
+    }
+
+    public boolean removeChild(Node n) {
+        return childList().remove(n);
+    }
+
+    public void clearChildren() {
+        children.clear();
+    }
+
+    public int getChildCount() {
+        return childList().size();
+    }
+
+    public List<Node> children() {
+        return Collections.unmodifiableList(childList());
+    }
+
+    public Object getAttribute(String name) {
+        return attributes== null?null:
+        attributes.get(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes== null) {
+            attributes= new HashMap<String, Object> ();
+        }
+        attributes.put(name, value);
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes== null?false:
+        attributes.containsKey(name);
+    }
+
+    public Set<String> getAttributeNames() {
+        if (attributes== null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+
+    public int getBeginOffset() {
+        if (beginOffset<0&&!childList().isEmpty()) {
+            beginOffset= childList().get(0).getBeginOffset();
+        }
+        return beginOffset;
+    }
+
+    public int getEndOffset() {
+        if (endOffset<0&&!childList().isEmpty()) {
+            endOffset= childList().get(childList().size()-1).getEndOffset();
+        }
+        return endOffset;
+    }
+
+    public void setBeginOffset(int beginOffset) {
+        this.beginOffset= beginOffset;
+    }
+
+    public void setEndOffset(int endOffset) {
+        this.endOffset= endOffset;
+    }
+
+    public int getBeginLine() {
+        int offset= getBeginOffset();
+        return offset<0||fileLineMap== null?0:
+        fileLineMap.getLineFromOffset(offset);
+    }
+
+    public int getBeginColumn() {
+        int offset= getBeginOffset();
+        return offset<0||fileLineMap== null?0:
+        fileLineMap.getColumnFromOffset(offset);
+    }
+
+    public int getEndLine() {
+        int offset= Math.max(getBeginOffset(), getEndOffset()-1);
+        return offset<0||fileLineMap== null?0:
+        fileLineMap.getLineFromOffset(offset);
+    }
+
+    public int getEndColumn() {
+        int offset= Math.max(getBeginOffset(), getEndOffset()-1);
+        return offset<0||fileLineMap== null?0:
+        fileLineMap.getColumnFromOffset(offset);
+    }
+
+    // Setting a line moves the position to the start of that line,
+    // so the line has to be set before the column.
+    public void setBeginLine(int beginLine) {
+        this.beginOffset= fileLineMap.getOffset(beginLine, 1);
+    }
+
+    public void setEndLine(int endLine) {
+        this.endOffset= fileLineMap.getOffset(endLine, 1)+1;
+    }
+
+    public void setBeginColumn(int beginColumn) {
+        this.beginOffset= fileLineMap.getOffset(getBeginLine(), beginColumn);
+    }
+
+    public void setEndColumn(int endColumn) {
+        this.endOffset= fileLineMap.getOffset(getEndLine(), endColumn)+1;
+    }
+
+    public String toString() {
+        StringBuilder buf= new StringBuilder();
+        for (Token t : Nodes.getRealTokens(this)) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+
+}
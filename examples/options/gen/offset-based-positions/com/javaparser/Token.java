@@ -0,0 +1,530 @@
+/* Generated by: JavaCC 21 Parser Generator. Token.java */
+package com.javaparser;
+
+import java.util.*;
+import com.javaparser.ast.*;
+public class Token implements JavaConstants, Node {
+    private FileLineMap fileLineMap;
+    public FileLineMap getFileLineMap() {
+        if (fileLineMap== null) {
+            Node n= getParent();
+            while (n!=null) {
+                fileLineMap= n.getFileLineMap();
+                if (fileLineMap!=null) break;
+                n= n.getParent();
+            }
+        }
+        return fileLineMap;
+    }
+
+    public Token(TokenType type, String image, FileLineMap fileLineMap) {
+        this.type= type;
+        this.image= image;
+        this.fileLineMap= fileLineMap;
+    }
+
+    public void setInputSource(FileLineMap fileLineMap) {
+        this.fileLineMap= fileLineMap;
+    }
+
+    private String inputSource= "";
+    private TokenType type;
+    public TokenType getType() {
+        return type;
+    }
+
+    void setType(TokenType type) {
+        this.type= type;
+    }
+
+    /**
+     * The string image of the token.
+     */
+    private String image;
+    // The token's location in the FileLineMap content, the end offset being exclusive.
+    private int beginOffset, endOffset;
+    public int getBeginOffset() {
+        return beginOffset;
+    }
+
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    public void setBeginOffset(int beginOffset) {
+        this.beginOffset= beginOffset;
+    }
+
+    public void setEndOffset(int endOffset) {
+        this.endOffset= endOffset;
+    }
+
+    public String getImage() {
+        if (image== null) {
+            return getSource();
+        }
+        return image;
+    }
+
+    public void setImage(String image) {
+        this.image= image;
+    }
+
+    private LexicalState lexicalState;
+    void setLexicalState(LexicalState state) {
+        this.lexicalState= state;
+    }
+
+    LexicalState getLexicalState() {
+        return lexicalState;
+    }
+
+    private Token next;
+    Token getNext() {
+        return next;
+    }
+
+    void setNext(Token next) {
+        this.next= next;
+    }
+
+    /**
+     * This field is used to access special tokens that occur prior to this
+     * token, but after the immediately preceding regular (non-special) token.
+     * If there are no such special tokens, this field is set to null.
+     * When there are more than one such special token, this field refers
+     * to the last of these special tokens, which in turn refers to the next
+     * previous special token through its specialToken field, and so on
+     * until the first special token (whose specialToken field is null).
+     * The next fields of special tokens refer to other special tokens that
+     * immediately follow it (without an intervening regular token).  If there
+     * is no such token, this field is null.
+     */
+    private Token specialToken;
+    public Token getSpecialToken() {
+        return specialToken;
+    }
+
+    public void setSpecialToken(Token specialToken) {
+        this.specialToken= specialToken;
+    }
+
+    private boolean unparsed;
+    //Should find a way to get rid of this.
+    Token() {
+    }
+
+    public Token(int kind) {
+        this(kind, null);
+        this.type= TokenType.values()[kind];
+    }
+
+    /**
+     * Constructs a new token for the specified Image and Kind.
+     */
+    public Token(int kind, String image) {
+        this.type= TokenType.values()[kind];
+        this.image= image;
+        ;
+    }
+
+    public Token(TokenType type, String image, String inputSource) {
+        this.type= type;
+        this.image= image;
+        this.inputSource= inputSource;
+    }
+
+    public boolean isUnparsed() {
+        return unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void clearChildren() {
+    }
+
+    public String getNormalizedText() {
+        if (getType()== TokenType.EOF) {
+            return"EOF";
+        }
+        return getImage();
+    }
+
+    public String toString() {
+        return getNormalizedText();
+    }
+
+    public static Token newToken(TokenType type, String image, FileLineMap fileLineMap) {
+        switch(type) {
+            case WHITESPACE:
+            return new Whitespace(TokenType.WHITESPACE, image, fileLineMap);
+            case MULTI_LINE_COMMENT:
+            return new Comment(TokenType.MULTI_LINE_COMMENT, image, fileLineMap);
+            case SINGLE_LINE_COMMENT:
+            return new Comment(TokenType.SINGLE_LINE_COMMENT, image, fileLineMap);
+            case FORMAL_COMMENT:
+            return new JavaDocComment(TokenType.FORMAL_COMMENT, image, fileLineMap);
+            case ABSTRACT:
+            return new KeyWord(TokenType.ABSTRACT, image, fileLineMap);
+            case ASSERT:
+            return new KeyWord(TokenType.ASSERT, image, fileLineMap);
+            case BOOLEAN:
+            return new KeyWord(TokenType.BOOLEAN, image, fileLineMap);
+            case BREAK:
+            return new KeyWord(TokenType.BREAK, image, fileLineMap);
+            case BYTE:
+            return new KeyWord(TokenType.BYTE, image, fileLineMap);
+            case CASE:
+            return new KeyWord(TokenType.CASE, image, fileLineMap);
+            case CATCH:
+            return new KeyWord(TokenType.CATCH, image, fileLineMap);
+            case CHAR:
+            return new KeyWord(TokenType.CHAR, image, fileLineMap);
+            case CLASS:
+            return new KeyWord(TokenType.CLASS, image, fileLineMap);
+            case CONST:
+            return new KeyWord(TokenType.CONST, image, fileLineMap);
+            case CONTINUE:
+            return new KeyWord(TokenType.CONTINUE, image, fileLineMap);
+            case _DEFAULT:
+            return new KeyWord(TokenType._DEFAULT, image, fileLineMap);
+            case DO:
+            return new KeyWord(TokenType.DO, image, fileLineMap);
+            case DOUBLE:
+            return new KeyWord(TokenType.DOUBLE, image, fileLineMap);
+            case ELSE:
+            return new KeyWord(TokenType.ELSE, image, fileLineMap);
+            case ENUM:
+            return new KeyWord(TokenType.ENUM, image, fileLineMap);
+            case EXTENDS:
+            return new KeyWord(TokenType.EXTENDS, image, fileLineMap);
+            case FALSE:
+            return new KeyWord(TokenType.FALSE, image, fileLineMap);
+            case FINAL:
+            return new KeyWord(TokenType.FINAL, image, fileLineMap);
+            case FINALLY:
+            return new KeyWord(TokenType.FINALLY, image, fileLineMap);
+            case FLOAT:
+            return new KeyWord(TokenType.FLOAT, image, fileLineMap);
+            case FOR:
+            return new KeyWord(TokenType.FOR, image, fileLineMap);
+            case GOTO:
+            return new KeyWord(TokenType.GOTO, image, fileLineMap);
+            case IF:
+            return new KeyWord(TokenType.IF, image, fileLineMap);
+            case IMPLEMENTS:
+            return new KeyWord(TokenType.IMPLEMENTS, image, fileLineMap);
+            case IMPORT:
+            return new KeyWord(TokenType.IMPORT, image, fileLineMap);
+            case INSTANCEOF:
+            return new KeyWord(TokenType.INSTANCEOF, image, fileLineMap);
+            case INT:
+            return new KeyWord(TokenType.INT, image, fileLineMap);
+            case INTERFACE:
+            return new KeyWord(TokenType.INTERFACE, image, fileLineMap);
+            case LONG:
+            return new KeyWord(TokenType.LONG, image, fileLineMap);
+            case NATIVE:
+            return new KeyWord(TokenType.NATIVE, image, fileLineMap);
+            case NEW:
+            return new KeyWord(TokenType.NEW, image, fileLineMap);
+            case NULL:
+            return new KeyWord(TokenType.NULL, image, fileLineMap);
+            case PACKAGE:
+            return new KeyWord(TokenType.PACKAGE, image, fileLineMap);
+            case PRIVATE:
+            return new KeyWord(TokenType.PRIVATE, image, fileLineMap);
+            case PROTECTED:
+            return new KeyWord(TokenType.PROTECTED, image, fileLineMap);
+            case PUBLIC:
+            return new KeyWord(TokenType.PUBLIC, image, fileLineMap);
+            case RETURN:
+            return new KeyWord(TokenType.RETURN, image, fileLineMap);
+            case SHORT:
+            return new KeyWord(TokenType.SHORT, image, fileLineMap);
+            case STATIC:
+            return new KeyWord(TokenType.STATIC, image, fileLineMap);
+            case STRICTFP:
+            return new KeyWord(TokenType.STRICTFP, image, fileLineMap);
+            case SUPER:
+            return new KeyWord(TokenType.SUPER, image, fileLineMap);
+            case SWITCH:
+            return new KeyWord(TokenType.SWITCH, image, fileLineMap);
+            case SYNCHRONIZED:
+            return new KeyWord(TokenType.SYNCHRONIZED, image, fileLineMap);
+            case THIS:
+            return new KeyWord(TokenType.THIS, image, fileLineMap);
+            case THROW:
+            return new KeyWord(TokenType.THROW, image, fileLineMap);
+            case THROWS:
+            return new KeyWord(TokenType.THROWS, image, fileLineMap);
+            case TRANSIENT:
+            return new KeyWord(TokenType.TRANSIENT, image, fileLineMap);
+            case TRUE:
+            return new KeyWord(TokenType.TRUE, image, fileLineMap);
+            case TRY:
+            return new KeyWord(TokenType.TRY, image, fileLineMap);
+            case VOID:
+            return new KeyWord(TokenType.VOID, image, fileLineMap);
+            case VOLATILE:
+            return new KeyWord(TokenType.VOLATILE, image, fileLineMap);
+            case WHILE:
+            return new KeyWord(TokenType.WHILE, image, fileLineMap);
+            case LONG_LITERAL:
+            return new Literal(TokenType.LONG_LITERAL, image, fileLineMap);
+            case INTEGER_LITERAL:
+            return new Literal(TokenType.INTEGER_LITERAL, image, fileLineMap);
+            case FLOATING_POINT_LITERAL:
+            return new Literal(TokenType.FLOATING_POINT_LITERAL, image, fileLineMap);
+            case CHARACTER_LITERAL:
+            return new Literal(TokenType.CHARACTER_LITERAL, image, fileLineMap);
+            case STRING_LITERAL:
+            return new Literal(TokenType.STRING_LITERAL, image, fileLineMap);
+            case LPAREN:
+            return new Delimiter(TokenType.LPAREN, image, fileLineMap);
+            case RPAREN:
+            return new Delimiter(TokenType.RPAREN, image, fileLineMap);
+            case LBRACE:
+            return new Delimiter(TokenType.LBRACE, image, fileLineMap);
+            case RBRACE:
+            return new Delimiter(TokenType.RBRACE, image, fileLineMap);
+            case LBRACKET:
+            return new Delimiter(TokenType.LBRACKET, image, fileLineMap);
+            case RBRACKET:
+            return new Delimiter(TokenType.RBRACKET, image, fileLineMap);
+            case SEMICOLON:
+            return new Delimiter(TokenType.SEMICOLON, image, fileLineMap);
+            case COMMA:
+            return new Delimiter(TokenType.COMMA, image, fileLineMap);
+            case DOT:
+            return new Delimiter(TokenType.DOT, image, fileLineMap);
+            case ASSIGN:
+            return new Delimiter(TokenType.ASSIGN, image, fileLineMap);
+            case DOUBLE_COLON:
+            return new Delimiter(TokenType.DOUBLE_COLON, image, fileLineMap);
+            case VAR_ARGS:
+            return new Delimiter(TokenType.VAR_ARGS, image, fileLineMap);
+            case AT:
+            return new Delimiter(TokenType.AT, image, fileLineMap);
+            case GT:
+            return new Operator(TokenType.GT, image, fileLineMap);
+            case LT:
+            return new Operator(TokenType.LT, image, fileLineMap);
+            case BANG:
+            return new Operator(TokenType.BANG, image, fileLineMap);
+            case TILDE:
+            return new Operator(TokenType.TILDE, image, fileLineMap);
+            case HOOK:
+            return new Operator(TokenType.HOOK, image, fileLineMap);
+            case COLON:
+            return new Operator(TokenType.COLON, image, fileLineMap);
+            case EQ:
+            return new Operator(TokenType.EQ, image, fileLineMap);
+            case LE:
+            return new Operator(TokenType.LE, image, fileLineMap);
+            case GE:
+            return new Operator(TokenType.GE, image, fileLineMap);
+            case NE:
+            return new Operator(TokenType.NE, image, fileLineMap);
+            case SC_OR:
+            return new Operator(TokenType.SC_OR, image, fileLineMap);
+            case SC_AND:
+            return new Operator(TokenType.SC_AND, image, fileLineMap);
+            case INCR:
+            return new Operator(TokenType.INCR, image, fileLineMap);
+            case DECR:
+            return new Operator(TokenType.DECR, image, fileLineMap);
+            case PLUS:
+            return new Operator(TokenType.PLUS, image, fileLineMap);
+            case MINUS:
+            return new Operator(TokenType.MINUS, image, fileLineMap);
+            case STAR:
+            return new Operator(TokenType.STAR, image, fileLineMap);
+            case SLASH:
+            return new Operator(TokenType.SLASH, image, fileLineMap);
+            case BIT_AND:
+            return new Operator(TokenType.BIT_AND, image, fileLineMap);
+            case BIT_OR:
+            return new Operator(TokenType.BIT_OR, image, fileLineMap);
+            case XOR:
+            return new Operator(TokenType.XOR, image, fileLineMap);
+            case REM:
+            return new Operator(TokenType.REM, image, fileLineMap);
+            case LSHIFT:
+            return new Operator(TokenType.LSHIFT, image, fileLineMap);
+            case PLUSASSIGN:
+            return new Operator(TokenType.PLUSASSIGN, image, fileLineMap);
+            case MINUSASSIGN:
+            return new Operator(TokenType.MINUSASSIGN, image, fileLineMap);
+            case STARASSIGN:
+            return new Operator(TokenType.STARASSIGN, image, fileLineMap);
+            case SLASHASSIGN:
+            return new Operator(TokenType.SLASHASSIGN, image, fileLineMap);
+            case ANDASSIGN:
+            return new Operator(TokenType.ANDASSIGN, image, fileLineMap);
+            case ORASSIGN:
+            return new Operator(TokenType.ORASSIGN, image, fileLineMap);
+            case XORASSIGN:
+            return new Operator(TokenType.XORASSIGN, image, fileLineMap);
+            case REMASSIGN:
+            return new Operator(TokenType.REMASSIGN, image, fileLineMap);
+            case LSHIFTASSIGN:
+            return new Operator(TokenType.LSHIFTASSIGN, image, fileLineMap);
+            case RSIGNEDSHIFTASSIGN:
+            return new Operator(TokenType.RSIGNEDSHIFTASSIGN, image, fileLineMap);
+            case RUNSIGNEDSHIFTASSIGN:
+            return new Operator(TokenType.RUNSIGNEDSHIFTASSIGN, image, fileLineMap);
+            case LAMBDA:
+            return new Operator(TokenType.LAMBDA, image, fileLineMap);
+            case RSIGNEDSHIFT:
+            return new Operator(TokenType.RSIGNEDSHIFT, image, fileLineMap);
+            case RUNSIGNEDSHIFT:
+            return new Operator(TokenType.RUNSIGNEDSHIFT, image, fileLineMap);
+            case IDENTIFIER:
+            return new Identifier(TokenType.IDENTIFIER, image, fileLineMap);
+            default:
+            return new Token(type, image, fileLineMap);
+        }
+    }
+
+    public static Token newToken(TokenType type, String image, JavaParser parser) {
+        return newToken(type, image, parser.token_source);
+    }
+
+    public static Token newToken(TokenType type, String image, JavaLexer lexer) {
+        return newToken(type, image, lexer.input_stream);
+    }
+
+    public static Token newToken(TokenType type, String image, Node node) {
+        return newToken(type, image, node.getFileLineMap());
+    }
+
+    // The line and column are worked out from the offsets. Setting
+    // a line moves the position to the start of that line, so the
+    // line has to be set before the column.
+    public void setBeginLine(int beginLine) {
+        this.beginOffset= getFileLineMap().getOffset(beginLine, 1);
+    }
+
+    public void setBeginColumn(int beginColumn) {
+        this.beginOffset= getFileLineMap().getOffset(getBeginLine(), beginColumn);
+    }
+
+    public void setEndLine(int endLine) {
+        this.endOffset= getFileLineMap().getOffset(endLine, 1)+1;
+    }
+
+    public void setEndColumn(int endColumn) {
+        this.endOffset= getFileLineMap().getOffset(getEndLine(), endColumn)+1;
+    }
+
+    public int getBeginLine() {
+        FileLineMap fileLineMap= getFileLineMap();
+        return fileLineMap== null?0:
+        fileLineMap.getLineFromOffset(beginOffset);
+    }
+
+    public int getBeginColumn() {
+        FileLineMap fileLineMap= getFileLineMap();
+        return fileLineMap== null?0:
+        fileLineMap.getColumnFromOffset(beginOffset);
+    }
+
+    public int getEndLine() {
+        FileLineMap fileLineMap= getFileLineMap();
+        return fileLineMap== null?0:
+        fileLineMap.getLineFromOffset(Math.max(beginOffset, endOffset-1));
+    }
+
+    public int getEndColumn() {
+        FileLineMap fileLineMap= getFileLineMap();
+        if (fileLineMap== null) {
+            return 0;
+        }
+        if (type== TokenType.EOF&&endOffset== beginOffset) {
+            // As when the lines and columns are kept, the EOF token ends just
+            // before it begins, unless it is at the start of a line.
+            int column= fileLineMap.getColumnFromOffset(beginOffset);
+            return column> 1?column-1:
+            column;
+        }
+        return fileLineMap.getColumnFromOffset(Math.max(beginOffset, endOffset-1));
+    }
+
+    private Node parent;
+    private Map<String, Object> attributes;
+    public void setChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Node removeChild(int i) {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean removeChild(Node n) {
+        return false;
+    }
+
+    public int indexOf(Node n) {
+        return-1;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void setParent(Node parent) {
+        this.parent= parent;
+    }
+
+    public int getChildCount() {
+        return 0;
+    }
+
+    public Node getChild(int i) {
+        return null;
+    }
+
+    public List<Node> children() {
+        return Collections.emptyList();
+    }
+
+    public void open() {
+    }
+
+    public void close() {
+    }
+
+    public Object getAttribute(String name) {
+        return attributes== null?null:
+        attributes.get(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes== null) {
+            attributes= new HashMap<String, Object> ();
+        }
+        attributes.put(name, value);
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes== null?false:
+        attributes.containsKey(name);
+    }
+
+    public Set<String> getAttributeNames() {
+        if (attributes== null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+
+}
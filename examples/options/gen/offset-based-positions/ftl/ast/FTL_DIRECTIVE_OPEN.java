@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for FTL_DIRECTIVE_OPEN Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class FTL_DIRECTIVE_OPEN extends Token {
+    public FTL_DIRECTIVE_OPEN(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public FTL_DIRECTIVE_OPEN(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public FTL_DIRECTIVE_OPEN(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
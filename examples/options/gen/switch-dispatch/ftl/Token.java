@@ -0,0 +1,711 @@
+/* Generated by: JavaCC 21 Parser Generator. Token.java */
+package ftl;
+
+import java.util.*;
+import ftl.ast.*;
+public class Token implements FTLConstants, Node {
+    private FileLineMap fileLineMap;
+    public FileLineMap getFileLineMap() {
+        if (fileLineMap== null) {
+            Node n= getParent();
+            while (n!=null) {
+                fileLineMap= n.getFileLineMap();
+                if (fileLineMap!=null) break;
+                n= n.getParent();
+            }
+        }
+        return fileLineMap;
+    }
+
+    public Token(TokenType type, String image, FileLineMap fileLineMap) {
+        this.type= type;
+        this.image= image;
+        this.fileLineMap= fileLineMap;
+    }
+
+    public void setInputSource(FileLineMap fileLineMap) {
+        this.fileLineMap= fileLineMap;
+    }
+
+    private String inputSource= "";
+    private TokenType type;
+    public TokenType getType() {
+        return type;
+    }
+
+    void setType(TokenType type) {
+        this.type= type;
+    }
+
+    /**
+     * beginLine and beginColumn describe the position of the first character
+     * of this token; endLine and endColumn describe the position of the
+     * last character of this token.
+     */
+    int beginLine, beginColumn, endLine, endColumn;
+    /**
+     * The string image of the token.
+     */
+    String image;
+    public String getImage() {
+        if (image== null) {
+            return getSource();
+        }
+        return image;
+    }
+
+    public void setImage(String image) {
+        this.image= image;
+    }
+
+    private LexicalState lexicalState;
+    void setLexicalState(LexicalState state) {
+        this.lexicalState= state;
+    }
+
+    LexicalState getLexicalState() {
+        return lexicalState;
+    }
+
+    void setKind(int kind) {
+        this.type= TokenType.values()[kind];
+    }
+
+    int getKind() {
+        return type.ordinal();
+    }
+
+    /**
+     * A reference to the next regular (non-special) token from the input
+     * stream.  If this is the last token from the input stream, or if the
+     * token manager has not read tokens beyond this one, this field is
+     * set to null.  This is true only if this token is also a regular
+     * token.  Otherwise, see below for a description of the contents of
+     * this field.
+     */
+    Token next;
+    Token getNext() {
+        return next;
+    }
+
+    void setNext(Token next) {
+        this.next= next;
+    }
+
+    /**
+     * This field is used to access special tokens that occur prior to this
+     * token, but after the immediately preceding regular (non-special) token.
+     * If there are no such special tokens, this field is set to null.
+     * When there are more than one such special token, this field refers
+     * to the last of these special tokens, which in turn refers to the next
+     * previous special token through its specialToken field, and so on
+     * until the first special token (whose specialToken field is null).
+     * The next fields of special tokens refer to other special tokens that
+     * immediately follow it (without an intervening regular token).  If there
+     * is no such token, this field is null.
+     */
+    Token specialToken;
+    public Token getSpecialToken() {
+        return specialToken;
+    }
+
+    public void setSpecialToken(Token specialToken) {
+        this.specialToken= specialToken;
+    }
+
+    private boolean unparsed;
+    //Should find a way to get rid of this.
+    Token() {
+    }
+
+    public Token(int kind) {
+        this(kind, null);
+        this.type= TokenType.values()[kind];
+    }
+
+    /**
+     * Constructs a new token for the specified Image and Kind.
+     */
+    public Token(int kind, String image) {
+        this.type= TokenType.values()[kind];
+        this.image= image;
+        ;
+    }
+
+    public Token(TokenType type, String image, String inputSource) {
+        this.type= type;
+        this.image= image;
+        this.inputSource= inputSource;
+    }
+
+    public boolean isUnparsed() {
+        return unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void clearChildren() {
+    }
+
+    public String getNormalizedText() {
+        if (getType()== TokenType.EOF) {
+            return"EOF";
+        }
+        return getImage();
+    }
+
+    public String toString() {
+        return getNormalizedText();
+    }
+
+    public static Token newToken(int ofKind, String image) {
+        switch(ofKind) {
+            case EXP_WHITE_SPACE:
+            return new EXP_WHITE_SPACE(ofKind, image);
+            case OPEN_PAREN:
+            return new OPEN_PAREN(ofKind, image);
+            case CLOSE_PAREN:
+            return new CLOSE_PAREN(ofKind, image);
+            case OPEN_BRACKET:
+            return new OPEN_BRACKET(ofKind, image);
+            case CLOSE_BRACKET:
+            return new CLOSE_BRACKET(ofKind, image);
+            case OPEN_BRACE:
+            return new OPEN_BRACE(ofKind, image);
+            case CLOSE_BRACE:
+            return new CLOSE_BRACE(ofKind, image);
+            case EQUALS:
+            return new EQUALS(ofKind, image);
+            case DOT:
+            return new DOT(ofKind, image);
+            case PLUS:
+            return new PLUS(ofKind, image);
+            case MINUS:
+            return new MINUS(ofKind, image);
+            case TIMES:
+            return new TIMES(ofKind, image);
+            case DIVIDE:
+            return new DIVIDE(ofKind, image);
+            case PERCENT:
+            return new PERCENT(ofKind, image);
+            case OR:
+            return new OR(ofKind, image);
+            case AND:
+            return new AND(ofKind, image);
+            case LT:
+            return new LT(ofKind, image);
+            case GT:
+            return new GT(ofKind, image);
+            case COMMA:
+            return new COMMA(ofKind, image);
+            case COLON:
+            return new COLON(ofKind, image);
+            case SEMICOLON:
+            return new SEMICOLON(ofKind, image);
+            case EXCLAM:
+            return new EXCLAM(ofKind, image);
+            case BUILT_IN:
+            return new BUILT_IN(ofKind, image);
+            case DOUBLE_EQUALS:
+            return new DOUBLE_EQUALS(ofKind, image);
+            case NOT_EQUALS:
+            return new NOT_EQUALS(ofKind, image);
+            case EXISTS_OPERATOR:
+            return new EXISTS_OPERATOR(ofKind, image);
+            case LTE:
+            return new LTE(ofKind, image);
+            case GTE:
+            return new GTE(ofKind, image);
+            case OR2:
+            return new OR2(ofKind, image);
+            case AND2:
+            return new AND2(ofKind, image);
+            case DOT_DOT:
+            return new DOT_DOT(ofKind, image);
+            case ALT_GT:
+            return new ALT_GT(ofKind, image);
+            case ALT_LT:
+            return new ALT_LT(ofKind, image);
+            case AS:
+            return new AS(ofKind, image);
+            case IN:
+            return new IN(ofKind, image);
+            case ALT_GTE:
+            return new ALT_GTE(ofKind, image);
+            case ALT_LTE:
+            return new ALT_LTE(ofKind, image);
+            case ELLIPSIS:
+            return new ELLIPSIS(ofKind, image);
+            case NULL:
+            return new NULL(ofKind, image);
+            case TRUE:
+            return new TRUE(ofKind, image);
+            case FALSE:
+            return new FALSE(ofKind, image);
+            case USING:
+            return new USING(ofKind, image);
+            case INTEGER:
+            return new INTEGER(ofKind, image);
+            case DECIMAL:
+            return new DECIMAL(ofKind, image);
+            case IDENTIFIER:
+            return new IDENTIFIER(ofKind, image);
+            case STRING_LITERAL:
+            return new STRING_LITERAL(ofKind, image);
+            case RAW_STRING:
+            return new RAW_STRING(ofKind, image);
+            case FTL_DIRECTIVE_OPEN:
+            return new FTL_DIRECTIVE_OPEN(ofKind, image);
+            case USER_DIRECTIVE_OPEN:
+            return new USER_DIRECTIVE_OPEN(ofKind, image);
+            case INTERPOLATE:
+            return new INTERPOLATE(ofKind, image);
+            case NUMERICAL_INTERPOLATE:
+            return new NUMERICAL_INTERPOLATE(ofKind, image);
+            case WHITESPACE:
+            return new WHITESPACE(ofKind, image);
+            case SPECIAL_CHAR:
+            return new SPECIAL_CHAR(ofKind, image);
+            case PRINTABLE_CHARS:
+            return new PRINTABLE_CHARS(ofKind, image);
+            case END_DIRECTIVE:
+            return new END_DIRECTIVE(ofKind, image);
+            case END_USER_DIRECTIVE:
+            return new END_USER_DIRECTIVE(ofKind, image);
+            case TRIM:
+            return new TRIM(ofKind, image);
+            case COMMENT:
+            return new COMMENT(ofKind, image);
+            case LTRIM:
+            return new LTRIM(ofKind, image);
+            case RTRIM:
+            return new RTRIM(ofKind, image);
+            case NOTRIM:
+            return new NOTRIM(ofKind, image);
+            case IF:
+            return new IF(ofKind, image);
+            case FTL:
+            return new FTL(ofKind, image);
+            case SET:
+            return new SET(ofKind, image);
+            case VAR:
+            return new VAR(ofKind, image);
+            case LIST:
+            return new LIST(ofKind, image);
+            case ELSE:
+            return new ELSE(ofKind, image);
+            case STOP:
+            return new STOP(ofKind, image);
+            case CASE:
+            return new CASE(ofKind, image);
+            case MACRO:
+            return new MACRO(ofKind, image);
+            case LOCAL:
+            return new LOCAL(ofKind, image);
+            case FLUSH:
+            return new FLUSH(ofKind, image);
+            case BREAK:
+            return new BREAK(ofKind, image);
+            case EMBED:
+            return new EMBED(ofKind, image);
+            case NESTED:
+            return new NESTED(ofKind, image);
+            case VISIT:
+            return new VISIT(ofKind, image);
+            case SWITCH:
+            return new SWITCH(ofKind, image);
+            case IMPORT:
+            return new IMPORT(ofKind, image);
+            case DEFAUL:
+            return new DEFAUL(ofKind, image);
+            case RETURN:
+            return new RETURN(ofKind, image);
+            case GLOBAL:
+            return new GLOBAL(ofKind, image);
+            case ASSIGN:
+            return new ASSIGN(ofKind, image);
+            case ELSEIF:
+            return new ELSEIF(ofKind, image);
+            case ESCAPE:
+            return new ESCAPE(ofKind, image);
+            case RECURSE:
+            return new RECURSE(ofKind, image);
+            case FUNCTION:
+            return new FUNCTION(ofKind, image);
+            case FALLBACK:
+            return new FALLBACK(ofKind, image);
+            case NOESCAPE:
+            return new NOESCAPE(ofKind, image);
+            case SETTING:
+            return new SETTING(ofKind, image);
+            case NOPARSE:
+            return new NOPARSE(ofKind, image);
+            case _INCLUDE:
+            return new _INCLUDE(ofKind, image);
+            case _ATTEMPT:
+            return new _ATTEMPT(ofKind, image);
+            case FOREACH:
+            return new FOREACH(ofKind, image);
+            case _RECOVER:
+            return new _RECOVER(ofKind, image);
+            case COMPRESS:
+            return new COMPRESS(ofKind, image);
+            case BLOCKTRIM:
+            return new BLOCKTRIM(ofKind, image);
+            case BLOCKTRIML:
+            return new BLOCKTRIML(ofKind, image);
+            case BLOCKTRIMR:
+            return new BLOCKTRIMR(ofKind, image);
+            case BLOCKNOTRIM:
+            return new BLOCKNOTRIM(ofKind, image);
+            case BLANK:
+            return new BLANK(ofKind, image);
+            case CLOSE_TAG:
+            return new CLOSE_TAG(ofKind, image);
+            case CLOSE_EMPTY_TAG:
+            return new CLOSE_EMPTY_TAG(ofKind, image);
+            case END_COMMENT:
+            return new END_COMMENT(ofKind, image);
+            case NOPARSE_END:
+            return new NOPARSE_END(ofKind, image);
+            default:
+            return new Token(ofKind, image);
+        }
+    }
+
+    public static Token newToken(TokenType type, String image, FileLineMap fileLineMap) {
+        switch(type) {
+            case EXP_WHITE_SPACE:
+            return new EXP_WHITE_SPACE(TokenType.EXP_WHITE_SPACE, image, fileLineMap);
+            case OPEN_PAREN:
+            return new OPEN_PAREN(TokenType.OPEN_PAREN, image, fileLineMap);
+            case CLOSE_PAREN:
+            return new CLOSE_PAREN(TokenType.CLOSE_PAREN, image, fileLineMap);
+            case OPEN_BRACKET:
+            return new OPEN_BRACKET(TokenType.OPEN_BRACKET, image, fileLineMap);
+            case CLOSE_BRACKET:
+            return new CLOSE_BRACKET(TokenType.CLOSE_BRACKET, image, fileLineMap);
+            case OPEN_BRACE:
+            return new OPEN_BRACE(TokenType.OPEN_BRACE, image, fileLineMap);
+            case CLOSE_BRACE:
+            return new CLOSE_BRACE(TokenType.CLOSE_BRACE, image, fileLineMap);
+            case EQUALS:
+            return new EQUALS(TokenType.EQUALS, image, fileLineMap);
+            case DOT:
+            return new DOT(TokenType.DOT, image, fileLineMap);
+            case PLUS:
+            return new PLUS(TokenType.PLUS, image, fileLineMap);
+            case MINUS:
+            return new MINUS(TokenType.MINUS, image, fileLineMap);
+            case TIMES:
+            return new TIMES(TokenType.TIMES, image, fileLineMap);
+            case DIVIDE:
+            return new DIVIDE(TokenType.DIVIDE, image, fileLineMap);
+            case PERCENT:
+            return new PERCENT(TokenType.PERCENT, image, fileLineMap);
+            case OR:
+            return new OR(TokenType.OR, image, fileLineMap);
+            case AND:
+            return new AND(TokenType.AND, image, fileLineMap);
+            case LT:
+            return new LT(TokenType.LT, image, fileLineMap);
+            case GT:
+            return new GT(TokenType.GT, image, fileLineMap);
+            case COMMA:
+            return new COMMA(TokenType.COMMA, image, fileLineMap);
+            case COLON:
+            return new COLON(TokenType.COLON, image, fileLineMap);
+            case SEMICOLON:
+            return new SEMICOLON(TokenType.SEMICOLON, image, fileLineMap);
+            case EXCLAM:
+            return new EXCLAM(TokenType.EXCLAM, image, fileLineMap);
+            case BUILT_IN:
+            return new BUILT_IN(TokenType.BUILT_IN, image, fileLineMap);
+            case DOUBLE_EQUALS:
+            return new DOUBLE_EQUALS(TokenType.DOUBLE_EQUALS, image, fileLineMap);
+            case NOT_EQUALS:
+            return new NOT_EQUALS(TokenType.NOT_EQUALS, image, fileLineMap);
+            case EXISTS_OPERATOR:
+            return new EXISTS_OPERATOR(TokenType.EXISTS_OPERATOR, image, fileLineMap);
+            case LTE:
+            return new LTE(TokenType.LTE, image, fileLineMap);
+            case GTE:
+            return new GTE(TokenType.GTE, image, fileLineMap);
+            case OR2:
+            return new OR2(TokenType.OR2, image, fileLineMap);
+            case AND2:
+            return new AND2(TokenType.AND2, image, fileLineMap);
+            case DOT_DOT:
+            return new DOT_DOT(TokenType.DOT_DOT, image, fileLineMap);
+            case ALT_GT:
+            return new ALT_GT(TokenType.ALT_GT, image, fileLineMap);
+            case ALT_LT:
+            return new ALT_LT(TokenType.ALT_LT, image, fileLineMap);
+            case AS:
+            return new AS(TokenType.AS, image, fileLineMap);
+            case IN:
+            return new IN(TokenType.IN, image, fileLineMap);
+            case ALT_GTE:
+            return new ALT_GTE(TokenType.ALT_GTE, image, fileLineMap);
+            case ALT_LTE:
+            return new ALT_LTE(TokenType.ALT_LTE, image, fileLineMap);
+            case ELLIPSIS:
+            return new ELLIPSIS(TokenType.ELLIPSIS, image, fileLineMap);
+            case NULL:
+            return new NULL(TokenType.NULL, image, fileLineMap);
+            case TRUE:
+            return new TRUE(TokenType.TRUE, image, fileLineMap);
+            case FALSE:
+            return new FALSE(TokenType.FALSE, image, fileLineMap);
+            case USING:
+            return new USING(TokenType.USING, image, fileLineMap);
+            case INTEGER:
+            return new INTEGER(TokenType.INTEGER, image, fileLineMap);
+            case DECIMAL:
+            return new DECIMAL(TokenType.DECIMAL, image, fileLineMap);
+            case IDENTIFIER:
+            return new IDENTIFIER(TokenType.IDENTIFIER, image, fileLineMap);
+            case STRING_LITERAL:
+            return new STRING_LITERAL(TokenType.STRING_LITERAL, image, fileLineMap);
+            case RAW_STRING:
+            return new RAW_STRING(TokenType.RAW_STRING, image, fileLineMap);
+            case FTL_DIRECTIVE_OPEN:
+            return new FTL_DIRECTIVE_OPEN(TokenType.FTL_DIRECTIVE_OPEN, image, fileLineMap);
+            case USER_DIRECTIVE_OPEN:
+            return new USER_DIRECTIVE_OPEN(TokenType.USER_DIRECTIVE_OPEN, image, fileLineMap);
+            case INTERPOLATE:
+            return new INTERPOLATE(TokenType.INTERPOLATE, image, fileLineMap);
+            case NUMERICAL_INTERPOLATE:
+            return new NUMERICAL_INTERPOLATE(TokenType.NUMERICAL_INTERPOLATE, image, fileLineMap);
+            case WHITESPACE:
+            return new WHITESPACE(TokenType.WHITESPACE, image, fileLineMap);
+            case SPECIAL_CHAR:
+            return new SPECIAL_CHAR(TokenType.SPECIAL_CHAR, image, fileLineMap);
+            case PRINTABLE_CHARS:
+            return new PRINTABLE_CHARS(TokenType.PRINTABLE_CHARS, image, fileLineMap);
+            case END_DIRECTIVE:
+            return new END_DIRECTIVE(TokenType.END_DIRECTIVE, image, fileLineMap);
+            case END_USER_DIRECTIVE:
+            return new END_USER_DIRECTIVE(TokenType.END_USER_DIRECTIVE, image, fileLineMap);
+            case TRIM:
+            return new TRIM(TokenType.TRIM, image, fileLineMap);
+            case COMMENT:
+            return new COMMENT(TokenType.COMMENT, image, fileLineMap);
+            case LTRIM:
+            return new LTRIM(TokenType.LTRIM, image, fileLineMap);
+            case RTRIM:
+            return new RTRIM(TokenType.RTRIM, image, fileLineMap);
+            case NOTRIM:
+            return new NOTRIM(TokenType.NOTRIM, image, fileLineMap);
+            case IF:
+            return new IF(TokenType.IF, image, fileLineMap);
+            case FTL:
+            return new FTL(TokenType.FTL, image, fileLineMap);
+            case SET:
+            return new SET(TokenType.SET, image, fileLineMap);
+            case VAR:
+            return new VAR(TokenType.VAR, image, fileLineMap);
+            case LIST:
+            return new LIST(TokenType.LIST, image, fileLineMap);
+            case ELSE:
+            return new ELSE(TokenType.ELSE, image, fileLineMap);
+            case STOP:
+            return new STOP(TokenType.STOP, image, fileLineMap);
+            case CASE:
+            return new CASE(TokenType.CASE, image, fileLineMap);
+            case MACRO:
+            return new MACRO(TokenType.MACRO, image, fileLineMap);
+            case LOCAL:
+            return new LOCAL(TokenType.LOCAL, image, fileLineMap);
+            case FLUSH:
+            return new FLUSH(TokenType.FLUSH, image, fileLineMap);
+            case BREAK:
+            return new BREAK(TokenType.BREAK, image, fileLineMap);
+            case EMBED:
+            return new EMBED(TokenType.EMBED, image, fileLineMap);
+            case NESTED:
+            return new NESTED(TokenType.NESTED, image, fileLineMap);
+            case VISIT:
+            return new VISIT(TokenType.VISIT, image, fileLineMap);
+            case SWITCH:
+            return new SWITCH(TokenType.SWITCH, image, fileLineMap);
+            case IMPORT:
+            return new IMPORT(TokenType.IMPORT, image, fileLineMap);
+            case DEFAUL:
+            return new DEFAUL(TokenType.DEFAUL, image, fileLineMap);
+            case RETURN:
+            return new RETURN(TokenType.RETURN, image, fileLineMap);
+            case GLOBAL:
+            return new GLOBAL(TokenType.GLOBAL, image, fileLineMap);
+            case ASSIGN:
+            return new ASSIGN(TokenType.ASSIGN, image, fileLineMap);
+            case ELSEIF:
+            return new ELSEIF(TokenType.ELSEIF, image, fileLineMap);
+            case ESCAPE:
+            return new ESCAPE(TokenType.ESCAPE, image, fileLineMap);
+            case RECURSE:
+            return new RECURSE(TokenType.RECURSE, image, fileLineMap);
+            case FUNCTION:
+            return new FUNCTION(TokenType.FUNCTION, image, fileLineMap);
+            case FALLBACK:
+            return new FALLBACK(TokenType.FALLBACK, image, fileLineMap);
+            case NOESCAPE:
+            return new NOESCAPE(TokenType.NOESCAPE, image, fileLineMap);
+            case SETTING:
+            return new SETTING(TokenType.SETTING, image, fileLineMap);
+            case NOPARSE:
+            return new NOPARSE(TokenType.NOPARSE, image, fileLineMap);
+            case _INCLUDE:
+            return new _INCLUDE(TokenType._INCLUDE, image, fileLineMap);
+            case _ATTEMPT:
+            return new _ATTEMPT(TokenType._ATTEMPT, image, fileLineMap);
+            case FOREACH:
+            return new FOREACH(TokenType.FOREACH, image, fileLineMap);
+            case _RECOVER:
+            return new _RECOVER(TokenType._RECOVER, image, fileLineMap);
+            case COMPRESS:
+            return new COMPRESS(TokenType.COMPRESS, image, fileLineMap);
+            case BLOCKTRIM:
+            return new BLOCKTRIM(TokenType.BLOCKTRIM, image, fileLineMap);
+            case BLOCKTRIML:
+            return new BLOCKTRIML(TokenType.BLOCKTRIML, image, fileLineMap);
+            case BLOCKTRIMR:
+            return new BLOCKTRIMR(TokenType.BLOCKTRIMR, image, fileLineMap);
+            case BLOCKNOTRIM:
+            return new BLOCKNOTRIM(TokenType.BLOCKNOTRIM, image, fileLineMap);
+            case BLANK:
+            return new BLANK(TokenType.BLANK, image, fileLineMap);
+            case CLOSE_TAG:
+            return new CLOSE_TAG(TokenType.CLOSE_TAG, image, fileLineMap);
+            case CLOSE_EMPTY_TAG:
+            return new CLOSE_EMPTY_TAG(TokenType.CLOSE_EMPTY_TAG, image, fileLineMap);
+            case END_COMMENT:
+            return new END_COMMENT(TokenType.END_COMMENT, image, fileLineMap);
+            case NOPARSE_END:
+            return new NOPARSE_END(TokenType.NOPARSE_END, image, fileLineMap);
+            default:
+            return new Token(type, image, fileLineMap);
+        }
+    }
+
+    public static Token newToken(TokenType type, String image, FTLParser parser) {
+        return newToken(type, image, parser.token_source);
+    }
+
+    public static Token newToken(TokenType type, String image, FTLLexer lexer) {
+        return newToken(type, image, lexer.input_stream);
+    }
+
+    public static Token newToken(TokenType type, String image, Node node) {
+        return newToken(type, image, node.getFileLineMap());
+    }
+
+    public void setBeginColumn(int beginColumn) {
+        this.beginColumn= beginColumn;
+    }
+
+    public void setEndColumn(int endColumn) {
+        this.endColumn= endColumn;
+    }
+
+    public void setBeginLine(int beginLine) {
+        this.beginLine= beginLine;
+    }
+
+    public void setEndLine(int endLine) {
+        this.endLine= endLine;
+    }
+
+    public int getBeginLine() {
+        return beginLine;
+    }
+
+    public int getBeginColumn() {
+        return beginColumn;
+    }
+
+    public int getEndLine() {
+        return endLine;
+    }
+
+    public int getEndColumn() {
+        return endColumn;
+    }
+
+    private Node parent;
+    private Map<String, Object> attributes;
+    public void setChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Node removeChild(int i) {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean removeChild(Node n) {
+        return false;
+    }
+
+    public int indexOf(Node n) {
+        return-1;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void setParent(Node parent) {
+        this.parent= parent;
+    }
+
+    public int getChildCount() {
+        return 0;
+    }
+
+    public Node getChild(int i) {
+        return null;
+    }
+
+    public List<Node> children() {
+        return Collections.emptyList();
+    }
+
+    public void open() {
+    }
+
+    public void close() {
+    }
+
+    public Object getAttribute(String name) {
+        return attributes== null?null:
+        attributes.get(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes== null) {
+            attributes= new HashMap<String, Object> ();
+        }
+        attributes.put(name, value);
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes== null?false:
+        attributes.containsKey(name);
+    }
+
+    public Set<String> getAttributeNames() {
+        if (attributes== null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+
+}
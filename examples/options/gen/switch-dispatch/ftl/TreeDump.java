@@ -0,0 +1,96 @@
+package ftl;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes out the tree that FTLParser builds for each file, followed by the tokens
+ * in its FileLineMap, unparsed ones included, and where each one is. (The tokens'
+ * next links are not followed, since a parser that switches lexical states drops
+ * them when it goes back and lexes the rest of the input again.) The build.xml in
+ * examples/options copies this into the package of each generated parser, so
+ * that the output of parsers generated with different options can be compared.
+ */
+public class TreeDump {
+
+    static public void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: java ftl.TreeDump <outputfile> <extension> <sourcefiles or directories>");
+            System.exit(-1);
+        }
+        List<Path> files = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            addFilesRecursively(files, Paths.get(args[i]), args[1]);
+        }
+        Collections.sort(files);
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(args[0]), UTF_8))) {
+            for (Path file : files) {
+                out.println("FILE " + file.getFileName());
+                String content = new String(Files.readAllBytes(file), UTF_8);
+                FTLParser parser = new FTLParser(file.toString(), content);
+                try {
+                    parser.Root();
+                } catch (ParseException e) {
+                    out.println("ERROR " + e.getMessage());
+                    continue;
+                }
+                dump(parser.rootNode(), out);
+            }
+        }
+        System.out.println("Wrote the trees for " + files.size() + " files to " + args[0]);
+    }
+
+    static void dump(Node root, PrintWriter out) {
+        dumpTree(root, "", out);
+        out.println("TOKENS");
+        FileLineMap map = root.getFileLineMap();
+        for (int i = 0; i < map.getTokenCount(); i++) {
+            out.println(describe(map.getToken(i)));
+        }
+    }
+
+    static void dumpTree(Node node, String indent, PrintWriter out) {
+        if (node instanceof Token) {
+            dumpToken((Token) node, indent, out);
+            return;
+        }
+        out.println(indent + node.getClass().getSimpleName() + " " + location(node));
+        for (int i = 0; i < node.getChildCount(); i++) {
+            dumpTree(node.getChild(i), indent + "  ", out);
+        }
+    }
+
+    static void dumpToken(Token t, String indent, PrintWriter out) {
+        List<Token> unparsed = new ArrayList<>();
+        for (Token special = t.getSpecialToken(); special != null; special = special.getSpecialToken()) {
+            unparsed.add(0, special);
+        }
+        for (Token special : unparsed) {
+            out.println(indent + "(" + describe(special) + ")");
+        }
+        out.println(indent + describe(t));
+    }
+
+    static String describe(Token t) {
+        String image = t.getImage() == null ? "null" : t.getImage().replace("\\", "\\\\").replace("\r", "\\r").replace("\n", "\\n");
+        return t.getType() + " " + location(t) + " " + image;
+    }
+
+    static String location(Node node) {
+        return node.getBeginLine() + ":" + node.getBeginColumn() + "-" + node.getEndLine() + ":" + node.getEndColumn();
+    }
+
+    static void addFilesRecursively(List<Path> files, Path path, String extension) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+                for (Path p : stream) {
+                    addFilesRecursively(files, p, extension);
+                }
+            }
+        } else if (path.getFileName().toString().endsWith(extension)) {
+            files.add(path);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for EXISTS_OPERATOR Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class EXISTS_OPERATOR extends Token {
+    public EXISTS_OPERATOR(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public EXISTS_OPERATOR(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public EXISTS_OPERATOR(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
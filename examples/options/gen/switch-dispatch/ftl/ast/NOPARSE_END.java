@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for NOPARSE_END Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class NOPARSE_END extends Token {
+    public NOPARSE_END(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public NOPARSE_END(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public NOPARSE_END(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,508 @@
+/* Generated by: JavaCC 21 Parser Generator. JavaLexer.java */
+package com.javaparser;
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+@SuppressWarnings("unused")
+public class JavaLexer implements JavaConstants {
+    private static final Logger LOGGER= Logger.getLogger("JavaParser");
+    // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+        input_stream.setInputSource(inputSource);
+    }
+
+    public JavaLexer(String inputSource, CharSequence chars) {
+        this(inputSource, chars, LexicalState.JAVA, 1, 1);
+    }
+
+    public JavaLexer(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+      * Lexes the file by mapping it into memory, see {@link FileLineMap#mapFile(java.nio.file.Path, java.nio.charset.Charset)}
+      */
+    public JavaLexer(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public JavaLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.JAVA, 1, 1);
+    }
+
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated public JavaLexer(Reader reader) {
+        this("input", reader);
+    }
+
+    public JavaLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+    // Tokens from the previous input refer to its FileLineMap, so that one is not recycled.
+    public void reset(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, CharSequence chars) {
+        reset(inputSource, chars, LexicalState.JAVA, 1, 1);
+    }
+
+    public void reset(CharSequence chars) {
+        reset("input", chars);
+    }
+
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.JAVA, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    FileLineMap input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    LexicalState lexicalState= LexicalState.JAVA;
+    boolean doLexicalStateSwitch(int tokenType) {
+        LexicalState newLexState= newLexicalStates[tokenType];
+        if (newLexState!=null) {
+            return switchTo(newLexState);
+        }
+        return false;
+    }
+
+    boolean doLexicalStateSwitch(TokenType tokenType) {
+        return doLexicalStateSwitch(tokenType.ordinal());
+    }
+
+    private static final LexicalState[] newLexicalStates= {null, null, LexicalState.JAVA, LexicalState.IN_SINGLE_LINE_COMMENT, LexicalState.IN_FORMAL_COMMENT, LexicalState.IN_MULTI_LINE_COMMENT, LexicalState.JAVA, LexicalState.JAVA, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, };
+    void addToken(Token token) {
+        input_stream.addToken(token);
+    }
+
+    int tabSize= 8;
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+            this.lexicalState= lexState;
+            return true;
+        }
+        return false;
+    }
+
+    private InvalidToken invalidToken;
+    private Token pendingToken;
+    public Token getNextToken() {
+        if (pendingToken!=null) {
+            Token result= pendingToken;
+            pendingToken= null;
+            return result;
+        }
+        Token tok= null;
+        do {
+            tok= nextToken();
+        }
+        while (tok instanceof InvalidToken);
+        if (invalidToken!=null) {
+            addToken(invalidToken);
+            invalidToken.setNext(tok);
+            Token it= invalidToken;
+            pendingToken= tok;
+            this.invalidToken= null;
+            return it;
+        }
+        addToken(tok);
+        return tok;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t) {
+        input_stream.goTo(t.getEndLine(), t.getEndColumn());
+        input_stream.forward(1);
+    }
+
+    FileLineMap getFileLineMap() {
+        return input_stream;
+    }
+
+    private boolean[] jjbeenHere= new boolean[5];
+    private int jjmatchedPos;
+    //FIXME,should be an enum.
+    private int jjmatchedKind;
+    private String inputSource= "input";
+    // BitSet for TOKEN
+    static private BitSet tokenSet= BitSet.valueOf(new long[]{-511L, 9223372036854774800L, 0L, });
+    // BitSet for SKIP
+    static private BitSet skipSet= BitSet.valueOf(new long[]{198L, 0L, 0L, });
+    // BitSet for SPECIAL
+    static private BitSet specialSet= BitSet.valueOf(new long[]{198L, 0L, 0L, });
+    private final StringBuilder image= new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    // Clears what is left over from the previous input, when the lexer is reset.
+    private void resetState(String inputSource, LexicalState lexState) {
+        this.inputSource= inputSource;
+        invalidToken= null;
+        pendingToken= null;
+        Arrays.fill(jjbeenHere, false);
+        jjmatchedKind= jjmatchedPos= 0;
+        curChar= 0;
+        image.setLength(0);
+        matchedCharsLength= 0;
+        switchTo(lexState);
+    }
+
+    private Token nextToken() {
+        Token specialToken= null;
+        Token matchedToken;
+        int curPos= 0;
+        EOFLoop:
+        while (true) {
+            int retval1= input_stream.beginToken();
+            curChar= (char)(retval1);
+            if (retval1== -1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind= 0;
+                Token eof= jjFillToken();
+                tokenLexicalActions();
+                eof.setSpecialToken(specialToken);
+                addToken(eof);
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength= 0;
+            while (true) {
+                switch(lexicalState) {
+                    case JAVA:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_JAVA();
+                    break;
+                    case IN_MULTI_LINE_COMMENT:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_IN_MULTI_LINE_COMMENT();
+                    break;
+                    case IN_SINGLE_LINE_COMMENT:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_IN_SINGLE_LINE_COMMENT();
+                    break;
+                    case IN_FORMAL_COMMENT:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_IN_FORMAL_COMMENT();
+                    break;
+                    case PHONY:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_PHONY();
+                    break;
+                }
+                if (jjmatchedKind!=0x7FFFFFFF) {
+                    if (jjmatchedPos+1<curPos) {
+                        if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                        input_stream.backup(curPos-jjmatchedPos-1);
+                    }
+                    if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                    if (tokenSet.get(jjmatchedKind)) {
+                        matchedToken= jjFillToken();
+                        matchedToken.setSpecialToken(specialToken);
+                        tokenLexicalActions();
+                        jjmatchedKind= matchedToken.getType().ordinal();
+                        if (newLexicalStates[jjmatchedKind]!=null) {
+                            switchTo(newLexicalStates[jjmatchedKind]);
+                        }
+                        addToken(matchedToken);
+                        return matchedToken;
+                    }
+                    else if (skipSet.get(jjmatchedKind)) {
+                        if (specialSet.get(jjmatchedKind)) {
+                            matchedToken= jjFillToken();
+                            matchedToken.setUnparsed(true);
+                            if (specialToken== null) {
+                                specialToken= matchedToken;
+                            }
+                            else {
+                                matchedToken.setSpecialToken(specialToken);
+                                specialToken.setNext(matchedToken);
+                                specialToken= matchedToken;
+                            }
+                            addToken(matchedToken);
+                            tokenLexicalActions();
+                        }
+                        else tokenLexicalActions();
+                        if (newLexicalStates[jjmatchedKind]!=null) {
+                            this.lexicalState= newLexicalStates[jjmatchedKind];
+                        }
+                        continue EOFLoop;
+                    }
+                    tokenLexicalActions();
+                    doLexicalStateSwitch(jjmatchedKind);
+                    curPos= 0;
+                    jjmatchedKind= 0x7FFFFFFF;
+                    int retval= input_stream.readChar();
+                    if (retval>=0) {
+                        curChar= (char) retval;
+                        if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                        continue;
+                    }
+                }
+                int error_line= input_stream.getEndLine();
+                int error_column= input_stream.getEndColumn();
+                String error_after= null;
+                error_after= curPos<=1?"":
+                input_stream.getImage();
+                if (invalidToken== null) {
+                    invalidToken= new InvalidToken(""+curChar, input_stream);
+                    invalidToken.setBeginLine(error_line);
+                    invalidToken.setBeginColumn(error_column);
+                }
+                else {
+                    invalidToken.setImage(invalidToken.getImage()+curChar);
+                }
+                invalidToken.setEndLine(error_line);
+                invalidToken.setEndColumn(error_column);
+                return invalidToken;
+            }
+        }
+    }
+
+    private void tokenLexicalActions() {
+        switch(jjmatchedKind) {
+            case 4:
+            image.append(input_stream.getSuffix(matchedCharsLength+jjmatchedPos+1));
+            input_stream.backup(1);
+            break;
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage= input_stream.getImage();
+        beginLine= input_stream.getBeginLine();
+        beginColumn= input_stream.getBeginColumn();
+        endLine= input_stream.getEndLine();
+        endColumn= input_stream.getEndColumn();
+        t= Token.newToken(TokenType.values()[jjmatchedKind], curTokenImage, this);
+        t.setBeginLine(beginLine);
+        t.setEndLine(endLine);
+        t.setBeginColumn(beginColumn);
+        t.setEndColumn(endColumn);
+        //        t.setInputSource(this.inputSource);
+        t.setLexicalState(lexicalState);
+        return t;
+    }
+
+    private int jjStopAtPos(int pos, int kind) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    private static final int[] jjCharClassOffsets_JAVA= jjUnpack(256, "\001\001\001A\004\001A\010\001A\014\001A\020\001A\024\001A\030\001A\034\001A \001A$\001A(\001A,\001A0\001A4\001A8\001A<\001A@\001\001AD\001\001AH\001\001AL\001\001AP\001\001A\004\001AT\001\001AX\001\001A\134\001\005A \001A`\001\001Ad\001\001Ah\001\001Al\001\016A \001Ap\001\001At\001\002A \031A\004\001Ax\001Q\001A\004\001A|\001\004A\004\001A@\002\007A +A\004\001AD\002!A \001A\004\001AH\002\001AL\002\001A\004\001AP\002\001AT\002\001AX\002");
+    private static final int[] jjCharClasses_JAVA= jjUnpack(9984, "\011\001\001\002\001\003\001\004\001\002\001\003\016\001\004\004\001\002\001\005\001\006\001\004\001\007\001\010\001\011\001\012\001\013\001\014\001\015\001\016\001\017\001\020\001\021\001\022\001\023\001\024\002\025\004\026\002\027\001\030\001\031\001\032\001\033\001\034\001\035\001\036\001\037\001 \001\037\001!\001\042\001!\005\007\001#\003\007\001$\007\007\001%\002\007\001&\001'\001(\001)\001*\001\004\001+\001,\001-\001.\001/\0010\0011\0012\0013\001\007\0014\0015\0016\0017\0018\0019\001\007\001:\001;\001<\001=\001>\001?\001@\001\001A\001\001B\001\001C\001\001D\001\001E\001\001F\001!\001\002\004\004\007\004\004\001\007\012\004\001\007\004\004\001\007\005\004\027\007\001\004\037\007\001\004h\004\007\002\004\022\007\034\004^\001\007\002\004\011\007\002\004\007\007\016\004\002\007\016\004\005\007\011\004\001\007\021\004O\001\001\021\004\003\001\027\004\001\007\013\004\001\007\001\004\003\007\001\004\001\007\001\004\024\007\001\004,\007\001\004\010\007\002\004\032\007\014\004B\002\007\001\004\004\001\005\0049\007\002\004\002\007\002\004\002\007\003\004&\007\002\004\002\0077\004&\007\002\004\001\007\007\004'\007\011\004\021\001\001\004\027\001\001\004\003\001\001\004\001\001\001\004\002\001\001\004\001\001\013\004\033\007\005\004\003\007.\004\032\007\005\004\013\007\013\001\012\004\012\001\006\004\001\001c\001\007\001\004\001\007\007\001\002\004\006\001\002\007\002\001\001\004\004\001\002\004\012\001\003\007\022\004\001\001\001\007\001\001\033\007\003\004\033\0015\004&\007\013\001P\005\004\003\001\001\0045\007\002\004\001\001\001\007\020\001\002\004\001\007\004\001\003\004\012\007\002\001\002\004\012\001\021\004\003\001\001\004\010\007\002\004\002\007\002\004\026\007\001\004\007\007\001\004\001\007\003\004\004\007\002\004\001\001\001\004\007\001\002\004\002\001\002\004\003\001\011\004\001\001\004\004\002\007\001\004\003\007\002\001\002\004\012\001\004\007\016\004\001\001\002\004\006\007\004\004\002\007\002\004\026\007\001\004\007\007\001\004\002\007\001\004\002\007\001\004\002\007\002\004\001\001\001\004\005\001\004\004\002\001\002\004\003\001\013\004\004\007\001\004\001\007\007\004\014\001\003\007\014\004\003\001\001\004\007\007\001\004\001\007\001\004\003\007\001\004\026\007\001\004\007\007\001\004\002\007\001\004\005\007\002\004\001\001\001\007\010\001\001\004\003\001\001\004\003\001\002\004\001\007\017\004\001\007\005\004\012\001\021\004\003\001\001\004\010\007\002\004\002\007\002\004\026\007\001\004\007\007\001\004\002\007\002\004\004\007\002\004\001\001\001\007\006\001\003\004\002\001\002\004\003\001\010\004\002\001\004\004\002\007\001\004\003\007\004\004\012\001\022\004\002\001\001\004\006\007\003\004\003\007\001\004\004\007\003\004\002\007\001\004\001\007\001\004\002\007\003\004\002\007\003\004\003\007\003\004\010\007\001\004\003\007\004\004\005\001\003\004\003\001\001\004\004\001\011\004\001\001\017\004\011\001\021\004\003\001\001\004\010\007\001\004\003\007\001\004\027\007\001\004\012\007\001\004\005\007\004\004\007\001\001\004\003\001\001\004\004\001\007\004\002\001\011\004\002\007\004\004\012\001\022\004\002\001\001\004\010\007\001\004\003\007\001\004\027\007\001\004\012\007\001\004\005\007\004\004\007\001\001\004\003\001\001\004\004\001\007\004\002\001\007\004\001\007\001\004\002\007\004\004\012\001\022\004\002\001\001\004\010\007\001\004\003\007\001\004\027\007\001\004\020\007\004\004\006\001\002\004\003\001\001\004\004\001\011\004\001\001\010\004\002\007\004\004\012\001\022\004\002\001\001\004\022\007\003\004\030\007\001\004\011\007\001\004\001\007\002\004\007\007\003\004\001\001\004\004\006\001\001\004\001\001\001\004\010\001\022\004\002\001\015\0040\007\001\001\002\007\007\001\004\004\010\007\010\001\001\004\012\001'\004\002\007\001\004\001\007\002\004\002\007\001\004\001\007\002\004\001\007\006\004\004\007\001\004\007\007\001\004\003\007\001\004\001\007\001\004\001\007\002\004\002\007\001\004\004\007\001\001\002\007\006\001\001\004\002\001\001\007\002\004\005\007\001\004\001\007\001\004\006\001\002\004\012\001\002\004\002\007\042\004\001\007\027\004\002\001\006\004\012\001\013\004\001\001\001\004\001\001\001\004\001\001\004\004\002\001\010\007\001\004\042\007\006\004\024\001\001\004\002\001\004\007\004\004\010\001\001\004$\001\011\004\001\0019\004\042\007\001\004\005\007\001\004\002\007\001\004\007\001\003\004\004\001\006\004\012\001\006\004\006\007\004\001F\001\004&\007\012\004'\007\011\004Z\001\007\005\004D\001\007\005\004R\001\007\006\004\007\007\001\004?\007\001\004\001\007\001\004\004\007\002\004\007\007\001\004\001\007\001\004\004\007\002\004'\007\001\004\001\007\001\004\004\007\002\004\037\007\001\004\001\007\001\004\004\007\002\004\007\007\001\004\001\007\001\004\004\007\002\004\007\007\001\004\007\007\001\004\027\007\001\004\037\007\001\004\001\007\001\004\004\007\002\004\007\007\001\004'\007\001\004\023\007\016\004\011\001.\004U\001\007\014\004l\005\007\002\004\010\007\012\004\032\007\005\004K\001\007U\002\0044\007 \001\007\004\001\007\004\004\012\001!\004\004\001\001\004\012\001\006\004X\001\007\010\004)\007\001\001V\001\004\134\002\007\004\004Z\001\007\006\004\026\007\002\004\006\007\002\004&\007\002\004\006\007\002\004\010\007\001\004\001\007\001\004\001\007\001\004\001\007\001\004\037\007\002\0045\007\001\004\007\007\001\004\001\007\003\004\003\007\001\004\007\007\003\004\004\007\002\004\006\007\004\004\015\007\005\004\003\007\001\004\007\007\017\004\004\001\032\004\005\001\020\004\002\007)\004\006\001\017\004\001\007 \004\020\007 \004\015\001\004\004\001\001 \004\001\007\004\004\001\007\002\004\012\007\001\004\001\007\003\004\005\007\006\004\001\007\001\004\001\007\001\004\001\007\001\004\004\007\001\004\003\007\001\004\007\007&\004$\007A\002\004\003\007\031\004\011\007\006\001\001\004\005\007\002\004\003\007\006\004T\001\007\004\004\002\001\002\004\002\007\002\004^\001\007\006\004(\007\004\004^\001\007\021\004\030\007H\001\004v\002\007J\001\004f\002\007Z\001\004M\002\007s\001\004d\002\007\134\001\004.\007R\003\004\007\007\014\004\005\007\005\004\001\007\001\001\012\007\001\004\015\007\001\004\005\007\001\004\001\007\001\004\002\007\001\004\002\007\001\004l\001\007!\004k\001\007\022\004@\001\007\002\0046\007(\004\014\007$\004\004\001\017\004\002\007\030\004\003\007\031\004\001\007\006\004\003\007\001\004\001\007\001\004G\002\007\002\004\001\001\004\004\001\007\013\004\012\001\007\004\032\007\004\004\001\007\001\004\032\007\012\004Z\001\007\003\004\006\007\002\004\006\007\002\004\006\007\002\004\003\007\003\004\002\007\003\004\002\007\022\004\003\001\004\004");
+    private static final int[] jjDfaTransitions_JAVA= jjUnpack(23170, "\001\000\002\002\001\000\001\003\001\004\001\005\001\006\001\007\001\010\001\011\001\012\001\013\001\014\001\015\001\016\001\017\001\020\001\021\004\022\001\023\001\024\001\025\001\026\001\027\001\030\001\031\007\005\001\032\001\000\001\033\001\034\001\005\001\035\001\036\001\037\001 \001!\001\042\001#\001\005\001$\001\005\001%\001\005\001&\001\005\001'\001(\001)\001*\001\005\001+\001,\003\005\001-\001.\001/\0010\001\000\002\002]\001\000\0011+\000\002\004\001\000\002\004\0012 \004\0013\037\004\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\036\000\00143\000\0015\021\000\0016+\000\0027\001\000\0067\001\000\0347\0018\0377f\002\000\00198\000\001:\014\000\001;@\002\000\001<\012\000\001=\001>:\000\001?\001\000\005@\001;\000\001A\001\004\000\001B\001\010\000\001C\001;\000\001D\001\001\000\005\022\010\000\001E\001\001F\001\001G\001\001H\001\001\000\001I\001\004\000\001J\001\001\000\001E\001\001\000\001F\001\001G\001\001F\001\004\000\001H\001\012\000\001I\001\026\000\001D\001\001\000\005\022\011\000\001F\001\001G\001\001H\001\006\000\001J\001\003\000\001F\001\001G\001\001F\001\004\000\001H\001(\000\001K\001M\002\000\001L\001\001M\001E\001\000\001N\001E\001\000\001O\001\001P\001\134\005\000\001Q\001+\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\002\005\001R\001\016\005\001S\001\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001T\001\001\005\001U\001\006\005\001V\001\001\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001W\001\006\005\001X\001\002\005\001Y\001\002\005\001Z\001\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001[\001\010\005\001\134\001\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001]\001\001\005\001^\001\010\005\001_\001\002\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001`\001\007\005\001a\001\001\005\001b\001\002\005\001c\001\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001d\001\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\006\005\001e\001\005\005\001f\001\001g\001\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001h\001\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001i\001\003\005\001j\001\015\005\001k\001\005\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001l\001\016\005\001m\001\002\005\001n\001\005\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001o\001\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\010\005\001p\001\011\005\001q\001\001r\001\001\005\001s\001\001\005\001t\001\001\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\010\005\001u\001\007\005\001v\001\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001w\001\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\010\005\001x\001\020\005d\001\000\001y\001(\000\001z\001_\004\000\001\004\003\000\001\004\010\000\004\004\020\000\001\004\004\000\001\004\003\000\001\004\006\000\001\004\002\000\001\004\001\000\001\004e\003\000\001{\001A\001\000\0017\003\000\0017\010\000\003|\001\001}\001\020\000\0017\004\000\0017\003\000\0017\006\000\0017\002\000\0017\001\000\0017~\006\000\001~\001G\001\000\005@\001\011\000\001F\001\001G\001\007\000\001\177\001\003\000\001F\001\001G\001\001F\001\042\000\001@\002W\003\000\005@\001\011\000\001F\001\001G\001\013\000\001F\001\001G\001\001F\001(\000\002A\002E\002\000\001B\002\001\000\001B\002\002\000\005C\002E\002\000\001D\002\001\000\005E\002\007\000\004E\002\010\000\006E\002(\000\005\022\022\000\001J\001|\001\000\001F\002W\004\000\001G\002\001H\002p\001\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001I\002\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001J\002\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001K\002\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001L\002\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001M\002\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001N\002\001O\002\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001P\002\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001Q\002\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001R\002\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\006\005\001S\002\022\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\023\005\001T\002\005\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001U\002\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\023\005\001V\002\005\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001W\002\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001X\002\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001Y\002\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001Z\002\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\020\005\001[\002\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001\134\002\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\017\005\001]\002\011\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001^\002\001_\002\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001`\002\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001a\002\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\025\005\001b\002\003\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001c\002\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001d\002\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001e\002\004\005\001f\002\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\002\005\001g\002\026\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001h\002\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001i\002\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001j\002\016\005\001k\002\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\017\005\001l\002\011\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001m\002\017\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001n\002\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001o\002\006\005\001p\002\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001q\002\021\005\001r\002\003\005\001s\002\001\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001t\002\001\005\001u\002\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001v\002\017\005_\003\000\001{\001\010\000\004}\0019\000\001{\001\010\000\0047H\002\000\005@\001\022\000\001\177\001\034\000\021w\002\001\0004w\002\022\000\002A\002\016\000\001H\001\006\000\001x\002\012\000\001H\001#\000\005C\002A\001\000\005C\002\011\000\001F\001\010\000\001y\002\003\000\001F\001\001\000\001F\001(\000\005z\002\007\000\004z\002\010\000\006z\002&\000\001{\002\001\000\005E\002\007\000\004E\002\001H\001\001G\001\005\000\001|\002\006E\002\004\000\001H\001\003\000\001G\001s\002\000\001}\002+\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001~\002\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001\177\002\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001@\003\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001A\003\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001B\003\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001C\003\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001D\003\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\020\005\001E\003\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001F\003\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001G\003\001H\003\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001I\003\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\002\005\001J\003\026\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001K\003\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\014\005\001L\003\014\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001M\003\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001N\003\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001O\003\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001P\003\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001Q\003\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001R\003\002\005\001S\003\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001T\003\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001U\003\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\007\005\001V\003\021\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001W\003\017\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001X\003\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\012\005\001Y\003\016\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\024\005\001Z\003\004\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001[\003\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001\134\003\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\023\005\001]\003\005\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\020\005\001^\003\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001_\003\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001`\003\017\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001a\003\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001b\003\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001c\003\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001d\003\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001e\003\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001f\003\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001g\003\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\004\005\001h\003\024\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001i\003\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001j\003\015\005\134\001\000\002A\002\025\000\001x\002.\000\005C\002\022\000\001y\002.\000\005z\002\007\000\004z\002\001\000\001G\001\005\000\001k\003\006z\002\010\000\001G\001\037\000\005z\002\007\000\004z\002\001\000\001G\001\006\000\006z\002\010\000\001G\001\037\000\005E\002\007\000\004E\002\007\000\001|\002\006E\002\134\001\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\020\005\001l\003\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\020\005\001m\003\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001n\003\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\012\005\001o\003\016\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\010\005\001p\003\020\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001q\003\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001r\003\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001s\003\017\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\023\005\001t\003\005\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001u\003\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001v\003\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001w\003\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001x\003\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001y\003\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001z\003\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\020\005\001{\003\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001|\003\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\020\005\001}\003\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\024\005\001~\003\004\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001\177\003\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001@\004\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001A\004\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001B\004\017\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\020\005\001C\004\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001D\004\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001E\004\017\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001F\004\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\020\005\001G\004\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001H\004\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\010\005\001I\004\020\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\025\005\001J\004\003\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001K\004\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001L\004\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001M\004\023\005\026\000\005z\002\007\000\004z\002\007\000\001k\003\006z\002\026\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001N\004\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001O\004\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001P\004\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001Q\004\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001R\004\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001S\004\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\004\005\001T\004\024\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001U\004\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\014\005\001V\004\014\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001W\004\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001X\004\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\006\005\001Y\004\022\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001Z\004\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\007\005\001[\004\021\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001\134\004\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001]\004\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001^\004\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001_\004\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001`\004\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001a\004\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\010\005\001b\004\020\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\020\005\001c\004\010\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001d\004\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001e\004\017\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001f\004\017\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001g\004\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001h\004\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\023\005\001i\004\005\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001j\004\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001k\004\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\027\005\001l\004\001\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001m\004\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001n\004\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\001\005\001o\004\027\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001p\004\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001q\004\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001r\004\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\006\005\001s\004\022\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001t\004\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001u\004\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\013\005\001v\004\015\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001w\004\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001x\004\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001y\004\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001z\004\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\003\005\001{\004\025\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001|\004\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\017\005\001}\004\011\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001~\004\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\015\005\001\177\004\013\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001@\005\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001A\005\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\016\005\001B\005\012\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001C\005\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\004\005\001D\005\024\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\011\005\001E\005\017\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\022\005\001F\005\006\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\021\005\001G\005\007\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\006\005\001H\005\022\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\030\005\001I\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\005\005\001J\005\023\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\004\005\001K\005\024\005\004\000\001\005\005\000\001\005\013\000\005\005\007\000\007\005\004\000\031\005\004\000");
+    private static final int[] jjDfaKinds_JAVA= jjUnpack(331, "\001@@@@@\002\001\002\001\134\001\001@@@@@\002\001\177\001\001o\001\001l\001\001@@@@@\002\001M\001\001N\001\001j\001\001h\001\001T\001\001i\001\001U\001\001k\001\002@\001\001_\001\001S\001\001[\001\001V\001\001Z\001\001^\001\001Y\001\001Q\001\001R\001\001n\001\020\177\001\001O\001\001m\001\001P\001\001]\001\001c\001\001L\001\001@@@@@\002\001x\001\001e\001\001u\001\002@@@@@\002\001s\001\001f\001\001q\001\001g\001\001r\001\001|\001\001@@@@@\002\001E\001\001\006\001\004\001t\001\001E\001\001@@@@@\002\001E\001\001@@@@@\002\001?\002@@@@@\002\001W\001\001p\001\001a\001\001`\001\001b\001\001@@@@@\002\001w\001\012\177\001\001\026\010\177\001\001!\023\177\001\001v\001\001d\001\001K\001\002@@@@@\002\001X\001\002@@@@@\002\001@\001\001@@@@@\002\001E\001\001@@@@@\002\001@\001\001y\001\001z\001\001@@@@@\002\022\177\001\001\037\003\177\001\001%\002\177\001\001)\020\177\001\001;\003\177\001\001\005\005@@@@@\002\001{\001\004\177\001\001\016\001\017\001\177\001\001\021\005\177\001\001\030\001\031\004\177\001\001 \004\177\001\001'\001\177\001\001*\013\177\001\0016\002\177\001\001:\001<\002\177\001\001@@@@@\002\003\177\001\001\015\001\020\001\022\001\023\004\177\001\001\033\001\034\001\036\012\177\001\0010\002\177\001\0013\002\177\001\0017\002\177\001\001>\001\177\001\001\013\003\177\001\001\027\003\177\001\001#\002\177\001\001(\003\177\001\001.\001/\0011\001\177\001\0014\001\177\001\0018\003\177\001\001\014\001\177\001\001\025\001\032\001\035\003\177\001\001+\001,\005\177\001\001\012\001\024\004\177\001\0012\002\177\001\001=\002\177\001\001&\001-\001\177\001\0019\001\042\001$\002\177\001\0015");
+    private int jjMoveDfa_JAVA() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_JAVA[jjCharClassOffsets_JAVA[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_JAVA[state*70+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_JAVA[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_IN_MULTI_LINE_COMMENT= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_IN_MULTI_LINE_COMMENT= jjUnpack(512, "*\001\001\002\004\001\001\003P\007\001");
+    private static final int[] jjDfaTransitions_IN_MULTI_LINE_COMMENT= jjUnpack(12, "\001\002\001\003\001\002\005\000\001\004\003\000");
+    private static final int[] jjDfaKinds_IN_MULTI_LINE_COMMENT= jjUnpack(4, "\001@@@@@\002\002\011\001\003");
+    private int jjMoveDfa_IN_MULTI_LINE_COMMENT() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_IN_MULTI_LINE_COMMENT[jjCharClassOffsets_IN_MULTI_LINE_COMMENT[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_IN_MULTI_LINE_COMMENT[state*3+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_IN_MULTI_LINE_COMMENT[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_IN_SINGLE_LINE_COMMENT= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_IN_SINGLE_LINE_COMMENT= jjUnpack(512, "\012\001\001\002\002\001\001\003r\007\001");
+    private static final int[] jjDfaTransitions_IN_SINGLE_LINE_COMMENT= jjUnpack(12, "\001\002\001\003\001\004\007\000\001\003\001\000");
+    private static final int[] jjDfaKinds_IN_SINGLE_LINE_COMMENT= jjUnpack(4, "\001@@@@@\002\001\011\002\007");
+    private int jjMoveDfa_IN_SINGLE_LINE_COMMENT() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_IN_SINGLE_LINE_COMMENT[jjCharClassOffsets_IN_SINGLE_LINE_COMMENT[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_IN_SINGLE_LINE_COMMENT[state*3+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_IN_SINGLE_LINE_COMMENT[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_IN_FORMAL_COMMENT= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_IN_FORMAL_COMMENT= jjUnpack(512, "*\001\001\002\004\001\001\003P\007\001");
+    private static final int[] jjDfaTransitions_IN_FORMAL_COMMENT= jjUnpack(12, "\001\002\001\003\001\002\005\000\001\004\003\000");
+    private static final int[] jjDfaKinds_IN_FORMAL_COMMENT= jjUnpack(4, "\001@@@@@\002\002\011\001\010");
+    private int jjMoveDfa_IN_FORMAL_COMMENT() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_IN_FORMAL_COMMENT[jjCharClassOffsets_IN_FORMAL_COMMENT[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_IN_FORMAL_COMMENT[state*3+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_IN_FORMAL_COMMENT[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_PHONY= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_PHONY= jjUnpack(512, ">\001\001\002A\007\001");
+    private static final int[] jjDfaTransitions_PHONY= jjUnpack(8, "\001\000\001\002\001\000\001\003\001\000\001\004\002\000");
+    private static final int[] jjDfaKinds_PHONY= jjUnpack(4, "\002@@@@@\002\001}\001\001~\001");
+    private int jjMoveDfa_PHONY() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_PHONY[jjCharClassOffsets_PHONY[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_PHONY[state*2+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_PHONY[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static int[] jjUnpack(int size, String...packed) {
+        int[] result= new int[size];
+        int index= 0;
+        for (String s : packed) {
+            int i= 0;
+            while (i<s.length()) {
+                int count= 0, value= 0, shift= 0, c;
+                do {
+                    c= s.charAt(i++);
+                    count|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                shift= 0;
+                do {
+                    c= s.charAt(i++);
+                    value|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                Arrays.fill(result, index, index+count, value-1);
+                index+=count;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,27 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for MethodDeclaration AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javaparser.ast;
+
+import com.javaparser.*;
+@SuppressWarnings("unused")
+public class MethodDeclaration extends BaseNode {
+    public String getName() {
+        for (Node n : children()) {
+            if (n instanceof Identifier) {
+                return n.toString();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    public FormalParams getFormalParams() {
+        return firstChildOfType(FormalParams.class);
+    }
+
+    public String getFullSignature() {
+        return getName()+getFormalParams();
+    }
+
+}
@@ -0,0 +1,692 @@
+/* Generated by: JavaCC 21 Parser Generator. FTLLexer.java */
+package ftl;
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+@SuppressWarnings("unused")
+public class FTLLexer implements FTLConstants {
+    boolean syntaxEstablished, olderSyntax;
+    boolean noWhitespaceInExpression, rightAfterHeader;
+    int parenthesisNesting, bracketNesting, braceNesting;
+    TokenType lastMatchedTokenType;
+    void CommonTokenAction(Token tok) {
+        if (tok.getType()== TokenType.EOF) return;
+        if (noWhitespaceInExpression&&parenthesisNesting== 0&&braceNesting== 0&&tok.specialToken!=null) {
+            if (tok.specialToken.getImage().trim().length()== 0) {
+                Token copy= cloneToken(tok);
+                copy.specialToken= null;
+                copyFieldsOfToken(tok.specialToken, tok);
+                tok.setType(TokenType.BLANK);
+                tok.setNext(copy);
+                noWhitespaceInExpression= false;
+                lastMatchedTokenType= tok.getType();
+                return;
+            }
+        }
+        char firstChar= tok.getImage().charAt(0);
+        char lastChar= tok.getImage().charAt(tok.getImage().length()-1);
+        boolean hasPointyDelimiter= firstChar== '<'||lastChar== '>';
+        if (rightAfterHeader) {
+            // chop off the newline after a <#ftl ...> header
+            rightAfterHeader= false;
+            if (tok.getType()== TokenType.WHITESPACE) {
+                String img= tok.getImage();
+                int idx= img.indexOf('\n');
+                if (idx<0) idx= img.indexOf('\r');
+                if (idx>=0) {
+                    tok.setImage(img.substring(++idx));
+                    tok.beginLine++;
+                    tok.beginColumn= 1;
+                }
+            }
+        }
+        switch(tok.getType()) {
+            case USER_DIRECTIVE_OPEN:
+            case FTL_DIRECTIVE_OPEN:
+            if (syntaxEstablished) {
+                if (hasPointyDelimiter!=olderSyntax) {
+                    tok.setType(TokenType.PRINTABLE_CHARS);
+                }
+                else {
+                    if (tok.getType()== TokenType.FTL_DIRECTIVE_OPEN) switchTo(LexicalState.FTL_DIRECTIVE);
+                    else {
+                        noWhitespaceInExpression= true;
+                        switchTo(LexicalState.FTL_EXPRESSION);
+                    }
+                }
+            }
+            else {
+                olderSyntax= (firstChar== '<');
+                syntaxEstablished= true;
+            }
+            break;
+            case CLOSE_TAG:
+            case CLOSE_EMPTY_TAG:
+            if (olderSyntax!=hasPointyDelimiter) tok.setType(TokenType.PRINTABLE_CHARS);
+            else SwitchTo(TEMPLATE_TEXT);
+            break;
+            case END_DIRECTIVE:
+            if (olderSyntax!=hasPointyDelimiter) tok.setType(TokenType.PRINTABLE_CHARS);
+            else SwitchTo(TEMPLATE_TEXT);
+            break;
+            case END_USER_DIRECTIVE:
+            if (hasPointyDelimiter!=olderSyntax) tok.setType(TokenType.PRINTABLE_CHARS);
+            break;
+            case GT:
+            case GTE:
+            if (parenthesisNesting== 0&&olderSyntax) {
+                tok.setType(TokenType.CLOSE_TAG);
+                if (tok.getType()== TokenType.GTE) {
+                    tok.setImage(">");
+                    tok.endColumn--;
+                    input_stream.backup(1);
+                }
+                switchTo(LexicalState.TEMPLATE_TEXT);
+            }
+            break;
+            case OPEN_PAREN:
+            parenthesisNesting++;
+            break;
+            case CLOSE_PAREN:
+            parenthesisNesting--;
+            break;
+            case OPEN_BRACKET:
+            bracketNesting++;
+            break;
+            case CLOSE_BRACKET:
+            if (bracketNesting> 0) {
+                --bracketNesting;
+            }
+            else if (!olderSyntax) {
+                tok.setType(TokenType.CLOSE_TAG);
+                switchTo(LexicalState.TEMPLATE_TEXT);
+            }
+            break;
+            case OPEN_BRACE:
+            braceNesting++;
+            break;
+            case CLOSE_BRACE:
+            if (braceNesting> 0) braceNesting--;
+            else switchTo(LexicalState.TEMPLATE_TEXT);
+            break;
+            case END_COMMENT:
+            if (hasPointyDelimiter!=olderSyntax) tok.setType(TokenType.PRINTABLE_CHARS);
+            else SwitchTo(TEMPLATE_TEXT);
+            break;
+            default:
+            if (lastMatchedTokenType== TokenType.DOT&&possibleIdentifier(tok.getImage())) {
+                tok.setType(TokenType.IDENTIFIER);
+            }
+        }
+        lastMatchedTokenType= tok.getType();
+    }
+
+    private boolean possibleIdentifier(String s) {
+        for (char c : s.toCharArray()) {
+            if (c<'a'||c> 'z') return false;
+        }
+        return true;
+    }
+
+    private void copyFieldsOfToken(Token src, Token dest) {
+        dest.setType(src.getType());
+        dest.setImage(src.getImage());
+        dest.specialToken= src.specialToken;
+        Token next= src.getNext();
+        dest.setNext(next);
+        dest.beginLine= src.beginLine;
+        dest.beginColumn= src.beginColumn;
+        dest.endLine= src.endLine;
+        dest.endColumn= src.endColumn;
+        //        dest.setInputSource(src.getInputSource());
+    }
+
+    private Token cloneToken(Token t) {
+        Token result= Token.newToken(t.getType(), t.getImage(), this);
+        copyFieldsOfToken(t, result);
+        return result;
+    }
+
+    private static final Logger LOGGER= Logger.getLogger("FTLParser");
+    // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+        input_stream.setInputSource(inputSource);
+    }
+
+    public FTLLexer(String inputSource, CharSequence chars) {
+        this(inputSource, chars, LexicalState.TEMPLATE_TEXT, 1, 1);
+    }
+
+    public FTLLexer(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+      * Lexes the file by mapping it into memory, see {@link FileLineMap#mapFile(java.nio.file.Path, java.nio.charset.Charset)}
+      */
+    public FTLLexer(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public FTLLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.TEMPLATE_TEXT, 1, 1);
+    }
+
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated public FTLLexer(Reader reader) {
+        this("input", reader);
+    }
+
+    public FTLLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+    // Tokens from the previous input refer to its FileLineMap, so that one is not recycled.
+    public void reset(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, CharSequence chars) {
+        reset(inputSource, chars, LexicalState.TEMPLATE_TEXT, 1, 1);
+    }
+
+    public void reset(CharSequence chars) {
+        reset("input", chars);
+    }
+
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.TEMPLATE_TEXT, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    FileLineMap input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    LexicalState lexicalState= LexicalState.TEMPLATE_TEXT;
+    boolean doLexicalStateSwitch(int tokenType) {
+        LexicalState newLexState= newLexicalStates[tokenType];
+        if (newLexState!=null) {
+            return switchTo(newLexState);
+        }
+        return false;
+    }
+
+    boolean doLexicalStateSwitch(TokenType tokenType) {
+        return doLexicalStateSwitch(tokenType.ordinal());
+    }
+
+    private static final LexicalState[] newLexicalStates= {null, null, LexicalState.EXPRESSION_COMMENT, LexicalState.EXPRESSION_COMMENT, LexicalState.EXPRESSION_COMMENT, null, LexicalState.FTL_EXPRESSION, LexicalState.FTL_EXPRESSION, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, LexicalState.FTL_DIRECTIVE, LexicalState.FTL_EXPRESSION, LexicalState.FTL_EXPRESSION, LexicalState.FTL_EXPRESSION, null, null, null, null, null, null, null, null, null, null, LexicalState.IN_COMMENT, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, LexicalState.FTL_EXPRESSION, LexicalState.TEMPLATE_TEXT, LexicalState.TEMPLATE_TEXT, null, null, null, LexicalState.TEMPLATE_TEXT, };
+    void addToken(Token token) {
+        input_stream.addToken(token);
+    }
+
+    int tabSize= 8;
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+            this.lexicalState= lexState;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+      * @deprecated Use the switchTo method that takes an Enum
+      */
+    @Deprecated public boolean SwitchTo(int lexState) {
+        return switchTo(LexicalState.values()[lexState]);
+    }
+
+    @Deprecated public void setTabSize(int size) {
+        this.tabSize= tabSize;
+    }
+
+    private InvalidToken invalidToken;
+    private Token pendingToken;
+    public Token getNextToken() {
+        if (pendingToken!=null) {
+            Token result= pendingToken;
+            pendingToken= null;
+            return result;
+        }
+        Token tok= null;
+        do {
+            tok= nextToken();
+        }
+        while (tok instanceof InvalidToken);
+        if (invalidToken!=null) {
+            addToken(invalidToken);
+            invalidToken.setNext(tok);
+            Token it= invalidToken;
+            pendingToken= tok;
+            this.invalidToken= null;
+            return it;
+        }
+        addToken(tok);
+        return tok;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t) {
+        input_stream.goTo(t.getEndLine(), t.getEndColumn());
+        input_stream.forward(1);
+    }
+
+    FileLineMap getFileLineMap() {
+        return input_stream;
+    }
+
+    private boolean[] jjbeenHere= new boolean[6];
+    private int jjmatchedPos;
+    //FIXME,should be an enum.
+    private int jjmatchedKind;
+    private String inputSource= "input";
+    // BitSet for TOKEN
+    static private BitSet tokenSet= BitSet.valueOf(new long[]{-13510798882111743L, 24769797950537697L, });
+    // BitSet for SKIP
+    static private BitSet skipSet= BitSet.valueOf(new long[]{194L, 0L, });
+    // BitSet for SPECIAL
+    static private BitSet specialSet= BitSet.valueOf(new long[]{192L, 0L, });
+    private final StringBuilder image= new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    // Clears what is left over from the previous input, when the lexer is reset.
+    private void resetState(String inputSource, LexicalState lexState) {
+        this.inputSource= inputSource;
+        invalidToken= null;
+        pendingToken= null;
+        Arrays.fill(jjbeenHere, false);
+        jjmatchedKind= jjmatchedPos= 0;
+        curChar= 0;
+        image.setLength(0);
+        matchedCharsLength= 0;
+        switchTo(lexState);
+    }
+
+    private Token nextToken() {
+        Token specialToken= null;
+        Token matchedToken;
+        int curPos= 0;
+        EOFLoop:
+        while (true) {
+            int retval1= input_stream.beginToken();
+            curChar= (char)(retval1);
+            if (retval1== -1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind= 0;
+                Token eof= jjFillToken();
+                tokenLexicalActions();
+                CommonTokenAction(eof);
+                eof.setSpecialToken(specialToken);
+                addToken(eof);
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength= 0;
+            while (true) {
+                switch(lexicalState) {
+                    case TEMPLATE_TEXT:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_TEMPLATE_TEXT();
+                    break;
+                    case FTL_EXPRESSION:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_FTL_EXPRESSION();
+                    break;
+                    case EXPRESSION_COMMENT:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_EXPRESSION_COMMENT();
+                    break;
+                    case FTL_DIRECTIVE:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_FTL_DIRECTIVE();
+                    break;
+                    case IN_COMMENT:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_IN_COMMENT();
+                    break;
+                    case NO_PARSE:
+                    jjmatchedKind= 0x7FFFFFFF;
+                    jjmatchedPos= 0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos= jjMoveDfa_NO_PARSE();
+                    break;
+                }
+                if (jjmatchedKind!=0x7FFFFFFF) {
+                    if (jjmatchedPos+1<curPos) {
+                        if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                        input_stream.backup(curPos-jjmatchedPos-1);
+                    }
+                    if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                    if (tokenSet.get(jjmatchedKind)) {
+                        matchedToken= jjFillToken();
+                        matchedToken.setSpecialToken(specialToken);
+                        tokenLexicalActions();
+                        CommonTokenAction(matchedToken);
+                        jjmatchedKind= matchedToken.getType().ordinal();
+                        if (newLexicalStates[jjmatchedKind]!=null) {
+                            switchTo(newLexicalStates[jjmatchedKind]);
+                        }
+                        addToken(matchedToken);
+                        return matchedToken;
+                    }
+                    else if (skipSet.get(jjmatchedKind)) {
+                        if (specialSet.get(jjmatchedKind)) {
+                            matchedToken= jjFillToken();
+                            matchedToken.setUnparsed(true);
+                            if (specialToken== null) {
+                                specialToken= matchedToken;
+                            }
+                            else {
+                                matchedToken.setSpecialToken(specialToken);
+                                specialToken.setNext(matchedToken);
+                                specialToken= matchedToken;
+                            }
+                            addToken(matchedToken);
+                            tokenLexicalActions();
+                        }
+                        else tokenLexicalActions();
+                        if (newLexicalStates[jjmatchedKind]!=null) {
+                            this.lexicalState= newLexicalStates[jjmatchedKind];
+                        }
+                        continue EOFLoop;
+                    }
+                    tokenLexicalActions();
+                    doLexicalStateSwitch(jjmatchedKind);
+                    curPos= 0;
+                    jjmatchedKind= 0x7FFFFFFF;
+                    int retval= input_stream.readChar();
+                    if (retval>=0) {
+                        curChar= (char) retval;
+                        if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                        continue;
+                    }
+                }
+                int error_line= input_stream.getEndLine();
+                int error_column= input_stream.getEndColumn();
+                String error_after= null;
+                error_after= curPos<=1?"":
+                input_stream.getImage();
+                if (invalidToken== null) {
+                    invalidToken= new InvalidToken(""+curChar, input_stream);
+                    invalidToken.setBeginLine(error_line);
+                    invalidToken.setBeginColumn(error_column);
+                }
+                else {
+                    invalidToken.setImage(invalidToken.getImage()+curChar);
+                }
+                invalidToken.setEndLine(error_line);
+                invalidToken.setEndColumn(error_column);
+                return invalidToken;
+            }
+        }
+    }
+
+    private void tokenLexicalActions() {
+        switch(jjmatchedKind) {
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage= input_stream.getImage();
+        beginLine= input_stream.getBeginLine();
+        beginColumn= input_stream.getBeginColumn();
+        endLine= input_stream.getEndLine();
+        endColumn= input_stream.getEndColumn();
+        t= Token.newToken(TokenType.values()[jjmatchedKind], curTokenImage, this);
+        t.setBeginLine(beginLine);
+        t.setEndLine(endLine);
+        t.setBeginColumn(beginColumn);
+        t.setEndColumn(endColumn);
+        //        t.setInputSource(this.inputSource);
+        t.setLexicalState(lexicalState);
+        return t;
+    }
+
+    private int jjStopAtPos(int pos, int kind) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    private static final int[] jjCharClassOffsets_TEMPLATE_TEXT= jjUnpack(256, "\001\001\001A\004\001A\010\001A\014\001A\020\001A\024\001A\030\001A\034\001A \001A$\001A(\001A,\001A0\001A4\001A8\001A<\001A@\001\001AD\001\001AH\001\001AL\001\001AP\001\001A\004\001AT\001\001AX\001\001A\134\001\005A \001A`\001\001Ad\001\001Ah\001\001Al\001\016A \001Ap\001\001At\001\002A \031A\004\001Ax\001Q\001A\004\001A|\001\004A\004\001A@\002\007A +A\004\001AD\002!A \001A\004\001AH\002\001AL\002\001A\004\001AP\002\001AT\002\001AX\002");
+    private static final int[] jjCharClasses_TEMPLATE_TEXT= jjUnpack(9984, "\011\001\002\002\002\003\001\002\016\001\004\003\001\002\002\003\001\004\001\005\011\003\001\006\001\007\012\001\002\003\001\010\001\003\001\011\001\003\001\012\032\013\001\014\001\003\001\015\001\003\001\013\001\003\032\013\001\016\003\003!\001\002\003\004\013\004\003\001\013\012\003\001\013\004\003\001\013\005\003\027\013\001\003\037\013\001\003h\004\013\002\003\022\013\034\003^\001\013\002\003\011\013\002\003\007\013\016\003\002\013\016\003\005\013\011\003\001\013\021\003O\001\001\021\003\003\001\027\003\001\013\013\003\001\013\001\003\003\013\001\003\001\013\001\003\024\013\001\003,\013\001\003\010\013\002\003\032\013\014\003B\002\013\001\003\004\001\005\0039\013\002\003\002\013\002\003\002\013\003\003&\013\002\003\002\0137\003&\013\002\003\001\013\007\003'\013\011\003\021\001\001\003\027\001\001\003\003\001\001\003\001\001\001\003\002\001\001\003\001\001\013\003\033\013\005\003\003\013.\003\032\013\005\003\013\013\013\001\012\003\012\001\006\003\001\001c\001\013\001\003\001\013\007\001\002\003\006\001\002\013\002\001\001\003\004\001\002\003\012\001\003\013\022\003\001\001\001\013\001\001\033\013\003\003\033\0015\003&\013\013\001P\005\003\003\001\001\0035\013\002\003\001\001\001\013\020\001\002\003\001\013\004\001\003\003\012\013\002\001\002\003\012\001\021\003\003\001\001\003\010\013\002\003\002\013\002\003\026\013\001\003\007\013\001\003\001\013\003\003\004\013\002\003\001\001\001\003\007\001\002\003\002\001\002\003\003\001\011\003\001\001\004\003\002\013\001\003\003\013\002\001\002\003\012\001\004\013\016\003\001\001\002\003\006\013\004\003\002\013\002\003\026\013\001\003\007\013\001\003\002\013\001\003\002\013\001\003\002\013\002\003\001\001\001\003\005\001\004\003\002\001\002\003\003\001\013\003\004\013\001\003\001\013\007\003\014\001\003\013\014\003\003\001\001\003\007\013\001\003\001\013\001\003\003\013\001\003\026\013\001\003\007\013\001\003\002\013\001\003\005\013\002\003\001\001\001\013\010\001\001\003\003\001\001\003\003\001\002\003\001\013\017\003\001\013\005\003\012\001\021\003\003\001\001\003\010\013\002\003\002\013\002\003\026\013\001\003\007\013\001\003\002\013\002\003\004\013\002\003\001\001\001\013\006\001\003\003\002\001\002\003\003\001\010\003\002\001\004\003\002\013\001\003\003\013\004\003\012\001\022\003\002\001\001\003\006\013\003\003\003\013\001\003\004\013\003\003\002\013\001\003\001\013\001\003\002\013\003\003\002\013\003\003\003\013\003\003\010\013\001\003\003\013\004\003\005\001\003\003\003\001\001\003\004\001\011\003\001\001\017\003\011\001\021\003\003\001\001\003\010\013\001\003\003\013\001\003\027\013\001\003\012\013\001\003\005\013\004\003\007\001\001\003\003\001\001\003\004\001\007\003\002\001\011\003\002\013\004\003\012\001\022\003\002\001\001\003\010\013\001\003\003\013\001\003\027\013\001\003\012\013\001\003\005\013\004\003\007\001\001\003\003\001\001\003\004\001\007\003\002\001\007\003\001\013\001\003\002\013\004\003\012\001\022\003\002\001\001\003\010\013\001\003\003\013\001\003\027\013\001\003\020\013\004\003\006\001\002\003\003\001\001\003\004\001\011\003\001\001\010\003\002\013\004\003\012\001\022\003\002\001\001\003\022\013\003\003\030\013\001\003\011\013\001\003\001\013\002\003\007\013\003\003\001\001\004\003\006\001\001\003\001\001\001\003\010\001\022\003\002\001\015\0030\013\001\001\002\013\007\001\004\003\010\013\010\001\001\003\012\001'\003\002\013\001\003\001\013\002\003\002\013\001\003\001\013\002\003\001\013\006\003\004\013\001\003\007\013\001\003\003\013\001\003\001\013\001\003\001\013\002\003\002\013\001\003\004\013\001\001\002\013\006\001\001\003\002\001\001\013\002\003\005\013\001\003\001\013\001\003\006\001\002\003\012\001\002\003\002\013\042\003\001\013\027\003\002\001\006\003\012\001\013\003\001\001\001\003\001\001\001\003\001\001\004\003\002\001\010\013\001\003\042\013\006\003\024\001\001\003\002\001\004\013\004\003\010\001\001\003$\001\011\003\001\0019\003\042\013\001\003\005\013\001\003\002\013\001\003\007\001\003\003\004\001\006\003\012\001\006\003\006\013\004\001F\001\003&\013\012\003'\013\011\003Z\001\013\005\003D\001\013\005\003R\001\013\006\003\007\013\001\003?\013\001\003\001\013\001\003\004\013\002\003\007\013\001\003\001\013\001\003\004\013\002\003'\013\001\003\001\013\001\003\004\013\002\003\037\013\001\003\001\013\001\003\004\013\002\003\007\013\001\003\001\013\001\003\004\013\002\003\007\013\001\003\007\013\001\003\027\013\001\003\037\013\001\003\001\013\001\003\004\013\002\003\007\013\001\003'\013\001\003\023\013\016\003\011\001.\003U\001\013\014\003l\005\013\002\003\010\013\012\003\032\013\005\003K\001\013U\002\0034\013 \001\007\003\001\013\004\003\012\001!\003\004\001\001\003\012\001\006\003X\001\013\010\003)\013\001\001V\001\003\134\002\013\004\003Z\001\013\006\003\026\013\002\003\006\013\002\003&\013\002\003\006\013\002\003\010\013\001\003\001\013\001\003\001\013\001\003\001\013\001\003\037\013\002\0035\013\001\003\007\013\001\003\001\013\003\003\003\013\001\003\007\013\003\003\004\013\002\003\006\013\004\003\015\013\005\003\003\013\001\003\007\013\017\003\004\001\032\003\005\001\020\003\002\013)\003\006\001\017\003\001\013 \003\020\013 \003\015\001\004\003\001\001 \003\001\013\004\003\001\013\002\003\012\013\001\003\001\013\003\003\005\013\006\003\001\013\001\003\001\013\001\003\001\013\001\003\004\013\001\003\003\013\001\003\007\013&\003$\013A\002\003\003\013\031\003\011\013\006\001\001\003\005\013\002\003\003\013\006\003T\001\013\004\003\002\001\002\003\002\013\002\003^\001\013\006\003(\013\004\003^\001\013\021\003\030\013H\001\003v\002\013J\001\003f\002\013Z\001\003M\002\013s\001\003d\002\013\134\001\003.\013R\003\003\007\013\014\003\005\013\005\003\001\013\001\001\012\013\001\003\015\013\001\003\005\013\001\003\001\013\001\003\002\013\001\003\002\013\001\003l\001\013!\003k\001\013\022\003@\001\013\002\0036\013(\003\014\013$\003\004\001\017\003\002\013\030\003\003\013\031\003\001\013\006\003\003\013\001\003\001\013\001\003G\002\013\002\003\001\001\004\003\001\013\013\003\012\001\007\003\032\013\004\003\001\013\001\003\032\013\012\003Z\001\013\003\003\006\013\002\003\006\013\002\003\006\013\002\003\003\013\003\003\002\013\003\003\002\013\022\003\003\001\004\003");
+    private static final int[] jjDfaTransitions_TEMPLATE_TEXT= jjUnpack(406, "\001\002\001\003\001\002\001\004\001\005\002\002\001\006\003\002\001\007\003\002\001\000\002\002\001\000\002\002\001\000\003\002\001\000\002\002\001\000\001\003\014\000\001\002\001\000\002\002\001\000\002\002\001\000\003\002\001\000\001\002\001\010\015\000\001\011\003\000\001\012\002\000\001\013\002\000\001\014\007\000\001\012\002\000\001\015\002\000\001\014\004\000\001\002\001\000\002\002\001\000\002\002\001\000\003\002\001\000\002\002\037\000\001\016\005\000\001\017\025\000\001\020\005\000\001\021\005\000\001\022\002\000\001\023\003\000\001\024\002\023\004\000\001\025\002\000\001\026\003\000\001\027\002\026\004\000\001\030\002\000\001\031\004\000\002\031\001\000\001\024\002\000\001\032\002\000\001\033\004\000\002\033\001\000\001\027\002\000\001\022\006\000\001\024\005\000\001\023\001\022\002\000\001\023\003\000\001\024\002\023\022\000\001\025\006\000\001\027\005\000\001\026\001\025\002\000\001\026\001\034\002\000\001\027\002\026\022\000\001\030\012\000\001\024\001\000\001\031\001\030\002\000\001\031\004\000\002\031\001\000\001\024\002\000\001\032\012\000\001\027\001\000\001\033\001\032\002\000\001\033\001\035\003\000\002\033\001\000\001\027\005\000\001\026\004\000\002\026\007\000\001\033\004\000\002\033\003\000");
+    private static final int[] jjDfaKinds_TEMPLATE_TEXT= jjUnpack(29, "\001@@@@@\002\001?\001=\001?\003>\001<\001;\0019\001@@@@@\002\001:\007@@@@@\002\001@\001\002@@@@@\002\001A\001\006@@@@@\002");
+    private int jjMoveDfa_TEMPLATE_TEXT() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_TEMPLATE_TEXT[jjCharClassOffsets_TEMPLATE_TEXT[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_TEMPLATE_TEXT[state*14+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_TEMPLATE_TEXT[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_FTL_EXPRESSION= jjUnpack(256, "\001\001\001A\004\001A\010\001A\014\001A\020\001A\024\001A\030\001A\034\001A \001A$\001A(\001A,\001A0\001A4\001A8\001A<\001A@\001\001AD\001\001AH\001\001AL\001\001AP\001\001A\004\001AT\001\001AX\001\001A\134\001\005A \001A`\001\001Ad\001\001Ah\001\001Al\001\016A \001Ap\001\001At\001\002A \031A\004\001Ax\001Q\001A\004\001A|\001\004A\004\001A@\002\007A +A\004\001AD\002!A \001A\004\001AH\002\001AL\002\001A\004\001AP\002\001AT\002\001AX\002");
+    private static final int[] jjCharClasses_FTL_EXPRESSION= jjUnpack(9984, "\011\001\002\002\002\003\001\002\016\001\004\003\001\002\001\004\001\005\001\006\001\007\001\010\001\011\001\012\001\013\001\014\001\015\001\016\001\017\001\020\001\021\001\022\012\023\001\024\001\025\001\026\001\027\001\030\001\031\033\007\001\032\001\033\001\034\001\003\001\007\001\003\001\035\003\007\001\036\001\037\001 \001\007\001!\002\007\001\042\001\007\001#\003\007\001$\001%\001&\001'\005\007\001(\001)\001*\001\003!\001\002\003\004\007\004\003\001\007\012\003\001\007\004\003\001\007\005\003\027\007\001\003\037\007\001\003h\004\007\002\003\022\007\034\003^\001\007\002\003\011\007\002\003\007\007\016\003\002\007\016\003\005\007\011\003\001\007\021\003O\001\001\021\003\003\001\027\003\001\007\013\003\001\007\001\003\003\007\001\003\001\007\001\003\024\007\001\003,\007\001\003\010\007\002\003\032\007\014\003B\002\007\001\003\004\001\005\0039\007\002\003\002\007\002\003\002\007\003\003&\007\002\003\002\0077\003&\007\002\003\001\007\007\003'\007\011\003\021\001\001\003\027\001\001\003\003\001\001\003\001\001\001\003\002\001\001\003\001\001\013\003\033\007\005\003\003\007.\003\032\007\005\003\013\007\013\001\012\003\012\001\006\003\001\001c\001\007\001\003\001\007\007\001\002\003\006\001\002\007\002\001\001\003\004\001\002\003\012\001\003\007\022\003\001\001\001\007\001\001\033\007\003\003\033\0015\003&\007\013\001P\005\003\003\001\001\0035\007\002\003\001\001\001\007\020\001\002\003\001\007\004\001\003\003\012\007\002\001\002\003\012\001\021\003\003\001\001\003\010\007\002\003\002\007\002\003\026\007\001\003\007\007\001\003\001\007\003\003\004\007\002\003\001\001\001\003\007\001\002\003\002\001\002\003\003\001\011\003\001\001\004\003\002\007\001\003\003\007\002\001\002\003\012\001\004\007\016\003\001\001\002\003\006\007\004\003\002\007\002\003\026\007\001\003\007\007\001\003\002\007\001\003\002\007\001\003\002\007\002\003\001\001\001\003\005\001\004\003\002\001\002\003\003\001\013\003\004\007\001\003\001\007\007\003\014\001\003\007\014\003\003\001\001\003\007\007\001\003\001\007\001\003\003\007\001\003\026\007\001\003\007\007\001\003\002\007\001\003\005\007\002\003\001\001\001\007\010\001\001\003\003\001\001\003\003\001\002\003\001\007\017\003\001\007\005\003\012\001\021\003\003\001\001\003\010\007\002\003\002\007\002\003\026\007\001\003\007\007\001\003\002\007\002\003\004\007\002\003\001\001\001\007\006\001\003\003\002\001\002\003\003\001\010\003\002\001\004\003\002\007\001\003\003\007\004\003\012\001\022\003\002\001\001\003\006\007\003\003\003\007\001\003\004\007\003\003\002\007\001\003\001\007\001\003\002\007\003\003\002\007\003\003\003\007\003\003\010\007\001\003\003\007\004\003\005\001\003\003\003\001\001\003\004\001\011\003\001\001\017\003\011\001\021\003\003\001\001\003\010\007\001\003\003\007\001\003\027\007\001\003\012\007\001\003\005\007\004\003\007\001\001\003\003\001\001\003\004\001\007\003\002\001\011\003\002\007\004\003\012\001\022\003\002\001\001\003\010\007\001\003\003\007\001\003\027\007\001\003\012\007\001\003\005\007\004\003\007\001\001\003\003\001\001\003\004\001\007\003\002\001\007\003\001\007\001\003\002\007\004\003\012\001\022\003\002\001\001\003\010\007\001\003\003\007\001\003\027\007\001\003\020\007\004\003\006\001\002\003\003\001\001\003\004\001\011\003\001\001\010\003\002\007\004\003\012\001\022\003\002\001\001\003\022\007\003\003\030\007\001\003\011\007\001\003\001\007\002\003\007\007\003\003\001\001\004\003\006\001\001\003\001\001\001\003\010\001\022\003\002\001\015\0030\007\001\001\002\007\007\001\004\003\010\007\010\001\001\003\012\001'\003\002\007\001\003\001\007\002\003\002\007\001\003\001\007\002\003\001\007\006\003\004\007\001\003\007\007\001\003\003\007\001\003\001\007\001\003\001\007\002\003\002\007\001\003\004\007\001\001\002\007\006\001\001\003\002\001\001\007\002\003\005\007\001\003\001\007\001\003\006\001\002\003\012\001\002\003\002\007\042\003\001\007\027\003\002\001\006\003\012\001\013\003\001\001\001\003\001\001\001\003\001\001\004\003\002\001\010\007\001\003\042\007\006\003\024\001\001\003\002\001\004\007\004\003\010\001\001\003$\001\011\003\001\0019\003\042\007\001\003\005\007\001\003\002\007\001\003\007\001\003\003\004\001\006\003\012\001\006\003\006\007\004\001F\001\003&\007\012\003'\007\011\003Z\001\007\005\003D\001\007\005\003R\001\007\006\003\007\007\001\003?\007\001\003\001\007\001\003\004\007\002\003\007\007\001\003\001\007\001\003\004\007\002\003'\007\001\003\001\007\001\003\004\007\002\003\037\007\001\003\001\007\001\003\004\007\002\003\007\007\001\003\001\007\001\003\004\007\002\003\007\007\001\003\007\007\001\003\027\007\001\003\037\007\001\003\001\007\001\003\004\007\002\003\007\007\001\003'\007\001\003\023\007\016\003\011\001.\003U\001\007\014\003l\005\007\002\003\010\007\012\003\032\007\005\003K\001\007U\002\0034\007 \001\007\003\001\007\004\003\012\001!\003\004\001\001\003\012\001\006\003X\001\007\010\003)\007\001\001V\001\003\134\002\007\004\003Z\001\007\006\003\026\007\002\003\006\007\002\003&\007\002\003\006\007\002\003\010\007\001\003\001\007\001\003\001\007\001\003\001\007\001\003\037\007\002\0035\007\001\003\007\007\001\003\001\007\003\003\003\007\001\003\007\007\003\003\004\007\002\003\006\007\004\003\015\007\005\003\003\007\001\003\007\007\017\003\004\001\032\003\005\001\020\003\002\007)\003\006\001\017\003\001\007 \003\020\007 \003\015\001\004\003\001\001 \003\001\007\004\003\001\007\002\003\012\007\001\003\001\007\003\003\005\007\006\003\001\007\001\003\001\007\001\003\001\007\001\003\004\007\001\003\003\007\001\003\007\007&\003$\007A\002\003\003\007\031\003\011\007\006\001\001\003\005\007\002\003\003\007\006\003T\001\007\004\003\002\001\002\003\002\007\002\003^\001\007\006\003(\007\004\003^\001\007\021\003\030\007H\001\003v\002\007J\001\003f\002\007Z\001\003M\002\007s\001\003d\002\007\134\001\003.\007R\003\003\007\007\014\003\005\007\005\003\001\007\001\001\012\007\001\003\015\007\001\003\005\007\001\003\001\007\001\003\002\007\001\003\002\007\001\003l\001\007!\003k\001\007\022\003@\001\007\002\0036\007(\003\014\007$\003\004\001\017\003\002\007\030\003\003\007\031\003\001\007\006\003\003\007\001\003\001\007\001\003G\002\007\002\003\001\001\004\003\001\007\013\003\012\001\007\003\032\007\004\003\001\007\001\003\032\007\012\003Z\001\007\003\003\006\007\002\003\006\007\002\003\006\007\002\003\003\007\003\003\002\007\003\003\002\007\022\003\003\001\004\003");
+    private static final int[] jjDfaTransitions_FTL_EXPRESSION= jjUnpack(3570, "\001\000\001\002\001\000\001\003\001\004\001\000\001\005\001\006\001\007\001\010\001\011\001\012\001\013\001\014\001\015\001\016\001\017\001\020\001\021\001\022\001\023\001\024\001\025\001\026\001\027\001\030\001\000\001\031\001\032\001\005\001\033\001\034\001\035\001\036\001\037\001 \001\005\001!\001\042\001#\001$\001%\001\000\001\002\017\000\001&.\000\001'\023\000\004\004\001(\025\004\001)\017\004\001\005\005\000\001\005\013\000\001\005\011\000\013\0055\000\001*!\000\011\010\001(\020\010\001+\017\010L\004\000\001,0\000\001-\003\000\001-\036\000\001.\001\000\001\021n\001\000\001/\001\000\0010\020\000\0011)\000\0012)\000\0013+\000\0014\026\000\0015N\001\000\001\005\005\000\001\005\013\000\001\005\011\000\010\005\0016\002\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\0017\012\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\011\005\0018\001\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\006\005\0019\004\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\011\005\001:\001\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\012\005\001;\003\000\001\005\003\000\001<\001\000\001\005\002\000\001=\010\000\001\005\011\000\013\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\007\005\001>\003\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\010\005\001?\002\005U\001\000\001@\001B\001\000\001-\003\000\001-b\001\000*\004*\000*\010\020\000\001A\001U\001\000\001B\001&\000\001C\001)\000\001D\001Q\003\000\001E\001\032\000\001\005\005\000\001\005\013\000\001\005\011\000\013\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\005\005\001F\001\005\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\001\005\001G\001\011\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\013\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\001\005\001H\001\011\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\005\005\001I\001\005\005\003\000\004<\001J\001%<\011=\001J\001 =\001\005\005\000\001\005\013\000\001\005\011\000\012\005\001K\001\003\000\001\005\005\000\001\005\013\000\001\005\011\000\004\005\001L\001\006\005i\001\000\001B\001&\000\001M\001)\000\001N\001)\000\001O\001\032\000\001\005\005\000\001\005\013\000\001\005\011\000\010\005\001P\001\002\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\013\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\013\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\005\005\001Q\001\005\005-\000\001\005\005\000\001\005\013\000\001\005\011\000\001\005\001R\001\011\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\006\005\001S\001\004\005A\002\000\001\005\005\000\001\005\013\000\001\005\011\000\001\005\001T\001\011\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\013\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\013\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\003\005\001U\001\007\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\013\005\003\000\001\005\005\000\001\005\013\000\001\005\011\000\013\005\003\000");
+    private static final int[] jjDfaKinds_FTL_EXPRESSION= jjUnpack(85, "\001@@@@@\002\001\002\001\035\001@@@@@\002\0014\001\025\001\027\001@@@@@\002\001\011\001\012\001\023\001\021\001\032\001\022\001\020\001\024\0012\001\033\001\034\001\030\001\017\001\031\001\036\001\013\001\014\0114\001\015\001\026\001\016\001@@@@@\002\001 \0017\001@@@@@\002\001%\001@@@@@\002\001&\001s\001\003@@@@@\002\001\042\001\037\001#\001!\001@@@@@\002\001)\0014\001'\001*\001(\0014\002@@@@@\002\0024\001$\001-\0013\003@@@@@\002\0014\001+\001,\0014\0018\0024\001\004\001\003\001\005\0014\001.\001/\0014\0010\0011");
+    private int jjMoveDfa_FTL_EXPRESSION() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_FTL_EXPRESSION[jjCharClassOffsets_FTL_EXPRESSION[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_FTL_EXPRESSION[state*42+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_FTL_EXPRESSION[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_EXPRESSION_COMMENT= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_EXPRESSION_COMMENT= jjUnpack(512, "-\001\001\002\020\001\001\003\036\001\001\004b\006\001");
+    private static final int[] jjDfaTransitions_EXPRESSION_COMMENT= jjUnpack(24, "\001\002\001\003\002\002\005\000\001\004\004\000\001\005\001\006\010\000");
+    private static final int[] jjDfaKinds_EXPRESSION_COMMENT= jjUnpack(6, "\001@@@@@\002\002\006\001@@@@@\002\001\007\001\010");
+    private int jjMoveDfa_EXPRESSION_COMMENT() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_EXPRESSION_COMMENT[jjCharClassOffsets_EXPRESSION_COMMENT[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_EXPRESSION_COMMENT[state*4+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_EXPRESSION_COMMENT[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_FTL_DIRECTIVE= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_FTL_DIRECTIVE= jjUnpack(512, "\011\001\002\002\002\001\001\002\022\001\001\002\014\001\001\003\001\001\001\004\016\001\001\005\036\001\001\005\001\001\001\006\001\001\001\007\001\010\001\011\001\012\001\013\001\014\001\015\001\016\001\017\001\001\001\020\001\021\001\022\001\023\001\024\001\025\001\001\001\026\001\027\001\030\001\031\001\032\001\033H\006\001");
+    private static final int[] jjDfaTransitions_FTL_DIRECTIVE= jjUnpack(5400, "\001\000\001\002\001\003\001\004\001\005\001\000\001\006\001\007\001\010\001\011\001\012\001\013\001\014\001\000\001\015\001\000\001\016\001\017\001\020\002\000\001\021\001\022\001\023\001\000\001\024\002\000\001\025\001\000\001\004\001\005\030\000\001\026\034\000\001\027G\001\000\001\030\001\031\030\000\001\032\013\000\001\033\014\000\001\034\021\000\001\035 \000\001\036\001\037\004\000\001 \012\000\001!\011\000\001\042\002\000\001#\003\000\001$\001%\022\000\001&\025\000\001'\005\000\001(\001)\026\000\001*\004\000\001+\003\000\001,\011\000\001-\036\000\001.\010\000\001/\003\000\0010\015\000\0011\014\000\0012\015\000\0013\014\000\0014\002\000\0015\005\000\0016\033\000\0017\007\000\0018\015\000\001\025\001\000\001\004\001\005b\001\000\0019\033\000\001:\015\000\001;&\000\001<\025\000\001=\024\000\001>%\000\001?\013\000\001@\001\033\000\001A\001\042\000\001B\001\042\000\001C\001\027\000\001D\001\025\000\001E\001\034\000\001F\001\033\000\001G\0016\000\001H\001\016\000\001I\001(\000\001J\001\014\000\001K\001\027\000\001L\001\035\000\001M\001(\000\001N\001\016\000\001O\001\011\000\001P\001\013\000\001Q\001\035\000\001R\001\016\000\001S\001\010\000\001T\001,\000\001U\001\026\000\001V\001\025\000\001W\001\034\000\001X\001\037\000\001Y\001\033\000\001Z\001\022\000\001[\001\026\000\001\134\001\026\000\001]\001\036\000\001^\001$\000\001_\001\014\000\001`\001\036\000\001a\001\032\000\001b\001\026\000\001c\001$\000\001d\001 \000\001e\001\016\000\001f\0013\000\001g\001\031\000\001h\001&\000\001i\001\027\000\001j\001!\000\001k\001\011\000\001l\001$\000\001m\001\037\000\001n\001\034\000\001o\001\031\000\001p\001\012\000\001q\001$\000\001r\001\035\000\001s\001\004\000\001t\001\032\000\001u\001\022\000\001v\001!\000\001w\001\027\000\001x\001\035\000\001y\001\021\000\001z\0015\000\001{\001\030\000\001|\001\037\000\001}\001\030\000\001~\001;\000\001\177\001\035\000\001@\002\020\000\001A\002\025\000\001B\002%\000\001C\002\015\000\001D\002 \000\001E\002\023\000\001F\002+\000\001G\002\011\000\001H\002)\000\001I\002\035\000\001J\002-\000\001K\002\030\000\001L\002\037\000\001M\002\021\000\001N\002\030\000\001O\002'\000\001P\002\023\000\001Q\002%\000\001R\002\026\000\001S\002\032\000\001T\002\023\000\001U\002\032\000\001V\002/\000\001W\002$\000\001X\002\037\000\001Y\002\025\000\001Z\002\034\000\001[\002+\000\001\134\002 \000\001]\002\025\000\001^\0024\000\001_\002\026\000\001`\0027\000\001a\002 \000\001b\002\034\000\001c\002!\000\001d\002\014\000\001e\002>\000\001f\002,\000\001g\002\027\000\001h\002*\000\001i\002\026\000\001j\002\022\000\001k\002&\000\001l\002\026\000\001m\002\032\000\001n\002\032\000\001o\002\025\000\001p\002\027\000\001q\002]\001\000\001r\002\031\000\001s\002\033\000\001t\002A\001\000\001u\002\037\000\001v\002 \000\001w\002G\001\000\001x\002\032\000\001y\002?\000\001z\002\020\000\001{\002\032\000\001|\002%\000\001}\002\017\000\001~\0025\000\001\177\002\034\000\001@\003?\000\001A\0035\000\001B\003.\000\001C\0038\000\001D\0039\000\001E\003\016\000\001F\003A\001\000\001G\003P\001\000\001H\003w\003\000");
+    private static final int[] jjDfaKinds_FTL_DIRECTIVE= jjUnpack(200, "\001@@@@@\002\001q\001\002@@@@@\002\001r\001\015@@@@@\002\001F\001\002@@@@@\002\001G\001\001s\001\017@@@@@\002\001K\001\004@@@@@\002\001H\001\003@@@@@\002\001J\001\001@@@@@\002\001I\001\022@@@@@\002\001L\001\017@@@@@\002\001M\001\003@@@@@\002\001N\001\004@@@@@\002\001R\001\002@@@@@\002\001P\001\011@@@@@\002\001O\001\014@@@@@\002\001Q\001\005@@@@@\002\001V\001\003@@@@@\002\001W\001\002@@@@@\002\001U\001\005@@@@@\002\001T\001\001@@@@@\002\001S\001\013@@@@@\002\001Y\001\001_\001\003@@@@@\002\001`\001\001a\001\003@@@@@\002\001^\001\001[\001\002@@@@@\002\001X\001\005@@@@@\002\001]\001\002@@@@@\002\001Z\001\001@@@@@\002\001i\001\001@@@@@\002\001\134\001\001@@@@@\002\001j\001\001@@@@@\002\001h\001\002@@@@@\002\001g\001\001@@@@@\002\001k\001\001b\001\001@@@@@\002\001f\001\001m\001\001l\001\001d\001\001c\001\001n\001\001e\001\001p\001\001o\001");
+    private int jjMoveDfa_FTL_DIRECTIVE() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_FTL_DIRECTIVE[jjCharClassOffsets_FTL_DIRECTIVE[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_FTL_DIRECTIVE[state*27+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_FTL_DIRECTIVE[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_IN_COMMENT= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_IN_COMMENT= jjUnpack(512, "-\001\001\002\020\001\001\003\036\001\001\003b\006\001");
+    private static final int[] jjDfaTransitions_IN_COMMENT= jjUnpack(15, "\001\002\001\003\001\002\004\000\001\004\003\000\001\005\003\000");
+    private static final int[] jjDfaKinds_IN_COMMENT= jjUnpack(5, "\001@@@@@\002\002t\001\001@@@@@\002\001u\001");
+    private int jjMoveDfa_IN_COMMENT() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_IN_COMMENT[jjCharClassOffsets_IN_COMMENT[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_IN_COMMENT[state*3+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_IN_COMMENT[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static final int[] jjCharClassOffsets_NO_PARSE= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses_NO_PARSE= jjUnpack(512, "\011\001\002\002\002\001\001\002\022\001\001\002\002\001\001\003\013\001\001\004\014\001\001\005\001\001\001\006\034\001\001\007\001\001\001\010\003\001\001\011\003\001\001\012\010\001\001\013\001\014\001\015\001\001\001\016\001\017L\006\001");
+    private static final int[] jjDfaTransitions_NO_PARSE= jjUnpack(345, "\004\002\001\003\001\002\001\004\010\002\022\000\001\005\016\000\001\006\015\000\001\007\016\000\001\010\026\000\001\011\016\000\001\012\017\000\001\013\016\000\001\014\017\000\001\015\016\000\001\016\012\000\001\017\016\000\001\020\023\000\001\021\016\000\001\022\017\000\001\023\016\000\001\024\011\000\001\025\016\000\001\026\006\000\001\025\003\000\001\027\012\000\001\026\005\000\001\027\026\000");
+    private static final int[] jjDfaKinds_NO_PARSE= jjUnpack(23, "\001@@@@@\002\003v\001\022@@@@@\002\001w\001");
+    private int jjMoveDfa_NO_PARSE() {
+        int state= 0;
+        int curPos= 0;
+        while (true) {
+            int charClass= jjCharClasses_NO_PARSE[jjCharClassOffsets_NO_PARSE[curChar>>8]+(curChar&0xff)];
+            state= jjDfaTransitions_NO_PARSE[state*15+charClass];
+            if (state<0) {
+                return curPos+1;
+            }
+            int kind= jjDfaKinds_NO_PARSE[state];
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+            }
+            ++curPos;
+            int retval= input_stream.readChar();
+            if (retval<0) {
+                return curPos;
+            }
+            curChar= (char) retval;
+        }
+    }
+
+    private static int[] jjUnpack(int size, String...packed) {
+        int[] result= new int[size];
+        int index= 0;
+        for (String s : packed) {
+            int i= 0;
+            while (i<s.length()) {
+                int count= 0, value= 0, shift= 0, c;
+                do {
+                    c= s.charAt(i++);
+                    count|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                shift= 0;
+                do {
+                    c= s.charAt(i++);
+                    value|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                Arrays.fill(result, index, index+count, value-1);
+                index+=count;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for COMPRESS Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class COMPRESS extends Token {
+    public COMPRESS(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public COMPRESS(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public COMPRESS(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
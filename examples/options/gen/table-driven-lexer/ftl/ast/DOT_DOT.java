@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for DOT_DOT Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class DOT_DOT extends Token {
+    public DOT_DOT(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public DOT_DOT(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public DOT_DOT(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for IF Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+@SuppressWarnings("unused")
+public class IF extends Token {
+    public IF(int kind, String image) {
+        this(TokenType.values()[kind], image, "input");
+    }
+
+    public IF(TokenType type, String image, String inputSource) {
+        super(type, image, inputSource);
+    }
+
+    public IF(TokenType type, String image, FileLineMap fileLineMap) {
+        super(type, image, fileLineMap);
+    }
+
+}
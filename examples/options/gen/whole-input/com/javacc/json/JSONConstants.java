@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JSONConstants.java */
+package com.javacc.json;
+
+/**
+ * Token literal values and constants.
+ */
+public interface JSONConstants {
+    public enum TokenType {
+        EOF, WHITESPACE, COLON, COMMA, OPEN_BRACKET, CLOSE_BRACKET, OPEN_BRACE, CLOSE_BRACE, TRUE, FALSE, NULL, ESCAPE1, ESCAPE2, REGULAR_CHAR, STRING_LITERAL, ZERO, NON_ZERO, FRACTION, EXPONENT, NUMBER, INVALID
+    }
+    /**
+   * Lexical States
+   */
+    public enum LexicalState {
+        JSON, 
+    }
+    String[] tokenImage= {"<EOF>", "<WHITESPACE>", "\":\"", "\",\"", "\"[\"", "\"]\"", "\"{\"", "\"}\"", "\"true\"", "\"false\"", "\"null\"", "<ESCAPE1>", "<ESCAPE2>", "<REGULAR_CHAR>", "<STRING_LITERAL>", "\"0\"", "<NON_ZERO>", "<FRACTION>", "<EXPONENT>", "<NUMBER>", };
+}
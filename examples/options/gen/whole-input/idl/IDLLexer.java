@@ -0,0 +1,1331 @@
+/* Generated by: JavaCC 21 Parser Generator. IDLLexer.java */
+package idl;
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.*;
+@SuppressWarnings("unused")
+public class IDLLexer implements IDLConstants {
+    private static final Logger LOGGER= Logger.getLogger("IDLParser");
+    // Without DEBUG_LEXER, this is a compile-time constant, so no tracing code is compiled in.
+    private static final boolean trace_enabled= false;
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource= inputSource;
+        input_stream.setInputSource(inputSource);
+    }
+
+    public IDLLexer(String inputSource, CharSequence chars) {
+        this(inputSource, chars, LexicalState.DEFAULT, 1, 1);
+    }
+
+    public IDLLexer(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+      * Lexes the file by mapping it into memory, see {@link FileLineMap#mapFile(java.nio.file.Path, java.nio.charset.Charset)}
+      */
+    public IDLLexer(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public IDLLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.DEFAULT, 1, 1);
+    }
+
+    /**
+     * @deprecated Use the constructor where you specify an inputSource string so that you can have error messages that make sense!
+     */
+    @Deprecated public IDLLexer(Reader reader) {
+        this("input", reader);
+    }
+
+    public IDLLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        switchTo(lexState);
+    }
+
+    /*
+     * The reset methods reinitialize the lexer to tokenize new input,
+     * so that one instance can be reused for any number of inputs.
+     * The tables and buffers that were already allocated are kept.
+     */
+    // Tokens from the previous input refer to its FileLineMap, so that one is not recycled.
+    public void reset(String inputSource, CharSequence chars, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, chars, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, CharSequence chars) {
+        reset(inputSource, chars, LexicalState.DEFAULT, 1, 1);
+    }
+
+    public void reset(CharSequence chars) {
+        reset("input", chars);
+    }
+
+    public void reset(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        input_stream= new FileLineMap(inputSource, reader, line, column);
+        resetState(inputSource, lexState);
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        reset(inputSource, reader, LexicalState.DEFAULT, 1, 1);
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    FileLineMap input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    LexicalState lexicalState= LexicalState.DEFAULT;
+    void addToken(Token token) {
+        input_stream.addToken(token);
+    }
+
+    int tabSize= 8;
+    /** Switch to specified lexical state. */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+            this.lexicalState= lexState;
+            return true;
+        }
+        return false;
+    }
+
+    private InvalidToken invalidToken;
+    private Token pendingToken;
+    public Token getNextToken() {
+        if (pendingToken!=null) {
+            Token result= pendingToken;
+            pendingToken= null;
+            return result;
+        }
+        Token tok= null;
+        do {
+            tok= nextToken();
+        }
+        while (tok instanceof InvalidToken);
+        if (invalidToken!=null) {
+            addToken(invalidToken);
+            invalidToken.setNext(tok);
+            Token it= invalidToken;
+            pendingToken= tok;
+            this.invalidToken= null;
+            return it;
+        }
+        addToken(tok);
+        return tok;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t) {
+        input_stream.goTo(t.getEndLine(), t.getEndColumn());
+        input_stream.forward(1);
+    }
+
+    FileLineMap getFileLineMap() {
+        return input_stream;
+    }
+
+    private boolean[] jjbeenHere= new boolean[1];
+    private int jjnewStateCnt;
+    private int jjround;
+    private int jjmatchedPos;
+    //FIXME,should be an enum.
+    private int jjmatchedKind;
+    private String inputSource= "input";
+    // BitSet for TOKEN
+    static private BitSet tokenSet= BitSet.valueOf(new long[]{-255L, 511L, });
+    private final int[] jjrounds= new int[77];
+    private final int[] jjstateSet= new int[154];
+    private final StringBuilder image= new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+        int i;
+        jjround= 0x80000001;
+        for (i= 77; i--> 0; ) jjrounds[i]= 0x80000000;
+    }
+
+    // Clears what is left over from the previous input, when the lexer is reset.
+    // The jjrounds array does not need clearing, since jjround only ever moves on.
+    private void resetState(String inputSource, LexicalState lexState) {
+        this.inputSource= inputSource;
+        invalidToken= null;
+        pendingToken= null;
+        Arrays.fill(jjbeenHere, false);
+        jjmatchedKind= jjmatchedPos= jjnewStateCnt= 0;
+        curChar= 0;
+        image.setLength(0);
+        matchedCharsLength= 0;
+        switchTo(lexState);
+    }
+
+    private Token nextToken() {
+        Token specialToken= null;
+        Token matchedToken;
+        int curPos= 0;
+        EOFLoop:
+        while (true) {
+            int retval1= input_stream.beginToken();
+            curChar= (char)(retval1);
+            if (retval1== -1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind= 0;
+                Token eof= jjFillToken();
+                tokenLexicalActions();
+                eof.setSpecialToken(specialToken);
+                addToken(eof);
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength= 0;
+            while (curChar<=32&&(0x100002600L&(1L<<curChar))!=0L) {
+                if (trace_enabled) LOGGER.info("Skipping character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+")");
+                curChar= (char) input_stream.beginToken();
+                if (curChar== (char)-1) {
+                    continue EOFLoop;
+                }
+            }
+            jjmatchedKind= 0x7FFFFFFF;
+            jjmatchedPos= 0;
+            if (trace_enabled) LOGGER.info("Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+            curPos= jjMoveStringLiteralDfa0();
+            if (jjmatchedKind!=0x7FFFFFFF) {
+                if (jjmatchedPos+1<curPos) {
+                    if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                    input_stream.backup(curPos-jjmatchedPos-1);
+                }
+                if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                if (tokenSet.get(jjmatchedKind)) {
+                    matchedToken= jjFillToken();
+                    tokenLexicalActions();
+                    jjmatchedKind= matchedToken.getType().ordinal();
+                    addToken(matchedToken);
+                    return matchedToken;
+                }
+                else {
+                    continue EOFLoop;
+                }
+            }
+            int error_line= input_stream.getEndLine();
+            int error_column= input_stream.getEndColumn();
+            String error_after= null;
+            error_after= curPos<=1?"":
+            input_stream.getImage();
+            if (invalidToken== null) {
+                invalidToken= new InvalidToken(""+curChar, input_stream);
+                invalidToken.setBeginLine(error_line);
+                invalidToken.setBeginColumn(error_column);
+            }
+            else {
+                invalidToken.setImage(invalidToken.getImage()+curChar);
+            }
+            invalidToken.setEndLine(error_line);
+            invalidToken.setEndColumn(error_column);
+            return invalidToken;
+        }
+    }
+
+    private void tokenLexicalActions() {
+        switch(jjmatchedKind) {
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage= input_stream.getImage();
+        beginLine= input_stream.getBeginLine();
+        beginColumn= input_stream.getBeginColumn();
+        endLine= input_stream.getEndLine();
+        endColumn= input_stream.getEndColumn();
+        t= Token.newToken(TokenType.values()[jjmatchedKind], curTokenImage, this);
+        t.setBeginLine(beginLine);
+        t.setEndLine(endLine);
+        t.setBeginColumn(beginColumn);
+        t.setEndColumn(endColumn);
+        //        t.setInputSource(this.inputSource);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state]!=jjround) {
+            jjstateSet[jjnewStateCnt++]= state;
+            jjrounds[state]= jjround;
+        }
+    }
+
+    private void jjAddStates(int start, int end) {
+        do {
+            jjstateSet[jjnewStateCnt++]= jjnextStates[start];
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start+1]);
+    }
+
+    private int jjStopAtPos(int pos, int kind) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    private int jjStartNfa(int pos, long active0, long active1) {
+        return jjMoveNfa(jjStopStringLiteralDfa(pos, active0, active1), pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa(int pos, long active0, long active1) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0xff93ffff80011200L)!=0L||(active1&0x1L)!=0L) {
+                jjmatchedKind= 65;
+                return 13;
+            }
+            if ((active0&0x4000000L)!=0L) return 58;
+            return-1;
+            case 1:
+            if ((active0&0xaf93ffff80010200L)!=0L||(active1&0x1L)!=0L) {
+                if (jjmatchedPos!=1) {
+                    jjmatchedKind= 65;
+                    jjmatchedPos= 1;
+                }
+                return 13;
+            }
+            if ((active0&0x5000000000001000L)!=0L) return 13;
+            return-1;
+            case 2:
+            if ((active0&0xcf93fbff80011200L)!=0L||(active1&0x1L)!=0L) {
+                jjmatchedKind= 65;
+                jjmatchedPos= 2;
+                return 13;
+            }
+            if ((active0&0x2000040000000000L)!=0L) return 13;
+            return-1;
+            case 3:
+            if ((active0&0xc792bb6f00011200L)!=0L||(active1&0x1L)!=0L) {
+                jjmatchedKind= 65;
+                jjmatchedPos= 3;
+                return 13;
+            }
+            if ((active0&0x801409080000000L)!=0L) return 13;
+            return-1;
+            case 4:
+            if ((active0&0x8792a94a00001200L)!=0L||(active1&0x1L)!=0L) {
+                jjmatchedKind= 65;
+                jjmatchedPos= 4;
+                return 13;
+            }
+            if ((active0&0x4000122500010000L)!=0L) return 13;
+            return-1;
+            case 5:
+            if ((active0&0x8410280800000200L)!=0L) return 13;
+            if ((active0&0x382814200001000L)!=0L||(active1&0x1L)!=0L) {
+                jjmatchedKind= 65;
+                jjmatchedPos= 5;
+                return 13;
+            }
+            return-1;
+            case 6:
+            if ((active0&0x382004000001000L)!=0L) {
+                jjmatchedKind= 65;
+                jjmatchedPos= 6;
+                return 13;
+            }
+            if ((active0&0x810200000000L)!=0L||(active1&0x1L)!=0L) return 13;
+            return-1;
+            case 7:
+            if ((active0&0x300000000001000L)!=0L) {
+                jjmatchedKind= 65;
+                jjmatchedPos= 7;
+                return 13;
+            }
+            if ((active0&0x82004000000000L)!=0L) return 13;
+            return-1;
+            case 8:
+            if ((active0&0x300000000001000L)!=0L) return 13;
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates(int pos, int kind, int state) {
+        jjmatchedKind= kind;
+        jjmatchedPos= pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa(state, pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0() {
+        switch(curChar) {
+            case 37:
+            return jjStopAtPos(0, 27);
+            case 38:
+            return jjStopAtPos(0, 20);
+            case 40:
+            return jjStopAtPos(0, 29);
+            case 41:
+            return jjStopAtPos(0, 30);
+            case 42:
+            return jjStopAtPos(0, 25);
+            case 43:
+            return jjStopAtPos(0, 23);
+            case 44:
+            return jjStopAtPos(0, 14);
+            case 45:
+            return jjStopAtPos(0, 24);
+            case 47:
+            return jjStartNfaWithStates(0, 26, 58);
+            case 58:
+            jjmatchedKind= 13;
+            return jjMoveStringLiteralDfa1(0x8000L, 0x0L);
+            case 59:
+            return jjStopAtPos(0, 8);
+            case 60:
+            jjmatchedKind= 50;
+            return jjMoveStringLiteralDfa1(0x400000L, 0x0L);
+            case 61:
+            return jjStopAtPos(0, 17);
+            case 62:
+            jjmatchedKind= 51;
+            return jjMoveStringLiteralDfa1(0x200000L, 0x0L);
+            case 70:
+            return jjMoveStringLiteralDfa1(0x100000000L, 0x0L);
+            case 84:
+            return jjMoveStringLiteralDfa1(0x80000000L, 0x0L);
+            case 91:
+            return jjStopAtPos(0, 53);
+            case 93:
+            return jjStopAtPos(0, 54);
+            case 94:
+            return jjStopAtPos(0, 19);
+            case 97:
+            return jjMoveStringLiteralDfa1(0x100040000000000L, 0x0L);
+            case 98:
+            return jjMoveStringLiteralDfa1(0x10000000000L, 0x0L);
+            case 99:
+            return jjMoveStringLiteralDfa1(0x408000010000L, 0x1L);
+            case 100:
+            return jjMoveStringLiteralDfa1(0x800800000000L, 0x0L);
+            case 101:
+            return jjMoveStringLiteralDfa1(0x201000000000000L, 0x0L);
+            case 102:
+            return jjMoveStringLiteralDfa1(0x400000000L, 0x0L);
+            case 105:
+            return jjMoveStringLiteralDfa1(0x5000000000001000L, 0x0L);
+            case 108:
+            return jjMoveStringLiteralDfa1(0x1000000000L, 0x0L);
+            case 109:
+            return jjMoveStringLiteralDfa1(0x200L, 0x0L);
+            case 111:
+            return jjMoveStringLiteralDfa1(0x2400020000000000L, 0x0L);
+            case 114:
+            return jjMoveStringLiteralDfa1(0x8080000000000000L, 0x0L);
+            case 115:
+            return jjMoveStringLiteralDfa1(0x12282000000000L, 0x0L);
+            case 116:
+            return jjMoveStringLiteralDfa1(0x200000000L, 0x0L);
+            case 117:
+            return jjMoveStringLiteralDfa1(0x104000000000L, 0x0L);
+            case 118:
+            return jjMoveStringLiteralDfa1(0x800000000000000L, 0x0L);
+            case 123:
+            return jjStopAtPos(0, 10);
+            case 124:
+            return jjStopAtPos(0, 18);
+            case 125:
+            return jjStopAtPos(0, 11);
+            case 126:
+            return jjStopAtPos(0, 28);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa(0, 0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1(long active0, long active1) {
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(0, active0, active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 58:
+            if ((active0&0x8000L)!=0L) return jjStopAtPos(1, 15);
+            break;
+            case 60:
+            if ((active0&0x400000L)!=0L) return jjStopAtPos(1, 22);
+            break;
+            case 62:
+            if ((active0&0x200000L)!=0L) return jjStopAtPos(1, 21);
+            break;
+            case 65:
+            return jjMoveStringLiteralDfa2(active0, 0x100000000L, active1, 0x0L);
+            case 82:
+            return jjMoveStringLiteralDfa2(active0, 0x80000000L, active1, 0x0L);
+            case 97:
+            return jjMoveStringLiteralDfa2(active0, 0x8000400000000000L, active1, 0x0L);
+            case 99:
+            return jjMoveStringLiteralDfa2(active0, 0x20000000000L, active1, 0x0L);
+            case 101:
+            return jjMoveStringLiteralDfa2(active0, 0x82800000000000L, active1, 0x0L);
+            case 104:
+            return jjMoveStringLiteralDfa2(active0, 0xa000000000L, active1, 0x0L);
+            case 108:
+            return jjMoveStringLiteralDfa2(active0, 0x400000000L, active1, 0x0L);
+            case 110:
+            if ((active0&0x1000000000000000L)!=0L) {
+                jjmatchedKind= 60;
+                jjmatchedPos= 1;
+            }
+            return jjMoveStringLiteralDfa2(active0, 0x4401144000001000L, active1, 0x0L);
+            case 111:
+            return jjMoveStringLiteralDfa2(active0, 0x800011800010200L, active1, 0x1L);
+            case 116:
+            return jjMoveStringLiteralDfa2(active0, 0x110080000000000L, active1, 0x0L);
+            case 117:
+            return jjMoveStringLiteralDfa2(active0, 0x2000000000000000L, active1, 0x0L);
+            case 119:
+            return jjMoveStringLiteralDfa2(active0, 0x200000000000L, active1, 0x0L);
+            case 120:
+            return jjMoveStringLiteralDfa2(active0, 0x200000000000000L, active1, 0x0L);
+            case 121:
+            return jjMoveStringLiteralDfa2(active0, 0x200000000L, active1, 0x0L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(0, active0, active1);
+    }
+
+    private int jjMoveStringLiteralDfa2(long old0, long active0, long old1, long active1) {
+        active0= active0&old0;
+        active1= active1&old1;
+        if ((active0|active1)== 0L) return jjStartNfa(0, old0, old1);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(1, active0, active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 76:
+            return jjMoveStringLiteralDfa3(active0, 0x100000000L, active1, 0x0L);
+            case 85:
+            return jjMoveStringLiteralDfa3(active0, 0x80000000L, active1, 0x0L);
+            case 97:
+            return jjMoveStringLiteralDfa3(active0, 0x80008000000000L, active1, 0x0L);
+            case 99:
+            return jjMoveStringLiteralDfa3(active0, 0x200000000000000L, active1, 0x0L);
+            case 100:
+            return jjMoveStringLiteralDfa3(active0, 0x200L, active1, 0x0L);
+            case 101:
+            return jjMoveStringLiteralDfa3(active0, 0x400000000000000L, active1, 0x0L);
+            case 102:
+            return jjMoveStringLiteralDfa3(active0, 0x800000000000L, active1, 0x0L);
+            case 105:
+            return jjMoveStringLiteralDfa3(active0, 0x8800300000000000L, active1, 0x0L);
+            case 110:
+            return jjMoveStringLiteralDfa3(active0, 0x1000010000L, active1, 0x1L);
+            case 111:
+            return jjMoveStringLiteralDfa3(active0, 0x4000012400000000L, active1, 0x0L);
+            case 112:
+            return jjMoveStringLiteralDfa3(active0, 0x200000000L, active1, 0x0L);
+            case 113:
+            return jjMoveStringLiteralDfa3(active0, 0x2000000000000L, active1, 0x0L);
+            case 114:
+            return jjMoveStringLiteralDfa3(active0, 0x10080000000000L, active1, 0x0L);
+            case 115:
+            return jjMoveStringLiteralDfa3(active0, 0x404000000000L, active1, 0x0L);
+            case 116:
+            if ((active0&0x2000000000000000L)!=0L) return jjStartNfaWithStates(2, 61, 13);
+            return jjMoveStringLiteralDfa3(active0, 0x100020000001000L, active1, 0x0L);
+            case 117:
+            return jjMoveStringLiteralDfa3(active0, 0x1000800000000L, active1, 0x0L);
+            case 121:
+            if ((active0&0x40000000000L)!=0L) return jjStartNfaWithStates(2, 42, 13);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(1, active0, active1);
+    }
+
+    private int jjMoveStringLiteralDfa3(long old0, long active0, long old1, long active1) {
+        active0= active0&old0;
+        active1= active1&old1;
+        if ((active0|active1)== 0L) return jjStartNfa(1, old0, old1);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(2, active0, active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 3;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 69:
+            if ((active0&0x80000000L)!=0L) return jjStartNfaWithStates(3, 31, 13);
+            break;
+            case 83:
+            return jjMoveStringLiteralDfa4(active0, 0x100000000L, active1, 0x0L);
+            case 97:
+            return jjMoveStringLiteralDfa4(active0, 0x800400000000L, active1, 0x0L);
+            case 98:
+            return jjMoveStringLiteralDfa4(active0, 0x800000000L, active1, 0x0L);
+            case 100:
+            if ((active0&0x800000000000000L)!=0L) return jjStartNfaWithStates(3, 59, 13);
+            return jjMoveStringLiteralDfa4(active0, 0x80000000000000L, active1, 0x0L);
+            case 101:
+            if ((active0&0x400000000000L)!=0L) return jjStartNfaWithStates(3, 46, 13);
+            return jjMoveStringLiteralDfa4(active0, 0x200020200001000L, active1, 0x0L);
+            case 103:
+            if ((active0&0x1000000000L)!=0L) return jjStartNfaWithStates(3, 36, 13);
+            break;
+            case 105:
+            return jjMoveStringLiteralDfa4(active0, 0x10004000000000L, active1, 0x0L);
+            case 108:
+            return jjMoveStringLiteralDfa4(active0, 0x10000000000L, active1, 0x0L);
+            case 109:
+            if ((active0&0x1000000000000L)!=0L) return jjStartNfaWithStates(3, 48, 13);
+            break;
+            case 111:
+            return jjMoveStringLiteralDfa4(active0, 0x100000000000L, active1, 0x0L);
+            case 114:
+            if ((active0&0x8000000000L)!=0L) return jjStartNfaWithStates(3, 39, 13);
+            return jjMoveStringLiteralDfa4(active0, 0x100002000000000L, active1, 0x0L);
+            case 115:
+            return jjMoveStringLiteralDfa4(active0, 0x8000000000010000L, active1, 0x0L);
+            case 116:
+            return jjMoveStringLiteralDfa4(active0, 0x200000000000L, active1, 0x1L);
+            case 117:
+            return jjMoveStringLiteralDfa4(active0, 0x4002080000000200L, active1, 0x0L);
+            case 119:
+            return jjMoveStringLiteralDfa4(active0, 0x400000000000000L, active1, 0x0L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(2, active0, active1);
+    }
+
+    private int jjMoveStringLiteralDfa4(long old0, long active0, long old1, long active1) {
+        active0= active0&old0;
+        active1= active1&old1;
+        if ((active0|active1)== 0L) return jjStartNfa(2, old0, old1);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(3, active0, active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 4;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 69:
+            if ((active0&0x100000000L)!=0L) return jjStartNfaWithStates(4, 32, 13);
+            break;
+            case 97:
+            return jjMoveStringLiteralDfa5(active0, 0x400000000000000L, active1, 0x0L);
+            case 99:
+            return jjMoveStringLiteralDfa5(active0, 0x280000000000L, active1, 0x0L);
+            case 100:
+            return jjMoveStringLiteralDfa5(active0, 0x200000000L, active1, 0x0L);
+            case 101:
+            return jjMoveStringLiteralDfa5(active0, 0x8002010000000000L, active1, 0x1L);
+            case 103:
+            return jjMoveStringLiteralDfa5(active0, 0x4000000000L, active1, 0x0L);
+            case 105:
+            return jjMoveStringLiteralDfa5(active0, 0x100000000000000L, active1, 0x0L);
+            case 108:
+            return jjMoveStringLiteralDfa5(active0, 0x800000200L, active1, 0x0L);
+            case 110:
+            if ((active0&0x100000000000L)!=0L) return jjStartNfaWithStates(4, 44, 13);
+            return jjMoveStringLiteralDfa5(active0, 0x10000000000000L, active1, 0x0L);
+            case 111:
+            return jjMoveStringLiteralDfa5(active0, 0x80000000000000L, active1, 0x0L);
+            case 112:
+            return jjMoveStringLiteralDfa5(active0, 0x200000000000000L, active1, 0x0L);
+            case 114:
+            return jjMoveStringLiteralDfa5(active0, 0x1000L, active1, 0x0L);
+            case 116:
+            if ((active0&0x10000L)!=0L) return jjStartNfaWithStates(4, 16, 13);
+            else if ((active0&0x400000000L)!=0L) return jjStartNfaWithStates(4, 34, 13);
+            else if ((active0&0x2000000000L)!=0L) return jjStartNfaWithStates(4, 37, 13);
+            else if ((active0&0x20000000000L)!=0L) return jjStartNfaWithStates(4, 41, 13);
+            else if ((active0&0x4000000000000000L)!=0L) return jjStartNfaWithStates(4, 62, 13);
+            break;
+            case 117:
+            return jjMoveStringLiteralDfa5(active0, 0x800000000000L, active1, 0x0L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(3, active0, active1);
+    }
+
+    private int jjMoveStringLiteralDfa5(long old0, long active0, long old1, long active1) {
+        active0= active0&old0;
+        active1= active1&old1;
+        if ((active0|active1)== 0L) return jjStartNfa(3, old0, old1);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(4, active0, active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 5;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa6(active0, 0x10000000000L, active1, 0x0L);
+            case 98:
+            return jjMoveStringLiteralDfa6(active0, 0x100000000000000L, active1, 0x0L);
+            case 101:
+            if ((active0&0x200L)!=0L) return jjStartNfaWithStates(5, 9, 13);
+            else if ((active0&0x800000000L)!=0L) return jjStartNfaWithStates(5, 35, 13);
+            return jjMoveStringLiteralDfa6(active0, 0x200000000L, active1, 0x0L);
+            case 102:
+            return jjMoveStringLiteralDfa6(active0, 0x1000L, active1, 0x0L);
+            case 103:
+            if ((active0&0x10000000000000L)!=0L) return jjStartNfaWithStates(5, 52, 13);
+            break;
+            case 104:
+            if ((active0&0x200000000000L)!=0L) return jjStartNfaWithStates(5, 45, 13);
+            break;
+            case 108:
+            return jjMoveStringLiteralDfa6(active0, 0x800000000000L, active1, 0x0L);
+            case 110:
+            return jjMoveStringLiteralDfa6(active0, 0x82004000000000L, active1, 0x0L);
+            case 115:
+            if ((active0&0x8000000000000000L)!=0L) return jjStartNfaWithStates(5, 63, 13);
+            break;
+            case 116:
+            if ((active0&0x80000000000L)!=0L) return jjStartNfaWithStates(5, 43, 13);
+            return jjMoveStringLiteralDfa6(active0, 0x200000000000000L, active1, 0x0L);
+            case 120:
+            return jjMoveStringLiteralDfa6(active0, 0x0L, active1, 0x1L);
+            case 121:
+            if ((active0&0x400000000000000L)!=0L) return jjStartNfaWithStates(5, 58, 13);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(4, active0, active1);
+    }
+
+    private int jjMoveStringLiteralDfa6(long old0, long active0, long old1, long active1) {
+        active0= active0&old0;
+        active1= active1&old1;
+        if ((active0|active1)== 0L) return jjStartNfa(4, old0, old1);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(5, active0, active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 6;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa7(active0, 0x1000L, active1, 0x0L);
+            case 99:
+            return jjMoveStringLiteralDfa7(active0, 0x2000000000000L, active1, 0x0L);
+            case 101:
+            return jjMoveStringLiteralDfa7(active0, 0x4000000000L, active1, 0x0L);
+            case 102:
+            if ((active0&0x200000000L)!=0L) return jjStartNfaWithStates(6, 33, 13);
+            break;
+            case 105:
+            return jjMoveStringLiteralDfa7(active0, 0x200000000000000L, active1, 0x0L);
+            case 108:
+            return jjMoveStringLiteralDfa7(active0, 0x80000000000000L, active1, 0x0L);
+            case 110:
+            if ((active0&0x10000000000L)!=0L) return jjStartNfaWithStates(6, 40, 13);
+            break;
+            case 116:
+            if ((active0&0x800000000000L)!=0L) return jjStartNfaWithStates(6, 47, 13);
+            else if ((active1&0x1L)!=0L) return jjStartNfaWithStates(6, 64, 13);
+            break;
+            case 117:
+            return jjMoveStringLiteralDfa7(active0, 0x100000000000000L, active1, 0x0L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(5, active0, active1);
+    }
+
+    private int jjMoveStringLiteralDfa7(long old0, long active0, long old1, long active1) {
+        active0= active0&old0;
+        active1= active1&old1;
+        if ((active0|active1)== 0L) return jjStartNfa(5, old0, old1);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(6, active0, 0L);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 7;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 99:
+            return jjMoveStringLiteralDfa8(active0, 0x1000L);
+            case 100:
+            if ((active0&0x4000000000L)!=0L) return jjStartNfaWithStates(7, 38, 13);
+            break;
+            case 101:
+            if ((active0&0x2000000000000L)!=0L) return jjStartNfaWithStates(7, 49, 13);
+            break;
+            case 111:
+            return jjMoveStringLiteralDfa8(active0, 0x200000000000000L);
+            case 116:
+            return jjMoveStringLiteralDfa8(active0, 0x100000000000000L);
+            case 121:
+            if ((active0&0x80000000000000L)!=0L) return jjStartNfaWithStates(7, 55, 13);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(6, active0, 0L);
+    }
+
+    private int jjMoveStringLiteralDfa8(long old0, long active0) {
+        active0= active0&old0;
+        if ((active0)== 0L) return jjStartNfa(6, old0, 0L);
+        int retval= input_stream.readChar();
+        if (retval>=0) {
+            curChar= (char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa(7, active0, 0L);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 8;
+        }
+        if (trace_enabled) LOGGER.info(""+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active0&0x1000L)!=0L) return jjStartNfaWithStates(8, 12, 13);
+            else if ((active0&0x100000000000000L)!=0L) return jjStartNfaWithStates(8, 56, 13);
+            break;
+            case 110:
+            if ((active0&0x200000000000000L)!=0L) return jjStartNfaWithStates(8, 57, 13);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa(7, active0, 0L);
+    }
+
+    private int jjMoveNfa(int startState, int curPos) {
+        int startsAt= 0;
+        jjnewStateCnt= 77;
+        int i= 1;
+        jjstateSet[0]= startState;
+        int kind= 0x7fffffff;
+        while (true) {
+            if (++jjround== 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l= 1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if ((0x3ff000000000000L&l)!=0L) jjAddStates(0, 5);
+                        else if (curChar== 47) jjAddStates(6, 7);
+                        else if (curChar== 34) jjCheckNAddStates(8, 10);
+                        else if (curChar== 39) jjAddStates(11, 12);
+                        else if (curChar== 46) jjstateSet[jjnewStateCnt++]= 21;
+                        else if (curChar== 35) jjAddStates(13, 14);
+                        if ((0x3fe000000000000L&l)!=0L) {
+                            if (kind> 67) kind= 67;
+                            jjAddStates(15, 16);
+                        }
+                        else if (curChar== 48) jjAddStates(17, 18);
+                        if (curChar== 48) {
+                            if (kind> 66) kind= 66;
+                            jjAddStates(19, 20);
+                        }
+                        break;
+                        case 58:
+                        if (curChar== 42) jjCheckNAddTwoStates(62, 63);
+                        else if (curChar== 47) jjCheckNAddTwoStates(59, 60);
+                        break;
+                        case 1:
+                        if ((0x100000200L&l)!=0L) jjCheckNAddTwoStates(1, 2);
+                        break;
+                        case 2:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddStates(21, 24);
+                        break;
+                        case 3:
+                        if ((0x100000200L&l)!=0L) jjCheckNAddTwoStates(3, 4);
+                        break;
+                        case 4:
+                        if (curChar== 34) jjCheckNAdd(5);
+                        break;
+                        case 5:
+                        if ((0xfffffffbffffffffL&l)!=0L) jjCheckNAddTwoStates(5, 6);
+                        break;
+                        case 6:
+                        if (curChar== 34) jjAddStates(25, 27);
+                        break;
+                        case 7:
+                        if (curChar== 10&&kind> 7) kind= 7;
+                        break;
+                        case 8:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddStates(28, 31);
+                        break;
+                        case 9:
+                        if ((0x100000200L&l)!=0L) jjCheckNAddStates(32, 34);
+                        break;
+                        case 10:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(10, 7);
+                        break;
+                        case 11:
+                        if ((0x100000200L&l)!=0L) jjCheckNAddStates(35, 39);
+                        break;
+                        case 13:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 65) kind= 65;
+                        jjCheckNAdd(13);
+                        break;
+                        case 14:
+                        if (curChar!=48) break;
+                        if (kind> 66) kind= 66;
+                        jjCheckNAddTwoStates(15, 16);
+                        break;
+                        case 15:
+                        if ((0xff000000000000L&l)== 0L) break;
+                        if (kind> 66) kind= 66;
+                        jjCheckNAddTwoStates(15, 16);
+                        break;
+                        case 17:
+                        if ((0x3fe000000000000L&l)== 0L) break;
+                        if (kind> 67) kind= 67;
+                        jjCheckNAddTwoStates(18, 19);
+                        break;
+                        case 18:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 67) kind= 67;
+                        jjCheckNAddTwoStates(18, 19);
+                        break;
+                        case 20:
+                        if (curChar== 46) jjCheckNAdd(21);
+                        break;
+                        case 21:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 69) kind= 69;
+                        jjCheckNAddStates(40, 42);
+                        break;
+                        case 23:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 24;
+                        break;
+                        case 24:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 69) kind= 69;
+                        jjCheckNAddTwoStates(24, 25);
+                        break;
+                        case 26:
+                        if (curChar== 39) jjCheckNAddTwoStates(27, 38);
+                        break;
+                        case 28:
+                        if (curChar== 48) jjCheckNAddTwoStates(29, 30);
+                        break;
+                        case 29:
+                        if ((0xff000000000000L&l)!=0L) jjCheckNAddTwoStates(29, 30);
+                        break;
+                        case 30:
+                        if (curChar== 39&&kind> 71) kind= 71;
+                        break;
+                        case 31:
+                        if ((0x3fe000000000000L&l)!=0L) jjCheckNAddTwoStates(32, 30);
+                        break;
+                        case 32:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(32, 30);
+                        break;
+                        case 33:
+                        if ((0x8000008400000000L&l)!=0L) jjCheckNAdd(30);
+                        break;
+                        case 34:
+                        if (curChar== 48) jjAddStates(43, 44);
+                        break;
+                        case 36:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(36, 30);
+                        break;
+                        case 38:
+                        if ((0xffffff7fffffdbffL&l)!=0L) jjstateSet[jjnewStateCnt++]= 30;
+                        break;
+                        case 39:
+                        if (curChar== 34) jjCheckNAddStates(8, 10);
+                        break;
+                        case 41:
+                        if (curChar== 48) jjCheckNAddStates(45, 48);
+                        break;
+                        case 42:
+                        if ((0xff000000000000L&l)!=0L) jjCheckNAddStates(45, 48);
+                        break;
+                        case 43:
+                        if ((0xfffffffbffffdbffL&l)!=0L) jjCheckNAddStates(8, 10);
+                        break;
+                        case 44:
+                        if (curChar== 34&&kind> 72) kind= 72;
+                        break;
+                        case 45:
+                        if ((0x3fe000000000000L&l)!=0L) jjCheckNAddStates(49, 52);
+                        break;
+                        case 46:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddStates(49, 52);
+                        break;
+                        case 47:
+                        if ((0x8000008400000000L&l)!=0L) jjCheckNAddStates(8, 10);
+                        break;
+                        case 48:
+                        if (curChar== 48) jjAddStates(53, 54);
+                        break;
+                        case 50:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddStates(55, 58);
+                        break;
+                        case 52:
+                        if (curChar== 48) jjCheckNAddTwoStates(53, 56);
+                        break;
+                        case 54:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjCheckNAddTwoStates(54, 55);
+                        break;
+                        case 57:
+                        if (curChar== 47) jjCheckNAddTwoStates(58, 61);
+                        break;
+                        case 59:
+                        if ((0xfffffffffffffbffL&l)!=0L) jjCheckNAddTwoStates(59, 60);
+                        break;
+                        case 60:
+                        if (curChar== 10&&kind> 5) kind= 5;
+                        break;
+                        case 61:
+                        if (curChar== 42) jjCheckNAddTwoStates(62, 63);
+                        break;
+                        case 62:
+                        if ((0xfffffbffffffffffL&l)!=0L) jjCheckNAddTwoStates(62, 63);
+                        break;
+                        case 63:
+                        if (curChar== 42) jjAddStates(59, 60);
+                        break;
+                        case 64:
+                        if ((0xffff7fffffffffffL&l)!=0L) jjCheckNAddTwoStates(65, 63);
+                        break;
+                        case 65:
+                        if ((0xfffffbffffffffffL&l)!=0L) jjCheckNAddTwoStates(65, 63);
+                        break;
+                        case 66:
+                        if (curChar== 47&&kind> 6) kind= 6;
+                        break;
+                        case 67:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddStates(0, 5);
+                        break;
+                        case 68:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(68, 69);
+                        break;
+                        case 69:
+                        if (curChar!=46) break;
+                        if (kind> 69) kind= 69;
+                        jjAddStates(61, 63);
+                        break;
+                        case 70:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 69) kind= 69;
+                        jjCheckNAddStates(61, 63);
+                        break;
+                        case 71:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(71, 20);
+                        break;
+                        case 72:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(72, 73);
+                        break;
+                        case 74:
+                        if ((0x280000000000L&l)!=0L) jjstateSet[jjnewStateCnt++]= 75;
+                        break;
+                        case 75:
+                        if ((0x3ff000000000000L&l)== 0L) break;
+                        if (kind> 70) kind= 70;
+                        jjCheckNAddTwoStates(75, 76);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l= 1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if ((0x7fffffe87fffffeL&l)== 0L) break;
+                        if (kind> 65) kind= 65;
+                        jjCheckNAdd(13);
+                        break;
+                        case 5:
+                        jjCheckNAddTwoStates(5, 6);
+                        break;
+                        case 13:
+                        if ((0x7fffffe87fffffeL&l)== 0L) break;
+                        if (kind> 65) kind= 65;
+                        jjCheckNAdd(13);
+                        break;
+                        case 16:
+                        if ((0x20100000201000L&l)!=0L&&kind> 66) kind= 66;
+                        break;
+                        case 19:
+                        if ((0x20100000201000L&l)!=0L&&kind> 67) kind= 67;
+                        break;
+                        case 22:
+                        if ((0x2000000020L&l)!=0L) jjAddStates(64, 65);
+                        break;
+                        case 25:
+                        if ((0x104000001040L&l)!=0L&&kind> 69) kind= 69;
+                        break;
+                        case 27:
+                        if (curChar== 92) jjAddStates(66, 69);
+                        break;
+                        case 33:
+                        if ((0x54404610000000L&l)!=0L) jjCheckNAdd(30);
+                        break;
+                        case 35:
+                        if (curChar== 120) jjstateSet[jjnewStateCnt++]= 36;
+                        break;
+                        case 36:
+                        if ((0x7e0000007eL&l)!=0L) jjCheckNAddTwoStates(36, 30);
+                        break;
+                        case 37:
+                        if (curChar== 88) jjstateSet[jjnewStateCnt++]= 36;
+                        break;
+                        case 38:
+                        if ((0xffffffffefffffffL&l)!=0L) jjstateSet[jjnewStateCnt++]= 30;
+                        break;
+                        case 40:
+                        if (curChar== 92) jjAddStates(70, 73);
+                        break;
+                        case 43:
+                        if ((0xffffffffefffffffL&l)!=0L) jjCheckNAddStates(8, 10);
+                        break;
+                        case 47:
+                        if ((0x54404610000000L&l)!=0L) jjCheckNAddStates(8, 10);
+                        break;
+                        case 49:
+                        if (curChar== 120) jjstateSet[jjnewStateCnt++]= 50;
+                        break;
+                        case 50:
+                        if ((0x7e0000007eL&l)!=0L) jjCheckNAddStates(55, 58);
+                        break;
+                        case 51:
+                        if (curChar== 88) jjstateSet[jjnewStateCnt++]= 50;
+                        break;
+                        case 53:
+                        if (curChar== 120) jjstateSet[jjnewStateCnt++]= 54;
+                        break;
+                        case 54:
+                        if ((0x7e0000007eL&l)== 0L) break;
+                        if (kind> 68) kind= 68;
+                        jjCheckNAddTwoStates(54, 55);
+                        break;
+                        case 55:
+                        if ((0x20100000201000L&l)!=0L&&kind> 68) kind= 68;
+                        break;
+                        case 56:
+                        if (curChar== 88) jjstateSet[jjnewStateCnt++]= 54;
+                        break;
+                        case 59:
+                        jjCheckNAddTwoStates(59, 60);
+                        break;
+                        case 62:
+                        jjCheckNAddTwoStates(62, 63);
+                        break;
+                        case 64:
+                        jjCheckNAddTwoStates(65, 63);
+                        break;
+                        case 65:
+                        jjCheckNAddTwoStates(65, 63);
+                        break;
+                        case 73:
+                        if ((0x2000000020L&l)!=0L) jjAddStates(74, 75);
+                        break;
+                        case 76:
+                        if ((0x104000001040L&l)!=0L&&kind> 70) kind= 70;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                long l= 1L<<jjCharClasses[jjCharClassOffsets[curChar>>8]+(curChar&0xff)];
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 5:
+                        if ((0x2L&l)!=0L) jjCheckNAddTwoStates(5, 6);
+                        break;
+                        case 38:
+                        if ((0x2L&l)!=0L) jjstateSet[jjnewStateCnt++]= 30;
+                        break;
+                        case 43:
+                        if ((0x2L&l)!=0L) jjCheckNAddStates(8, 10);
+                        break;
+                        case 59:
+                        if ((0x2L&l)!=0L) jjCheckNAddTwoStates(59, 60);
+                        break;
+                        case 62:
+                        if ((0x2L&l)!=0L) jjCheckNAddTwoStates(62, 63);
+                        break;
+                        case 64:
+                        case 65:
+                        if ((0x2L&l)!=0L) jjCheckNAddTwoStates(65, 63);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind= kind;
+                jjmatchedPos= curPos;
+                kind= 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i= jjnewStateCnt)== (startsAt= 77-(jjnewStateCnt= startsAt))) return curPos;
+            int retval= input_stream.readChar();
+            if (retval>=0) {
+                curChar= (char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private static final int[] jjCharClassOffsets= jjUnpack(256, "\001\001\177\003A\004");
+    private static final int[] jjCharClasses= jjUnpack(512, "@\002\001@\006\002");
+    private static int[] jjUnpack(int size, String...packed) {
+        int[] result= new int[size];
+        int index= 0;
+        for (String s : packed) {
+            int i= 0;
+            while (i<s.length()) {
+                int count= 0, value= 0, shift= 0, c;
+                do {
+                    c= s.charAt(i++);
+                    count|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                shift= 0;
+                do {
+                    c= s.charAt(i++);
+                    value|=(c&0x3f)<<shift;
+                    shift+=6;
+                }
+                while ((c&0x40)!=0);
+                Arrays.fill(result, index, index+count, value-1);
+                index+=count;
+            }
+        }
+        return result;
+    }
+
+    private static final int[] jjnextStates= {68, 69, 71, 20, 72, 73, 58, 61, 40, 43, 44, 27, 38, 1, 2, 18, 19, 53, 56, 15, 16, 2, 3, 4, 7, 7, 8, 11, 9, 10, 7, 8, 9, 10, 7, 9, 10, 7, 8, 11, 21, 22, 25, 35, 37, 40, 42, 43, 44, 40, 46, 43, 44, 49, 51, 40, 50, 43, 44, 64, 66, 70, 22, 25, 23, 24, 28, 31, 33, 34, 41, 45, 47, 48, 74, 75};
+}
@@ -0,0 +1,3058 @@
+/* Generated by: JavaCC 21 Parser Generator. IDLParser.java */
+package idl;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.logging.*;
+import java.io.*;
+import static idl.IDLConstants.TokenType.*;
+@SuppressWarnings("unused")
+public class IDLParser implements IDLConstants {
+    public static void main(String args[]) {
+        IDLParser parser;
+        if (args.length== 0) {
+            System.out.println("IDL Parser Version 0.1:  Reading from standard input . . .");
+            parser= new IDLParser(new java.io.InputStreamReader(System.in));
+        }
+        else if (args.length== 1) {
+            System.out.println("IDL Parser Version 0.1:  Reading from file "+args[0]+" . . .");
+            try {
+                parser= new IDLParser(new java.io.FileReader(args[0]));
+            }
+            catch(java.io.FileNotFoundException e) {
+                System.out.println("IDL Parser Version 0.1:  File "+args[0]+" not found.");
+                return;
+            }
+        }
+        else {
+            System.out.println("IDL Parser Version 0.1:  Usage is one of:");
+            System.out.println("         java IDLParser < inputfile");
+            System.out.println("OR");
+            System.out.println("         java IDLParser inputfile");
+            return;
+        }
+        try {
+            parser.specification();
+            System.out.println("IDL Parser Version 0.1:  IDL file parsed successfully.");
+        }
+        catch(ParseException e) {
+            System.out.println("IDL Parser Version 0.1:  Encountered errors during parse.");
+        }
+    }
+
+    private static final java.util.logging.Logger LOGGER= Logger.getLogger(IDLParser.class.getName());
+    public static void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    // The last token successfully "consumed"     
+    Token current_token;
+    private TokenType nextTokenType;
+    // The number of tokens after current_token that the current scanahead has looked at
+    private int currentLookaheadIndex;
+    private int remainingLookahead;
+    private TokenType upToTokenType;
+    private EnumSet<TokenType> upToFirstSet;
+    private Token lastParsedToken;
+    //private Token nextToken; //REVISIT
+    //private EnumSet<Token> currentFollowSet;
+    private boolean cancelled;
+    public void cancel() {
+        cancelled= true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public IDLLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public IDLParser(String inputSource, CharSequence content) {
+        this(new IDLLexer(inputSource, content));
+    }
+
+    public IDLParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+   * Parses the file by mapping it into memory, rather than reading it into a String.
+   */
+    public IDLParser(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        this(new IDLLexer(path, charset));
+    }
+
+    public IDLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public IDLParser(Reader reader) {
+        this(new IDLLexer(reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public IDLParser(IDLLexer lexer) {
+        token_source= lexer;
+        current_token= new Token();
+    }
+
+    /*
+   * The reset methods set up this parser, along with its lexer, to parse new input.
+   * That saves creating a new parser for each input, and the buffers and stacks
+   * that have been allocated so far are reused.
+   */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        resetState();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+   * Maps the file into memory, like the corresponding constructor.
+   */
+    public void reset(java.nio.file.Path path, java.nio.charset.Charset charset) throws IOException {
+        reset(path.toString(), FileLineMap.mapFile(path, charset));
+    }
+
+    public void reset(String inputSource, Reader reader) {
+        token_source.reset(inputSource, reader);
+        resetState();
+    }
+
+    public void reset(Reader reader) {
+        reset("input", reader);
+    }
+
+    // Puts everything back the way the constructor left it, apart
+    // from any settings that were changed.
+    private void resetState() {
+        current_token= new Token();
+        nextTokenType= null;
+        currentLookaheadIndex= remainingLookahead= 0;
+        upToTokenType= null;
+        upToFirstSet= null;
+        lastParsedToken= null;
+        cancelled= false;
+        clearLookaheadTokens();
+        parsingStackSize= lookaheadStackSize= 0;
+        currentFollowSet= null;
+        parseStateStack.clear();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.getNext()!=null) current_token= current_token.getNext();
+        else {
+            Token nextToken= token_source.getNextToken();
+            current_token.setNext(nextToken);
+            current_token= nextToken;
+        }
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        return index<=0?current_token:
+        lookaheadToken(index);
+    }
+
+    // A circular buffer of the tokens following current_token, so that
+    // lookahead does not have to keep following the tokens' next links.
+    // The links are still there (and are the real thing), so if current_token
+    // has moved on since the buffer was filled, it is brought into line.
+    private Token[] lookaheadTokens= new Token[16];
+    private int lookaheadStart, lookaheadCount;
+    private Token lookaheadAnchor;
+    // The index-th token after current_token, index being at least 1
+    private Token lookaheadToken(int index) {
+        if (lookaheadAnchor!=current_token) {
+            syncLookaheadTokens();
+        }
+        int mask= lookaheadTokens.length-1;
+        while (lookaheadCount<index) {
+            Token last= lookaheadCount== 0?current_token:
+            lookaheadTokens[(lookaheadStart+lookaheadCount-1)&mask];
+            Token nextToken= last.getNext();
+            if (nextToken== null) {
+                nextToken= token_source.getNextToken();
+                last.setNext(nextToken);
+            }
+            if (lookaheadCount== lookaheadTokens.length) {
+                growLookaheadTokens();
+                mask= lookaheadTokens.length-1;
+            }
+            lookaheadTokens[(lookaheadStart+lookaheadCount++)&mask]= nextToken;
+        }
+        return lookaheadTokens[(lookaheadStart+index-1)&mask];
+    }
+
+    private void syncLookaheadTokens() {
+        int mask= lookaheadTokens.length-1;
+        // Typically, current_token has moved forward to one of the buffered tokens.
+        while (lookaheadCount> 0) {
+            Token t= lookaheadTokens[lookaheadStart];
+            lookaheadTokens[lookaheadStart]= null;
+            lookaheadStart= (lookaheadStart+1)&mask;
+            --lookaheadCount;
+            if (t== current_token) break;
+        }
+        lookaheadAnchor= current_token;
+    }
+
+    private void growLookaheadTokens() {
+        Token[] newTokens= new Token[lookaheadTokens.length*2];
+        for (int i= 0; i<lookaheadCount; i++) {
+            newTokens[i]= lookaheadTokens[(lookaheadStart+i)&(lookaheadTokens.length-1)];
+        }
+        lookaheadTokens= newTokens;
+        lookaheadStart= 0;
+    }
+
+    // To be called if the tokens' next links are changed behind our back.
+    private void clearLookaheadTokens() {
+        Arrays.fill(lookaheadTokens, null);
+        lookaheadStart= lookaheadCount= 0;
+        lookaheadAnchor= null;
+    }
+
+    private final boolean setNextTokenType() {
+        nextTokenType= lookaheadToken(1).getType();
+        return true;
+    }
+
+    private final TokenType nextTokenType() {
+        setNextTokenType();
+        return nextTokenType;
+    }
+
+    private final boolean resetScanAhead(int amount, EnumSet<TokenType> upToFirstSet) {
+        resetScanAhead(amount);
+        this.upToFirstSet= upToFirstSet;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount, TokenType upToTokenType) {
+        resetScanAhead(amount);
+        this.upToTokenType= upToTokenType;
+        return true;
+    }
+
+    private final boolean resetScanAhead(int amount) {
+        currentLookaheadIndex= 0;
+        remainingLookahead= amount;
+        this.upToTokenType= null;
+        this.upToFirstSet= null;
+        setNextTokenType();
+        return true;
+    }
+
+    /* Production 1 */
+    // IDL.javacc, line 87
+    final public void specification() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 87 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for OneOrMore specified on line 90 of IDL.javacc
+        do {
+            // Code for NonTerminal specified on line 90 of IDL.javacc
+            pushOntoCallStack(0);
+            try {
+                definition();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        while (resetScanAhead(1)&&first_set$IDL_javacc$line_90$column_19.contains(nextTokenType));
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from specification");
+    }
+
+    static private final EnumSet<TokenType> definition_FIRST_SET= EnumSet.of(TokenType.MODULE, TokenType.INTERFACE, TokenType.CONST, TokenType.TYPEDEF, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType.EXCEPTION);
+    /* Production 2 */
+    // IDL.javacc, line 95
+    final public void definition() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 95 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 98 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.TYPEDEF||nextTokenType== TokenType.STRUCT||nextTokenType== TokenType.UNION||nextTokenType== TokenType.ENUM) {
+            // Code for NonTerminal specified on line 98 of IDL.javacc
+            pushOntoCallStack(2);
+            try {
+                type_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 98 of IDL.javacc
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.CONST) {
+            // Code for NonTerminal specified on line 100 of IDL.javacc
+            pushOntoCallStack(3);
+            try {
+                const_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 100 of IDL.javacc
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.EXCEPTION) {
+            // Code for NonTerminal specified on line 102 of IDL.javacc
+            pushOntoCallStack(4);
+            try {
+                except_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 102 of IDL.javacc
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.INTERFACE) {
+            // Code for NonTerminal specified on line 104 of IDL.javacc
+            pushOntoCallStack(5);
+            try {
+                interfacex();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 104 of IDL.javacc
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.MODULE) {
+            // Code for NonTerminal specified on line 106 of IDL.javacc
+            pushOntoCallStack(6);
+            try {
+                module();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 106 of IDL.javacc
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else {
+            pushOntoCallStack(1);
+            throw new ParseException(current_token.getNext(), definition_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from definition");
+    }
+
+    /* Production 3 */
+    // IDL.javacc, line 111
+    final public void module() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 111 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 114 of IDL.javacc
+        consumeToken(TokenType.MODULE);
+        // Code for NonTerminal specified on line 114 of IDL.javacc
+        pushOntoCallStack(7);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 114 of IDL.javacc
+        consumeToken(TokenType._TOKEN_10);
+        // Code for OneOrMore specified on line 114 of IDL.javacc
+        do {
+            // Code for NonTerminal specified on line 114 of IDL.javacc
+            pushOntoCallStack(8);
+            try {
+                definition();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        while (resetScanAhead(1)&&first_set$IDL_javacc$line_114$column_45.contains(nextTokenType));
+        // Code for RegexpStringLiteral specified on line 114 of IDL.javacc
+        consumeToken(TokenType._TOKEN_11);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from module");
+    }
+
+    static private final EnumSet<TokenType> interfacex_FIRST_SET= EnumSet.of(TokenType.INTERFACE);
+    /* Production 4 */
+    // IDL.javacc, line 119
+    final public void interfacex() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 119 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 122 of IDL.javacc
+        if (resetScanAhead(3)&&check$IDL_javacc$line_122$column_3()) {
+            // Code for NonTerminal specified on line 123 of IDL.javacc
+            pushOntoCallStack(10);
+            try {
+                interface_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.INTERFACE) {
+            // Code for NonTerminal specified on line 125 of IDL.javacc
+            pushOntoCallStack(11);
+            try {
+                forward_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(9);
+            throw new ParseException(current_token.getNext(), interfacex_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from interfacex");
+    }
+
+    /* Production 5 */
+    // IDL.javacc, line 130
+    final public void interface_dcl() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 130 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 133 of IDL.javacc
+        pushOntoCallStack(12);
+        try {
+            interface_header();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 133 of IDL.javacc
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified on line 133 of IDL.javacc
+        pushOntoCallStack(13);
+        try {
+            interface_body();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 133 of IDL.javacc
+        consumeToken(TokenType._TOKEN_11);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from interface_dcl");
+    }
+
+    /* Production 6 */
+    // IDL.javacc, line 138
+    final public void forward_dcl() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 138 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 141 of IDL.javacc
+        consumeToken(TokenType.INTERFACE);
+        // Code for NonTerminal specified on line 141 of IDL.javacc
+        pushOntoCallStack(14);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from forward_dcl");
+    }
+
+    /* Production 7 */
+    // IDL.javacc, line 146
+    final public void interface_header() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 146 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 149 of IDL.javacc
+        consumeToken(TokenType.INTERFACE);
+        // Code for NonTerminal specified on line 149 of IDL.javacc
+        pushOntoCallStack(15);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified on line 149 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_13) {
+            // Code for NonTerminal specified on line 149 of IDL.javacc
+            pushOntoCallStack(16);
+            try {
+                inheritance_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from interface_header");
+    }
+
+    /* Production 8 */
+    // IDL.javacc, line 154
+    final public void interface_body() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 154 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ZeroOrMore specified on line 157 of IDL.javacc
+        while (resetScanAhead(1)&&first_set$IDL_javacc$line_157$column_15.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 157 of IDL.javacc
+            pushOntoCallStack(17);
+            try {
+                export();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from interface_body");
+    }
+
+    static private final EnumSet<TokenType> export_FIRST_SET= EnumSet.of(TokenType._TOKEN_15, TokenType.CONST, TokenType.TYPEDEF, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType._TOKEN_52, TokenType.READONLY, TokenType.ATTRIBUTE, TokenType.EXCEPTION, TokenType.ONEWAY, TokenType.VOID, TokenType.ID);
+    /* Production 9 */
+    // IDL.javacc, line 162
+    final public void export() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 162 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 165 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.TYPEDEF||nextTokenType== TokenType.STRUCT||nextTokenType== TokenType.UNION||nextTokenType== TokenType.ENUM) {
+            // Code for NonTerminal specified on line 165 of IDL.javacc
+            pushOntoCallStack(19);
+            try {
+                type_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 165 of IDL.javacc
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.CONST) {
+            // Code for NonTerminal specified on line 167 of IDL.javacc
+            pushOntoCallStack(20);
+            try {
+                const_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 167 of IDL.javacc
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.EXCEPTION) {
+            // Code for NonTerminal specified on line 169 of IDL.javacc
+            pushOntoCallStack(21);
+            try {
+                except_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 169 of IDL.javacc
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.READONLY||nextTokenType== TokenType.ATTRIBUTE) {
+            // Code for NonTerminal specified on line 171 of IDL.javacc
+            pushOntoCallStack(22);
+            try {
+                attr_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 171 of IDL.javacc
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (resetScanAhead(1)&&first_set$IDL_javacc$line_173$column_3.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 173 of IDL.javacc
+            pushOntoCallStack(23);
+            try {
+                op_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 173 of IDL.javacc
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else {
+            pushOntoCallStack(18);
+            throw new ParseException(current_token.getNext(), export_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from export");
+    }
+
+    /* Production 10 */
+    // IDL.javacc, line 178
+    final public void inheritance_spec() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 178 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 181 of IDL.javacc
+        consumeToken(TokenType._TOKEN_13);
+        // Code for NonTerminal specified on line 181 of IDL.javacc
+        pushOntoCallStack(24);
+        try {
+            scoped_name();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 181 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_14) {
+            // Code for RegexpStringLiteral specified on line 181 of IDL.javacc
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified on line 181 of IDL.javacc
+            pushOntoCallStack(25);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from inheritance_spec");
+    }
+
+    /* Production 11 */
+    // IDL.javacc, line 186
+    final public void scoped_name() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 186 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ZeroOrOne specified on line 189 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_15) {
+            // Code for RegexpStringLiteral specified on line 189 of IDL.javacc
+            consumeToken(TokenType._TOKEN_15);
+        }
+        // Code for NonTerminal specified on line 189 of IDL.javacc
+        pushOntoCallStack(26);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 189 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_15) {
+            // Code for RegexpStringLiteral specified on line 189 of IDL.javacc
+            consumeToken(TokenType._TOKEN_15);
+            // Code for NonTerminal specified on line 189 of IDL.javacc
+            pushOntoCallStack(27);
+            try {
+                identifier();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from scoped_name");
+    }
+
+    /* Production 12 */
+    // IDL.javacc, line 194
+    final public void const_dcl() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 194 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 197 of IDL.javacc
+        consumeToken(TokenType.CONST);
+        // Code for NonTerminal specified on line 197 of IDL.javacc
+        pushOntoCallStack(28);
+        try {
+            const_type();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified on line 197 of IDL.javacc
+        pushOntoCallStack(29);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 197 of IDL.javacc
+        consumeToken(TokenType._TOKEN_17);
+        // Code for NonTerminal specified on line 197 of IDL.javacc
+        pushOntoCallStack(30);
+        try {
+            const_exp();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from const_dcl");
+    }
+
+    static private final EnumSet<TokenType> const_type_FIRST_SET= EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType._TOKEN_52, TokenType.ID);
+    /* Production 13 */
+    // IDL.javacc, line 202
+    final public void const_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 202 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 205 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.LONG||nextTokenType== TokenType.SHORT||nextTokenType== TokenType.UNSIGNED) {
+            // Code for NonTerminal specified on line 205 of IDL.javacc
+            pushOntoCallStack(32);
+            try {
+                integer_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.CHAR) {
+            // Code for NonTerminal specified on line 207 of IDL.javacc
+            pushOntoCallStack(33);
+            try {
+                char_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.BOOLEAN) {
+            // Code for NonTerminal specified on line 209 of IDL.javacc
+            pushOntoCallStack(34);
+            try {
+                boolean_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.FLOAT||nextTokenType== TokenType.DOUBLE) {
+            // Code for NonTerminal specified on line 211 of IDL.javacc
+            pushOntoCallStack(35);
+            try {
+                floating_pt_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_52) {
+            // Code for NonTerminal specified on line 213 of IDL.javacc
+            pushOntoCallStack(36);
+            try {
+                string_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_15||nextTokenType== TokenType.ID) {
+            // Code for NonTerminal specified on line 215 of IDL.javacc
+            pushOntoCallStack(37);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(31);
+            throw new ParseException(current_token.getNext(), const_type_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from const_type");
+    }
+
+    /* Production 14 */
+    // IDL.javacc, line 220
+    final public void const_exp() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 220 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 223 of IDL.javacc
+        pushOntoCallStack(38);
+        try {
+            or_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from const_exp");
+    }
+
+    /* Production 15 */
+    // IDL.javacc, line 228
+    final public void or_expr() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 228 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 231 of IDL.javacc
+        pushOntoCallStack(39);
+        try {
+            xor_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 231 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_18) {
+            // Code for RegexpStringLiteral specified on line 231 of IDL.javacc
+            consumeToken(TokenType._TOKEN_18);
+            // Code for NonTerminal specified on line 231 of IDL.javacc
+            pushOntoCallStack(40);
+            try {
+                xor_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from or_expr");
+    }
+
+    /* Production 16 */
+    // IDL.javacc, line 236
+    final public void xor_expr() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 236 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 239 of IDL.javacc
+        pushOntoCallStack(41);
+        try {
+            and_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 239 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_19) {
+            // Code for RegexpStringLiteral specified on line 239 of IDL.javacc
+            consumeToken(TokenType._TOKEN_19);
+            // Code for NonTerminal specified on line 239 of IDL.javacc
+            pushOntoCallStack(42);
+            try {
+                and_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from xor_expr");
+    }
+
+    /* Production 17 */
+    // IDL.javacc, line 244
+    final public void and_expr() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 244 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 247 of IDL.javacc
+        pushOntoCallStack(43);
+        try {
+            shift_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 247 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_20) {
+            // Code for RegexpStringLiteral specified on line 247 of IDL.javacc
+            consumeToken(TokenType._TOKEN_20);
+            // Code for NonTerminal specified on line 247 of IDL.javacc
+            pushOntoCallStack(44);
+            try {
+                shift_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from and_expr");
+    }
+
+    /* Production 18 */
+    // IDL.javacc, line 252
+    final public void shift_expr() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 252 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 255 of IDL.javacc
+        pushOntoCallStack(45);
+        try {
+            add_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 255 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_21||nextTokenType== TokenType._TOKEN_22) {
+            // Code for ExpansionChoice specified on line 255 of IDL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_21) {
+                // Code for RegexpStringLiteral specified on line 255 of IDL.javacc
+                consumeToken(TokenType._TOKEN_21);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_22) {
+                // Code for RegexpStringLiteral specified on line 255 of IDL.javacc
+                consumeToken(TokenType._TOKEN_22);
+            }
+            else {
+                pushOntoCallStack(46);
+                throw new ParseException(current_token.getNext(), first_set$IDL_javacc$line_255$column_18, getCallStack());
+            }
+            // Code for NonTerminal specified on line 255 of IDL.javacc
+            pushOntoCallStack(47);
+            try {
+                add_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from shift_expr");
+    }
+
+    /* Production 19 */
+    // IDL.javacc, line 260
+    final public void add_expr() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 260 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 263 of IDL.javacc
+        pushOntoCallStack(48);
+        try {
+            mult_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 263 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_23||nextTokenType== TokenType._TOKEN_24) {
+            // Code for ExpansionChoice specified on line 263 of IDL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_23) {
+                // Code for RegexpStringLiteral specified on line 263 of IDL.javacc
+                consumeToken(TokenType._TOKEN_23);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_24) {
+                // Code for RegexpStringLiteral specified on line 263 of IDL.javacc
+                consumeToken(TokenType._TOKEN_24);
+            }
+            else {
+                pushOntoCallStack(49);
+                throw new ParseException(current_token.getNext(), first_set$IDL_javacc$line_263$column_19, getCallStack());
+            }
+            // Code for NonTerminal specified on line 263 of IDL.javacc
+            pushOntoCallStack(50);
+            try {
+                mult_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from add_expr");
+    }
+
+    /* Production 20 */
+    // IDL.javacc, line 268
+    final public void mult_expr() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 268 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 271 of IDL.javacc
+        pushOntoCallStack(51);
+        try {
+            unary_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 271 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_25||nextTokenType== TokenType._TOKEN_26||nextTokenType== TokenType._TOKEN_27) {
+            // Code for ExpansionChoice specified on line 271 of IDL.javacc
+            if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_25) {
+                // Code for RegexpStringLiteral specified on line 271 of IDL.javacc
+                consumeToken(TokenType._TOKEN_25);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_26) {
+                // Code for RegexpStringLiteral specified on line 271 of IDL.javacc
+                consumeToken(TokenType._TOKEN_26);
+            }
+            else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_27) {
+                // Code for RegexpStringLiteral specified on line 271 of IDL.javacc
+                consumeToken(TokenType._TOKEN_27);
+            }
+            else {
+                pushOntoCallStack(52);
+                throw new ParseException(current_token.getNext(), first_set$IDL_javacc$line_271$column_20, getCallStack());
+            }
+            // Code for NonTerminal specified on line 271 of IDL.javacc
+            pushOntoCallStack(53);
+            try {
+                unary_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from mult_expr");
+    }
+
+    /* Production 21 */
+    // IDL.javacc, line 276
+    final public void unary_expr() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 276 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ZeroOrOne specified on line 279 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_23||nextTokenType== TokenType._TOKEN_24||nextTokenType== TokenType._TOKEN_28) {
+            // Code for NonTerminal specified on line 279 of IDL.javacc
+            pushOntoCallStack(54);
+            try {
+                unary_operator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for NonTerminal specified on line 279 of IDL.javacc
+        pushOntoCallStack(55);
+        try {
+            primary_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from unary_expr");
+    }
+
+    static private final EnumSet<TokenType> unary_operator_FIRST_SET= EnumSet.of(TokenType._TOKEN_23, TokenType._TOKEN_24, TokenType._TOKEN_28);
+    /* Production 22 */
+    // IDL.javacc, line 283
+    final public void unary_operator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 283 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 286 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_24) {
+            // Code for RegexpStringLiteral specified on line 286 of IDL.javacc
+            consumeToken(TokenType._TOKEN_24);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_23) {
+            // Code for RegexpStringLiteral specified on line 288 of IDL.javacc
+            consumeToken(TokenType._TOKEN_23);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_28) {
+            // Code for RegexpStringLiteral specified on line 290 of IDL.javacc
+            consumeToken(TokenType._TOKEN_28);
+        }
+        else {
+            pushOntoCallStack(56);
+            throw new ParseException(current_token.getNext(), unary_operator_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from unary_operator");
+    }
+
+    static private final EnumSet<TokenType> primary_expr_FIRST_SET= EnumSet.of(TokenType._TOKEN_15, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.ID, TokenType.OCTALINT, TokenType.DECIMALINT, TokenType.HEXADECIMALINT, TokenType.FLOATONE, TokenType.FLOATTWO, TokenType.CHARACTER, TokenType.STRING);
+    /* Production 23 */
+    // IDL.javacc, line 295
+    final public void primary_expr() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 295 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 298 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_15||nextTokenType== TokenType.ID) {
+            // Code for NonTerminal specified on line 298 of IDL.javacc
+            pushOntoCallStack(58);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&first_set$IDL_javacc$line_300$column_3.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 300 of IDL.javacc
+            pushOntoCallStack(59);
+            try {
+                literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_29) {
+            // Code for RegexpStringLiteral specified on line 302 of IDL.javacc
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified on line 302 of IDL.javacc
+            pushOntoCallStack(60);
+            try {
+                const_exp();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 302 of IDL.javacc
+            consumeToken(TokenType._TOKEN_30);
+        }
+        else {
+            pushOntoCallStack(57);
+            throw new ParseException(current_token.getNext(), primary_expr_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from primary_expr");
+    }
+
+    static private final EnumSet<TokenType> literal_FIRST_SET= EnumSet.of(TokenType.TRUE, TokenType.FALSE, TokenType.OCTALINT, TokenType.DECIMALINT, TokenType.HEXADECIMALINT, TokenType.FLOATONE, TokenType.FLOATTWO, TokenType.CHARACTER, TokenType.STRING);
+    /* Production 24 */
+    // IDL.javacc, line 307
+    final public void literal() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 307 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 310 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.OCTALINT||nextTokenType== TokenType.DECIMALINT||nextTokenType== TokenType.HEXADECIMALINT) {
+            // Code for NonTerminal specified on line 310 of IDL.javacc
+            pushOntoCallStack(62);
+            try {
+                integer_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.STRING) {
+            // Code for NonTerminal specified on line 312 of IDL.javacc
+            pushOntoCallStack(63);
+            try {
+                string_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.CHARACTER) {
+            // Code for NonTerminal specified on line 314 of IDL.javacc
+            pushOntoCallStack(64);
+            try {
+                character_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.FLOATONE||nextTokenType== TokenType.FLOATTWO) {
+            // Code for NonTerminal specified on line 316 of IDL.javacc
+            pushOntoCallStack(65);
+            try {
+                floating_pt_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE||nextTokenType== TokenType.FALSE) {
+            // Code for NonTerminal specified on line 318 of IDL.javacc
+            pushOntoCallStack(66);
+            try {
+                boolean_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(61);
+            throw new ParseException(current_token.getNext(), literal_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from literal");
+    }
+
+    static private final EnumSet<TokenType> boolean_literal_FIRST_SET= EnumSet.of(TokenType.TRUE, TokenType.FALSE);
+    /* Production 25 */
+    // IDL.javacc, line 323
+    final public void boolean_literal() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 323 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 326 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.TRUE) {
+            // Code for RegexpStringLiteral specified on line 326 of IDL.javacc
+            consumeToken(TokenType.TRUE);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.FALSE) {
+            // Code for RegexpStringLiteral specified on line 328 of IDL.javacc
+            consumeToken(TokenType.FALSE);
+        }
+        else {
+            pushOntoCallStack(67);
+            throw new ParseException(current_token.getNext(), boolean_literal_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from boolean_literal");
+    }
+
+    /* Production 26 */
+    // IDL.javacc, line 333
+    final public void positive_int_const() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 333 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 336 of IDL.javacc
+        pushOntoCallStack(68);
+        try {
+            const_exp();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from positive_int_const");
+    }
+
+    static private final EnumSet<TokenType> type_dcl_FIRST_SET= EnumSet.of(TokenType.TYPEDEF, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM);
+    /* Production 27 */
+    // IDL.javacc, line 341
+    final public void type_dcl() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 341 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 344 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.TYPEDEF) {
+            // Code for RegexpStringLiteral specified on line 344 of IDL.javacc
+            consumeToken(TokenType.TYPEDEF);
+            // Code for NonTerminal specified on line 344 of IDL.javacc
+            pushOntoCallStack(70);
+            try {
+                type_declarator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.STRUCT) {
+            // Code for NonTerminal specified on line 346 of IDL.javacc
+            pushOntoCallStack(71);
+            try {
+                struct_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.UNION) {
+            // Code for NonTerminal specified on line 348 of IDL.javacc
+            pushOntoCallStack(72);
+            try {
+                union_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.ENUM) {
+            // Code for NonTerminal specified on line 350 of IDL.javacc
+            pushOntoCallStack(73);
+            try {
+                enum_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(69);
+            throw new ParseException(current_token.getNext(), type_dcl_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from type_dcl");
+    }
+
+    /* Production 28 */
+    // IDL.javacc, line 355
+    final public void type_declarator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 355 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 358 of IDL.javacc
+        pushOntoCallStack(74);
+        try {
+            type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified on line 358 of IDL.javacc
+        pushOntoCallStack(75);
+        try {
+            declarators();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from type_declarator");
+    }
+
+    static private final EnumSet<TokenType> type_spec_FIRST_SET= EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType.SEQUENCE, TokenType._TOKEN_52, TokenType.ID);
+    /* Production 29 */
+    // IDL.javacc, line 363
+    final public void type_spec() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 363 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 366 of IDL.javacc
+        if (resetScanAhead(1)&&first_set$IDL_javacc$line_366$column_3.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 366 of IDL.javacc
+            pushOntoCallStack(77);
+            try {
+                simple_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.STRUCT||nextTokenType== TokenType.UNION||nextTokenType== TokenType.ENUM) {
+            // Code for NonTerminal specified on line 368 of IDL.javacc
+            pushOntoCallStack(78);
+            try {
+                constr_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(76);
+            throw new ParseException(current_token.getNext(), type_spec_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from type_spec");
+    }
+
+    static private final EnumSet<TokenType> simple_type_spec_FIRST_SET= EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.SEQUENCE, TokenType._TOKEN_52, TokenType.ID);
+    /* Production 30 */
+    // IDL.javacc, line 373
+    final public void simple_type_spec() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 373 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 376 of IDL.javacc
+        if (resetScanAhead(1)&&first_set$IDL_javacc$line_376$column_3.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 376 of IDL.javacc
+            pushOntoCallStack(80);
+            try {
+                base_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.SEQUENCE||nextTokenType== TokenType._TOKEN_52) {
+            // Code for NonTerminal specified on line 378 of IDL.javacc
+            pushOntoCallStack(81);
+            try {
+                template_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_15||nextTokenType== TokenType.ID) {
+            // Code for NonTerminal specified on line 380 of IDL.javacc
+            pushOntoCallStack(82);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(79);
+            throw new ParseException(current_token.getNext(), simple_type_spec_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from simple_type_spec");
+    }
+
+    static private final EnumSet<TokenType> base_type_spec_FIRST_SET= EnumSet.of(TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY);
+    /* Production 31 */
+    // IDL.javacc, line 385
+    final public void base_type_spec() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 385 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 388 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.FLOAT||nextTokenType== TokenType.DOUBLE) {
+            // Code for NonTerminal specified on line 388 of IDL.javacc
+            pushOntoCallStack(84);
+            try {
+                floating_pt_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.LONG||nextTokenType== TokenType.SHORT||nextTokenType== TokenType.UNSIGNED) {
+            // Code for NonTerminal specified on line 390 of IDL.javacc
+            pushOntoCallStack(85);
+            try {
+                integer_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.CHAR) {
+            // Code for NonTerminal specified on line 392 of IDL.javacc
+            pushOntoCallStack(86);
+            try {
+                char_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.BOOLEAN) {
+            // Code for NonTerminal specified on line 394 of IDL.javacc
+            pushOntoCallStack(87);
+            try {
+                boolean_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.OCTET) {
+            // Code for NonTerminal specified on line 396 of IDL.javacc
+            pushOntoCallStack(88);
+            try {
+                octet_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.ANY) {
+            // Code for NonTerminal specified on line 398 of IDL.javacc
+            pushOntoCallStack(89);
+            try {
+                any_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(83);
+            throw new ParseException(current_token.getNext(), base_type_spec_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from base_type_spec");
+    }
+
+    static private final EnumSet<TokenType> template_type_spec_FIRST_SET= EnumSet.of(TokenType.SEQUENCE, TokenType._TOKEN_52);
+    /* Production 32 */
+    // IDL.javacc, line 403
+    final public void template_type_spec() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 403 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 406 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.SEQUENCE) {
+            // Code for NonTerminal specified on line 406 of IDL.javacc
+            pushOntoCallStack(91);
+            try {
+                sequence_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_52) {
+            // Code for NonTerminal specified on line 408 of IDL.javacc
+            pushOntoCallStack(92);
+            try {
+                string_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(90);
+            throw new ParseException(current_token.getNext(), template_type_spec_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from template_type_spec");
+    }
+
+    static private final EnumSet<TokenType> constr_type_spec_FIRST_SET= EnumSet.of(TokenType.STRUCT, TokenType.UNION, TokenType.ENUM);
+    /* Production 33 */
+    // IDL.javacc, line 413
+    final public void constr_type_spec() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 413 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 416 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.STRUCT) {
+            // Code for NonTerminal specified on line 416 of IDL.javacc
+            pushOntoCallStack(94);
+            try {
+                struct_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.UNION) {
+            // Code for NonTerminal specified on line 418 of IDL.javacc
+            pushOntoCallStack(95);
+            try {
+                union_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.ENUM) {
+            // Code for NonTerminal specified on line 420 of IDL.javacc
+            pushOntoCallStack(96);
+            try {
+                enum_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(93);
+            throw new ParseException(current_token.getNext(), constr_type_spec_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from constr_type_spec");
+    }
+
+    /* Production 34 */
+    // IDL.javacc, line 425
+    final public void declarators() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 425 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 428 of IDL.javacc
+        pushOntoCallStack(97);
+        try {
+            declarator();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 428 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_14) {
+            // Code for RegexpStringLiteral specified on line 428 of IDL.javacc
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified on line 428 of IDL.javacc
+            pushOntoCallStack(98);
+            try {
+                declarator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from declarators");
+    }
+
+    static private final EnumSet<TokenType> declarator_FIRST_SET= EnumSet.of(TokenType.ID);
+    /* Production 35 */
+    // IDL.javacc, line 433
+    final public void declarator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 433 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 436 of IDL.javacc
+        if (resetScanAhead(2)&&check$IDL_javacc$line_436$column_3()) {
+            // Code for NonTerminal specified on line 437 of IDL.javacc
+            pushOntoCallStack(100);
+            try {
+                complex_declarator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.ID) {
+            // Code for NonTerminal specified on line 439 of IDL.javacc
+            pushOntoCallStack(101);
+            try {
+                simple_declarator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(99);
+            throw new ParseException(current_token.getNext(), declarator_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from declarator");
+    }
+
+    /* Production 36 */
+    // IDL.javacc, line 444
+    final public void simple_declarator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 444 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 447 of IDL.javacc
+        pushOntoCallStack(102);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from simple_declarator");
+    }
+
+    /* Production 37 */
+    // IDL.javacc, line 452
+    final public void complex_declarator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 452 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 455 of IDL.javacc
+        pushOntoCallStack(103);
+        try {
+            array_declarator();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from complex_declarator");
+    }
+
+    static private final EnumSet<TokenType> floating_pt_type_FIRST_SET= EnumSet.of(TokenType.FLOAT, TokenType.DOUBLE);
+    /* Production 38 */
+    // IDL.javacc, line 460
+    final public void floating_pt_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 460 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 463 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.FLOAT) {
+            // Code for RegexpStringLiteral specified on line 463 of IDL.javacc
+            consumeToken(TokenType.FLOAT);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.DOUBLE) {
+            // Code for RegexpStringLiteral specified on line 465 of IDL.javacc
+            consumeToken(TokenType.DOUBLE);
+        }
+        else {
+            pushOntoCallStack(104);
+            throw new ParseException(current_token.getNext(), floating_pt_type_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from floating_pt_type");
+    }
+
+    static private final EnumSet<TokenType> integer_type_FIRST_SET= EnumSet.of(TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED);
+    /* Production 39 */
+    // IDL.javacc, line 470
+    final public void integer_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 470 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 473 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.LONG||nextTokenType== TokenType.SHORT) {
+            // Code for NonTerminal specified on line 473 of IDL.javacc
+            pushOntoCallStack(106);
+            try {
+                signed_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.UNSIGNED) {
+            // Code for NonTerminal specified on line 475 of IDL.javacc
+            pushOntoCallStack(107);
+            try {
+                unsigned_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(105);
+            throw new ParseException(current_token.getNext(), integer_type_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from integer_type");
+    }
+
+    static private final EnumSet<TokenType> signed_int_FIRST_SET= EnumSet.of(TokenType.LONG, TokenType.SHORT);
+    /* Production 40 */
+    // IDL.javacc, line 480
+    final public void signed_int() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 480 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 483 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.LONG) {
+            // Code for NonTerminal specified on line 483 of IDL.javacc
+            pushOntoCallStack(109);
+            try {
+                signed_long_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.SHORT) {
+            // Code for NonTerminal specified on line 485 of IDL.javacc
+            pushOntoCallStack(110);
+            try {
+                signed_short_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(108);
+            throw new ParseException(current_token.getNext(), signed_int_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from signed_int");
+    }
+
+    /* Production 41 */
+    // IDL.javacc, line 490
+    final public void signed_long_int() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 490 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 493 of IDL.javacc
+        consumeToken(TokenType.LONG);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from signed_long_int");
+    }
+
+    /* Production 42 */
+    // IDL.javacc, line 498
+    final public void signed_short_int() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 498 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 501 of IDL.javacc
+        consumeToken(TokenType.SHORT);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from signed_short_int");
+    }
+
+    static private final EnumSet<TokenType> unsigned_int_FIRST_SET= EnumSet.of(TokenType.UNSIGNED);
+    /* Production 43 */
+    // IDL.javacc, line 506
+    final public void unsigned_int() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 506 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 509 of IDL.javacc
+        if (resetScanAhead(2)&&check$IDL_javacc$line_509$column_3()) {
+            // Code for NonTerminal specified on line 510 of IDL.javacc
+            pushOntoCallStack(112);
+            try {
+                unsigned_long_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.UNSIGNED) {
+            // Code for NonTerminal specified on line 512 of IDL.javacc
+            pushOntoCallStack(113);
+            try {
+                unsigned_short_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(111);
+            throw new ParseException(current_token.getNext(), unsigned_int_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from unsigned_int");
+    }
+
+    /* Production 44 */
+    // IDL.javacc, line 517
+    final public void unsigned_long_int() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 517 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 520 of IDL.javacc
+        consumeToken(TokenType.UNSIGNED);
+        // Code for RegexpStringLiteral specified on line 520 of IDL.javacc
+        consumeToken(TokenType.LONG);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from unsigned_long_int");
+    }
+
+    /* Production 45 */
+    // IDL.javacc, line 525
+    final public void unsigned_short_int() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 525 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 528 of IDL.javacc
+        consumeToken(TokenType.UNSIGNED);
+        // Code for RegexpStringLiteral specified on line 528 of IDL.javacc
+        consumeToken(TokenType.SHORT);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from unsigned_short_int");
+    }
+
+    /* Production 46 */
+    // IDL.javacc, line 533
+    final public void char_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 533 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 536 of IDL.javacc
+        consumeToken(TokenType.CHAR);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from char_type");
+    }
+
+    /* Production 47 */
+    // IDL.javacc, line 541
+    final public void boolean_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 541 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 544 of IDL.javacc
+        consumeToken(TokenType.BOOLEAN);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from boolean_type");
+    }
+
+    /* Production 48 */
+    // IDL.javacc, line 549
+    final public void octet_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 549 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 552 of IDL.javacc
+        consumeToken(TokenType.OCTET);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from octet_type");
+    }
+
+    /* Production 49 */
+    // IDL.javacc, line 557
+    final public void any_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 557 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 560 of IDL.javacc
+        consumeToken(TokenType.ANY);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from any_type");
+    }
+
+    /* Production 50 */
+    // IDL.javacc, line 565
+    final public void struct_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 565 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 568 of IDL.javacc
+        consumeToken(TokenType.STRUCT);
+        // Code for NonTerminal specified on line 568 of IDL.javacc
+        pushOntoCallStack(114);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 568 of IDL.javacc
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified on line 568 of IDL.javacc
+        pushOntoCallStack(115);
+        try {
+            member_list();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 568 of IDL.javacc
+        consumeToken(TokenType._TOKEN_11);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from struct_type");
+    }
+
+    /* Production 51 */
+    // IDL.javacc, line 573
+    final public void member_list() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 573 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for OneOrMore specified on line 576 of IDL.javacc
+        do {
+            // Code for NonTerminal specified on line 576 of IDL.javacc
+            pushOntoCallStack(116);
+            try {
+                member();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        while (resetScanAhead(1)&&first_set$IDL_javacc$line_576$column_15.contains(nextTokenType));
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from member_list");
+    }
+
+    /* Production 52 */
+    // IDL.javacc, line 581
+    final public void member() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 581 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 584 of IDL.javacc
+        pushOntoCallStack(117);
+        try {
+            type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified on line 584 of IDL.javacc
+        pushOntoCallStack(118);
+        try {
+            declarators();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 584 of IDL.javacc
+        consumeToken(TokenType._TOKEN_8);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from member");
+    }
+
+    /* Production 53 */
+    // IDL.javacc, line 589
+    final public void union_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 589 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 592 of IDL.javacc
+        consumeToken(TokenType.UNION);
+        // Code for NonTerminal specified on line 592 of IDL.javacc
+        pushOntoCallStack(119);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 592 of IDL.javacc
+        consumeToken(TokenType.SWITCH);
+        // Code for RegexpStringLiteral specified on line 592 of IDL.javacc
+        consumeToken(TokenType._TOKEN_29);
+        // Code for NonTerminal specified on line 592 of IDL.javacc
+        pushOntoCallStack(120);
+        try {
+            switch_type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 592 of IDL.javacc
+        consumeToken(TokenType._TOKEN_30);
+        // Code for RegexpStringLiteral specified on line 592 of IDL.javacc
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified on line 592 of IDL.javacc
+        pushOntoCallStack(121);
+        try {
+            switch_body();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 592 of IDL.javacc
+        consumeToken(TokenType._TOKEN_11);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from union_type");
+    }
+
+    static private final EnumSet<TokenType> switch_type_spec_FIRST_SET= EnumSet.of(TokenType._TOKEN_15, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.ENUM, TokenType.ID);
+    /* Production 54 */
+    // IDL.javacc, line 597
+    final public void switch_type_spec() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 597 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 600 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.LONG||nextTokenType== TokenType.SHORT||nextTokenType== TokenType.UNSIGNED) {
+            // Code for NonTerminal specified on line 600 of IDL.javacc
+            pushOntoCallStack(123);
+            try {
+                integer_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.CHAR) {
+            // Code for NonTerminal specified on line 602 of IDL.javacc
+            pushOntoCallStack(124);
+            try {
+                char_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.BOOLEAN) {
+            // Code for NonTerminal specified on line 604 of IDL.javacc
+            pushOntoCallStack(125);
+            try {
+                boolean_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.ENUM) {
+            // Code for NonTerminal specified on line 606 of IDL.javacc
+            pushOntoCallStack(126);
+            try {
+                enum_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_15||nextTokenType== TokenType.ID) {
+            // Code for NonTerminal specified on line 608 of IDL.javacc
+            pushOntoCallStack(127);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(122);
+            throw new ParseException(current_token.getNext(), switch_type_spec_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from switch_type_spec");
+    }
+
+    /* Production 55 */
+    // IDL.javacc, line 613
+    final public void switch_body() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 613 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for OneOrMore specified on line 616 of IDL.javacc
+        do {
+            // Code for NonTerminal specified on line 616 of IDL.javacc
+            pushOntoCallStack(128);
+            try {
+                casex();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        while (resetScanAhead(1)&&nextTokenType== TokenType.CASE||nextTokenType== TokenType.DEFAULT);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from switch_body");
+    }
+
+    /* Production 56 */
+    // IDL.javacc, line 621
+    final public void casex() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 621 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for OneOrMore specified on line 624 of IDL.javacc
+        do {
+            // Code for NonTerminal specified on line 624 of IDL.javacc
+            pushOntoCallStack(129);
+            try {
+                case_label();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        while (resetScanAhead(1)&&nextTokenType== TokenType.CASE||nextTokenType== TokenType.DEFAULT);
+        // Code for NonTerminal specified on line 624 of IDL.javacc
+        pushOntoCallStack(130);
+        try {
+            element_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 624 of IDL.javacc
+        consumeToken(TokenType._TOKEN_8);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from casex");
+    }
+
+    static private final EnumSet<TokenType> case_label_FIRST_SET= EnumSet.of(TokenType.CASE, TokenType.DEFAULT);
+    /* Production 57 */
+    // IDL.javacc, line 629
+    final public void case_label() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 629 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 632 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.CASE) {
+            // Code for RegexpStringLiteral specified on line 632 of IDL.javacc
+            consumeToken(TokenType.CASE);
+            // Code for NonTerminal specified on line 632 of IDL.javacc
+            pushOntoCallStack(132);
+            try {
+                const_exp();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 632 of IDL.javacc
+            consumeToken(TokenType._TOKEN_13);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.DEFAULT) {
+            // Code for RegexpStringLiteral specified on line 634 of IDL.javacc
+            consumeToken(TokenType.DEFAULT);
+            // Code for RegexpStringLiteral specified on line 634 of IDL.javacc
+            consumeToken(TokenType._TOKEN_13);
+        }
+        else {
+            pushOntoCallStack(131);
+            throw new ParseException(current_token.getNext(), case_label_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from case_label");
+    }
+
+    /* Production 58 */
+    // IDL.javacc, line 639
+    final public void element_spec() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 639 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 642 of IDL.javacc
+        pushOntoCallStack(133);
+        try {
+            type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified on line 642 of IDL.javacc
+        pushOntoCallStack(134);
+        try {
+            declarator();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from element_spec");
+    }
+
+    /* Production 59 */
+    // IDL.javacc, line 647
+    final public void enum_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 647 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 650 of IDL.javacc
+        consumeToken(TokenType.ENUM);
+        // Code for NonTerminal specified on line 650 of IDL.javacc
+        pushOntoCallStack(135);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 650 of IDL.javacc
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified on line 650 of IDL.javacc
+        pushOntoCallStack(136);
+        try {
+            enumerator();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 650 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_14) {
+            // Code for RegexpStringLiteral specified on line 650 of IDL.javacc
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified on line 650 of IDL.javacc
+            pushOntoCallStack(137);
+            try {
+                enumerator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified on line 650 of IDL.javacc
+        consumeToken(TokenType._TOKEN_11);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from enum_type");
+    }
+
+    /* Production 60 */
+    // IDL.javacc, line 655
+    final public void enumerator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 655 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 658 of IDL.javacc
+        pushOntoCallStack(138);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from enumerator");
+    }
+
+    /* Production 61 */
+    // IDL.javacc, line 663
+    final public void sequence_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 663 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 666 of IDL.javacc
+        consumeToken(TokenType.SEQUENCE);
+        // Code for RegexpStringLiteral specified on line 666 of IDL.javacc
+        consumeToken(TokenType._TOKEN_50);
+        // Code for NonTerminal specified on line 666 of IDL.javacc
+        pushOntoCallStack(139);
+        try {
+            simple_type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified on line 666 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_14) {
+            // Code for RegexpStringLiteral specified on line 666 of IDL.javacc
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified on line 666 of IDL.javacc
+            pushOntoCallStack(140);
+            try {
+                positive_int_const();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified on line 666 of IDL.javacc
+        consumeToken(TokenType._TOKEN_51);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from sequence_type");
+    }
+
+    /* Production 62 */
+    // IDL.javacc, line 671
+    final public void string_type() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 671 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 674 of IDL.javacc
+        consumeToken(TokenType._TOKEN_52);
+        // Code for ZeroOrOne specified on line 674 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_50) {
+            // Code for RegexpStringLiteral specified on line 674 of IDL.javacc
+            consumeToken(TokenType._TOKEN_50);
+            // Code for NonTerminal specified on line 674 of IDL.javacc
+            pushOntoCallStack(141);
+            try {
+                positive_int_const();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified on line 674 of IDL.javacc
+            consumeToken(TokenType._TOKEN_51);
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from string_type");
+    }
+
+    /* Production 63 */
+    // IDL.javacc, line 679
+    final public void array_declarator() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 679 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 682 of IDL.javacc
+        pushOntoCallStack(142);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for OneOrMore specified on line 682 of IDL.javacc
+        do {
+            // Code for NonTerminal specified on line 682 of IDL.javacc
+            pushOntoCallStack(143);
+            try {
+                fixed_array_size();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_53);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from array_declarator");
+    }
+
+    /* Production 64 */
+    // IDL.javacc, line 687
+    final public void fixed_array_size() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 687 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 690 of IDL.javacc
+        consumeToken(TokenType._TOKEN_53);
+        // Code for NonTerminal specified on line 690 of IDL.javacc
+        pushOntoCallStack(144);
+        try {
+            positive_int_const();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 690 of IDL.javacc
+        consumeToken(TokenType._TOKEN_54);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from fixed_array_size");
+    }
+
+    /* Production 65 */
+    // IDL.javacc, line 695
+    final public void attr_dcl() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 695 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ZeroOrOne specified on line 698 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.READONLY) {
+            // Code for RegexpStringLiteral specified on line 698 of IDL.javacc
+            consumeToken(TokenType.READONLY);
+        }
+        // Code for RegexpStringLiteral specified on line 698 of IDL.javacc
+        consumeToken(TokenType.ATTRIBUTE);
+        // Code for NonTerminal specified on line 698 of IDL.javacc
+        pushOntoCallStack(145);
+        try {
+            param_type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified on line 698 of IDL.javacc
+        pushOntoCallStack(146);
+        try {
+            simple_declarator();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 698 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_14) {
+            // Code for RegexpStringLiteral specified on line 698 of IDL.javacc
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified on line 698 of IDL.javacc
+            pushOntoCallStack(147);
+            try {
+                simple_declarator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from attr_dcl");
+    }
+
+    /* Production 66 */
+    // IDL.javacc, line 703
+    final public void except_dcl() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 703 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 706 of IDL.javacc
+        consumeToken(TokenType.EXCEPTION);
+        // Code for NonTerminal specified on line 706 of IDL.javacc
+        pushOntoCallStack(148);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified on line 706 of IDL.javacc
+        consumeToken(TokenType._TOKEN_10);
+        // Code for ZeroOrMore specified on line 706 of IDL.javacc
+        while (resetScanAhead(1)&&first_set$IDL_javacc$line_706$column_44.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 706 of IDL.javacc
+            pushOntoCallStack(149);
+            try {
+                member();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified on line 706 of IDL.javacc
+        consumeToken(TokenType._TOKEN_11);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from except_dcl");
+    }
+
+    /* Production 67 */
+    // IDL.javacc, line 711
+    final public void op_dcl() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 711 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ZeroOrOne specified on line 714 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.ONEWAY) {
+            // Code for NonTerminal specified on line 714 of IDL.javacc
+            pushOntoCallStack(150);
+            try {
+                op_attribute();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for NonTerminal specified on line 714 of IDL.javacc
+        pushOntoCallStack(151);
+        try {
+            op_type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified on line 714 of IDL.javacc
+        pushOntoCallStack(152);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified on line 714 of IDL.javacc
+        pushOntoCallStack(153);
+        try {
+            parameter_dcls();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified on line 714 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.RAISES) {
+            // Code for NonTerminal specified on line 714 of IDL.javacc
+            pushOntoCallStack(154);
+            try {
+                raises_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for ZeroOrOne specified on line 714 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.CONTEXT) {
+            // Code for NonTerminal specified on line 714 of IDL.javacc
+            pushOntoCallStack(155);
+            try {
+                context_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from op_dcl");
+    }
+
+    /* Production 68 */
+    // IDL.javacc, line 719
+    final public void op_attribute() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 719 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 722 of IDL.javacc
+        consumeToken(TokenType.ONEWAY);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from op_attribute");
+    }
+
+    static private final EnumSet<TokenType> op_type_spec_FIRST_SET= EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType._TOKEN_52, TokenType.VOID, TokenType.ID);
+    /* Production 69 */
+    // IDL.javacc, line 727
+    final public void op_type_spec() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 727 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 730 of IDL.javacc
+        if (resetScanAhead(1)&&first_set$IDL_javacc$line_730$column_3.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 730 of IDL.javacc
+            pushOntoCallStack(157);
+            try {
+                param_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.VOID) {
+            // Code for RegexpStringLiteral specified on line 732 of IDL.javacc
+            consumeToken(TokenType.VOID);
+        }
+        else {
+            pushOntoCallStack(156);
+            throw new ParseException(current_token.getNext(), op_type_spec_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from op_type_spec");
+    }
+
+    /* Production 70 */
+    // IDL.javacc, line 737
+    final public void parameter_dcls() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 737 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 740 of IDL.javacc
+        consumeToken(TokenType._TOKEN_29);
+        // Code for ZeroOrOne specified on line 740 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.IN||nextTokenType== TokenType.OUT||nextTokenType== TokenType.INOUT) {
+            // Code for NonTerminal specified on line 740 of IDL.javacc
+            pushOntoCallStack(158);
+            try {
+                param_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified on line 740 of IDL.javacc
+            while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_14) {
+                // Code for RegexpStringLiteral specified on line 740 of IDL.javacc
+                consumeToken(TokenType._TOKEN_14);
+                // Code for NonTerminal specified on line 740 of IDL.javacc
+                pushOntoCallStack(159);
+                try {
+                    param_dcl();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        // Code for RegexpStringLiteral specified on line 740 of IDL.javacc
+        consumeToken(TokenType._TOKEN_30);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from parameter_dcls");
+    }
+
+    /* Production 71 */
+    // IDL.javacc, line 745
+    final public void param_dcl() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 745 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for NonTerminal specified on line 748 of IDL.javacc
+        pushOntoCallStack(160);
+        try {
+            param_attribute();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified on line 748 of IDL.javacc
+        pushOntoCallStack(161);
+        try {
+            param_type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified on line 748 of IDL.javacc
+        pushOntoCallStack(162);
+        try {
+            simple_declarator();
+        }
+        finally {
+            popCallStack();
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from param_dcl");
+    }
+
+    static private final EnumSet<TokenType> param_attribute_FIRST_SET= EnumSet.of(TokenType.IN, TokenType.OUT, TokenType.INOUT);
+    /* Production 72 */
+    // IDL.javacc, line 753
+    final public void param_attribute() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 753 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 756 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.IN) {
+            // Code for RegexpStringLiteral specified on line 756 of IDL.javacc
+            consumeToken(TokenType.IN);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.OUT) {
+            // Code for RegexpStringLiteral specified on line 758 of IDL.javacc
+            consumeToken(TokenType.OUT);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.INOUT) {
+            // Code for RegexpStringLiteral specified on line 760 of IDL.javacc
+            consumeToken(TokenType.INOUT);
+        }
+        else {
+            pushOntoCallStack(163);
+            throw new ParseException(current_token.getNext(), param_attribute_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from param_attribute");
+    }
+
+    /* Production 73 */
+    // IDL.javacc, line 765
+    final public void raises_expr() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 765 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 768 of IDL.javacc
+        consumeToken(TokenType.RAISES);
+        // Code for RegexpStringLiteral specified on line 768 of IDL.javacc
+        consumeToken(TokenType._TOKEN_29);
+        // Code for NonTerminal specified on line 768 of IDL.javacc
+        pushOntoCallStack(164);
+        try {
+            scoped_name();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 768 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_14) {
+            // Code for RegexpStringLiteral specified on line 768 of IDL.javacc
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified on line 768 of IDL.javacc
+            pushOntoCallStack(165);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified on line 768 of IDL.javacc
+        consumeToken(TokenType._TOKEN_30);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from raises_expr");
+    }
+
+    /* Production 74 */
+    // IDL.javacc, line 773
+    final public void context_expr() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 773 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpStringLiteral specified on line 776 of IDL.javacc
+        consumeToken(TokenType.CONTEXT);
+        // Code for RegexpStringLiteral specified on line 776 of IDL.javacc
+        consumeToken(TokenType._TOKEN_29);
+        // Code for NonTerminal specified on line 776 of IDL.javacc
+        pushOntoCallStack(166);
+        try {
+            string_literal();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified on line 776 of IDL.javacc
+        while (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_14) {
+            // Code for RegexpStringLiteral specified on line 776 of IDL.javacc
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified on line 776 of IDL.javacc
+            pushOntoCallStack(167);
+            try {
+                string_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified on line 776 of IDL.javacc
+        consumeToken(TokenType._TOKEN_30);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from context_expr");
+    }
+
+    static private final EnumSet<TokenType> param_type_spec_FIRST_SET= EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType._TOKEN_52, TokenType.ID);
+    /* Production 75 */
+    // IDL.javacc, line 781
+    final public void param_type_spec() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 781 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 784 of IDL.javacc
+        if (resetScanAhead(1)&&first_set$IDL_javacc$line_784$column_3.contains(nextTokenType)) {
+            // Code for NonTerminal specified on line 784 of IDL.javacc
+            pushOntoCallStack(169);
+            try {
+                base_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_52) {
+            // Code for NonTerminal specified on line 786 of IDL.javacc
+            pushOntoCallStack(170);
+            try {
+                string_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType._TOKEN_15||nextTokenType== TokenType.ID) {
+            // Code for NonTerminal specified on line 788 of IDL.javacc
+            pushOntoCallStack(171);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(168);
+            throw new ParseException(current_token.getNext(), param_type_spec_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from param_type_spec");
+    }
+
+    /* Definitions of complex regular expressions follow */
+    // IDL.javacc, line 793
+    final public void identifier() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 793 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 796 of IDL.javacc
+        consumeToken(TokenType.ID);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from identifier");
+    }
+
+    static private final EnumSet<TokenType> integer_literal_FIRST_SET= EnumSet.of(TokenType.OCTALINT, TokenType.DECIMALINT, TokenType.HEXADECIMALINT);
+    // IDL.javacc, line 799
+    final public void integer_literal() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 799 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 802 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.OCTALINT) {
+            // Code for RegexpRef specified on line 802 of IDL.javacc
+            consumeToken(TokenType.OCTALINT);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.DECIMALINT) {
+            // Code for RegexpRef specified on line 804 of IDL.javacc
+            consumeToken(TokenType.DECIMALINT);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.HEXADECIMALINT) {
+            // Code for RegexpRef specified on line 806 of IDL.javacc
+            consumeToken(TokenType.HEXADECIMALINT);
+        }
+        else {
+            pushOntoCallStack(172);
+            throw new ParseException(current_token.getNext(), integer_literal_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from integer_literal");
+    }
+
+    // IDL.javacc, line 809
+    final public void string_literal() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 809 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 812 of IDL.javacc
+        consumeToken(TokenType.STRING);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from string_literal");
+    }
+
+    // IDL.javacc, line 815
+    final public void character_literal() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 815 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for RegexpRef specified on line 818 of IDL.javacc
+        consumeToken(TokenType.CHARACTER);
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from character_literal");
+    }
+
+    static private final EnumSet<TokenType> floating_pt_literal_FIRST_SET= EnumSet.of(TokenType.FLOATONE, TokenType.FLOATTWO);
+    // IDL.javacc, line 821
+    final public void floating_pt_literal() throws ParseException {
+        if (TRACE&&trace_enabled) LOGGER.info("Entering production defined on line 821 of IDL.javacc");
+        if (cancelled) throw new CancellationException();
+        // Code for ExpansionChoice specified on line 824 of IDL.javacc
+        if (resetScanAhead(1)&&nextTokenType== TokenType.FLOATONE) {
+            // Code for RegexpRef specified on line 824 of IDL.javacc
+            consumeToken(TokenType.FLOATONE);
+        }
+        else if (resetScanAhead(1)&&nextTokenType== TokenType.FLOATTWO) {
+            // Code for RegexpRef specified on line 826 of IDL.javacc
+            consumeToken(TokenType.FLOATTWO);
+        }
+        else {
+            pushOntoCallStack(173);
+            throw new ParseException(current_token.getNext(), floating_pt_literal_FIRST_SET, getCallStack());
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Exiting normally from floating_pt_literal");
+    }
+
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_90$column_19= EnumSet.of(TokenType.MODULE, TokenType.INTERFACE, TokenType.CONST, TokenType.TYPEDEF, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType.EXCEPTION);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_114$column_45= EnumSet.of(TokenType.MODULE, TokenType.INTERFACE, TokenType.CONST, TokenType.TYPEDEF, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType.EXCEPTION);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_157$column_15= EnumSet.of(TokenType._TOKEN_15, TokenType.CONST, TokenType.TYPEDEF, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType._TOKEN_52, TokenType.READONLY, TokenType.ATTRIBUTE, TokenType.EXCEPTION, TokenType.ONEWAY, TokenType.VOID, TokenType.ID);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_173$column_3= EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType._TOKEN_52, TokenType.ONEWAY, TokenType.VOID, TokenType.ID);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_255$column_18= EnumSet.of(TokenType._TOKEN_21, TokenType._TOKEN_22);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_263$column_19= EnumSet.of(TokenType._TOKEN_23, TokenType._TOKEN_24);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_271$column_20= EnumSet.of(TokenType._TOKEN_25, TokenType._TOKEN_26, TokenType._TOKEN_27);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_300$column_3= EnumSet.of(TokenType.TRUE, TokenType.FALSE, TokenType.OCTALINT, TokenType.DECIMALINT, TokenType.HEXADECIMALINT, TokenType.FLOATONE, TokenType.FLOATTWO, TokenType.CHARACTER, TokenType.STRING);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_366$column_3= EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.SEQUENCE, TokenType._TOKEN_52, TokenType.ID);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_376$column_3= EnumSet.of(TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_576$column_15= EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType.SEQUENCE, TokenType._TOKEN_52, TokenType.ID);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_706$column_44= EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType.SEQUENCE, TokenType._TOKEN_52, TokenType.ID);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_730$column_3= EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType._TOKEN_52, TokenType.ID);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$line_784$column_3= EnumSet.of(TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY);
+    private final boolean scanToken(TokenType expectedType) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (type!=expectedType) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    private final boolean scanToken(EnumSet<TokenType> types) {
+        if (remainingLookahead<=0) return true;
+        TokenType type= lookaheadToken(++currentLookaheadIndex).getType();
+        if (!types.contains(type)) return false;
+        if (remainingLookahead!=Integer.MAX_VALUE) remainingLookahead--;
+        if (type== upToTokenType) remainingLookahead= 0;
+        return true;
+    }
+
+    //====================================
+    // Lookahead Routines
+    //====================================
+    private final boolean check$IDL_javacc$line_122$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(10);
+        if (!check$interface_dcl()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$IDL_javacc$line_436$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(100);
+        if (!check$complex_declarator()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$IDL_javacc$line_509$column_3() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(112);
+        if (!check$unsigned_long_int()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$interface_dcl() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(12);
+        if (!check$interface_header()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        return true;
+    }
+
+    private final boolean check$complex_declarator() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(103);
+        if (!check$array_declarator()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$unsigned_long_int() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.UNSIGNED)) return false;
+        if (!scanToken(TokenType.LONG)) return false;
+        return true;
+    }
+
+    private final boolean check$interface_header() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.INTERFACE)) return false;
+        if (!scanToken(TokenType.ID)) return false;
+        int int1= currentLookaheadIndex;
+        if (!(check$IDL_javacc$line_149$column_30())) currentLookaheadIndex= int1;
+        return true;
+    }
+
+    private final boolean check$array_declarator() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType.ID)) return false;
+        if (!(check$IDL_javacc$line_682$column_18())) return false;
+        while (remainingLookahead> 0) {
+            int int2= currentLookaheadIndex;
+            if (!(check$IDL_javacc$line_682$column_18())) {
+                currentLookaheadIndex= int2;
+                break;
+            }
+        }
+        return true;
+    }
+
+    private final boolean check$IDL_javacc$line_149$column_30() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(16);
+        if (!check$inheritance_spec()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$IDL_javacc$line_682$column_18() {
+        if (remainingLookahead<=0) return true;
+        pushOntoLookaheadStack(143);
+        if (!check$fixed_array_size()) {
+            popLookaheadStack();
+            return false;
+        }
+        popLookaheadStack();
+        return true;
+    }
+
+    private final boolean check$inheritance_spec() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_13)) return false;
+        return true;
+    }
+
+    private final boolean check$fixed_array_size() {
+        if (remainingLookahead<=0) return true;
+        if (!scanToken(TokenType._TOKEN_53)) return false;
+        return true;
+    }
+
+    // Without DEBUG_PARSER, these are compile-time constants, so no tracing code is compiled in.
+    private static final boolean TRACE= false;
+    private static final boolean trace_enabled= false;
+    // So that the warning about setTracingEnabled(true) only comes up once
+    private static volatile boolean tracingWarningGiven;
+    /**
+  * @deprecated Tracing is now decided when the parser is generated (DEBUG_PARSER),
+  * so this does nothing, apart from logging a warning (once) if tracing is asked for.
+  */
+    @Deprecated public void setTracingEnabled(boolean tracingEnabled) {
+        if (tracingEnabled&&!tracingWarningGiven) {
+            tracingWarningGiven= true;
+            LOGGER.warning("setTracingEnabled(true) does nothing, since the parser was generated without DEBUG_PARSER");
+        }
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(true)
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use setTracingEnabled(false)
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+    // The parsing and lookahead stacks just hold indexes into the tables of call sites below.
+    // The NonTerminalCall objects are only created if there is an error to report.
+    private int[] parsingStack= new int[64];
+    private int parsingStackSize;
+    private int[] lookaheadStack= new int[64];
+    private int lookaheadStackSize;
+    private static final String[] CALL_SITE_PRODUCTIONS= {"specification", "definition", "definition", "definition", "definition", "definition", "definition", "module", "module", "interfacex", "interfacex", "interfacex", "interface_dcl", "interface_dcl", "forward_dcl", "interface_header", "interface_header", "interface_body", "export", "export", "export", "export", "export", "export", "inheritance_spec", "inheritance_spec", "scoped_name", "scoped_name", "const_dcl", "const_dcl", "const_dcl", "const_type", "const_type", "const_type", "const_type", "const_type", "const_type", "const_type", "const_exp", "or_expr", "or_expr", "xor_expr", "xor_expr", "and_expr", "and_expr", "shift_expr", "shift_expr", "shift_expr", "add_expr", "add_expr", "add_expr", "mult_expr", "mult_expr", "mult_expr", "unary_expr", "unary_expr", "unary_operator", "primary_expr", "primary_expr", "primary_expr", "primary_expr", "literal", "literal", "literal", "literal", "literal", "literal", "boolean_literal", "positive_int_const", "type_dcl", "type_dcl", "type_dcl", "type_dcl", "type_dcl", "type_declarator", "type_declarator", "type_spec", "type_spec", "type_spec", "simple_type_spec", "simple_type_spec", "simple_type_spec", "simple_type_spec", "base_type_spec", "base_type_spec", "base_type_spec", "base_type_spec", "base_type_spec", "base_type_spec", "base_type_spec", "template_type_spec", "template_type_spec", "template_type_spec", "constr_type_spec", "constr_type_spec", "constr_type_spec", "constr_type_spec", "declarators", "declarators", "declarator", "declarator", "declarator", "simple_declarator", "complex_declarator", "floating_pt_type", "integer_type", "integer_type", "integer_type", "signed_int", "signed_int", "signed_int", "unsigned_int", "unsigned_int", "unsigned_int", "struct_type", "struct_type", "member_list", "member", "member", "union_type", "union_type", "union_type", "switch_type_spec", "switch_type_spec", "switch_type_spec", "switch_type_spec", "switch_type_spec", "switch_type_spec", "switch_body", "casex", "casex", "case_label", "case_label", "element_spec", "element_spec", "enum_type", "enum_type", "enum_type", "enumerator", "sequence_type", "sequence_type", "string_type", "array_declarator", "array_declarator", "fixed_array_size", "attr_dcl", "attr_dcl", "attr_dcl", "except_dcl", "except_dcl", "op_dcl", "op_dcl", "op_dcl", "op_dcl", "op_dcl", "op_dcl", "op_type_spec", "op_type_spec", "parameter_dcls", "parameter_dcls", "param_dcl", "param_dcl", "param_dcl", "param_attribute", "raises_expr", "raises_expr", "context_expr", "context_expr", "param_type_spec", "param_type_spec", "param_type_spec", "param_type_spec", "integer_literal", "floating_pt_literal"};
+    private static final String[] CALL_SITE_FILES= {"IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc", "IDL.javacc"};
+    private static final int[] CALL_SITE_LINES= {90, 98, 98, 100, 102, 104, 106, 114, 114, 122, 123, 125, 133, 133, 141, 149, 149, 157, 165, 165, 167, 169, 171, 173, 181, 181, 189, 189, 197, 197, 197, 205, 205, 207, 209, 211, 213, 215, 223, 231, 231, 239, 239, 247, 247, 255, 255, 255, 263, 263, 263, 271, 271, 271, 279, 279, 286, 298, 298, 300, 302, 310, 310, 312, 314, 316, 318, 326, 336, 344, 344, 346, 348, 350, 358, 358, 366, 366, 368, 376, 376, 378, 380, 388, 388, 390, 392, 394, 396, 398, 406, 406, 408, 416, 416, 418, 420, 428, 428, 436, 437, 439, 447, 455, 463, 473, 473, 475, 483, 483, 485, 509, 510, 512, 568, 568, 576, 584, 584, 592, 592, 592, 600, 600, 602, 604, 606, 608, 616, 624, 624, 632, 632, 642, 642, 650, 650, 650, 658, 666, 666, 674, 682, 682, 690, 698, 698, 698, 706, 706, 714, 714, 714, 714, 714, 714, 730, 730, 740, 740, 748, 748, 748, 756, 768, 768, 776, 776, 784, 784, 786, 788, 802, 824};
+    private static final int[] CALL_SITE_COLUMNS= {5, 3, 3, 3, 3, 3, 3, 12, 31, 3, 3, 3, 3, 26, 15, 15, 30, 5, 3, 3, 3, 3, 3, 3, 7, 27, 12, 32, 11, 24, 41, 3, 3, 3, 3, 3, 3, 3, 3, 3, 20, 3, 20, 3, 22, 3, 18, 32, 3, 19, 31, 3, 20, 38, 5, 24, 3, 3, 3, 3, 7, 3, 3, 3, 3, 3, 3, 3, 3, 3, 13, 3, 3, 3, 3, 15, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 22, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 12, 29, 5, 3, 15, 11, 37, 64, 3, 3, 3, 3, 3, 3, 5, 5, 21, 3, 10, 3, 15, 10, 27, 46, 3, 18, 43, 18, 3, 18, 7, 30, 48, 74, 15, 34, 5, 22, 37, 50, 69, 87, 3, 3, 9, 27, 3, 21, 39, 3, 16, 36, 17, 40, 3, 3, 3, 3, 3, 3};
+    private EnumSet<TokenType> currentFollowSet;
+    /**
+ * Inner class that represents entering a grammar production
+ */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile= sourceFile;
+            this.productionName= productionName;
+            this.line= line;
+            this.column= column;
+        }
+
+        NonTerminalCall(int callSite) {
+            this(CALL_SITE_FILES[callSite], CALL_SITE_PRODUCTIONS[callSite], CALL_SITE_LINES[callSite], CALL_SITE_COLUMNS[callSite]);
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("IDLParser", productionName, sourceFile, line);
+        }
+
+    }
+    private final void pushOntoCallStack(int callSite) {
+        if (parsingStackSize== parsingStack.length) {
+            parsingStack= Arrays.copyOf(parsingStack, parsingStackSize*2);
+        }
+        parsingStack[parsingStackSize++]= callSite;
+    }
+
+    private final void popCallStack() {
+        parsingStackSize--;
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        if (parsingStackSize> prevSize) {
+            parsingStackSize= prevSize;
+        }
+    }
+
+    /**
+ * @return the parsing stack as a list of NonTerminalCall objects
+ */
+    List<NonTerminalCall> getCallStack() {
+        List<NonTerminalCall> result= new ArrayList<> (parsingStackSize);
+        for (int i= 0; i<parsingStackSize; i++) {
+            result.add(new NonTerminalCall(parsingStack[i]));
+        }
+        return result;
+    }
+
+    // The number of entries in the parsing stack and the lookahead stack together
+    private final int callStackDepth() {
+        return parsingStackSize+lookaheadStackSize;
+    }
+
+    // The call site of an entry in the parsing stack followed by the lookahead stack
+    private final int callStackEntry(int index) {
+        return index<parsingStackSize?parsingStack[index]:
+        lookaheadStack[index-parsingStackSize];
+    }
+
+    private final void pushOntoLookaheadStack(int callSite) {
+        if (lookaheadStackSize== lookaheadStack.length) {
+            lookaheadStack= Arrays.copyOf(lookaheadStack, lookaheadStackSize*2);
+        }
+        lookaheadStack[lookaheadStackSize++]= callSite;
+    }
+
+    private final void popLookaheadStack() {
+        lookaheadStackSize--;
+    }
+
+    private final boolean tolerantParsing= false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) throws ParseException {
+        boolean forced= false;
+        InvalidToken invalidToken= null;
+        Token oldToken= current_token;
+        current_token= current_token.getNext();
+        if (current_token== null) {
+            current_token= token_source.getNextToken();
+        }
+        if (current_token.getType()!=expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken);
+        }
+        else {
+            this.lastParsedToken= current_token;
+        }
+        if (TRACE&&trace_enabled) LOGGER.info("Consumed token of type "+current_token.getType()+" from "+current_token.getLocation());
+        return current_token;
+    }
+
+    private void handleUnexpectedTokenType(TokenType expectedType, boolean forced, Token oldToken) throws ParseException {
+        throw new ParseException(current_token, EnumSet.of(expectedType), getCallStack());
+    }
+
+    private class ParseState {
+        Token lastParsed;
+        ParseState() {
+            this.lastParsed= IDLParser.this.lastParsedToken;
+        }
+
+    }
+    private ArrayList<ParseState> parseStateStack= new ArrayList<> ();
+    void stashParseState() {
+        parseStateStack.add(new ParseState());
+    }
+
+    ParseState popParseState() {
+        return parseStateStack.remove(parseStateStack.size()-1);
+    }
+
+    void restoreStashedParseState() {
+        ParseState state= popParseState();
+        if (state.lastParsed!=null) {
+            //REVISIT
+            current_token= lastParsedToken= state.lastParsed;
+        }
+    }
+
+}